@@ -24,6 +24,7 @@ import java.util.HashMap;
 import java.util.Map;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.janusgraph.core.Cardinality;
 import org.janusgraph.core.JanusGraph;
 import org.janusgraph.core.JanusGraphException;
 import org.janusgraph.core.JanusGraphFactory;
@@ -36,6 +37,8 @@ import org.openecomp.sdc.be.dao.graph.datatype.ActionEnum;
 import org.openecomp.sdc.be.dao.graph.datatype.GraphElementTypeEnum;
 import org.openecomp.sdc.be.dao.jsongraph.types.VertexTypeEnum;
 import org.openecomp.sdc.be.dao.jsongraph.utils.IdBuilderUtils;
+import org.openecomp.sdc.be.dao.jsongraph.utils.VertexJsonDelta;
+import org.openecomp.sdc.be.dao.jsongraph.utils.VertexJsonShards;
 import org.openecomp.sdc.be.dao.neo4j.GraphEdgePropertiesDictionary;
 import org.openecomp.sdc.be.dao.neo4j.GraphPropertiesDictionary;
 import org.openecomp.sdc.be.dao.utils.UserStatusEnum;
@@ -167,6 +170,12 @@ public class JanusGraphInitializer {
                 }
             }
         }
+        if (!graphMgt.containsPropertyKey(VertexJsonShards.JSON_SHARD_PROPERTY)) {
+            graphMgt.makePropertyKey(VertexJsonShards.JSON_SHARD_PROPERTY).dataType(String.class).cardinality(Cardinality.LIST).make();
+        }
+        if (!graphMgt.containsPropertyKey(VertexJsonDelta.REMOVED_KEYS_PROPERTY)) {
+            graphMgt.makePropertyKey(VertexJsonDelta.REMOVED_KEYS_PROPERTY).dataType(String.class).make();
+        }
         graphMgt.commit();
         logger.info("** createVertexIndixes ended");
     }
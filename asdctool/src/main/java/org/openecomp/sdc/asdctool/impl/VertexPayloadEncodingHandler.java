@@ -0,0 +1,90 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.asdctool.impl;
+
+import fj.data.Either;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.janusgraph.core.JanusGraph;
+import org.openecomp.sdc.be.dao.janusgraph.JanusGraphDao;
+import org.openecomp.sdc.be.dao.janusgraph.JanusGraphOperationStatus;
+import org.openecomp.sdc.be.dao.jsongraph.types.VertexTypeEnum;
+import org.openecomp.sdc.be.datatypes.enums.GraphPropertyEnum;
+import org.openecomp.sdc.be.model.operations.StorageException;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+
+/**
+ * Re-encodes the json property of all the graph vertices with the codec configured for their label in janusGraphVertexPayloadCodecs, and
+ * rewrites it in the layout, sharded or not, configured in janusGraphShardedVertexLabels. When janusGraphDeltaDataVertices is disabled, delta data
+ * vertices get their full json.
+ * Vertices are committed in batches, so the tool can be stopped and run again.
+ */
+@org.springframework.stereotype.Component("vertexPayloadEncodingHandler")
+public class VertexPayloadEncodingHandler {
+
+    private static final Logger log = Logger.getLogger(VertexPayloadEncodingHandler.class);
+    private final JanusGraphDao janusGraphDao;
+
+    public VertexPayloadEncodingHandler(JanusGraphDao janusGraphDao) {
+        this.janusGraphDao = janusGraphDao;
+    }
+
+    public boolean handle(int batchSize) {
+        Either<JanusGraph, JanusGraphOperationStatus> graph = janusGraphDao.getGraph();
+        if (graph.isRight()) {
+            log.debug("#handle - Failed to get the graph. Status is {}", graph.right().value());
+            return false;
+        }
+        try {
+            for (VertexTypeEnum label : VertexTypeEnum.values()) {
+                int reEncoded = reEncodeVertices(graph.left().value(), label, batchSize);
+                log.info("#handle - {} vertices with label {} have been re-encoded with codec {}", reEncoded, label,
+                    janusGraphDao.getPayloadCodec(label));
+            }
+        } catch (Exception e) {
+            janusGraphDao.rollback();
+            log.debug("#handle - Failed to re-encode the vertices. The exception occurred: ", e);
+            return false;
+        }
+        return true;
+    }
+
+    private int reEncodeVertices(JanusGraph graph, VertexTypeEnum label, int batchSize) {
+        List<Object> vertexIds = new ArrayList<>();
+        graph.query().has(GraphPropertyEnum.LABEL.getProperty(), label.getName()).vertices().forEach(vertex -> vertexIds.add(vertex.id()));
+        int reEncoded = 0;
+        for (int from = 0; from < vertexIds.size(); from += batchSize) {
+            List<Object> batch = vertexIds.subList(from, Math.min(from + batchSize, vertexIds.size()));
+            Iterator<Vertex> vertices = graph.vertices(batch.toArray());
+            while (vertices.hasNext()) {
+                if (janusGraphDao.reEncodeVertexPayload(vertices.next())) {
+                    reEncoded++;
+                }
+            }
+            JanusGraphOperationStatus status = janusGraphDao.commit();
+            if (status != JanusGraphOperationStatus.OK) {
+                throw new StorageException(status);
+            }
+        }
+        return reEncoded;
+    }
+}
@@ -41,6 +41,7 @@ import org.openecomp.sdc.be.dao.jsongraph.types.EdgeLabelEnum;
 import org.openecomp.sdc.be.dao.jsongraph.types.EdgePropertyEnum;
 import org.openecomp.sdc.be.dao.jsongraph.types.VertexTypeEnum;
 import org.openecomp.sdc.be.dao.jsongraph.utils.JsonParserUtils;
+import org.openecomp.sdc.be.dao.jsongraph.utils.VertexPayloadCodecEnum;
 import org.openecomp.sdc.be.datatypes.elements.ComponentInstanceDataDefinition;
 import org.openecomp.sdc.be.datatypes.elements.CompositionDataDefinition;
 import org.openecomp.sdc.be.datatypes.enums.GraphPropertyEnum;
@@ -150,7 +151,7 @@ public class VrfObjectFixHandler {
             Map jsonObj = getJsonMap(container);
             fixComponentToscaName(corruptedInstances, jsonObj);
             String jsonMetadataStr = JsonParserUtils.toJson(jsonObj);
-            container.property(GraphPropertyEnum.JSON.getProperty(), jsonMetadataStr);
+            container.property(GraphPropertyEnum.JSON.getProperty(), janusGraphDao.getPayloadCodec(getLabel(container)).encode(jsonMetadataStr));
         } catch (IOException e) {
             throw new StorageException("Failed to fix the corrupted instances of the container", e, JanusGraphOperationStatus.GENERAL_ERROR);
         }
@@ -164,12 +165,16 @@ public class VrfObjectFixHandler {
     }
 
     private Map getJsonMap(Vertex container) {
-        String json = (String) container.property(GraphPropertyEnum.JSON.getProperty()).value();
-        Map<GraphPropertyEnum, Object> properties = janusGraphDao.getVertexProperties(container);
-        VertexTypeEnum label = VertexTypeEnum.getByName((String) (properties.get(GraphPropertyEnum.LABEL)));
+        String json = VertexPayloadCodecEnum.decodePayload((String) container.property(GraphPropertyEnum.JSON.getProperty()).value());
+        VertexTypeEnum label = getLabel(container);
         return JsonParserUtils.toMap(json, label != null ? label.getClassOfJson() : null);
     }
 
+    private VertexTypeEnum getLabel(Vertex container) {
+        Map<GraphPropertyEnum, Object> properties = janusGraphDao.getVertexProperties(container);
+        return VertexTypeEnum.getByName((String) (properties.get(GraphPropertyEnum.LABEL)));
+    }
+
     private void writeOutput(Map<GraphVertex, Map<Vertex, List<ComponentInstanceDataDefinition>>> corruptedData) {
         if (outputHandler.getOutputPath() != null) {
             if (MapUtils.isNotEmpty(corruptedData)) {
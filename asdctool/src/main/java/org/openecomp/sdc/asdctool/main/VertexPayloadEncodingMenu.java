@@ -0,0 +1,71 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.asdctool.main;
+
+import java.util.Arrays;
+import org.openecomp.sdc.asdctool.configuration.VertexPayloadEncodingConfiguration;
+import org.openecomp.sdc.asdctool.impl.VertexPayloadEncodingHandler;
+import org.openecomp.sdc.be.config.ConfigurationManager;
+import org.openecomp.sdc.common.api.ConfigurationSource;
+import org.openecomp.sdc.common.impl.ExternalConfiguration;
+import org.openecomp.sdc.common.impl.FSConfigurationSource;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+public class VertexPayloadEncodingMenu {
+
+    private static final Logger log = Logger.getLogger(VertexPayloadEncodingMenu.class);
+    private static final int DEFAULT_BATCH_SIZE = 500;
+
+    private VertexPayloadEncodingMenu() {
+    }
+
+    public static void main(String[] args) {
+        if (isNotValidArguments(args)) {
+            log.debug("#main - The invalid array of the arguments have been received: {}", Arrays.toString(args));
+            log.debug("#main - Usage: <configuration dir> [<batch size>]");
+            System.exit(1);
+        }
+        initConfig(args[0]);
+        int batchSize = args.length == 2 ? Integer.parseInt(args[1]) : DEFAULT_BATCH_SIZE;
+        VertexPayloadEncodingHandler vertexPayloadEncodingHandler = getVertexPayloadEncodingHandler();
+        if (vertexPayloadEncodingHandler.handle(batchSize)) {
+            log.info("#main - The re-encoding of the vertex payloads has been finished successfully");
+        } else {
+            log.info("#main - The re-encoding of the vertex payloads has been failed");
+            System.exit(2);
+        }
+        System.exit(0);
+    }
+
+    private static VertexPayloadEncodingHandler getVertexPayloadEncodingHandler() {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(VertexPayloadEncodingConfiguration.class);
+        return context.getBean(VertexPayloadEncodingHandler.class);
+    }
+
+    private static boolean isNotValidArguments(String[] args) {
+        return args == null || args.length < 1 || (args.length == 2 && !args[1].matches("\\d+")) || args.length > 2;
+    }
+
+    private static void initConfig(String configDir) {
+        ConfigurationSource configurationSource = new FSConfigurationSource(ExternalConfiguration.getChangeListener(), configDir);
+        new ConfigurationManager(configurationSource);
+    }
+}
@@ -68,12 +68,6 @@ public class CambriaHandlerMock implements ICambriaHandler {
         return null;
     }
 
-    @Override
-    public CambriaErrorResponse sendNotificationAndClose(String topicName, String uebPublicKey, String uebSecretKey, List<String> uebServers,
-                                                         INotificationData data, long waitBeforeCloseTimeout) {
-        return null;
-    }
-
     @Override
     public CambriaErrorResponse getApiKey(String server, String apiKey) {
         return null;
@@ -0,0 +1,85 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.asdctool.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import fj.data.Either;
+import java.util.Collections;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.janusgraph.core.JanusGraph;
+import org.janusgraph.core.JanusGraphVertex;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.openecomp.sdc.be.dao.janusgraph.JanusGraphDao;
+import org.openecomp.sdc.be.dao.janusgraph.JanusGraphOperationStatus;
+
+public class VertexPayloadEncodingHandlerTest {
+
+    private JanusGraphDao janusGraphDao;
+
+    private VertexPayloadEncodingHandler vertexPayloadEncodingHandler;
+
+    @Before
+    public void init() {
+        janusGraphDao = Mockito.mock(JanusGraphDao.class);
+        vertexPayloadEncodingHandler = new VertexPayloadEncodingHandler(janusGraphDao);
+    }
+
+    @Test
+    public void handleGraphNotConnectedTest() {
+        when(janusGraphDao.getGraph()).thenReturn(Either.right(JanusGraphOperationStatus.NOT_CONNECTED));
+        assertThat(vertexPayloadEncodingHandler.handle(10)).isFalse();
+    }
+
+    @Test
+    public void handleReEncodesVerticesTest() {
+        JanusGraph graph = mock(JanusGraph.class, RETURNS_DEEP_STUBS);
+        JanusGraphVertex vertex = mock(JanusGraphVertex.class);
+        when(vertex.id()).thenReturn(1L);
+        when(graph.query().has(anyString(), any()).vertices()).thenReturn(Collections.singletonList(vertex));
+        when(graph.vertices(any())).thenAnswer(invocation -> Collections.<Vertex>singletonList(vertex).iterator());
+        when(janusGraphDao.getGraph()).thenReturn(Either.left(graph));
+        when(janusGraphDao.reEncodeVertexPayload(vertex)).thenReturn(true);
+        when(janusGraphDao.commit()).thenReturn(JanusGraphOperationStatus.OK);
+        assertThat(vertexPayloadEncodingHandler.handle(10)).isTrue();
+        verify(janusGraphDao, Mockito.atLeastOnce()).reEncodeVertexPayload(vertex);
+    }
+
+    @Test
+    public void handleCommitFailureTest() {
+        JanusGraph graph = mock(JanusGraph.class, RETURNS_DEEP_STUBS);
+        JanusGraphVertex vertex = mock(JanusGraphVertex.class);
+        when(vertex.id()).thenReturn(1L);
+        when(graph.query().has(anyString(), any()).vertices()).thenReturn(Collections.singletonList(vertex));
+        when(graph.vertices(any())).thenAnswer(invocation -> Collections.<Vertex>singletonList(vertex).iterator());
+        when(janusGraphDao.getGraph()).thenReturn(Either.left(graph));
+        when(janusGraphDao.commit()).thenReturn(JanusGraphOperationStatus.GENERAL_ERROR);
+        assertThat(vertexPayloadEncodingHandler.handle(10)).isFalse();
+        verify(janusGraphDao).rollback();
+    }
+}
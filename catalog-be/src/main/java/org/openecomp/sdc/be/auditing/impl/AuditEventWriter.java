@@ -0,0 +1,241 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.auditing.impl;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openecomp.sdc.be.config.Configuration.AuditAsyncConfig;
+import org.openecomp.sdc.be.dao.cassandra.AuditCassandraDao;
+import org.openecomp.sdc.be.dao.cassandra.CassandraOperationStatus;
+import org.openecomp.sdc.be.resources.data.auditing.AuditingGenericEvent;
+import org.openecomp.sdc.common.log.enums.EcompLoggerErrorCode;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+
+/**
+ * Writes audit events to cassandra from a single background thread. Events are queued in a bounded queue and the writer saves each of them
+ * with its own asynchronous write, keeping at most the configured number of writes in flight. Each event is a row of its own partition, so the
+ * writes are not batched. When the queue is full the configured overflow policy either drops the event or has the calling thread write it.
+ */
+public class AuditEventWriter {
+
+    private static final Logger log = Logger.getLogger(AuditEventWriter.class.getName());
+    private static final long POLL_TIMEOUT_MILLIS = 500;
+    private static final long DROP_REPORT_INTERVAL_MILLIS = 60000;
+    private final AuditCassandraDao cassandraDao;
+    private final BlockingQueue<AuditingGenericEvent> queue;
+    private final int maxInFlightWrites;
+    private final Semaphore inFlightWrites;
+    private final OverflowPolicy overflowPolicy;
+    private final long shutdownTimeoutMillis;
+    private final Thread worker;
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    // the drops not reported yet, they are reported at most once per interval so that a full queue does not flood the log
+    private final AtomicLong unreportedDropCount = new AtomicLong();
+    private final AtomicLong lastDropReportMillis = new AtomicLong();
+    private final AtomicLong lastWriteLatencyMillis = new AtomicLong();
+    private final AtomicLong maxWriteLatencyMillis = new AtomicLong();
+    private volatile boolean running = true;
+
+    public AuditEventWriter(AuditCassandraDao cassandraDao, AuditAsyncConfig config) {
+        this.cassandraDao = cassandraDao;
+        this.queue = new ArrayBlockingQueue<>(Math.max(config.getQueueCapacity(), 1));
+        this.maxInFlightWrites = Math.max(config.getMaxInFlightWrites(), 1);
+        this.inFlightWrites = new Semaphore(maxInFlightWrites);
+        this.overflowPolicy = OverflowPolicy.getByName(config.getOverflowPolicy());
+        this.shutdownTimeoutMillis = config.getShutdownTimeoutMillis();
+        this.worker = new Thread(this::run, "audit-event-writer");
+        this.worker.setDaemon(true);
+        this.worker.start();
+        log.info("audit event writer started with queue capacity {}, {} writes in flight and overflow policy {}", queue.remainingCapacity(),
+            maxInFlightWrites, overflowPolicy);
+    }
+
+    public void submit(AuditingGenericEvent event) {
+        if (running && queue.offer(event)) {
+            return;
+        }
+        if (!running || overflowPolicy == OverflowPolicy.CALLER_RUNS) {
+            saveRecord(event);
+            return;
+        }
+        droppedCount.incrementAndGet();
+        unreportedDropCount.incrementAndGet();
+        long now = System.currentTimeMillis();
+        long lastReport = lastDropReportMillis.get();
+        if (now - lastReport >= DROP_REPORT_INTERVAL_MILLIS && lastDropReportMillis.compareAndSet(lastReport, now)) {
+            log.warn(EcompLoggerErrorCode.SCHEMA_ERROR, "AuditingManager", "catalog-be",
+                "Audit queue is full, dropped {} audit events since the last report, {} dropped so far", unreportedDropCount.getAndSet(0),
+                droppedCount.get());
+        }
+    }
+
+    /**
+     * Stops accepting events and waits for the events already queued to be written
+     */
+    public void shutdown() {
+        running = false;
+        long deadline = System.currentTimeMillis() + shutdownTimeoutMillis;
+        try {
+            worker.join(shutdownTimeoutMillis);
+            if (!worker.isAlive()) {
+                // events offered while the writer was stopping
+                drain(deadline);
+            }
+            if (inFlightWrites.tryAcquire(maxInFlightWrites, Math.max(deadline - System.currentTimeMillis(), 0), TimeUnit.MILLISECONDS)) {
+                inFlightWrites.release(maxInFlightWrites);
+                log.info("audit event writer stopped, written {} failed {} dropped {}", writtenCount.get(), failedCount.get(), droppedCount.get());
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.warn(EcompLoggerErrorCode.SCHEMA_ERROR, "AuditingManager", "catalog-be", "Audit writer did not stop within {} ms, {} events not written",
+            shutdownTimeoutMillis, queue.size() + maxInFlightWrites - inFlightWrites.availablePermits());
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public int getInFlightWrites() {
+        return maxInFlightWrites - inFlightWrites.availablePermits();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getLastWriteLatencyMillis() {
+        return lastWriteLatencyMillis.get();
+    }
+
+    public long getMaxWriteLatencyMillis() {
+        return maxWriteLatencyMillis.get();
+    }
+
+    @Override
+    public String toString() {
+        return "AuditEventWriter [queued=" + getQueueDepth() + ", inFlight=" + getInFlightWrites() + ", written=" + getWrittenCount() + ", failed="
+            + getFailedCount() + ", dropped=" + getDroppedCount() + ", lastWriteLatencyMillis=" + getLastWriteLatencyMillis()
+            + ", maxWriteLatencyMillis=" + getMaxWriteLatencyMillis() + "]";
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                // takes an event only once it can be written, the events waiting for a write stay in the queue
+                if (inFlightWrites.tryAcquire(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    write(queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error(EcompLoggerErrorCode.SCHEMA_ERROR, "AuditingManager", "catalog-be", "Failed to write audit events", e);
+            }
+        }
+        try {
+            drain(System.currentTimeMillis() + shutdownTimeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain(long deadline) throws InterruptedException {
+        while (!queue.isEmpty()) {
+            if (!inFlightWrites.tryAcquire(Math.max(deadline - System.currentTimeMillis(), 0), TimeUnit.MILLISECONDS)) {
+                return;
+            }
+            write(queue.poll());
+        }
+    }
+
+    /**
+     * Starts the write of an event, holding one of the in flight permits until the write completes
+     *
+     * @param event the event, null to only give the permit back
+     */
+    private void write(AuditingGenericEvent event) {
+        if (event == null) {
+            inFlightWrites.release();
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            cassandraDao.saveRecordAsync(event).whenComplete((result, e) -> {
+                recordLatency(start);
+                onWritten(e == null ? result : CassandraOperationStatus.GENERAL_ERROR);
+                inFlightWrites.release();
+            });
+        } catch (RuntimeException e) {
+            inFlightWrites.release();
+            throw e;
+        }
+    }
+
+    private void saveRecord(AuditingGenericEvent event) {
+        long start = System.nanoTime();
+        CassandraOperationStatus result = cassandraDao.saveRecord(event);
+        recordLatency(start);
+        onWritten(result);
+    }
+
+    private void recordLatency(long start) {
+        long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        lastWriteLatencyMillis.set(latency);
+        maxWriteLatencyMillis.accumulateAndGet(latency, Math::max);
+    }
+
+    private void onWritten(CassandraOperationStatus result) {
+        if (result == CassandraOperationStatus.OK) {
+            writtenCount.incrementAndGet();
+        } else {
+            failedCount.incrementAndGet();
+            log.warn(EcompLoggerErrorCode.SCHEMA_ERROR, "AuditingManager", "catalog-be", "Failed to persist to cassandra auditing event: {}",
+                result == null ? null : result.name());
+        }
+    }
+
+    enum OverflowPolicy {
+        DROP, CALLER_RUNS;
+
+        static OverflowPolicy getByName(String name) {
+            for (OverflowPolicy policy : values()) {
+                if (policy.name().equalsIgnoreCase(name)) {
+                    return policy;
+                }
+            }
+            return CALLER_RUNS;
+        }
+    }
+}
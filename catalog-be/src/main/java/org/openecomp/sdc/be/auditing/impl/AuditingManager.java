@@ -21,9 +21,12 @@
  */
 package org.openecomp.sdc.be.auditing.impl;
 
+import javax.annotation.PreDestroy;
 import org.onap.logging.ref.slf4j.ONAPLogConstants;
 import org.openecomp.sdc.be.auditing.api.AuditEventFactory;
 import org.openecomp.sdc.be.components.impl.ResourceBusinessLogic;
+import org.openecomp.sdc.be.config.Configuration;
+import org.openecomp.sdc.be.config.Configuration.AuditAsyncConfig;
 import org.openecomp.sdc.be.dao.cassandra.AuditCassandraDao;
 import org.openecomp.sdc.be.dao.cassandra.CassandraOperationStatus;
 import org.openecomp.sdc.be.resources.data.auditing.AuditingGenericEvent;
@@ -42,6 +45,7 @@ public class AuditingManager {
     private static final Logger log = Logger.getLogger(AuditingManager.class.getName());
     private final AuditCassandraDao cassandraDao;
     private final ConfigurationProvider configurationProvider;
+    private volatile AuditEventWriter eventWriter;
 
     public AuditingManager(AuditCassandraDao cassandraDao, ConfigurationProvider configurationProvider) {
         this.cassandraDao = cassandraDao;
@@ -49,15 +53,46 @@ public class AuditingManager {
     }
 
     public String auditEvent(AuditEventFactory factory) {
-        if (configurationProvider.getConfiguration().isDisableAudit()) {
+        Configuration configuration = configurationProvider.getConfiguration();
+        if (configuration.isDisableAudit()) {
             return null;
         }
         String msg = factory.getLogMessage();
         logAuditEvent(msg);
-        saveEventToCassandra(factory.getDbEvent());
+        AuditEventWriter writer = getEventWriter(configuration.getAuditAsyncConfig());
+        if (writer != null) {
+            writer.submit(factory.getDbEvent());
+        } else {
+            saveEventToCassandra(factory.getDbEvent());
+        }
         return msg;
     }
 
+    /**
+     * @return the writer of the audit events to cassandra, null when the events are written by the request thread
+     */
+    public AuditEventWriter getEventWriter() {
+        return eventWriter;
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (eventWriter != null) {
+            eventWriter.shutdown();
+        }
+    }
+
+    private AuditEventWriter getEventWriter(AuditAsyncConfig asyncConfig) {
+        if (eventWriter == null && asyncConfig != null && asyncConfig.isEnabled()) {
+            synchronized (this) {
+                if (eventWriter == null) {
+                    eventWriter = new AuditEventWriter(cassandraDao, asyncConfig);
+                }
+            }
+        }
+        return eventWriter;
+    }
+
     public String auditEvent(AuditEventFactory factory, LoggerSdcAudit audit) {
         String msg = auditEvent(factory);
         logAuditEvent(msg, audit, factory.getDbEvent().getRequestId());
@@ -35,7 +35,6 @@ import com.att.nsa.cambria.client.CambriaClientBuilders.PublisherBuilder;
 import com.att.nsa.cambria.client.CambriaClientBuilders.TopicManagerBuilder;
 import com.att.nsa.cambria.client.CambriaConsumer;
 import com.att.nsa.cambria.client.CambriaIdentityManager;
-import com.att.nsa.cambria.client.CambriaPublisher.message;
 import com.att.nsa.cambria.client.CambriaTopicManager;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.gson.Gson;
@@ -60,7 +59,7 @@ import org.springframework.stereotype.Component;
 public class CambriaHandler implements ICambriaHandler {
 
     private static final Logger log = Logger.getLogger(CambriaHandler.class.getName());
-    private static final String PARTITION_KEY = "asdc" + "aa";
+    static final String PARTITION_KEY = "asdc" + "aa";
     private static final String SEND_NOTIFICATION = "send notification";
     private static final String CONSUMER_ID = ConfigurationManager.getConfigurationManager().getDistributionEngineConfiguration()
         .getDistributionStatusTopic().getConsumerId();
@@ -146,7 +145,7 @@ public class CambriaHandler implements ICambriaHandler {
      *
      * @return
      */
-    private CambriaErrorResponse processError(Exception e) {
+    CambriaErrorResponse processError(Exception e) {
         CambriaErrorResponse cambriaErrorResponse = new CambriaErrorResponse();
         Integer httpCode = processMessageException(e.getMessage());
         if (httpCode != null) {
@@ -435,56 +434,6 @@ public class CambriaHandler implements ICambriaHandler {
         }
     }
 
-    @Override
-    public CambriaErrorResponse sendNotificationAndClose(String topicName, String uebPublicKey, String uebSecretKey, List<String> uebServers,
-                                                         INotificationData data, long waitBeforeCloseTimeout) {
-        String methodName = "sendNotificationAndClose";
-        CambriaBatchingPublisher createSimplePublisher;
-        CambriaErrorResponse response;
-        try {
-            String json = gson.toJson(data);
-            log.debug("Before sending notification data {} to topic {}", json, topicName);
-            createSimplePublisher = new PublisherBuilder().onTopic(topicName).usingHosts(uebServers).build();
-            createSimplePublisher.setApiCredentials(uebPublicKey, uebSecretKey);
-            int result = createSimplePublisher.send(PARTITION_KEY, json);
-            try {
-                Thread.sleep(1000);
-            } catch (InterruptedException e) {
-                log.debug("Failed during sleep after sending the message.", e);
-                Thread.currentThread().interrupt();
-            }
-            log.debug("After sending notification data to topic {}. result is {}", topicName, result);
-        } catch (IOException | GeneralSecurityException e) {
-            log.debug("Failed to send notification {} to topic {} ", data, topicName, e);
-            response = processError(e);
-            writeErrorToLog(response, methodName, SEND_NOTIFICATION);
-            return response;
-        }
-        log.debug("Before closing publisher. Maximum timeout is {} seconds", waitBeforeCloseTimeout);
-        try {
-            List<message> messagesInQ = createSimplePublisher.close(waitBeforeCloseTimeout, SECONDS);
-            if (messagesInQ != null && !messagesInQ.isEmpty()) {
-                log.debug("Cambria client returned {} non sent messages.", messagesInQ.size());
-                response = new CambriaErrorResponse(CambriaOperationStatus.INTERNAL_SERVER_ERROR, 500);
-                writeErrorToLog(response, methodName, SEND_NOTIFICATION);
-            } else {
-                log.debug("No message left in the queue after closing cambria publisher");
-                response = new CambriaErrorResponse(CambriaOperationStatus.OK, 200);
-            }
-        } catch (InterruptedException e) {
-            log.debug("InterruptedException while closing cambria publisher", e);
-            Thread.currentThread().interrupt();
-            response = new CambriaErrorResponse(CambriaOperationStatus.INTERNAL_SERVER_ERROR, 500);
-            writeErrorToLog(response, methodName, SEND_NOTIFICATION);
-        } catch (IOException e) {
-            log.debug("Failed to close cambria publisher", e);
-            response = new CambriaErrorResponse(CambriaOperationStatus.INTERNAL_SERVER_ERROR, 500);
-            writeErrorToLog(response, methodName, SEND_NOTIFICATION);
-        }
-        log.debug("After closing publisher");
-        return response;
-    }
-
     @Override
     public CambriaErrorResponse getApiKey(String server, String apiKey) {
         CambriaErrorResponse response;
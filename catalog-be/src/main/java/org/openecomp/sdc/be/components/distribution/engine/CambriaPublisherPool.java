@@ -0,0 +1,307 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.components.distribution.engine;
+
+import com.att.nsa.cambria.client.CambriaBatchingPublisher;
+import com.att.nsa.cambria.client.CambriaClientBuilders.PublisherBuilder;
+import com.att.nsa.cambria.client.CambriaPublisher.message;
+import com.google.gson.Gson;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import org.openecomp.sdc.be.config.ConfigurationManager;
+import org.openecomp.sdc.be.config.DistributionEngineConfiguration.DistributionNotificationTopicConfig;
+import org.openecomp.sdc.be.distribution.api.client.CambriaOperationStatus;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishers of distribution notifications, kept open per topic and credentials so the connection to the message bus is reused across
+ * notifications and the messages sent at the same time are batched. A notification is reported as sent once the publisher has no more messages
+ * queued before it. A publisher that failed to deliver in time is evicted and closed, the next notification opening a new one, and publishers not
+ * used for a while are closed by a periodic task.
+ */
+@Component("cambriaPublisherPool")
+public class CambriaPublisherPool {
+
+    private static final Logger log = Logger.getLogger(CambriaPublisherPool.class.getName());
+    private static final long DELIVERY_POLL_INTERVAL_MILLIS = 20;
+    private static final int DEFAULT_MAX_BATCH_SIZE = 100;
+    private static final int DEFAULT_MAX_BATCH_AGE_MS = 100;
+    private static final long DEFAULT_IDLE_TIMEOUT_SECONDS = 300;
+    private static final long CLOSE_TIMEOUT_SECONDS = 5;
+    private final Map<PublisherKey, PooledPublisher> publishers = new ConcurrentHashMap<>();
+    private final PublisherFactory publisherFactory;
+    private final Gson gson = new Gson();
+    private ScheduledExecutorService evictionScheduler;
+    private CambriaHandler cambriaHandler;
+
+    public CambriaPublisherPool() {
+        this(CambriaPublisherPool::createCambriaPublisher);
+    }
+
+    CambriaPublisherPool(PublisherFactory publisherFactory) {
+        this.publisherFactory = publisherFactory;
+    }
+
+    @PostConstruct
+    protected void init() {
+        long idleTimeoutMillis = TimeUnit.SECONDS.toMillis(getIdleTimeoutSeconds());
+        evictionScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Cambria-Publisher-Eviction-Task");
+            thread.setDaemon(true);
+            return thread;
+        });
+        evictionScheduler.scheduleWithFixedDelay(() -> evictIdlePublishers(idleTimeoutMillis), idleTimeoutMillis, idleTimeoutMillis,
+            TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    protected void destroy() {
+        if (evictionScheduler != null) {
+            evictionScheduler.shutdownNow();
+        }
+        new ArrayList<>(publishers.keySet()).forEach(key -> evict(key, publishers.get(key)));
+    }
+
+    /**
+     * Sends a notification and waits for its delivery to the message bus.
+     *
+     * @param maxWaitSeconds maximum time to wait for the delivery of the notification
+     */
+    public CambriaErrorResponse send(String topicName, String uebPublicKey, String uebSecretKey, List<String> uebServers, INotificationData data,
+                                     long maxWaitSeconds) {
+        PublisherKey key = new PublisherKey(topicName, uebPublicKey, uebSecretKey, uebServers);
+        String json = gson.toJson(data);
+        log.debug("Before sending notification data {} to topic {}", json, topicName);
+        PooledPublisher pooledPublisher = null;
+        long position;
+        try {
+            pooledPublisher = getOrCreatePublisher(key);
+            position = pooledPublisher.send(json);
+        } catch (IOException | GeneralSecurityException e) {
+            log.debug("Failed to send notification {} to topic {} ", data, topicName, e);
+            evict(key, pooledPublisher);
+            return getCambriaHandler().processError(e);
+        }
+        if (pooledPublisher.awaitDelivery(position, TimeUnit.SECONDS.toMillis(maxWaitSeconds))) {
+            log.debug("After sending notification data to topic {}", topicName);
+            return new CambriaErrorResponse(CambriaOperationStatus.OK, 200);
+        }
+        log.debug("Notification to topic {} was not delivered within {} seconds, closing its publisher", topicName, maxWaitSeconds);
+        evict(key, pooledPublisher);
+        return new CambriaErrorResponse(CambriaOperationStatus.INTERNAL_SERVER_ERROR, 500);
+    }
+
+    public int getPublisherCount() {
+        return publishers.size();
+    }
+
+    void evictIdlePublishers(long idleTimeoutMillis) {
+        long now = System.currentTimeMillis();
+        publishers.forEach((key, pooledPublisher) -> {
+            if (now - pooledPublisher.lastUsedTime >= idleTimeoutMillis) {
+                log.debug("Closing the publisher of topic {} not used for {} ms", key.topicName, now - pooledPublisher.lastUsedTime);
+                evict(key, pooledPublisher);
+            }
+        });
+    }
+
+    private PooledPublisher getOrCreatePublisher(PublisherKey key) throws IOException, GeneralSecurityException {
+        PooledPublisher pooledPublisher = publishers.get(key);
+        if (pooledPublisher != null) {
+            return pooledPublisher;
+        }
+        synchronized (publishers) {
+            pooledPublisher = publishers.get(key);
+            if (pooledPublisher == null) {
+                log.debug("Creating publisher of topic {}", key.topicName);
+                pooledPublisher = new PooledPublisher(publisherFactory.create(key.topicName, key.uebPublicKey, key.uebSecretKey, key.uebServers));
+                publishers.put(key, pooledPublisher);
+            }
+            return pooledPublisher;
+        }
+    }
+
+    private void evict(PublisherKey key, PooledPublisher pooledPublisher) {
+        if (pooledPublisher != null && publishers.remove(key, pooledPublisher)) {
+            int unsentMessages = pooledPublisher.close();
+            if (unsentMessages > 0) {
+                log.debug("Publisher of topic {} was closed with {} non sent messages", key.topicName, unsentMessages);
+            }
+        }
+    }
+
+    private synchronized CambriaHandler getCambriaHandler() {
+        if (cambriaHandler == null) {
+            cambriaHandler = new CambriaHandler();
+        }
+        return cambriaHandler;
+    }
+
+    private static long getIdleTimeoutSeconds() {
+        Integer idleTimeoutSeconds = getNotificationTopicConfig().getPublisherIdleTimeoutSeconds();
+        return idleTimeoutSeconds == null || idleTimeoutSeconds <= 0 ? DEFAULT_IDLE_TIMEOUT_SECONDS : idleTimeoutSeconds;
+    }
+
+    private static DistributionNotificationTopicConfig getNotificationTopicConfig() {
+        DistributionNotificationTopicConfig config = ConfigurationManager.getConfigurationManager().getDistributionEngineConfiguration()
+            .getDistributionNotificationTopic();
+        return config == null ? new DistributionNotificationTopicConfig() : config;
+    }
+
+    private static Publisher createCambriaPublisher(String topicName, String uebPublicKey, String uebSecretKey, List<String> uebServers)
+        throws IOException, GeneralSecurityException {
+        DistributionNotificationTopicConfig config = getNotificationTopicConfig();
+        int maxBatchSize = config.getPublisherMaxBatchSize() == null ? DEFAULT_MAX_BATCH_SIZE : config.getPublisherMaxBatchSize();
+        int maxBatchAgeMs = config.getPublisherMaxBatchAgeMs() == null ? DEFAULT_MAX_BATCH_AGE_MS : config.getPublisherMaxBatchAgeMs();
+        CambriaBatchingPublisher publisher = new PublisherBuilder().onTopic(topicName).usingHosts(uebServers).limitBatch(maxBatchSize, maxBatchAgeMs)
+            .build();
+        publisher.setApiCredentials(uebPublicKey, uebSecretKey);
+        return new CambriaPublisher(publisher);
+    }
+
+    /**
+     * Message bus publisher of a single topic
+     */
+    interface Publisher {
+
+        void send(String json) throws IOException;
+
+        int getPendingMessageCount();
+
+        /**
+         * @return the number of messages that could not be sent before closing
+         */
+        int close(long timeout, TimeUnit unit);
+    }
+
+    @FunctionalInterface
+    interface PublisherFactory {
+
+        Publisher create(String topicName, String uebPublicKey, String uebSecretKey, List<String> uebServers)
+            throws IOException, GeneralSecurityException;
+    }
+
+    private static final class CambriaPublisher implements Publisher {
+
+        private final CambriaBatchingPublisher publisher;
+
+        private CambriaPublisher(CambriaBatchingPublisher publisher) {
+            this.publisher = publisher;
+        }
+
+        @Override
+        public void send(String json) throws IOException {
+            publisher.send(CambriaHandler.PARTITION_KEY, json);
+        }
+
+        @Override
+        public int getPendingMessageCount() {
+            return publisher.getPendingMessageCount();
+        }
+
+        @Override
+        public int close(long timeout, TimeUnit unit) {
+            try {
+                List<message> messagesInQ = publisher.close(timeout, unit);
+                return messagesInQ == null ? 0 : messagesInQ.size();
+            } catch (InterruptedException e) {
+                log.debug("InterruptedException while closing cambria publisher", e);
+                Thread.currentThread().interrupt();
+            } catch (IOException e) {
+                log.debug("Failed to close cambria publisher", e);
+            }
+            return publisher.getPendingMessageCount();
+        }
+    }
+
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static final class PublisherKey {
+
+        private final String topicName;
+        private final String uebPublicKey;
+        private final String uebSecretKey;
+        private final List<String> uebServers;
+    }
+
+    private static final class PooledPublisher {
+
+        private final Publisher publisher;
+        private long sentCount;
+        private volatile long lastUsedTime = System.currentTimeMillis();
+        private volatile boolean closed;
+
+        private PooledPublisher(Publisher publisher) {
+            this.publisher = publisher;
+        }
+
+        /**
+         * @return the position of the message in the messages sent by this publisher
+         */
+        private synchronized long send(String json) throws IOException {
+            publisher.send(json);
+            lastUsedTime = System.currentTimeMillis();
+            return ++sentCount;
+        }
+
+        private synchronized long getDeliveredCount() {
+            return sentCount - publisher.getPendingMessageCount();
+        }
+
+        /**
+         * Waits until the message at the given position and the ones sent before it left the publisher queue
+         */
+        private boolean awaitDelivery(long position, long timeoutMillis) {
+            long deadline = System.currentTimeMillis() + timeoutMillis;
+            while (!closed) {
+                if (getDeliveredCount() >= position) {
+                    return true;
+                }
+                if (System.currentTimeMillis() >= deadline) {
+                    return false;
+                }
+                try {
+                    Thread.sleep(DELIVERY_POLL_INTERVAL_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+            return false;
+        }
+
+        private int close() {
+            closed = true;
+            return publisher.close(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+}
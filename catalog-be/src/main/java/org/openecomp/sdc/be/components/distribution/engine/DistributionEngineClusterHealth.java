@@ -21,6 +21,7 @@ package org.openecomp.sdc.be.components.distribution.engine;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
@@ -66,6 +67,7 @@ public class DistributionEngineClusterHealth {
     private HealthCheckInfo healthCheckInfo = HealthCheckInfoResult.UNKNOWN.getHealthCheckInfo();
     private Map<String, AtomicBoolean> envNamePerStatus = null;
     private ScheduledFuture<?> scheduledFuture = null;
+    private final DistributionNotificationMetrics notificationMetrics = new DistributionNotificationMetrics();
 
     @PostConstruct
     protected void init() {
@@ -127,6 +129,24 @@ public class DistributionEngineClusterHealth {
         return healthCheckInfo;
     }
 
+    /**
+     * @return throughput and latency of the distribution notifications sent to the U-EB cluster
+     */
+    public DistributionNotificationMetrics getNotificationMetrics() {
+        return notificationMetrics;
+    }
+
+    /**
+     * The health check info with the notification metrics as its component info. The shared health check results are left untouched.
+     */
+    public HealthCheckInfo getHealthCheckInfoWithNotificationMetrics() {
+        HealthCheckInfo info = healthCheckInfo;
+        HealthCheckInfo metricsInfo = new HealthCheckInfo(Constants.HC_COMPONENT_DISTRIBUTION_NOTIFICATIONS, info.getHealthCheckStatus(), null,
+            notificationMetrics.toString());
+        return new HealthCheckInfo(info.getHealthCheckComponent(), info.getHealthCheckStatus(), info.getVersion(), info.getDescription(),
+            Collections.singletonList(metricsInfo));
+    }
+
     /**
      * change the health check to DISABLE
      */
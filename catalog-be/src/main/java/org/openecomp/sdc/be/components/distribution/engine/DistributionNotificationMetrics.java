@@ -0,0 +1,77 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.components.distribution.engine;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters of the distribution notifications sent to the message bus since the BE started.
+ */
+public class DistributionNotificationMetrics {
+
+    private final long startTime = System.currentTimeMillis();
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong totalLatencyMillis = new AtomicLong();
+    private final AtomicLong maxLatencyMillis = new AtomicLong();
+
+    public void record(boolean success, long latencyMillis) {
+        if (success) {
+            sentCount.incrementAndGet();
+        } else {
+            failedCount.incrementAndGet();
+        }
+        totalLatencyMillis.addAndGet(latencyMillis);
+        maxLatencyMillis.accumulateAndGet(latencyMillis, Math::max);
+    }
+
+    public long getSentCount() {
+        return sentCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public long getAverageLatencyMillis() {
+        long count = sentCount.get() + failedCount.get();
+        return count == 0 ? 0 : totalLatencyMillis.get() / count;
+    }
+
+    public long getMaxLatencyMillis() {
+        return maxLatencyMillis.get();
+    }
+
+    /**
+     * @return the average number of notifications sent per minute since the BE started
+     */
+    public double getSentPerMinute() {
+        long elapsedMillis = Math.max(System.currentTimeMillis() - startTime, 1);
+        return sentCount.get() * (double) TimeUnit.MINUTES.toMillis(1) / elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "DistributionNotificationMetrics [sent=" + getSentCount() + ", failed=" + getFailedCount() + ", averageLatencyMillis="
+            + getAverageLatencyMillis() + ", maxLatencyMillis=" + getMaxLatencyMillis() + ", sentPerMinute=" + String.format("%.2f", getSentPerMinute())
+            + "]";
+    }
+}
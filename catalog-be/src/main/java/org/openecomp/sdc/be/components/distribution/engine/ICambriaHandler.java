@@ -47,9 +47,6 @@ public interface ICambriaHandler {
     CambriaErrorResponse sendNotification(String topicName, String uebPublicKey, String uebSecretKey, List<String> uebServers,
                                           INotificationData data);
 
-    CambriaErrorResponse sendNotificationAndClose(String topicName, String uebPublicKey, String uebSecretKey, List<String> uebServers,
-                                                  INotificationData data, long waitBeforeCloseTimeout);
-
     CambriaErrorResponse getApiKey(String server, String apiKey);
 
     Either<ApiCredential, CambriaErrorResponse> createUebKeys(List<String> hostSet);
@@ -23,6 +23,7 @@ import static java.lang.String.format;
 import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
 import static org.apache.http.HttpStatus.SC_INTERNAL_SERVER_ERROR;
 import static org.apache.http.HttpStatus.SC_OK;
+import static org.openecomp.sdc.common.api.Constants.HC_COMPONENT_AUDIT_WRITER;
 import static org.openecomp.sdc.common.api.Constants.HC_COMPONENT_BE;
 import static org.openecomp.sdc.common.api.Constants.HC_COMPONENT_CASSANDRA;
 import static org.openecomp.sdc.common.api.Constants.HC_COMPONENT_DMAAP_PRODUCER;
@@ -36,6 +37,7 @@ import static org.openecomp.sdc.common.impl.ExternalConfiguration.getAppVersion;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -49,6 +51,8 @@ import javax.annotation.PreDestroy;
 import javax.annotation.Resource;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
+import org.openecomp.sdc.be.auditing.impl.AuditEventWriter;
+import org.openecomp.sdc.be.auditing.impl.AuditingManager;
 import org.openecomp.sdc.be.catalog.impl.DmaapProducerHealth;
 import org.openecomp.sdc.be.components.distribution.engine.DistributionEngineClusterHealth;
 import org.openecomp.sdc.be.components.distribution.engine.DmaapHealth;
@@ -95,6 +99,8 @@ public class HealthCheckBusinessLogic {
     @Resource
     private CassandraHealthCheck cassandraHealthCheck;
     @Resource
+    private AuditingManager auditingManager;
+    @Resource
     private PortalHealthCheckBuilder portalHealthCheck;
     @Autowired
     private SwitchoverDetector switchoverDetector;
@@ -137,7 +143,7 @@ public class HealthCheckBusinessLogic {
         // JanusGraph
         healthCheckInfos.add(getJanusGraphHealthCheck());
         // Distribution Engine
-        healthCheckInfos.add(distributionEngineClusterHealth.getHealthCheckInfo());
+        healthCheckInfos.add(distributionEngineClusterHealth.getHealthCheckInfoWithNotificationMetrics());
         //Cassandra
         healthCheckInfos.add(getCassandraHealthCheck());
         // Amdocs
@@ -215,6 +221,11 @@ public class HealthCheckBusinessLogic {
             description = "Cassandra is down";
             healthCheckInfo.setDescription(description);
         }
+        AuditEventWriter auditEventWriter = auditingManager == null ? null : auditingManager.getEventWriter();
+        if (auditEventWriter != null) {
+            healthCheckInfo.setComponentsInfo(Collections.singletonList(
+                new HealthCheckInfo(HC_COMPONENT_AUDIT_WRITER, healthCheckInfo.getHealthCheckStatus(), null, auditEventWriter.toString())));
+        }
         return healthCheckInfo;
     }
 
@@ -28,7 +28,13 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import fj.data.Either;
 import io.vavr.control.Option;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -53,6 +59,7 @@ import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.ImmutableTriple;
 import org.openecomp.sdc.be.components.ArtifactsResolver;
 import org.openecomp.sdc.be.components.impl.ImportUtils.ResultStatusEnum;
 import org.openecomp.sdc.be.components.impl.artifact.ArtifactOperationInfo;
@@ -75,6 +82,7 @@ import org.openecomp.sdc.be.config.Configuration.ArtifactTypeConfig;
 import org.openecomp.sdc.be.config.ConfigurationManager;
 import org.openecomp.sdc.be.dao.api.ActionStatus;
 import org.openecomp.sdc.be.dao.cassandra.ArtifactCassandraDao;
+import org.openecomp.sdc.be.dao.cassandra.ArtifactContent;
 import org.openecomp.sdc.be.dao.cassandra.CassandraOperationStatus;
 import org.openecomp.sdc.be.dao.jsongraph.types.JsonParseFlagEnum;
 import org.openecomp.sdc.be.datatypes.components.ComponentMetadataDataDefinition;
@@ -347,6 +355,10 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
     public Either<ArtifactDefinition, Operation> generateAndSaveToscaArtifact(ArtifactDefinition artifactDefinition, Component component, User user,
                                                                               boolean isInCertificationRequest, boolean shouldLock,
                                                                               boolean inTransaction, boolean fetchTemplatesFromDB) {
+        if (ArtifactTypeEnum.TOSCA_CSAR.getType().equals(artifactDefinition.getArtifactType())) {
+            return generateAndSaveToscaCsar(artifactDefinition, component, user, isInCertificationRequest, shouldLock, inTransaction,
+                fetchTemplatesFromDB);
+        }
         return decodeToscaArtifactPayload(component, isInCertificationRequest, fetchTemplatesFromDB, artifactDefinition.getArtifactType()).left()
             .bind(payload -> {
                 // TODO: Avoid output argument
@@ -354,7 +366,9 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
                 artifactDefinition.setEsId(artifactDefinition.getUniqueId());
                 artifactDefinition.setArtifactChecksum(GeneralUtility.calculateMD5Base64EncodedByByteArray(payload));
                 return lockComponentAndUpdateArtifact(component.getUniqueId(), artifactDefinition, AuditingActionEnum.ARTIFACT_PAYLOAD_UPDATE,
-                    artifactDefinition.getUniqueId(), user, component.getComponentType(), component, payload, shouldLock, inTransaction);
+                    artifactDefinition.getUniqueId(), user, component.getComponentType(), component, shouldLock, inTransaction,
+                    () -> updateArtifactFlow(component, component.getUniqueId(), artifactDefinition.getUniqueId(), artifactDefinition, payload,
+                        component.getComponentType(), AuditingActionEnum.ARTIFACT_PAYLOAD_UPDATE));
             }).right().map(ex -> {
                 // TODO: This should not be done but in order to keep this refactoring small enough, we stop here.
 
@@ -363,6 +377,44 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
             });
     }
 
+    /**
+     * The csar is generated into a temporary file which is streamed into cassandra, so the whole archive is never held in memory
+     */
+    private Either<ArtifactDefinition, Operation> generateAndSaveToscaCsar(ArtifactDefinition artifactDefinition, Component component, User user,
+                                                                           boolean isInCertificationRequest, boolean shouldLock,
+                                                                           boolean inTransaction, boolean fetchTemplatesFromDB) {
+        log.debug("tosca artifact generation");
+        Either<Path, ResponseFormat> generated = csarUtils.createCsarFile(component, fetchTemplatesFromDB, isInCertificationRequest);
+        if (generated.isRight()) {
+            log.debug("Failed to generate tosca csar for component {} error {}", component.getUniqueId(), generated.right().value());
+            throw new ByResponseFormatComponentException(generated.right().value());
+        }
+        Path csarFile = generated.left().value();
+        try {
+            artifactDefinition.setEsId(artifactDefinition.getUniqueId());
+            artifactDefinition.setArtifactChecksum(calculateChecksum(csarFile, component));
+            return lockComponentAndUpdateArtifact(component.getUniqueId(), artifactDefinition, AuditingActionEnum.ARTIFACT_PAYLOAD_UPDATE,
+                artifactDefinition.getUniqueId(), user, component.getComponentType(), component, shouldLock, inTransaction,
+                () -> updateArtifactFlow(component, component.getUniqueId(), artifactDefinition.getUniqueId(), artifactDefinition, csarFile,
+                    component.getComponentType(), AuditingActionEnum.ARTIFACT_PAYLOAD_UPDATE));
+        } finally {
+            try {
+                Files.deleteIfExists(csarFile);
+            } catch (IOException e) {
+                log.debug("Failed to delete the temporary csar file {}", csarFile, e);
+            }
+        }
+    }
+
+    private String calculateChecksum(Path csarFile, Component component) {
+        try (InputStream in = Files.newInputStream(csarFile)) {
+            return GeneralUtility.calculateMD5Base64EncodedByInputStream(in);
+        } catch (IOException e) {
+            log.debug("Failed to read the generated tosca csar of component {}", component.getUniqueId(), e);
+            throw new ByActionStatusComponentException(ActionStatus.GENERAL_ERROR);
+        }
+    }
+
     private Either<byte[], ComponentException> decodeToscaArtifactPayload(Component parent, boolean isInCertificationRequest,
                                                                           boolean fetchTemplatesFromDB, String artifactType) {
         log.debug("tosca artifact generation");
@@ -680,20 +732,45 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
         }
     }
 
-    public ImmutablePair<String, byte[]> handleDownloadToscaModelRequest(Component component, ArtifactDefinition csarArtifact) {
-        if (artifactGenerationRequired(component, csarArtifact)) {
-            Either<byte[], ResponseFormat> generated = csarUtils.createCsar(component, false, false);
-            if (generated.isRight()) {
-                log.debug("Failed to export tosca csar for component {} error {}", component.getUniqueId(), generated.right().value());
-                throw new ByResponseFormatComponentException(generated.right().value());
+    /**
+     * Returns the tosca model csar of a component. A csar that must be generated is written to a temporary file instead of being held in
+     * memory, and the file is deleted when the returned stream is closed.
+     *
+     * @return the artifact name, the base64 encoded MD5 of the payload and the payload stream
+     */
+    public ImmutableTriple<String, String, InputStream> handleStreamToscaModelRequest(Component component, ArtifactDefinition csarArtifact) {
+        if (!artifactGenerationRequired(component, csarArtifact)) {
+            ImmutablePair<String, byte[]> downloaded = downloadArtifact(csarArtifact);
+            byte[] payload = downloaded.getRight();
+            return new ImmutableTriple<>(downloaded.getLeft(), GeneralUtility.calculateMD5Base64EncodedByByteArray(payload),
+                new ByteArrayInputStream(payload));
+        }
+        Either<Path, ResponseFormat> generated = csarUtils.createCsarFile(component, false, false);
+        if (generated.isRight()) {
+            log.debug("Failed to export tosca csar for component {} error {}", component.getUniqueId(), generated.right().value());
+            throw new ByResponseFormatComponentException(generated.right().value());
+        }
+        Path csarFile = generated.left().value();
+        try {
+            String md5;
+            try (InputStream in = Files.newInputStream(csarFile)) {
+                md5 = GeneralUtility.calculateMD5Base64EncodedByInputStream(in);
             }
-            return new ImmutablePair<>(csarArtifact.getArtifactName(), generated.left().value());
+            return new ImmutableTriple<>(csarArtifact.getArtifactName(), md5, Files.newInputStream(csarFile, StandardOpenOption.DELETE_ON_CLOSE));
+        } catch (IOException e) {
+            log.debug("Failed to read the generated tosca csar of component {}", component.getUniqueId(), e);
+            try {
+                Files.deleteIfExists(csarFile);
+            } catch (IOException deleteException) {
+                log.debug("Failed to delete the temporary csar file {}", csarFile, deleteException);
+            }
+            throw new ByActionStatusComponentException(ActionStatus.GENERAL_ERROR);
         }
-        return downloadArtifact(csarArtifact);
     }
 
-    public ImmutablePair<String, byte[]> handleDownloadRequestById(String componentId, String artifactId, String userId,
-                                                                   ComponentTypeEnum componentType, String parentId, String containerComponentType) {
+    public ImmutablePair<String, ArtifactContent> handleDownloadRequestById(String componentId, String artifactId, String userId,
+                                                                            ComponentTypeEnum componentType, String parentId,
+                                                                            String containerComponentType) {
         // perform all validation in common flow
         Either<ArtifactDefinition, Operation> result = handleArtifactRequest(componentId, userId, componentType,
             new ArtifactOperationInfo(false, false, ArtifactOperationEnum.DOWNLOAD), artifactId, null, null, null, null, null, parentId,
@@ -706,10 +783,11 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
             artifactDefinition = insideValue.right().value().getImplementationArtifact();
         }
         // for tosca artifacts and heat env on VF level generated on download without saving
-        if (artifactDefinition.getPayloadData() != null) {
-            return (new ImmutablePair<>(artifactDefinition.getArtifactName(), artifactDefinition.getPayloadData()));
+        byte[] generatedPayload = artifactDefinition.getPayloadData();
+        if (generatedPayload != null) {
+            return new ImmutablePair<>(artifactDefinition.getArtifactName(), ArtifactContent.of(generatedPayload));
         }
-        return downloadArtifact(artifactDefinition);
+        return new ImmutablePair<>(artifactDefinition.getArtifactName(), getArtifactContent(artifactDefinition));
     }
 
     public Map<String, ArtifactDefinition> handleGetArtifactsByType(String containerComponentType, String parentId, ComponentTypeEnum componentType,
@@ -855,14 +933,14 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
 
     private <T> Either<ArtifactDefinition, T> lockComponentAndUpdateArtifact(String parentId, ArtifactDefinition artifactInfo,
                                                                              AuditingActionEnum auditingAction, String artifactId, User user,
-                                                                             ComponentTypeEnum componentType, Component parent, byte[] decodedPayload,
-                                                                             boolean shouldLock, boolean inTransaction) {
+                                                                             ComponentTypeEnum componentType, Component parent, boolean shouldLock,
+                                                                             boolean inTransaction, Supplier<Either<ArtifactDefinition, T>> updateFlow) {
         boolean failed = false;
         boolean writeAudit = true;
         try {
             lockComponent(parent, shouldLock, ARTIFACT_ACTION_LOCK);
             writeAudit = false;
-            return updateArtifactFlow(parent, parentId, artifactId, artifactInfo, decodedPayload, componentType, auditingAction);
+            return updateFlow.get();
         } catch (ComponentException ce) {
             if (writeAudit) {
                 handleAuditing(auditingAction, parent, parentId, user, null, null, artifactId, ce.getResponseFormat(), componentType, null);
@@ -2254,7 +2332,6 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
         log.debug("Entry on graph is updated. Update artifact in ES");
         // Changing previous and current artifactId for auditing
         String currArtifactId = artifactInfo.getUniqueId();
-        NodeTypeEnum parentType = convertParentType(componentType);
         if (decodedPayload == null) {
             if (!artifactInfo.getMandatory() || artifactInfo.getEsId() != null) {
                 Either<DAOArtifactData, CassandraOperationStatus> artifactFromCassandra = artifactCassandraDao.getArtifact(artifactInfo.getEsId());
@@ -2269,6 +2346,45 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
             artifactInfo.setEsId(artifactInfo.getUniqueId());
             artifactData.setId(artifactInfo.getUniqueId());
         }
+        ArtifactDefinition artifactDefinition = updateArtifactOnGraph(parent, parentId, artifactId, artifactInfo, componentType);
+        if (artifactData.getData() != null) {
+            if (!artifactDefinition.getDuplicated() || artifactData.getId() == null) {
+                artifactData.setId(artifactDefinition.getEsId());
+            }
+            saveArtifactInCassandra(artifactData, parent, artifactInfo, currArtifactId, artifactId, auditingAction, componentType);
+        }
+        return Either.left(artifactDefinition);
+    }
+
+    /**
+     * Same as the in memory flow, except that the payload is streamed into cassandra from the given file
+     */
+    private <T> Either<ArtifactDefinition, T> updateArtifactFlow(Component parent, String parentId, String artifactId,
+                                                                 ArtifactDefinition artifactInfo, Path payloadFile,
+                                                                 ComponentTypeEnum componentType, AuditingActionEnum auditingAction) {
+        String currArtifactId = artifactInfo.getUniqueId();
+        if (artifactInfo.getEsId() == null) {
+            artifactInfo.setEsId(artifactInfo.getUniqueId());
+        }
+        String esId = artifactInfo.getEsId();
+        ArtifactDefinition artifactDefinition = updateArtifactOnGraph(parent, parentId, artifactId, artifactInfo, componentType);
+        if (!artifactDefinition.getDuplicated()) {
+            esId = artifactDefinition.getEsId();
+        }
+        CassandraOperationStatus uploadStatus;
+        try (InputStream payload = Files.newInputStream(payloadFile)) {
+            uploadStatus = artifactCassandraDao.saveArtifact(esId, payload);
+        } catch (IOException e) {
+            log.debug("Failed to read the payload file of artifact {}", esId, e);
+            uploadStatus = CassandraOperationStatus.GENERAL_ERROR;
+        }
+        handleSaveArtifactStatus(uploadStatus, esId, parent, artifactInfo, currArtifactId, artifactId, auditingAction, componentType);
+        return Either.left(artifactDefinition);
+    }
+
+    private ArtifactDefinition updateArtifactOnGraph(Component parent, String parentId, String artifactId, ArtifactDefinition artifactInfo,
+                                                     ComponentTypeEnum componentType) {
+        NodeTypeEnum parentType = convertParentType(componentType);
         Either<ArtifactDefinition, StorageOperationStatus> result = artifactToscaOperation
             .updateArtifactOnResource(artifactInfo, parent, artifactId, parentType, parentId, true);
         if (result.isRight()) {
@@ -2280,13 +2396,7 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
         if (storageOperationStatus != StorageOperationStatus.OK) {
             throw new StorageException(storageOperationStatus);
         }
-        if (artifactData.getData() != null) {
-            if (!artifactDefinition.getDuplicated() || artifactData.getId() == null) {
-                artifactData.setId(artifactDefinition.getEsId());
-            }
-            saveArtifactInCassandra(artifactData, parent, artifactInfo, currArtifactId, artifactId, auditingAction, componentType);
-        }
-        return Either.left(artifactDefinition);
+        return artifactDefinition;
     }
 
     private String updateGeneratedIdInHeatEnv(Component parent, String parentId, String artifactId, ArtifactDefinition artifactInfo,
@@ -2423,8 +2533,8 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
     }
 
     // download by MSO
-    public byte[] downloadRsrcArtifactByNames(String serviceName, String serviceVersion, String resourceName, String resourceVersion,
-                                              String artifactName) {
+    public ArtifactContent downloadRsrcArtifactByNames(String serviceName, String serviceVersion, String resourceName, String resourceVersion,
+                                                       String artifactName) {
         // General validation
         if (serviceName == null || serviceVersion == null || resourceName == null || resourceVersion == null || artifactName == null) {
             log.debug(NULL_PARAMETER);
@@ -2455,13 +2565,14 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
             throw new ByActionStatusComponentException(ActionStatus.ARTIFACT_NOT_FOUND, artifactName);
         }
         // Downloading the artifact
-        ImmutablePair<String, byte[]> downloadArtifactEither = downloadArtifact(deploymentArtifact);
+        ArtifactContent artifactContent = getArtifactContent(deploymentArtifact);
         log.trace("Download of resource artifact succeeded, uniqueId {}", deploymentArtifact.getUniqueId());
-        return downloadArtifactEither.getRight();
+        return artifactContent;
     }
 
     // download by MSO
-    public byte[] downloadRsrcInstArtifactByNames(String serviceName, String serviceVersion, String resourceInstanceName, String artifactName) {
+    public ArtifactContent downloadRsrcInstArtifactByNames(String serviceName, String serviceVersion, String resourceInstanceName,
+                                                           String artifactName) {
         // General validation
         if (serviceName == null || serviceVersion == null || resourceInstanceName == null || artifactName == null) {
             log.debug(NULL_PARAMETER);
@@ -2483,9 +2594,9 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
             throw new ByResponseFormatComponentException(componentsUtils.getResponseFormat(ActionStatus.ARTIFACT_NOT_FOUND, artifactName));
         }
         log.debug(FOUND_DEPLOYMENT_ARTIFACT, artifactName);
-        ImmutablePair<String, byte[]> downloadArtifactEither = downloadArtifact(deployableArtifact);
+        ArtifactContent artifactContent = getArtifactContent(deployableArtifact);
         log.trace("Download of resource artifact succeeded, uniqueId {}", deployableArtifact.getUniqueId());
-        return downloadArtifactEither.getRight();
+        return artifactContent;
     }
 
     private ComponentInstance validateResourceInstance(Service service, String resourceInstanceName) {
@@ -2548,7 +2659,7 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
         return resourceListBySystemName.left().value();
     }
 
-    public byte[] downloadServiceArtifactByNames(String serviceName, String serviceVersion, String artifactName) {
+    public ArtifactContent downloadServiceArtifactByNames(String serviceName, String serviceVersion, String artifactName) {
         // Validation
         log.trace("Starting download of service interface artifact, serviceName {}, serviceVersion {}, artifact name {}", serviceName, serviceVersion,
             artifactName);
@@ -2583,9 +2694,9 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
         }
         log.debug(FOUND_DEPLOYMENT_ARTIFACT, normalizedArtifactName);
         // Downloading the artifact
-        ImmutablePair<String, byte[]> downloadArtifactEither = downloadArtifact(foundArtifactOptl.get());
+        ArtifactContent artifactContent = getArtifactContent(foundArtifactOptl.get());
         log.trace("Download of service artifact succeeded, uniqueId {}", foundArtifactOptl.get().getUniqueId());
-        return downloadArtifactEither.getRight();
+        return artifactContent;
     }
 
     public ImmutablePair<String, byte[]> downloadArtifact(String parentId, String artifactUniqueId) {
@@ -2716,15 +2827,44 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
         return new ImmutablePair<>(artifactName, data);
     }
 
+    private ArtifactContent getArtifactContent(ArtifactDefinition artifactDefinition) {
+        Either<ArtifactContent, CassandraOperationStatus> artifactContent = artifactCassandraDao.getArtifactContent(artifactDefinition.getEsId());
+        if (artifactContent.isRight()) {
+            StorageOperationStatus storageResponse = DaoStatusConverter.convertCassandraStatusToStorageStatus(artifactContent.right().value());
+            ActionStatus actionStatus = componentsUtils.convertFromStorageResponse(storageResponse);
+            log.debug("Error when getting artifact content from cassandra, error: {}", actionStatus);
+            throw new ByActionStatusComponentException(actionStatus, artifactDefinition.getArtifactDisplayName());
+        }
+        log.trace("Found content of artifact {}, {} bytes", artifactDefinition.getUniqueId(), artifactContent.left().value().getSize());
+        return artifactContent.left().value();
+    }
+
     public DAOArtifactData createEsArtifactData(ArtifactDataDefinition artifactInfo, byte[] artifactPayload) {
         return new DAOArtifactData(artifactInfo.getEsId(), artifactPayload);
     }
 
+    /**
+     * The payload is handed to cassandra as a stream, so a large payload is stored chunk by chunk with no further copy of it
+     */
+    private CassandraOperationStatus savePayload(DAOArtifactData artifactData) {
+        byte[] payload = artifactData.getDataAsArray();
+        if (payload == null) {
+            return artifactCassandraDao.saveArtifact(artifactData);
+        }
+        return artifactCassandraDao.saveArtifact(artifactData.getId(), new ByteArrayInputStream(payload));
+    }
+
     private void saveArtifactInCassandra(DAOArtifactData artifactData, Component parent, ArtifactDefinition artifactInfo, String currArtifactId,
                                          String prevArtifactId, AuditingActionEnum auditingAction, ComponentTypeEnum componentType) {
-        CassandraOperationStatus resourceUploadStatus = artifactCassandraDao.saveArtifact(artifactData);
+        handleSaveArtifactStatus(savePayload(artifactData), artifactData.getId(), parent, artifactInfo, currArtifactId, prevArtifactId,
+            auditingAction, componentType);
+    }
+
+    private void handleSaveArtifactStatus(CassandraOperationStatus resourceUploadStatus, String esId, Component parent,
+                                          ArtifactDefinition artifactInfo, String currArtifactId, String prevArtifactId,
+                                          AuditingActionEnum auditingAction, ComponentTypeEnum componentType) {
         if (resourceUploadStatus == CassandraOperationStatus.OK) {
-            log.debug("Artifact {} was saved in component {}.", artifactData.getId(), parent.getUniqueId());
+            log.debug("Artifact {} was saved in component {}.", esId, parent.getUniqueId());
             ResponseFormat responseFormat = componentsUtils.getResponseFormat(ActionStatus.OK);
             handleAuditing(auditingAction, parent, parent.getUniqueId(), null, artifactInfo, prevArtifactId, currArtifactId, responseFormat,
                 componentType, null);
@@ -3056,7 +3196,7 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
                 if (updateArifactDefinitionStatus.isLeft()) {
                     artifactDefinition = updateArifactDefinitionStatus.left().value();
                     artifactData.setId(artifactDefinition.getUniqueId());
-                    CassandraOperationStatus saveArtifactStatus = artifactCassandraDao.saveArtifact(artifactData);
+                    CassandraOperationStatus saveArtifactStatus = savePayload(artifactData);
                     if (saveArtifactStatus == CassandraOperationStatus.OK) {
                         if (!inTransaction) {
                             janusGraphDao.commit();
@@ -3468,15 +3608,18 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
         return ret;
     }
 
-    public byte[] downloadComponentArtifactByUUIDs(ComponentTypeEnum componentType, String componentUuid, String artifactUUID,
-                                                   ResourceCommonInfo resourceCommonInfo) {
+    /**
+     * downloads an artifact of a component by UUIDs, the payload is read from cassandra while it is streamed
+     */
+    public ArtifactContent getComponentArtifactContentByUUIDs(ComponentTypeEnum componentType, String componentUuid, String artifactUUID,
+                                                              ResourceCommonInfo resourceCommonInfo) {
         Component component = getComponentByUuid(componentType, componentUuid);
         resourceCommonInfo.setResourceName(component.getName());
-        return downloadArtifact(component.getAllArtifacts(), artifactUUID, component.getName());
+        return getArtifactContent(findArtifactByUUID(component.getAllArtifacts(), artifactUUID, component.getName()));
     }
 
     /**
-     * downloads an artifact of resource instance of component by UUIDs
+     * downloads an artifact of resource instance of component by UUIDs, the payload is read from cassandra while it is streamed
      *
      * @param componentType
      * @param componentUuid
@@ -3484,13 +3627,13 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
      * @param artifactUUID
      * @return
      */
-    public byte[] downloadResourceInstanceArtifactByUUIDs(ComponentTypeEnum componentType, String componentUuid, String resourceInstanceName,
-                                                          String artifactUUID) {
+    public ArtifactContent getResourceInstanceArtifactContentByUUIDs(ComponentTypeEnum componentType, String componentUuid,
+                                                                     String resourceInstanceName, String artifactUUID) {
         ComponentInstance resourceInstance = getRelatedComponentInstance(componentType, componentUuid, resourceInstanceName);
         if (resourceInstance != null) {
-            return downloadArtifact(resourceInstance.getDeploymentArtifacts(), artifactUUID, resourceInstance.getName());
+            return getArtifactContent(findArtifactByUUID(resourceInstance.getDeploymentArtifacts(), artifactUUID, resourceInstance.getName()));
         } else {
-            return downloadArtifact(null, artifactUUID, null);
+            return getArtifactContent(findArtifactByUUID(null, artifactUUID, null));
         }
     }
 
@@ -4144,10 +4287,8 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
         };
     }
 
-    private byte[] downloadArtifact(Map<String, ArtifactDefinition> artifacts, String artifactUUID, String componentName) {
-        ImmutablePair<String, byte[]> downloadArtifact;
+    private ArtifactDefinition findArtifactByUUID(Map<String, ArtifactDefinition> artifacts, String artifactUUID, String componentName) {
         List<ArtifactDefinition> artifactsList = null;
-        ArtifactDefinition deploymentArtifact;
         if (artifacts != null && !artifacts.isEmpty()) {
             artifactsList = artifacts.values().stream().filter(art -> art.getArtifactUUID() != null && art.getArtifactUUID().equals(artifactUUID))
                 .collect(Collectors.toList());
@@ -4156,10 +4297,7 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
             log.debug("Deployment artifact with uuid {} was not found for component {}", artifactUUID, componentName);
             throw new ByActionStatusComponentException(ActionStatus.ARTIFACT_NOT_FOUND, artifactUUID);
         }
-        deploymentArtifact = artifactsList.get(0);
-        downloadArtifact = downloadArtifact(deploymentArtifact);
-        log.trace("Succeeded to download artifact with uniqueId {}", deploymentArtifact.getUniqueId());
-        return downloadArtifact.getRight();
+        return artifactsList.get(0);
     }
 
     private Component getLatestComponentByUuid(ComponentTypeEnum componentType, String componentUuid) {
@@ -22,6 +22,7 @@
 package org.openecomp.sdc.be.components.impl;
 
 import fj.data.Either;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -34,6 +35,7 @@ import java.util.stream.Collectors;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.ImmutableTriple;
 import org.openecomp.sdc.be.catalog.enums.ChangeTypeEnum;
 import org.openecomp.sdc.be.components.impl.exceptions.ByActionStatusComponentException;
 import org.openecomp.sdc.be.components.impl.exceptions.ByResponseFormatComponentException;
@@ -519,8 +521,17 @@ public abstract class ComponentBusinessLogic extends BaseBusinessLogic {
                 fetchTemplatesFromDB);
     }
 
-    public ImmutablePair<String, byte[]> getToscaModelByComponentUuid(ComponentTypeEnum componentType, String uuid,
-                                                                      ResourceCommonInfo resourceCommonInfo) {
+    /**
+     * Returns the tosca model csar of the latest version of a component, as a stream together with its MD5
+     */
+    public ImmutableTriple<String, String, InputStream> getToscaModelStreamByComponentUuid(ComponentTypeEnum componentType, String uuid,
+                                                                                          ResourceCommonInfo resourceCommonInfo) {
+        ImmutablePair<Component, ArtifactDefinition> toscaModel = getToscaModelArtifactByComponentUuid(componentType, uuid, resourceCommonInfo);
+        return artifactsBusinessLogic.handleStreamToscaModelRequest(toscaModel.getLeft(), toscaModel.getRight());
+    }
+
+    private ImmutablePair<Component, ArtifactDefinition> getToscaModelArtifactByComponentUuid(ComponentTypeEnum componentType, String uuid,
+                                                                                              ResourceCommonInfo resourceCommonInfo) {
         Either<List<Component>, StorageOperationStatus> latestVersionEither = toscaOperationFacade.getComponentListByUuid(uuid, null);
         if (latestVersionEither.isRight()) {
             throw new ByActionStatusComponentException(
@@ -545,7 +556,7 @@ public abstract class ComponentBusinessLogic extends BaseBusinessLogic {
         }
         ArtifactDefinition csarArtifact = component.getToscaArtifacts().values().stream()
             .filter(p -> p.getArtifactType().equals(ArtifactTypeEnum.TOSCA_CSAR.getType())).findAny().get();
-        return artifactsBusinessLogic.handleDownloadToscaModelRequest(component, csarArtifact);
+        return new ImmutablePair<>(component, csarArtifact);
     }
 
     protected StorageOperationStatus markComponentToDelete(Component component) {
@@ -35,6 +35,7 @@ import org.openecomp.sdc.be.datatypes.elements.PropertyDataDefinition;
 import org.openecomp.sdc.be.impl.ComponentsUtils;
 import org.openecomp.sdc.be.model.DataTypeDefinition;
 import org.openecomp.sdc.be.model.Model;
+import org.openecomp.sdc.be.model.cache.ApplicationDataTypeCache;
 import org.openecomp.sdc.be.model.PropertyDefinition;
 import org.openecomp.sdc.be.model.normatives.ElementTypeEnum;
 import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
@@ -59,6 +60,8 @@ public class DataTypeImportManager {
     private CommonImportManager commonImportManager;
     @Resource
     private ModelOperation modelOperation;
+    @Resource
+    private ApplicationDataTypeCache applicationDataTypeCache;
 
     public Either<List<ImmutablePair<DataTypeDefinition, Boolean>>, ResponseFormat> createDataTypes(final String dataTypeYml, final String modelName,
                                                                                                     final boolean includeToModelDefaultImports) {
@@ -87,11 +90,18 @@ public class DataTypeImportManager {
 
     private Either<List<ImmutablePair<DataTypeDefinition, Boolean>>, ResponseFormat> createDataTypesByDao(
         List<DataTypeDefinition> dataTypesToCreate) {
-        return commonImportManager.createElementTypesByDao(dataTypesToCreate, this::validateDataType,
-            dataType -> new ImmutablePair<>(ElementTypeEnum.DATA_TYPE, UniqueIdBuilder.buildDataTypeUid(dataType.getModel(), dataType.getName())),
-            dataTypeUid -> propertyOperation.getDataTypeByUidWithoutDerived(dataTypeUid, true),
-            dataType -> propertyOperation.addDataType(dataType),
-            (newDataType, oldDataType) -> propertyOperation.updateDataType(newDataType, oldDataType));
+        final Either<List<ImmutablePair<DataTypeDefinition, Boolean>>, ResponseFormat> result = commonImportManager
+            .createElementTypesByDao(dataTypesToCreate, this::validateDataType,
+                dataType -> new ImmutablePair<>(ElementTypeEnum.DATA_TYPE, UniqueIdBuilder.buildDataTypeUid(dataType.getModel(), dataType.getName())),
+                dataTypeUid -> propertyOperation.getDataTypeByUidWithoutDerived(dataTypeUid, true),
+                dataType -> propertyOperation.addDataType(dataType),
+                (newDataType, oldDataType) -> propertyOperation.updateDataType(newDataType, oldDataType));
+        if (result.isLeft()) {
+            // the data types were committed, refresh only them instead of waiting for the cache polling task
+            applicationDataTypeCache.refreshDataTypes(dataTypesToCreate.stream()
+                .map(dataType -> UniqueIdBuilder.buildDataTypeUid(dataType.getModel(), dataType.getName())).collect(Collectors.toList()));
+        }
+        return result;
     }
 
     private Either<ActionStatus, ResponseFormat> validateDataType(DataTypeDefinition dataType) {
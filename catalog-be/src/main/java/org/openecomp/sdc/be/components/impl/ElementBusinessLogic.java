@@ -28,6 +28,7 @@ import fj.data.Either;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -58,6 +59,7 @@ import org.openecomp.sdc.be.datamodel.api.CategoryTypeEnum;
 import org.openecomp.sdc.be.datamodel.utils.NodeTypeConvertUtils;
 import org.openecomp.sdc.be.datatypes.components.ComponentMetadataDataDefinition;
 import org.openecomp.sdc.be.datatypes.components.ResourceMetadataDataDefinition;
+import org.openecomp.sdc.be.datatypes.components.ServiceMetadataDataDefinition;
 import org.openecomp.sdc.be.datatypes.enums.AssetTypeEnum;
 import org.openecomp.sdc.be.datatypes.enums.ComponentFieldsEnum;
 import org.openecomp.sdc.be.datatypes.enums.ComponentTypeEnum;
@@ -115,6 +117,10 @@ public class ElementBusinessLogic extends BaseBusinessLogic {
     private static final String VALIDATION_OF_USER_FAILED_USER_ID = "Validation of user failed, userId {}";
     private static final String COMPONENT_TYPE_IS_INVALID = "Component type {} is invalid";
     private static final String VALIDATION_OF_USER_ROLE_FAILED_USER_ID = "Validation of user role failed, userId {}";
+    public static final String LIMIT_PARAM = "limit";
+    public static final String CURSOR_PARAM = "cursor";
+    public static final String UPDATED_SINCE_PARAM = "updatedSince";
+    private static final List<String> PAGING_PARAMS = Arrays.asList(LIMIT_PARAM, CURSOR_PARAM, UPDATED_SINCE_PARAM);
     private final IElementOperation elementOperation;
     private final UserBusinessLogic userAdminManager;
 
@@ -911,6 +917,20 @@ public class ElementBusinessLogic extends BaseBusinessLogic {
         }
     }
 
+    /**
+     * Returns the ETag of the catalog returned by {@link #getCatalogComponents(String, List)} for the same excluded types. The user is validated
+     * first, as a matching ETag answers the request without reading the catalog
+     */
+    public Either<String, ResponseFormat> getCatalogComponentsETag(String userId, List<OriginTypeEnum> excludeTypes) {
+        validateUserExists(userId);
+        try {
+            return toscaOperationFacade.getCatalogOrArchiveETag(true, excludeTypes)
+                .right().map(err -> componentsUtils.getResponseFormat(componentsUtils.convertFromStorageResponse(err)));
+        } finally {
+            janusGraphDao.commit();
+        }
+    }
+
     private Map<String, List<CatalogComponent>> groupByComponentType(List<CatalogComponent> components) {
         Map<String, List<CatalogComponent>> map = components.stream()
             .collect(Collectors.groupingBy(cmpt -> cmptTypeToString(cmpt.getComponentType())));
@@ -936,6 +956,11 @@ public class ElementBusinessLogic extends BaseBusinessLogic {
 
     public Either<List<? extends Component>, ResponseFormat> getFilteredCatalogComponents(String assetType, Map<FilterKeyEnum, String> filters,
                                                                                           String query) {
+        return getFilteredCatalogComponents(assetType, filters, query, null);
+    }
+
+    private Either<List<? extends Component>, ResponseFormat> getFilteredCatalogComponents(String assetType, Map<FilterKeyEnum, String> filters,
+                                                                                           String query, ComponentsPage page) {
         ComponentTypeEnum assetTypeEnum = AssetTypeEnum.convertToComponentTypeEnum(assetType);
         if (query != null) {
             Optional<NameValuePair> invalidFilter = findInvalidFilter(query, assetTypeEnum);
@@ -952,14 +977,14 @@ public class ElementBusinessLogic extends BaseBusinessLogic {
             }
             return Either.left(componentsList.left().value());
         }
-        Either<List<Component>, StorageOperationStatus> result = getFilteredComponents(filters, assetTypeEnum, false);
+        Either<List<Component>, StorageOperationStatus> result = getFilteredComponents(filters, assetTypeEnum, false, page);
         // category hierarchy mismatch or category/subCategory/distributionStatus not found
         if (result.isRight()) {
             List<String> params = getErrorResponseParams(filters, assetTypeEnum);
             return Either.right(componentsUtils
                 .getResponseFormat(componentsUtils.convertFromStorageResponse(result.right().value()), params.get(0), params.get(1), params.get(2)));
         }
-        if (result.left().value().isEmpty()) {// no assets found for requested
+        if (result.left().value().isEmpty() && (page == null || page.filteredCount == 0)) {// no assets found for requested
 
             // criteria
             return Either.right(componentsUtils.getResponseFormat(ActionStatus.NO_ASSETS_FOUND, assetType, query));
@@ -967,19 +992,67 @@ public class ElementBusinessLogic extends BaseBusinessLogic {
         return Either.left(result.left().value());
     }
 
+    /**
+     * Returns a page of the filtered catalog components, ordered by unique id. The components are filtered as by
+     * {@link #getFilteredCatalogComponents(String, Map, String)}. The components of a category or of a resource type are paged on their metadata,
+     * so that only the components of the page are read.
+     *
+     * @param afterUniqueId unique id of the last component of the previous page, null for the first page
+     * @param updatedSince  only the components updated at or after this time (in ms) are returned, 0 for all
+     * @param limit         maximum number of components returned, 0 for no limit
+     */
+    public Either<List<? extends Component>, ResponseFormat> getFilteredCatalogComponents(String assetType, Map<FilterKeyEnum, String> filters,
+                                                                                          String query, String afterUniqueId, long updatedSince,
+                                                                                          int limit) {
+        return getFilteredCatalogComponents(assetType, filters, query, new ComponentsPage(afterUniqueId, updatedSince, limit)).left()
+            .<List<? extends Component>>map(components -> components.stream()
+                .filter(component -> afterUniqueId == null || component.getUniqueId().compareTo(afterUniqueId) > 0)
+                .filter(component -> updatedSince <= 0 || (component.getLastUpdateDate() != null && component.getLastUpdateDate() >= updatedSince))
+                .sorted(Comparator.comparing(Component::getUniqueId))
+                .limit(limit > 0 ? limit : Long.MAX_VALUE)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns a page of the catalog entries of all the components of the asset type, ordered by unique id. Only the entries of the page are read
+     * from the graph, and they hold the metadata of the components only.
+     *
+     * @param afterUniqueId unique id of the last component of the previous page, null for the first page
+     * @param updatedSince  only the components updated at or after this time (in ms) are returned, 0 for all
+     * @param limit         maximum number of components returned, 0 for no limit
+     */
+    public Either<List<CatalogComponent>, ResponseFormat> getCatalogComponentsPage(String assetType, String query, String afterUniqueId,
+                                                                                   long updatedSince, int limit) {
+        ComponentTypeEnum assetTypeEnum = AssetTypeEnum.convertToComponentTypeEnum(assetType);
+        if (query != null) {
+            Optional<NameValuePair> invalidFilter = findInvalidFilter(query, assetTypeEnum);
+            if (invalidFilter.isPresent()) {
+                log.debug("getCatalogComponentsPage: invalid filter key");
+                return Either.right(componentsUtils.getResponseFormat(ActionStatus.INVALID_FILTER_KEY, invalidFilter.get().getName(),
+                    FilterKeyEnum.getValidFiltersByAssetType(assetTypeEnum).toString()));
+            }
+        }
+        Either<List<CatalogComponent>, StorageOperationStatus> page = toscaOperationFacade
+            .getCatalogComponentsPage(assetTypeEnum, afterUniqueId, updatedSince, limit);
+        if (page.isRight()) {
+            return Either.right(componentsUtils.getResponseFormat(componentsUtils.convertFromStorageResponse(page.right().value())));
+        }
+        return Either.left(page.left().value());
+    }
+
     private Either<List<Component>, StorageOperationStatus> getFilteredComponents(Map<FilterKeyEnum, String> filters, ComponentTypeEnum assetType,
-                                                                                  boolean inTransaction) {
+                                                                                  boolean inTransaction, ComponentsPage page) {
         Either<List<Component>, StorageOperationStatus> assetResult = Either.left(new LinkedList<>());
         if (assetType == ComponentTypeEnum.RESOURCE) {
-            assetResult = getFilteredResources(filters, inTransaction);
+            assetResult = getFilteredResources(filters, inTransaction, page);
         } else if (assetType == ComponentTypeEnum.SERVICE) {
-            assetResult = getFilteredServices(filters, inTransaction);
+            assetResult = getFilteredServices(filters, inTransaction, page);
         }
         return assetResult;
     }
 
     private <T extends Component> Either<List<T>, StorageOperationStatus> getFilteredServices(Map<FilterKeyEnum, String> filters,
-                                                                                              boolean inTransaction) {
+                                                                                              boolean inTransaction, ComponentsPage page) {
         Either<List<T>, StorageOperationStatus> components = null;
         String categoryName = filters.get(FilterKeyEnum.CATEGORY);
         String distributionStatus = filters.get(FilterKeyEnum.DISTRIBUTION_STATUS);
@@ -989,7 +1062,12 @@ public class ElementBusinessLogic extends BaseBusinessLogic {
             return Either.right(StorageOperationStatus.CATEGORY_NOT_FOUND);
         }
         if (categoryName != null) { // primary filter
-            components = fetchByCategoryOrSubCategoryName(categoryName, NodeTypeEnum.ServiceNewCategory, NodeTypeEnum.Service, inTransaction, null);
+            if (page != null && distEnum != null) {
+                // pages on the distribution status as well, the services of the other status are not read
+                page.filter = metadata -> distEnum.name().equals(((ServiceMetadataDataDefinition) metadata).getDistributionStatus());
+            }
+            components = fetchByCategoryOrSubCategoryName(categoryName, NodeTypeEnum.ServiceNewCategory, NodeTypeEnum.Service, inTransaction, null,
+                page);
             if (components.isLeft() && distEnum != null) {// secondary filter
                 Predicate<T> statusFilter = p -> ((Service) p).getDistributionStatus() == distEnum;
                 return Either.left(components.left().value().stream().filter(statusFilter).collect(Collectors.toList()));
@@ -1063,7 +1141,7 @@ public class ElementBusinessLogic extends BaseBusinessLogic {
     private Optional<NameValuePair> findInvalidFilter(String query, ComponentTypeEnum assetType) {
         List<NameValuePair> params = URLEncodedUtils.parse(query, StandardCharsets.UTF_8);
         List<String> validKeys = FilterKeyEnum.getValidFiltersByAssetType(assetType);
-        Predicate<NameValuePair> noMatch = p -> !validKeys.contains(p.getName());
+        Predicate<NameValuePair> noMatch = p -> !validKeys.contains(p.getName()) && !PAGING_PARAMS.contains(p.getName());
         return params.stream().filter(noMatch).findAny();
     }
 
@@ -1082,6 +1160,11 @@ public class ElementBusinessLogic extends BaseBusinessLogic {
     }
 
     public Either<List<Component>, StorageOperationStatus> getFilteredResources(Map<FilterKeyEnum, String> filters, boolean inTransaction) {
+        return getFilteredResources(filters, inTransaction, null);
+    }
+
+    private Either<List<Component>, StorageOperationStatus> getFilteredResources(Map<FilterKeyEnum, String> filters, boolean inTransaction,
+                                                                                 ComponentsPage page) {
         String subCategoryName = filters.get(FilterKeyEnum.SUB_CATEGORY);
         String categoryName = filters.get(FilterKeyEnum.CATEGORY);
         ResourceTypeEnum resourceType = ResourceTypeEnum.getType(filters.get(FilterKeyEnum.RESOURCE_TYPE));
@@ -1101,15 +1184,15 @@ public class ElementBusinessLogic extends BaseBusinessLogic {
                     return Either.right(StorageOperationStatus.MATCH_NOT_FOUND);
                 }
                 return fetchByCategoryOrSubCategoryUid(subCategoryData.get().getLeft().getUniqueId(), NodeTypeEnum.Resource, inTransaction,
-                    resourceType);
+                    resourceType, page);
             }
             return fetchByCategoryOrSubCategoryName(subCategoryName, NodeTypeEnum.ResourceSubcategory, NodeTypeEnum.Resource, inTransaction,
-                resourceType);
+                resourceType, page);
         }
         if (subcategories != null) {
-            return fetchByMainCategory(subcategories.left().value(), inTransaction, resourceType);
+            return fetchByMainCategory(subcategories.left().value(), inTransaction, resourceType, page);
         }
-        return fetchComponentMetaDataByResourceType(filters.get(FilterKeyEnum.RESOURCE_TYPE), inTransaction);
+        return fetchComponentMetaDataByResourceType(filters.get(FilterKeyEnum.RESOURCE_TYPE), inTransaction, page);
     }
 
     private Either<List<ImmutablePair<SubCategoryData, GraphEdge>>, StorageOperationStatus> getAllSubCategories(String categoryName) {
@@ -1139,8 +1222,16 @@ public class ElementBusinessLogic extends BaseBusinessLogic {
                                                                                                             NodeTypeEnum categoryType,
                                                                                                             boolean inTransaction,
                                                                                                             ResourceTypeEnum resourceType) {
+        return fetchByCategoryOrSubCategoryUid(categoryUid, categoryType, inTransaction, resourceType, null);
+    }
+
+    private <T extends Component> Either<List<T>, StorageOperationStatus> fetchByCategoryOrSubCategoryUid(String categoryUid,
+                                                                                                          NodeTypeEnum categoryType,
+                                                                                                          boolean inTransaction,
+                                                                                                          ResourceTypeEnum resourceType,
+                                                                                                          ComponentsPage page) {
         try {
-            return collectComponents(categoryType, categoryUid, resourceType);
+            return collectComponents(categoryType, categoryUid, resourceType, page);
         } finally {
             if (!inTransaction) {
                 janusGraphDao.commit();
@@ -1153,6 +1244,15 @@ public class ElementBusinessLogic extends BaseBusinessLogic {
                                                                                                              NodeTypeEnum neededType,
                                                                                                              boolean inTransaction,
                                                                                                              ResourceTypeEnum resourceType) {
+        return fetchByCategoryOrSubCategoryName(categoryName, categoryType, neededType, inTransaction, resourceType, null);
+    }
+
+    private <T extends Component> Either<List<T>, StorageOperationStatus> fetchByCategoryOrSubCategoryName(String categoryName,
+                                                                                                           NodeTypeEnum categoryType,
+                                                                                                           NodeTypeEnum neededType,
+                                                                                                           boolean inTransaction,
+                                                                                                           ResourceTypeEnum resourceType,
+                                                                                                           ComponentsPage page) {
         List<T> components = new ArrayList<>();
         try {
             Class categoryClazz = categoryType == NodeTypeEnum.ServiceNewCategory ? CategoryData.class : SubCategoryData.class;
@@ -1163,14 +1263,14 @@ public class ElementBusinessLogic extends BaseBusinessLogic {
                 return Either.right(StorageOperationStatus.CATEGORY_NOT_FOUND);
             }
             for (GraphNode category : getCategory.left().value()) {
-                Either<List<T>, StorageOperationStatus> result = collectComponents(neededType, category.getUniqueId(), resourceType);
+                Either<List<T>, StorageOperationStatus> result = collectComponents(neededType, category.getUniqueId(), resourceType, page);
                 if (result.isRight() && result.right().value() != StorageOperationStatus.NOT_FOUND) {
                     return result;
                 } else if (result.isLeft()) {
                     components.addAll(result.left().value());
                 }
             }
-            if (components.isEmpty()) {
+            if (components.isEmpty() && (page == null || page.matchingCount == 0)) {
                 return Either.right(StorageOperationStatus.NOT_FOUND);
             }
             return Either.left(components);
@@ -1182,7 +1282,7 @@ public class ElementBusinessLogic extends BaseBusinessLogic {
     }
 
     private <T extends Component> Either<List<T>, StorageOperationStatus> collectComponents(NodeTypeEnum neededType, String categoryUid,
-                                                                                            ResourceTypeEnum resourceType) {
+                                                                                            ResourceTypeEnum resourceType, ComponentsPage page) {
         List<T> components = new ArrayList<>();
         Either<GraphVertex, JanusGraphOperationStatus> categoryVertexById = janusGraphDao.getVertexById(categoryUid, JsonParseFlagEnum.NoParse);
         if (categoryVertexById.isRight()) {
@@ -1200,20 +1300,18 @@ public class ElementBusinessLogic extends BaseBusinessLogic {
         }
         List<ComponentMetadataDataDefinition> componentsMetadataDataDefinition = componentsVertices.left().value().stream().filter(Objects::nonNull)
             .filter(componentsVertex -> Objects.nonNull(componentsVertex.getType())).map(ModelConverter::convertToComponentMetadataDataDefinition)
+            .filter(component -> isTrue(component.isHighestVersion()) && isMatchingByResourceType(neededType, resourceType, component)
+                && !isTrue(component.isDeleted()) && !isTrue(component.isArchived()))
             .collect(Collectors.toList());
+        if (page != null) {
+            componentsMetadataDataDefinition = page.select(componentsMetadataDataDefinition);
+        }
         for (ComponentMetadataDataDefinition component : componentsMetadataDataDefinition) {
-            boolean isHighest = isTrue(component.isHighestVersion());
-            boolean isMatchingResourceType = isMatchingByResourceType(neededType, resourceType, component);
-            boolean isDeleted = isTrue(component.isDeleted());
-            boolean isArchived = isTrue(component.isArchived());
-            if (isHighest && isMatchingResourceType && !isDeleted && !isArchived) {
-                Either<T, StorageOperationStatus> result = toscaOperationFacade
-                    .getToscaElement(component.getUniqueId(), JsonParseFlagEnum.ParseMetadata);
-                if (result.isRight()) {
-                    return Either.right(result.right().value());
-                }
-                components.add(result.left().value());
+            Either<T, StorageOperationStatus> result = toscaOperationFacade.getToscaElement(component.getUniqueId(), JsonParseFlagEnum.ParseMetadata);
+            if (result.isRight()) {
+                return Either.right(result.right().value());
             }
+            components.add(result.left().value());
         }
         return Either.left(components);
     }
@@ -1234,11 +1332,12 @@ public class ElementBusinessLogic extends BaseBusinessLogic {
     }
 
     private <T extends Component> Either<List<T>, StorageOperationStatus> fetchByMainCategory(
-        List<ImmutablePair<SubCategoryData, GraphEdge>> subcategories, boolean inTransaction, ResourceTypeEnum resourceType) {
+        List<ImmutablePair<SubCategoryData, GraphEdge>> subcategories, boolean inTransaction, ResourceTypeEnum resourceType,
+        ComponentsPage page) {
         List<T> components = new ArrayList<>();
         for (ImmutablePair<SubCategoryData, GraphEdge> subCategory : subcategories) {
             Either<List<T>, StorageOperationStatus> fetched = fetchByCategoryOrSubCategoryUid(subCategory.getLeft().getUniqueId(),
-                NodeTypeEnum.Resource, inTransaction, resourceType);
+                NodeTypeEnum.Resource, inTransaction, resourceType, page);
             if (fetched.isRight()) {
                 continue;
             }
@@ -1247,7 +1346,8 @@ public class ElementBusinessLogic extends BaseBusinessLogic {
         return Either.left(components);
     }
 
-    private Either<List<Component>, StorageOperationStatus> fetchComponentMetaDataByResourceType(String resourceType, boolean inTransaction) {
+    private Either<List<Component>, StorageOperationStatus> fetchComponentMetaDataByResourceType(String resourceType, boolean inTransaction,
+                                                                                                ComponentsPage page) {
         List<Component> components = null;
         StorageOperationStatus status;
         Wrapper<StorageOperationStatus> statusWrapper = new Wrapper<>();
@@ -1255,8 +1355,10 @@ public class ElementBusinessLogic extends BaseBusinessLogic {
         try {
             ComponentParametersView fetchUsersAndCategoriesFilter = new ComponentParametersView(
                 Arrays.asList(ComponentFieldsEnum.USERS.getValue(), ComponentFieldsEnum.CATEGORIES.getValue()));
-            Either<List<Component>, StorageOperationStatus> getResources = toscaOperationFacade
-                .fetchMetaDataByResourceType(resourceType, fetchUsersAndCategoriesFilter);
+            // a page is selected on the metadata of the resources, so that only the resources of the page are read
+            Either<List<Component>, StorageOperationStatus> getResources = page == null ? toscaOperationFacade
+                .fetchMetaDataByResourceType(resourceType, fetchUsersAndCategoriesFilter)
+                : toscaOperationFacade.fetchMetaDataByResourceType(resourceType, fetchUsersAndCategoriesFilter, page::select);
             if (getResources.isRight()) {
                 status = getResources.right().value();
                 if (status != StorageOperationStatus.NOT_FOUND) {
@@ -1295,4 +1397,37 @@ public class ElementBusinessLogic extends BaseBusinessLogic {
         }
         return Either.left(elementOperation.getBaseTypes(categoryName, modelName));
     }
+
+    /**
+     * Page of the filtered catalog components. The components of a category are selected on their metadata before they are read, and counted so
+     * that an empty page can be told from a category without components.
+     */
+    private static final class ComponentsPage {
+
+        private final String afterUniqueId;
+        private final long updatedSince;
+        private final int limit;
+        // filter applied with the category, when another filter key is given
+        private Predicate<ComponentMetadataDataDefinition> filter = metadata -> true;
+        private int matchingCount;
+        private int filteredCount;
+
+        private ComponentsPage(String afterUniqueId, long updatedSince, int limit) {
+            this.afterUniqueId = afterUniqueId;
+            this.updatedSince = updatedSince;
+            this.limit = limit;
+        }
+
+        private List<ComponentMetadataDataDefinition> select(List<ComponentMetadataDataDefinition> matching) {
+            matchingCount += matching.size();
+            List<ComponentMetadataDataDefinition> filtered = matching.stream().filter(filter).collect(Collectors.toList());
+            filteredCount += filtered.size();
+            return filtered.stream()
+                .filter(metadata -> afterUniqueId == null || metadata.getUniqueId().compareTo(afterUniqueId) > 0)
+                .filter(metadata -> updatedSince <= 0 || (metadata.getLastUpdateDate() != null && metadata.getLastUpdateDate() >= updatedSince))
+                .sorted(Comparator.comparing(ComponentMetadataDataDefinition::getUniqueId))
+                .limit(limit > 0 ? limit : Long.MAX_VALUE)
+                .collect(Collectors.toList());
+        }
+    }
 }
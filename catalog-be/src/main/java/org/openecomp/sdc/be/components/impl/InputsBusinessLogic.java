@@ -609,7 +609,7 @@ public class InputsBusinessLogic extends BaseBusinessLogic {
 
         log.trace("#createListInputsInGraph: enter");
 
-        Map<String, DataTypeDefinition> dataTypes = componentsUtils.getAllDataTypes(applicationDataTypeCache, component.getModel());
+        Map<String, DataTypeDefinition> dataTypes = new HashMap<>(componentsUtils.getAllDataTypes(applicationDataTypeCache, component.getModel()));
         dataTypes.putAll(privateDataTypes);
 
         for (Map.Entry<String, InputDefinition> inputDefinition : inputs.entrySet()) {
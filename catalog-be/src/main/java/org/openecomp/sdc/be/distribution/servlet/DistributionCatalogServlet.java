@@ -32,8 +32,6 @@ import io.swagger.v3.oas.annotations.servers.Server;
 import io.swagger.v3.oas.annotations.servers.Servers;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.tags.Tags;
-import java.io.ByteArrayInputStream;
-import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
 import javax.inject.Inject;
@@ -53,6 +51,7 @@ import org.openecomp.sdc.be.components.impl.aaf.AafPermission;
 import org.openecomp.sdc.be.components.impl.aaf.PermissionAllowed;
 import org.openecomp.sdc.be.components.impl.exceptions.ComponentException;
 import org.openecomp.sdc.be.config.BeEcompErrorManager;
+import org.openecomp.sdc.be.dao.cassandra.ArtifactContent;
 import org.openecomp.sdc.be.dao.api.ActionStatus;
 import org.openecomp.sdc.be.impl.ComponentsUtils;
 import org.openecomp.sdc.be.resources.data.auditing.model.DistributionData;
@@ -130,14 +129,8 @@ public class DistributionCatalogServlet extends BeGenericServlet {
             return responseWrapper.getInnerElement();
         }
         try {
-            byte[] downloadRsrcArtifactEither = artifactsBusinessLogic.downloadServiceArtifactByNames(serviceName, serviceVersion, artifactName);
-            byte[] value = downloadRsrcArtifactEither;
-            InputStream is = new ByteArrayInputStream(value);
-            Map<String, String> headers = new HashMap<>();
-            headers.put(Constants.CONTENT_DISPOSITION_HEADER, getContentDispositionValue(artifactName));
-            ResponseFormat responseFormat = getComponentsUtils().getResponseFormat(ActionStatus.OK);
-            getComponentsUtils().auditDistributionDownload(responseFormat, new DistributionData(instanceIdHeader, requestURI));
-            return buildOkResponse(responseFormat, is, headers);
+            ArtifactContent content = artifactsBusinessLogic.downloadServiceArtifactByNames(serviceName, serviceVersion, artifactName);
+            return buildDownloadResponse(content, artifactName, instanceIdHeader, requestURI);
         } catch (ComponentException e) {
             getComponentsUtils().auditDistributionDownload(e.getResponseFormat(), new DistributionData(instanceIdHeader, requestURI));
             BeEcompErrorManager.getInstance().logBeRestApiGeneralError("download Murano package artifact for service - external API");
@@ -146,6 +139,17 @@ public class DistributionCatalogServlet extends BeGenericServlet {
         }
     }
 
+    /**
+     * The payload is streamed to the client, the download is audited once it was written
+     */
+    private Response buildDownloadResponse(ArtifactContent content, String artifactName, String instanceIdHeader, String requestURI) {
+        Map<String, String> headers = new HashMap<>();
+        headers.put(Constants.CONTENT_DISPOSITION_HEADER, getContentDispositionValue(artifactName));
+        ResponseFormat responseFormat = getComponentsUtils().getResponseFormat(ActionStatus.OK);
+        return buildOkResponse(responseFormat, streamContent(content.openStream(), responseFormat,
+            format -> getComponentsUtils().auditDistributionDownload(format, new DistributionData(instanceIdHeader, requestURI))), headers);
+    }
+
     private Wrapper<Response> validateInstanceIdHeader(Wrapper<Response> responseWrapper, String instanceIdHeader, String requestURI) {
         if (instanceIdHeader == null || instanceIdHeader.isEmpty()) {
             log.debug(MISSING_X_ECOMP_INSTANCE_ID_HEADER);
@@ -200,16 +204,9 @@ public class DistributionCatalogServlet extends BeGenericServlet {
         }
         try {
             ArtifactsBusinessLogic artifactsLogic = getArtifactBL(request.getSession().getServletContext());
-            byte[] downloadRsrcArtifactEither = artifactsLogic
+            ArtifactContent content = artifactsLogic
                 .downloadRsrcArtifactByNames(serviceName, serviceVersion, resourceName, resourceVersion, artifactName);
-            byte[] value = downloadRsrcArtifactEither;
-            // Returning 64-encoded as it was received during upload
-            InputStream is = new ByteArrayInputStream(value);
-            Map<String, String> headers = new HashMap<>();
-            headers.put(Constants.CONTENT_DISPOSITION_HEADER, getContentDispositionValue(artifactName));
-            ResponseFormat responseFormat = getComponentsUtils().getResponseFormat(ActionStatus.OK);
-            getComponentsUtils().auditDistributionDownload(responseFormat, new DistributionData(instanceIdHeader, requestURI));
-            return buildOkResponse(responseFormat, is, headers);
+            return buildDownloadResponse(content, artifactName, instanceIdHeader, requestURI);
         } catch (ComponentException e) {
             getComponentsUtils().auditDistributionDownload(e.getResponseFormat(), new DistributionData(instanceIdHeader, requestURI));
             BeEcompErrorManager.getInstance().logBeRestApiGeneralError("download interface artifact for resource - external API");
@@ -259,16 +256,9 @@ public class DistributionCatalogServlet extends BeGenericServlet {
             return responseWrapper.getInnerElement();
         }
         try {
-            byte[] downloadRsrcArtifactEither = artifactsBusinessLogic
+            ArtifactContent content = artifactsBusinessLogic
                 .downloadRsrcInstArtifactByNames(serviceName, serviceVersion, resourceInstanceName, artifactName);
-            byte[] value = downloadRsrcArtifactEither;
-            // Returning 64-encoded as it was received during upload
-            InputStream is = new ByteArrayInputStream(value);
-            Map<String, String> headers = new HashMap<>();
-            headers.put(Constants.CONTENT_DISPOSITION_HEADER, getContentDispositionValue(artifactName));
-            ResponseFormat responseFormat = getComponentsUtils().getResponseFormat(ActionStatus.OK);
-            getComponentsUtils().auditDistributionDownload(responseFormat, new DistributionData(instanceIdHeader, requestURI));
-            return buildOkResponse(responseFormat, is, headers);
+            return buildDownloadResponse(content, artifactName, instanceIdHeader, requestURI);
         } catch (ComponentException e) {
             getComponentsUtils().auditDistributionDownload(e.getResponseFormat(), new DistributionData(instanceIdHeader, requestURI));
             BeEcompErrorManager.getInstance().logBeRestApiGeneralError("download interface artifact for resource - external API");
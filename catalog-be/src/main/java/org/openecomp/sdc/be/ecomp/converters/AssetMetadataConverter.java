@@ -43,6 +43,7 @@ import org.openecomp.sdc.be.model.Component;
 import org.openecomp.sdc.be.model.ComponentInstance;
 import org.openecomp.sdc.be.model.Resource;
 import org.openecomp.sdc.be.model.Service;
+import org.openecomp.sdc.be.model.catalog.CatalogComponent;
 import org.openecomp.sdc.be.model.category.CategoryDefinition;
 import org.openecomp.sdc.be.model.jsonjanusgraph.operations.ToscaOperationFacade;
 import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
@@ -78,6 +79,47 @@ public class AssetMetadataConverter {
         return Either.left(retResList);
     }
 
+    /**
+     * Converts a catalog entry to the metadata of a listed asset, the entry holding all the fields such metadata needs
+     *
+     * @return the asset metadata, null if the entry is neither a resource nor a service
+     */
+    public AssetMetadata convertToAssetMetadata(CatalogComponent catalogComponent, String serverBaseURL) {
+        CategoryDefinition categoryDefinition = catalogComponent.getCategories().isEmpty() ? null : catalogComponent.getCategories().get(0);
+        switch (catalogComponent.getComponentType()) {
+            case RESOURCE:
+                ResourceAssetMetadata resourceMetadata = convertToAsset(new ResourceAssetMetadata(), catalogComponent, serverBaseURL);
+                if (categoryDefinition != null) {
+                    resourceMetadata.setCategory(categoryDefinition.getName());
+                    resourceMetadata.setSubCategory(categoryDefinition.getSubcategories().get(0).getName());
+                }
+                resourceMetadata.setResourceType(catalogComponent.getResourceType());
+                resourceMetadata.setLifecycleState(catalogComponent.getLifecycleState());
+                resourceMetadata.setLastUpdaterUserId(catalogComponent.getLastUpdaterUserId());
+                return resourceMetadata;
+            case SERVICE:
+                ServiceAssetMetadata serviceMetadata = convertToAsset(new ServiceAssetMetadata(), catalogComponent, serverBaseURL);
+                if (categoryDefinition != null) {
+                    serviceMetadata.setCategory(categoryDefinition.getName());
+                }
+                serviceMetadata.setLifecycleState(catalogComponent.getLifecycleState());
+                serviceMetadata.setLastUpdaterUserId(catalogComponent.getLastUpdaterUserId());
+                serviceMetadata.setDistributionStatus(catalogComponent.getDistributionStatus());
+                return serviceMetadata;
+            default:
+                return null;
+        }
+    }
+
+    private <U extends AssetMetadata> U convertToAsset(U asset, CatalogComponent catalogComponent, String serverBaseURL) {
+        asset.setUuid(catalogComponent.getUuid());
+        asset.setInvariantUUID(catalogComponent.getInvariantUUID());
+        asset.setName(catalogComponent.getName());
+        asset.setVersion(catalogComponent.getVersion());
+        asset.setToscaModelURL(serverBaseURL + "/" + catalogComponent.getUuid() + "/toscaModel");
+        return asset;
+    }
+
     public <T extends Component> Either<? extends AssetMetadata, ResponseFormat> convertToSingleAssetMetadata(T component, String serverBaseURL,
                                                                                                               boolean detailed) {
         ComponentTypeEnum componentType = component.getComponentType();
@@ -29,11 +29,10 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.servers.Server;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Consumer;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.DELETE;
@@ -57,6 +56,7 @@ import org.openecomp.sdc.be.components.impl.artifact.ArtifactOperationInfo;
 import org.openecomp.sdc.be.components.impl.exceptions.ComponentException;
 import org.openecomp.sdc.be.config.BeEcompErrorManager;
 import org.openecomp.sdc.be.dao.api.ActionStatus;
+import org.openecomp.sdc.be.dao.cassandra.ArtifactContent;
 import org.openecomp.sdc.be.datatypes.enums.ComponentTypeEnum;
 import org.openecomp.sdc.be.impl.ComponentsUtils;
 import org.openecomp.sdc.be.impl.ServletUtils;
@@ -705,6 +705,8 @@ public class ArtifactExternalServlet extends AbstractValidationsServlet {
     @Produces(MediaType.APPLICATION_OCTET_STREAM)
     @Operation(description = "Download component artifact", method = "GET", summary = "Returns downloaded artifact", responses = {
         @ApiResponse(responseCode = "200", description = "Artifact downloaded", content = @Content(array = @ArraySchema(schema = @Schema(implementation = String.class)))),
+        @ApiResponse(responseCode = "206", description = "Requested range of the artifact downloaded", content = @Content(array = @ArraySchema(schema = @Schema(implementation = String.class)))),
+        @ApiResponse(responseCode = "416", description = "Requested range is out of the artifact"),
         @ApiResponse(responseCode = "400", description = "Missing  'X-ECOMP-InstanceID'  HTTP header - POL5001"),
         @ApiResponse(responseCode = "401", description = "ECOMP component  should authenticate itself  and  to  re-send  again  HTTP  request  with its Basic  Authentication credentials - POL5002"),
         @ApiResponse(responseCode = "403", description = "ECOMP component is not authorized - POL5003"),
@@ -722,7 +724,8 @@ public class ArtifactExternalServlet extends AbstractValidationsServlet {
         @Parameter(schema = @Schema(allowableValues = {
             "resources,services"}), description = "The requested asset type", required = true) @PathParam("assetType") final String assetType,
         @Parameter(description = "The uuid of the asset as published in the metadata", required = true) @PathParam("uuid") final String uuid,
-        @Parameter(description = "The uuid of the artifact as published in the asset detailed metadata or in the response of the upload / update operation", required = true) @PathParam("artifactUUID") final String artifactUUID) {
+        @Parameter(description = "The uuid of the artifact as published in the asset detailed metadata or in the response of the upload / update operation", required = true) @PathParam("artifactUUID") final String artifactUUID,
+        @Parameter(description = "Single byte range of the artifact to download", required = false) @HeaderParam(value = Constants.RANGE_HEADER) final String range) {
         Wrapper<Response> responseWrapper = new Wrapper<>();
         ResponseFormat responseFormat = null;
         String requestURI = request.getRequestURI();
@@ -747,23 +750,11 @@ public class ArtifactExternalServlet extends AbstractValidationsServlet {
                     requestId, artifactUUID, userId);
             return responseWrapper.getInnerElement();
         }
-        byte[] value = artifactsBusinessLogic.downloadComponentArtifactByUUIDs(componentType, uuid, artifactUUID, resourceCommonInfo);
-        try (InputStream is = new ByteArrayInputStream(value)) {
-            Map<String, String> headers = new HashMap<>();
-            headers.put(Constants.MD5_HEADER, GeneralUtility.calculateMD5Base64EncodedByByteArray(value));
-            responseFormat = getComponentsUtils().getResponseFormat(ActionStatus.OK);
-            responseWrapper.setInnerElement(buildOkResponse(responseFormat, is, headers));
-        } catch (ComponentException e) {
-            responseFormat = getComponentsUtils().getResponseFormat(e);
-            throw e;
-        } catch (IOException e) {
-            log.debug("close ByteArrayInputStream error");
-        } finally {
-            getComponentsUtils()
-                .auditExternalDownloadArtifact(responseFormat, resourceCommonInfo, new DistributionData(instanceIdHeader, requestURI), requestId,
-                    artifactUUID, userId);
-        }
-        return responseWrapper.getInnerElement();
+        ArtifactContent content = artifactsBusinessLogic.getComponentArtifactContentByUUIDs(componentType, uuid, artifactUUID, resourceCommonInfo);
+        Consumer<ResponseFormat> audit = format -> getComponentsUtils()
+            .auditExternalDownloadArtifact(format, resourceCommonInfo, new DistributionData(instanceIdHeader, requestURI), requestId, artifactUUID,
+                userId);
+        return buildArtifactContentResponse(getComponentsUtils().getResponseFormat(ActionStatus.OK), content, range, new HashMap<>(), audit);
     }
 
     /**
@@ -775,6 +766,8 @@ public class ArtifactExternalServlet extends AbstractValidationsServlet {
     @Operation(description = "Download resource instance artifact", method = "GET", summary = "Returns downloaded artifact", responses = {
         @ApiResponse(content = @Content(array = @ArraySchema(schema = @Schema(implementation = Response.class)))),
         @ApiResponse(responseCode = "200", description = "Artifact downloaded", content = @Content(array = @ArraySchema(schema = @Schema(implementation = String.class)))),
+        @ApiResponse(responseCode = "206", description = "Requested range of the artifact downloaded", content = @Content(array = @ArraySchema(schema = @Schema(implementation = String.class)))),
+        @ApiResponse(responseCode = "416", description = "Requested range is out of the artifact"),
         @ApiResponse(responseCode = "400", description = "Missing  'X-ECOMP-InstanceID'  HTTP header - POL5001"),
         @ApiResponse(responseCode = "401", description = "ECOMP component  should authenticate itself  and  to  re-send  again  HTTP  request  with its Basic  Authentication credentials - POL5002"),
         @ApiResponse(responseCode = "403", description = "ECOMP component is not authorized - POL5003"),
@@ -792,7 +785,8 @@ public class ArtifactExternalServlet extends AbstractValidationsServlet {
         @Parameter(description = "The requested asset type", required = true) @PathParam("assetType") final String assetType,
         @Parameter(description = "The uuid of the asset as published in the metadata", required = true) @PathParam("uuid") final String uuid,
         @Parameter(description = "The uuid of the artifact as published in the asset detailed metadata or in the response of the upload / update operation", required = true) @PathParam("artifactUUID") final String artifactUUID,
-        @Parameter(description = "The component instance name (as publishedin the response of the detailed query)", required = true) @PathParam("resourceInstanceName") final String resourceInstanceName) {
+        @Parameter(description = "The component instance name (as publishedin the response of the detailed query)", required = true) @PathParam("resourceInstanceName") final String resourceInstanceName,
+        @Parameter(description = "Single byte range of the artifact to download", required = false) @HeaderParam(value = Constants.RANGE_HEADER) final String range) {
         Wrapper<Response> responseWrapper = new Wrapper<>();
         ResponseFormat responseFormat = null;
         String requestURI = request.getRequestURI();
@@ -815,22 +809,11 @@ public class ArtifactExternalServlet extends AbstractValidationsServlet {
                     new DistributionData(instanceIdHeader, requestURI), requestId, artifactUUID, userId);
             return responseWrapper.getInnerElement();
         }
-        byte[] value = artifactsBusinessLogic
-                .downloadResourceInstanceArtifactByUUIDs(componentType, uuid, resourceInstanceName, artifactUUID);
-        try (InputStream is = new ByteArrayInputStream(value)) {
-            Map<String, String> headers = new HashMap<>();
-            headers.put(Constants.MD5_HEADER, GeneralUtility.calculateMD5Base64EncodedByByteArray(value));
-            responseFormat = getComponentsUtils().getResponseFormat(ActionStatus.OK);
-            responseWrapper.setInnerElement(buildOkResponse(responseFormat, is, headers));
-        } catch (ComponentException e) {
-            responseFormat = getComponentsUtils().getResponseFormat(e);
-            throw e;
-        } catch (IOException e) {
-            log.debug("close ByteArrayInputStream error");
-        } finally {
-            getComponentsUtils().auditExternalDownloadArtifact(responseFormat, new ResourceCommonInfo(resourceInstanceName, componentTypeValue),
+        ArtifactContent content = artifactsBusinessLogic
+                .getResourceInstanceArtifactContentByUUIDs(componentType, uuid, resourceInstanceName, artifactUUID);
+        Consumer<ResponseFormat> audit = format -> getComponentsUtils()
+            .auditExternalDownloadArtifact(format, new ResourceCommonInfo(resourceInstanceName, componentTypeValue),
                 new DistributionData(instanceIdHeader, requestURI), requestId, artifactUUID, userId);
-        }
-        return responseWrapper.getInnerElement();
+        return buildArtifactContentResponse(getComponentsUtils().getResponseFormat(ActionStatus.OK), content, range, new HashMap<>(), audit);
     }
 }
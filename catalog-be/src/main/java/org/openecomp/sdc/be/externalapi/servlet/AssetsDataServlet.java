@@ -33,13 +33,15 @@ import io.swagger.v3.oas.annotations.servers.Server;
 import io.swagger.v3.oas.annotations.servers.Servers;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.tags.Tags;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.GET;
@@ -51,7 +53,8 @@ import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
-import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.ImmutableTriple;
+import org.glassfish.jersey.server.CloseableService;
 import org.openecomp.sdc.be.components.impl.ComponentBusinessLogic;
 import org.openecomp.sdc.be.components.impl.ComponentBusinessLogicProvider;
 import org.openecomp.sdc.be.components.impl.ComponentInstanceBusinessLogic;
@@ -72,6 +75,7 @@ import org.openecomp.sdc.be.externalapi.servlet.representation.AssetMetadata;
 import org.openecomp.sdc.be.impl.ComponentsUtils;
 import org.openecomp.sdc.be.impl.ServletUtils;
 import org.openecomp.sdc.be.model.Component;
+import org.openecomp.sdc.be.model.catalog.CatalogComponent;
 import org.openecomp.sdc.be.resources.data.auditing.AuditingActionEnum;
 import org.openecomp.sdc.be.resources.data.auditing.model.DistributionData;
 import org.openecomp.sdc.be.resources.data.auditing.model.ResourceCommonInfo;
@@ -80,7 +84,6 @@ import org.openecomp.sdc.be.servlets.RepresentationUtils;
 import org.openecomp.sdc.be.user.UserBusinessLogic;
 import org.openecomp.sdc.common.api.Constants;
 import org.openecomp.sdc.common.log.wrappers.Logger;
-import org.openecomp.sdc.common.util.GeneralUtility;
 import org.openecomp.sdc.exception.ResponseFormat;
 import org.springframework.stereotype.Controller;
 
@@ -104,6 +107,8 @@ public class AssetsDataServlet extends AbstractValidationsServlet {
     private final ComponentBusinessLogicProvider componentBusinessLogicProvider;
     @Context
     private HttpServletRequest request;
+    @Context
+    private CloseableService closeableService;
 
     @Inject
     public AssetsDataServlet(UserBusinessLogic userBusinessLogic, ComponentInstanceBusinessLogic componentInstanceBL, ComponentsUtils componentsUtils,
@@ -139,7 +144,10 @@ public class AssetsDataServlet extends AbstractValidationsServlet {
         @Parameter(description = "The filter key (resourceType only for resources)", required = false) @QueryParam("category") String category,
         @Parameter(description = "The filter key (resourceType only for resources)", required = false) @QueryParam("subCategory") String subCategory,
         @Parameter(description = "The filter key (resourceType only for resources)", required = false) @QueryParam("distributionStatus") String distributionStatus,
-        @Parameter(description = "The filter key (resourceType only for resources)", required = false) @QueryParam("resourceType") String resourceType)
+        @Parameter(description = "The filter key (resourceType only for resources)", required = false) @QueryParam("resourceType") String resourceType,
+        @Parameter(description = "The maximum number of assets returned, the cursor of the next page being returned in the X-ECOMP-NextCursor header", required = false) @QueryParam(ElementBusinessLogic.LIMIT_PARAM) String limit,
+        @Parameter(description = "The cursor of the page, as returned with the previous page", required = false) @QueryParam(ElementBusinessLogic.CURSOR_PARAM) String cursor,
+        @Parameter(description = "Only the assets updated at or after this time, in milliseconds since the epoch", required = false) @QueryParam(ElementBusinessLogic.UPDATED_SINCE_PARAM) String updatedSince)
         throws IOException {
         ResponseFormat responseFormat = null;
         String query = request.getQueryString();
@@ -156,6 +164,24 @@ public class AssetsDataServlet extends AbstractValidationsServlet {
             getComponentsUtils().auditExternalGetAssetList(responseFormat, auditingActionEnum, distributionData, requestId);
             return buildErrorResponse(responseFormat);
         }
+        int pageLimit;
+        long pageUpdatedSince;
+        String afterUniqueId;
+        try {
+            pageLimit = limit == null ? 0 : Integer.parseInt(limit);
+            pageUpdatedSince = updatedSince == null ? 0 : Long.parseLong(updatedSince);
+            afterUniqueId = cursor == null ? null : decodeCursor(cursor);
+        } catch (IllegalArgumentException e) {
+            pageLimit = -1;
+            pageUpdatedSince = 0;
+            afterUniqueId = null;
+        }
+        if (pageLimit < 0) {
+            log.debug("getAssetList: Asset Fetching Failed. Invalid limit, cursor or updatedSince was received");
+            responseFormat = getComponentsUtils().getResponseFormat(ActionStatus.INVALID_CONTENT);
+            getComponentsUtils().auditExternalGetAssetList(responseFormat, auditingActionEnum, distributionData, requestId);
+            return buildErrorResponse(responseFormat);
+        }
         try {
             Map<FilterKeyEnum, String> filters = new EnumMap<>(FilterKeyEnum.class);
             if (category != null) {
@@ -177,28 +203,55 @@ public class AssetsDataServlet extends AbstractValidationsServlet {
                 }
                 filters.put(FilterKeyEnum.RESOURCE_TYPE, resourceTypeEnum.name());
             }
-            Either<List<? extends Component>, ResponseFormat> assetTypeData = elementBusinessLogic
-                .getFilteredCatalogComponents(assetType, filters, query);
-            if (assetTypeData.isRight()) {
-                log.debug("getAssetList: Asset Fetching Failed");
-                responseFormat = assetTypeData.right().value();
-                getComponentsUtils().auditExternalGetAssetList(responseFormat, auditingActionEnum, distributionData, requestId);
-                return buildErrorResponse(responseFormat);
+            Iterable<? extends AssetMetadata> assets;
+            int assetCount;
+            String lastUniqueId;
+            if (filters.isEmpty()) {
+                // the catalog entries hold all the fields of the listed assets, no component is read
+                Either<List<CatalogComponent>, ResponseFormat> catalogData = elementBusinessLogic
+                    .getCatalogComponentsPage(assetType, query, afterUniqueId, pageUpdatedSince, pageLimit);
+                if (catalogData.isRight()) {
+                    log.debug("getAssetList: Asset Fetching Failed");
+                    responseFormat = catalogData.right().value();
+                    getComponentsUtils().auditExternalGetAssetList(responseFormat, auditingActionEnum, distributionData, requestId);
+                    return buildErrorResponse(responseFormat);
+                }
+                List<CatalogComponent> catalogComponents = catalogData.left().value();
+                assets = () -> catalogComponents.stream().map(component -> assetMetadataConverter.convertToAssetMetadata(component, requestURI))
+                    .filter(Objects::nonNull).iterator();
+                assetCount = catalogComponents.size();
+                lastUniqueId = assetCount == 0 ? null : catalogComponents.get(assetCount - 1).getUniqueId();
             } else {
-                log.debug("getAssetList: Asset Fetching Success");
+                Either<List<? extends Component>, ResponseFormat> assetTypeData = elementBusinessLogic
+                    .getFilteredCatalogComponents(assetType, filters, query, afterUniqueId, pageUpdatedSince, pageLimit);
+                if (assetTypeData.isRight()) {
+                    log.debug("getAssetList: Asset Fetching Failed");
+                    responseFormat = assetTypeData.right().value();
+                    getComponentsUtils().auditExternalGetAssetList(responseFormat, auditingActionEnum, distributionData, requestId);
+                    return buildErrorResponse(responseFormat);
+                }
+                List<? extends Component> components = assetTypeData.left().value();
                 Either<List<? extends AssetMetadata>, ResponseFormat> resMetadata = assetMetadataConverter
-                    .convertToAssetMetadata(assetTypeData.left().value(), requestURI, false);
+                    .convertToAssetMetadata(components, requestURI, false);
                 if (resMetadata.isRight()) {
                     log.debug("getAssetList: Asset conversion Failed");
                     responseFormat = resMetadata.right().value();
                     getComponentsUtils().auditExternalGetAssetList(responseFormat, auditingActionEnum, distributionData, requestId);
                     return buildErrorResponse(responseFormat);
                 }
-                Object result = RepresentationUtils.toRepresentation(resMetadata.left().value());
-                responseFormat = getComponentsUtils().getResponseFormat(ActionStatus.OK);
-                getComponentsUtils().auditExternalGetAssetList(responseFormat, auditingActionEnum, distributionData, requestId);
-                return buildOkResponse(responseFormat, result);
+                assets = resMetadata.left().value();
+                assetCount = components.size();
+                lastUniqueId = assetCount == 0 ? null : components.get(assetCount - 1).getUniqueId();
             }
+            log.debug("getAssetList: Asset Fetching Success");
+            Map<String, String> headers = null;
+            if (pageLimit > 0 && assetCount == pageLimit) {
+                headers = new HashMap<>();
+                headers.put(Constants.X_ECOMP_NEXT_CURSOR_HEADER, encodeCursor(lastUniqueId));
+            }
+            responseFormat = getComponentsUtils().getResponseFormat(ActionStatus.OK);
+            getComponentsUtils().auditExternalGetAssetList(responseFormat, auditingActionEnum, distributionData, requestId);
+            return buildOkResponse(responseFormat, RepresentationUtils.toStreamingRepresentation(assets), headers);
         } catch (Exception e) {
             BeEcompErrorManager.getInstance().logBeRestApiGeneralError("Fetch filtered list of assets");
             log.debug("getAssetList: Fetch list of assets failed with exception", e);
@@ -280,6 +333,17 @@ public class AssetsDataServlet extends AbstractValidationsServlet {
         }
     }
 
+    /**
+     * The cursor of a page is the opaque form of the unique id of the last asset of the previous page
+     */
+    private static String encodeCursor(String uniqueId) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(uniqueId.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeCursor(String cursor) {
+        return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    }
+
     private ComponentBusinessLogic getComponentBLByType(ComponentTypeEnum componentTypeEnum) {
         if (componentTypeEnum.equals(RESOURCE)) {
             return resourceBusinessLogic;
@@ -334,13 +398,15 @@ public class AssetsDataServlet extends AbstractValidationsServlet {
         }
         try {
             ComponentBusinessLogic componentBusinessLogic = getComponentBLByType(componentType);
-            ImmutablePair<String, byte[]> csarArtifact = componentBusinessLogic.getToscaModelByComponentUuid(componentType, uuid, resourceCommonInfo);
-            byte[] value = csarArtifact.getRight();
-            InputStream is = new ByteArrayInputStream(value);
-            String contenetMD5 = GeneralUtility.calculateMD5Base64EncodedByByteArray(value);
+            ImmutableTriple<String, String, InputStream> csarArtifact = componentBusinessLogic
+                .getToscaModelStreamByComponentUuid(componentType, uuid, resourceCommonInfo);
             Map<String, String> headers = new HashMap<>();
             headers.put(Constants.CONTENT_DISPOSITION_HEADER, getContentDispositionValue(csarArtifact.getLeft()));
-            headers.put(Constants.MD5_HEADER, contenetMD5);
+            headers.put(Constants.MD5_HEADER, csarArtifact.getMiddle());
+            InputStream is = csarArtifact.getRight();
+            // a generated csar is a temporary file deleted when its stream is closed, so close it when the request completes even if the
+            // response entity was never written
+            closeableService.add(is);
             responseFormat = getComponentsUtils().getResponseFormat(ActionStatus.OK);
             getComponentsUtils().auditExternalGetAsset(responseFormat, auditingActionEnum, distributionData, resourceCommonInfo, requestId, uuid);
             return buildOkResponse(responseFormat, is, headers);
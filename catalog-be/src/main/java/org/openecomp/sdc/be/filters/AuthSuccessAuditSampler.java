@@ -0,0 +1,84 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.filters;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Decides which successful logins of the basic authentication filter are audited. With an interval, only the first successful login of a user in
+ * every interval is audited, and the logins skipped in between are counted. Without an interval every successful login is audited. Failed logins
+ * are not sampled.
+ */
+class AuthSuccessAuditSampler {
+
+    static final long NOT_AUDITED = -1;
+    private final long intervalMillis;
+    private final LongSupplier clock;
+    // only the configured user logs in successfully, so this holds a handful of entries
+    private final Map<String, Window> windows = new HashMap<>();
+
+    /**
+     * @param intervalInSeconds the interval between two audited successful logins of a user, 0 to audit all of them
+     */
+    AuthSuccessAuditSampler(long intervalInSeconds) {
+        this(intervalInSeconds, System::currentTimeMillis);
+    }
+
+    AuthSuccessAuditSampler(long intervalInSeconds, LongSupplier clock) {
+        this.intervalMillis = TimeUnit.SECONDS.toMillis(intervalInSeconds);
+        this.clock = clock;
+    }
+
+    /**
+     * Records a successful login.
+     *
+     * @param userName the user logged in
+     * @return {@link #NOT_AUDITED} if the login must not be audited, otherwise the number of successful logins of the user that were not audited
+     * since its previous audited one
+     */
+    long sample(String userName) {
+        if (intervalMillis <= 0) {
+            return 0;
+        }
+        long now = clock.getAsLong();
+        synchronized (windows) {
+            Window window = windows.get(userName);
+            if (window != null && now - window.start < intervalMillis) {
+                window.skipped++;
+                return NOT_AUDITED;
+            }
+            windows.put(userName, new Window(now));
+            return window == null ? 0 : window.skipped;
+        }
+    }
+
+    private static final class Window {
+
+        private final long start;
+        private long skipped;
+
+        private Window(long start) {
+            this.start = start;
+        }
+    }
+}
@@ -23,8 +23,11 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.Arrays;
-import java.util.List;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.StringTokenizer;
 import javax.annotation.Priority;
 import javax.servlet.ServletContext;
@@ -57,8 +60,14 @@ public class BasicAuthenticationFilter implements ContainerRequestFilter {
     private static final String COMPONENT_UTILS_FAILED = "Authentication Filter Failed to get component utils.";
     private static final ConfigurationManager configurationManager = ConfigurationManager.getConfigurationManager();
     private static final Configuration.BasicAuthConfig basicAuthConf = configurationManager.getConfiguration().getBasicAuth();
+    private static final Set<String> excludedUrls = parseExcludedUrls(basicAuthConf.getExcludedUrls());
+    // the Authorization header credentials of the configured user, matched as is before decoding the header
+    private static final byte[] configuredCredentials = encodeCredentials(basicAuthConf.getUserName(), basicAuthConf.getUserPass());
+    private static final AuthSuccessAuditSampler successAuditSampler = new AuthSuccessAuditSampler(
+        basicAuthConf.getSuccessAuditIntervalInSeconds());
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
     private static LoggerSdcAudit audit = new LoggerSdcAudit(BasicAuthenticationFilter.class);
-    protected Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    protected Gson gson = GSON;
     @Context
     private HttpServletRequest sr;
     private String realm = "ASDC";
@@ -69,7 +78,6 @@ public class BasicAuthenticationFilter implements ContainerRequestFilter {
         if (!basicAuthConf.isEnabled()) {
             return;
         }
-        List<String> excludedUrls = Arrays.asList(basicAuthConf.getExcludedUrls().split(","));
         if (excludedUrls.contains(((ContainerRequest) requestContext).getRequestUri().getPath())) {
             return;
         }
@@ -79,8 +87,13 @@ public class BasicAuthenticationFilter implements ContainerRequestFilter {
             String failedToRetrieveAuthErrorMsg = "Authentication Filter Failed Couldn't retrieve authentication, no basic authentication.";
             if (st.hasMoreTokens()) {
                 String basic = st.nextToken();
-                if ("Basic".equalsIgnoreCase(basic)) {
-                    String credentials = new String(Base64.decodeBase64(st.nextToken()), StandardCharsets.UTF_8);
+                if ("Basic".equalsIgnoreCase(basic) && st.hasMoreTokens()) {
+                    String encodedCredentials = st.nextToken();
+                    if (configuredCredentials != null && isEqual(encodedCredentials, configuredCredentials)) {
+                        authSuccessful(requestContext, basicAuthConf.getUserName());
+                        return;
+                    }
+                    String credentials = new String(Base64.decodeBase64(encodedCredentials), StandardCharsets.UTF_8);
                     log.debug("Credentials: {}", credentials);
                     checkUserCredentials(requestContext, credentials);
                 } else {
@@ -102,9 +115,13 @@ public class BasicAuthenticationFilter implements ContainerRequestFilter {
         if (p != -1) {
             String userName = credentials.substring(0, p).trim();
             String password = credentials.substring(p + 1).trim();
-            if (!userName.equals(basicAuthConf.getUserName()) || !password.equals(basicAuthConf.getUserPass())) {
+            // both are compared, in constant time, so that the time taken does not tell which one or how much of it is wrong
+            boolean isUserNameValid = basicAuthConf.getUserName() != null && isEqual(userName, basicAuthConf.getUserName());
+            boolean isPasswordValid = basicAuthConf.getUserPass() != null && isEqual(password, basicAuthConf.getUserPass());
+            if (!isUserNameValid || !isPasswordValid) {
                 log.error("Authentication Failed. Invalid userName or password");
                 authInvalidPasswordError(requestContext, userName);
+                return;
             }
             authSuccessful(requestContext, userName);
         } else {
@@ -113,11 +130,38 @@ public class BasicAuthenticationFilter implements ContainerRequestFilter {
         }
     }
 
+    private static Set<String> parseExcludedUrls(String excludedUrls) {
+        return excludedUrls == null ? Collections.emptySet() : new HashSet<>(Arrays.asList(excludedUrls.split(",")));
+    }
+
+    private static byte[] encodeCredentials(String userName, String userPass) {
+        // the credentials of the header are trimmed before being compared with the configured ones
+        if (userName == null || userPass == null || !userName.equals(userName.trim()) || !userPass.equals(userPass.trim())) {
+            return null;
+        }
+        return Base64.encodeBase64((userName + ":" + userPass).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static boolean isEqual(String value, byte[] expected) {
+        return MessageDigest.isEqual(value.getBytes(StandardCharsets.UTF_8), expected);
+    }
+
+    private static boolean isEqual(String value, String expected) {
+        return isEqual(value, expected.getBytes(StandardCharsets.UTF_8));
+    }
+
     private void authSuccessful(ContainerRequestContext requestContext, String userName) {
+        long notAudited = successAuditSampler.sample(userName);
+        if (notAudited == AuthSuccessAuditSampler.NOT_AUDITED) {
+            return;
+        }
         ComponentsUtils componentUtils = getComponentsUtils();
         if (componentUtils == null) {
             abortWith(requestContext, COMPONENT_UTILS_FAILED, Response.status(Status.INTERNAL_SERVER_ERROR).build());
         } else {
+            if (notAudited > 0) {
+                log.info("{} successful logins of user {} were not audited since the previous audited one", notAudited, userName);
+            }
             componentUtils.auditAuthEvent(requestContext.getUriInfo().getPath(), userName, AuthStatus.AUTH_SUCCESS.toString(), realm);
         }
     }
@@ -155,7 +199,7 @@ public class BasicAuthenticationFilter implements ContainerRequestFilter {
     }
 
     private ComponentsUtils getComponentsUtils() {
-        ServletContext context = sr.getSession().getServletContext();
+        ServletContext context = sr.getServletContext();
         WebAppContextWrapper webApplicationContextWrapper = (WebAppContextWrapper) context
             .getAttribute(Constants.WEB_APPLICATION_CONTEXT_WRAPPER_ATTR);
         WebApplicationContext webApplicationContext = webApplicationContextWrapper.getWebAppContext(context);
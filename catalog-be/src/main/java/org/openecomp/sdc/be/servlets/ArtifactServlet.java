@@ -31,6 +31,9 @@ import io.swagger.v3.oas.annotations.servers.Server;
 import io.swagger.v3.oas.annotations.servers.Servers;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.tags.Tags;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
@@ -45,14 +48,19 @@ import javax.ws.rs.Produces;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
-import org.apache.commons.codec.binary.Base64;
+import javax.ws.rs.core.StreamingOutput;
+import org.apache.commons.codec.binary.Base64OutputStream;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.output.CloseShieldOutputStream;
 import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.json.simple.JSONValue;
 import org.openecomp.sdc.be.components.impl.ArtifactsBusinessLogic;
 import org.openecomp.sdc.be.components.impl.ArtifactsBusinessLogic.ArtifactOperationEnum;
 import org.openecomp.sdc.be.components.impl.aaf.AafPermission;
 import org.openecomp.sdc.be.components.impl.aaf.PermissionAllowed;
 import org.openecomp.sdc.be.components.impl.artifact.ArtifactOperationInfo;
 import org.openecomp.sdc.be.config.BeEcompErrorManager;
+import org.openecomp.sdc.be.dao.cassandra.ArtifactContent;
 import org.openecomp.sdc.be.dao.api.ActionStatus;
 import org.openecomp.sdc.be.datatypes.enums.ComponentTypeEnum;
 import org.openecomp.sdc.be.impl.ComponentsUtils;
@@ -687,18 +695,27 @@ public class ArtifactServlet extends BeGenericServlet {
     private Response handleDownloadRequest(HttpServletRequest request, String componentId, String artifactId, String parentId,
                                            ComponentTypeEnum componentType, String containerComponentType) {
         String userId = request.getHeader(Constants.USER_ID_HEADER);
-        ImmutablePair<String, byte[]> actionResult = artifactsBusinessLogic
+        ImmutablePair<String, ArtifactContent> actionResult = artifactsBusinessLogic
             .handleDownloadRequestById(componentId, artifactId, userId, componentType, parentId, containerComponentType);
-        Response response;
-        byte[] file = actionResult.getRight();
-        String base64Contents = new String(Base64.encodeBase64(file));
-        String artifactName = actionResult.getLeft();
         ResponseFormat responseFormat = getComponentsUtils().getResponseFormat(ActionStatus.OK);
-        ArtifactUiDownloadData artifactUiDownloadData = new ArtifactUiDownloadData();
-        artifactUiDownloadData.setArtifactName(artifactName);
-        artifactUiDownloadData.setBase64Contents(base64Contents);
-        response = buildOkResponse(responseFormat, artifactUiDownloadData);
-        return response;
+        return buildOkResponse(responseFormat, streamUiDownloadData(actionResult.getLeft(), actionResult.getRight()));
+    }
+
+    /**
+     * Writes the {@link ArtifactUiDownloadData} json, encoding the payload while it is read instead of building the base64 string in memory
+     */
+    private static StreamingOutput streamUiDownloadData(String artifactName, ArtifactContent content) {
+        return output -> {
+            String head = "{\"artifactName\":" + JSONValue.toJSONString(artifactName) + ",\"base64Contents\":\"";
+            output.write(head.getBytes(StandardCharsets.UTF_8));
+            // the base64 stream is closed to flush its last block, the response stream is closed by the container
+            try (InputStream in = content.openStream();
+                OutputStream base64 = new Base64OutputStream(new CloseShieldOutputStream(output), true, 0, null)) {
+                IOUtils.copy(in, base64);
+            }
+            output.write("\"}".getBytes(StandardCharsets.UTF_8));
+            output.flush();
+        };
     }
 
     private Response handleGetArtifactsRequest(HttpServletRequest request, String componentId, String parentId, String artifactGroupType,
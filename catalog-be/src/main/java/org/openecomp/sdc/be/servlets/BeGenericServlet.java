@@ -28,6 +28,7 @@ import com.google.gson.GsonBuilder;
 import com.google.gson.reflect.TypeToken;
 import fj.data.Either;
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Type;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -35,13 +36,17 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import javax.servlet.ServletContext;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.ResponseBuilder;
+import javax.ws.rs.core.StreamingOutput;
+import org.apache.commons.io.IOUtils;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
 import org.json.simple.parser.JSONParser;
@@ -59,6 +64,7 @@ import org.openecomp.sdc.be.components.impl.ServiceBusinessLogic;
 import org.openecomp.sdc.be.components.impl.exceptions.ByActionStatusComponentException;
 import org.openecomp.sdc.be.components.impl.exceptions.ComponentException;
 import org.openecomp.sdc.be.config.BeEcompErrorManager;
+import org.openecomp.sdc.be.dao.cassandra.ArtifactContent;
 import org.openecomp.sdc.be.dao.api.ActionStatus;
 import org.openecomp.sdc.be.datatypes.enums.ComponentTypeEnum;
 import org.openecomp.sdc.be.datatypes.enums.DeclarationTypeEnum;
@@ -148,6 +154,58 @@ public class BeGenericServlet extends BasicServlet {
         return responseBuilder.build();
     }
 
+    /**
+     * Streams the payload of an artifact, or the single range of it requested by the Range header. The MD5 header is only set when the whole
+     * payload is returned.
+     *
+     * @param audit called with the outcome of the download, once the payload was written to the client
+     */
+    protected Response buildArtifactContentResponse(ResponseFormat responseFormat, ArtifactContent content, String rangeHeader,
+                                                    Map<String, String> additionalHeaders, Consumer<ResponseFormat> audit) {
+        Map<String, String> headers = new HashMap<>(additionalHeaders);
+        headers.put(Constants.ACCEPT_RANGES_HEADER, ByteRange.BYTES_UNIT);
+        Optional<ByteRange> range = ByteRange.parse(rangeHeader, content.getSize());
+        if (range.isEmpty()) {
+            headers.put(Constants.MD5_HEADER, content.getChecksum());
+            return buildOkResponse(responseFormat, streamContent(content.openStream(), responseFormat, audit), headers);
+        }
+        ByteRange byteRange = range.get();
+        ResponseBuilder responseBuilder;
+        if (byteRange.isSatisfiable()) {
+            responseBuilder = Response.status(Response.Status.PARTIAL_CONTENT)
+                .entity(streamContent(content.openStream(byteRange.getOffset(), byteRange.getLength()), responseFormat, audit));
+            headers.put(Constants.CONTENT_LENGTH_HEADER, String.valueOf(byteRange.getLength()));
+        } else {
+            responseBuilder = Response.status(Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE);
+            audit.accept(responseFormat);
+        }
+        headers.put(Constants.CONTENT_RANGE_HEADER, byteRange.toContentRange(content.getSize()));
+        headers.forEach(responseBuilder::header);
+        return responseBuilder.build();
+    }
+
+    /**
+     * The outcome of a download is only known once the payload was written, so it is audited then: with the given response format when the
+     * whole payload was written, as a general error when reading the payload or writing it to the client failed midway.
+     *
+     * @param content        the payload, closed once written
+     * @param responseFormat the response format of a successful download
+     * @param audit          called with the outcome of the download
+     */
+    protected StreamingOutput streamContent(InputStream content, ResponseFormat responseFormat, Consumer<ResponseFormat> audit) {
+        return output -> {
+            try (InputStream in = content) {
+                IOUtils.copy(in, output);
+                output.flush();
+            } catch (IOException | RuntimeException e) {
+                log.debug("Failed to stream the payload to the client", e);
+                audit.accept(getComponentsUtils().getResponseFormat(ActionStatus.GENERAL_ERROR));
+                throw e;
+            }
+            audit.accept(responseFormat);
+        };
+    }
+
     /*******************************************************************************************************/
     protected Either<User, ResponseFormat> getUser(final HttpServletRequest request, String userId) {
         User user;
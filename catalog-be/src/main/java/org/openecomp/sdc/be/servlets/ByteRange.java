@@ -0,0 +1,111 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.servlets;
+
+import java.util.Optional;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Single byte range requested by an HTTP Range header. Multiple ranges and malformed headers are ignored, so that the whole payload is served.
+ */
+public final class ByteRange {
+
+    static final String BYTES_UNIT = "bytes";
+    private static final String RANGE_PREFIX = BYTES_UNIT + "=";
+    private final long offset;
+    private final long length;
+    private final boolean satisfiable;
+
+    private ByteRange(long offset, long length, boolean satisfiable) {
+        this.offset = offset;
+        this.length = length;
+        this.satisfiable = satisfiable;
+    }
+
+    /**
+     * @param rangeHeader the value of the Range header, may be null
+     * @param size        the size of the payload
+     * @return the requested range, empty if the whole payload should be served
+     */
+    public static Optional<ByteRange> parse(String rangeHeader, long size) {
+        if (StringUtils.isBlank(rangeHeader) || !rangeHeader.trim().startsWith(RANGE_PREFIX) || rangeHeader.contains(",")) {
+            return Optional.empty();
+        }
+        String spec = rangeHeader.trim().substring(RANGE_PREFIX.length());
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return Optional.empty();
+        }
+        String first = spec.substring(0, dash).trim();
+        String last = spec.substring(dash + 1).trim();
+        try {
+            if (first.isEmpty()) {
+                // suffix range, the last bytes of the payload
+                if (last.isEmpty()) {
+                    return Optional.empty();
+                }
+                long suffixLength = Long.parseLong(last);
+                if (suffixLength <= 0 || size == 0) {
+                    return Optional.of(unsatisfiable());
+                }
+                long length = Math.min(suffixLength, size);
+                return Optional.of(new ByteRange(size - length, length, true));
+            }
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? size - 1 : Long.parseLong(last);
+            if (start < 0 || end < start) {
+                return Optional.empty();
+            }
+            if (start >= size) {
+                return Optional.of(unsatisfiable());
+            }
+            end = Math.min(end, size - 1);
+            return Optional.of(new ByteRange(start, end - start + 1, true));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static ByteRange unsatisfiable() {
+        return new ByteRange(0, 0, false);
+    }
+
+    public long getOffset() {
+        return offset;
+    }
+
+    public long getLength() {
+        return length;
+    }
+
+    public boolean isSatisfiable() {
+        return satisfiable;
+    }
+
+    /**
+     * @return the value of the Content-Range header answering this range
+     */
+    public String toContentRange(long size) {
+        if (!satisfiable) {
+            return BYTES_UNIT + " */" + size;
+        }
+        return BYTES_UNIT + " " + offset + "-" + (offset + length - 1) + "/" + size;
+    }
+}
@@ -38,6 +38,7 @@ import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
@@ -543,23 +544,31 @@ public class ElementServlet extends BeGenericServlet {
     @Operation(description = "Retrieve catalog resources and services", method = "GET", summary = "Retrieve catalog resources and services", responses = {
         @ApiResponse(content = @Content(array = @ArraySchema(schema = @Schema(implementation = User.class)))),
         @ApiResponse(responseCode = "200", description = "Returns resources and services Ok"),
+        @ApiResponse(responseCode = "304", description = "Resources and services did not change since the given ETag"),
         @ApiResponse(responseCode = "404", description = "No resources and services were found"),
         @ApiResponse(responseCode = "404", description = "User not found"),
         @ApiResponse(responseCode = "500", description = "Internal Server Error")})
     @PermissionAllowed(AafPermission.PermNames.INTERNAL_ALL_VALUE)
     public Response getCatalogComponents(@Context final HttpServletRequest request, @HeaderParam(value = Constants.USER_ID_HEADER) String userId,
+                                         @HeaderParam(value = HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
                                          @QueryParam("excludeTypes") List<OriginTypeEnum> excludeTypes) throws IOException {
         try {
             String url = request.getMethod() + " " + request.getRequestURI();
             log.debug(START_HANDLE_REQUEST_OF, url);
-            Either<Map<String, List<CatalogComponent>>, ResponseFormat> catalogData = getElementBL(request.getSession().getServletContext())
-                .getCatalogComponents(userId, excludeTypes);
+            ElementBusinessLogic elementBL = getElementBL(request.getSession().getServletContext());
+            Either<String, ResponseFormat> eTag = elementBL.getCatalogComponentsETag(userId, excludeTypes);
+            if (eTag.isLeft() && isETagMatching(ifNoneMatch, eTag.left().value())) {
+                log.debug("catalog data was not modified since {}", ifNoneMatch);
+                return Response.notModified().header(HttpHeaders.ETAG, eTag.left().value()).build();
+            }
+            Either<Map<String, List<CatalogComponent>>, ResponseFormat> catalogData = elementBL.getCatalogComponents(userId, excludeTypes);
             if (catalogData.isRight()) {
                 log.debug("failed to get catalog data");
                 return buildErrorResponse(catalogData.right().value());
             }
             Object data = RepresentationUtils.toRepresentation(catalogData.left().value());
-            return buildOkResponse(getComponentsUtils().getResponseFormat(ActionStatus.OK), data);
+            Map<String, String> headers = eTag.isLeft() ? Map.of(HttpHeaders.ETAG, eTag.left().value()) : null;
+            return buildOkResponse(getComponentsUtils().getResponseFormat(ActionStatus.OK), data, headers);
         } catch (Exception e) {
             BeEcompErrorManager.getInstance().logBeRestApiGeneralError("Get Catalog Components");
             log.debug("Getting catalog components failed with exception", e);
@@ -567,6 +576,19 @@ public class ElementServlet extends BeGenericServlet {
         }
     }
 
+    private boolean isETagMatching(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || trimmed.equals(eTag) || trimmed.equals("W/" + eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @DELETE
     @Path("/inactiveComponents/{componentType}")
     @PermissionAllowed(AafPermission.PermNames.INTERNAL_ALL_VALUE)
@@ -21,6 +21,7 @@ package org.openecomp.sdc.be.servlets;
 
 import com.fasterxml.jackson.annotation.JsonFilter;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -37,6 +38,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import javax.ws.rs.core.StreamingOutput;
 import org.apache.commons.lang3.StringUtils;
 import org.openecomp.sdc.be.components.impl.exceptions.ByActionStatusComponentException;
 import org.openecomp.sdc.be.components.impl.exceptions.ComponentException;
@@ -104,6 +106,26 @@ public class RepresentationUtils {
         return mapper.writeValueAsString(elementToRepresent);
     }
 
+    /**
+     * Build Representation of given elements as a JSON array written to the response one element at a time, the elements being read from the
+     * iterable while writing, so neither the whole representation nor the whole list of elements needs to be held in memory
+     */
+    public static <T> StreamingOutput toStreamingRepresentation(Iterable<T> elementsToRepresent) {
+        return output -> {
+            ObjectMapper mapper = new ObjectMapper();
+            mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+            mapper.configure(SerializationFeature.FLUSH_AFTER_WRITE_VALUE, false);
+            mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+            try (JsonGenerator generator = mapper.getFactory().createGenerator(output)) {
+                generator.writeStartArray();
+                for (T element : elementsToRepresent) {
+                    mapper.writeValue(generator, element);
+                }
+                generator.writeEndArray();
+            }
+        };
+    }
+
     public static <T> T fromRepresentation(String json, Class<T> clazz) {
         ObjectMapper mapper = new ObjectMapper();
         T object = null;
@@ -31,7 +31,10 @@ import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -53,7 +56,6 @@ import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
@@ -62,7 +64,9 @@ import lombok.Setter;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.io.output.ByteArrayOutputStream;
+import org.apache.commons.io.output.CloseShieldOutputStream;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.ImmutableTriple;
@@ -77,6 +81,7 @@ import org.openecomp.sdc.be.config.ComponentType;
 import org.openecomp.sdc.be.config.ConfigurationManager;
 import org.openecomp.sdc.be.dao.api.ActionStatus;
 import org.openecomp.sdc.be.dao.cassandra.ArtifactCassandraDao;
+import org.openecomp.sdc.be.dao.cassandra.ArtifactContent;
 import org.openecomp.sdc.be.dao.cassandra.CassandraOperationStatus;
 import org.openecomp.sdc.be.dao.cassandra.SdcSchemaFilesCassandraDao;
 import org.openecomp.sdc.be.data.model.ToscaImportByModel;
@@ -92,6 +97,8 @@ import org.openecomp.sdc.be.model.InterfaceDefinition;
 import org.openecomp.sdc.be.model.LifecycleStateEnum;
 import org.openecomp.sdc.be.model.Resource;
 import org.openecomp.sdc.be.model.Service;
+import org.openecomp.sdc.be.model.cache.CertifiedComponentCache;
+import org.openecomp.sdc.be.model.cache.CertifiedComponentCache.ComponentView;
 import org.openecomp.sdc.be.model.jsonjanusgraph.operations.ToscaOperationFacade;
 import org.openecomp.sdc.be.model.jsonjanusgraph.utils.ModelConverter;
 import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
@@ -160,6 +167,8 @@ public class CsarUtils {
         ARTIFACTS + DEL_PATTERN + ImportUtils.Constants.USER_DEFINED_RESOURCE_NAMESPACE_PREFIX + VALID_ENGLISH_ARTIFACT_NAME_WITH_DIGITS + DEL_PATTERN
             + VALID_ENGLISH_ARTIFACT_NAME_WITH_DIGITS + DEL_PATTERN + VALID_ENGLISH_ARTIFACT_NAME_WITH_DIGITS + DEL_PATTERN
             + VALID_ENGLISH_ARTIFACT_NAME_WITH_DIGITS;
+    private static final String CSAR_TEMP_FILE_PREFIX = "sdc-csar-";
+    private static final String CSAR_TEMP_FILE_SUFFIX = ".csar";
     private static final String BLOCK_0_TEMPLATE = "SDC-TOSCA-Meta-File-Version: %s\nSDC-TOSCA-Definitions-Version: %s\n";
 
     private final ToscaOperationFacade toscaOperationFacade;
@@ -170,6 +179,7 @@ public class CsarUtils {
     private final List<CsarEntryGenerator> generators;
     private final ModelOperation modelOperation;
     private final String versionFirstThreeOctets;
+    private CertifiedComponentCache certifiedComponentCache;
 
     @Autowired
     public CsarUtils(final ToscaOperationFacade toscaOperationFacade, final SdcSchemaFilesCassandraDao sdcSchemaFilesCassandraDao,
@@ -185,6 +195,21 @@ public class CsarUtils {
         this.versionFirstThreeOctets = readVersionFirstThreeOctets();
     }
 
+    @Autowired(required = false)
+    public void setCertifiedComponentCache(final CertifiedComponentCache certifiedComponentCache) {
+        this.certifiedComponentCache = certifiedComponentCache;
+    }
+
+    /**
+     * Reads a component instance origin, certified origins being shared with the other exports.
+     */
+    private <T extends Component> Either<T, StorageOperationStatus> getToscaElement(final String uniqueId) {
+        if (certifiedComponentCache == null) {
+            return toscaOperationFacade.getToscaElement(uniqueId);
+        }
+        return certifiedComponentCache.getComponent(uniqueId, ComponentView.ALL, () -> toscaOperationFacade.<T>getToscaElement(uniqueId));
+    }
+
     private String readVersionFirstThreeOctets() {
         if (StringUtils.isEmpty(SDC_VERSION)) {
             return "";
@@ -369,6 +394,49 @@ public class CsarUtils {
      * @return
      */
     public Either<byte[], ResponseFormat> createCsar(Component component, boolean getFromCS, boolean isInCertificationRequest) {
+        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            return writeCsar(component, getFromCS, isInCertificationRequest, out).left().map(written -> out.toByteArray());
+        } catch (IOException e) {
+            log.debug("Failed with IOexception to create CSAR zip for component {}", component.getUniqueId(), e);
+            return Either.right(componentsUtils.getResponseFormat(ActionStatus.GENERAL_ERROR));
+        }
+    }
+
+    /**
+     * Writes the CSAR of the component to a temporary file, so that the whole package is never held in memory. The caller owns the returned file
+     * and must delete it once consumed.
+     */
+    public Either<Path, ResponseFormat> createCsarFile(Component component, boolean getFromCS, boolean isInCertificationRequest) {
+        Path csarFile = null;
+        try {
+            csarFile = Files.createTempFile(CSAR_TEMP_FILE_PREFIX, CSAR_TEMP_FILE_SUFFIX);
+            Either<Boolean, ResponseFormat> result;
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(csarFile))) {
+                result = writeCsar(component, getFromCS, isInCertificationRequest, out);
+            }
+            if (result.isRight()) {
+                Files.deleteIfExists(csarFile);
+                return Either.right(result.right().value());
+            }
+            return Either.left(csarFile);
+        } catch (IOException e) {
+            log.debug("Failed with IOexception to write CSAR file for component {}", component.getUniqueId(), e);
+            deleteQuietly(csarFile);
+            return Either.right(componentsUtils.getResponseFormat(ActionStatus.GENERAL_ERROR));
+        }
+    }
+
+    /**
+     * Streams the CSAR of the component to the given output stream, one zip entry at a time. Artifact payloads are fetched when their entry is
+     * written and released right after, so the memory used is bounded by the largest entry. The output stream is not closed.
+     *
+     * @param component
+     * @param getFromCS
+     * @param isInCertificationRequest
+     * @param out                      the stream receiving the CSAR zip
+     * @return true when the whole CSAR was written
+     */
+    public Either<Boolean, ResponseFormat> writeCsar(Component component, boolean getFromCS, boolean isInCertificationRequest, OutputStream out) {
         loggerSupportability
             .log(LoggerSupportabilityActions.GENERATE_CSAR, StatusCode.STARTED, "Starting to create Csar for component {} ", component.getName());
         final String createdBy = component.getCreatorFullName();
@@ -381,16 +449,16 @@ public class CsarUtils {
         byte[] csarBlock0Byte = csarBlock0.getBytes();
         final String toscaBlock0 = createToscaBlock0(TOSCA_META_VERSION, CSAR_VERSION, createdBy, fileName);
         byte[] toscaBlock0Byte = toscaBlock0.getBytes();
-        return generateCsarZip(csarBlock0Byte, toscaBlock0Byte, component, getFromCS, isInCertificationRequest).left().map(responseFormat -> {
+        return generateCsarZip(csarBlock0Byte, toscaBlock0Byte, component, getFromCS, isInCertificationRequest, out).left().map(responseFormat -> {
             loggerSupportability
                 .log(LoggerSupportabilityActions.GENERATE_CSAR, StatusCode.COMPLETE, "Ended create Csar for component {} ", component.getName());
             return responseFormat;
         });
     }
 
-    private Either<byte[], ResponseFormat> generateCsarZip(byte[] csarBlock0Byte, byte[] toscaBlock0Byte, Component component, boolean getFromCS,
-                                                           boolean isInCertificationRequest) {
-        try (ByteArrayOutputStream out = new ByteArrayOutputStream(); ZipOutputStream zip = new ZipOutputStream(out)) {
+    private Either<Boolean, ResponseFormat> generateCsarZip(byte[] csarBlock0Byte, byte[] toscaBlock0Byte, Component component, boolean getFromCS,
+                                                            boolean isInCertificationRequest, OutputStream out) {
+        try (ZipOutputStream zip = new ZipOutputStream(new CloseShieldOutputStream(out))) {
             zip.putNextEntry(new ZipEntry(CSAR_META_PATH_FILE_NAME));
             zip.write(csarBlock0Byte);
             zip.putNextEntry(new ZipEntry(TOSCA_META_PATH_FILE_NAME));
@@ -401,8 +469,7 @@ public class CsarUtils {
                 return Either.right(populateZip.right().value());
             }
             zip.finish();
-            byte[] byteArray = out.toByteArray();
-            return Either.left(byteArray);
+            return Either.left(true);
         } catch (IOException e) {
             log.debug("Failed with IOexception to create CSAR zip for component {}. Please fix DB table accordingly ", component.getUniqueId(), e);
             ResponseFormat responseFormat = componentsUtils.getResponseFormat(ActionStatus.GENERAL_ERROR);
@@ -615,7 +682,7 @@ public class CsarUtils {
             for (Triple<String, String, Component> d : dependencies) {
                 String cassandraId = d.getMiddle();
                 Component childComponent = d.getRight();
-                Either<byte[], ResponseFormat> entryData = getEntryData(cassandraId, childComponent).right()
+                Either<ArtifactContent, ResponseFormat> entryData = getEntryData(cassandraId, childComponent).right()
                     .map(x -> componentsUtils.getResponseFormat(x));
                 if (entryData.isRight()) {
                     return Either.right(entryData.right().value());
@@ -637,16 +704,16 @@ public class CsarUtils {
             Component innerComponent = ict.getRight();
             String icFileName = ict.getMiddle();
             // add component to zip
-            Either<Tuple2<byte[], ZipEntry>, ResponseFormat> zipEntry = toZipEntry(ict);
+            Either<Tuple2<ArtifactContent, ZipEntry>, ResponseFormat> zipEntry = toZipEntry(ict);
             // TODO: this should not be done, we should instead compose this either further,
 
             // but in order to keep this refactoring small, we'll stop here.
             if (zipEntry.isRight()) {
                 return Either.right(zipEntry.right().value());
             }
-            Tuple2<byte[], ZipEntry> value = zipEntry.left().value();
+            Tuple2<ArtifactContent, ZipEntry> value = zipEntry.left().value();
             zip.putNextEntry(value._2);
-            zip.write(value._1);
+            copyPayload(value._1, zip);
             // add component interface to zip
             if (!ModelConverter.isAtomicComponent(innerComponent)) {
                 writeComponentInterface(innerComponent, zip, icFileName, true);
@@ -655,7 +722,7 @@ public class CsarUtils {
         return null;
     }
 
-    private Either<Tuple2<byte[], ZipEntry>, ResponseFormat> toZipEntry(ImmutableTriple<String, String, Component> cachedEntry) {
+    private Either<Tuple2<ArtifactContent, ZipEntry>, ResponseFormat> toZipEntry(ImmutableTriple<String, String, Component> cachedEntry) {
         String cassandraId = cachedEntry.getLeft();
         String fileName = cachedEntry.getMiddle();
         Component innerComponent = cachedEntry.getRight();
@@ -673,31 +740,24 @@ public class CsarUtils {
      * @param nodesFromPackage list of all nodes found on the onboarded package
      */
     private void addSchemaFilesFromCassandra(final ZipOutputStream zipOutputStream, final byte[] schemaFileZip, final List<String> nodesFromPackage) {
-        final int initSize = 2048;
         log.debug("Starting copy from Schema file zip to CSAR zip");
         try (final ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(
-            schemaFileZip)); final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(); final BufferedOutputStream bufferedOutputStream = new BufferedOutputStream(
-            byteArrayOutputStream, initSize)) {
+            schemaFileZip)); final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream()) {
             ZipEntry entry;
             while ((entry = zipInputStream.getNextEntry()) != null) {
                 ZipUtils.checkForZipSlipInRead(entry);
                 final String entryName = entry.getName();
-                int readSize = initSize;
-                final byte[] entryData = new byte[initSize];
                 if (shouldZipEntryBeHandled(entryName)) {
+                    zipOutputStream.putNextEntry(new ZipEntry(DEFINITIONS_PATH + entryName));
                     if (NODES_YML.equalsIgnoreCase(entryName)) {
                         handleNode(zipInputStream, byteArrayOutputStream, nodesFromPackage);
+                        zipOutputStream.write(byteArrayOutputStream.toByteArray());
+                        byteArrayOutputStream.reset();
                     } else {
-                        while ((readSize = zipInputStream.read(entryData, 0, readSize)) != -1) {
-                            bufferedOutputStream.write(entryData, 0, readSize);
-                        }
-                        bufferedOutputStream.flush();
+                        // copied as it is read, without buffering the whole entry
+                        zipInputStream.transferTo(zipOutputStream);
                     }
-                    byteArrayOutputStream.flush();
-                    zipOutputStream.putNextEntry(new ZipEntry(DEFINITIONS_PATH + entryName));
-                    zipOutputStream.write(byteArrayOutputStream.toByteArray());
                     zipOutputStream.flush();
-                    byteArrayOutputStream.reset();
                 }
             }
         } catch (final Exception e) {
@@ -735,7 +795,7 @@ public class CsarUtils {
     private void addInnerComponentsToCache(ComponentCache componentCache, Component childComponent) {
         javaListToVavrList(childComponent.getComponentInstances()).filter(ci -> componentCache.notCached(ci.getComponentUid())).forEach(ci -> {
             // all resource must be only once!
-            Either<Resource, StorageOperationStatus> resource = toscaOperationFacade.getToscaElement(ci.getComponentUid());
+            Either<Resource, StorageOperationStatus> resource = getToscaElement(ci.getComponentUid());
             Component componentRI = checkAndAddComponent(componentCache, ci, resource);
             //if not atomic - insert inner components as well
 
@@ -796,12 +856,15 @@ public class CsarUtils {
         return fromEither(yml, ToscaErrorException::new).flatMap(zw.write(DEFINITIONS_PATH + ToscaExportHandler.getInterfaceFilename(fileName)));
     }
 
-    private Either<byte[], ActionStatus> getEntryData(String cassandraId, Component childComponent) {
+    /**
+     * A payload stored in cassandra is only read while it is copied to its entry
+     */
+    private Either<ArtifactContent, ActionStatus> getEntryData(String cassandraId, Component childComponent) {
         if (cassandraId == null || cassandraId.isEmpty()) {
             return toscaExportUtils.exportComponent(childComponent).right().map(toscaErrorToActionStatus(childComponent)).left()
-                .map(ToscaRepresentation::getMainYaml);
+                .map(toscaRepresentation -> ArtifactContent.of(toscaRepresentation.getMainYaml()));
         } else {
-            return getFromCassandra(cassandraId);
+            return getContentFromCassandra(cassandraId);
         }
     }
 
@@ -866,6 +929,31 @@ public class CsarUtils {
         }).left().map(DAOArtifactData::getDataAsArray);
     }
 
+    private Either<ArtifactContent, ActionStatus> getContentFromCassandra(String cassandraId) {
+        return artifactCassandraDao.getArtifactContent(cassandraId).right().map(cos -> {
+            log.debug("Failed to fetch artifact from Cassandra by id {} error {} ", cassandraId, cos);
+            StorageOperationStatus storageStatus = DaoStatusConverter.convertCassandraStatusToStorageStatus(cos);
+            return componentsUtils.convertFromStorageResponse(storageStatus);
+        });
+    }
+
+    private void copyPayload(ArtifactContent payload, ZipOutputStream zip) throws IOException {
+        try (InputStream in = payload.openStream()) {
+            IOUtils.copy(in, zip);
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete temporary CSAR file {}", file, e);
+        }
+    }
+
     private String createCsarBlock0(String metaFileVersion, String toscaConformanceLevel) {
         return String.format(BLOCK_0_TEMPLATE, metaFileVersion, toscaConformanceLevel);
     }
@@ -932,7 +1020,7 @@ public class CsarUtils {
                     if (artifactUUID == null) {
                         continue;
                     }
-                    final Either<byte[], ActionStatus> artifactFromCassandra = getFromCassandra(artifactUUID);
+                    final Either<ArtifactContent, ActionStatus> artifactFromCassandra = getContentFromCassandra(artifactUUID);
                     final String artifactName = operation.getImplementation().getArtifactName();
                     if (artifactFromCassandra.isRight()) {
                         log.error(ARTIFACT_NAME_UNIQUE_ID, artifactName, artifactUUID);
@@ -941,9 +1029,8 @@ public class CsarUtils {
                             .getResponseFormat(ActionStatus.ARTIFACT_PAYLOAD_NOT_FOUND_DURING_CSAR_CREATION, "Resource", component.getUniqueId(),
                                 artifactName, artifactUUID));
                     }
-                    final byte[] payloadData = artifactFromCassandra.left().value();
                     zipstream.putNextEntry(new ZipEntry(OperationArtifactUtil.createOperationArtifactPath(component, null, operation, true)));
-                    zipstream.write(payloadData);
+                    copyPayload(artifactFromCassandra.left().value(), zipstream);
                 } catch (IOException e) {
                     log.error("Component Name {},  Interface Name {}, Operation Name {}", component.getNormalizedName(), interfaceEntry.getKey(),
                         operation.getName());
@@ -1038,41 +1125,36 @@ public class CsarUtils {
                 // TODO: We should not do this but in order to keep this refactoring small enough,
 
                 // we'll leave this as is for now
-                List<ArtifactDefinition> collect = filterArtifactDefinitionToZip(mainComponent, artifactDefinitionList, isInCertificationRequest)
-                    .collect(Collectors.toList());
+                List<ArtifactDefinition> collect = artifactDefinitionList.stream()
+                    .filter(shouldBeInZip(isInCertificationRequest, mainComponent)).collect(Collectors.toList());
                 for (ArtifactDefinition ad : collect) {
-                    zip.putNextEntry(new ZipEntry(artifactTypeFolder + ad.getArtifactName()));
-                    zip.write(ad.getPayloadData());
+                    // the payload is not kept on the artifact definition, it is read from cassandra while it is copied to its entry
+                    Either<ArtifactContent, ActionStatus> payloadData = fetchPayLoadData(ad);
+                    if (payloadData.isLeft()) {
+                        zip.putNextEntry(new ZipEntry(artifactTypeFolder + ad.getArtifactName()));
+                        copyPayload(payloadData.left().value(), zip);
+                    }
                 }
             }
         }
         return Either.left(zip);
     }
 
-    private Stream<ArtifactDefinition> filterArtifactDefinitionToZip(Component mainComponent, List<ArtifactDefinition> artifactDefinitionList,
-                                                                     boolean isInCertificationRequest) {
-        return artifactDefinitionList.stream().filter(shouldBeInZip(isInCertificationRequest, mainComponent)).map(this::fetchPayLoadData)
-            .filter(Either::isLeft).map(e -> e.left().value());
-    }
-
     private Predicate<ArtifactDefinition> shouldBeInZip(boolean isInCertificationRequest, Component component) {
         return artifactDefinition -> !(!isInCertificationRequest && component.isService() && artifactDefinition.isHeatEnvType() || artifactDefinition
             .hasNoMandatoryEsId());
     }
 
-    private Either<ArtifactDefinition, ActionStatus> fetchPayLoadData(ArtifactDefinition ad) {
+    private Either<ArtifactContent, ActionStatus> fetchPayLoadData(ArtifactDefinition ad) {
         byte[] payloadData = ad.getPayloadData();
         if (payloadData == null) {
-            return getFromCassandra(ad.getEsId()).left().map(pd -> {
-                ad.setPayload(pd);
-                return ad;
-            }).right().map(as -> {
+            return getContentFromCassandra(ad.getEsId()).right().map(as -> {
                 log.debug(ARTIFACT_NAME_UNIQUE_ID, ad.getArtifactName(), ad.getUniqueId());
                 log.debug("Failed to get {} payload from DB reason: {}", ad.getArtifactName(), as);
                 return as;
             });
         } else {
-            return Either.left(ad);
+            return Either.left(ArtifactContent.of(payloadData));
         }
     }
 
@@ -1190,7 +1272,7 @@ public class CsarUtils {
         } else {
             componentUid = componentInstance.getComponentUid();
         }
-        Either<Component, StorageOperationStatus> component = toscaOperationFacade.getToscaElement(componentUid);
+        Either<Component, StorageOperationStatus> component = getToscaElement(componentUid);
         if (component.isRight()) {
             log.error("Failed to fetch resource with id {} for instance {}", componentUid, parentComponent.getUUID());
             return Either.right(componentsUtils.getResponseFormat(ActionStatus.ASSET_NOT_FOUND_DURING_CSAR_CREATION,
@@ -64,6 +64,7 @@ import org.openecomp.sdc.be.datatypes.elements.AttributeDataDefinition;
 import org.openecomp.sdc.be.datatypes.elements.CINodeFilterDataDefinition;
 import org.openecomp.sdc.be.datatypes.elements.InterfaceDataDefinition;
 import org.openecomp.sdc.be.datatypes.elements.ListDataDefinition;
+import org.openecomp.sdc.be.datatypes.elements.OperationDataDefinition;
 import org.openecomp.sdc.be.datatypes.elements.PropertyDataDefinition;
 import org.openecomp.sdc.be.datatypes.elements.RequirementNodeFilterCapabilityDataDefinition;
 import org.openecomp.sdc.be.datatypes.elements.RequirementNodeFilterPropertyDataDefinition;
@@ -97,6 +98,8 @@ import org.openecomp.sdc.be.model.RequirementDefinition;
 import org.openecomp.sdc.be.model.Resource;
 import org.openecomp.sdc.be.model.Service;
 import org.openecomp.sdc.be.model.cache.ApplicationDataTypeCache;
+import org.openecomp.sdc.be.model.cache.CertifiedComponentCache;
+import org.openecomp.sdc.be.model.cache.CertifiedComponentCache.ComponentView;
 import org.openecomp.sdc.be.model.category.CategoryDefinition;
 import org.openecomp.sdc.be.model.jsonjanusgraph.operations.ToscaOperationFacade;
 import org.openecomp.sdc.be.model.jsonjanusgraph.utils.ModelConverter;
@@ -171,6 +174,7 @@ public class ToscaExportHandler {
     private final InterfaceLifecycleOperation interfaceLifecycleOperation;
     private final InterfacesOperationsConverter interfacesOperationsConverter;
     private final ModelOperation modelOperation;
+    private CertifiedComponentCache certifiedComponentCache;
 
     @Autowired
     public ToscaExportHandler(final ApplicationDataTypeCache applicationDataTypeCache,
@@ -199,16 +203,34 @@ public class ToscaExportHandler {
         this.modelOperation = modelOperation;
     }
 
+    @Autowired(required = false)
+    public void setCertifiedComponentCache(final CertifiedComponentCache certifiedComponentCache) {
+        this.certifiedComponentCache = certifiedComponentCache;
+    }
+
     public static String getInterfaceFilename(String artifactName) {
         return artifactName.substring(0, artifactName.lastIndexOf('.')) + TOSCA_INTERFACE_NAME;
     }
 
-    private static void removeOperationImplementationForProxyNodeType(Map<String, InterfaceDefinition> proxyComponentInterfaces) {
-        if (MapUtils.isEmpty(proxyComponentInterfaces)) {
-            return;
-        }
-        proxyComponentInterfaces.values().stream().map(InterfaceDataDefinition::getOperations).filter(MapUtils::isNotEmpty)
-            .forEach(operations -> operations.values().forEach(operation -> operation.setImplementation(null)));
+    /**
+     * Copies the interfaces without their operation implementations, the proxy component may be shared with other exports and is not modified
+     */
+    private static Map<String, InterfaceDefinition> copyWithoutOperationImplementations(Map<String, InterfaceDefinition> proxyComponentInterfaces) {
+        Map<String, InterfaceDefinition> proxyInterfaces = new HashMap<>();
+        proxyComponentInterfaces.forEach((interfaceName, interfaceDefinition) -> {
+            InterfaceDefinition proxyInterface = new InterfaceDefinition(interfaceDefinition);
+            if (MapUtils.isNotEmpty(interfaceDefinition.getOperations())) {
+                Map<String, OperationDataDefinition> proxyOperations = new HashMap<>();
+                interfaceDefinition.getOperations().forEach((operationName, operation) -> {
+                    OperationDataDefinition proxyOperation = new OperationDataDefinition(operation);
+                    proxyOperation.setImplementation(null);
+                    proxyOperations.put(operationName, proxyOperation);
+                });
+                proxyInterface.setOperations(proxyOperations);
+            }
+            proxyInterfaces.put(interfaceName, proxyInterface);
+        });
+        return proxyInterfaces;
     }
 
     public Either<ToscaRepresentation, ToscaError> exportComponent(Component component) {
@@ -216,6 +238,15 @@ public class ToscaExportHandler {
     }
 
     public Either<ToscaRepresentation, ToscaError> exportComponentInterface(final Component component, final boolean isAssociatedComponent) {
+        if (certifiedComponentCache == null) {
+            return createComponentInterface(component, isAssociatedComponent);
+        }
+        return certifiedComponentCache.getNodeTypeTemplate(component, "interface-" + isAssociatedComponent,
+            () -> createComponentInterface(component, isAssociatedComponent), toscaRepresentation -> toscaRepresentation.getMainYaml().length,
+            ToscaRepresentation::copy);
+    }
+
+    private Either<ToscaRepresentation, ToscaError> createComponentInterface(final Component component, final boolean isAssociatedComponent) {
         final List<Map<String, Map<String, String>>> imports = new ArrayList<>(getDefaultToscaImports(component.getModel()));
         if (CollectionUtils.isEmpty(imports)) {
             log.debug(FAILED_TO_GET_DEFAULT_IMPORTS_CONFIGURATION);
@@ -579,7 +610,7 @@ public class ToscaExportHandler {
         Component componentRI = componentCache.get(componentInstance.getComponentUid());
         if (componentRI == null || componentInstance.getOriginType() == OriginTypeEnum.ServiceSubstitution) {
             // all resource must be only once!
-            final Either<Component, StorageOperationStatus> resource = toscaOperationFacade.getToscaFullElement(componentInstance.getComponentUid());
+            final Either<Component, StorageOperationStatus> resource = getToscaFullElement(componentInstance.getComponentUid());
             if ((resource.isRight()) && (log.isDebugEnabled())) {
                 log.debug("Failed to fetch resource with id {} for instance {}", componentInstance.getComponentUid(),
                     componentInstance.getUniqueId());
@@ -591,6 +622,23 @@ public class ToscaExportHandler {
         }
     }
 
+    /**
+     * Reads a dependency of the exported component, certified dependencies being shared with the other exports.
+     */
+    private Either<Component, StorageOperationStatus> getToscaFullElement(final String uniqueId) {
+        if (certifiedComponentCache == null) {
+            return toscaOperationFacade.getToscaFullElement(uniqueId);
+        }
+        return certifiedComponentCache.getComponent(uniqueId, ComponentView.FULL, () -> toscaOperationFacade.getToscaFullElement(uniqueId));
+    }
+
+    private <T extends Component> Either<T, StorageOperationStatus> getToscaElement(final String uniqueId) {
+        if (certifiedComponentCache == null) {
+            return toscaOperationFacade.getToscaElement(uniqueId);
+        }
+        return certifiedComponentCache.getComponent(uniqueId, ComponentView.ALL, () -> toscaOperationFacade.<T>getToscaElement(uniqueId));
+    }
+
     /**
      * Sets a componentCache from the given component/resource.
      */
@@ -599,8 +647,7 @@ public class ToscaExportHandler {
         componentCache.put(fetchedComponent.getUniqueId(), fetchedComponent);
         if (componentInstance.getOriginType() == OriginTypeEnum.ServiceProxy
             || componentInstance.getOriginType() == OriginTypeEnum.ServiceSubstitution) {
-            final Either<Component, StorageOperationStatus> sourceService = toscaOperationFacade
-                .getToscaFullElement(componentInstance.getSourceModelUid());
+            final Either<Component, StorageOperationStatus> sourceService = getToscaFullElement(componentInstance.getSourceModelUid());
             if (sourceService.isRight() && (log.isDebugEnabled())) {
                 log.debug("Failed to fetch source service with id {} for proxy {}", componentInstance.getSourceModelUid(),
                     componentInstance.getUniqueId());
@@ -625,7 +672,7 @@ public class ToscaExportHandler {
                 derivedFromMapOfIdToName.get().entrySet().forEach(entry -> {
                     log.debug("Started entry.getValue() : {}", entry.getValue());
                     if (!NATIVE_ROOT.equals(entry.getValue())) {
-                        Either<Resource, StorageOperationStatus> resourcefetched = toscaOperationFacade.getToscaElement(entry.getKey());
+                        Either<Resource, StorageOperationStatus> resourcefetched = getToscaElement(entry.getKey());
                         if (resourcefetched != null && resourcefetched.isLeft()) {
                             componentsList.add(resourcefetched.left().value());
                         }
@@ -647,8 +694,7 @@ public class ToscaExportHandler {
         if (CollectionUtils.isNotEmpty(parentResource.getComponentInstances())) {
             componentsList.add(fetchedComponent);
             for (final ComponentInstance componentInstance : parentResource.getComponentInstances()) {
-                final Either<Resource, StorageOperationStatus> resourcefetched = toscaOperationFacade
-                    .getToscaElement(componentInstance.getComponentUid());
+                final Either<Resource, StorageOperationStatus> resourcefetched = getToscaElement(componentInstance.getComponentUid());
                 if (resourcefetched != null && resourcefetched.isLeft()) {
                     final Map<String, String> derivedWithId = resourcefetched.left().value().getDerivedFromMapOfIdToName();
                     if (MapUtils.isNotEmpty(derivedWithId)) {
@@ -744,7 +790,8 @@ public class ToscaExportHandler {
         if (CollectionUtils.isNotEmpty(component.getProperties())) {
             List<PropertyDefinition> properties = component.getProperties();
             Map<String, ToscaProperty> convertedProperties = properties.stream()
-                .map(propertyDefinition -> resolvePropertyValueFromInput(propertyDefinition, component.getInputs())).collect(Collectors
+                .map(propertyDefinition -> resolvePropertyValueFromInput(new PropertyDefinition(propertyDefinition),
+                    component.getInputs())).collect(Collectors
                     .toMap(PropertyDataDefinition::getName,
                         property -> propertyConvertor.convertProperty(dataTypes, property, PropertyConvertor.PropertyType.PROPERTY)));
             // merge component properties and inputs properties
@@ -1652,7 +1699,8 @@ public class ToscaExportHandler {
         addInputsToProperties(dataTypes, proxyComponent.getInputs(), proxyProperties);
         if (CollectionUtils.isNotEmpty(proxyComponent.getProperties())) {
             proxyProperties.putAll(proxyComponent.getProperties().stream()
-                .map(propertyDefinition -> resolvePropertyValueFromInput(propertyDefinition, proxyComponent.getInputs())).collect(Collectors
+                .map(propertyDefinition -> resolvePropertyValueFromInput(new PropertyDefinition(propertyDefinition),
+                    proxyComponent.getInputs())).collect(Collectors
                     .toMap(PropertyDataDefinition::getName,
                         property -> propertyConvertor.convertProperty(dataTypes, property, PropertyConvertor.PropertyType.PROPERTY))));
         }
@@ -1674,11 +1722,10 @@ public class ToscaExportHandler {
         if (Objects.isNull(proxyComponent) || MapUtils.isEmpty(proxyComponent.getInterfaces())) {
             return Optional.empty();
         }
-        Map<String, InterfaceDefinition> proxyComponentInterfaces = proxyComponent.getInterfaces();
         //Unset artifact path for operation implementation for proxy node types as for operations with artifacts it is
 
         // always available in the proxy node template
-        removeOperationImplementationForProxyNodeType(proxyComponentInterfaces);
+        Map<String, InterfaceDefinition> proxyComponentInterfaces = copyWithoutOperationImplementations(proxyComponent.getInterfaces());
         return Optional
             .ofNullable(interfacesOperationsConverter.getInterfacesMap(proxyComponent, null, proxyComponentInterfaces, dataTypes, false, false));
     }
@@ -20,6 +20,7 @@
 package org.openecomp.sdc.be.tosca;
 
 import io.vavr.control.Option;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.Getter;
 import org.apache.commons.lang3.tuple.Triple;
@@ -49,4 +50,12 @@ public class ToscaRepresentation {
     public static ToscaRepresentation make(byte[] mainYaml, ToscaTemplate tt) {
         return new ToscaRepresentation(mainYaml, Option.of(tt.getDependencies()));
     }
+
+    /**
+     * @return a copy with its own yaml and dependency list, the dependency components being shared
+     */
+    public ToscaRepresentation copy() {
+        return new ToscaRepresentation(mainYaml == null ? null : mainYaml.clone(),
+            dependencies.map(dependencyList -> new ArrayList<>(dependencyList)));
+    }
 }
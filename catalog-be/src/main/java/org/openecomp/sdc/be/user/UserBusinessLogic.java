@@ -23,6 +23,7 @@ import static org.openecomp.sdc.be.resources.data.auditing.AuditingActionEnum.AD
 import static org.openecomp.sdc.be.resources.data.auditing.AuditingActionEnum.GET_USERS_LIST;
 import static org.openecomp.sdc.be.resources.data.auditing.AuditingActionEnum.UPDATE_USER;
 
+import com.google.common.cache.CacheStats;
 import fj.data.Either;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -60,6 +61,7 @@ public class UserBusinessLogic {
     private final UserAdminOperation userAdminOperation;
     private final ComponentsUtils componentsUtils;
     private final UserOperation facadeUserOperation;
+    private final UserCache userCache = new UserCache();
 
     public UserBusinessLogic(UserAdminOperation userAdminOperation, ComponentsUtils componentsUtils, UserOperation facadeUserOperation) {
         this.userAdminOperation = userAdminOperation;
@@ -68,7 +70,8 @@ public class UserBusinessLogic {
     }
 
     public User getUser(String userId, boolean inTransaction) {
-        Either<User, ActionStatus> result = userAdminOperation.getUserData(userId, inTransaction);
+        Either<User, ActionStatus> result = userCache.getUser(userId, () -> userAdminOperation.getUserData(userId, inTransaction),
+            cached -> userAdminOperation.isRoleAndStatusCurrent(cached, inTransaction));
         if (result.isRight()) {
             handleUserAccessAuditing(userId, result.right().value());
             throw new ByActionStatusComponentException(result.right().value(), userId);
@@ -135,12 +138,14 @@ public class UserBusinessLogic {
             .value())) { // user inactive - update state                                                                                  // exist
             newUser.setLastLoginTime(0L);
             createdUser = userAdminOperation.updateUserData(newUser);
+            userCache.evict(newUserId);
         } else { // user does not exist - create new user
             if (!userAdminValidator.validateUserId(newUserId)) {
                 log.debug("createUser method - user has invalid userId = {}", newUser.getUserId());
                 throw new ByActionStatusComponentException(ActionStatus.INVALID_USER_ID, newUserId);
             }
             createdUser = userAdminOperation.saveUserData(newUser);
+            userCache.evict(newUserId);
         }
         ResponseFormat responseFormat = componentsUtils.getResponseFormat(ActionStatus.CREATED);
         handleAuditing(modifier, null, createdUser, responseFormat, AuditingActionEnum.ADD_USER);
@@ -218,6 +223,7 @@ public class UserBusinessLogic {
         newUser.setRole(newRole.name());
         newUser.setUserId(userIdToUpdate);
         User updatedUser = userAdminOperation.updateUserData(newUser);
+        userCache.evict(userIdToUpdate);
         handleAuditing(modifier, userToUpdate, updatedUser, componentsUtils.getResponseFormat(ActionStatus.OK), UPDATE_USER);
         getFacadeUserOperation().updateUserCache(UserOperationEnum.CHANGE_ROLE, updatedUser.getUserId(), updatedUser.getRole());
         return updatedUser;
@@ -329,6 +335,7 @@ public class UserBusinessLogic {
         // last login time stamp handle
         user.setLastLoginTime();
         User updatedUser = userAdminOperation.updateUserData(user);
+        userCache.evict(userId);
         Long lastLoginTime = user.getLastLoginTime();
         if (lastLoginTime != null) {
             updatedUser.setLastLoginTime(lastLoginTime);
@@ -374,6 +381,7 @@ public class UserBusinessLogic {
             user.setLastLoginTime(updatedUserCred.getLastLoginTime());
         }
         User updatedUser = userAdminOperation.updateUserData(user);
+        userCache.evict(userId);
         responseFormat = componentsUtils.getResponseFormat(ActionStatus.OK);
         handleUserAccessAuditing(updatedUser, responseFormat);
         return Either.left(updatedUser);
@@ -399,4 +407,15 @@ public class UserBusinessLogic {
     public UserOperation getFacadeUserOperation() {
         return facadeUserOperation;
     }
+
+    /**
+     * Drops a user changed outside of this class from the user cache
+     */
+    public void evictCachedUser(String userId) {
+        userCache.evict(userId);
+    }
+
+    public CacheStats getUserCacheStats() {
+        return userCache.getStats();
+    }
 }
@@ -66,6 +66,7 @@ public class UserBusinessLogicExt {
         }
         handleTasksInProgress(userToDeactivate);
         userAdminOperation.deActivateUser(userToDeactivate);
+        userBusinessLogic.evictCachedUser(userIdToDeactivate);
         componentsUtils.auditUserAccess(userToDeactivate, ActionStatus.OK);
         handleAuditing(modifier, userToDeactivate, null, componentsUtils.getResponseFormat(ActionStatus.OK), AuditingActionEnum.DELETE_USER);
         userBusinessLogic.getFacadeUserOperation()
@@ -0,0 +1,152 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.user;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import fj.data.Either;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.openecomp.sdc.be.config.Configuration;
+import org.openecomp.sdc.be.config.Configuration.UserCacheConfig;
+import org.openecomp.sdc.be.config.ConfigurationManager;
+import org.openecomp.sdc.be.dao.api.ActionStatus;
+import org.openecomp.sdc.be.model.User;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+
+/**
+ * Users read by {@link UserBusinessLogic#getUser(String, boolean)}, which resolves the USER_ID header of most requests. A user is dropped when it is
+ * created, updated, deactivated or changes role on this BE instance, and expires after the configured age. Changes made on other BE instances are
+ * not reported to this one, so every hit is checked against the role and status stored in the graph, and a user whose role was changed or who was
+ * deactivated is read again rather than answered from the cache. Only users found are kept, a failed lookup drops the user.
+ */
+public class UserCache {
+
+    private static final Logger log = Logger.getLogger(UserCache.class);
+    private final UserCacheConfig config;
+    // incremented on every eviction, so that a lookup which raced with an eviction does not put back the user read before it
+    private final AtomicLong evictions = new AtomicLong();
+    private volatile Cache<String, User> users;
+    private volatile boolean disabled;
+
+    public UserCache() {
+        this(null);
+    }
+
+    /**
+     * @param config the configuration of the cache, null to read it from the BE configuration on first use
+     */
+    UserCache(UserCacheConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Gets a user, loading it on a miss or when the cached user is no longer current.
+     *
+     * @param userId    the user id
+     * @param loader    reads the user from the graph
+     * @param isCurrent checks a cached user against the role and status stored in the graph
+     * @return a copy of the user, which the caller may modify
+     */
+    public Either<User, ActionStatus> getUser(String userId, Supplier<Either<User, ActionStatus>> loader, Predicate<User> isCurrent) {
+        Cache<String, User> current = getUsers();
+        if (current == null || userId == null) {
+            return loader.get();
+        }
+        User cached = current.getIfPresent(userId);
+        if (cached != null) {
+            if (isCurrent.test(cached)) {
+                return Either.left(copy(cached));
+            }
+            log.debug("cached user {} changed on another BE instance, reading it again", userId);
+            evict(userId);
+        }
+        long evictionsBeforeLoad = evictions.get();
+        Either<User, ActionStatus> loaded = loader.get();
+        if (loaded.isLeft() && loaded.left().value() != null) {
+            if (evictions.get() == evictionsBeforeLoad) {
+                current.put(userId, copy(loaded.left().value()));
+            }
+        } else {
+            current.invalidate(userId);
+        }
+        return loaded;
+    }
+
+    /**
+     * Drops a user that was changed
+     */
+    public void evict(String userId) {
+        evictions.incrementAndGet();
+        Cache<String, User> current = users;
+        if (current != null && userId != null) {
+            current.invalidate(userId);
+        }
+    }
+
+    public CacheStats getStats() {
+        Cache<String, User> current = getUsers();
+        return current == null ? new CacheStats(0, 0, 0, 0, 0, 0) : current.stats();
+    }
+
+    private static User copy(User user) {
+        User copy = new User(user);
+        copy.setStatus(user.getStatus());
+        return copy;
+    }
+
+    private Cache<String, User> getUsers() {
+        Cache<String, User> current = users;
+        if (current == null && !disabled) {
+            synchronized (this) {
+                current = users;
+                if (current == null) {
+                    UserCacheConfig cacheConfig = config;
+                    if (cacheConfig == null) {
+                        Configuration configuration = readConfiguration();
+                        if (configuration == null) {
+                            // configuration not loaded yet
+                            return null;
+                        }
+                        cacheConfig = configuration.getUserCache();
+                    }
+                    if (cacheConfig == null || !cacheConfig.isEnabled()) {
+                        disabled = true;
+                        return null;
+                    }
+                    current = CacheBuilder.newBuilder().maximumSize(cacheConfig.getMaxSize())
+                        .expireAfterWrite(cacheConfig.getMaxAgeInSeconds(), TimeUnit.SECONDS).recordStats().build();
+                    users = current;
+                    log.info("user cache created with max size {} and max age {} seconds", cacheConfig.getMaxSize(),
+                        cacheConfig.getMaxAgeInSeconds());
+                }
+            }
+        }
+        return current;
+    }
+
+    private static Configuration readConfiguration() {
+        ConfigurationManager configurationManager = ConfigurationManager.getConfigurationManager();
+        return configurationManager == null ? null : configurationManager.getConfiguration();
+    }
+}
@@ -0,0 +1,144 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.auditing.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openecomp.sdc.be.config.Configuration.AuditAsyncConfig;
+import org.openecomp.sdc.be.dao.cassandra.AuditCassandraDao;
+import org.openecomp.sdc.be.dao.cassandra.CassandraOperationStatus;
+import org.openecomp.sdc.be.resources.data.auditing.AuditingGenericEvent;
+import org.openecomp.sdc.be.resources.data.auditing.DistributionStatusEvent;
+import org.openecomp.sdc.be.resources.data.auditing.ResourceAdminEvent;
+
+@ExtendWith(MockitoExtension.class)
+class AuditEventWriterTest {
+
+    @Mock
+    private AuditCassandraDao cassandraDao;
+
+    @Test
+    void testAllSubmittedEventsAreWrittenBeforeShutdownCompletes() {
+        when(cassandraDao.saveRecordAsync(any(AuditingGenericEvent.class)))
+            .thenReturn(CompletableFuture.completedFuture(CassandraOperationStatus.OK));
+        AuditEventWriter writer = new AuditEventWriter(cassandraDao, createConfig(100, 4, "DROP"));
+        for (int i = 0; i < 10; i++) {
+            writer.submit(new ResourceAdminEvent());
+            writer.submit(new DistributionStatusEvent());
+        }
+        writer.shutdown();
+        assertEquals(20, writer.getWrittenCount());
+        assertEquals(0, writer.getQueueDepth());
+        assertEquals(0, writer.getInFlightWrites());
+        assertEquals(0, writer.getDroppedCount());
+        verify(cassandraDao, never()).saveRecord(any(AuditingGenericEvent.class));
+    }
+
+    @Test
+    void testWritesInFlightAreBounded() throws InterruptedException {
+        List<CompletableFuture<CassandraOperationStatus>> pending = new ArrayList<>();
+        AtomicBoolean completeWrites = new AtomicBoolean();
+        CountDownLatch started = new CountDownLatch(2);
+        when(cassandraDao.saveRecordAsync(any(AuditingGenericEvent.class))).thenAnswer(invocation -> {
+            CompletableFuture<CassandraOperationStatus> write = new CompletableFuture<>();
+            synchronized (pending) {
+                if (completeWrites.get()) {
+                    write.complete(CassandraOperationStatus.OK);
+                } else {
+                    pending.add(write);
+                }
+            }
+            started.countDown();
+            return write;
+        });
+        AuditEventWriter writer = new AuditEventWriter(cassandraDao, createConfig(10, 2, "DROP"));
+        for (int i = 0; i < 5; i++) {
+            writer.submit(new ResourceAdminEvent());
+        }
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        // the permit of a write is taken before its event, so no other event leaves the queue until a write completes
+        assertEquals(2, writer.getInFlightWrites());
+        assertEquals(3, writer.getQueueDepth());
+        synchronized (pending) {
+            completeWrites.set(true);
+            pending.forEach(write -> write.complete(CassandraOperationStatus.OK));
+        }
+        writer.shutdown();
+        assertEquals(5, writer.getWrittenCount());
+        assertEquals(0, writer.getInFlightWrites());
+    }
+
+    @Test
+    void testEventIsDroppedWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch writing = new CountDownLatch(1);
+        CompletableFuture<CassandraOperationStatus> write = new CompletableFuture<>();
+        when(cassandraDao.saveRecordAsync(any(AuditingGenericEvent.class))).thenAnswer(invocation -> {
+            writing.countDown();
+            return write;
+        });
+        AuditEventWriter writer = new AuditEventWriter(cassandraDao, createConfig(1, 1, "DROP"));
+        writer.submit(new ResourceAdminEvent());
+        assertTrue(writing.await(10, TimeUnit.SECONDS));
+        writer.submit(new ResourceAdminEvent());
+        writer.submit(new ResourceAdminEvent());
+        assertEquals(1, writer.getDroppedCount());
+        assertEquals(1, writer.getQueueDepth());
+        assertTrue(writer.toString().contains("dropped=1"));
+        write.complete(CassandraOperationStatus.OK);
+        writer.shutdown();
+        assertEquals(2, writer.getWrittenCount());
+    }
+
+    @Test
+    void testFailedEventIsCounted() {
+        when(cassandraDao.saveRecordAsync(any(AuditingGenericEvent.class)))
+            .thenReturn(CompletableFuture.completedFuture(CassandraOperationStatus.GENERAL_ERROR));
+        AuditEventWriter writer = new AuditEventWriter(cassandraDao, createConfig(10, 4, "CALLER_RUNS"));
+        writer.submit(new ResourceAdminEvent());
+        writer.shutdown();
+        assertEquals(0, writer.getWrittenCount());
+        assertEquals(1, writer.getFailedCount());
+    }
+
+    private AuditAsyncConfig createConfig(int queueCapacity, int maxInFlightWrites, String overflowPolicy) {
+        AuditAsyncConfig config = new AuditAsyncConfig();
+        config.setEnabled(true);
+        config.setQueueCapacity(queueCapacity);
+        config.setMaxInFlightWrites(maxInFlightWrites);
+        config.setOverflowPolicy(overflowPolicy);
+        config.setShutdownTimeoutMillis(10000);
+        return config;
+    }
+}
@@ -299,24 +299,6 @@ public class CambriaHandlerTest extends BeConfDependentTest {
 		result = testSubject.sendNotification(topicName, uebPublicKey, uebSecretKey, uebServers, data);
 	}
 
-	@Test
-	public void testSendNotificationAndClose() throws Exception {
-		CambriaHandler testSubject;
-		String topicName = "mock";
-		String uebPublicKey = "mock";
-		String uebSecretKey = "mock";
-		List<String> uebServers = new LinkedList<>();
-		uebServers.add("mock");
-		INotificationData data = null;
-		long waitBeforeCloseTimeout = 1;
-		CambriaErrorResponse result;
-
-		// default test
-		testSubject = createTestSubject();
-		result = testSubject.sendNotificationAndClose(topicName, uebPublicKey, uebSecretKey, uebServers, data,
-				waitBeforeCloseTimeout);
-	}
-
 	@Test
 	public void testGetApiKey() throws Exception {
 		CambriaHandler testSubject;
@@ -0,0 +1,90 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.components.distribution.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openecomp.sdc.be.distribution.api.client.CambriaOperationStatus;
+
+class CambriaPublisherPoolTest {
+
+    private static final List<String> UEB_SERVERS = List.of("ueb1", "ueb2");
+    private InProcessMessageBus messageBus;
+    private CambriaPublisherPool publisherPool;
+
+    @BeforeEach
+    void setUp() {
+        messageBus = new InProcessMessageBus();
+        publisherPool = new CambriaPublisherPool(messageBus);
+    }
+
+    @AfterEach
+    void tearDown() {
+        publisherPool.destroy();
+    }
+
+    @Test
+    void testPublisherIsReusedPerTopicAndCredentials() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(CambriaOperationStatus.OK, send("topic1", "key1").getOperationStatus());
+        }
+        assertEquals(CambriaOperationStatus.OK, send("topic1", "key2").getOperationStatus());
+        assertEquals(CambriaOperationStatus.OK, send("topic2", "key1").getOperationStatus());
+        assertEquals(4, messageBus.getMessages("topic1").size());
+        assertEquals(1, messageBus.getMessages("topic2").size());
+        assertEquals(3, messageBus.getCreatedPublishers());
+        assertEquals(3, publisherPool.getPublisherCount());
+    }
+
+    @Test
+    void testPublisherIsEvictedWhenNotificationIsNotDelivered() {
+        assertEquals(CambriaOperationStatus.OK, send("topic1", "key1").getOperationStatus());
+        messageBus.setAvailable(false);
+        CambriaErrorResponse response = send("topic1", "key1");
+        assertEquals(CambriaOperationStatus.INTERNAL_SERVER_ERROR, response.getOperationStatus());
+        assertEquals(500, response.getHttpCode().intValue());
+        assertEquals(0, publisherPool.getPublisherCount());
+        assertEquals(1, messageBus.getClosedPublishers());
+
+        messageBus.setAvailable(true);
+        assertEquals(CambriaOperationStatus.OK, send("topic1", "key1").getOperationStatus());
+        assertEquals(2, messageBus.getCreatedPublishers());
+    }
+
+    @Test
+    void testIdlePublishersAreClosed() {
+        send("topic1", "key1");
+        publisherPool.evictIdlePublishers(60000);
+        assertEquals(1, publisherPool.getPublisherCount());
+        publisherPool.evictIdlePublishers(0);
+        assertEquals(0, publisherPool.getPublisherCount());
+        assertEquals(1, messageBus.getClosedPublishers());
+    }
+
+    private CambriaErrorResponse send(String topicName, String publicKey) {
+        NotificationDataImpl notificationData = new NotificationDataImpl();
+        notificationData.setDistributionID("distributionId");
+        return publisherPool.send(topicName, publicKey, "secret", UEB_SERVERS, notificationData, 0);
+    }
+}
@@ -20,10 +20,15 @@
 
 package org.openecomp.sdc.be.components.distribution.engine;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
 import mockit.Deencapsulation;
 import org.junit.Test;
 import org.openecomp.sdc.be.components.BeConfDependentTest;
 import org.openecomp.sdc.be.components.distribution.engine.DistributionEngineClusterHealth.HealthCheckScheduledTask;
+import org.openecomp.sdc.common.api.Constants;
 import org.openecomp.sdc.common.api.HealthCheckInfo;
 
 import java.util.HashMap;
@@ -173,4 +178,22 @@ public class DistributionEngineClusterHealthTest extends BeConfDependentTest{
 		testSubject = createTestSubject();
 		testSubject.setHealthCheckOkAndReportInCaseLastStateIsDown();
 	}
+
+	@Test
+	public void testGetHealthCheckInfoWithNotificationMetrics() throws Exception {
+		DistributionEngineClusterHealth testSubject = createTestSubject();
+		testSubject.getNotificationMetrics().record(true, 10);
+		testSubject.getNotificationMetrics().record(false, 30);
+
+		HealthCheckInfo result = testSubject.getHealthCheckInfoWithNotificationMetrics();
+
+		HealthCheckInfo shared = testSubject.getHealthCheckInfo();
+		assertEquals(shared.getHealthCheckStatus(), result.getHealthCheckStatus());
+		assertEquals(shared.getDescription(), result.getDescription());
+		assertNull(shared.getComponentsInfo());
+		assertEquals(1, result.getComponentsInfo().size());
+		HealthCheckInfo metricsInfo = result.getComponentsInfo().get(0);
+		assertEquals(Constants.HC_COMPONENT_DISTRIBUTION_NOTIFICATIONS, metricsInfo.getHealthCheckComponent());
+		assertTrue(metricsInfo.getDescription().contains("sent=1, failed=1, averageLatencyMillis=20, maxLatencyMillis=30"));
+	}
 }
@@ -0,0 +1,100 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.components.distribution.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openecomp.sdc.be.components.distribution.engine.CambriaPublisherPool.Publisher;
+import org.openecomp.sdc.be.components.distribution.engine.CambriaPublisherPool.PublisherFactory;
+
+/**
+ * In-process stand-in of the message bus: messages are delivered as soon as they are sent while the bus is available, and stay pending in the
+ * publisher queue while it is not.
+ */
+class InProcessMessageBus implements PublisherFactory {
+
+    private final Map<String, List<String>> messagesByTopic = new ConcurrentHashMap<>();
+    private final AtomicInteger createdPublishers = new AtomicInteger();
+    private final AtomicInteger closedPublishers = new AtomicInteger();
+    private volatile boolean available = true;
+
+    @Override
+    public Publisher create(String topicName, String uebPublicKey, String uebSecretKey, List<String> uebServers) {
+        createdPublishers.incrementAndGet();
+        return new InProcessPublisher(topicName);
+    }
+
+    void setAvailable(boolean available) {
+        this.available = available;
+    }
+
+    List<String> getMessages(String topicName) {
+        return messagesByTopic.getOrDefault(topicName, List.of());
+    }
+
+    int getCreatedPublishers() {
+        return createdPublishers.get();
+    }
+
+    int getClosedPublishers() {
+        return closedPublishers.get();
+    }
+
+    private class InProcessPublisher implements Publisher {
+
+        private final String topicName;
+        private final List<String> pending = new ArrayList<>();
+
+        private InProcessPublisher(String topicName) {
+            this.topicName = topicName;
+        }
+
+        @Override
+        public synchronized void send(String json) {
+            pending.add(json);
+            flush();
+        }
+
+        @Override
+        public synchronized int getPendingMessageCount() {
+            flush();
+            return pending.size();
+        }
+
+        @Override
+        public synchronized int close(long timeout, TimeUnit unit) {
+            flush();
+            closedPublishers.incrementAndGet();
+            return pending.size();
+        }
+
+        private void flush() {
+            if (available) {
+                messagesByTopic.computeIfAbsent(topicName, key -> new CopyOnWriteArrayList<>()).addAll(pending);
+                pending.clear();
+            }
+        }
+    }
+}
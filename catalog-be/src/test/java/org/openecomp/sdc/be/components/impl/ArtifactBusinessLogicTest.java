@@ -46,6 +46,7 @@ import org.openecomp.sdc.be.config.ArtifactConfiguration;
 import org.openecomp.sdc.be.config.ComponentType;
 import org.openecomp.sdc.be.dao.api.ActionStatus;
 import org.openecomp.sdc.be.dao.cassandra.ArtifactCassandraDao;
+import org.openecomp.sdc.be.dao.cassandra.ArtifactContent;
 import org.openecomp.sdc.be.dao.cassandra.CassandraOperationStatus;
 import org.openecomp.sdc.be.dao.janusgraph.JanusGraphDao;
 import org.openecomp.sdc.be.datatypes.elements.ArtifactDataDefinition;
@@ -65,7 +66,6 @@ import org.openecomp.sdc.be.model.jsonjanusgraph.operations.ToscaOperationFacade
 import org.openecomp.sdc.be.model.operations.api.IGraphLockOperation;
 import org.openecomp.sdc.be.model.operations.api.IInterfaceLifecycleOperation;
 import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
-import org.openecomp.sdc.be.resources.data.DAOArtifactData;
 import org.openecomp.sdc.be.servlets.RepresentationUtils;
 import org.openecomp.sdc.be.tosca.CsarUtils;
 import org.openecomp.sdc.be.tosca.ToscaExportHandler;
@@ -75,6 +75,7 @@ import org.openecomp.sdc.common.api.ArtifactTypeEnum;
 import org.openecomp.sdc.exception.ResponseFormat;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -464,18 +465,16 @@ public class ArtifactBusinessLogicTest extends BaseBusinessLogicMock{
         toscaArtifacts.put(artifactLabel, toscaTemplateArtifact);
         service.setToscaArtifacts(toscaArtifacts);
 
-        DAOArtifactData DAOArtifactData =new DAOArtifactData(esArtifactId);
-        DAOArtifactData.setDataAsArray(payload);
-        Either<DAOArtifactData, CassandraOperationStatus> artifactfromESres = Either.left(DAOArtifactData);
-        when(artifactCassandraDao.getArtifact(esArtifactId)).thenReturn(artifactfromESres);
+        Either<ArtifactContent, CassandraOperationStatus> artifactfromESres = Either.left(ArtifactContent.of(payload, "checksum"));
+        when(artifactCassandraDao.getArtifactContent(esArtifactId)).thenReturn(artifactfromESres);
         List<org.openecomp.sdc.be.model.Component> serviceList = new ArrayList<>();
         serviceList.add(service);
         Either<List<org.openecomp.sdc.be.model.Component>, StorageOperationStatus> getServiceRes = Either.left(serviceList);
         when(toscaOperationFacade.getBySystemName(ComponentTypeEnum.SERVICE, serviceName)).thenReturn(getServiceRes);
-        byte[] downloadServiceArtifactByNamesRes =
+        ArtifactContent downloadServiceArtifactByNamesRes =
         artifactBL.downloadServiceArtifactByNames(serviceName, serviceVersion, artifactName);
         assertThat(downloadServiceArtifactByNamesRes !=null &&
-                downloadServiceArtifactByNamesRes.length == payload.length).isTrue();
+                downloadServiceArtifactByNamesRes.getSize() == payload.length).isTrue();
     }
 
     @Test
@@ -529,7 +528,7 @@ public class ArtifactBusinessLogicTest extends BaseBusinessLogicMock{
         //TODO Remove if passes
         when(artifactToscaOperation.updateArtifactOnResource(any(ArtifactDefinition.class), any(), any(), any(NodeTypeEnum.class)
                 , any(String.class), eq(true))).thenReturn(Either.left(artifactDefinition));
-        when(artifactCassandraDao.saveArtifact(any())).thenReturn(CassandraOperationStatus.OK);
+        when(artifactCassandraDao.saveArtifact(any(), any(InputStream.class))).thenReturn(CassandraOperationStatus.OK);
         when(componentsUtils.getResponseFormat(any(ActionStatus.class))).thenReturn(new ResponseFormat());
         Either<ArtifactDefinition, ResponseFormat> result = artifactBL.generateAndSaveHeatEnvArtifact(artifactDefinition, String.valueOf(PAYLOAD), ComponentTypeEnum.SERVICE, new Service(), RESOURCE_INSTANCE_NAME,
                 USER, INSTANCE_ID, true, true);
@@ -560,7 +559,7 @@ public class ArtifactBusinessLogicTest extends BaseBusinessLogicMock{
         //TODO Remove if passes
         when(artifactToscaOperation.updateArtifactOnResource(any(ArtifactDefinition.class), any(), any(), any(NodeTypeEnum.class)
                 , any(String.class), eq(true))).thenReturn(Either.left(artifactDefinition));
-        when(artifactCassandraDao.saveArtifact(any())).thenReturn(CassandraOperationStatus.OK);
+        when(artifactCassandraDao.saveArtifact(any(), any(InputStream.class))).thenReturn(CassandraOperationStatus.OK);
         when(componentsUtils.getResponseFormat(any(ActionStatus.class))).thenReturn(new ResponseFormat());
         Either<ArtifactDefinition, ResponseFormat> result = artifactBL.generateAndSaveHeatEnvArtifact(artifactDefinition, String.valueOf(PAYLOAD), ComponentTypeEnum.SERVICE, new Service(), RESOURCE_INSTANCE_NAME,
                 USER, INSTANCE_ID, true, false);
@@ -27,6 +27,7 @@ import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -53,6 +54,9 @@ import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import fj.data.Either;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -65,7 +69,9 @@ import mockit.Deencapsulation;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.ImmutableTriple;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -92,6 +98,7 @@ import org.openecomp.sdc.be.config.Configuration.ArtifactTypeConfig;
 import org.openecomp.sdc.be.config.ConfigurationManager;
 import org.openecomp.sdc.be.dao.api.ActionStatus;
 import org.openecomp.sdc.be.dao.cassandra.ArtifactCassandraDao;
+import org.openecomp.sdc.be.dao.cassandra.ArtifactContent;
 import org.openecomp.sdc.be.dao.cassandra.CassandraOperationStatus;
 import org.openecomp.sdc.be.dao.janusgraph.JanusGraphOperationStatus;
 import org.openecomp.sdc.be.dao.janusgraph.JanusGraphDao;
@@ -712,19 +719,17 @@ public class ArtifactsBusinessLogicTest extends BaseBusinessLogicMock {
         toscaArtifacts.put(artifactLabel, toscaTemplateArtifact);
         service.setToscaArtifacts(toscaArtifacts);
 
-        DAOArtifactData DAOArtifactData = new DAOArtifactData(esArtifactId);
-        DAOArtifactData.setDataAsArray(payload);
-        Either<DAOArtifactData, CassandraOperationStatus> artifactfromESres = Either.left(DAOArtifactData);
-        when(artifactCassandraDao.getArtifact(esArtifactId)).thenReturn(artifactfromESres);
+        Either<ArtifactContent, CassandraOperationStatus> artifactfromESres = Either.left(ArtifactContent.of(payload, "checksum"));
+        when(artifactCassandraDao.getArtifactContent(esArtifactId)).thenReturn(artifactfromESres);
         List<org.openecomp.sdc.be.model.Component> serviceList = new ArrayList<>();
         serviceList.add(service);
         Either<List<org.openecomp.sdc.be.model.Component>, StorageOperationStatus> getServiceRes = Either
                 .left(serviceList);
         when(toscaOperationFacade.getBySystemName(ComponentTypeEnum.SERVICE, serviceName)).thenReturn(getServiceRes);
-        byte[] downloadServiceArtifactByNamesRes = artifactBL
+        ArtifactContent downloadServiceArtifactByNamesRes = artifactBL
                 .downloadServiceArtifactByNames(serviceName, serviceVersion, artifactName);
         assertThat(downloadServiceArtifactByNamesRes != null
-                && downloadServiceArtifactByNamesRes.length == payload.length).isTrue();
+                && downloadServiceArtifactByNamesRes.getSize() == payload.length).isTrue();
     }
 
     @Test
@@ -786,7 +791,7 @@ public class ArtifactsBusinessLogicTest extends BaseBusinessLogicMock {
         when(graphLockOperation.lockComponent(any(), any())).thenReturn(StorageOperationStatus.OK);
         when(artifactToscaOperation.updateArtifactOnResource(any(ArtifactDefinition.class), any(), any(),
                 any(NodeTypeEnum.class), any(String.class), eq(true))).thenReturn(Either.left(artifactDefinition));
-        when(artifactCassandraDao.saveArtifact(any())).thenReturn(CassandraOperationStatus.OK);
+        when(artifactCassandraDao.saveArtifact(any(), any(InputStream.class))).thenReturn(CassandraOperationStatus.OK);
         when(componentsUtils.getResponseFormat(any(ActionStatus.class))).thenReturn(new ResponseFormat());
         artifactBL.generateAndSaveHeatEnvArtifact(artifactDefinition, String.valueOf(PAYLOAD),
                 ComponentTypeEnum.SERVICE, new Service(), RESOURCE_INSTANCE_NAME, USER, INSTANCE_ID, true, true);
@@ -805,7 +810,7 @@ public class ArtifactsBusinessLogicTest extends BaseBusinessLogicMock {
         when(graphLockOperation.lockComponent(any(), any())).thenReturn(StorageOperationStatus.OK);
         when(artifactToscaOperation.updateArtifactOnResource(any(ArtifactDefinition.class), any(), any(),
                 any(NodeTypeEnum.class), any(String.class), eq(true))).thenReturn(Either.left(artifactDefinition));
-        when(artifactCassandraDao.saveArtifact(any())).thenReturn(CassandraOperationStatus.OK);
+        when(artifactCassandraDao.saveArtifact(any(), any(InputStream.class))).thenReturn(CassandraOperationStatus.OK);
         when(componentsUtils.getResponseFormat(any(ActionStatus.class))).thenReturn(new ResponseFormat());
         artifactBL.generateAndSaveHeatEnvArtifact(artifactDefinition, String.valueOf(PAYLOAD),
                 ComponentTypeEnum.SERVICE, new Service(), RESOURCE_INSTANCE_NAME, USER, INSTANCE_ID, true, false);
@@ -824,7 +829,7 @@ public class ArtifactsBusinessLogicTest extends BaseBusinessLogicMock {
         when(graphLockOperation.lockComponent(any(), any())).thenReturn(StorageOperationStatus.OK);
         when(artifactToscaOperation.updateArtifactOnResource(any(ArtifactDefinition.class), any(), any(),
                 any(NodeTypeEnum.class), any(String.class), eq(true))).thenReturn(Either.left(artifactDefinition));
-        when(artifactCassandraDao.saveArtifact(any())).thenReturn(CassandraOperationStatus.OK);
+        when(artifactCassandraDao.saveArtifact(any(), any(InputStream.class))).thenReturn(CassandraOperationStatus.OK);
         when(componentsUtils.getResponseFormat(any(ActionStatus.class))).thenReturn(new ResponseFormat());
         artifactBL.generateAndSaveHeatEnvArtifact(artifactDefinition, String.valueOf(PAYLOAD),
                 ComponentTypeEnum.SERVICE, new Service(), RESOURCE_INSTANCE_NAME, USER, INSTANCE_ID, true, false);
@@ -2144,7 +2149,7 @@ public class ArtifactsBusinessLogicTest extends BaseBusinessLogicMock {
                 .thenReturn(StorageOperationStatus.OK);
         when(artifactToscaOperation.updateArtifactOnResource(any(ArtifactDefinition.class), any(), anyString(), any(NodeTypeEnum.class), any(), anyBoolean()))
                 .thenReturn(Either.left(artifactDefinition));
-        when(artifactCassandraDao.saveArtifact(any(DAOArtifactData.class)))
+        when(artifactCassandraDao.saveArtifact(any(), any(InputStream.class)))
                 .thenReturn(CassandraOperationStatus.OK);
         when(toscaOperationFacade.getToscaElement(anyString()))
                 .thenReturn(Either.left(resource));
@@ -2163,7 +2168,7 @@ public class ArtifactsBusinessLogicTest extends BaseBusinessLogicMock {
     }
 
     @Test
-    public void testGenerateToscaArtifact() {
+    public void testGenerateToscaArtifact() throws IOException {
 
         Resource resource = new Resource();
         resource.setComponentType(ComponentTypeEnum.RESOURCE);
@@ -2179,12 +2184,14 @@ public class ArtifactsBusinessLogicTest extends BaseBusinessLogicMock {
         boolean inTransaction = false;
 
         byte[] csar = "test.csar".getBytes();
+        Path csarFile = Files.createTempFile("csar", ".csar");
+        Files.write(csarFile, csar);
 
-        when(csarUtils.createCsar(any(Component.class), anyBoolean(), anyBoolean()))
-                .thenReturn(Either.left(csar));
+        when(csarUtils.createCsarFile(any(Component.class), anyBoolean(), anyBoolean()))
+                .thenReturn(Either.left(csarFile));
         when(artifactToscaOperation.updateArtifactOnResource(any(ArtifactDefinition.class), any(Component.class), anyString(), any(NodeTypeEnum.class), anyString(), anyBoolean()))
                 .thenReturn(Either.left(artifactDefinition));
-        when(artifactCassandraDao.saveArtifact(any(DAOArtifactData.class)))
+        when(artifactCassandraDao.saveArtifact(any(), any(InputStream.class)))
                 .thenReturn(CassandraOperationStatus.OK);
 
         Either<ArtifactDefinition, Operation> result
@@ -2193,12 +2200,17 @@ public class ArtifactsBusinessLogicTest extends BaseBusinessLogicMock {
 
 
         Assert.assertEquals(artifactDefinition.getUniqueId(), result.left().value().getUniqueId());
+        Assert.assertEquals(GeneralUtility.calculateMD5Base64EncodedByByteArray(csar), artifactDefinition.getArtifactChecksum());
+        verify(artifactCassandraDao).saveArtifact(eq("artifactId"), any(InputStream.class));
+        Assert.assertFalse(Files.exists(csarFile));
     }
 
     @Test
-    public void testHandleDownloadToscaModelRequest() {
+    public void testHandleStreamToscaModelRequest() throws IOException {
         ArtifactsBusinessLogic testSubject = getTestSubject();
         byte[] generatedCsar = "test.csar".getBytes();
+        Path csarFile = Files.createTempFile("csar", ".csar");
+        Files.write(csarFile, generatedCsar);
 
         Resource resource = new Resource();
         resource.setComponentType(ComponentTypeEnum.RESOURCE);
@@ -2208,13 +2220,18 @@ public class ArtifactsBusinessLogicTest extends BaseBusinessLogicMock {
         csarArtifact.setArtifactType(ArtifactTypeEnum.HEAT_ENV.getType());
         csarArtifact.setArtifactGroupType(ArtifactGroupTypeEnum.TOSCA);
 
-        when(csarUtils.createCsar(any(Component.class), anyBoolean(), anyBoolean()))
-                .thenReturn(Either.left(generatedCsar));
+        when(csarUtils.createCsarFile(any(Component.class), anyBoolean(), anyBoolean()))
+                .thenReturn(Either.left(csarFile));
 
-        ImmutablePair<String, byte[]> result =
-                testSubject.handleDownloadToscaModelRequest(resource, csarArtifact);
+        ImmutableTriple<String, String, InputStream> result =
+                testSubject.handleStreamToscaModelRequest(resource, csarArtifact);
 
-        assertEquals(csarArtifact.getArtifactName(), result.getKey());
+        assertEquals(csarArtifact.getArtifactName(), result.getLeft());
+        assertEquals(GeneralUtility.calculateMD5Base64EncodedByByteArray(generatedCsar), result.getMiddle());
+        try (InputStream payload = result.getRight()) {
+            assertArrayEquals(generatedCsar, IOUtils.toByteArray(payload));
+        }
+        assertFalse(Files.exists(csarFile));
     }
 
     @Test
@@ -2258,11 +2275,11 @@ public class ArtifactsBusinessLogicTest extends BaseBusinessLogicMock {
                 .thenReturn(Either.left(resource));
         when(artifactToscaOperation.getArtifactById(anyString(), anyString(), any(ComponentTypeEnum.class), anyString()))
                 .thenReturn(Either.left(artifactDefinition));
-        when(artifactCassandraDao.getArtifact(any()))
-                .thenReturn(Either.left(daoArtifactData));
+        when(artifactCassandraDao.getArtifactContent(any()))
+                .thenReturn(Either.left(ArtifactContent.of(daoArtifactData.getDataAsArray(), "checksum")));
         when(graphLockOperation.lockComponent(any(), any())).thenReturn(StorageOperationStatus.OK);
 
-        ImmutablePair<String, byte[]> result =
+        ImmutablePair<String, ArtifactContent> result =
                 artifactBL.handleDownloadRequestById(componentId, artifactId, user.getUserId(), ComponentTypeEnum.RESOURCE,
                         parentId, null);
         Assert.assertEquals(artifactDefinition.getArtifactName(), result.getKey());
@@ -2275,7 +2292,7 @@ public class ArtifactsBusinessLogicTest extends BaseBusinessLogicMock {
         String artifactId = "artifactId";
 
         try {
-            ImmutablePair<String, byte[]> result =
+            ImmutablePair<String, ArtifactContent> result =
                     artifactBL.handleDownloadRequestById(componentId, artifactId, userId, ComponentTypeEnum.RESOURCE, componentId
                             , null);
         } catch (ComponentException e) {
@@ -2397,7 +2414,7 @@ public class ArtifactsBusinessLogicTest extends BaseBusinessLogicMock {
     }
 
     @Test
-    public void testDownloadRsrcArtifactByNames_returnsSuccessful() {
+    public void testDownloadRsrcArtifactByNames_returnsSuccessful() throws IOException {
 
         String serviceName = "service1";
         String resourceName = "resource1";
@@ -2429,11 +2446,13 @@ public class ArtifactsBusinessLogicTest extends BaseBusinessLogicMock {
         when(toscaOperationFacade.getComponentByNameAndVersion(eq(ComponentTypeEnum.RESOURCE), eq(resourceName), eq(version), eq(JsonParseFlagEnum.ParseMetadata)))
                 .thenReturn(Either.left(resource));
         doReturn(Either.left(serviceList)).when(toscaOperationFacade).getBySystemName(eq(ComponentTypeEnum.SERVICE), eq(serviceName));
-        when(artifactCassandraDao.getArtifact(any()))
-                .thenReturn(Either.left(esArtifactData));
+        when(artifactCassandraDao.getArtifactContent(any()))
+                .thenReturn(Either.left(ArtifactContent.of(esArtifactData.getDataAsArray(), "checksum")));
 
-        byte[] result = artifactBL.downloadRsrcArtifactByNames(serviceName, version, resourceName, version, artifactName);
-        Assert.assertEquals(esArtifactData.getDataAsArray(), result);
+        ArtifactContent result = artifactBL.downloadRsrcArtifactByNames(serviceName, version, resourceName, version, artifactName);
+        try (InputStream payload = result.openStream()) {
+            Assert.assertArrayEquals(esArtifactData.getDataAsArray(), IOUtils.toByteArray(payload));
+        }
     }
 
     private ArtifactsBusinessLogic getTestSubject() {
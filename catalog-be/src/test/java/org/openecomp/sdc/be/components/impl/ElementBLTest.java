@@ -25,6 +25,7 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -38,12 +39,16 @@ import org.openecomp.sdc.be.dao.jsongraph.types.EdgeLabelEnum;
 import org.openecomp.sdc.be.dao.jsongraph.types.JsonParseFlagEnum;
 import org.openecomp.sdc.be.dao.jsongraph.types.VertexTypeEnum;
 import org.openecomp.sdc.be.dao.neo4j.GraphPropertiesDictionary;
+import org.openecomp.sdc.be.datatypes.components.ComponentMetadataDataDefinition;
+import org.openecomp.sdc.be.datatypes.components.ResourceMetadataDataDefinition;
 import org.openecomp.sdc.be.datatypes.enums.ComponentTypeEnum;
+import org.openecomp.sdc.be.datatypes.enums.FilterKeyEnum;
 import org.openecomp.sdc.be.datatypes.enums.JsonPresentationFields;
 import org.openecomp.sdc.be.datatypes.enums.NodeTypeEnum;
 import org.openecomp.sdc.be.datatypes.enums.ResourceTypeEnum;
 import org.openecomp.sdc.be.impl.ComponentsUtils;
 import org.openecomp.sdc.be.model.Component;
+import org.openecomp.sdc.be.model.ComponentParametersView;
 import org.openecomp.sdc.be.model.Resource;
 import org.openecomp.sdc.be.model.Service;
 import org.openecomp.sdc.be.model.User;
@@ -62,15 +67,21 @@ import org.openecomp.sdc.common.util.ValidationUtils;
 import org.openecomp.sdc.exception.ResponseFormat;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.UnaryOperator;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -393,5 +404,82 @@ public class ElementBLTest {
         assertThat(elementsByCategory.size()).isEqualTo(1);
     }
 
+    @Test
+    public void testGetFilteredCatalogComponents_givenPagingParameters_thenReadsOnlyThePageOfTheCategory() {
+        List<GraphVertex> serviceVertices = new ArrayList<>();
+        for (String uniqueId : new String[]{"c", "a", "b"}) {
+            Map<String, Object> metadataJson = new HashMap<>();
+            metadataJson.put(JsonPresentationFields.IS_DELETED.getPresentation(), false);
+            metadataJson.put(JsonPresentationFields.HIGHEST_VERSION.getPresentation(), true);
+            metadataJson.put(JsonPresentationFields.IS_ARCHIVED.getPresentation(), false);
+            GraphVertex serviceVertex = new GraphVertex(VertexTypeEnum.TOPOLOGY_TEMPLATE);
+            serviceVertex.setType(ComponentTypeEnum.SERVICE);
+            serviceVertex.setMetadataJson(metadataJson);
+            serviceVertex.setUniqueId(uniqueId);
+            serviceVertices.add(serviceVertex);
+        }
+        Map<String, Object> props = new HashMap<>();
+        props.put(GraphPropertiesDictionary.NORMALIZED_NAME.getProperty(), ValidationUtils.normalizeCategoryName4Uniqueness(CATEGORY_NAME));
+        when(janusGraphGenericDao.getByCriteria(NodeTypeEnum.ServiceNewCategory, props, CategoryData.class))
+                .thenReturn(Either.left(categories));
+        when(janusGraphDao.getVertexById(CATEGORY_UNIQUE_ID, JsonParseFlagEnum.NoParse)).thenReturn(Either.left(categoryVertex));
+        when(janusGraphDao.getParentVertices(categoryVertex, EdgeLabelEnum.CATEGORY, JsonParseFlagEnum.ParseMetadata))
+                .thenReturn(Either.left(serviceVertices));
+        Service service = new Service();
+        service.setUniqueId("b");
+        when(toscaOperationFacade.getToscaElement("b", JsonParseFlagEnum.ParseMetadata)).thenReturn(Either.left(service));
+        Map<FilterKeyEnum, String> filters = new EnumMap<>(FilterKeyEnum.class);
+        filters.put(FilterKeyEnum.CATEGORY, CATEGORY_NAME);
+
+        Either<List<? extends Component>, ResponseFormat> page = elementBusinessLogic
+                .getFilteredCatalogComponents("services", filters, null, "a", 0L, 1);
+
+        assertThat(page.left().value()).containsExactly(service);
+        verify(toscaOperationFacade, never()).getToscaElement("c", JsonParseFlagEnum.ParseMetadata);
+    }
+
+    @Test
+    public void testGetFilteredCatalogComponents_givenCursorAfterTheLastComponent_thenReturnsAnEmptyPage() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(GraphPropertiesDictionary.NORMALIZED_NAME.getProperty(), ValidationUtils.normalizeCategoryName4Uniqueness(CATEGORY_NAME));
+        when(janusGraphGenericDao.getByCriteria(NodeTypeEnum.ServiceNewCategory, props, CategoryData.class))
+                .thenReturn(Either.left(categories));
+        when(janusGraphDao.getVertexById(CATEGORY_UNIQUE_ID, JsonParseFlagEnum.NoParse)).thenReturn(Either.left(categoryVertex));
+        when(janusGraphDao.getParentVertices(categoryVertex, EdgeLabelEnum.CATEGORY, JsonParseFlagEnum.ParseMetadata))
+                .thenReturn(Either.left(deletedAndNotDeletedServiceVertices));
+        Map<FilterKeyEnum, String> filters = new EnumMap<>(FilterKeyEnum.class);
+        filters.put(FilterKeyEnum.CATEGORY, CATEGORY_NAME);
+
+        Either<List<? extends Component>, ResponseFormat> page = elementBusinessLogic
+                .getFilteredCatalogComponents("services", filters, null, PROPER_COMPONENT_ID, 0L, 10);
+
+        assertThat(page.left().value()).isEmpty();
+        verify(toscaOperationFacade, never()).getToscaElement(PROPER_COMPONENT_ID, JsonParseFlagEnum.ParseMetadata);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testGetFilteredCatalogComponents_givenResourceTypeAndPagingParameters_thenSelectsThePageOnTheMetadata() {
+        Resource resource = new Resource();
+        resource.setUniqueId("b");
+        ArgumentCaptor<UnaryOperator<List<ComponentMetadataDataDefinition>>> selector = ArgumentCaptor.forClass(UnaryOperator.class);
+        when(toscaOperationFacade.fetchMetaDataByResourceType(eq(ResourceTypeEnum.VF.getValue()), any(ComponentParametersView.class),
+                selector.capture())).thenReturn(Either.left(Collections.singletonList(resource)));
+        Map<FilterKeyEnum, String> filters = new EnumMap<>(FilterKeyEnum.class);
+        filters.put(FilterKeyEnum.RESOURCE_TYPE, ResourceTypeEnum.VF.getValue());
+
+        Either<List<? extends Component>, ResponseFormat> page = elementBusinessLogic
+                .getFilteredCatalogComponents("resources", filters, null, "a", 0L, 1);
+
+        assertThat(page.left().value()).containsExactly(resource);
+        List<ComponentMetadataDataDefinition> metadata = new ArrayList<>();
+        for (String uniqueId : new String[]{"c", "a", "b"}) {
+            ResourceMetadataDataDefinition resourceMetadata = new ResourceMetadataDataDefinition();
+            resourceMetadata.setUniqueId(uniqueId);
+            metadata.add(resourceMetadata);
+        }
+        assertThat(selector.getValue().apply(metadata)).extracting(ComponentMetadataDataDefinition::getUniqueId).containsExactly("b");
+        verify(toscaOperationFacade, never()).fetchMetaDataByResourceType(anyString(), any(ComponentParametersView.class));
+    }
 
 }
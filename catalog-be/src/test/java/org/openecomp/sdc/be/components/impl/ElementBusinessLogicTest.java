@@ -37,6 +37,7 @@ import org.openecomp.sdc.be.components.validation.UserValidations;
 import org.openecomp.sdc.be.dao.api.ActionStatus;
 import org.openecomp.sdc.be.dao.janusgraph.JanusGraphDao;
 import org.openecomp.sdc.be.datatypes.enums.ComponentTypeEnum;
+import org.openecomp.sdc.be.datatypes.enums.FilterKeyEnum;
 import org.openecomp.sdc.be.datatypes.enums.NodeTypeEnum;
 import org.openecomp.sdc.be.impl.ComponentsUtils;
 import org.openecomp.sdc.be.model.BaseType;
@@ -45,6 +46,7 @@ import org.openecomp.sdc.be.model.Product;
 import org.openecomp.sdc.be.model.Resource;
 import org.openecomp.sdc.be.model.Service;
 import org.openecomp.sdc.be.model.User;
+import org.openecomp.sdc.be.model.catalog.CatalogComponent;
 import org.openecomp.sdc.be.model.category.CategoryDefinition;
 import org.openecomp.sdc.be.model.category.SubCategoryDefinition;
 import org.openecomp.sdc.be.model.jsonjanusgraph.operations.ToscaOperationFacade;
@@ -54,6 +56,8 @@ import org.openecomp.sdc.be.user.UserBusinessLogic;
 import org.openecomp.sdc.exception.ResponseFormat;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -325,4 +329,38 @@ public class ElementBusinessLogicTest extends BaseBusinessLogicMock {
         when(userValidations.validateUserExistsActionStatus(eq(user.getUserId()))).thenReturn(ActionStatus.RESTRICTED_OPERATION);
         Assert.assertTrue(elementBusinessLogic.getBaseTypes("CAT01", user.getUserId(), null).isRight());
     }
+
+    @Test
+    public void testGetCatalogComponentsPage_givenPagingParameters_thenReadsThePageOnly() {
+        CatalogComponent catalogComponent = new CatalogComponent();
+        catalogComponent.setUniqueId("b");
+        when(toscaOperationFacade.getCatalogComponentsPage(ComponentTypeEnum.RESOURCE, "a", 100L, 2))
+            .thenReturn(Either.left(Collections.singletonList(catalogComponent)));
+        Either<List<CatalogComponent>, ResponseFormat> result = elementBusinessLogic
+            .getCatalogComponentsPage("resources", "limit=2&cursor=YQ&updatedSince=100", "a", 100L, 2);
+        Assert.assertTrue(result.isLeft());
+        Assert.assertEquals("b", result.left().value().get(0).getUniqueId());
+    }
+
+    @Test
+    public void testGetFilteredCatalogComponents_givenPagingParameters_thenReturnsThePageOrderedByUniqueId() {
+        List<Service> services = new ArrayList<>();
+        for (String uniqueId : new String[]{"d", "b", "a", "c"}) {
+            Service service = new Service();
+            service.setUniqueId(uniqueId);
+            service.setLastUpdateDate("c".equals(uniqueId) ? 50L : 200L);
+            services.add(service);
+        }
+        when(toscaOperationFacade.getServicesWithDistStatus(anySet(), eq(null))).thenReturn(Either.left(services));
+        Map<FilterKeyEnum, String> filters = new EnumMap<>(FilterKeyEnum.class);
+        filters.put(FilterKeyEnum.DISTRIBUTION_STATUS, "Distributed");
+        Either<List<? extends Component>, ResponseFormat> result = elementBusinessLogic
+            .getFilteredCatalogComponents("services", filters, "distributionStatus=Distributed&limit=1", "a", 100L, 1);
+        Assert.assertTrue(result.isLeft());
+        Assert.assertEquals(1, result.left().value().size());
+        Assert.assertEquals("b", result.left().value().get(0).getUniqueId());
+        result = elementBusinessLogic.getFilteredCatalogComponents("services", filters, "distributionStatus=Distributed", "b", 100L, 0);
+        Assert.assertEquals(1, result.left().value().size());
+        Assert.assertEquals("d", result.left().value().get(0).getUniqueId());
+    }
 }
\ No newline at end of file
@@ -41,10 +41,13 @@ import org.openecomp.sdc.be.model.DistributionStatusEnum;
 import org.openecomp.sdc.be.model.LifecycleStateEnum;
 import org.openecomp.sdc.be.model.Resource;
 import org.openecomp.sdc.be.model.Service;
+import org.openecomp.sdc.be.model.catalog.CatalogComponent;
+import org.openecomp.sdc.be.model.category.CategoryDefinition;
 import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
 import org.openecomp.sdc.common.api.ArtifactGroupTypeEnum;
 import org.openecomp.sdc.exception.ResponseFormat;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -295,4 +298,25 @@ public class AssetMetadataConverterTest {
 				new Object[] { componentInstances, componentType, componentUUID });
 		assertThat(result.isLeft()).isTrue();
 	}
+
+	@Test
+	public void testConvertCatalogComponentToAssetMetadata() throws Exception {
+		AssetMetadataConverter testSubject = createTestSubject();
+		CatalogComponent catalogComponent = new CatalogComponent();
+		catalogComponent.setComponentType(ComponentTypeEnum.SERVICE);
+		catalogComponent.setUuid("uuid");
+		catalogComponent.setName("name");
+		catalogComponent.setLifecycleState(LifecycleStateEnum.CERTIFIED.name());
+		catalogComponent.setDistributionStatus(DistributionStatusEnum.DISTRIBUTED.name());
+		CategoryDefinition category = new CategoryDefinition();
+		category.setName("category");
+		catalogComponent.setCategories(Collections.singletonList(category));
+
+		ServiceAssetMetadata result = (ServiceAssetMetadata) testSubject.convertToAssetMetadata(catalogComponent, "/sdc/v1/catalog/services");
+		assertThat(result.getName()).isEqualTo("name");
+		assertThat(result.getCategory()).isEqualTo("category");
+		assertThat(result.getLifecycleState()).isEqualTo(LifecycleStateEnum.CERTIFIED.name());
+		assertThat(result.getDistributionStatus()).isEqualTo(DistributionStatusEnum.DISTRIBUTED.name());
+		assertThat(result.getToscaModelURL()).isEqualTo("/sdc/v1/catalog/services/uuid/toscaModel");
+	}
 }
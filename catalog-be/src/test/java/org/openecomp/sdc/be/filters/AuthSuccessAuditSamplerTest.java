@@ -0,0 +1,58 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.filters;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+
+public class AuthSuccessAuditSamplerTest {
+
+    private final AtomicLong now = new AtomicLong(1000);
+
+    @Test
+    public void testAllSuccessesAuditedWithoutInterval() {
+        AuthSuccessAuditSampler sampler = new AuthSuccessAuditSampler(0, now::get);
+        assertEquals(0, sampler.sample("user"));
+        assertEquals(0, sampler.sample("user"));
+    }
+
+    @Test
+    public void testFirstSuccessOfEveryIntervalAudited() {
+        AuthSuccessAuditSampler sampler = new AuthSuccessAuditSampler(60, now::get);
+        assertEquals(0, sampler.sample("user"));
+        now.addAndGet(1000);
+        assertEquals(AuthSuccessAuditSampler.NOT_AUDITED, sampler.sample("user"));
+        assertEquals(AuthSuccessAuditSampler.NOT_AUDITED, sampler.sample("user"));
+        now.addAndGet(59000);
+        assertEquals(2, sampler.sample("user"));
+        assertEquals(AuthSuccessAuditSampler.NOT_AUDITED, sampler.sample("user"));
+    }
+
+    @Test
+    public void testUsersSampledSeparately() {
+        AuthSuccessAuditSampler sampler = new AuthSuccessAuditSampler(60, now::get);
+        assertEquals(0, sampler.sample("user1"));
+        assertEquals(0, sampler.sample("user2"));
+        assertEquals(AuthSuccessAuditSampler.NOT_AUDITED, sampler.sample("user1"));
+    }
+}
@@ -0,0 +1,156 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2020 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.filters;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import javax.servlet.ServletContext;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
+import org.apache.commons.codec.binary.Base64;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.openecomp.sdc.be.config.ConfigurationManager;
+import org.openecomp.sdc.be.dao.api.ActionStatus;
+import org.openecomp.sdc.be.filters.BasicAuthenticationFilter.AuthStatus;
+import org.openecomp.sdc.be.impl.ComponentsUtils;
+import org.openecomp.sdc.be.impl.WebAppContextWrapper;
+import org.openecomp.sdc.common.api.ConfigurationSource;
+import org.openecomp.sdc.common.api.Constants;
+import org.openecomp.sdc.common.impl.ExternalConfiguration;
+import org.openecomp.sdc.common.impl.FSConfigurationSource;
+import org.openecomp.sdc.exception.ResponseFormat;
+import org.springframework.web.context.WebApplicationContext;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BasicAuthenticationFilterTest {
+
+    private static final String PATH = "/v1/catalog/services";
+    // the user configured in the basicAuth section of the test configuration
+    private static final String USER_NAME = "test";
+    private static final String USER_PASS = "test";
+    private static ConfigurationSource configurationSource = new FSConfigurationSource(ExternalConfiguration.getChangeListener(),
+        "src/test/resources/config/catalog-be");
+    private static ConfigurationManager configurationManager = new ConfigurationManager(configurationSource);
+
+    @InjectMocks
+    private BasicAuthenticationFilter basicAuthenticationFilter;
+    @Mock
+    private HttpServletRequest servletRequest;
+    @Mock
+    private ServletContext servletContext;
+    @Mock
+    private WebAppContextWrapper webAppContextWrapper;
+    @Mock
+    private WebApplicationContext webApplicationContext;
+    @Mock
+    private ComponentsUtils componentsUtils;
+    @Mock
+    private ContainerRequest requestContext;
+    @Mock
+    private UriInfo uriInfo;
+    @Mock
+    private ResponseFormat responseFormat;
+
+    @Before
+    public void setUp() {
+        configurationManager.getConfiguration().getBasicAuth().setEnabled(true);
+        lenient().when(requestContext.getRequestUri()).thenReturn(URI.create("http://localhost:8080/sdc" + PATH));
+        lenient().when(requestContext.getUriInfo()).thenReturn(uriInfo);
+        lenient().when(uriInfo.getPath()).thenReturn(PATH);
+        lenient().when(uriInfo.getRequestUri()).thenReturn(URI.create("http://localhost:8080/sdc" + PATH));
+        lenient().when(uriInfo.getBaseUri()).thenReturn(URI.create("http://localhost:8080/sdc"));
+        lenient().when(servletRequest.getServletContext()).thenReturn(servletContext);
+        lenient().when(servletContext.getAttribute(Constants.WEB_APPLICATION_CONTEXT_WRAPPER_ATTR)).thenReturn(webAppContextWrapper);
+        lenient().when(webAppContextWrapper.getWebAppContext(servletContext)).thenReturn(webApplicationContext);
+        lenient().when(webApplicationContext.getBean(ComponentsUtils.class)).thenReturn(componentsUtils);
+        lenient().when(componentsUtils.getResponseFormat(any(ActionStatus.class))).thenReturn(responseFormat);
+        lenient().when(responseFormat.getStatus()).thenReturn(403);
+        lenient().when(responseFormat.getFormattedMessage()).thenReturn("authentication failed");
+    }
+
+    @After
+    public void tearDown() {
+        configurationManager.getConfiguration().getBasicAuth().setEnabled(false);
+    }
+
+    @Test
+    public void testConfiguredCredentialsAreAccepted() throws Exception {
+        when(requestContext.getHeaderString(Constants.AUTHORIZATION_HEADER)).thenReturn(basicHeader(USER_NAME + ":" + USER_PASS));
+        basicAuthenticationFilter.filter(requestContext);
+        verify(requestContext, never()).abortWith(any(Response.class));
+        verify(componentsUtils).auditAuthEvent(PATH, USER_NAME, AuthStatus.AUTH_SUCCESS.toString(), "ASDC");
+    }
+
+    @Test
+    public void testCredentialsWithSurroundingSpacesAreAccepted() throws Exception {
+        when(requestContext.getHeaderString(Constants.AUTHORIZATION_HEADER)).thenReturn(basicHeader(" " + USER_NAME + " : " + USER_PASS + " "));
+        basicAuthenticationFilter.filter(requestContext);
+        verify(requestContext, never()).abortWith(any(Response.class));
+        verify(componentsUtils).auditAuthEvent(PATH, USER_NAME, AuthStatus.AUTH_SUCCESS.toString(), "ASDC");
+    }
+
+    @Test
+    public void testWrongPasswordIsAborted() throws Exception {
+        when(requestContext.getHeaderString(Constants.AUTHORIZATION_HEADER)).thenReturn(basicHeader(USER_NAME + ":wrong"));
+        basicAuthenticationFilter.filter(requestContext);
+        verify(requestContext).abortWith(any(Response.class));
+        verify(componentsUtils).auditAuthEvent(PATH, USER_NAME, AuthStatus.AUTH_FAILED_INVALID_PASSWORD.toString(), "ASDC");
+        verify(componentsUtils, never()).auditAuthEvent(anyString(), anyString(), eq(AuthStatus.AUTH_SUCCESS.toString()), anyString());
+    }
+
+    @Test
+    public void testEmptyBasicHeaderIsRejected() throws Exception {
+        when(requestContext.getHeaderString(Constants.AUTHORIZATION_HEADER)).thenReturn("Basic");
+        basicAuthenticationFilter.filter(requestContext);
+        verify(requestContext).abortWith(any(Response.class));
+        verify(componentsUtils).auditAuthEvent(PATH, "", AuthStatus.AUTH_FAILED_INVALID_AUTHENTICATION_HEADER.toString(), "ASDC");
+        verify(componentsUtils).getResponseFormat(ActionStatus.AUTH_FAILED_INVALIDE_HEADER);
+    }
+
+    @Test
+    public void testComponentsUtilsAreTakenFromTheServletContextOfTheRequest() throws Exception {
+        when(requestContext.getHeaderString(Constants.AUTHORIZATION_HEADER)).thenReturn(basicHeader(USER_NAME + ":" + USER_PASS));
+        basicAuthenticationFilter.filter(requestContext);
+        verify(servletRequest).getServletContext();
+        verify(webAppContextWrapper).getWebAppContext(servletContext);
+        verify(webApplicationContext).getBean(ComponentsUtils.class);
+    }
+
+    private static String basicHeader(String credentials) {
+        return "Basic " + Base64.encodeBase64String(credentials.getBytes(StandardCharsets.UTF_8));
+    }
+}
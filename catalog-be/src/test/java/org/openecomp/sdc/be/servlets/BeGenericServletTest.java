@@ -0,0 +1,82 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.servlets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import javax.ws.rs.core.StreamingOutput;
+import org.junit.jupiter.api.Test;
+import org.openecomp.sdc.be.dao.api.ActionStatus;
+import org.openecomp.sdc.be.impl.ComponentsUtils;
+import org.openecomp.sdc.exception.ResponseFormat;
+
+class BeGenericServletTest {
+
+    private final ComponentsUtils componentsUtils = mock(ComponentsUtils.class);
+    private final BeGenericServlet servlet = new BeGenericServlet(null, componentsUtils) {
+        @Override
+        protected ComponentsUtils getComponentsUtils() {
+            return componentsUtils;
+        }
+    };
+    private final ResponseFormat ok = new ResponseFormat(200);
+    private final List<ResponseFormat> audited = new ArrayList<>();
+
+    @Test
+    void streamContentAuditsOnceThePayloadIsWritten() throws IOException {
+        byte[] payload = "payload".getBytes(StandardCharsets.UTF_8);
+        StreamingOutput streamingOutput = servlet.streamContent(new ByteArrayInputStream(payload), ok, audited::add);
+        assertTrue(audited.isEmpty());
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        streamingOutput.write(output);
+
+        assertArrayEquals(payload, output.toByteArray());
+        assertEquals(List.of(ok), audited);
+    }
+
+    @Test
+    void streamContentAuditsAnErrorWhenThePayloadCannotBeRead() {
+        ResponseFormat generalError = new ResponseFormat(500);
+        when(componentsUtils.getResponseFormat(ActionStatus.GENERAL_ERROR)).thenReturn(generalError);
+        InputStream failing = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("chunk is missing");
+            }
+        };
+        StreamingOutput streamingOutput = servlet.streamContent(failing, ok, audited::add);
+
+        assertThrows(IOException.class, () -> streamingOutput.write(new ByteArrayOutputStream()));
+        assertEquals(List.of(generalError), audited);
+    }
+}
@@ -0,0 +1,79 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.servlets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class ByteRangeTest {
+
+    private static final long SIZE = 100;
+
+    @Test
+    void parseClosedRange() {
+        ByteRange range = ByteRange.parse("bytes=10-19", SIZE).get();
+        assertEquals(10, range.getOffset());
+        assertEquals(10, range.getLength());
+        assertEquals("bytes 10-19/100", range.toContentRange(SIZE));
+    }
+
+    @Test
+    void parseOpenRangeUpToTheEnd() {
+        ByteRange range = ByteRange.parse("bytes=90-", SIZE).get();
+        assertEquals(90, range.getOffset());
+        assertEquals(10, range.getLength());
+    }
+
+    @Test
+    void parseRangeEndingAfterThePayload() {
+        ByteRange range = ByteRange.parse("bytes=95-200", SIZE).get();
+        assertEquals(95, range.getOffset());
+        assertEquals(5, range.getLength());
+    }
+
+    @Test
+    void parseSuffixRange() {
+        ByteRange range = ByteRange.parse("bytes=-30", SIZE).get();
+        assertEquals(70, range.getOffset());
+        assertEquals(30, range.getLength());
+        assertEquals(SIZE, ByteRange.parse("bytes=-300", SIZE).get().getLength());
+    }
+
+    @Test
+    void rangeStartingAfterThePayloadIsUnsatisfiable() {
+        ByteRange range = ByteRange.parse("bytes=100-", SIZE).get();
+        assertFalse(range.isSatisfiable());
+        assertEquals("bytes */100", range.toContentRange(SIZE));
+    }
+
+    @Test
+    void ignoredHeadersServeTheWholePayload() {
+        assertEquals(Optional.empty(), ByteRange.parse(null, SIZE));
+        assertEquals(Optional.empty(), ByteRange.parse("items=0-1", SIZE));
+        assertEquals(Optional.empty(), ByteRange.parse("bytes=0-1,5-6", SIZE));
+        assertEquals(Optional.empty(), ByteRange.parse("bytes=20-10", SIZE));
+        assertEquals(Optional.empty(), ByteRange.parse("bytes=a-b", SIZE));
+        assertTrue(ByteRange.parse("bytes=0-0", SIZE).isPresent());
+    }
+}
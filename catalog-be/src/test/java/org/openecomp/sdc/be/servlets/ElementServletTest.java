@@ -38,6 +38,7 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpSession;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.core.Application;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
@@ -59,6 +60,7 @@ import org.openecomp.sdc.be.components.impl.ElementBusinessLogic;
 import org.openecomp.sdc.be.components.impl.ModelBusinessLogic;
 import org.openecomp.sdc.be.components.impl.ResourceBusinessLogic;
 import org.openecomp.sdc.be.components.impl.ResourceImportManager;
+import org.openecomp.sdc.be.components.impl.exceptions.ByActionStatusComponentException;
 import org.openecomp.sdc.be.components.impl.exceptions.ByResponseFormatComponentException;
 import org.openecomp.sdc.be.components.impl.exceptions.ComponentException;
 import org.openecomp.sdc.be.components.scheduledtasks.ComponentsCleanBusinessLogic;
@@ -127,6 +129,7 @@ class ElementServletTest extends JerseyTest {
     private static final ResponseFormat unauthorizedResponseFormat = Mockito.mock(ResponseFormat.class);
     private static final ResponseFormat notFoundResponseFormat = Mockito.mock(ResponseFormat.class);
     private static final ResponseFormat badRequestResponseFormat = Mockito.mock(ResponseFormat.class);
+    private static final String CATALOG_ETAG = "\"catalog-etag\"";
     private static final String EMPTY_JSON = "{}";
     private static final String COMPONENT_TYPE = "componentType";
     private static final String CATEGORY_UNIQUE_ID = "categoryUniqueId";
@@ -1042,6 +1045,7 @@ class ElementServletTest extends JerseyTest {
     void screenNoCatalogComponentsFoundTest() {
         String path = "/v1/screen";
 
+        when(elementBusinessLogic.getCatalogComponentsETag(eq(designerUser.getUserId()), any())).thenReturn(Either.left(CATALOG_ETAG));
         Either<Map<String, List<CatalogComponent>>, ResponseFormat> screenEither = Either
             .right(badRequestResponseFormat);
         when(elementBusinessLogic.getCatalogComponents(eq(designerUser.getUserId()), any()))
@@ -1061,6 +1065,7 @@ class ElementServletTest extends JerseyTest {
     void screenExceptionDuringProcessingTest() {
         String path = "/v1/screen";
 
+        when(elementBusinessLogic.getCatalogComponentsETag(eq(designerUser.getUserId()), any())).thenReturn(Either.left(CATALOG_ETAG));
         when(elementBusinessLogic.getCatalogComponents(eq(designerUser.getUserId()), any()))
             .thenThrow(new RuntimeException("Test exception: screen"));
 
@@ -1078,6 +1083,7 @@ class ElementServletTest extends JerseyTest {
     void screenTest() {
         String path = "/v1/screen";
 
+        when(elementBusinessLogic.getCatalogComponentsETag(eq(designerUser.getUserId()), any())).thenReturn(Either.left(CATALOG_ETAG));
         Either<Map<String, List<CatalogComponent>>, ResponseFormat> screenEither = Either.left(new HashMap<>());
         when(elementBusinessLogic.getCatalogComponents(eq(designerUser.getUserId()), any()))
             .thenReturn(screenEither);
@@ -1090,6 +1096,45 @@ class ElementServletTest extends JerseyTest {
             .get();
 
         assertThat(response.getStatus()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(response.getHeaderString(HttpHeaders.ETAG)).isEqualTo(CATALOG_ETAG);
+    }
+
+    @Test
+    void screenNotModifiedTest() {
+        String path = "/v1/screen";
+
+        when(elementBusinessLogic.getCatalogComponentsETag(eq(designerUser.getUserId()), any())).thenReturn(Either.left(CATALOG_ETAG));
+
+        Response response = target()
+            .path(path)
+            .request()
+            .accept(MediaType.APPLICATION_JSON)
+            .header(Constants.USER_ID_HEADER, designerUser.getUserId())
+            .header(HttpHeaders.IF_NONE_MATCH, CATALOG_ETAG)
+            .get();
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.SC_NOT_MODIFIED);
+        assertThat(response.getHeaderString(HttpHeaders.ETAG)).isEqualTo(CATALOG_ETAG);
+        Mockito.verify(elementBusinessLogic, Mockito.never()).getCatalogComponents(any(), any());
+    }
+
+    @Test
+    void screenNotModifiedValidatesUserTest() {
+        String path = "/v1/screen";
+
+        when(elementBusinessLogic.getCatalogComponentsETag(eq(designerUser.getUserId()), any()))
+            .thenThrow(new ByActionStatusComponentException(ActionStatus.RESTRICTED_OPERATION));
+
+        Response response = target()
+            .path(path)
+            .request()
+            .accept(MediaType.APPLICATION_JSON)
+            .header(Constants.USER_ID_HEADER, designerUser.getUserId())
+            .header(HttpHeaders.IF_NONE_MATCH, CATALOG_ETAG)
+            .get();
+
+        assertThat(response.getStatus()).isNotEqualTo(HttpStatus.SC_NOT_MODIFIED);
+        Mockito.verify(elementBusinessLogic, Mockito.never()).getCatalogComponents(any(), any());
     }
 
     @Override
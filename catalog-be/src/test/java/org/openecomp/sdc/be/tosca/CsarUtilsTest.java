@@ -71,6 +71,7 @@ import org.openecomp.sdc.be.components.impl.artifact.ArtifactOperationInfo;
 import org.openecomp.sdc.be.config.ConfigurationManager;
 import org.openecomp.sdc.be.dao.api.ActionStatus;
 import org.openecomp.sdc.be.dao.cassandra.ArtifactCassandraDao;
+import org.openecomp.sdc.be.dao.cassandra.ArtifactContent;
 import org.openecomp.sdc.be.dao.cassandra.CassandraOperationStatus;
 import org.openecomp.sdc.be.dao.cassandra.SdcSchemaFilesCassandraDao;
 import org.openecomp.sdc.be.datatypes.enums.ComponentTypeEnum;
@@ -128,6 +129,8 @@ public class CsarUtilsTest extends BeConfDependentTest {
 		ExternalConfiguration.setAppName("catalog-be");
 		MockitoAnnotations.initMocks(this);
 		initConfigurationManager();
+		Mockito.when(artifactCassandraDao.getArtifactContent(Mockito.any(String.class))).thenAnswer(invocation ->
+			artifactCassandraDao.getArtifact(invocation.getArgument(0)).left().map(data -> ArtifactContent.of(data.getDataAsArray())));
 	}
 
 	private static void initConfigurationManager() {
@@ -170,6 +173,27 @@ public class CsarUtilsTest extends BeConfDependentTest {
 		testSubject.createCsar(component, true, true);
 	}
 
+	@Test
+	public void testCreateCsarFileWhenToscaTemplateIsMissing() {
+		Component component = new Resource();
+		Map<String, ArtifactDefinition> toscaArtifacts = new HashMap<>();
+		ArtifactDefinition artifact = new ArtifactDefinition();
+		artifact.setArtifactName("artifactName");
+		artifact.setEsId("esId");
+		toscaArtifacts.put("assettoscatemplate", artifact);
+
+		component.setToscaArtifacts(toscaArtifacts);
+
+		Mockito.when(artifactCassandraDao.getArtifact(Mockito.any(String.class)))
+				.thenReturn(Either.right(CassandraOperationStatus.GENERAL_ERROR));
+
+		Mockito.when(componentsUtils.convertFromStorageResponse(Mockito.any(StorageOperationStatus.class)))
+				.thenReturn(ActionStatus.GENERAL_ERROR);
+
+		Either<Path, ResponseFormat> result = testSubject.createCsarFile(component, true, true);
+		assertTrue(result.isRight());
+	}
+
 	@Test
 	public void testCreateCsarWithGenerateCsarZipResponseIsLeft() {
 		Component component = new Resource();
@@ -60,6 +60,7 @@ import org.apache.commons.lang3.tuple.Triple;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -1700,6 +1701,43 @@ public class ToscaExportHandlerTest extends BeConfDependentTest {
     }
 
 
+    @Test
+    public void testProxyExportsDoNotModifySharedComponent() {
+        // a certified component served by the certified component cache is the same instance in every export
+        Component cachedService = getTestComponent();
+        OperationDataDefinition operation = new OperationDataDefinition();
+        operation.setName("create");
+        ArtifactDataDefinition implementation = new ArtifactDataDefinition();
+        implementation.setArtifactName("create.sh");
+        operation.setImplementation(implementation);
+        cachedService.getInterfaces().values().iterator().next().getOperations().put("create", operation);
+        PropertyDefinition property = createMockProperty("componentPropStr", null);
+        property.setUniqueId("componentPropStrId");
+        property.setValue("propertyValue");
+        InputDefinition input = createMockInput("componentInputStr", null);
+        input.setPropertyId("componentPropStrId");
+        input.setValue("inputValue");
+        cachedService.setProperties(new ArrayList<>(Collections.singletonList(property)));
+        cachedService.setInputs(new ArrayList<>(Collections.singletonList(input)));
+
+        for (int export = 0; export < 2; export++) {
+            assertTrue(testSubject.getProxyNodeTypeInterfaces(cachedService, DATA_TYPES).isPresent());
+            assertTrue(testSubject.getProxyNodeTypeProperties(cachedService, DATA_TYPES).isPresent());
+        }
+
+        ArgumentCaptor<Map<String, InterfaceDefinition>> exportedInterfaces = ArgumentCaptor.forClass((Class) Map.class);
+        verify(interfacesOperationsConverter, times(2))
+            .getInterfacesMap(eq(cachedService), isNull(), exportedInterfaces.capture(), anyMap(), eq(false), eq(false));
+        exportedInterfaces.getAllValues().forEach(interfaces -> Assert.assertNull(
+            interfaces.values().iterator().next().getOperations().get("create").getImplementation()));
+        ArgumentCaptor<PropertyDefinition> exportedProperties = ArgumentCaptor.forClass(PropertyDefinition.class);
+        verify(propertyConvertor, times(2)).convertProperty(any(), exportedProperties.capture(), eq(PROPERTY));
+        exportedProperties.getAllValues().forEach(exported -> assertEquals("inputValue", exported.getValue()));
+
+        assertEquals("create.sh", operation.getImplementation().getArtifactName());
+        assertEquals("propertyValue", property.getValue());
+    }
+
     @Test
     public void testGetProxyNodeTypePropertiesComponentNull() {
         Optional<Map<String, ToscaProperty>> proxyNodeTypeProperties =
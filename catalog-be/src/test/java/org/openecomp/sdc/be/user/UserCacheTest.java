@@ -0,0 +1,131 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.user;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import fj.data.Either;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.junit.Before;
+import org.junit.Test;
+import org.openecomp.sdc.be.config.Configuration.UserCacheConfig;
+import org.openecomp.sdc.be.dao.api.ActionStatus;
+import org.openecomp.sdc.be.dao.utils.UserStatusEnum;
+import org.openecomp.sdc.be.model.User;
+
+public class UserCacheTest {
+
+    private static final String USER_ID = "jh0003";
+    private final AtomicInteger loads = new AtomicInteger();
+    private final AtomicInteger checks = new AtomicInteger();
+    private boolean current = true;
+    private UserCache userCache;
+    private Either<User, ActionStatus> stored;
+
+    @Before
+    public void setUp() {
+        UserCacheConfig config = new UserCacheConfig();
+        config.setEnabled(true);
+        userCache = new UserCache(config);
+        stored = Either.left(buildUser(Role.DESIGNER.name()));
+    }
+
+    @Test
+    public void testUserReadOnceAndCopied() {
+        User first = userCache.getUser(USER_ID, loader(), isCurrent()).left().value();
+        first.setRole(Role.ADMIN.name());
+        User second = userCache.getUser(USER_ID, loader(), isCurrent()).left().value();
+
+        assertEquals(1, loads.get());
+        assertEquals(Role.DESIGNER.name(), second.getRole());
+        assertEquals(UserStatusEnum.ACTIVE, second.getStatus());
+        assertEquals(1, userCache.getStats().hitCount());
+        assertEquals(1, userCache.getStats().missCount());
+    }
+
+    @Test
+    public void testEvictedUserReadAgain() {
+        userCache.getUser(USER_ID, loader(), isCurrent());
+        stored = Either.left(buildUser(Role.TESTER.name()));
+        userCache.evict(USER_ID);
+
+        assertEquals(Role.TESTER.name(), userCache.getUser(USER_ID, loader(), isCurrent()).left().value().getRole());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testUserChangedOnAnotherInstanceReadAgain() {
+        userCache.getUser(USER_ID, loader(), isCurrent());
+        stored = Either.right(ActionStatus.USER_INACTIVE);
+        current = false;
+
+        assertEquals(ActionStatus.USER_INACTIVE, userCache.getUser(USER_ID, loader(), isCurrent()).right().value());
+        assertEquals(2, loads.get());
+        assertEquals(1, checks.get());
+    }
+
+    @Test
+    public void testFailedLookupNotCached() {
+        stored = Either.right(ActionStatus.USER_NOT_FOUND);
+        assertTrue(userCache.getUser(USER_ID, loader(), isCurrent()).isRight());
+        assertTrue(userCache.getUser(USER_ID, loader(), isCurrent()).isRight());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testUserEvictedDuringLookupNotCached() {
+        userCache.getUser(USER_ID, () -> {
+            Either<User, ActionStatus> user = loader().get();
+            userCache.evict(USER_ID);
+            return user;
+        }, isCurrent());
+        userCache.getUser(USER_ID, loader(), isCurrent());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testDisabledCacheAlwaysReads() {
+        userCache = new UserCache(new UserCacheConfig());
+        userCache.getUser(USER_ID, loader(), isCurrent());
+        userCache.getUser(USER_ID, loader(), isCurrent());
+        assertEquals(2, loads.get());
+    }
+
+    private Predicate<User> isCurrent() {
+        return user -> {
+            checks.incrementAndGet();
+            return current;
+        };
+    }
+
+    private Supplier<Either<User, ActionStatus>> loader() {
+        return () -> {
+            loads.incrementAndGet();
+            return stored;
+        };
+    }
+
+    private static User buildUser(String role) {
+        return new User("Jimmy", "Hendrix", USER_ID, "jh0003@sdc.com", role, 0L);
+    }
+}
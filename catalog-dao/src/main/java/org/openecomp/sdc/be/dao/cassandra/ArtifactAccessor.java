@@ -33,4 +33,13 @@ public interface ArtifactAccessor {
     // *****  get the number of artifacts with a specific id
     @Query("SELECT COUNT(*) FROM sdcartifact.resources WHERE ID = :uniqueId")
     ResultSet getNumOfArtifactsById(@Param("uniqueId") String uniqueId);
+
+    @Query("SELECT COUNT(*) FROM sdcartifact.artifactmanifest WHERE ID = :uniqueId")
+    ResultSet getNumOfChunkedArtifactsById(@Param("uniqueId") String uniqueId);
+
+    @Query("SELECT data FROM sdcartifact.artifactchunks WHERE ID = :uniqueId AND GENERATION = :generation AND CHUNKINDEX = :chunkIndex")
+    ResultSet getArtifactChunk(@Param("uniqueId") String uniqueId, @Param("generation") String generation, @Param("chunkIndex") int chunkIndex);
+
+    @Query("DELETE FROM sdcartifact.artifactchunks WHERE ID = :uniqueId AND GENERATION = :generation AND CHUNKINDEX = :chunkIndex")
+    ResultSet deleteArtifactChunk(@Param("uniqueId") String uniqueId, @Param("generation") String generation, @Param("chunkIndex") int chunkIndex);
 }
@@ -20,22 +20,47 @@
 package org.openecomp.sdc.be.dao.cassandra;
 
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.mapping.MappingManager;
 import fj.data.Either;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.UUID;
 import javax.annotation.PostConstruct;
+import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.openecomp.sdc.be.config.Configuration;
+import org.openecomp.sdc.be.config.ConfigurationManager;
+import org.openecomp.sdc.be.resources.data.ArtifactChunkData;
+import org.openecomp.sdc.be.resources.data.ArtifactManifestData;
 import org.openecomp.sdc.be.resources.data.DAOArtifactData;
 import org.openecomp.sdc.be.resources.data.auditing.AuditingTypesConstants;
 import org.openecomp.sdc.common.log.wrappers.Logger;
+import org.openecomp.sdc.common.util.GeneralUtility;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+/**
+ * Artifacts are stored either as a single row of the resources table, or, when larger than the configured chunk size, as a manifest row and
+ * fixed size chunk rows. Reads look for the single row first, so artifacts stored before chunks existed remain readable as they are.
+ */
 @Component("artifact-cassandra-dao")
 public class ArtifactCassandraDao extends CassandraDao {
 
+    private static final int DEFAULT_CHUNK_SIZE_IN_KB = 1024;
+    private static final String CHUNK_DATA_COLUMN = "data";
     private static Logger logger = Logger.getLogger(ArtifactCassandraDao.class.getName());
     private ArtifactAccessor artifactAccessor;
+    private int chunkSize = DEFAULT_CHUNK_SIZE_IN_KB * 1024;
 
     @Autowired
     public ArtifactCassandraDao(CassandraClient cassandraClient) {
@@ -51,6 +76,7 @@ public class ArtifactCassandraDao extends CassandraDao {
                 session = result.left().value().left;
                 manager = result.left().value().right;
                 artifactAccessor = manager.createAccessor(ArtifactAccessor.class);
+                chunkSize = getConfiguredChunkSize();
                 logger.info("** ArtifactCassandraDao created");
             } else {
                 logger.info("** ArtifactCassandraDao failed");
@@ -63,15 +89,190 @@ public class ArtifactCassandraDao extends CassandraDao {
     }
 
     public CassandraOperationStatus saveArtifact(DAOArtifactData artifact) {
-        return client.save(artifact, DAOArtifactData.class, manager);
+        byte[] data = artifact == null ? null : artifact.getDataAsArray();
+        if (data != null && data.length > chunkSize) {
+            return saveArtifact(artifact.getId(), new ByteArrayInputStream(data));
+        }
+        CassandraOperationStatus status = client.save(artifact, DAOArtifactData.class, manager);
+        if (status == CassandraOperationStatus.OK) {
+            // the artifact may have been stored as chunks before
+            return deleteChunkedArtifact(artifact.getId());
+        }
+        return status;
+    }
+
+    /**
+     * Stores the payload reading the stream one chunk at a time, a payload that fits in one chunk is stored as a single row. The stream is not
+     * closed.
+     *
+     * @param artifactId the artifact id
+     * @param payload    the artifact payload
+     * @return the status of the operation
+     */
+    public CassandraOperationStatus saveArtifact(String artifactId, InputStream payload) {
+        if (!client.isConnected()) {
+            return CassandraOperationStatus.CLUSTER_NOT_CONNECTED;
+        }
+        PushbackInputStream in = new PushbackInputStream(payload, 1);
+        byte[] buffer = new byte[chunkSize];
+        try {
+            int read = IOUtils.read(in, buffer);
+            int next = in.read();
+            if (next == -1) {
+                return saveArtifact(new DAOArtifactData(artifactId, Arrays.copyOf(buffer, read)));
+            }
+            in.unread(next);
+            return saveChunkedArtifact(artifactId, buffer, read, in);
+        } catch (IOException e) {
+            logger.debug("Failed to read the payload of artifact {}", artifactId, e);
+            return CassandraOperationStatus.GENERAL_ERROR;
+        }
+    }
+
+    /**
+     * Writes the chunks under a new generation and then the manifest pointing to it, so that readers switch from the previous payload to the
+     * new one at once. The chunks of the previous generation are only deleted afterwards.
+     *
+     * @param buffer    a chunk size buffer holding the first chunk
+     * @param firstRead the length of the first chunk
+     * @param payload   the rest of the payload
+     */
+    private CassandraOperationStatus saveChunkedArtifact(String artifactId, byte[] buffer, int firstRead, InputStream payload) {
+        Either<ArtifactManifestData, CassandraOperationStatus> previousManifest = getArtifactManifest(artifactId);
+        if (previousManifest.isRight() && previousManifest.right().value() != CassandraOperationStatus.NOT_FOUND) {
+            return previousManifest.right().value();
+        }
+        String generation = UUID.randomUUID().toString();
+        MessageDigest md5 = DigestUtils.getMd5Digest();
+        long payloadSize = 0;
+        int chunkCount = 0;
+        CassandraOperationStatus status = CassandraOperationStatus.OK;
+        try {
+            int read = firstRead;
+            while (read > 0 && status == CassandraOperationStatus.OK) {
+                md5.update(buffer, 0, read);
+                // the chunk is serialized before save returns, so the buffer can be reused
+                status = client.save(new ArtifactChunkData(artifactId, generation, chunkCount, ByteBuffer.wrap(buffer, 0, read)),
+                    ArtifactChunkData.class, manager);
+                payloadSize += read;
+                chunkCount++;
+                read = status == CassandraOperationStatus.OK ? IOUtils.read(payload, buffer) : 0;
+            }
+        } catch (IOException e) {
+            logger.debug("Failed to read the payload of artifact {}", artifactId, e);
+            status = CassandraOperationStatus.GENERAL_ERROR;
+        }
+        if (status == CassandraOperationStatus.OK) {
+            String checksum = new String(Base64.encodeBase64(Hex.encodeHexString(md5.digest()).getBytes()));
+            status = client.save(new ArtifactManifestData(artifactId, generation, payloadSize, chunkSize, chunkCount, checksum),
+                ArtifactManifestData.class, manager);
+        }
+        if (status != CassandraOperationStatus.OK) {
+            // the manifest still points to the previous generation, only the chunks written here are dropped
+            deleteChunks(artifactId, generation, chunkCount);
+            return status;
+        }
+        if (previousManifest.isLeft()) {
+            ArtifactManifestData previous = previousManifest.left().value();
+            status = deleteChunks(artifactId, previous.getGeneration(), previous.getChunkCount());
+            if (status != CassandraOperationStatus.OK) {
+                return status;
+            }
+        }
+        return client.delete(artifactId, DAOArtifactData.class, manager);
     }
 
+    /**
+     * Reads the whole payload of the artifact in memory, prefer {@link #getArtifactContent(String)} for large artifacts
+     */
     public Either<DAOArtifactData, CassandraOperationStatus> getArtifact(String artifactId) {
-        return client.getById(artifactId, DAOArtifactData.class, manager);
+        Either<DAOArtifactData, CassandraOperationStatus> artifact = client.getById(artifactId, DAOArtifactData.class, manager);
+        if (artifact.isLeft() || artifact.right().value() != CassandraOperationStatus.NOT_FOUND) {
+            return artifact;
+        }
+        return getArtifactManifest(artifactId).left().bind(this::readChunks).left().map(data -> new DAOArtifactData(artifactId, data));
+    }
+
+    /**
+     * @param artifactId the artifact id
+     * @return the payload of the artifact, chunks are only fetched while the payload is read
+     */
+    public Either<ArtifactContent, CassandraOperationStatus> getArtifactContent(String artifactId) {
+        Either<DAOArtifactData, CassandraOperationStatus> artifact = client.getById(artifactId, DAOArtifactData.class, manager);
+        if (artifact.isLeft()) {
+            byte[] data = artifact.left().value().getDataAsArray();
+            if (data == null) {
+                return Either.right(CassandraOperationStatus.NOT_FOUND);
+            }
+            return Either.left(ArtifactContent.of(data, GeneralUtility.calculateMD5Base64EncodedByByteArray(data)));
+        }
+        if (artifact.right().value() != CassandraOperationStatus.NOT_FOUND) {
+            return Either.right(artifact.right().value());
+        }
+        return getArtifactManifest(artifactId).left().map(manifest -> new ArtifactContent(manifest.getPayloadSize(), manifest.getChecksum(),
+            (offset, length) -> new ChunkedArtifactInputStream(manifest, offset, length)));
     }
 
     public CassandraOperationStatus deleteArtifact(String artifactId) {
-        return client.delete(artifactId, DAOArtifactData.class, manager);
+        CassandraOperationStatus status = client.delete(artifactId, DAOArtifactData.class, manager);
+        if (status != CassandraOperationStatus.OK) {
+            return status;
+        }
+        return deleteChunkedArtifact(artifactId);
+    }
+
+    private Either<ArtifactManifestData, CassandraOperationStatus> getArtifactManifest(String artifactId) {
+        return client.getById(artifactId, ArtifactManifestData.class, manager);
+    }
+
+    private Either<byte[], CassandraOperationStatus> readChunks(ArtifactManifestData manifest) {
+        if (manifest.getPayloadSize() > Integer.MAX_VALUE) {
+            logger.debug("Artifact {} of {} bytes is too large to be read in memory", manifest.getId(), manifest.getPayloadSize());
+            return Either.right(CassandraOperationStatus.GENERAL_ERROR);
+        }
+        byte[] data = new byte[(int) manifest.getPayloadSize()];
+        try (InputStream in = new ChunkedArtifactInputStream(manifest, 0, data.length)) {
+            IOUtils.readFully(in, data);
+            return Either.left(data);
+        } catch (IOException e) {
+            logger.debug("Failed to read the chunks of artifact {}", manifest.getId(), e);
+            return Either.right(CassandraOperationStatus.GENERAL_ERROR);
+        }
+    }
+
+    private CassandraOperationStatus deleteChunkedArtifact(String artifactId) {
+        Either<ArtifactManifestData, CassandraOperationStatus> manifest = getArtifactManifest(artifactId);
+        if (manifest.isRight()) {
+            return manifest.right().value() == CassandraOperationStatus.NOT_FOUND ? CassandraOperationStatus.OK : manifest.right().value();
+        }
+        // the manifest is deleted first, so that the artifact is never visible with missing chunks
+        CassandraOperationStatus status = client.delete(artifactId, ArtifactManifestData.class, manager);
+        if (status != CassandraOperationStatus.OK) {
+            return status;
+        }
+        return deleteChunks(artifactId, manifest.left().value().getGeneration(), manifest.left().value().getChunkCount());
+    }
+
+    private CassandraOperationStatus deleteChunks(String artifactId, String generation, int chunkCount) {
+        try {
+            for (int chunkIndex = 0; chunkIndex < chunkCount; chunkIndex++) {
+                artifactAccessor.deleteArtifactChunk(artifactId, generation, chunkIndex);
+            }
+        } catch (Exception e) {
+            logger.debug("Failed to delete the chunks of artifact {}", artifactId, e);
+            return CassandraOperationStatus.GENERAL_ERROR;
+        }
+        return CassandraOperationStatus.OK;
+    }
+
+    private static int getConfiguredChunkSize() {
+        ConfigurationManager configurationManager = ConfigurationManager.getConfigurationManager();
+        Configuration configuration = configurationManager == null ? null : configurationManager.getConfiguration();
+        Configuration.CassandrConfig cassandraConfig = configuration == null ? null : configuration.getCassandraConfig();
+        if (cassandraConfig == null || cassandraConfig.getArtifactChunkSizeInKB() <= 0) {
+            return DEFAULT_CHUNK_SIZE_IN_KB * 1024;
+        }
+        return cassandraConfig.getArtifactChunkSizeInKB() * 1024;
     }
 
     /**
@@ -107,6 +308,98 @@ public class ArtifactCassandraDao extends CassandraDao {
         if (artifactCount == null) {
             return Either.right(CassandraOperationStatus.NOT_FOUND);
         }
-        return Either.left(artifactCount.one().getLong(0));
+        long count = artifactCount.one().getLong(0);
+        ResultSet chunkedArtifactCount = artifactAccessor.getNumOfChunkedArtifactsById(uniqeId);
+        if (chunkedArtifactCount != null) {
+            count += chunkedArtifactCount.one().getLong(0);
+        }
+        return Either.left(count);
+    }
+
+    /**
+     * Reads a range of a chunked artifact, fetching one chunk at a time when the read position reaches it
+     */
+    private final class ChunkedArtifactInputStream extends InputStream {
+
+        private final String artifactId;
+        private final String generation;
+        private final int chunkSize;
+        private final long end;
+        private long position;
+        private int chunkIndex = -1;
+        private ByteBuffer chunk;
+
+        private ChunkedArtifactInputStream(ArtifactManifestData manifest, long offset, long length) {
+            this.artifactId = manifest.getId();
+            this.generation = manifest.getGeneration();
+            this.chunkSize = manifest.getChunkSize();
+            this.position = offset;
+            this.end = offset + length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) == -1 ? -1 : single[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (position >= end) {
+                return -1;
+            }
+            int positionInChunk = loadChunk();
+            int count = (int) Math.min(Math.min(len, chunk.remaining() - positionInChunk), end - position);
+            ByteBuffer source = chunk.duplicate();
+            source.position(source.position() + positionInChunk);
+            source.get(b, off, count);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public long skip(long n) {
+            long skipped = Math.max(0, Math.min(n, end - position));
+            position += skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            if (chunk == null || position / chunkSize != chunkIndex) {
+                return 0;
+            }
+            return (int) Math.min(chunk.remaining() - position % chunkSize, end - position);
+        }
+
+        /**
+         * @return the position in the loaded chunk of the next byte to read
+         */
+        private int loadChunk() throws IOException {
+            int index = (int) (position / chunkSize);
+            if (index != chunkIndex) {
+                Row row;
+                try {
+                    ResultSet resultSet = artifactAccessor.getArtifactChunk(artifactId, generation, index);
+                    row = resultSet == null ? null : resultSet.one();
+                } catch (Exception e) {
+                    throw new IOException("Failed to read chunk " + index + " of artifact " + artifactId, e);
+                }
+                if (row == null) {
+                    // the artifact was overwritten and the chunks of this generation deleted while it was read
+                    throw new IOException("Chunk " + index + " of artifact " + artifactId + " is missing");
+                }
+                chunk = row.getBytes(CHUNK_DATA_COLUMN);
+                chunkIndex = index;
+            }
+            int positionInChunk = (int) (position % chunkSize);
+            if (chunk == null || chunk.remaining() <= positionInChunk) {
+                throw new IOException("Chunk " + index + " of artifact " + artifactId + " is truncated");
+            }
+            return positionInChunk;
+        }
     }
 }
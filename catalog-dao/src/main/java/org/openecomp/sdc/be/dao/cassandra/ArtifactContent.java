@@ -0,0 +1,88 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.dao.cassandra;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import org.openecomp.sdc.common.util.GeneralUtility;
+
+/**
+ * Payload of an artifact that can be read, as a whole or by range, without being loaded in memory at once
+ */
+public class ArtifactContent {
+
+    private final long size;
+    private final String checksum;
+    private final RangeReader rangeReader;
+
+    ArtifactContent(long size, String checksum, RangeReader rangeReader) {
+        this.size = size;
+        this.checksum = checksum;
+        this.rangeReader = rangeReader;
+    }
+
+    /**
+     * @param data a payload already in memory, such as a generated artifact
+     */
+    public static ArtifactContent of(byte[] data) {
+        return of(data, GeneralUtility.calculateMD5Base64EncodedByByteArray(data));
+    }
+
+    /**
+     * @param data     a payload already in memory, such as a generated artifact
+     * @param checksum the base64 encoded MD5 of the payload
+     */
+    public static ArtifactContent of(byte[] data, String checksum) {
+        return new ArtifactContent(data.length, checksum, (offset, length) -> new ByteArrayInputStream(data, (int) offset, (int) length));
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * @return the base64 encoded MD5 of the whole payload
+     */
+    public String getChecksum() {
+        return checksum;
+    }
+
+    public InputStream openStream() {
+        return openStream(0, size);
+    }
+
+    /**
+     * @param offset position of the first byte to read
+     * @param length number of bytes to read
+     * @return a stream over the requested bytes of the payload
+     */
+    public InputStream openStream(long offset, long length) {
+        if (offset < 0 || length < 0 || offset + length > size) {
+            throw new IndexOutOfBoundsException("Range " + offset + "+" + length + " is out of the payload size " + size);
+        }
+        return rangeReader.open(offset, length);
+    }
+
+    @FunctionalInterface
+    interface RangeReader {
+
+        InputStream open(long offset, long length);
+    }
+}
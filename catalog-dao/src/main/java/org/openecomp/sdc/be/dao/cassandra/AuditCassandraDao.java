@@ -25,6 +25,7 @@ import com.datastax.driver.mapping.Result;
 import fj.data.Either;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 import javax.annotation.PostConstruct;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.openecomp.sdc.be.config.BeEcompErrorManager;
@@ -77,6 +78,14 @@ public class AuditCassandraDao extends CassandraDao {
         return client.save(entity, (Class<T>) entity.getClass(), manager);
     }
 
+    /**
+     * Saves the event without waiting for cassandra. The returned stage completes with the status of the write
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends AuditingGenericEvent> CompletionStage<CassandraOperationStatus> saveRecordAsync(T entity) {
+        return client.saveAsync(entity, (Class<T>) entity.getClass(), manager);
+    }
+
     /**
      * @param did
      * @return
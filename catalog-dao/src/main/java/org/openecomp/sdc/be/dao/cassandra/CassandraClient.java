@@ -29,8 +29,13 @@ import com.datastax.driver.core.policies.LoadBalancingPolicy;
 import com.datastax.driver.core.policies.TokenAwarePolicy;
 import com.datastax.driver.mapping.Mapper;
 import com.datastax.driver.mapping.MappingManager;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
 import fj.data.Either;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import javax.annotation.PreDestroy;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.openecomp.sdc.be.config.ConfigurationManager;
@@ -162,6 +167,35 @@ public class CassandraClient {
         return CassandraOperationStatus.OK;
     }
 
+    /**
+     * Saves an entity without waiting for cassandra to acknowledge it. The returned stage completes with the status of the write
+     */
+    public <T> CompletionStage<CassandraOperationStatus> saveAsync(T entity, Class<T> clazz, MappingManager manager) {
+        if (!isConnected) {
+            return CompletableFuture.completedFuture(CassandraOperationStatus.CLUSTER_NOT_CONNECTED);
+        }
+        CompletableFuture<CassandraOperationStatus> result = new CompletableFuture<>();
+        try {
+            Mapper<T> mapper = manager.mapper(clazz);
+            Futures.addCallback(mapper.saveAsync(entity), new FutureCallback<Void>() {
+                @Override
+                public void onSuccess(Void ignored) {
+                    result.complete(CassandraOperationStatus.OK);
+                }
+
+                @Override
+                public void onFailure(Throwable e) {
+                    logger.error(EcompLoggerErrorCode.DATA_ERROR, CassandraClient.class.getName(), "Failed to save entity [{}], error :", entity, e);
+                    result.complete(CassandraOperationStatus.GENERAL_ERROR);
+                }
+            }, MoreExecutors.directExecutor());
+        } catch (Exception e) {
+            logger.error(EcompLoggerErrorCode.DATA_ERROR, CassandraClient.class.getName(), "Failed to save entity [{}], error :", entity, e);
+            result.complete(CassandraOperationStatus.GENERAL_ERROR);
+        }
+        return result;
+    }
+
     public <T> Either<T, CassandraOperationStatus> getById(String id, Class<T> clazz, MappingManager manager) {
         if (!isConnected) {
             return Either.right(CassandraOperationStatus.CLUSTER_NOT_CONNECTED);
@@ -0,0 +1,46 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2020 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.dao.cassandra;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.mapping.Result;
+import com.datastax.driver.mapping.annotations.Accessor;
+import com.datastax.driver.mapping.annotations.Param;
+import com.datastax.driver.mapping.annotations.Query;
+import com.datastax.driver.mapping.annotations.QueryParameters;
+import org.openecomp.sdc.be.resources.data.ComponentLockData;
+
+@Accessor
+public interface ComponentLockAccessor {
+
+    @Query("INSERT INTO sdcrepository.componentlocks (id, owner, token, expiry) VALUES (:id, :owner, :token, :expiry) IF NOT EXISTS")
+    ResultSet create(@Param("id") String id, @Param("owner") String owner, @Param("token") long token, @Param("expiry") long expiry);
+
+    @Query("UPDATE sdcrepository.componentlocks SET owner = :owner, token = :token, expiry = :expiry WHERE id = :id IF token = :expectedToken")
+    ResultSet update(@Param("id") String id, @Param("owner") String owner, @Param("token") long token, @Param("expiry") long expiry,
+                     @Param("expectedToken") long expectedToken);
+
+    @Query("UPDATE sdcrepository.componentlocks SET owner = null, expiry = 0 WHERE id = :id IF EXISTS")
+    ResultSet release(@Param("id") String id);
+
+    @Query("SELECT * FROM sdcrepository.componentlocks WHERE id = :id")
+    @QueryParameters(consistency = "LOCAL_SERIAL")
+    Result<ComponentLockData> get(@Param("id") String id);
+}
@@ -0,0 +1,129 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2020 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.dao.cassandra;
+
+import com.datastax.driver.core.Session;
+import com.datastax.driver.mapping.MappingManager;
+import fj.data.Either;
+import javax.annotation.PostConstruct;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.openecomp.sdc.be.resources.data.ComponentLockData;
+import org.openecomp.sdc.be.resources.data.auditing.AuditingTypesConstants;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Component lock leases, changed with lightweight transactions so that only one of the BE instances racing for a lock gets it.
+ */
+@Component("component-lock-cassandra-dao")
+public class ComponentLockCassandraDao extends CassandraDao {
+
+    private static Logger logger = Logger.getLogger(ComponentLockCassandraDao.class.getName());
+    private ComponentLockAccessor componentLockAccessor;
+
+    @Autowired
+    public ComponentLockCassandraDao(CassandraClient cassandraClient) {
+        super(cassandraClient);
+    }
+
+    @PostConstruct
+    public void init() {
+        String keyspace = AuditingTypesConstants.REPO_KEYSPACE;
+        if (client.isConnected()) {
+            Either<ImmutablePair<Session, MappingManager>, CassandraOperationStatus> result = client.connect(keyspace);
+            if (result.isLeft()) {
+                session = result.left().value().left;
+                manager = result.left().value().right;
+                componentLockAccessor = manager.createAccessor(ComponentLockAccessor.class);
+                logger.info("** ComponentLockCassandraDao created");
+            } else {
+                logger.info("** ComponentLockCassandraDao failed");
+                throw new RuntimeException("Repo keyspace [" + keyspace + "] failed to connect with error : " + result.right().value());
+            }
+        } else {
+            logger.info("** Cassandra client isn't connected");
+            logger.info("** ComponentLockCassandraDao created, but not connected");
+        }
+    }
+
+    /**
+     * Creates the lock row if the lock was never taken.
+     *
+     * @return true if the row was created
+     */
+    public Either<Boolean, CassandraOperationStatus> create(ComponentLockData lock) {
+        if (componentLockAccessor == null) {
+            return Either.right(CassandraOperationStatus.CLUSTER_NOT_CONNECTED);
+        }
+        try {
+            return Either.left(componentLockAccessor.create(lock.getId(), lock.getOwner(), lock.getToken(), lock.getExpiry()).wasApplied());
+        } catch (Exception e) {
+            logger.debug("Failed to create lock {}", lock.getId(), e);
+            return Either.right(CassandraOperationStatus.GENERAL_ERROR);
+        }
+    }
+
+    /**
+     * Replaces the lease of the lock if its token is still the expected one.
+     *
+     * @return true if the lease was replaced
+     */
+    public Either<Boolean, CassandraOperationStatus> update(ComponentLockData lock, long expectedToken) {
+        if (componentLockAccessor == null) {
+            return Either.right(CassandraOperationStatus.CLUSTER_NOT_CONNECTED);
+        }
+        try {
+            return Either.left(componentLockAccessor.update(lock.getId(), lock.getOwner(), lock.getToken(), lock.getExpiry(), expectedToken)
+                .wasApplied());
+        } catch (Exception e) {
+            logger.debug("Failed to update lock {}", lock.getId(), e);
+            return Either.right(CassandraOperationStatus.GENERAL_ERROR);
+        }
+    }
+
+    /**
+     * Ends the lease of the lock whatever its owner
+     */
+    public CassandraOperationStatus release(String id) {
+        if (componentLockAccessor == null) {
+            return CassandraOperationStatus.CLUSTER_NOT_CONNECTED;
+        }
+        try {
+            return componentLockAccessor.release(id).wasApplied() ? CassandraOperationStatus.OK : CassandraOperationStatus.NOT_FOUND;
+        } catch (Exception e) {
+            logger.debug("Failed to release lock {}", id, e);
+            return CassandraOperationStatus.GENERAL_ERROR;
+        }
+    }
+
+    public Either<ComponentLockData, CassandraOperationStatus> get(String id) {
+        if (componentLockAccessor == null) {
+            return Either.right(CassandraOperationStatus.CLUSTER_NOT_CONNECTED);
+        }
+        try {
+            ComponentLockData lock = componentLockAccessor.get(id).one();
+            return lock == null ? Either.right(CassandraOperationStatus.NOT_FOUND) : Either.left(lock);
+        } catch (Exception e) {
+            logger.debug("Failed to read lock {}", id, e);
+            return Either.right(CassandraOperationStatus.GENERAL_ERROR);
+        }
+    }
+}
@@ -19,9 +19,12 @@
  */
 package org.openecomp.sdc.be.dao.cassandra.schema;
 
+import org.openecomp.sdc.be.dao.cassandra.schema.tables.ArtifactChunkTableDescription;
+import org.openecomp.sdc.be.dao.cassandra.schema.tables.ArtifactManifestTableDescription;
 import org.openecomp.sdc.be.dao.cassandra.schema.tables.ArtifactTableDescription;
 import org.openecomp.sdc.be.dao.cassandra.schema.tables.AuthEventTableDescription;
 import org.openecomp.sdc.be.dao.cassandra.schema.tables.CategoryEventTableDescription;
+import org.openecomp.sdc.be.dao.cassandra.schema.tables.ComponentLockTableDescription;
 import org.openecomp.sdc.be.dao.cassandra.schema.tables.DistribDeployEventTableDesc;
 import org.openecomp.sdc.be.dao.cassandra.schema.tables.DistribDownloadEventTableDesc;
 import org.openecomp.sdc.be.dao.cassandra.schema.tables.DistribEngineEventTableDesc;
@@ -44,6 +47,8 @@ import org.openecomp.sdc.be.dao.cassandra.schema.tables.UserAdminEventTableDescr
 public enum Table {
     // @formatter:off
     ARTIFACT(new ArtifactTableDescription()),
+    ARTIFACT_MANIFEST(new ArtifactManifestTableDescription()),
+    ARTIFACT_CHUNK(new ArtifactChunkTableDescription()),
     USER_ADMIN_EVENT(new UserAdminEventTableDescription()),
     USER_ACCESS_EVENT(new UserAccessEventTableDescription()),
     RESOURCE_ADMIN_EVENT(new ResAdminEventTableDescription()),
@@ -63,6 +68,7 @@ public enum Table {
     SDC_OPERATIONAL_ENVIRONMENT(new OperationalEnvironmentsTableDescription()),
     AUDIT_ECOMP_OPERATIONAL_ENVIRONMENT(new EcompOperationalEnvironmentEventTableDesc()),
     FEATURE_TOGGLE_STATE(new FeatureToggleEventTableDesc()),
+    COMPONENT_LOCK(new ComponentLockTableDescription()),
     TOSCA_IMPORT_BY_MODEL(new ToscaImportByModelTableDescription());
     // @formatter:on
 
@@ -33,6 +33,7 @@ import javax.annotation.PreDestroy;
 import org.apache.commons.configuration.BaseConfiguration;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.janusgraph.core.Cardinality;
 import org.janusgraph.core.InvalidElementException;
 import org.janusgraph.core.InvalidIDException;
 import org.janusgraph.core.JanusGraph;
@@ -52,6 +53,8 @@ import org.janusgraph.graphdb.database.idassigner.IDPoolExhaustedException;
 import org.openecomp.sdc.be.config.BeEcompErrorManager;
 import org.openecomp.sdc.be.config.ConfigurationManager;
 import org.openecomp.sdc.be.dao.JanusGraphClientStrategy;
+import org.openecomp.sdc.be.dao.jsongraph.utils.VertexJsonDelta;
+import org.openecomp.sdc.be.dao.jsongraph.utils.VertexJsonShards;
 import org.openecomp.sdc.be.dao.neo4j.GraphPropertiesDictionary;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -330,6 +333,12 @@ public class JanusGraphClient {
                 }
             }
         }
+        if (!graphMgt.containsPropertyKey(VertexJsonShards.JSON_SHARD_PROPERTY)) {
+            graphMgt.makePropertyKey(VertexJsonShards.JSON_SHARD_PROPERTY).dataType(String.class).cardinality(Cardinality.LIST).make();
+        }
+        if (!graphMgt.containsPropertyKey(VertexJsonDelta.REMOVED_KEYS_PROPERTY)) {
+            graphMgt.makePropertyKey(VertexJsonDelta.REMOVED_KEYS_PROPERTY).dataType(String.class).make();
+        }
         graphMgt.commit();
     }
 
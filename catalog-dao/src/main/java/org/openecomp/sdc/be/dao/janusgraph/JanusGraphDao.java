@@ -23,12 +23,17 @@ import static org.apache.commons.collections.CollectionUtils.isEmpty;
 
 import fj.data.Either;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -40,7 +45,9 @@ import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Property;
+import org.apache.tinkerpop.gremlin.structure.Transaction;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
 import org.janusgraph.core.JanusGraph;
 import org.janusgraph.core.JanusGraphEdge;
@@ -49,12 +56,16 @@ import org.janusgraph.core.JanusGraphVertex;
 import org.janusgraph.core.JanusGraphVertexQuery;
 import org.janusgraph.core.PropertyKey;
 import org.janusgraph.graphdb.query.JanusGraphPredicate;
+import org.openecomp.sdc.be.config.ConfigurationManager;
 import org.openecomp.sdc.be.dao.jsongraph.GraphVertex;
 import org.openecomp.sdc.be.dao.jsongraph.types.EdgeLabelEnum;
 import org.openecomp.sdc.be.dao.jsongraph.types.EdgePropertyEnum;
 import org.openecomp.sdc.be.dao.jsongraph.types.JsonParseFlagEnum;
 import org.openecomp.sdc.be.dao.jsongraph.types.VertexTypeEnum;
 import org.openecomp.sdc.be.dao.jsongraph.utils.JsonParserUtils;
+import org.openecomp.sdc.be.dao.jsongraph.utils.VertexJsonDelta;
+import org.openecomp.sdc.be.dao.jsongraph.utils.VertexJsonShards;
+import org.openecomp.sdc.be.dao.jsongraph.utils.VertexPayloadCodecEnum;
 import org.openecomp.sdc.be.dao.neo4j.GraphEdgeLabels;
 import org.openecomp.sdc.be.datatypes.enums.ComponentTypeEnum;
 import org.openecomp.sdc.be.datatypes.enums.GraphPropertyEnum;
@@ -86,6 +97,30 @@ public class JanusGraphDao {
         return janusGraphClient.rollback();
     }
 
+    /**
+     * Runs the action once the transaction of the calling thread is committed, and drops it if the transaction is rolled back. Used to publish
+     * changes to in-memory views of the graph only when other threads can read them.
+     *
+     * @param action
+     */
+    public void onCommit(Runnable action) {
+        Either<JanusGraph, JanusGraphOperationStatus> graph = janusGraphClient.getGraph();
+        if (graph.isRight()) {
+            logger.debug("Failed to get the graph to register a commit action. Status is {}", graph.right().value());
+            return;
+        }
+        graph.left().value().tx().addTransactionListener(status -> {
+            if (status == Transaction.Status.COMMIT) {
+                try {
+                    action.run();
+                } catch (RuntimeException e) {
+                    // the transaction is already committed, so it must not be reported as failed
+                    logger.error(EcompLoggerErrorCode.UNKNOWN_ERROR, "JanusGraphDao", "Failed to run a commit action", e);
+                }
+            }
+        });
+    }
+
     public Either<JanusGraph, JanusGraphOperationStatus> getGraph() {
         return janusGraphClient.getGraph();
     }
@@ -116,6 +151,122 @@ public class JanusGraphDao {
         }
     }
 
+    /**
+     * Creates the copy of a data vertex made on copy on update. When enabled by janusGraphDeltaDataVertices, the copy is a delta vertex holding
+     * only the entries that differ from the copied vertex, or from its base if the copied vertex is itself a delta, see {@link VertexJsonDelta}.
+     *
+     * @param graphVertex the copy to create
+     * @param copiedVertex the data vertex copied
+     * @return
+     */
+    public Either<GraphVertex, JanusGraphOperationStatus> createDeltaVertex(GraphVertex graphVertex, GraphVertex copiedVertex) {
+        if (!isDeltaDataVerticesEnabled() || graphVertex.getJson() == null) {
+            return createVertex(graphVertex);
+        }
+        logger.trace("try to create delta vertex for ID [{}]", graphVertex.getUniqueId());
+        Either<JanusGraph, JanusGraphOperationStatus> graph = janusGraphClient.getGraph();
+        if (graph.isRight()) {
+            logger.debug("Failed to create delta vertex for ID '{}' {}", graphVertex.getUniqueId(), graph.right().value());
+            return Either.right(graph.right().value());
+        }
+        try {
+            Vertex base = getJsonBase(copiedVertex.getVertex());
+            if (base == null) {
+                base = copiedVertex.getVertex();
+            }
+            JanusGraphVertex vertex = graph.left().value().addVertex();
+            vertex.addEdge(EdgeLabelEnum.JSON_BASE.name(), base);
+            base.property(VertexJsonDelta.BASE_PROPERTY, true);
+            vertex.property(VertexJsonDelta.REMOVED_KEYS_PROPERTY, "[]");
+            setVertexProperties(vertex, graphVertex);
+            graphVertex.setVertex(vertex);
+            return Either.left(graphVertex);
+        } catch (Exception e) {
+            logger.error(EcompLoggerErrorCode.DATA_ERROR, "JanusGraphDao", "Failed to create delta Node for ID '{}'",
+                (Object) graphVertex.getUniqueId(), e);
+            return Either.right(JanusGraphClient.handleJanusGraphException(e));
+        }
+    }
+
+    /**
+     * @param vertex
+     * @return true if delta vertices point to the vertex as their base, in which case it must not be updated in place by copy on update
+     */
+    public boolean isJsonBase(Vertex vertex) {
+        return vertex.edges(Direction.IN, EdgeLabelEnum.JSON_BASE.name()).hasNext();
+    }
+
+    /**
+     * Removes a data vertex no longer used by a tosca element. A base vertex is kept, without its other edges, as long as deltas point to it, and
+     * removing the last delta of a base no longer used by any tosca element removes the base.
+     *
+     * @param vertex
+     */
+    public void removeDataVertex(Vertex vertex) {
+        if (isJsonBase(vertex)) {
+            vertex.edges(Direction.IN).forEachRemaining(edge -> {
+                if (!EdgeLabelEnum.JSON_BASE.name().equals(edge.label())) {
+                    edge.remove();
+                }
+            });
+            return;
+        }
+        Vertex base = getJsonBase(vertex);
+        vertex.remove();
+        if (base != null && !base.edges(Direction.IN).hasNext()) {
+            base.remove();
+        }
+    }
+
+    private static boolean isDeltaDataVerticesEnabled() {
+        ConfigurationManager configurationManager = ConfigurationManager.getConfigurationManager();
+        return configurationManager != null && configurationManager.getConfiguration() != null && configurationManager.getConfiguration()
+            .isJanusGraphDeltaDataVertices();
+    }
+
+    /**
+     * @return the base the delta vertex points to, null if the vertex is not a delta
+     */
+    private static Vertex getJsonBase(Vertex vertex) {
+        Iterator<Edge> baseEdges = vertex.edges(Direction.OUT, EdgeLabelEnum.JSON_BASE.name());
+        return baseEdges.hasNext() ? baseEdges.next().inVertex() : null;
+    }
+
+    /**
+     * Writes the full json on every delta pointing to the base vertex, and detaches them from it. Only a vertex marked as a base by
+     * {@link VertexJsonDelta#BASE_PROPERTY} is looked for deltas, so updating any other vertex costs no edge query.
+     */
+    private void detachJsonDeltas(Vertex base) throws IOException {
+        if (!base.keys().contains(VertexJsonDelta.BASE_PROPERTY)) {
+            return;
+        }
+        base.property(VertexJsonDelta.BASE_PROPERTY).remove();
+        Iterator<Edge> deltaEdges = base.edges(Direction.IN, EdgeLabelEnum.JSON_BASE.name());
+        if (!deltaEdges.hasNext()) {
+            return;
+        }
+        String baseJson = getStoredJson(base);
+        while (deltaEdges.hasNext()) {
+            Edge deltaEdge = deltaEdges.next();
+            Vertex delta = deltaEdge.outVertex();
+            Property<String> labelProperty = delta.property(GraphPropertyEnum.LABEL.getProperty());
+            VertexTypeEnum label = labelProperty.isPresent() ? VertexTypeEnum.getByName(labelProperty.value()) : null;
+            String json = mergeJsonBase(delta, getStoredJson(delta), baseJson);
+            deltaEdge.remove();
+            delta.property(VertexJsonDelta.REMOVED_KEYS_PROPERTY).remove();
+            logger.debug("Detaching delta vertex {} from its base vertex {}", delta.id(), base.id());
+            setJsonEntries(delta, label, getPayloadCodec(label), toValueJsons(JsonParserUtils.toLazyMap(json, ToscaDataDefinition.class, delta.id())));
+        }
+    }
+
+    /**
+     * @return the full json of the delta vertex
+     */
+    private static String mergeJsonBase(Vertex delta, String deltaJson, String baseJson) {
+        Property<String> removedKeys = delta.property(VertexJsonDelta.REMOVED_KEYS_PROPERTY);
+        return VertexJsonDelta.merge(baseJson, deltaJson, JsonParserUtils.toList(removedKeys.value(), String.class));
+    }
+
     /**
      * @param name
      * @param value
@@ -242,8 +393,9 @@ public class JanusGraphDao {
         vertex.property(GraphPropertyEnum.LABEL.getProperty(), graphVertex.getLabel().getName());
         Map<String, ? extends ToscaDataDefinition> json = graphVertex.getJson();
         if (json != null) {
-            String jsonStr = JsonParserUtils.toJson(json);
-            vertex.property(GraphPropertyEnum.JSON.getProperty(), jsonStr);
+            // the deltas of a base vertex hold only their differences from it, so they get their full json before the base changes
+            detachJsonDeltas(vertex);
+            setJson(vertex, graphVertex.getLabel(), json);
         }
         Map<String, Object> jsonMetadata = graphVertex.getMetadataJson();
         if (jsonMetadata != null) {
@@ -252,6 +404,225 @@ public class JanusGraphDao {
         }
     }
 
+    private void setJson(Vertex vertex, VertexTypeEnum label, Map<String, ? extends ToscaDataDefinition> json) throws IOException {
+        VertexPayloadCodecEnum codec = getPayloadCodec(label);
+        if (vertex.keys().contains(VertexJsonDelta.REMOVED_KEYS_PROPERTY)) {
+            Vertex base = getJsonBase(vertex);
+            if (base != null) {
+                List<String> removedKeys = new ArrayList<>();
+                Map<String, String> delta = VertexJsonDelta.diff(getStoredJson(base), json, removedKeys);
+                vertex.property(VertexJsonDelta.REMOVED_KEYS_PROPERTY, JsonParserUtils.toJson(removedKeys));
+                setJsonEntries(vertex, label, codec, delta);
+                return;
+            }
+            vertex.property(VertexJsonDelta.REMOVED_KEYS_PROPERTY).remove();
+        }
+        if (isJsonSharded(label)) {
+            setJsonShards(vertex, codec, toValueJsons(json));
+        } else {
+            vertex.property(GraphPropertyEnum.JSON.getProperty(), codec.encode(JsonParserUtils.toJson(json)));
+            removeJsonShards(vertex);
+        }
+    }
+
+    private void setJsonEntries(Vertex vertex, VertexTypeEnum label, VertexPayloadCodecEnum codec, Map<String, String> valueJsons) {
+        if (isJsonSharded(label)) {
+            setJsonShards(vertex, codec, valueJsons);
+        } else {
+            vertex.property(GraphPropertyEnum.JSON.getProperty(), codec.encode(VertexJsonDelta.toJson(valueJsons)));
+            removeJsonShards(vertex);
+        }
+    }
+
+    /**
+     * Drops the shards left by a sharded layout, only a vertex carrying some is queried for them
+     */
+    private static void removeJsonShards(Vertex vertex) {
+        if (vertex.keys().contains(VertexJsonShards.JSON_SHARD_PROPERTY)) {
+            vertex.properties(VertexJsonShards.JSON_SHARD_PROPERTY).forEachRemaining(Property::remove);
+        }
+    }
+
+    private static Map<String, String> toValueJsons(Map<String, ? extends ToscaDataDefinition> json) throws IOException {
+        Map<String, String> valueJsons = new LinkedHashMap<>();
+        for (String key : json.keySet()) {
+            valueJsons.put(key, JsonParserUtils.toValueJson(json, key));
+        }
+        return valueJsons;
+    }
+
+    /**
+     * @param label
+     * @return the codec configured for the json property of vertices with the label
+     */
+    public VertexPayloadCodecEnum getPayloadCodec(VertexTypeEnum label) {
+        ConfigurationManager configurationManager = ConfigurationManager.getConfigurationManager();
+        if (label == null || configurationManager == null || configurationManager.getConfiguration() == null) {
+            return VertexPayloadCodecEnum.TEXT;
+        }
+        Map<String, String> codecs = configurationManager.getConfiguration().getJanusGraphVertexPayloadCodecs();
+        if (MapUtils.isEmpty(codecs) || !codecs.containsKey(label.getName())) {
+            return VertexPayloadCodecEnum.TEXT;
+        }
+        VertexPayloadCodecEnum codec = VertexPayloadCodecEnum.getByName(codecs.get(label.getName()));
+        if (codec == null) {
+            logger.warn("Unknown vertex payload codec {} configured for label {}, using {}", codecs.get(label.getName()), label,
+                VertexPayloadCodecEnum.TEXT);
+            return VertexPayloadCodecEnum.TEXT;
+        }
+        return codec;
+    }
+
+    /**
+     * @param label
+     * @return true if the json of vertices with the label is written as shards, see {@link VertexJsonShards}
+     */
+    public boolean isJsonSharded(VertexTypeEnum label) {
+        ConfigurationManager configurationManager = ConfigurationManager.getConfigurationManager();
+        if (label == null || configurationManager == null || configurationManager.getConfiguration() == null) {
+            return false;
+        }
+        List<String> shardedLabels = configurationManager.getConfiguration().getJanusGraphShardedVertexLabels();
+        return shardedLabels != null && shardedLabels.contains(label.getName());
+    }
+
+    /**
+     * Writes the entries of the json as shards. Only the shards whose content changed are written, and the shards of removed entries are
+     * dropped. An empty json has no shard, so it is stored as an empty json object in the json property, to be read back as an empty map.
+     */
+    private void setJsonShards(Vertex vertex, VertexPayloadCodecEnum codec, Map<String, String> valueJsons) {
+        Map<String, VertexProperty<String>> storedShards = new HashMap<>();
+        Iterator<VertexProperty<String>> shardProperties = vertex.properties(VertexJsonShards.JSON_SHARD_PROPERTY);
+        while (shardProperties.hasNext()) {
+            VertexProperty<String> shardProperty = shardProperties.next();
+            storedShards.put(VertexJsonShards.getKey(VertexPayloadCodecEnum.decodePayload(shardProperty.value())), shardProperty);
+        }
+        for (Map.Entry<String, String> valueJson : valueJsons.entrySet()) {
+            String shard = codec.encode(VertexJsonShards.toShard(valueJson.getKey(), valueJson.getValue()));
+            VertexProperty<String> storedShard = storedShards.remove(valueJson.getKey());
+            if (storedShard != null) {
+                if (shard.equals(storedShard.value())) {
+                    continue;
+                }
+                storedShard.remove();
+            }
+            vertex.property(VertexProperty.Cardinality.list, VertexJsonShards.JSON_SHARD_PROPERTY, shard);
+        }
+        storedShards.values().forEach(Property::remove);
+        if (valueJsons.isEmpty()) {
+            vertex.property(GraphPropertyEnum.JSON.getProperty(), codec.encode(VertexJsonShards.join(Collections.emptyList())));
+        } else {
+            vertex.property(GraphPropertyEnum.JSON.getProperty()).remove();
+        }
+    }
+
+    /**
+     * @return the json stored on the vertex, in either layout, null if the vertex has none
+     */
+    private String getStoredJson(Vertex vertex) {
+        Property<String> jsonProperty = vertex.property(GraphPropertyEnum.JSON.getProperty());
+        return jsonProperty.isPresent() ? VertexPayloadCodecEnum.decodePayload(jsonProperty.value()) : getJsonFromShards(vertex);
+    }
+
+    /**
+     * @return the json of the vertex joined from its shards, null if the vertex has none
+     */
+    private String getJsonFromShards(Vertex vertex) {
+        if (!vertex.keys().contains(VertexJsonShards.JSON_SHARD_PROPERTY)) {
+            return null;
+        }
+        Iterator<VertexProperty<String>> shardProperties = vertex.properties(VertexJsonShards.JSON_SHARD_PROPERTY);
+        if (!shardProperties.hasNext()) {
+            return null;
+        }
+        List<String> shards = new ArrayList<>();
+        shardProperties.forEachRemaining(shardProperty -> shards.add(VertexPayloadCodecEnum.decodePayload(shardProperty.value())));
+        return VertexJsonShards.join(shards);
+    }
+
+    /**
+     * Rewrites the json of the vertex with the codec and the layout currently configured for its label. When delta data vertices are disabled, a
+     * delta vertex gets its full json and is detached from its base.
+     *
+     * @param vertex
+     * @return true if the stored payload was rewritten
+     */
+    public boolean reEncodeVertexPayload(Vertex vertex) {
+        Property<String> labelProperty = vertex.property(GraphPropertyEnum.LABEL.getProperty());
+        VertexTypeEnum label = labelProperty.isPresent() ? VertexTypeEnum.getByName(labelProperty.value()) : null;
+        VertexPayloadCodecEnum targetCodec = getPayloadCodec(label);
+        if (!isDeltaDataVerticesEnabled() && vertex.keys().contains(VertexJsonDelta.REMOVED_KEYS_PROPERTY)) {
+            return expandJsonDelta(vertex, label, targetCodec);
+        }
+        Property<String> jsonProperty = vertex.property(GraphPropertyEnum.JSON.getProperty());
+        if (!jsonProperty.isPresent()) {
+            String shardedJson = getJsonFromShards(vertex);
+            if (shardedJson == null || (isJsonSharded(label) && allShardsEncodedWith(vertex, targetCodec))) {
+                return false;
+            }
+            return rewriteVertexPayload(vertex, label, targetCodec, shardedJson);
+        }
+        String payload = jsonProperty.value();
+        // a sharded vertex keeps its json property only for an empty json
+        boolean layoutMatches = !isJsonSharded(label) || !vertex.keys().contains(VertexJsonShards.JSON_SHARD_PROPERTY) && isEmptyJson(vertex, payload);
+        if (layoutMatches && VertexPayloadCodecEnum.getByPayload(payload) == targetCodec) {
+            return false;
+        }
+        return rewriteVertexPayload(vertex, label, targetCodec, VertexPayloadCodecEnum.decodePayload(payload));
+    }
+
+    private boolean expandJsonDelta(Vertex delta, VertexTypeEnum label, VertexPayloadCodecEnum targetCodec) {
+        Vertex base = getJsonBase(delta);
+        String deltaJson = getStoredJson(delta);
+        String json = base == null ? deltaJson : mergeJsonBase(delta, deltaJson, getStoredJson(base));
+        delta.edges(Direction.OUT, EdgeLabelEnum.JSON_BASE.name()).forEachRemaining(Edge::remove);
+        delta.property(VertexJsonDelta.REMOVED_KEYS_PROPERTY).remove();
+        logger.debug("Writing the full json of delta vertex {}", delta.id());
+        rewriteVertexPayload(delta, label, targetCodec, json == null ? VertexJsonShards.join(Collections.emptyList()) : json);
+        if (base != null && !base.edges(Direction.IN).hasNext()) {
+            // the base was kept only for its deltas
+            base.remove();
+        }
+        return true;
+    }
+
+    private boolean rewriteVertexPayload(Vertex vertex, VertexTypeEnum label, VertexPayloadCodecEnum targetCodec, String json) {
+        if (!isJsonSharded(label)) {
+            vertex.property(GraphPropertyEnum.JSON.getProperty(), targetCodec.encode(json));
+            removeJsonShards(vertex);
+            return true;
+        }
+        Map<String, ? extends ToscaDataDefinition> jsonMap = JsonParserUtils.toLazyMap(json, label.getClassOfJson(), vertex.id());
+        if (jsonMap == null) {
+            throw new IllegalArgumentException("Invalid json payload of vertex " + vertex.id());
+        }
+        try {
+            Map<String, String> valueJsons = toValueJsons(jsonMap);
+            // shards are rewritten from scratch, so that all of them get the target codec
+            vertex.properties(VertexJsonShards.JSON_SHARD_PROPERTY).forEachRemaining(Property::remove);
+            setJsonShards(vertex, targetCodec, valueJsons);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return true;
+    }
+
+    private static boolean isEmptyJson(Vertex vertex, String payload) {
+        Map<String, ToscaDataDefinition> json = JsonParserUtils
+            .toLazyMap(VertexPayloadCodecEnum.decodePayload(payload), ToscaDataDefinition.class, vertex.id());
+        return json != null && json.isEmpty();
+    }
+
+    private boolean allShardsEncodedWith(Vertex vertex, VertexPayloadCodecEnum codec) {
+        Iterator<VertexProperty<String>> shardProperties = vertex.properties(VertexJsonShards.JSON_SHARD_PROPERTY);
+        while (shardProperties.hasNext()) {
+            if (VertexPayloadCodecEnum.getByPayload(shardProperties.next().value()) != codec) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public void setVertexProperties(Vertex vertex, Map<String, Object> properties) throws IOException {
         for (Map.Entry<String, Object> entry : properties.entrySet()) {
             if (entry.getValue() != null) {
@@ -271,6 +642,7 @@ public class JanusGraphDao {
         JanusGraphVertex vertex = graphVertex.getVertex();
         Map<GraphPropertyEnum, Object> properties = getVertexProperties(vertex);
         VertexTypeEnum label = VertexTypeEnum.getByName((String) (properties.get(GraphPropertyEnum.LABEL)));
+        String json = null;
         for (Map.Entry<GraphPropertyEnum, Object> entry : properties.entrySet()) {
             GraphPropertyEnum key = entry.getKey();
             switch (key) {
@@ -287,10 +659,8 @@ public class JanusGraphDao {
                     }
                     break;
                 case JSON:
-                    if (parseFlag == JsonParseFlagEnum.ParseAll || parseFlag == JsonParseFlagEnum.ParseJson) {
-                        String json = (String) entry.getValue();
-                        Map<String, ? extends ToscaDataDefinition> jsonObj = JsonParserUtils.toMap(json, label.getClassOfJson());
-                        graphVertex.setJson(jsonObj);
+                    if (isJsonParsed(parseFlag)) {
+                        json = VertexPayloadCodecEnum.decodePayload((String) entry.getValue());
                     }
                     break;
                 case METADATA:
@@ -305,6 +675,37 @@ public class JanusGraphDao {
                     break;
             }
         }
+        if (isJsonParsed(parseFlag)) {
+            if (json == null) {
+                json = getJsonFromShards(vertex);
+            }
+            if (json == null && isJsonSharded(label)) {
+                // emptied before empty json got its explicit marker, see setJsonShards
+                json = VertexJsonShards.join(Collections.emptyList());
+            }
+            if (vertex.keys().contains(VertexJsonDelta.REMOVED_KEYS_PROPERTY)) {
+                Vertex base = getJsonBase(vertex);
+                if (base != null) {
+                    json = mergeJsonBase(vertex, json, getStoredJson(base));
+                }
+            }
+            if (json != null) {
+                parseJson(graphVertex, label, json, parseFlag);
+            }
+        }
+    }
+
+    private static boolean isJsonParsed(JsonParseFlagEnum parseFlag) {
+        return parseFlag == JsonParseFlagEnum.ParseAll || parseFlag == JsonParseFlagEnum.ParseJson || parseFlag == JsonParseFlagEnum.ParseJsonLazy;
+    }
+
+    private void parseJson(GraphVertex graphVertex, VertexTypeEnum label, String json, JsonParseFlagEnum parseFlag) {
+        if (parseFlag == JsonParseFlagEnum.ParseAll || parseFlag == JsonParseFlagEnum.ParseJson) {
+            Map<String, ? extends ToscaDataDefinition> jsonObj = JsonParserUtils.toMap(json, label.getClassOfJson());
+            graphVertex.setJson(jsonObj);
+        } else if (parseFlag == JsonParseFlagEnum.ParseJsonLazy) {
+            graphVertex.setJson(JsonParserUtils.toLazyMap(json, label.getClassOfJson(), graphVertex.getUniqueId()));
+        }
     }
 
     public JanusGraphOperationStatus createEdge(GraphVertex from, GraphVertex to, EdgeLabelEnum label, Map<EdgePropertyEnum, Object> properties) {
@@ -418,7 +819,6 @@ public class JanusGraphDao {
                 List<GraphVertex> result = new ArrayList<>();
                 while (iterator.hasNext()) {
                     JanusGraphVertex vertex = iterator.next();
-                    Map<GraphPropertyEnum, Object> newProp = getVertexProperties(vertex);
                     GraphVertex graphVertex = createAndFill(vertex, parseFlag);
                     result.add(graphVertex);
                 }
@@ -768,6 +1168,47 @@ public class JanusGraphDao {
         return getAdjacentVertices(parentVertex, edgeLabel, parseFlag, Direction.OUT);
     }
 
+    /**
+     * Gets the child vertex of each edge label in one batch: the edges of all the labels are read by one query and the properties of all the
+     * children by one multi vertex query, which the storage backend serves concurrently.
+     *
+     * @param parentVertex
+     * @param edgeLabels
+     * @param parseFlag
+     * @return the first child vertex per edge label, each of the labels is mapped and labels without a child are mapped to null
+     */
+    public Either<Map<EdgeLabelEnum, GraphVertex>, JanusGraphOperationStatus> getChildVertices(GraphVertex parentVertex,
+                                                                                             Set<EdgeLabelEnum> edgeLabels,
+                                                                                             JsonParseFlagEnum parseFlag) {
+        Map<EdgeLabelEnum, GraphVertex> result = new EnumMap<>(EdgeLabelEnum.class);
+        edgeLabels.forEach(edgeLabel -> result.put(edgeLabel, null));
+        if (edgeLabels.isEmpty()) {
+            return Either.left(result);
+        }
+        try {
+            Either<JanusGraph, JanusGraphOperationStatus> graphRes = janusGraphClient.getGraph();
+            if (graphRes.isRight()) {
+                logger.error("Failed to retrieve graph. status is {}", graphRes);
+                return Either.right(graphRes.right().value());
+            }
+            Map<EdgeLabelEnum, JanusGraphVertex> childVertices = new EnumMap<>(EdgeLabelEnum.class);
+            Iterator<Edge> edges = parentVertex.getVertex().edges(Direction.OUT, edgeLabels.stream().map(EdgeLabelEnum::name).toArray(String[]::new));
+            while (edges.hasNext()) {
+                Edge edge = edges.next();
+                childVertices.putIfAbsent(EdgeLabelEnum.getEdgeLabelEnum(edge.label()), (JanusGraphVertex) edge.inVertex());
+            }
+            if (!childVertices.isEmpty()) {
+                // loads the properties of all the children into the transaction cache, parsing them below reads no more
+                graphRes.left().value().multiQuery(childVertices.values().toArray(new JanusGraphVertex[0])).properties();
+            }
+            childVertices.forEach((edgeLabel, vertex) -> result.put(edgeLabel, createAndFill(vertex, parseFlag)));
+        } catch (Exception e) {
+            logger.error("Failed to perform graph operation ", e);
+            return Either.right(JanusGraphClient.handleJanusGraphException(e));
+        }
+        return Either.left(result);
+    }
+
     public Either<List<GraphVertex>, JanusGraphOperationStatus> getParentVertices(GraphVertex parentVertex, EdgeLabelEnum edgeLabel,
                                                                                   JsonParseFlagEnum parseFlag) {
         return getAdjacentVertices(parentVertex, edgeLabel, parseFlag, Direction.IN);
@@ -1195,7 +1636,7 @@ public class JanusGraphDao {
                     vertex.getVertex());
                 Iterator<Edge> restOfEdges = secondVertex.edges(reverseDirection, label.name());
                 if (!restOfEdges.hasNext()) {
-                    secondVertex.remove();
+                    removeDataVertex(secondVertex);
                     CommonUtility.addRecordToLog(logger, LogLevelEnum.TRACE, "This was last edge . Vertex  {} was removed ", vertex.getUniqueId());
                 }
             }
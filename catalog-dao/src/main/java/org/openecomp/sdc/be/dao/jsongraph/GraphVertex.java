@@ -26,6 +26,7 @@ import java.util.Map.Entry;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.janusgraph.core.JanusGraphVertex;
+import org.openecomp.sdc.be.dao.jsongraph.types.EdgeLabelEnum;
 import org.openecomp.sdc.be.dao.jsongraph.types.VertexTypeEnum;
 import org.openecomp.sdc.be.datatypes.enums.ComponentTypeEnum;
 import org.openecomp.sdc.be.datatypes.enums.GraphPropertyEnum;
@@ -41,6 +42,8 @@ public class GraphVertex {
     private Map<String, ? extends ToscaDataDefinition> json;
     private Map<String, Object> metadataJson;
     private Map<GraphPropertyEnum, Object> metadataProperties;
+    // child vertices read ahead in one batch, null when none were
+    private Map<EdgeLabelEnum, GraphVertex> prefetchedChildVertices;
 
     public GraphVertex() {
     }
@@ -121,6 +124,14 @@ public class GraphVertex {
         this.metadataProperties = metadataProperties;
     }
 
+    public Map<EdgeLabelEnum, GraphVertex> getPrefetchedChildVertices() {
+        return prefetchedChildVertices;
+    }
+
+    public void setPrefetchedChildVertices(Map<EdgeLabelEnum, GraphVertex> prefetchedChildVertices) {
+        this.prefetchedChildVertices = prefetchedChildVertices;
+    }
+
     public void getOrSetDefaultInstantiationTypeForToscaElementJson() {
         String toscaVertexJsonInstantiationType;
         toscaVertexJsonInstantiationType = (String) (this.getJsonMetadataField(JsonPresentationFields.INSTANTIATION_TYPE));
@@ -19,4 +19,8 @@
  */
 package org.openecomp.sdc.be.dao.jsongraph.types;
 
-public enum JsonParseFlagEnum {NoParse, ParseAll, ParseJson, ParseMetadata}
+/**
+ * ParseJsonLazy keeps the raw json of the vertex and deserializes only the entries actually read, see
+ * {@link org.openecomp.sdc.be.dao.jsongraph.utils.LazyJsonMap}
+ */
+public enum JsonParseFlagEnum {NoParse, ParseAll, ParseJson, ParseMetadata, ParseJsonLazy}
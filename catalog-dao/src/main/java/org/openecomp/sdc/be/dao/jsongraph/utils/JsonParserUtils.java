@@ -20,6 +20,7 @@
 package org.openecomp.sdc.be.dao.jsongraph.utils;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JavaType;
@@ -50,6 +51,14 @@ public class JsonParserUtils {
         return mapper.writer().writeValueAsString(object);
     }
 
+    /**
+     * @return the json of the value of the key, the original json for an entry of a {@link LazyJsonMap} never accessed
+     */
+    public static String toValueJson(Map<String, ? extends ToscaDataDefinition> json, String key) throws IOException {
+        String valueJson = json instanceof LazyJsonMap ? ((LazyJsonMap<?>) json).getRawValue(key) : null;
+        return valueJson != null ? valueJson : toJson(json.get(key));
+    }
+
     public static Map<String, Object> toMap(String json) {
         if (Strings.isNullOrEmpty(json)) {
             return null;
@@ -79,6 +88,27 @@ public class JsonParserUtils {
         return object;
     }
 
+    /**
+     * Indexes the json object without deserializing its values, see {@link LazyJsonMap}. The json of a vertex may be megabytes, so only the id of
+     * the vertex and the length of the json are logged when it cannot be indexed.
+     *
+     * @param vertexId id of the vertex the json was read from, null when it is not known
+     */
+    public static <T extends ToscaDataDefinition> Map<String, T> toLazyMap(String json, Class<T> clazz, Object vertexId) {
+        if (Strings.isNullOrEmpty(json)) {
+            return null;
+        }
+        Map<String, T> object = null;
+        try {
+            object = new LazyJsonMap<>(json, mapper.getFactory(), mapper.readerFor(clazz));
+        } catch (Exception e) {
+            // the message of a jackson exception quotes the source, its original message does not
+            String reason = e instanceof JsonProcessingException ? ((JsonProcessingException) e).getOriginalMessage() : e.getMessage();
+            log.debug("Failed to index json of vertex {} with length {} to lazy map: {}", vertexId, json.length(), reason);
+        }
+        return object;
+    }
+
     public static <T> List<T> toList(String json, Class<T> clazz) {
         if (Strings.isNullOrEmpty(json)) {
             return null;
@@ -0,0 +1,290 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.dao.jsongraph.utils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.openecomp.sdc.be.datatypes.tosca.ToscaDataDefinition;
+
+/**
+ * Map view over the raw JSON property of a graph vertex. The top level object is indexed once with a streaming parser, only recording the
+ * boundaries of every value. A value is deserialized on first access, and values never accessed are written back as the original raw JSON.
+ */
+@JsonSerialize(using = LazyJsonMap.LazyJsonMapSerializer.class)
+public class LazyJsonMap<T extends ToscaDataDefinition> extends AbstractMap<String, T> {
+
+    private final String source;
+    private final ObjectReader reader;
+    /**
+     * Holds either a {@link RawValue} not yet deserialized or the materialized value
+     */
+    private final Map<String, Object> entries = new LinkedHashMap<>();
+    private Set<Entry<String, T>> entrySet;
+
+    LazyJsonMap(String source, JsonFactory factory, ObjectReader reader) throws IOException {
+        this.source = source;
+        this.reader = reader;
+        index(factory);
+    }
+
+    private void index(JsonFactory factory) throws IOException {
+        try (JsonParser parser = factory.createParser(source)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected json object at offset " + parser.getTokenLocation().getCharOffset());
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String key = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                int start = (int) parser.getTokenLocation().getCharOffset();
+                int end;
+                if (valueToken.isStructStart()) {
+                    parser.skipChildren();
+                    end = (int) parser.getTokenLocation().getCharOffset() + 1;
+                } else {
+                    // forces the parser to consume the whole scalar token
+                    parser.getText();
+                    end = (int) parser.getCurrentLocation().getCharOffset();
+                }
+                entries.put(key, new RawValue(start, end));
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return entries.containsKey(key);
+    }
+
+    @Override
+    public T get(Object key) {
+        Object value = entries.get(key);
+        if (value instanceof RawValue) {
+            T parsed = parse((RawValue) value);
+            entries.put((String) key, parsed);
+            return parsed;
+        }
+        return cast(value);
+    }
+
+    @Override
+    public T put(String key, T value) {
+        return materialize(entries.put(key, value));
+    }
+
+    @Override
+    public T remove(Object key) {
+        return materialize(entries.remove(key));
+    }
+
+    @Override
+    public void clear() {
+        entries.clear();
+    }
+
+    @Override
+    public Set<Entry<String, T>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new LazyEntrySet();
+        }
+        return entrySet;
+    }
+
+    /**
+     * @return number of entries that were deserialized or replaced since the map was created
+     */
+    public int getMaterializedCount() {
+        return (int) entries.values().stream().filter(value -> !(value instanceof RawValue)).count();
+    }
+
+    /**
+     * @return the original raw json of the value of the key, null if the value was deserialized, replaced or is missing
+     */
+    public String getRawValue(String key) {
+        Object value = entries.get(key);
+        if (value instanceof RawValue) {
+            RawValue rawValue = (RawValue) value;
+            return source.substring(rawValue.start, rawValue.end);
+        }
+        return null;
+    }
+
+    private T materialize(Object value) {
+        if (value instanceof RawValue) {
+            return parse((RawValue) value);
+        }
+        return cast(value);
+    }
+
+    private T parse(RawValue rawValue) {
+        try {
+            return reader.readValue(source.substring(rawValue.start, rawValue.end));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to parse json value at offset " + rawValue.start, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T cast(Object value) {
+        return (T) value;
+    }
+
+    private static final class RawValue {
+
+        private final int start;
+        private final int end;
+
+        private RawValue(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    private final class LazyEntrySet extends AbstractSet<Entry<String, T>> {
+
+        @Override
+        public Iterator<Entry<String, T>> iterator() {
+            Iterator<Entry<String, Object>> iterator = entries.entrySet().iterator();
+            return new Iterator<Entry<String, T>>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Entry<String, T> next() {
+                    return new LazyEntry(iterator.next());
+                }
+
+                @Override
+                public void remove() {
+                    iterator.remove();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return entries.size();
+        }
+
+        @Override
+        public void clear() {
+            entries.clear();
+        }
+    }
+
+    private final class LazyEntry implements Entry<String, T> {
+
+        private final Entry<String, Object> entry;
+
+        private LazyEntry(Entry<String, Object> entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public String getKey() {
+            return entry.getKey();
+        }
+
+        @Override
+        public T getValue() {
+            Object value = entry.getValue();
+            if (value instanceof RawValue) {
+                T parsed = parse((RawValue) value);
+                entry.setValue(parsed);
+                return parsed;
+            }
+            return cast(value);
+        }
+
+        @Override
+        public T setValue(T value) {
+            T previous = getValue();
+            entry.setValue(value);
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> other = (Entry<?, ?>) o;
+            return Objects.equals(getKey(), other.getKey()) && Objects.equals(getValue(), other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+
+    /**
+     * Writes untouched entries as their original raw json and serializes only the materialized ones.
+     */
+    public static class LazyJsonMapSerializer extends JsonSerializer<LazyJsonMap<?>> {
+
+        @Override
+        public void serialize(LazyJsonMap<?> map, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject();
+            for (Entry<String, Object> entry : map.entries.entrySet()) {
+                gen.writeFieldName(entry.getKey());
+                Object value = entry.getValue();
+                if (value instanceof RawValue) {
+                    RawValue rawValue = (RawValue) value;
+                    gen.writeRawValue(map.source, rawValue.start, rawValue.end - rawValue.start);
+                } else {
+                    provider.defaultSerializeValue(value, gen);
+                }
+            }
+            gen.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.dao.jsongraph.utils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.openecomp.sdc.be.dao.jsongraph.types.EdgeLabelEnum;
+import org.openecomp.sdc.be.datatypes.tosca.ToscaDataDefinition;
+
+/**
+ * Delta layout of the json property of a data vertex, written on copy on update. Instead of a full copy of the json of the data vertex shared by
+ * several versions, a delta vertex holds only the entries that differ from that base vertex, which it points to by a
+ * {@link EdgeLabelEnum#JSON_BASE} edge, and the keys of the base entries it removed in {@link #REMOVED_KEYS_PROPERTY}. The base of a delta is
+ * never itself a delta, and is not updated in place while deltas point to it.
+ */
+public final class VertexJsonDelta {
+
+    /**
+     * Json list of the keys of the base entries removed by a delta vertex, present on delta vertices only
+     */
+    public static final String REMOVED_KEYS_PROPERTY = "jsonBaseRemovedKeys";
+    /**
+     * Set on a vertex once a delta vertex points to it as its base, so that only such vertices look for their deltas when updated in place
+     */
+    public static final String BASE_PROPERTY = "jsonDeltaBase";
+
+    private VertexJsonDelta() {
+        // No instances allowed
+    }
+
+    /**
+     * @param baseJson    the json of the base vertex
+     * @param deltaJson   the json of the delta vertex, null if the delta holds no entry
+     * @param removedKeys the keys of the base entries removed by the delta
+     * @return the json object holding the base entries neither removed nor replaced by the delta, followed by the entries of the delta
+     */
+    public static String merge(String baseJson, String deltaJson, Collection<String> removedKeys) {
+        LazyJsonMap<?> base = index(baseJson);
+        LazyJsonMap<?> delta = index(deltaJson);
+        List<String> shards = new ArrayList<>(base.size() + delta.size());
+        for (String key : base.keySet()) {
+            if (!delta.containsKey(key) && !removedKeys.contains(key)) {
+                shards.add(VertexJsonShards.toShard(key, base.getRawValue(key)));
+            }
+        }
+        for (String key : delta.keySet()) {
+            shards.add(VertexJsonShards.toShard(key, delta.getRawValue(key)));
+        }
+        return VertexJsonShards.join(shards);
+    }
+
+    /**
+     * @param baseJson    the json of the base vertex
+     * @param json        the full json of the delta vertex
+     * @param removedKeys receives the keys of the base entries missing from the json
+     * @return the json of the values that differ from the base, by key
+     */
+    public static Map<String, String> diff(String baseJson, Map<String, ? extends ToscaDataDefinition> json, Collection<String> removedKeys)
+        throws IOException {
+        LazyJsonMap<?> base = index(baseJson);
+        Map<String, String> delta = new LinkedHashMap<>();
+        for (String key : json.keySet()) {
+            String valueJson = JsonParserUtils.toValueJson(json, key);
+            if (!valueJson.equals(base.getRawValue(key))) {
+                delta.put(key, valueJson);
+            }
+        }
+        for (String key : base.keySet()) {
+            if (!json.containsKey(key)) {
+                removedKeys.add(key);
+            }
+        }
+        return delta;
+    }
+
+    /**
+     * @return the json object holding the values, by key
+     */
+    public static String toJson(Map<String, String> valueJsons) {
+        List<String> shards = new ArrayList<>(valueJsons.size());
+        valueJsons.forEach((key, valueJson) -> shards.add(VertexJsonShards.toShard(key, valueJson)));
+        return VertexJsonShards.join(shards);
+    }
+
+    private static LazyJsonMap<?> index(String json) {
+        Map<String, ToscaDataDefinition> map = JsonParserUtils.toLazyMap(json == null ? "{}" : json, ToscaDataDefinition.class, null);
+        if (map == null) {
+            throw new IllegalArgumentException("Invalid vertex json");
+        }
+        return (LazyJsonMap<?>) map;
+    }
+}
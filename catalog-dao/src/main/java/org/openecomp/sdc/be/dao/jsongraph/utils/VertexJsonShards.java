@@ -0,0 +1,85 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.dao.jsongraph.utils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+
+/**
+ * Sharded layout of the json property of a graph vertex. Instead of one json object, every top level entry is stored as a single entry json
+ * object ({@code {"key":value}}) in its own value of the list property {@link #JSON_SHARD_PROPERTY}. The storage backend keeps every value of a
+ * list property in its own column, so changing one entry writes only its shard.
+ */
+public final class VertexJsonShards {
+
+    /**
+     * List cardinality property holding the shards of the json of a vertex
+     */
+    public static final String JSON_SHARD_PROPERTY = "jsonShard";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private VertexJsonShards() {
+        // No instances allowed
+    }
+
+    /**
+     * @param key       the key of the entry
+     * @param valueJson the json of the value of the entry
+     * @return the shard holding the entry
+     */
+    public static String toShard(String key, String valueJson) {
+        StringBuilder shard = new StringBuilder(key.length() + valueJson.length() + 5).append("{\"");
+        JsonStringEncoder.getInstance().quoteAsString(key, shard);
+        return shard.append("\":").append(valueJson).append('}').toString();
+    }
+
+    /**
+     * @return the key of the entry held by the shard
+     */
+    public static String getKey(String shard) {
+        try (JsonParser parser = JSON_FACTORY.createParser(shard)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT || parser.nextToken() != JsonToken.FIELD_NAME) {
+                throw new IllegalArgumentException("Invalid vertex json shard");
+            }
+            return parser.getCurrentName();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the key of a vertex json shard", e);
+        }
+    }
+
+    /**
+     * @return the json object holding the entries of all the shards
+     */
+    public static String join(Collection<String> shards) {
+        StringBuilder json = new StringBuilder(shards.stream().mapToInt(String::length).sum() + 2).append('{');
+        for (String shard : shards) {
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            json.append(shard, 1, shard.length() - 1);
+        }
+        return json.append('}').toString();
+    }
+}
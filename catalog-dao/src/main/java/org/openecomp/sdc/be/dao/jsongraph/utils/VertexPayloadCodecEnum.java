@@ -0,0 +1,133 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.dao.jsongraph.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Encodings of the json payload stored on a graph vertex. Encoded payloads start with a version marker ({@code ~<id>~}) that can never start a
+ * json text, so payloads written as plain text before any codec existed are still decoded as they are.
+ */
+public enum VertexPayloadCodecEnum {
+    // @formatter:off
+    TEXT    (null),
+    DEFLATE ("d1");
+    // @formatter:on
+
+    private static final char MARKER = '~';
+    private static final int BUFFER_SIZE = 8192;
+    private final String id;
+
+    VertexPayloadCodecEnum(String id) {
+        this.id = id;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public static VertexPayloadCodecEnum getByName(String name) {
+        for (VertexPayloadCodecEnum codec : values()) {
+            if (codec.name().equalsIgnoreCase(name)) {
+                return codec;
+            }
+        }
+        return null;
+    }
+
+    public static VertexPayloadCodecEnum getByPayload(String payload) {
+        if (payload == null || payload.isEmpty() || payload.charAt(0) != MARKER) {
+            return TEXT;
+        }
+        int end = payload.indexOf(MARKER, 1);
+        String payloadId = end > 0 ? payload.substring(1, end) : null;
+        for (VertexPayloadCodecEnum codec : values()) {
+            if (codec.id != null && codec.id.equals(payloadId)) {
+                return codec;
+            }
+        }
+        throw new IllegalArgumentException("Unknown vertex payload codec marker " + payloadId);
+    }
+
+    /**
+     * Decodes a stored payload to json text, whatever codec was used to write it
+     */
+    public static String decodePayload(String payload) {
+        return getByPayload(payload).decode(payload);
+    }
+
+    public String encode(String json) {
+        if (json == null || id == null) {
+            return json;
+        }
+        byte[] compressed = deflate(json.getBytes(StandardCharsets.UTF_8));
+        return MARKER + id + MARKER + Base64.getEncoder().encodeToString(compressed);
+    }
+
+    private String decode(String payload) {
+        if (payload == null || id == null) {
+            return payload;
+        }
+        byte[] compressed = Base64.getDecoder().decode(payload.substring(id.length() + 2));
+        return new String(inflate(compressed), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(input.length / 4, 64));
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] input) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length * 4);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                int count = inflater.inflate(buffer);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("Truncated vertex payload");
+                }
+                out.write(buffer, 0, count);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Corrupted vertex payload", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.resources.data;
+
+import com.datastax.driver.mapping.annotations.Column;
+import com.datastax.driver.mapping.annotations.PartitionKey;
+import com.datastax.driver.mapping.annotations.Table;
+import java.nio.ByteBuffer;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One chunk of an artifact payload. Every chunk is its own partition, so the size of a partition and of a mutation is bounded by the chunk
+ * size whatever the size of the artifact.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(keyspace = "sdcartifact", name = "artifactchunks")
+public class ArtifactChunkData {
+
+    @PartitionKey(0)
+    @Column(name = "id")
+    private String id;
+    @PartitionKey(1)
+    @Column(name = "generation")
+    private String generation;
+    @PartitionKey(2)
+    @Column(name = "chunkindex")
+    private int chunkIndex;
+    @Column(name = "data")
+    private ByteBuffer data;
+
+    public ArtifactChunkData(String id, String generation, int chunkIndex, ByteBuffer data) {
+        this.id = id;
+        this.generation = generation;
+        this.chunkIndex = chunkIndex;
+        this.data = data;
+    }
+}
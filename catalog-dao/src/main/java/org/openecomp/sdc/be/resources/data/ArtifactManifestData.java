@@ -0,0 +1,64 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.resources.data;
+
+import com.datastax.driver.mapping.annotations.Column;
+import com.datastax.driver.mapping.annotations.PartitionKey;
+import com.datastax.driver.mapping.annotations.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Describes an artifact stored as fixed size chunks in {@link ArtifactChunkData} rows. Every save writes its chunks under a new generation
+ * and the manifest after all of them, so an artifact is only visible once completely stored and a reader never mixes chunks of two saves.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(keyspace = "sdcartifact", name = "artifactmanifest")
+public class ArtifactManifestData {
+
+    @PartitionKey
+    @Column(name = "id")
+    private String id;
+    @Column(name = "generation")
+    private String generation;
+    @Column(name = "payloadsize")
+    private long payloadSize;
+    @Column(name = "chunksize")
+    private int chunkSize;
+    @Column(name = "chunkcount")
+    private int chunkCount;
+    /*
+     * Base64 encoded MD5 of the whole payload
+     */
+    @Column(name = "checksum")
+    private String checksum;
+
+    public ArtifactManifestData(String id, String generation, long payloadSize, int chunkSize, int chunkCount, String checksum) {
+        this.id = id;
+        this.generation = generation;
+        this.payloadSize = payloadSize;
+        this.chunkSize = chunkSize;
+        this.chunkCount = chunkCount;
+        this.checksum = checksum;
+    }
+}
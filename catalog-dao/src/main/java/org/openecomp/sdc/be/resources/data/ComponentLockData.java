@@ -0,0 +1,58 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2020 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.resources.data;
+
+import com.datastax.driver.mapping.annotations.Column;
+import com.datastax.driver.mapping.annotations.PartitionKey;
+import com.datastax.driver.mapping.annotations.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Lease of a component lock. The row outlives the leases so the lease token keeps growing across them, a released lease has no owner and an
+ * expiry of 0.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(keyspace = "sdcrepository", name = "componentlocks")
+public class ComponentLockData {
+
+    @PartitionKey
+    @Column(name = "id")
+    private String id;
+    @Column(name = "owner")
+    private String owner;
+    @Column(name = "token")
+    private long token;
+    /*
+     * Time in milliseconds since the epoch at which the lease ends
+     */
+    @Column(name = "expiry")
+    private long expiry;
+
+    public ComponentLockData(String id, String owner, long token, long expiry) {
+        this.id = id;
+        this.owner = owner;
+        this.token = token;
+        this.expiry = expiry;
+    }
+}
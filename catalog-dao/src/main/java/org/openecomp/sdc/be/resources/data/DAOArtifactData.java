@@ -56,8 +56,7 @@ public class DAOArtifactData {
         super();
         this.id = artifactId;
         if (data != null) {
-            this.data = ByteBuffer.wrap(data.clone());
-            // this.data = data.clone();
+            this.data = ByteBuffer.wrap(data);
         }
     }
 
@@ -70,10 +69,12 @@ public class DAOArtifactData {
         return null;
     }
 
+    /**
+     * The array is wrapped, not copied, so it must not be modified once handed over
+     */
     public void setDataAsArray(byte[] data) {
         if (data != null) {
-            // this.data = data.clone();
-            this.data = ByteBuffer.wrap(data.clone());
+            this.data = ByteBuffer.wrap(data);
         }
     }
 
@@ -25,15 +25,34 @@ import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.mapping.MappingManager;
 import fj.data.Either;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.openecomp.sdc.be.resources.data.ArtifactChunkData;
+import org.openecomp.sdc.be.resources.data.ArtifactManifestData;
 import org.openecomp.sdc.be.resources.data.DAOArtifactData;
 import org.openecomp.sdc.be.resources.data.auditing.AuditingTypesConstants;
+import org.openecomp.sdc.common.util.GeneralUtility;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class ArtifactCassandraDaoTest {
 
@@ -52,6 +71,10 @@ public class ArtifactCassandraDaoTest {
 	@Before
 	public void setUp() throws Exception {
 		MockitoAnnotations.initMocks(this);
+		Mockito.when(client.getById(Mockito.anyString(), Mockito.eq(DAOArtifactData.class), Mockito.any()))
+				.thenReturn(Either.right(CassandraOperationStatus.NOT_FOUND));
+		Mockito.when(client.getById(Mockito.anyString(), Mockito.eq(ArtifactManifestData.class), Mockito.any()))
+				.thenReturn(Either.right(CassandraOperationStatus.NOT_FOUND));
 	}
 
 	@Test(expected = RuntimeException.class)
@@ -85,6 +108,122 @@ public class ArtifactCassandraDaoTest {
 		result = testSubject.getArtifact(artifactId);
 	}
 
+	@Test
+	public void testSaveAndReadChunkedArtifact() throws Exception {
+		String artifactId = "chunked";
+		byte[] payload = "payload stored as chunks".getBytes(StandardCharsets.UTF_8);
+		Map<String, ByteBuffer> chunks = new HashMap<>();
+		ArtifactManifestData[] manifest = new ArtifactManifestData[1];
+		mockChunkStorage(artifactId, chunks, manifest);
+
+		assertEquals(CassandraOperationStatus.OK, testSubject.saveArtifact(new DAOArtifactData(artifactId, payload)));
+		assertEquals(5, chunks.size());
+		assertEquals(payload.length, manifest[0].getPayloadSize());
+		assertEquals(GeneralUtility.calculateMD5Base64EncodedByByteArray(payload), manifest[0].getChecksum());
+
+		Either<DAOArtifactData, CassandraOperationStatus> artifact = testSubject.getArtifact(artifactId);
+		assertTrue(artifact.isLeft());
+		assertArrayEquals(payload, artifact.left().value().getDataAsArray());
+
+		ArtifactContent content = testSubject.getArtifactContent(artifactId).left().value();
+		assertEquals(payload.length, content.getSize());
+		try (InputStream range = content.openStream(3, 9)) {
+			assertEquals("load stor", new String(IOUtils.toByteArray(range), StandardCharsets.UTF_8));
+		}
+		// the last chunks are out of the range, so only getArtifact fetched them
+		String generation = manifest[0].getGeneration();
+		Mockito.verify(artifactAccessor, Mockito.times(1)).getArtifactChunk(artifactId, generation, 3);
+		Mockito.verify(artifactAccessor, Mockito.times(1)).getArtifactChunk(artifactId, generation, 4);
+	}
+
+	@Test
+	public void testSaveSmallStreamAsSingleRow() throws Exception {
+		ReflectionTestUtils.setField(testSubject, "chunkSize", 5);
+		Mockito.when(client.isConnected()).thenReturn(true);
+		Mockito.when(client.save(Mockito.any(DAOArtifactData.class), Mockito.eq(DAOArtifactData.class), Mockito.any()))
+				.thenReturn(CassandraOperationStatus.OK);
+
+		assertEquals(CassandraOperationStatus.OK, testSubject.saveArtifact("small", new ByteArrayInputStream("small".getBytes(StandardCharsets.UTF_8))));
+		Mockito.verify(client, Mockito.never()).save(Mockito.any(ArtifactChunkData.class), Mockito.eq(ArtifactChunkData.class), Mockito.any());
+	}
+
+	@Test
+	public void testOverwriteChunkedArtifactKeepsThePreviousGenerationReadable() throws Exception {
+		String artifactId = "overwritten";
+		Map<String, ByteBuffer> chunks = new HashMap<>();
+		ArtifactManifestData[] manifest = new ArtifactManifestData[1];
+		mockChunkStorage(artifactId, chunks, manifest);
+		byte[] previousPayload = "previous payload".getBytes(StandardCharsets.UTF_8);
+		assertEquals(CassandraOperationStatus.OK, testSubject.saveArtifact(artifactId, new ByteArrayInputStream(previousPayload)));
+		ArtifactContent previousContent = testSubject.getArtifactContent(artifactId).left().value();
+		ArtifactManifestData previousManifest = manifest[0];
+
+		InputStream previousStream = previousContent.openStream();
+		assertEquals("previ", new String(IOUtils.toByteArray(previousStream, 5), StandardCharsets.UTF_8));
+		byte[] newPayload = "new payload, longer than the previous one".getBytes(StandardCharsets.UTF_8);
+		assertEquals(CassandraOperationStatus.OK, testSubject.saveArtifact(artifactId, new ByteArrayInputStream(newPayload)));
+
+		assertNotEquals(previousManifest.getGeneration(), manifest[0].getGeneration());
+		InOrder inOrder = Mockito.inOrder(client, artifactAccessor);
+		inOrder.verify(client).save(Mockito.same(manifest[0]), Mockito.eq(ArtifactManifestData.class), Mockito.any());
+		inOrder.verify(artifactAccessor).deleteArtifactChunk(artifactId, previousManifest.getGeneration(), 0);
+		Mockito.verify(artifactAccessor, Mockito.never()).deleteArtifactChunk(Mockito.eq(artifactId), Mockito.eq(manifest[0].getGeneration()), Mockito.anyInt());
+		// a reader of the previous payload never gets chunks of the new one, it fails once the previous chunks are gone
+		try {
+			IOUtils.toByteArray(previousStream);
+			fail("the previous chunks are deleted");
+		} catch (IOException e) {
+			assertTrue(e.getMessage().contains("is missing"));
+		}
+	}
+
+	private void mockChunkStorage(String artifactId, Map<String, ByteBuffer> chunks, ArtifactManifestData[] manifest) {
+		ReflectionTestUtils.setField(testSubject, "chunkSize", 5);
+		ReflectionTestUtils.setField(testSubject, "artifactAccessor", artifactAccessor);
+		Mockito.when(client.isConnected()).thenReturn(true);
+		Mockito.when(client.save(Mockito.any(ArtifactChunkData.class), Mockito.eq(ArtifactChunkData.class), Mockito.any())).thenAnswer(invocation -> {
+			ArtifactChunkData chunk = invocation.getArgument(0);
+			ByteBuffer copy = ByteBuffer.allocate(chunk.getData().remaining());
+			copy.put(chunk.getData().duplicate()).flip();
+			chunks.put(chunk.getGeneration() + "/" + chunk.getChunkIndex(), copy);
+			return CassandraOperationStatus.OK;
+		});
+		Mockito.when(client.save(Mockito.any(ArtifactManifestData.class), Mockito.eq(ArtifactManifestData.class), Mockito.any())).thenAnswer(invocation -> {
+			manifest[0] = invocation.getArgument(0);
+			return CassandraOperationStatus.OK;
+		});
+		Mockito.when(client.getById(Mockito.eq(artifactId), Mockito.eq(ArtifactManifestData.class), Mockito.any()))
+				.thenAnswer(invocation -> manifest[0] == null ? Either.right(CassandraOperationStatus.NOT_FOUND) : Either.left(manifest[0]));
+		Mockito.when(client.delete(Mockito.anyString(), Mockito.eq(DAOArtifactData.class), Mockito.any())).thenReturn(CassandraOperationStatus.OK);
+		Mockito.when(artifactAccessor.getArtifactChunk(Mockito.eq(artifactId), Mockito.anyString(), Mockito.anyInt())).thenAnswer(invocation -> {
+			ByteBuffer data = chunks.get(invocation.getArgument(1) + "/" + invocation.getArgument(2));
+			Row row = data == null ? null : Mockito.mock(Row.class);
+			if (row != null) {
+				Mockito.when(row.getBytes("data")).thenReturn(data);
+			}
+			ResultSet resultSet = Mockito.mock(ResultSet.class);
+			Mockito.when(resultSet.one()).thenReturn(row);
+			return resultSet;
+		});
+		Mockito.when(artifactAccessor.deleteArtifactChunk(Mockito.eq(artifactId), Mockito.anyString(), Mockito.anyInt())).thenAnswer(invocation -> {
+			chunks.remove(invocation.getArgument(1) + "/" + invocation.getArgument(2));
+			return null;
+		});
+	}
+
+	@Test
+	public void testGetLegacyArtifactContent() throws Exception {
+		byte[] payload = "legacy".getBytes(StandardCharsets.UTF_8);
+		Mockito.when(client.getById(Mockito.eq("legacy"), Mockito.eq(DAOArtifactData.class), Mockito.any()))
+				.thenReturn(Either.left(new DAOArtifactData("legacy", payload)));
+
+		ArtifactContent content = testSubject.getArtifactContent("legacy").left().value();
+		assertEquals(GeneralUtility.calculateMD5Base64EncodedByByteArray(payload), content.getChecksum());
+		try (InputStream range = content.openStream(1, 3)) {
+			assertEquals("ega", new String(IOUtils.toByteArray(range), StandardCharsets.UTF_8));
+		}
+	}
+
 	@Test
 	public void testDeleteArtifact() throws Exception {
 		String artifactId = "";
@@ -20,10 +20,20 @@
 
 package org.openecomp.sdc.be.dao.janusgraph;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 import fj.data.Either;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Property;
@@ -33,13 +43,20 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.openecomp.sdc.be.config.ConfigurationManager;
 import org.openecomp.sdc.be.dao.DAOJanusGraphStrategy;
 import org.openecomp.sdc.be.dao.jsongraph.GraphVertex;
 import org.openecomp.sdc.be.dao.jsongraph.types.EdgeLabelEnum;
 import org.openecomp.sdc.be.dao.jsongraph.types.EdgePropertyEnum;
 import org.openecomp.sdc.be.dao.jsongraph.types.JsonParseFlagEnum;
 import org.openecomp.sdc.be.dao.jsongraph.types.VertexTypeEnum;
+import org.openecomp.sdc.be.dao.jsongraph.utils.JsonParserUtils;
+import org.openecomp.sdc.be.dao.jsongraph.utils.VertexJsonDelta;
+import org.openecomp.sdc.be.dao.jsongraph.utils.VertexJsonShards;
+import org.openecomp.sdc.be.datatypes.elements.MapPropertiesDataDefinition;
+import org.openecomp.sdc.be.datatypes.elements.PropertyDataDefinition;
 import org.openecomp.sdc.be.datatypes.enums.GraphPropertyEnum;
+import org.openecomp.sdc.be.datatypes.tosca.ToscaDataDefinition;
 import org.openecomp.sdc.be.utils.DAOConfDependentTest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -56,6 +73,8 @@ class JanusGraphDaoTest extends DAOConfDependentTest {
 
     @AfterEach
     void end() {
+        ConfigurationManager.getConfigurationManager().getConfiguration().setJanusGraphDeltaDataVertices(false);
+        ConfigurationManager.getConfigurationManager().getConfiguration().setJanusGraphShardedVertexLabels(null);
         dao.janusGraphClient.cleanupGraph();
     }
 
@@ -99,6 +118,31 @@ class JanusGraphDaoTest extends DAOConfDependentTest {
         result = dao.rollback();
     }
 
+    @Test
+    void testOnCommitRunsAfterCommitOnly() {
+        AtomicInteger runs = new AtomicInteger();
+        dao.createVertex(new GraphVertex(VertexTypeEnum.ADDITIONAL_INFORMATION));
+        dao.onCommit(runs::incrementAndGet);
+        assertEquals(0, runs.get());
+        assertEquals(JanusGraphOperationStatus.OK, dao.commit());
+        assertEquals(1, runs.get());
+
+        dao.createVertex(new GraphVertex(VertexTypeEnum.ADDITIONAL_INFORMATION));
+        dao.onCommit(runs::incrementAndGet);
+        dao.rollback();
+        dao.commit();
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void testFailedCommitActionDoesNotFailTheCommit() {
+        dao.createVertex(new GraphVertex(VertexTypeEnum.ADDITIONAL_INFORMATION));
+        dao.onCommit(() -> {
+            throw new IllegalStateException("failed commit action");
+        });
+        assertEquals(JanusGraphOperationStatus.OK, dao.commit());
+    }
+
     @Test
     void testGetGraph() throws Exception {
 
@@ -326,4 +370,168 @@ class JanusGraphDaoTest extends DAOConfDependentTest {
 
         result = dao.getBelongingEdgeByCriteria(parentId, label, properties);
     }
+
+    @Test
+    void testDeltaVertexWritesOnlyChangedEntries() {
+        ConfigurationManager.getConfigurationManager().getConfiguration().setJanusGraphDeltaDataVertices(true);
+        GraphVertex base = createPropertiesVertex("base", buildProperties(100));
+        Map<String, PropertyDataDefinition> properties = buildProperties(100);
+        properties.get("property7").setValue("changed");
+        properties.remove("property8");
+        GraphVertex copy = new GraphVertex(VertexTypeEnum.PROPERTIES);
+        copy.setUniqueId("copy");
+        copy.setJson(properties);
+
+        assertTrue(dao.createDeltaVertex(copy, base).isLeft());
+
+        int baseBytes = getStoredJson(base).length();
+        int copyBytes = getStoredJson(copy).length();
+        logger.info("json bytes written by the first update after a checkout, full copy {} delta {}", baseBytes, copyBytes);
+        assertTrue(copyBytes * 20 < baseBytes);
+        assertTrue(dao.isJsonBase(base.getVertex()));
+        Map<String, PropertyDataDefinition> copyJson = readJson("copy");
+        assertEquals(99, copyJson.size());
+        assertEquals("changed", copyJson.get("property7").getValue());
+        assertFalse(copyJson.containsKey("property8"));
+        assertEquals(100, readJson("base").size());
+    }
+
+    @Test
+    void testBaseUpdatedInPlaceDetachesItsDeltas() {
+        ConfigurationManager.getConfigurationManager().getConfiguration().setJanusGraphDeltaDataVertices(true);
+        GraphVertex base = createPropertiesVertex("base", buildProperties(10));
+        Map<String, PropertyDataDefinition> properties = buildProperties(10);
+        properties.get("property1").setValue("changed");
+        GraphVertex copy = new GraphVertex(VertexTypeEnum.PROPERTIES);
+        copy.setUniqueId("copy");
+        copy.setJson(properties);
+        dao.createDeltaVertex(copy, base);
+        assertTrue(base.getVertex().keys().contains(VertexJsonDelta.BASE_PROPERTY));
+
+        base.setJson(buildProperties(2));
+        assertTrue(dao.updateVertex(base).isLeft());
+
+        assertFalse(dao.isJsonBase(base.getVertex()));
+        assertFalse(base.getVertex().keys().contains(VertexJsonDelta.BASE_PROPERTY));
+        Map<String, PropertyDataDefinition> copyJson = readJson("copy");
+        assertEquals(10, copyJson.size());
+        assertEquals("changed", copyJson.get("property1").getValue());
+        assertEquals(2, readJson("base").size());
+    }
+
+    @Test
+    void testRemovingLastDeltaRemovesUnusedBase() {
+        ConfigurationManager.getConfigurationManager().getConfiguration().setJanusGraphDeltaDataVertices(true);
+        GraphVertex base = createPropertiesVertex("base", buildProperties(10));
+        GraphVertex copy = new GraphVertex(VertexTypeEnum.PROPERTIES);
+        copy.setUniqueId("copy");
+        copy.setJson(buildProperties(10));
+        dao.createDeltaVertex(copy, base);
+
+        dao.removeDataVertex(base.getVertex());
+        assertTrue(dao.getVertexById("base").isLeft());
+        assertEquals(10, readJson("copy").size());
+
+        dao.removeDataVertex(copy.getVertex());
+        assertTrue(dao.getVertexById("base").isRight());
+    }
+
+    @Test
+    void testReEncodingWithDeltasDisabledWritesFullJson() {
+        ConfigurationManager.getConfigurationManager().getConfiguration().setJanusGraphDeltaDataVertices(true);
+        GraphVertex base = createPropertiesVertex("base", buildProperties(10));
+        Map<String, PropertyDataDefinition> properties = buildProperties(10);
+        properties.get("property1").setValue("changed");
+        GraphVertex copy = new GraphVertex(VertexTypeEnum.PROPERTIES);
+        copy.setUniqueId("copy");
+        copy.setJson(properties);
+        dao.createDeltaVertex(copy, base);
+        dao.removeDataVertex(base.getVertex());
+
+        ConfigurationManager.getConfigurationManager().getConfiguration().setJanusGraphDeltaDataVertices(false);
+        assertTrue(dao.reEncodeVertexPayload(copy.getVertex()));
+
+        assertFalse(copy.getVertex().edges(Direction.OUT, EdgeLabelEnum.JSON_BASE.name()).hasNext());
+        assertEquals(10, JsonParserUtils.toMap(getStoredJson(copy), PropertyDataDefinition.class).size());
+        Map<String, PropertyDataDefinition> copyJson = readJson("copy");
+        assertEquals("changed", copyJson.get("property1").getValue());
+        assertTrue(dao.getVertexById("base").isRight());
+        assertFalse(dao.reEncodeVertexPayload(copy.getVertex()));
+    }
+
+    @Test
+    void testShardedJsonEmptiedReadsBackEmpty() {
+        ConfigurationManager.getConfigurationManager().getConfiguration()
+            .setJanusGraphShardedVertexLabels(Collections.singletonList(VertexTypeEnum.INST_PROPERTIES.getName()));
+        GraphVertex graphVertex = new GraphVertex(VertexTypeEnum.INST_PROPERTIES);
+        graphVertex.setUniqueId("instProperties");
+        graphVertex.setJson(buildInstProperties(3));
+        assertTrue(dao.createVertex(graphVertex).isLeft());
+        assertEquals(3, readJson("instProperties").size());
+
+        graphVertex.setJson(new HashMap<>());
+        assertTrue(dao.updateVertex(graphVertex).isLeft());
+
+        Map<String, MapPropertiesDataDefinition> json = readJson("instProperties");
+        assertNotNull(json);
+        assertTrue(json.isEmpty());
+        assertFalse(dao.reEncodeVertexPayload(graphVertex.getVertex()));
+
+        graphVertex.setJson(buildInstProperties(1));
+        assertTrue(dao.updateVertex(graphVertex).isLeft());
+        assertEquals(1, readJson("instProperties").size());
+        assertFalse(graphVertex.getVertex().property(GraphPropertyEnum.JSON.getProperty()).isPresent());
+    }
+
+    @Test
+    void testShardedJsonWithoutShardsReadsEmpty() {
+        ConfigurationManager.getConfigurationManager().getConfiguration()
+            .setJanusGraphShardedVertexLabels(Collections.singletonList(VertexTypeEnum.INST_PROPERTIES.getName()));
+        GraphVertex graphVertex = new GraphVertex(VertexTypeEnum.INST_PROPERTIES);
+        graphVertex.setUniqueId("instProperties");
+        graphVertex.setJson(buildInstProperties(1));
+        dao.createVertex(graphVertex);
+        graphVertex.getVertex().properties(VertexJsonShards.JSON_SHARD_PROPERTY).forEachRemaining(Property::remove);
+
+        Map<String, MapPropertiesDataDefinition> json = readJson("instProperties");
+        assertNotNull(json);
+        assertTrue(json.isEmpty());
+    }
+
+    private static Map<String, MapPropertiesDataDefinition> buildInstProperties(int count) {
+        Map<String, MapPropertiesDataDefinition> instProperties = new LinkedHashMap<>();
+        for (int i = 0; i < count; ++i) {
+            instProperties.put("instance" + i, new MapPropertiesDataDefinition(buildProperties(2)));
+        }
+        return instProperties;
+    }
+
+    private GraphVertex createPropertiesVertex(String uniqueId, Map<String, PropertyDataDefinition> properties) {
+        GraphVertex graphVertex = new GraphVertex(VertexTypeEnum.PROPERTIES);
+        graphVertex.setUniqueId(uniqueId);
+        graphVertex.setJson(properties);
+        return dao.createVertex(graphVertex).left().value();
+    }
+
+    private static Map<String, PropertyDataDefinition> buildProperties(int count) {
+        Map<String, PropertyDataDefinition> properties = new LinkedHashMap<>();
+        for (int i = 0; i < count; ++i) {
+            PropertyDataDefinition property = new PropertyDataDefinition();
+            property.setName("property" + i);
+            property.setType("string");
+            property.setValue("value" + i);
+            property.setDescription("description of the property " + i);
+            properties.put(property.getName(), property);
+        }
+        return properties;
+    }
+
+    private static String getStoredJson(GraphVertex graphVertex) {
+        return (String) graphVertex.getVertex().property(GraphPropertyEnum.JSON.getProperty()).value();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends ToscaDataDefinition> Map<String, T> readJson(String uniqueId) {
+        return (Map<String, T>) dao.getVertexById(uniqueId, JsonParseFlagEnum.ParseJson).left().value().getJson();
+    }
 }
@@ -0,0 +1,98 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.dao.jsongraph.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.openecomp.sdc.be.datatypes.elements.PropertyDataDefinition;
+
+class LazyJsonMapTest {
+
+    private static final String VALID_JSON = "{\"a\":{\"name\":\"a\",\"type\":\"string\"},\"b\":{\"name\":\"b\",\"type\":\"integer\"}}";
+    private static final String JSON = "{\"a\":{\"name\":\"a\",\"type\":\"string\"},\"b\":{\"name\":\"b\",\"type\":\"integer\"},"
+        + "\"bad\":{\"name\":[\"x\"]}}";
+
+    @Test
+    void testGetParsesOnlyAccessedEntry() {
+        LazyJsonMap<PropertyDataDefinition> map = lazyMap(JSON);
+        assertEquals(3, map.size());
+        assertEquals(0, map.getMaterializedCount());
+        assertEquals("string", map.get("a").getType());
+        assertEquals(1, map.getMaterializedCount());
+        assertTrue(map.containsKey("bad"));
+        assertEquals(Arrays.asList("a", "b", "bad"), new ArrayList<>(map.keySet()));
+        assertEquals(1, map.getMaterializedCount());
+    }
+
+    @Test
+    void testGetInvalidEntryFails() {
+        LazyJsonMap<PropertyDataDefinition> map = lazyMap(JSON);
+        assertThrows(UncheckedIOException.class, () -> map.get("bad"));
+    }
+
+    @Test
+    void testUntouchedEntriesAreWrittenRaw() throws Exception {
+        LazyJsonMap<PropertyDataDefinition> map = lazyMap(JSON);
+        assertEquals(JSON, JsonParserUtils.toJson(map));
+    }
+
+    @Test
+    void testModifiedMapRoundTrip() throws Exception {
+        LazyJsonMap<PropertyDataDefinition> map = lazyMap(VALID_JSON);
+        PropertyDataDefinition c = new PropertyDataDefinition();
+        c.setName("c");
+        map.put("c", c);
+        map.get("a").setType("boolean");
+
+        Map<String, PropertyDataDefinition> result = JsonParserUtils.toMap(JsonParserUtils.toJson(map), PropertyDataDefinition.class);
+        assertEquals(3, result.size());
+        assertEquals("boolean", result.get("a").getType());
+        assertEquals("integer", result.get("b").getType());
+        assertEquals("c", result.get("c").getName());
+    }
+
+    @Test
+    void testRawValueOfUntouchedEntriesOnly() {
+        LazyJsonMap<PropertyDataDefinition> map = lazyMap(VALID_JSON);
+        map.get("a");
+        assertNull(map.getRawValue("a"));
+        assertEquals("{\"name\":\"b\",\"type\":\"integer\"}", map.getRawValue("b"));
+        assertNull(map.getRawValue("c"));
+    }
+
+    @Test
+    void testInvalidJson() {
+        assertNull(JsonParserUtils.toLazyMap("[1,2]", PropertyDataDefinition.class, "vertexId"));
+        assertNull(JsonParserUtils.toLazyMap("{\"a\":{\"name\":", PropertyDataDefinition.class, "vertexId"));
+        assertNull(JsonParserUtils.toLazyMap("", PropertyDataDefinition.class, "vertexId"));
+    }
+
+    private LazyJsonMap<PropertyDataDefinition> lazyMap(String json) {
+        return (LazyJsonMap<PropertyDataDefinition>) JsonParserUtils.toLazyMap(json, PropertyDataDefinition.class, "vertexId");
+    }
+}
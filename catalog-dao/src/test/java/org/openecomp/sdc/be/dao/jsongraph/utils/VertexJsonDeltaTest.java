@@ -0,0 +1,60 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.dao.jsongraph.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.openecomp.sdc.be.datatypes.elements.PropertyDataDefinition;
+
+class VertexJsonDeltaTest {
+
+    private static final String BASE_JSON = "{\"a\":{\"name\":\"a\"},\"b\":{\"name\":\"b\"},\"c\":{\"name\":\"c\"}}";
+
+    @Test
+    void testDiffHoldsChangedEntriesOnly() throws Exception {
+        Map<String, PropertyDataDefinition> json = JsonParserUtils.toLazyMap(BASE_JSON, PropertyDataDefinition.class, "vertexId");
+        json.get("b").setType("string");
+        json.remove("c");
+        json.put("d", new PropertyDataDefinition());
+        List<String> removedKeys = new ArrayList<>();
+
+        Map<String, String> delta = VertexJsonDelta.diff(BASE_JSON, json, removedKeys);
+
+        assertEquals(Arrays.asList("b", "d"), new ArrayList<>(delta.keySet()));
+        assertEquals(Collections.singletonList("c"), removedKeys);
+    }
+
+    @Test
+    void testMergeAppliesDeltaOnBase() {
+        String json = VertexJsonDelta.merge(BASE_JSON, "{\"b\":{\"name\":\"b\",\"type\":\"string\"}}", Collections.singletonList("c"));
+        assertEquals("{\"a\":{\"name\":\"a\"},\"b\":{\"name\":\"b\",\"type\":\"string\"}}", json);
+    }
+
+    @Test
+    void testMergeEmptyDelta() {
+        assertEquals(BASE_JSON, VertexJsonDelta.merge(BASE_JSON, null, Collections.emptyList()));
+    }
+}
@@ -0,0 +1,52 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.dao.jsongraph.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.openecomp.sdc.be.datatypes.elements.PropertyDataDefinition;
+
+class VertexJsonShardsTest {
+
+    @Test
+    void testShardHoldsOneEntry() {
+        String shard = VertexJsonShards.toShard("inst\"1", "{\"name\":\"a\"}");
+        assertEquals("{\"inst\\\"1\":{\"name\":\"a\"}}", shard);
+        assertEquals("inst\"1", VertexJsonShards.getKey(shard));
+    }
+
+    @Test
+    void testJoinedShardsRoundTrip() {
+        String json = VertexJsonShards.join(Arrays.asList(VertexJsonShards.toShard("a", "{\"name\":\"a\",\"type\":\"string\"}"),
+            VertexJsonShards.toShard("b", "{\"name\":\"b\",\"type\":\"integer\"}")));
+        Map<String, PropertyDataDefinition> map = JsonParserUtils.toMap(json, PropertyDataDefinition.class);
+        assertEquals(2, map.size());
+        assertEquals("string", map.get("a").getType());
+        assertEquals("integer", map.get("b").getType());
+    }
+
+    @Test
+    void testJoinNoShards() {
+        assertEquals("{}", VertexJsonShards.join(Arrays.asList()));
+    }
+}
@@ -0,0 +1,66 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.dao.jsongraph.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+
+class VertexPayloadCodecEnumTest {
+
+    private static final String JSON = "{\"instance\":{\"name\":\"" + StringUtils.repeat("value", 1000) + "\",\"type\":\"\u00e9t\u00e9\"}}";
+
+    @Test
+    void testTextIsStoredAsIs() {
+        assertEquals(JSON, VertexPayloadCodecEnum.TEXT.encode(JSON));
+        assertEquals(VertexPayloadCodecEnum.TEXT, VertexPayloadCodecEnum.getByPayload(JSON));
+        assertEquals(JSON, VertexPayloadCodecEnum.decodePayload(JSON));
+    }
+
+    @Test
+    void testDeflateRoundTrip() {
+        String encoded = VertexPayloadCodecEnum.DEFLATE.encode(JSON);
+        assertTrue(encoded.startsWith("~d1~"));
+        assertTrue(encoded.length() < JSON.length() / 10);
+        assertEquals(VertexPayloadCodecEnum.DEFLATE, VertexPayloadCodecEnum.getByPayload(encoded));
+        assertEquals(JSON, VertexPayloadCodecEnum.decodePayload(encoded));
+    }
+
+    @Test
+    void testNullPayload() {
+        assertNull(VertexPayloadCodecEnum.DEFLATE.encode(null));
+        assertNull(VertexPayloadCodecEnum.decodePayload(null));
+    }
+
+    @Test
+    void testUnknownMarker() {
+        assertThrows(IllegalArgumentException.class, () -> VertexPayloadCodecEnum.decodePayload("~zz~abc"));
+    }
+
+    @Test
+    void testGetByName() {
+        assertEquals(VertexPayloadCodecEnum.DEFLATE, VertexPayloadCodecEnum.getByName("deflate"));
+        assertNull(VertexPayloadCodecEnum.getByName("lz4"));
+    }
+}
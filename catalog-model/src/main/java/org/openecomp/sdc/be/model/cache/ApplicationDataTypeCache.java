@@ -20,23 +20,24 @@
 package org.openecomp.sdc.be.model.cache;
 
 import fj.data.Either;
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.AtomicReference;
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.commons.collections.CollectionUtils;
-import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.openecomp.sdc.be.config.BeEcompErrorManager;
 import org.openecomp.sdc.be.config.BeEcompErrorManager.ErrorSeverity;
@@ -59,14 +60,13 @@ public class ApplicationDataTypeCache implements ApplicationCache<DataTypeDefini
     private static final String APPLICATION_DATA_TYPES_CACHE = "ApplicationDataTypesCache";
     private static final Logger log = Logger.getLogger(ApplicationDataTypeCache.class);
 
-    private final ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
     private final PropertyOperation propertyOperation;
     private final ApplicationEventPublisher applicationEventPublisher;
     @Getter(AccessLevel.PACKAGE)
     private final ScheduledExecutorService scheduledPollingService;
     @Getter(AccessLevel.PACKAGE)
     private ScheduledFuture<?> scheduledFuture = null;
-    private Map<String, Map<String, DataTypeDefinition>> dataTypesByModelCacheMap = new HashMap<>();
+    private final AtomicReference<DataTypesSnapshot> snapshot = new AtomicReference<>(DataTypesSnapshot.EMPTY);
     private final DataTypeOperation dataTypeOperation;
     private int firstRunDelayInSec = 30;
     private int pollingIntervalInSec = 60;
@@ -166,41 +166,54 @@ public class ApplicationDataTypeCache implements ApplicationCache<DataTypeDefini
     }
 
     public Either<Map<String, DataTypeDefinition>, JanusGraphOperationStatus> getAll(final String model) {
-        try {
-            readWriteLock.readLock().lock();
-            if (MapUtils.isEmpty(dataTypesByModelCacheMap) || !dataTypesByModelCacheMap.containsKey(model)) {
-                final var dataTypesFound = getAllDataTypesFromGraph();
-                if (dataTypesFound.isRight()) {
-                    return Either.right(dataTypesFound.right().value());
-                }
-                dataTypesByModelCacheMap = dataTypesFound.left().value();
+        DataTypesSnapshot current = snapshot.get();
+        if (!current.containsModel(model)) {
+            final var dataTypesFound = getAllDataTypesFromGraph();
+            if (dataTypesFound.isRight()) {
+                return Either.right(dataTypesFound.right().value());
             }
-            return Either.left(getDataTypeDefinitionMapByModel(model));
-        } finally {
-            readWriteLock.readLock().unlock();
+            current = new DataTypesSnapshot(dataTypesFound.left().value());
+            snapshot.set(current);
         }
+        return Either.left(current.getByName(model));
     }
 
     @Override
     public Either<DataTypeDefinition, JanusGraphOperationStatus> get(final String model, final String uniqueId) {
-        try {
-            readWriteLock.readLock().lock();
-            if (MapUtils.isEmpty(dataTypesByModelCacheMap)) {
-                return propertyOperation.getDataTypeByUid(uniqueId);
-            }
-            final Optional<DataTypeDefinition> dataTypeDefinition = getDataTypeDefinitionMapByModel(model).values().stream()
-                .filter(p -> p.getUniqueId().equals(uniqueId)).findFirst();
-            if (dataTypeDefinition.isEmpty()) {
-                return propertyOperation.getDataTypeByUid(uniqueId);
-            }
-            return Either.left(new DataTypeDefinition(dataTypeDefinition.get()));
-        } finally {
-            readWriteLock.readLock().unlock();
+        final DataTypesSnapshot current = snapshot.get();
+        final DataTypeDefinition dataTypeDefinition = current.isEmpty() ? null : current.getByUniqueId(model).get(uniqueId);
+        if (dataTypeDefinition == null) {
+            return propertyOperation.getDataTypeByUid(uniqueId);
         }
+        return Either.left(new DataTypeDefinition(dataTypeDefinition));
     }
 
-    private Map<String, DataTypeDefinition> getDataTypeDefinitionMapByModel(final String model) {
-        return dataTypesByModelCacheMap.containsKey(model) ? dataTypesByModelCacheMap.get(model) : new HashMap<>();
+    /**
+     * Re-reads from the graph the given data types, and the cached data types derived from them, once their creation or update was committed.
+     * Changes made by other BE instances are still picked up by the polling task.
+     *
+     * @param uniqueIds the unique ids of the created or updated data types
+     */
+    public void refreshDataTypes(final Collection<String> uniqueIds) {
+        final DataTypesSnapshot current = snapshot.get();
+        if (current.isEmpty() || uniqueIds.isEmpty()) {
+            return;
+        }
+        final Set<String> uniqueIdsToRead = new HashSet<>(uniqueIds);
+        uniqueIdsToRead.addAll(current.findDerivedFrom(uniqueIds));
+        final Map<String, DataTypeDefinition> dataTypesRead = new HashMap<>();
+        for (final String uniqueId : uniqueIdsToRead) {
+            final Either<DataTypeDefinition, JanusGraphOperationStatus> dataTypeEither = propertyOperation.getDataTypeByUid(uniqueId);
+            if (dataTypeEither.isRight()) {
+                log.debug("Failed to read data type {} with status {}, reloading the data types cache", uniqueId, dataTypeEither.right().value());
+                refreshDataTypesCache();
+                return;
+            }
+            dataTypesRead.put(uniqueId, dataTypeEither.left().value());
+        }
+        snapshot.updateAndGet(previous -> previous.with(dataTypesRead));
+        log.debug("Refreshed {} data types in the data types cache", dataTypesRead.size());
+        onDataChangeEventEmit();
     }
 
     @Override
@@ -244,19 +257,14 @@ public class ApplicationDataTypeCache implements ApplicationCache<DataTypeDefini
     }
 
     private int dataTypesCacheMapSize() {
-        var count = 0;
-        for (var i = 0; i < copyDataTypeCache().size(); i++) {
-            count += new ArrayList<>(copyDataTypeCache().values()).get(i).size();
-
-        }
-        return count;
+        return snapshot.get().size;
     }
 
     private boolean hasDataTypesChanged(final List<DataTypeData> dataTypeListFromDatabase, final Map<String, Map<String, DataTypeDefinition>> dataTypesCacheCopyMap) {
         return dataTypeListFromDatabase.stream().map(DataTypeData::getDataTypeDataDefinition).anyMatch(actualDataTypeDefinition -> {
             final String dataTypeName = actualDataTypeDefinition.getName();
             final String model = actualDataTypeDefinition.getModel();
-            final DataTypeDefinition cachedDataTypeDefinition = dataTypesCacheCopyMap.get(model).get(dataTypeName);
+            final DataTypeDefinition cachedDataTypeDefinition = dataTypesCacheCopyMap.getOrDefault(model, Collections.emptyMap()).get(dataTypeName);
             if (cachedDataTypeDefinition == null) {
                 log.debug("Datatype '{}' is not present in the cache. ", dataTypeName);
                 return true;
@@ -284,12 +292,7 @@ public class ApplicationDataTypeCache implements ApplicationCache<DataTypeDefini
     }
 
     private Map<String, Map<String, DataTypeDefinition>> copyDataTypeCache() {
-        try {
-            readWriteLock.readLock().lock();
-            return new HashMap<>(this.dataTypesByModelCacheMap);
-        } finally {
-            readWriteLock.readLock().unlock();
-        }
+        return snapshot.get().byNameByModel;
     }
 
     private void refreshDataTypesCache() {
@@ -297,15 +300,10 @@ public class ApplicationDataTypeCache implements ApplicationCache<DataTypeDefini
         if (dataTypesDefinitionMap.isEmpty()) {
             return;
         }
-        try {
-            readWriteLock.writeLock().lock();
-            dataTypesByModelCacheMap = dataTypesDefinitionMap;
-            onDataChangeEventEmit();
-            BeEcompErrorManager.getInstance()
-                .logInternalFlowError("ReplaceDataTypesCache", "Succeed to replace the data types cache", ErrorSeverity.INFO);
-        } finally {
-            readWriteLock.writeLock().unlock();
-        }
+        snapshot.set(new DataTypesSnapshot(dataTypesDefinitionMap));
+        onDataChangeEventEmit();
+        BeEcompErrorManager.getInstance()
+            .logInternalFlowError("ReplaceDataTypesCache", "Succeed to replace the data types cache", ErrorSeverity.INFO);
     }
 
     private Map<String, Map<String, DataTypeDefinition>> findAllDataTypesEager() {
@@ -336,6 +334,86 @@ public class ApplicationDataTypeCache implements ApplicationCache<DataTypeDefini
         applicationEventPublisher.publishEvent(new DataTypesCacheChangedEvent(this, copyDataTypeCache()));
     }
 
+    /**
+     * Immutable view of the cached data types, indexed by model and then by name and by unique id. Every change builds a new snapshot that
+     * replaces the current one, so readers never lock and never see a half updated cache.
+     */
+    private static final class DataTypesSnapshot {
+
+        private static final DataTypesSnapshot EMPTY = new DataTypesSnapshot(Collections.emptyMap());
+        private final Map<String, Map<String, DataTypeDefinition>> byNameByModel;
+        private final Map<String, Map<String, DataTypeDefinition>> byUniqueIdByModel;
+        private final int size;
+
+        private DataTypesSnapshot(final Map<String, Map<String, DataTypeDefinition>> dataTypesByModel) {
+            final Map<String, Map<String, DataTypeDefinition>> byName = new HashMap<>();
+            final Map<String, Map<String, DataTypeDefinition>> byUniqueId = new HashMap<>();
+            var count = 0;
+            for (final Map.Entry<String, Map<String, DataTypeDefinition>> modelEntry : dataTypesByModel.entrySet()) {
+                final Map<String, DataTypeDefinition> uniqueIdIndex = new HashMap<>();
+                modelEntry.getValue().values().forEach(dataType -> uniqueIdIndex.put(dataType.getUniqueId(), dataType));
+                byName.put(modelEntry.getKey(), Collections.unmodifiableMap(new HashMap<>(modelEntry.getValue())));
+                byUniqueId.put(modelEntry.getKey(), Collections.unmodifiableMap(uniqueIdIndex));
+                count += modelEntry.getValue().size();
+            }
+            this.byNameByModel = Collections.unmodifiableMap(byName);
+            this.byUniqueIdByModel = Collections.unmodifiableMap(byUniqueId);
+            this.size = count;
+        }
+
+        private boolean isEmpty() {
+            return byNameByModel.isEmpty();
+        }
+
+        private boolean containsModel(final String model) {
+            return byNameByModel.containsKey(model);
+        }
+
+        private Map<String, DataTypeDefinition> getByName(final String model) {
+            return byNameByModel.getOrDefault(model, Collections.emptyMap());
+        }
+
+        private Map<String, DataTypeDefinition> getByUniqueId(final String model) {
+            return byUniqueIdByModel.getOrDefault(model, Collections.emptyMap());
+        }
+
+        /**
+         * @return the unique ids of the cached data types that derive, directly or not, from one of the given data types
+         */
+        private Set<String> findDerivedFrom(final Collection<String> uniqueIds) {
+            final Set<String> derived = new HashSet<>();
+            byUniqueIdByModel.values().forEach(dataTypes -> dataTypes.values().forEach(dataType -> {
+                for (DataTypeDefinition parent = dataType.getDerivedFrom(); parent != null; parent = parent.getDerivedFrom()) {
+                    if (uniqueIds.contains(parent.getUniqueId())) {
+                        derived.add(dataType.getUniqueId());
+                        return;
+                    }
+                }
+            }));
+            return derived;
+        }
+
+        /**
+         * @return a copy of this snapshot where the given data types replace the cached ones, in every model the data type was cached in and
+         * in its own model
+         */
+        private DataTypesSnapshot with(final Map<String, DataTypeDefinition> dataTypesByUniqueId) {
+            final Map<String, Map<String, DataTypeDefinition>> dataTypesByModel = new HashMap<>();
+            byNameByModel.forEach((model, dataTypes) -> dataTypesByModel.put(model, new HashMap<>(dataTypes)));
+            dataTypesByUniqueId.forEach((uniqueId, dataType) -> {
+                final Set<String> models = new HashSet<>();
+                models.add(dataType.getModel());
+                byUniqueIdByModel.forEach((model, dataTypes) -> {
+                    if (dataTypes.containsKey(uniqueId)) {
+                        models.add(model);
+                    }
+                });
+                models.forEach(model -> dataTypesByModel.computeIfAbsent(model, key -> new HashMap<>()).put(dataType.getName(), dataType));
+            });
+            return new DataTypesSnapshot(dataTypesByModel);
+        }
+    }
+
     /**
      * Custom event to notify all interested in cached data changes
      */
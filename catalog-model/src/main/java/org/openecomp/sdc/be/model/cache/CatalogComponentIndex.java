@@ -0,0 +1,171 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.model.cache;
+
+import com.google.common.hash.Hashing;
+import com.google.gson.Gson;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import org.apache.commons.collections.CollectionUtils;
+import org.openecomp.sdc.be.config.Configuration;
+import org.openecomp.sdc.be.config.ConfigurationManager;
+import org.openecomp.sdc.be.datatypes.enums.ResourceTypeEnum;
+import org.openecomp.sdc.be.model.catalog.CatalogComponent;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory view of the catalog and archive elements, loaded once from the graph and then refreshed only for the elements reported as changed by
+ * the operations that move an element in or out of the catalog or update its metadata. The ETag of the catalog screen is a digest of the content
+ * of the view, so that BE instances holding the same catalog return the same ETag and reloading an unchanged view keeps it.
+ */
+@Component("catalog-component-index")
+public class CatalogComponentIndex {
+
+    private static final Logger log = Logger.getLogger(CatalogComponentIndex.class);
+    private final Map<Boolean, View> views = new ConcurrentHashMap<>();
+    private final Set<String> changedIds = ConcurrentHashMap.newKeySet();
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * @return true when the view of the catalog (or archive) was loaded and did not expire
+     */
+    public boolean isLoaded(boolean isCatalog) {
+        View view = views.get(isCatalog);
+        if (view == null) {
+            return false;
+        }
+        long maxAgeInMillis = getMaxAgeInMillis();
+        return maxAgeInMillis <= 0 || System.currentTimeMillis() - view.loadTime < maxAgeInMillis;
+    }
+
+    public void load(boolean isCatalog, Collection<CatalogComponent> components) {
+        View view = new View();
+        components.forEach(component -> view.components.put(component.getUniqueId(), component));
+        views.put(isCatalog, view);
+        generation.incrementAndGet();
+        log.debug("loaded {} elements to the {} index", components.size(), isCatalog ? "catalog" : "archive");
+    }
+
+    /**
+     * Records elements whose catalog entry must be re-read from the graph before the index is next used. Called once the change is committed, so
+     * that the re-read sees it.
+     */
+    public void markChanged(String... uniqueIds) {
+        for (String uniqueId : uniqueIds) {
+            if (uniqueId != null) {
+                changedIds.add(uniqueId);
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the elements marked as changed since the last call
+     */
+    public Set<String> pollChanged() {
+        Set<String> polled = new HashSet<>();
+        Iterator<String> iterator = changedIds.iterator();
+        while (iterator.hasNext()) {
+            polled.add(iterator.next());
+            iterator.remove();
+        }
+        return polled;
+    }
+
+    /**
+     * Replaces the entry of an element with its current state
+     *
+     * @param uniqueId  the element unique id
+     * @param component the current catalog entry, null if the element was deleted or left the catalog and archive
+     * @param isCatalog true if the element is under the catalog root, false if it is under the archive root
+     */
+    public void update(String uniqueId, CatalogComponent component, boolean isCatalog) {
+        views.values().forEach(view -> view.components.remove(uniqueId));
+        View view = views.get(isCatalog);
+        if (component != null && view != null) {
+            view.components.put(uniqueId, component);
+        }
+        generation.incrementAndGet();
+    }
+
+    public List<CatalogComponent> getComponents(boolean isCatalog, List<ResourceTypeEnum> excludeTypes) {
+        View view = views.get(isCatalog);
+        if (view == null) {
+            return List.of();
+        }
+        return view.components.values().stream().filter(component -> isIncluded(component, excludeTypes)).collect(Collectors.toList());
+    }
+
+    public String getETag(boolean isCatalog, List<ResourceTypeEnum> excludeTypes) {
+        View view = views.get(isCatalog);
+        long digest = view == null ? 0 : view.getDigest(generation.get());
+        // enum hash codes differ between JVMs, the names do not
+        String excludedTypes = CollectionUtils.isEmpty(excludeTypes) ? ""
+            : excludeTypes.stream().map(Enum::name).distinct().sorted().collect(Collectors.joining(","));
+        return String.format("\"%016x-%s-%08x\"", digest, isCatalog ? "c" : "a", excludedTypes.hashCode());
+    }
+
+    private boolean isIncluded(CatalogComponent component, List<ResourceTypeEnum> excludeTypes) {
+        if (component.getResourceType() == null || CollectionUtils.isEmpty(excludeTypes)) {
+            return true;
+        }
+        return !excludeTypes.contains(ResourceTypeEnum.getType(component.getResourceType()));
+    }
+
+    private long getMaxAgeInMillis() {
+        ConfigurationManager configurationManager = ConfigurationManager.getConfigurationManager();
+        Configuration configuration = configurationManager == null ? null : configurationManager.getConfiguration();
+        Long maxAgeInSeconds = configuration == null ? null : configuration.getCatalogIndexMaxAgeInSeconds();
+        return maxAgeInSeconds == null ? 0 : TimeUnit.SECONDS.toMillis(maxAgeInSeconds);
+    }
+
+    private static final class View {
+
+        private static final Gson GSON = new Gson();
+        private final Map<String, CatalogComponent> components = new ConcurrentHashMap<>();
+        private final long loadTime = System.currentTimeMillis();
+        private long digestGeneration = -1;
+        private long digest;
+
+        /**
+         * Order independent digest of the json of the elements, computed again only once the index changed
+         */
+        private synchronized long getDigest(long currentGeneration) {
+            if (digestGeneration != currentGeneration) {
+                long sum = 0;
+                for (CatalogComponent component : components.values()) {
+                    sum += Hashing.murmur3_128().hashString(GSON.toJson(component), StandardCharsets.UTF_8).asLong();
+                }
+                digest = sum;
+                digestGeneration = currentGeneration;
+            }
+            return digest;
+        }
+    }
+}
@@ -0,0 +1,271 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.model.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import fj.data.Either;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.UnaryOperator;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import org.openecomp.sdc.be.config.Configuration;
+import org.openecomp.sdc.be.config.Configuration.CertifiedComponentCacheConfig;
+import org.openecomp.sdc.be.config.ConfigurationManager;
+import org.openecomp.sdc.be.model.Component;
+import org.openecomp.sdc.be.model.LifecycleStateEnum;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+
+/**
+ * Certified components read by the tosca and csar exports, with the node type templates generated for them. A certified version of a component
+ * does not change, so it is read from the graph once and then shared by all exports, until the graph operations report it as deleted, archived
+ * or updated once their transaction is committed, or until it reaches the configured age, which bounds the staleness of the changes made by
+ * other BE instances. A read that overlaps an eviction is not kept, as it may hold the state before the change. Both caches are bounded by
+ * weight, least recently used entries being evicted first. Templates are handed out as copies, while cached components are shared and must not
+ * be modified by their users, the exports working on copies of the parts they change. Components are weighed by their number of model elements
+ * rather than by their size in memory.
+ */
+@org.springframework.stereotype.Component("certified-component-cache")
+public class CertifiedComponentCache {
+
+    private static final Logger log = Logger.getLogger(CertifiedComponentCache.class);
+    private final CertifiedComponentCacheConfig config;
+    // incremented on every eviction, so that a read which overlapped an eviction does not put back the state it read before the change
+    private final AtomicLong evictions = new AtomicLong();
+    private volatile Caches caches;
+    private volatile boolean disabled;
+
+    public CertifiedComponentCache() {
+        this(null);
+    }
+
+    /**
+     * @param config the configuration of the cache, null to read it from the BE configuration on first use
+     */
+    CertifiedComponentCache(CertifiedComponentCacheConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Gets a component, loading it on a miss and keeping it if it is certified.
+     *
+     * @param uniqueId the component unique id
+     * @param view     the set of component data the loader reads, a component is cached once per view
+     * @param loader   reads the component from the graph
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Component, E> Either<T, E> getComponent(String uniqueId, ComponentView view, Supplier<Either<T, E>> loader) {
+        Caches current = getCaches();
+        if (current == null || uniqueId == null) {
+            return loader.get();
+        }
+        Key key = new Key(uniqueId, view.name());
+        Component cached = current.components.getIfPresent(key);
+        if (cached != null) {
+            return Either.left((T) cached);
+        }
+        long evictionsBeforeLoad = evictions.get();
+        Either<T, E> loaded = loader.get();
+        if (loaded.isLeft() && isCertified(loaded.left().value()) && evictions.get() == evictionsBeforeLoad) {
+            current.components.put(key, loaded.left().value());
+        }
+        return loaded;
+    }
+
+    /**
+     * Gets a node type template generated for a certified component, generating it on a miss.
+     *
+     * @param component the component the template is generated for, templates of components that are not certified are not kept
+     * @param variant   distinguishes the templates generated for the same component
+     * @param generator generates the template
+     * @param sizeOf    the size of a template in bytes
+     * @param copier    copies a template, the cache keeps its own copy and hands out copies of it
+     */
+    @SuppressWarnings("unchecked")
+    public <V, E> Either<V, E> getNodeTypeTemplate(Component component, String variant, Supplier<Either<V, E>> generator, ToIntFunction<V> sizeOf,
+                                                   UnaryOperator<V> copier) {
+        Caches current = getCaches();
+        if (current == null || component.getUniqueId() == null || !isCertified(component)) {
+            return generator.get();
+        }
+        Key key = new Key(component.getUniqueId(), variant);
+        SizedValue cached = current.nodeTypeTemplates.getIfPresent(key);
+        if (cached != null) {
+            return Either.left(copier.apply((V) cached.value));
+        }
+        long evictionsBeforeGeneration = evictions.get();
+        Either<V, E> generated = generator.get();
+        if (generated.isLeft() && evictions.get() == evictionsBeforeGeneration) {
+            V template = copier.apply(generated.left().value());
+            current.nodeTypeTemplates.put(key, new SizedValue(template, sizeOf.applyAsInt(template)));
+        }
+        return generated;
+    }
+
+    /**
+     * Drops the components, and their node type templates, that were changed
+     */
+    public void evict(String... uniqueIds) {
+        evictions.incrementAndGet();
+        Caches current = caches;
+        if (current == null) {
+            return;
+        }
+        for (String uniqueId : uniqueIds) {
+            if (uniqueId != null) {
+                for (ComponentView view : ComponentView.values()) {
+                    current.components.invalidate(new Key(uniqueId, view.name()));
+                }
+                current.nodeTypeTemplates.asMap().keySet().removeIf(key -> key.uniqueId.equals(uniqueId));
+            }
+        }
+    }
+
+    public void evictAll() {
+        evictions.incrementAndGet();
+        Caches current = caches;
+        if (current != null) {
+            current.components.invalidateAll();
+            current.nodeTypeTemplates.invalidateAll();
+        }
+    }
+
+    public CacheStats getComponentStats() {
+        Caches current = getCaches();
+        return current == null ? new CacheStats(0, 0, 0, 0, 0, 0) : current.components.stats();
+    }
+
+    public CacheStats getNodeTypeTemplateStats() {
+        Caches current = getCaches();
+        return current == null ? new CacheStats(0, 0, 0, 0, 0, 0) : current.nodeTypeTemplates.stats();
+    }
+
+    public long getComponentCount() {
+        Caches current = getCaches();
+        return current == null ? 0 : current.components.size();
+    }
+
+    private static boolean isCertified(Component component) {
+        return component.getLifecycleState() == LifecycleStateEnum.CERTIFIED && !Boolean.TRUE.equals(component.isArchived());
+    }
+
+    private Caches getCaches() {
+        Caches current = caches;
+        if (current == null && !disabled) {
+            synchronized (this) {
+                current = caches;
+                if (current == null) {
+                    CertifiedComponentCacheConfig cacheConfig = config;
+                    if (cacheConfig == null) {
+                        Configuration configuration = readConfiguration();
+                        if (configuration == null) {
+                            // configuration not loaded yet
+                            return null;
+                        }
+                        cacheConfig = configuration.getCertifiedComponentCache();
+                    }
+                    if (cacheConfig == null || !cacheConfig.isEnabled()) {
+                        disabled = true;
+                        return null;
+                    }
+                    current = new Caches(cacheConfig);
+                    caches = current;
+                    log.info("certified component cache created with max component weight {} and max node type template bytes {}",
+                        cacheConfig.getMaxComponentWeight(), cacheConfig.getMaxNodeTypeTemplateBytes());
+                }
+            }
+        }
+        return current;
+    }
+
+    private static Configuration readConfiguration() {
+        ConfigurationManager configurationManager = ConfigurationManager.getConfigurationManager();
+        return configurationManager == null ? null : configurationManager.getConfiguration();
+    }
+
+    /**
+     * Weight of a component, roughly proportional to its size in memory
+     */
+    static int weigh(Component component) {
+        long weight = 1L + size(component.getComponentInstances()) + size(component.getProperties()) + size(component.getInputs())
+            + size(component.getCapabilities()) + size(component.getRequirements()) + size(component.getInterfaces())
+            + size(component.getArtifacts()) + size(component.getDeploymentArtifacts()) + size(component.getComponentInstancesProperties())
+            + size(component.getComponentInstancesRelations());
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    private static int size(Collection<?> collection) {
+        return collection == null ? 0 : collection.size();
+    }
+
+    private static int size(Map<?, ?> map) {
+        return map == null ? 0 : map.size();
+    }
+
+    /**
+     * The set of component data read from the graph
+     */
+    public enum ComponentView {
+        // everything, as read by getToscaElement(uniqueId)
+        ALL,
+        // everything including the capability properties and forwarding paths, as read by getToscaFullElement(uniqueId)
+        FULL
+    }
+
+    private static final class Caches {
+
+        private final Cache<Key, Component> components;
+        private final Cache<Key, SizedValue> nodeTypeTemplates;
+
+        private Caches(CertifiedComponentCacheConfig config) {
+            CacheBuilder<Key, Component> componentsBuilder = CacheBuilder.newBuilder().maximumWeight(config.getMaxComponentWeight())
+                .weigher((Key key, Component component) -> weigh(component)).recordStats();
+            CacheBuilder<Key, SizedValue> nodeTypeTemplatesBuilder = CacheBuilder.newBuilder().maximumWeight(config.getMaxNodeTypeTemplateBytes())
+                .weigher((Key key, SizedValue value) -> value.size).recordStats();
+            if (config.getMaxAgeInSeconds() > 0) {
+                componentsBuilder.expireAfterWrite(config.getMaxAgeInSeconds(), TimeUnit.SECONDS);
+                nodeTypeTemplatesBuilder.expireAfterWrite(config.getMaxAgeInSeconds(), TimeUnit.SECONDS);
+            }
+            components = componentsBuilder.build();
+            nodeTypeTemplates = nodeTypeTemplatesBuilder.build();
+        }
+    }
+
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static final class Key {
+
+        private final String uniqueId;
+        private final String variant;
+    }
+
+    @AllArgsConstructor
+    private static final class SizedValue {
+
+        private final Object value;
+        private final int size;
+    }
+}
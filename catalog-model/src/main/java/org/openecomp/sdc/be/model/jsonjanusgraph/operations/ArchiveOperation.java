@@ -262,6 +262,7 @@ public class ArchiveOperation extends BaseOperation {
     }
 
     private void setPropertiesByAction(GraphVertex v, Action action) {
+        markCatalogChanged(v.getUniqueId());
         long now = System.currentTimeMillis();
         boolean isArchived = action == ARCHIVE ? true : false;
         v.addMetadataProperty(GraphPropertyEnum.IS_ARCHIVED, isArchived);
@@ -58,6 +58,8 @@ import org.openecomp.sdc.be.datatypes.enums.GraphPropertyEnum;
 import org.openecomp.sdc.be.datatypes.enums.JsonPresentationFields;
 import org.openecomp.sdc.be.datatypes.tosca.ToscaDataDefinition;
 import org.openecomp.sdc.be.model.User;
+import org.openecomp.sdc.be.model.cache.CatalogComponentIndex;
+import org.openecomp.sdc.be.model.cache.CertifiedComponentCache;
 import org.openecomp.sdc.be.model.jsonjanusgraph.datamodel.ToscaElementTypeEnum;
 import org.openecomp.sdc.be.model.operations.StorageException;
 import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
@@ -87,11 +89,52 @@ public abstract class BaseOperation {
     protected TopologyTemplateOperation topologyTemplateOperation;
     //    @Autowired
     protected HealingPipelineDao healingPipelineDao;
+    @Autowired(required = false)
+    protected CatalogComponentIndex catalogComponentIndex;
+    @Autowired(required = false)
+    protected CertifiedComponentCache certifiedComponentCache;
 
     public void setJanusGraphDao(JanusGraphDao janusGraphDao) {
         this.janusGraphDao = janusGraphDao;
     }
 
+    public void setCatalogComponentIndex(CatalogComponentIndex catalogComponentIndex) {
+        this.catalogComponentIndex = catalogComponentIndex;
+    }
+
+    public void setCertifiedComponentCache(CertifiedComponentCache certifiedComponentCache) {
+        this.certifiedComponentCache = certifiedComponentCache;
+    }
+
+    /**
+     * Reports elements whose catalog entry may have changed, to be re-read on the next catalog fetch and dropped from the certified component cache.
+     * The change is reported once the current transaction is committed, so that the re-read does not see the state before the change, and is
+     * dropped on rollback.
+     */
+    protected void markCatalogChanged(String... uniqueIds) {
+        if (catalogComponentIndex == null && certifiedComponentCache == null) {
+            return;
+        }
+        janusGraphDao.onCommit(() -> {
+            if (catalogComponentIndex != null) {
+                catalogComponentIndex.markChanged(uniqueIds);
+            }
+            if (certifiedComponentCache != null) {
+                certifiedComponentCache.evict(uniqueIds);
+            }
+        });
+    }
+
+    /**
+     * Reports an element whose data vertices changed, to be dropped from the certified component cache once the current transaction is committed
+     */
+    protected void markDataChanged(String toscaElementId) {
+        if (certifiedComponentCache == null || toscaElementId == null) {
+            return;
+        }
+        janusGraphDao.onCommit(() -> certifiedComponentCache.evict(toscaElementId));
+    }
+
     /**
      * Returns reference to appropriate toscaTemplateOperation
      *
@@ -213,7 +256,13 @@ public abstract class BaseOperation {
 
     protected <T extends ToscaDataDefinition> Either<GraphVertex, JanusGraphOperationStatus> getDataVertex(GraphVertex componentV,
                                                                                                            EdgeLabelEnum edgelabel) {
-        Either<GraphVertex, JanusGraphOperationStatus> childVertex = janusGraphDao.getChildVertex(componentV, edgelabel, JsonParseFlagEnum.ParseJson);
+        Map<EdgeLabelEnum, GraphVertex> prefetchedChildVertices = componentV.getPrefetchedChildVertices();
+        if (prefetchedChildVertices != null && prefetchedChildVertices.containsKey(edgelabel)) {
+            // a prefetched vertex is handed out once, so that a second read of the label gets its own copy of the data
+            GraphVertex prefetchedV = prefetchedChildVertices.remove(edgelabel);
+            return prefetchedV == null ? Either.right(JanusGraphOperationStatus.NOT_FOUND) : Either.left(prefetchedV);
+        }
+        Either<GraphVertex, JanusGraphOperationStatus> childVertex = janusGraphDao.getChildVertex(componentV, edgelabel, JsonParseFlagEnum.ParseJsonLazy);
         if (childVertex.isRight()) {
             if (childVertex.right().value() != JanusGraphOperationStatus.NOT_FOUND) {
                 log.debug("failed to fetch {} for tosca element with id {}, error {}", edgelabel, componentV.getUniqueId(),
@@ -307,12 +356,18 @@ public abstract class BaseOperation {
             log.debug("No edges {} from vertex {} to vertex {}", label, toscaElementVertex.getUniqueId(), dataVertex.getUniqueId());
             return Either.right(JanusGraphOperationStatus.GENERAL_ERROR);
         }
+        markDataChanged(toscaElementVertex.getUniqueId());
         switch (edgeCount) {
             case 0:
                 // error
                 log.debug("No edges {} to vertex {}", label, dataVertex.getUniqueId());
                 return Either.right(JanusGraphOperationStatus.GENERAL_ERROR);
             case 1:
+                if (janusGraphDao.isJsonBase(dataVertex.getVertex())) {
+                    // the deltas of other versions are relative to this vertex, so it is copied as well
+                    log.trace("Only one edge {} to vertex {} which is a json base. Need to clone vertex", label, dataVertex.getUniqueId());
+                    return cloneDataVertex(dataVertex, toscaElementVertex, label, edgeToRemove);
+                }
                 // update
                 log.trace("Only one edge {} to vertex {}. Update vertex", label, dataVertex.getUniqueId());
                 return janusGraphDao.updateVertex(dataVertex);
@@ -329,7 +384,8 @@ public abstract class BaseOperation {
         String id = IdBuilderUtils.generateChildId(toscaElementVertex.getUniqueId(), dataVertex.getLabel());
         newDataVertex.cloneData(dataVertex);
         newDataVertex.setUniqueId(id);
-        Either<GraphVertex, JanusGraphOperationStatus> createVertex = janusGraphDao.createVertex(newDataVertex);
+        // the copy shares the entries that were not changed with the copied vertex
+        Either<GraphVertex, JanusGraphOperationStatus> createVertex = janusGraphDao.createDeltaVertex(newDataVertex, dataVertex);
         if (createVertex.isRight()) {
             log.debug("Failed to clone data vertex for {} error {}", dataVertex.getUniqueId(), createVertex.right().value());
             return createVertex;
@@ -359,6 +415,7 @@ public abstract class BaseOperation {
             return Either.right(DaoStatusConverter.convertJanusGraphStatusToStorageStatus(createVertex.right().value()));
         }
         dataV = createVertex.left().value();
+        markDataChanged(element.getUniqueId());
         JanusGraphOperationStatus createEdgeStatus = janusGraphDao.createEdge(element.getVertex(), dataV.getVertex(), edgeLabel, new HashMap<>());
         if (createEdgeStatus != JanusGraphOperationStatus.OK) {
             log.trace("Failed to create {} vertex for type node {}", vertexLabel, element.getUniqueId());
@@ -547,7 +604,7 @@ public abstract class BaseOperation {
     private Either<GraphVertex, JanusGraphOperationStatus> overrideToscaElementData(GraphVertex toscaElement,
                                                                                     Map<String, ? extends ToscaDataDefinition> toscaData,
                                                                                     EdgeLabelEnum edgeLabelEnum) {
-        return janusGraphDao.getChildVertex(toscaElement, edgeLabelEnum, JsonParseFlagEnum.ParseJson).left()
+        return janusGraphDao.getChildVertex(toscaElement, edgeLabelEnum, JsonParseFlagEnum.ParseJsonLazy).left()
             .bind(dataVertex -> overrideToscaElementData(dataVertex, toscaElement, toscaData, edgeLabelEnum)).right().map(
                 err -> logAndReturn(err, "failed to override tosca data for element {} of type {}. status: {}", toscaElement.getUniqueId(),
                     edgeLabelEnum, err));
@@ -624,7 +681,7 @@ public abstract class BaseOperation {
         StorageOperationStatus result = null;
         GraphVertex toscaDataVertex = null;
         Either<GraphVertex, JanusGraphOperationStatus> toscaDataVertexRes = janusGraphDao
-            .getChildVertex(toscaElement, edgeLabel, JsonParseFlagEnum.ParseJson);
+            .getChildVertex(toscaElement, edgeLabel, JsonParseFlagEnum.ParseJsonLazy);
         if (toscaDataVertexRes.isRight()) {
             JanusGraphOperationStatus status = toscaDataVertexRes.right().value();
             CommonUtility.addRecordToLog(log, LogLevelEnum.DEBUG, FAILED_TO_GET_CHILD_VERTEX_OF_THE_TOSCA_ELEMENT_BY_LABEL_STATUS_IS,
@@ -684,7 +741,7 @@ public abstract class BaseOperation {
         StorageOperationStatus result = null;
         GraphVertex toscaDataVertex = null;
         Either<GraphVertex, JanusGraphOperationStatus> toscaDataVertexRes = janusGraphDao
-            .getChildVertex(toscaElement, edgeLabel, JsonParseFlagEnum.ParseJson);
+            .getChildVertex(toscaElement, edgeLabel, JsonParseFlagEnum.ParseJsonLazy);
         if (toscaDataVertexRes.isRight() && toscaDataVertexRes.right().value() != JanusGraphOperationStatus.NOT_FOUND) {
             JanusGraphOperationStatus status = toscaDataVertexRes.right().value();
             CommonUtility.addRecordToLog(log, LogLevelEnum.DEBUG, FAILED_TO_GET_CHILD_VERTEX_OF_THE_TOSCA_ELEMENT_BY_LABEL_STATUS_IS,
@@ -743,7 +800,7 @@ public abstract class BaseOperation {
                                                                                                                   EdgeLabelEnum edgeLabel,
                                                                                                                   MapDataDefinition<T> toscaDataMap,
                                                                                                                   String key) {
-        return janusGraphDao.getChildVertex(toscaElement, edgeLabel, JsonParseFlagEnum.ParseJson).left()
+        return janusGraphDao.getChildVertex(toscaElement, edgeLabel, JsonParseFlagEnum.ParseJsonLazy).left()
             .bind(dataVertex -> updateToscaDataDeepElementsBlockToToscaElement(toscaElement, dataVertex, edgeLabel, toscaDataMap, key))
             .either(updatedVertex -> StorageOperationStatus.OK, DaoStatusConverter::convertJanusGraphStatusToStorageStatus);
     }
@@ -887,7 +944,7 @@ public abstract class BaseOperation {
     }
 
     public boolean hasEdgeOfType(GraphVertex toscaElement, EdgeLabelEnum edgeLabel) {
-        Either<GraphVertex, JanusGraphOperationStatus> vertex = janusGraphDao.getChildVertex(toscaElement, edgeLabel, JsonParseFlagEnum.ParseJson);
+        Either<GraphVertex, JanusGraphOperationStatus> vertex = janusGraphDao.getChildVertex(toscaElement, edgeLabel, JsonParseFlagEnum.NoParse);
         return vertex.isLeft();
     }
 
@@ -901,7 +958,7 @@ public abstract class BaseOperation {
         Either<Map<String, T>, StorageOperationStatus> validateRes = null;
         Map<String, T> mergedToscaDataMap;
         Either<GraphVertex, JanusGraphOperationStatus> toscaDataVertexRes = janusGraphDao
-            .getChildVertex(toscaElement, edgeLabel, JsonParseFlagEnum.ParseJson);
+            .getChildVertex(toscaElement, edgeLabel, JsonParseFlagEnum.ParseJsonLazy);
         if (toscaDataVertexRes.isRight() && toscaDataVertexRes.right().value() != JanusGraphOperationStatus.NOT_FOUND) {
             JanusGraphOperationStatus status = toscaDataVertexRes.right().value();
             CommonUtility.addRecordToLog(log, LogLevelEnum.DEBUG, FAILED_TO_GET_CHILD_VERTEX_OF_THE_TOSCA_ELEMENT_BY_LABEL_STATUS_IS,
@@ -933,7 +990,7 @@ public abstract class BaseOperation {
     <T extends ToscaDataDefinition> StorageOperationStatus updateFullToscaData(GraphVertex toscaElement, EdgeLabelEnum edgeLabel,
                                                                                VertexTypeEnum vertexLabel, Map<String, T> toscaData) {
         Either<GraphVertex, JanusGraphOperationStatus> toscaDataVertexRes = janusGraphDao
-            .getChildVertex(toscaElement, edgeLabel, JsonParseFlagEnum.ParseJson);
+            .getChildVertex(toscaElement, edgeLabel, JsonParseFlagEnum.ParseJsonLazy);
         if (toscaDataVertexRes.isRight() && toscaDataVertexRes.right().value() != JanusGraphOperationStatus.NOT_FOUND) {
             JanusGraphOperationStatus status = toscaDataVertexRes.right().value();
             CommonUtility.addRecordToLog(log, LogLevelEnum.DEBUG, FAILED_TO_GET_CHILD_VERTEX_OF_THE_TOSCA_ELEMENT_BY_LABEL_STATUS_IS,
@@ -960,7 +1017,7 @@ public abstract class BaseOperation {
         Map<String, K> existingDeepElementsMap = null;
         Either<Map<String, K>, StorageOperationStatus> validateRes = null;
         Either<GraphVertex, JanusGraphOperationStatus> toscaDataVertexRes = janusGraphDao
-            .getChildVertex(toscaElement, edgeLabel, JsonParseFlagEnum.ParseJson);
+            .getChildVertex(toscaElement, edgeLabel, JsonParseFlagEnum.ParseJsonLazy);
         if (toscaDataVertexRes.isRight() && toscaDataVertexRes.right().value() != JanusGraphOperationStatus.NOT_FOUND) {
             JanusGraphOperationStatus status = toscaDataVertexRes.right().value();
             CommonUtility.addRecordToLog(log, LogLevelEnum.DEBUG, FAILED_TO_GET_CHILD_VERTEX_OF_THE_TOSCA_ELEMENT_BY_LABEL_STATUS_IS,
@@ -1110,7 +1167,7 @@ public abstract class BaseOperation {
         Edge edge = null;
         Edge edgeToDelete = null;
         Either<GraphVertex, JanusGraphOperationStatus> toscaDataVertexRes = janusGraphDao
-            .getChildVertex(toscaElement, edgeLabel, JsonParseFlagEnum.ParseJson);
+            .getChildVertex(toscaElement, edgeLabel, JsonParseFlagEnum.NoParse);
         if (toscaDataVertexRes.isRight()) {
             JanusGraphOperationStatus status = toscaDataVertexRes.right().value();
             CommonUtility.addRecordToLog(log, LogLevelEnum.DEBUG, FAILED_REMOVE_TOSCA_DATA_VERTEX_OF_THE_TOSCA_ELEMENT_BY_LABEL_STATUS_IS,
@@ -1144,10 +1201,11 @@ public abstract class BaseOperation {
             }
         }
         if (result == null) {
+            markDataChanged(toscaElement.getUniqueId());
             if (edgeCounter > 1 && edgeToDelete != null) {
                 edgeToDelete.remove();
             } else {
-                toscaDataVertex.getVertex().remove();
+                janusGraphDao.removeDataVertex(toscaDataVertex.getVertex());
             }
         }
         if (result == null) {
@@ -1259,7 +1317,7 @@ public abstract class BaseOperation {
         GraphVertex toscaDataVertex;
         Map<String, ToscaDataDefinition> existingToscaDataMap = null;
         Either<GraphVertex, JanusGraphOperationStatus> toscaDataVertexRes = janusGraphDao
-            .getChildVertex(toscaElement, edgeLabel, JsonParseFlagEnum.ParseJson);
+            .getChildVertex(toscaElement, edgeLabel, JsonParseFlagEnum.ParseJsonLazy);
         if (toscaDataVertexRes.isRight()) {
             JanusGraphOperationStatus status = toscaDataVertexRes.right().value();
             CommonUtility.addRecordToLog(log, LogLevelEnum.DEBUG, FAILED_TO_GET_CHILD_VERTEX_OF_THE_TOSCA_ELEMENT_BY_LABEL_STATUS_IS,
@@ -1323,7 +1381,7 @@ public abstract class BaseOperation {
         GraphVertex toscaDataVertex;
         Map<String, ToscaDataDefinition> existingToscaDataMap;
         Either<GraphVertex, JanusGraphOperationStatus> toscaDataVertexRes = janusGraphDao
-            .getChildVertex(toscaElement, edgeLabel, JsonParseFlagEnum.ParseJson);
+            .getChildVertex(toscaElement, edgeLabel, JsonParseFlagEnum.ParseJsonLazy);
         if (toscaDataVertexRes.isRight()) {
             JanusGraphOperationStatus status = toscaDataVertexRes.right().value();
             CommonUtility.addRecordToLog(log, LogLevelEnum.DEBUG, FAILED_TO_GET_CHILD_VERTEX_OF_THE_TOSCA_ELEMENT_BY_LABEL_STATUS_IS,
@@ -1400,6 +1458,7 @@ public abstract class BaseOperation {
             }
         } else {
             if (MapUtils.isEmpty(mergedToscaDataMap)) {
+                markDataChanged(toscaElement.getUniqueId());
                 JanusGraphOperationStatus janusGraphOperationStatus = janusGraphDao.disassociateAndDeleteLast(toscaElement, Direction.OUT, edgeLabel);
                 return DaoStatusConverter.convertJanusGraphStatusToStorageStatus(janusGraphOperationStatus);
             }
@@ -665,6 +665,7 @@ public class NodeTypeOperation extends ToscaElementOperation {
 
     @Override
     public Either<ToscaElement, StorageOperationStatus> deleteToscaElement(GraphVertex toscaElementVertex) {
+        markCatalogChanged(toscaElementVertex.getUniqueId());
         Either<ToscaElement, StorageOperationStatus> nodeType = getToscaElement(toscaElementVertex, new ComponentParametersView());
         if (nodeType.isRight()) {
             log.debug("Failed to fetch tosca element {} error {}", toscaElementVertex.getUniqueId(), nodeType.right().value());
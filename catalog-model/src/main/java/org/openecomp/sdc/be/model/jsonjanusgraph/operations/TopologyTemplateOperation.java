@@ -23,12 +23,14 @@ import com.google.gson.reflect.TypeToken;
 import fj.data.Either;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.commons.collections.MapUtils;
 import org.apache.tinkerpop.gremlin.structure.Direction;
@@ -490,7 +492,7 @@ public class TopologyTemplateOperation extends ToscaElementOperation {
                                                                                                                   VertexTypeEnum vertexTypeEnum,
                                                                                                                   EdgeLabelEnum edgeLabelEnum,
                                                                                                                   Map<String, T> dataMap) {
-        return janusGraphDao.getChildVertex(nodeTypeVertex, edgeLabelEnum, JsonParseFlagEnum.ParseJson)
+        return janusGraphDao.getChildVertex(nodeTypeVertex, edgeLabelEnum, JsonParseFlagEnum.ParseJsonLazy)
             .either(dataVertex -> addElementsToComponent(nodeTypeVertex, dataVertex, vertexTypeEnum, edgeLabelEnum, dataMap),
                 status -> associateElementToDataIfNotFound(status, nodeTypeVertex, vertexTypeEnum, edgeLabelEnum, dataMap));
     }
@@ -636,6 +638,101 @@ public class TopologyTemplateOperation extends ToscaElementOperation {
 
     // -------------------------------------------------------------
     public Either<ToscaElement, StorageOperationStatus> getToscaElement(GraphVertex componentV, ComponentParametersView componentParametersView) {
+        prefetchDataVertices(componentV, componentParametersView);
+        try {
+            return getToscaElementFromGraph(componentV, componentParametersView);
+        } finally {
+            componentV.setPrefetchedChildVertices(null);
+        }
+    }
+
+    /**
+     * Reads the data vertices of all the parts of the view in one batch, instead of one read per part
+     */
+    private void prefetchDataVertices(GraphVertex componentV, ComponentParametersView componentParametersView) {
+        Set<EdgeLabelEnum> edgeLabels = getDataVertexLabels(componentParametersView);
+        if (edgeLabels.size() < 2) {
+            return;
+        }
+        Either<Map<EdgeLabelEnum, GraphVertex>, JanusGraphOperationStatus> childVertices = janusGraphDao
+            .getChildVertices(componentV, edgeLabels, JsonParseFlagEnum.ParseJsonLazy);
+        if (childVertices.isRight()) {
+            // the parts are read one by one
+            log.debug("failed to prefetch the data vertices of tosca element with id {}, error {}", componentV.getUniqueId(),
+                childVertices.right().value());
+            return;
+        }
+        componentV.setPrefetchedChildVertices(childVertices.left().value());
+    }
+
+    private Set<EdgeLabelEnum> getDataVertexLabels(ComponentParametersView componentParametersView) {
+        Set<EdgeLabelEnum> edgeLabels = EnumSet.noneOf(EdgeLabelEnum.class);
+        if (!componentParametersView.isIgnoreArtifacts()) {
+            edgeLabels.addAll(EnumSet.of(EdgeLabelEnum.ARTIFACTS, EdgeLabelEnum.DEPLOYMENT_ARTIFACTS, EdgeLabelEnum.TOSCA_ARTIFACTS,
+                EdgeLabelEnum.SERVICE_API_ARTIFACTS, EdgeLabelEnum.INST_DEPLOYMENT_ARTIFACTS, EdgeLabelEnum.INSTANCE_ARTIFACTS));
+        }
+        if (!componentParametersView.isIgnoreComponentInstancesProperties()) {
+            edgeLabels.add(EdgeLabelEnum.INST_PROPERTIES);
+        }
+        if (!componentParametersView.isIgnoreComponentInstancesAttributes()) {
+            edgeLabels.add(EdgeLabelEnum.INST_ATTRIBUTES);
+        }
+        if (!componentParametersView.isIgnoreCapabilities()) {
+            edgeLabels.addAll(EnumSet.of(EdgeLabelEnum.CALCULATED_CAPABILITIES, EdgeLabelEnum.FULLFILLED_CAPABILITIES, EdgeLabelEnum.CAPABILITIES));
+        }
+        if (!componentParametersView.isIgnoreRequirements()) {
+            edgeLabels.addAll(EnumSet.of(EdgeLabelEnum.CALCULATED_REQUIREMENTS, EdgeLabelEnum.FULLFILLED_REQUIREMENTS, EdgeLabelEnum.REQUIREMENTS));
+        }
+        if (!componentParametersView.isIgnoreAdditionalInformation()) {
+            edgeLabels.add(EdgeLabelEnum.ADDITIONAL_INFORMATION);
+        }
+        if (!componentParametersView.isIgnoreGroups()) {
+            edgeLabels.add(EdgeLabelEnum.GROUPS);
+        }
+        if (!componentParametersView.isIgnorePolicies()) {
+            edgeLabels.add(EdgeLabelEnum.POLICIES);
+        }
+        if (!componentParametersView.isIgnoreComponentInstances()) {
+            edgeLabels.add(EdgeLabelEnum.INST_GROUPS);
+        }
+        if (!componentParametersView.isIgnoreInputs()) {
+            edgeLabels.addAll(EnumSet.of(EdgeLabelEnum.INPUTS, EdgeLabelEnum.CAPABILITIES));
+        }
+        if (!componentParametersView.isIgnoreOutputs()) {
+            edgeLabels.add(EdgeLabelEnum.OUTPUTS);
+        }
+        if (!componentParametersView.isIgnoreProperties()) {
+            edgeLabels.add(EdgeLabelEnum.PROPERTIES);
+        }
+        if (!componentParametersView.isIgnoreComponentInstancesInputs()) {
+            edgeLabels.add(EdgeLabelEnum.INST_INPUTS);
+        }
+        if (!componentParametersView.isIgnoreCapabiltyProperties()) {
+            edgeLabels.addAll(EnumSet.of(EdgeLabelEnum.CALCULATED_CAP_PROPERTIES, EdgeLabelEnum.CAPABILITIES_PROPERTIES));
+        }
+        if (!componentParametersView.isIgnoreServicePath()) {
+            edgeLabels.add(EdgeLabelEnum.FORWARDING_PATH);
+        }
+        if (!componentParametersView.isIgnoreNodeFilter()) {
+            edgeLabels.add(EdgeLabelEnum.NODE_FILTER_TEMPLATE);
+        }
+        if (!componentParametersView.isIgnoreSubstitutionFilter()) {
+            edgeLabels.add(EdgeLabelEnum.SUBSTITUTION_FILTER_TEMPLATE);
+        }
+        if (!componentParametersView.isIgnoreInterfaces()) {
+            edgeLabels.add(EdgeLabelEnum.INTERFACE);
+        }
+        if (!componentParametersView.isIgnoreComponentInstancesInterfaces()) {
+            edgeLabels.add(EdgeLabelEnum.INST_INTERFACES);
+        }
+        if (!componentParametersView.isIgnoreDataType()) {
+            edgeLabels.add(EdgeLabelEnum.DATA_TYPES);
+        }
+        return edgeLabels;
+    }
+
+    private Either<ToscaElement, StorageOperationStatus> getToscaElementFromGraph(GraphVertex componentV,
+                                                                                  ComponentParametersView componentParametersView) {
         TopologyTemplate toscaElement;
         toscaElement = convertToTopologyTemplate(componentV);
         JanusGraphOperationStatus status;
@@ -1194,6 +1291,7 @@ public class TopologyTemplateOperation extends ToscaElementOperation {
 
     @Override
     public Either<ToscaElement, StorageOperationStatus> deleteToscaElement(GraphVertex toscaElementVertex) {
+        markCatalogChanged(toscaElementVertex.getUniqueId());
         Either<ToscaElement, StorageOperationStatus> nodeType = getToscaElement(toscaElementVertex, new ComponentParametersView());
         if (nodeType.isRight()) {
             log.debug("Failed to fetch tosca element {} error {}", toscaElementVertex.getUniqueId(), nodeType.right().value());
@@ -1384,6 +1482,7 @@ public class TopologyTemplateOperation extends ToscaElementOperation {
 
     public Either<GraphVertex, StorageOperationStatus> updateDistributionStatus(String uniqueId, User user,
                                                                                 DistributionStatusEnum distributionStatus) {
+        markCatalogChanged(uniqueId);
         Either<GraphVertex, StorageOperationStatus> result = null;
         String userId = user.getUserId();
         Either<GraphVertex, JanusGraphOperationStatus> getRes = findUserVertex(userId);
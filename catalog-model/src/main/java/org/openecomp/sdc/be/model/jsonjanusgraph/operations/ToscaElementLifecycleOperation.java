@@ -119,6 +119,7 @@ public class ToscaElementLifecycleOperation extends BaseOperation {
      */
     public Either<ToscaElement, StorageOperationStatus> checkinToscaELement(LifecycleStateEnum currState, String toscaElementId, String modifierId,
                                                                             String ownerId) {
+        markCatalogChanged(toscaElementId);
         try {
             return janusGraphDao.getVerticesByUniqueIdAndParseFlag(prepareParametersToGetVerticesForCheckin(toscaElementId, modifierId, ownerId))
                 .right().map(status -> handleFailureToPrepareParameters(status, toscaElementId)).left().bind(
@@ -185,6 +186,7 @@ public class ToscaElementLifecycleOperation extends BaseOperation {
      * @return
      */
     public Either<ToscaElement, StorageOperationStatus> checkoutToscaElement(String toscaElementId, String modifierId, String ownerId) {
+        markCatalogChanged(toscaElementId);
         Either<ToscaElement, StorageOperationStatus> result = null;
         Map<String, GraphVertex> vertices = null;
         try {
@@ -224,6 +226,7 @@ public class ToscaElementLifecycleOperation extends BaseOperation {
      * @return
      */
     public Either<ToscaElement, StorageOperationStatus> undoCheckout(String toscaElementId) {
+        markCatalogChanged(toscaElementId);
         try {
             return janusGraphDao.getVertexById(toscaElementId, JsonParseFlagEnum.ParseMetadata).right().map(errorStatus -> {
                 CommonUtility.addRecordToLog(log, LogLevelEnum.DEBUG, FAILED_TO_GET_VERTICES, toscaElementId);
@@ -292,6 +295,7 @@ public class ToscaElementLifecycleOperation extends BaseOperation {
     }
 
     public Either<ToscaElement, StorageOperationStatus> certifyToscaElement(String toscaElementId, String modifierId, String ownerId) {
+        markCatalogChanged(toscaElementId);
         try {
             return janusGraphDao
                 .getVerticesByUniqueIdAndParseFlag(prepareParametersToGetVerticesForRequestCertification(toscaElementId, modifierId, ownerId)).right()
@@ -615,7 +619,7 @@ public class ToscaElementLifecycleOperation extends BaseOperation {
                 CommonUtility.addRecordToLog(log, LogLevelEnum.DEBUG, "before add inst inputs {} ", instInputs == null ? 0 : instInputs.size());
                 GraphVertex toscaDataVertex = null;
                 Either<GraphVertex, JanusGraphOperationStatus> instInpVertexEither = janusGraphDao
-                    .getChildVertex(toscaElementVertex, EdgeLabelEnum.INST_INPUTS, JsonParseFlagEnum.ParseJson);
+                    .getChildVertex(toscaElementVertex, EdgeLabelEnum.INST_INPUTS, JsonParseFlagEnum.ParseJsonLazy);
                 if (instInpVertexEither.isLeft()) {
                     toscaDataVertex = instInpVertexEither.left().value();
                 }
@@ -631,7 +635,7 @@ public class ToscaElementLifecycleOperation extends BaseOperation {
                 CommonUtility.addRecordToLog(log, LogLevelEnum.DEBUG, "before add inst groups {} ", instGroups == null ? 0 : instGroups.size());
                 GraphVertex toscaDataVertex = null;
                 Either<GraphVertex, JanusGraphOperationStatus> instGrVertexEither = janusGraphDao
-                    .getChildVertex(toscaElementVertex, EdgeLabelEnum.INST_GROUPS, JsonParseFlagEnum.ParseJson);
+                    .getChildVertex(toscaElementVertex, EdgeLabelEnum.INST_GROUPS, JsonParseFlagEnum.ParseJsonLazy);
                 if (instGrVertexEither.isLeft()) {
                     toscaDataVertex = instGrVertexEither.left().value();
                 }
@@ -1114,6 +1118,7 @@ public class ToscaElementLifecycleOperation extends BaseOperation {
 
     public Either<ToscaElement, StorageOperationStatus> forceCerificationOfToscaElement(String toscaElementId, String modifierId, String ownerId,
                                                                                         String currVersion) {
+        markCatalogChanged(toscaElementId);
         Either<GraphVertex, StorageOperationStatus> resultUpdate = null;
         Either<ToscaElement, StorageOperationStatus> result = null;
         GraphVertex toscaElement = null;
@@ -1203,6 +1208,7 @@ public class ToscaElementLifecycleOperation extends BaseOperation {
             return DaoStatusConverter.convertJanusGraphStatusToStorageStatus(catalog.right().value());
         }
         GraphVertex catalogV = catalog.left().value();
+        markCatalogChanged(newVersionV == null ? null : newVersionV.getUniqueId(), prevVersionV == null ? null : prevVersionV.getUniqueId());
         if (newVersionV != null) {
             Boolean isAbstract = (Boolean) newVersionV.getMetadataProperty(GraphPropertyEnum.IS_ABSTRACT);
             if (isAbstract == null || !isAbstract) {
@@ -27,6 +27,7 @@ import fj.data.Either;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -161,6 +162,7 @@ public abstract class ToscaElementOperation extends BaseOperation {
         } else {
             componentToDelete.addMetadataProperty(GraphPropertyEnum.IS_DELETED, Boolean.TRUE);
             componentToDelete.setJsonMetadataField(JsonPresentationFields.LAST_UPDATE_DATE, System.currentTimeMillis());
+            markCatalogChanged(componentToDelete.getUniqueId());
             Either<GraphVertex, JanusGraphOperationStatus> updateNode = janusGraphDao.updateVertex(componentToDelete);
             StorageOperationStatus updateComponent;
             if (updateNode.isRight()) {
@@ -635,6 +637,7 @@ public abstract class ToscaElementOperation extends BaseOperation {
             return DaoStatusConverter.convertJanusGraphStatusToStorageStatus(catalog.right().value());
         }
         JanusGraphOperationStatus createEdge = janusGraphDao.createEdge(catalog.left().value(), nodeTypeVertex, EdgeLabelEnum.CATALOG_ELEMENT, null);
+        markCatalogChanged(nodeTypeVertex.getUniqueId());
         return DaoStatusConverter.convertJanusGraphStatusToStorageStatus(createEdge);
     }
 
@@ -1129,6 +1132,7 @@ public abstract class ToscaElementOperation extends BaseOperation {
             result = Either.right(StorageOperationStatus.BAD_REQUEST);
             return result;
         }
+        markCatalogChanged(toscaElementToUpdate.getUniqueId());
         Either<GraphVertex, JanusGraphOperationStatus> findUser = findUserVertex(modifierUserId);
         if (findUser.isRight()) {
             JanusGraphOperationStatus status = findUser.right().value();
@@ -1309,7 +1313,129 @@ public abstract class ToscaElementOperation extends BaseOperation {
         return Either.left(result);
     }
 
+    /**
+     * Returns a page of the highest and certified elements of the given type, ordered by unique id. The elements are matched once, with only their
+     * metadata parsed, as the unpaged catalog read does; the page is selected on that metadata and only the vertices of the page are read into
+     * catalog entries.
+     * <p>
+     * The element indexes are composite, so the graph cannot return the elements ordered by unique id: every page matches all the elements
+     * again. A caller walking the whole catalog page by page therefore reads the element vertices once per page.
+     *
+     * @param afterUniqueId unique id of the last element of the previous page, null for the first page
+     * @param updatedSince  only the elements updated at or after this time (in ms) are returned, 0 for all
+     * @param limit         maximum number of elements returned, 0 for no limit
+     */
+    public Either<List<CatalogComponent>, StorageOperationStatus> getElementCatalogDataPage(ComponentTypeEnum componentType, String afterUniqueId,
+                                                                                            long updatedSince, int limit) {
+        Either<List<GraphVertex>, JanusGraphOperationStatus> highestNodes = getListOfHighestComponents(componentType, null,
+            JsonParseFlagEnum.ParseMetadata);
+        if (highestNodes.isRight() && highestNodes.right().value() != JanusGraphOperationStatus.NOT_FOUND) {
+            return Either.right(DaoStatusConverter.convertJanusGraphStatusToStorageStatus(highestNodes.right().value()));
+        }
+        Either<List<GraphVertex>, JanusGraphOperationStatus> certifiedNotHighestNodes = janusGraphDao.getByCriteria(null,
+            getCertifiedPropertiesToMatch(componentType), getCertifiedNotHighestPropertiesHasNotToMatch(componentType, null),
+            JsonParseFlagEnum.ParseMetadata);
+        if (certifiedNotHighestNodes.isRight() && certifiedNotHighestNodes.right().value() != JanusGraphOperationStatus.NOT_FOUND) {
+            return Either.right(DaoStatusConverter.convertJanusGraphStatusToStorageStatus(certifiedNotHighestNodes.right().value()));
+        }
+        List<GraphVertex> snapshot = new ArrayList<>();
+        if (highestNodes.isLeft()) {
+            snapshot.addAll(highestNodes.left().value());
+        }
+        if (certifiedNotHighestNodes.isLeft()) {
+            snapshot.addAll(certifiedNotHighestNodes.left().value());
+        }
+        snapshot.sort(Comparator.comparing(GraphVertex::getUniqueId));
+        List<CatalogComponent> result = new ArrayList<>();
+        for (GraphVertex vertex : snapshot) {
+            if ((afterUniqueId != null && vertex.getUniqueId().compareTo(afterUniqueId) <= 0) || (updatedSince > 0
+                && getLastUpdateDate(vertex) < updatedSince)) {
+                continue;
+            }
+            CatalogComponent catalogComponent = toCatalogComponent(vertex.getVertex());
+            if (catalogComponent != null) {
+                result.add(catalogComponent);
+                if (result.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return Either.left(result);
+    }
+
+    private static long getLastUpdateDate(GraphVertex vertex) {
+        Object lastUpdateDate = vertex.getJsonMetadataField(JsonPresentationFields.LAST_UPDATE_DATE);
+        return lastUpdateDate instanceof Number ? ((Number) lastUpdateDate).longValue() : 0L;
+    }
+
     public Either<List<CatalogComponent>, StorageOperationStatus> getElementCatalogData(boolean isCatalog, List<ResourceTypeEnum> excludeTypes) {
+        if (catalogComponentIndex == null) {
+            return fetchElementCatalogData(isCatalog).left()
+                .map(components -> components.stream().filter(component -> isAddToCatalog(excludeTypes, component)).collect(Collectors.toList()));
+        }
+        StorageOperationStatus refreshStatus = refreshCatalogComponentIndex(isCatalog);
+        if (refreshStatus != StorageOperationStatus.OK) {
+            return Either.right(refreshStatus);
+        }
+        return Either.left(catalogComponentIndex.getComponents(isCatalog, excludeTypes));
+    }
+
+    /**
+     * Returns a tag identifying the current content of the catalog (or archive) for the given excluded types. The tag changes whenever an element
+     * is added, removed or updated
+     */
+    public Either<String, StorageOperationStatus> getElementCatalogETag(boolean isCatalog, List<ResourceTypeEnum> excludeTypes) {
+        if (catalogComponentIndex == null) {
+            return Either.right(StorageOperationStatus.OPERATION_NOT_SUPPORTED);
+        }
+        StorageOperationStatus refreshStatus = refreshCatalogComponentIndex(isCatalog);
+        if (refreshStatus != StorageOperationStatus.OK) {
+            return Either.right(refreshStatus);
+        }
+        return Either.left(catalogComponentIndex.getETag(isCatalog, excludeTypes));
+    }
+
+    private StorageOperationStatus refreshCatalogComponentIndex(boolean isCatalog) {
+        synchronized (catalogComponentIndex) {
+            if (!catalogComponentIndex.isLoaded(isCatalog)) {
+                Either<List<CatalogComponent>, StorageOperationStatus> fetchResult = fetchElementCatalogData(isCatalog);
+                if (fetchResult.isRight()) {
+                    return fetchResult.right().value();
+                }
+                catalogComponentIndex.load(isCatalog, fetchResult.left().value());
+            }
+            StorageOperationStatus result = StorageOperationStatus.OK;
+            for (String uniqueId : catalogComponentIndex.pollChanged()) {
+                StorageOperationStatus status = refreshCatalogComponent(uniqueId);
+                if (status != StorageOperationStatus.OK) {
+                    // keeps the element to be refreshed on the next fetch
+                    catalogComponentIndex.markChanged(uniqueId);
+                    result = status;
+                }
+            }
+            return result;
+        }
+    }
+
+    private StorageOperationStatus refreshCatalogComponent(String uniqueId) {
+        Either<GraphVertex, JanusGraphOperationStatus> vertexEither = janusGraphDao.getVertexById(uniqueId, JsonParseFlagEnum.NoParse);
+        if (vertexEither.isRight()) {
+            if (vertexEither.right().value() != JanusGraphOperationStatus.NOT_FOUND) {
+                log.debug("Failed to fetch catalog element {}. Status is {}", uniqueId, vertexEither.right().value());
+                return DaoStatusConverter.convertJanusGraphStatusToStorageStatus(vertexEither.right().value());
+            }
+            catalogComponentIndex.update(uniqueId, null, true);
+            return StorageOperationStatus.OK;
+        }
+        Vertex vertex = vertexEither.left().value().getVertex();
+        boolean isCatalog = vertex.edges(Direction.IN, EdgeLabelEnum.CATALOG_ELEMENT.name()).hasNext();
+        boolean isArchive = !isCatalog && vertex.edges(Direction.IN, EdgeLabelEnum.ARCHIVE_ELEMENT.name()).hasNext();
+        CatalogComponent catalogComponent = isCatalog || isArchive ? toCatalogComponent(vertex) : null;
+        catalogComponentIndex.update(uniqueId, catalogComponent, isCatalog);
+        return StorageOperationStatus.OK;
+    }
+
+    private Either<List<CatalogComponent>, StorageOperationStatus> fetchElementCatalogData(boolean isCatalog) {
         StopWatch stopWatch = new StopWatch();
         stopWatch.start();
         Map<String, CatalogComponent> existInCatalog = new HashMap<>();
@@ -1319,65 +1445,72 @@ public abstract class ToscaElementOperation extends BaseOperation {
         }
         Iterator<Vertex> vertices = verticesEither.left().value();
         while (vertices.hasNext()) {
-            handleCatalogComponent(existInCatalog, vertices.next(), excludeTypes);
+            CatalogComponent catalogComponent = toCatalogComponent(vertices.next());
+            if (catalogComponent != null) {
+                existInCatalog.putIfAbsent(catalogComponent.getUniqueId(), catalogComponent);
+            }
         }
         stopWatch.stop();
         String timeToFetchElements = stopWatch.prettyPrint();
         log.info("time to fetch all catalog elements: {}", timeToFetchElements);
-        return Either.left(existInCatalog.values().stream().collect(Collectors.toList()));
+        return Either.left(new ArrayList<>(existInCatalog.values()));
     }
 
-    private void handleCatalogComponent(Map<String, CatalogComponent> existInCatalog, Vertex vertex, List<ResourceTypeEnum> excludeTypes) {
+    /**
+     * @return the catalog entry of the element, null if the element is marked as deleted
+     */
+    private CatalogComponent toCatalogComponent(Vertex vertex) {
         VertexProperty<Object> property = vertex.property(GraphPropertiesDictionary.METADATA.getProperty());
         String json = (String) property.value();
         Map<String, Object> metadatObj = JsonParserUtils.toMap(json);
         String uniqueId = (String) metadatObj.get(JsonPresentationFields.UNIQUE_ID.getPresentation());
         Boolean isDeleted = (Boolean) metadatObj.get(JsonPresentationFields.IS_DELETED.getPresentation());
-        if (isAddToCatalog(excludeTypes, metadatObj) && (existInCatalog.get(uniqueId) == null && (isDeleted == null || !isDeleted.booleanValue()))) {
-            CatalogComponent catalogComponent = new CatalogComponent();
-            catalogComponent.setUniqueId(uniqueId);
-            catalogComponent.setModel((String) metadatObj.get(JsonPresentationFields.MODEL.getPresentation()));
+        if (isDeleted != null && isDeleted.booleanValue()) {
+            return null;
+        }
+        CatalogComponent catalogComponent = new CatalogComponent();
+        catalogComponent.setUniqueId(uniqueId);
+        catalogComponent.setModel((String) metadatObj.get(JsonPresentationFields.MODEL.getPresentation()));
+        catalogComponent
+            .setComponentType(ComponentTypeEnum.valueOf((String) metadatObj.get(JsonPresentationFields.COMPONENT_TYPE.getPresentation())));
+        catalogComponent.setVersion((String) metadatObj.get(JsonPresentationFields.VERSION.getPresentation()));
+        catalogComponent.setName((String) metadatObj.get(JsonPresentationFields.NAME.getPresentation()));
+        catalogComponent.setIcon((String) metadatObj.get(JsonPresentationFields.ICON.getPresentation()));
+        catalogComponent.setLifecycleState((String) metadatObj.get(JsonPresentationFields.LIFECYCLE_STATE.getPresentation()));
+        Object lastUpdateDate = metadatObj.get(JsonPresentationFields.LAST_UPDATE_DATE.getPresentation());
+        catalogComponent.setLastUpdateDate((lastUpdateDate != null ? (Long) lastUpdateDate : 0L));
+        catalogComponent.setDistributionStatus((String) metadatObj.get(JsonPresentationFields.DISTRIBUTION_STATUS.getPresentation()));
+        catalogComponent.setDescription((String) metadatObj.get(JsonPresentationFields.DESCRIPTION.getPresentation()));
+        catalogComponent.setSystemName((String) metadatObj.get(JsonPresentationFields.SYSTEM_NAME.getPresentation()));
+        catalogComponent.setUuid((String) metadatObj.get(JsonPresentationFields.UUID.getPresentation()));
+        catalogComponent.setInvariantUUID((String) metadatObj.get(JsonPresentationFields.INVARIANT_UUID.getPresentation()));
+        catalogComponent.setIsHighestVersion((Boolean) metadatObj.get(JsonPresentationFields.HIGHEST_VERSION.getPresentation()));
+        Iterator<Edge> edges = vertex.edges(Direction.IN, EdgeLabelEnum.STATE.name());
+        if (edges.hasNext()) {
             catalogComponent
-                .setComponentType(ComponentTypeEnum.valueOf((String) metadatObj.get(JsonPresentationFields.COMPONENT_TYPE.getPresentation())));
-            catalogComponent.setVersion((String) metadatObj.get(JsonPresentationFields.VERSION.getPresentation()));
-            catalogComponent.setName((String) metadatObj.get(JsonPresentationFields.NAME.getPresentation()));
-            catalogComponent.setIcon((String) metadatObj.get(JsonPresentationFields.ICON.getPresentation()));
-            catalogComponent.setLifecycleState((String) metadatObj.get(JsonPresentationFields.LIFECYCLE_STATE.getPresentation()));
-            Object lastUpdateDate = metadatObj.get(JsonPresentationFields.LAST_UPDATE_DATE.getPresentation());
-            catalogComponent.setLastUpdateDate((lastUpdateDate != null ? (Long) lastUpdateDate : 0L));
-            catalogComponent.setDistributionStatus((String) metadatObj.get(JsonPresentationFields.DISTRIBUTION_STATUS.getPresentation()));
-            catalogComponent.setDescription((String) metadatObj.get(JsonPresentationFields.DESCRIPTION.getPresentation()));
-            catalogComponent.setSystemName((String) metadatObj.get(JsonPresentationFields.SYSTEM_NAME.getPresentation()));
-            catalogComponent.setUuid((String) metadatObj.get(JsonPresentationFields.UUID.getPresentation()));
-            catalogComponent.setInvariantUUID((String) metadatObj.get(JsonPresentationFields.INVARIANT_UUID.getPresentation()));
-            catalogComponent.setIsHighestVersion((Boolean) metadatObj.get(JsonPresentationFields.HIGHEST_VERSION.getPresentation()));
-            Iterator<Edge> edges = vertex.edges(Direction.IN, EdgeLabelEnum.STATE.name());
-            if (edges.hasNext()) {
-                catalogComponent
-                    .setLastUpdaterUserId((String) edges.next().outVertex().property(GraphPropertiesDictionary.USERID.getProperty()).value());
-            }
-            Object resourceType = metadatObj.get(JsonPresentationFields.RESOURCE_TYPE.getPresentation());
-            if (resourceType != null) {
-                catalogComponent.setResourceType((String) resourceType);
-            }
-            if (catalogComponent.getComponentType() == ComponentTypeEnum.SERVICE) {
-                setServiceCategoryFromGraphV(vertex, catalogComponent);
-            } else {
-                setResourceCategoryFromGraphV(vertex, catalogComponent);
-            }
-            List<String> tags = (List<String>) metadatObj.get(JsonPresentationFields.TAGS.getPresentation());
-            if (tags != null) {
-                catalogComponent.setTags(tags);
-            }
-            existInCatalog.put(uniqueId, catalogComponent);
+                .setLastUpdaterUserId((String) edges.next().outVertex().property(GraphPropertiesDictionary.USERID.getProperty()).value());
+        }
+        Object resourceType = metadatObj.get(JsonPresentationFields.RESOURCE_TYPE.getPresentation());
+        if (resourceType != null) {
+            catalogComponent.setResourceType((String) resourceType);
+        }
+        if (catalogComponent.getComponentType() == ComponentTypeEnum.SERVICE) {
+            setServiceCategoryFromGraphV(vertex, catalogComponent);
+        } else {
+            setResourceCategoryFromGraphV(vertex, catalogComponent);
         }
+        List<String> tags = (List<String>) metadatObj.get(JsonPresentationFields.TAGS.getPresentation());
+        if (tags != null) {
+            catalogComponent.setTags(tags);
+        }
+        return catalogComponent;
     }
 
-    private boolean isAddToCatalog(List<ResourceTypeEnum> excludeTypes, Map<String, Object> metadatObj) {
+    private boolean isAddToCatalog(List<ResourceTypeEnum> excludeTypes, CatalogComponent catalogComponent) {
         boolean isAddToCatalog = true;
-        Object resourceTypeStr = metadatObj.get(JsonPresentationFields.RESOURCE_TYPE.getPresentation());
+        String resourceTypeStr = catalogComponent.getResourceType();
         if (resourceTypeStr != null) {
-            ResourceTypeEnum resourceType = ResourceTypeEnum.getType((String) resourceTypeStr);
+            ResourceTypeEnum resourceType = ResourceTypeEnum.getType(resourceTypeStr);
             if (!CollectionUtils.isEmpty(excludeTypes)) {
                 Optional<ResourceTypeEnum> op = excludeTypes.stream().filter(rt -> rt == resourceType).findAny();
                 if (op.isPresent()) {
@@ -1391,38 +1524,57 @@ public abstract class ToscaElementOperation extends BaseOperation {
     public Either<List<GraphVertex>, JanusGraphOperationStatus> getListOfHighestComponents(ComponentTypeEnum componentType,
                                                                                            List<ResourceTypeEnum> excludeTypes,
                                                                                            JsonParseFlagEnum parseFlag) {
+        return janusGraphDao.getByCriteria(null, getHighestPropertiesToMatch(componentType), getHighestPropertiesHasNotToMatch(componentType,
+            excludeTypes), parseFlag);
+    }
+
+    private static Map<GraphPropertyEnum, Object> getHighestPropertiesToMatch(ComponentTypeEnum componentType) {
         Map<GraphPropertyEnum, Object> propertiesToMatch = new EnumMap<>(GraphPropertyEnum.class);
-        Map<GraphPropertyEnum, Object> propertiesHasNotToMatch = new EnumMap<>(GraphPropertyEnum.class);
         propertiesToMatch.put(GraphPropertyEnum.COMPONENT_TYPE, componentType.name());
         propertiesToMatch.put(GraphPropertyEnum.IS_HIGHEST_VERSION, true);
         if (componentType == ComponentTypeEnum.RESOURCE) {
             propertiesToMatch.put(GraphPropertyEnum.IS_ABSTRACT, false);
+        }
+        return propertiesToMatch;
+    }
+
+    private static Map<GraphPropertyEnum, Object> getHighestPropertiesHasNotToMatch(ComponentTypeEnum componentType,
+                                                                                    List<ResourceTypeEnum> excludeTypes) {
+        Map<GraphPropertyEnum, Object> propertiesHasNotToMatch = new EnumMap<>(GraphPropertyEnum.class);
+        if (componentType == ComponentTypeEnum.RESOURCE) {
             propertiesHasNotToMatch.put(GraphPropertyEnum.RESOURCE_TYPE, excludeTypes);
         }
         propertiesHasNotToMatch.put(GraphPropertyEnum.IS_DELETED, true);
         propertiesHasNotToMatch.put(GraphPropertyEnum.IS_ARCHIVED, true); //US382674, US382683
-        return janusGraphDao.getByCriteria(null, propertiesToMatch, propertiesHasNotToMatch, parseFlag);
+        return propertiesHasNotToMatch;
     }
 
-    // highest + (certified && !highest)
-    public Either<List<GraphVertex>, JanusGraphOperationStatus> getListOfHighestAndAllCertifiedComponents(ComponentTypeEnum componentType,
-                                                                                                          List<ResourceTypeEnum> excludeTypes) {
-        long startFetchAllStates = System.currentTimeMillis();
-        Either<List<GraphVertex>, JanusGraphOperationStatus> highestNodes = getListOfHighestComponents(componentType, excludeTypes,
-            JsonParseFlagEnum.ParseMetadata);
+    private static Map<GraphPropertyEnum, Object> getCertifiedPropertiesToMatch(ComponentTypeEnum componentType) {
         Map<GraphPropertyEnum, Object> propertiesToMatchCertified = new EnumMap<>(GraphPropertyEnum.class);
-        Map<GraphPropertyEnum, Object> propertiesHasNotToMatchCertified = new EnumMap<>(GraphPropertyEnum.class);
         propertiesToMatchCertified.put(GraphPropertyEnum.STATE, LifecycleStateEnum.CERTIFIED.name());
         propertiesToMatchCertified.put(GraphPropertyEnum.COMPONENT_TYPE, componentType.name());
         if (componentType == ComponentTypeEnum.RESOURCE) {
             propertiesToMatchCertified.put(GraphPropertyEnum.IS_ABSTRACT, false);
-            propertiesHasNotToMatchCertified.put(GraphPropertyEnum.RESOURCE_TYPE, excludeTypes);
         }
-        propertiesHasNotToMatchCertified.put(GraphPropertyEnum.IS_DELETED, true);
-        propertiesHasNotToMatchCertified.put(GraphPropertyEnum.IS_ARCHIVED, true);  //US382674, US382683
+        return propertiesToMatchCertified;
+    }
+
+    private static Map<GraphPropertyEnum, Object> getCertifiedNotHighestPropertiesHasNotToMatch(ComponentTypeEnum componentType,
+                                                                                                List<ResourceTypeEnum> excludeTypes) {
+        Map<GraphPropertyEnum, Object> propertiesHasNotToMatchCertified = getHighestPropertiesHasNotToMatch(componentType, excludeTypes);
         propertiesHasNotToMatchCertified.put(GraphPropertyEnum.IS_HIGHEST_VERSION, true);
+        return propertiesHasNotToMatchCertified;
+    }
+
+    // highest + (certified && !highest)
+    public Either<List<GraphVertex>, JanusGraphOperationStatus> getListOfHighestAndAllCertifiedComponents(ComponentTypeEnum componentType,
+                                                                                                          List<ResourceTypeEnum> excludeTypes) {
+        long startFetchAllStates = System.currentTimeMillis();
+        Either<List<GraphVertex>, JanusGraphOperationStatus> highestNodes = getListOfHighestComponents(componentType, excludeTypes,
+            JsonParseFlagEnum.ParseMetadata);
         Either<List<GraphVertex>, JanusGraphOperationStatus> certifiedNotHighestNodes = janusGraphDao
-            .getByCriteria(null, propertiesToMatchCertified, propertiesHasNotToMatchCertified, JsonParseFlagEnum.ParseMetadata);
+            .getByCriteria(null, getCertifiedPropertiesToMatch(componentType), getCertifiedNotHighestPropertiesHasNotToMatch(componentType,
+                excludeTypes), JsonParseFlagEnum.ParseMetadata);
         if (certifiedNotHighestNodes.isRight() && certifiedNotHighestNodes.right().value() != JanusGraphOperationStatus.NOT_FOUND) {
             return Either.right(certifiedNotHighestNodes.right().value());
         }
@@ -44,6 +44,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiPredicate;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 import org.apache.commons.collections.CollectionUtils;
@@ -61,6 +62,7 @@ import org.openecomp.sdc.be.dao.janusgraph.HealingJanusGraphDao;
 import org.openecomp.sdc.be.dao.jsongraph.types.EdgeLabelEnum;
 import org.openecomp.sdc.be.dao.jsongraph.types.JsonParseFlagEnum;
 import org.openecomp.sdc.be.dao.jsongraph.types.VertexTypeEnum;
+import org.openecomp.sdc.be.datatypes.components.ComponentMetadataDataDefinition;
 import org.openecomp.sdc.be.datatypes.elements.ArtifactDataDefinition;
 import org.openecomp.sdc.be.datatypes.elements.AttributeDataDefinition;
 import org.openecomp.sdc.be.datatypes.elements.CapabilityDataDefinition;
@@ -924,10 +926,17 @@ public class ToscaOperationFacade {
 
     public Either<List<CatalogComponent>, StorageOperationStatus> getCatalogOrArchiveComponents(boolean isCatalog,
                                                                                                 List<OriginTypeEnum> excludeTypes) {
-        List<ResourceTypeEnum> excludedResourceTypes = Optional.ofNullable(excludeTypes).orElse(Collections.emptyList()).stream()
+        return topologyTemplateOperation.getElementCatalogData(isCatalog, toExcludedResourceTypes(excludeTypes));
+    }
+
+    public Either<String, StorageOperationStatus> getCatalogOrArchiveETag(boolean isCatalog, List<OriginTypeEnum> excludeTypes) {
+        return topologyTemplateOperation.getElementCatalogETag(isCatalog, toExcludedResourceTypes(excludeTypes));
+    }
+
+    private List<ResourceTypeEnum> toExcludedResourceTypes(List<OriginTypeEnum> excludeTypes) {
+        return Optional.ofNullable(excludeTypes).orElse(Collections.emptyList()).stream()
             .filter(type -> !type.equals(OriginTypeEnum.SERVICE)).map(type -> ResourceTypeEnum.getTypeByName(type.name()))
             .collect(Collectors.toList());
-        return topologyTemplateOperation.getElementCatalogData(isCatalog, excludedResourceTypes);
     }
 
     // endregion
@@ -969,6 +978,26 @@ public class ToscaOperationFacade {
         return Either.left(components);
     }
 
+    /**
+     * Returns a page of the catalog entries of the highest and certified components of the given type, ordered by unique id
+     *
+     * @param afterUniqueId unique id of the last component of the previous page, null for the first page
+     * @param updatedSince  only the components updated at or after this time (in ms) are returned, 0 for all
+     * @param limit         maximum number of components returned, 0 for no limit
+     */
+    public Either<List<CatalogComponent>, StorageOperationStatus> getCatalogComponentsPage(ComponentTypeEnum componentType, String afterUniqueId,
+                                                                                         long updatedSince, int limit) {
+        switch (componentType) {
+            case RESOURCE:
+                return nodeTypeOperation.getElementCatalogDataPage(ComponentTypeEnum.RESOURCE, afterUniqueId, updatedSince, limit);
+            case SERVICE:
+                return topologyTemplateOperation.getElementCatalogDataPage(ComponentTypeEnum.SERVICE, afterUniqueId, updatedSince, limit);
+            default:
+                log.debug(NOT_SUPPORTED_COMPONENT_TYPE, componentType);
+                return Either.right(StorageOperationStatus.BAD_REQUEST);
+        }
+    }
+
     public Either<List<String>, StorageOperationStatus> deleteMarkedElements(ComponentTypeEnum componentType) {
         Either<List<GraphVertex>, StorageOperationStatus> allComponentsMarkedForDeletion;
         switch (componentType) {
@@ -2489,13 +2518,7 @@ public class ToscaOperationFacade {
     }
 
     public Either<List<Component>, StorageOperationStatus> fetchMetaDataByResourceType(String resourceType, ComponentParametersView filterBy) {
-        Map<GraphPropertyEnum, Object> props = new EnumMap<>(GraphPropertyEnum.class);
-        props.put(GraphPropertyEnum.RESOURCE_TYPE, resourceType);
-        props.put(GraphPropertyEnum.IS_HIGHEST_VERSION, true);
-        Map<GraphPropertyEnum, Object> propsHasNotToMatch = new EnumMap<>(GraphPropertyEnum.class);
-        propsHasNotToMatch.put(GraphPropertyEnum.IS_DELETED, true);
-        Either<List<GraphVertex>, JanusGraphOperationStatus> resourcesByTypeEither = janusGraphDao
-            .getByCriteria(null, props, propsHasNotToMatch, JsonParseFlagEnum.ParseMetadata);
+        Either<List<GraphVertex>, JanusGraphOperationStatus> resourcesByTypeEither = getHighestVerticesByResourceType(resourceType);
         if (resourcesByTypeEither.isRight()) {
             return Either.right(DaoStatusConverter.convertJanusGraphStatusToStorageStatus(resourcesByTypeEither.right().value()));
         }
@@ -2507,6 +2530,38 @@ public class ToscaOperationFacade {
         return Either.left(components);
     }
 
+    /**
+     * Returns the highest components of the resource type that the selector keeps. The selector is given the metadata of all the matching
+     * components, and only the components it returns are read.
+     */
+    public Either<List<Component>, StorageOperationStatus> fetchMetaDataByResourceType(String resourceType, ComponentParametersView filterBy,
+                                                                                       UnaryOperator<List<ComponentMetadataDataDefinition>> selector) {
+        Either<List<GraphVertex>, JanusGraphOperationStatus> resourcesByTypeEither = getHighestVerticesByResourceType(resourceType);
+        if (resourcesByTypeEither.isRight()) {
+            return Either.right(DaoStatusConverter.convertJanusGraphStatusToStorageStatus(resourcesByTypeEither.right().value()));
+        }
+        Map<String, GraphVertex> verticesById = new HashMap<>();
+        List<ComponentMetadataDataDefinition> metadataList = new ArrayList<>();
+        for (GraphVertex vertex : resourcesByTypeEither.left().value()) {
+            verticesById.put(vertex.getUniqueId(), vertex);
+            metadataList.add(ModelConverter.convertToComponentMetadataDataDefinition(vertex));
+        }
+        List<Component> components = new ArrayList<>();
+        for (ComponentMetadataDataDefinition metadata : selector.apply(metadataList)) {
+            components.add(getToscaElementByOperation(verticesById.get(metadata.getUniqueId()), filterBy).left().value());
+        }
+        return Either.left(components);
+    }
+
+    private Either<List<GraphVertex>, JanusGraphOperationStatus> getHighestVerticesByResourceType(String resourceType) {
+        Map<GraphPropertyEnum, Object> props = new EnumMap<>(GraphPropertyEnum.class);
+        props.put(GraphPropertyEnum.RESOURCE_TYPE, resourceType);
+        props.put(GraphPropertyEnum.IS_HIGHEST_VERSION, true);
+        Map<GraphPropertyEnum, Object> propsHasNotToMatch = new EnumMap<>(GraphPropertyEnum.class);
+        propsHasNotToMatch.put(GraphPropertyEnum.IS_DELETED, true);
+        return janusGraphDao.getByCriteria(null, props, propsHasNotToMatch, JsonParseFlagEnum.ParseMetadata);
+    }
+
     public void commit() {
         janusGraphDao.commit();
     }
@@ -2538,6 +2593,7 @@ public class ToscaOperationFacade {
             long lastUpdateDate = System.currentTimeMillis();
             serviceVertex.setJsonMetadataField(JsonPresentationFields.LAST_UPDATE_DATE, lastUpdateDate);
             component.setLastUpdateDate(lastUpdateDate);
+            topologyTemplateOperation.markCatalogChanged(component.getUniqueId());
             updateRes = janusGraphDao.updateVertex(serviceVertex);
             if (updateRes.isRight()) {
                 result = Either.right(DaoStatusConverter.convertJanusGraphStatusToStorageStatus(updateRes.right().value()));
@@ -19,69 +19,89 @@
  */
 package org.openecomp.sdc.be.model.operations.impl;
 
+import fj.data.Either;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+import org.openecomp.sdc.be.config.Configuration;
+import org.openecomp.sdc.be.config.Configuration.ComponentLockConfig;
+import org.openecomp.sdc.be.config.ConfigurationManager;
+import org.openecomp.sdc.be.dao.cassandra.ComponentLockCassandraDao;
 import org.openecomp.sdc.be.dao.janusgraph.JanusGraphGenericDao;
-import org.openecomp.sdc.be.dao.janusgraph.JanusGraphOperationStatus;
 import org.openecomp.sdc.be.datatypes.enums.NodeTypeEnum;
 import org.openecomp.sdc.be.model.operations.api.IGraphLockOperation;
 import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
+import org.openecomp.sdc.be.model.operations.impl.lock.CassandraComponentLockBackend;
+import org.openecomp.sdc.be.model.operations.impl.lock.ComponentLockBackend;
+import org.openecomp.sdc.be.model.operations.impl.lock.GraphComponentLockBackend;
+import org.openecomp.sdc.be.model.operations.impl.lock.LocalComponentLockBackend;
+import org.openecomp.sdc.common.log.enums.EcompLoggerErrorCode;
 import org.openecomp.sdc.common.log.wrappers.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import lombok.NoArgsConstructor;
-
+/**
+ * Locks components through the backend set by the componentLock configuration, the lock vertices of the graph by default. Leases of the locks
+ * held by this instance are renewed in the background until janusGraphLockTimeout, after which they expire unless released. A lock held by
+ * another user is retried until the configured maximum wait.
+ */
 @Component("graph-lock-operation")
 @NoArgsConstructor
 public class GraphLockOperation implements IGraphLockOperation {
 
     private static final Logger log = Logger.getLogger(GraphLockOperation.class.getName());
+    private static final long DEFAULT_MAX_HOLD_SECONDS = 1800;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final AtomicLong ownerSequence = new AtomicLong();
+    private final Map<String, HeldLock> heldLocks = new ConcurrentHashMap<>();
+    private final AtomicLong acquiredCount = new AtomicLong();
+    private final AtomicLong contendedCount = new AtomicLong();
+    private final AtomicLong timedOutCount = new AtomicLong();
+    private final AtomicLong totalWaitMillis = new AtomicLong();
+    private final AtomicLong maxWaitMillis = new AtomicLong();
+    private final AtomicLong lostLeaseCount = new AtomicLong();
     private boolean disable = false;
     @javax.annotation.Resource
     private JanusGraphGenericDao janusGraphGenericDao;
+    @Autowired(required = false)
+    private ComponentLockCassandraDao componentLockCassandraDao;
+    private ComponentLockConfig config;
+    private ComponentLockBackend backend;
+    private ScheduledExecutorService renewalScheduler;
+
+    GraphLockOperation(ComponentLockBackend backend, ComponentLockConfig config) {
+        this.backend = backend;
+        this.config = config;
+    }
 
-    /*
-     * (non-Javadoc)
-     *
-     * @see org.openecomp.sdc.be.model.operations.impl.IGraphLockOperation# lockResource(java.lang.String, org.openecomp.sdc.be.model.operations.api.IResourceOperation)
-     */
     @Override
     public StorageOperationStatus lockComponent(String componentId, NodeTypeEnum nodeType) {
         log.info("lock resource with id {}", componentId);
-        JanusGraphOperationStatus lockElementStatus = null;
-        try {
-            lockElementStatus = disable ? JanusGraphOperationStatus.OK : janusGraphGenericDao.lockElement(componentId, nodeType);
-        } catch (Exception e) {
-            lockElementStatus = JanusGraphOperationStatus.ALREADY_LOCKED;
-        }
-        return DaoStatusConverter.convertJanusGraphStatusToStorageStatus(lockElementStatus);
+        return disable ? StorageOperationStatus.OK : lock(componentId, nodeType);
     }
 
-    /*
-     * (non-Javadoc)
-     *
-     * @see org.openecomp.sdc.be.model.operations.impl.IGraphLockOperation# unlockResource(java.lang.String, org.openecomp.sdc.be.model.operations.api.IResourceOperation)
-     */
     @Override
     public StorageOperationStatus unlockComponent(String componentId, NodeTypeEnum nodeType) {
-        JanusGraphOperationStatus lockElementStatus = disable ? JanusGraphOperationStatus.OK : janusGraphGenericDao.releaseElement(componentId, nodeType);
-        return DaoStatusConverter.convertJanusGraphStatusToStorageStatus(lockElementStatus);
+        return disable ? StorageOperationStatus.OK : unlock(componentId, nodeType);
     }
 
     @Override
     public StorageOperationStatus unlockComponentByName(String name, String componentId, NodeTypeEnum nodeType) {
-        JanusGraphOperationStatus lockElementStatus = disable ? JanusGraphOperationStatus.OK : janusGraphGenericDao.releaseElement(name, nodeType);
-        return DaoStatusConverter.convertJanusGraphStatusToStorageStatus(lockElementStatus);
+        return disable ? StorageOperationStatus.OK : unlock(name, nodeType);
     }
 
     @Override
     public StorageOperationStatus lockComponentByName(String name, NodeTypeEnum nodeType) {
         log.info("lock resource with name {}", name);
-        JanusGraphOperationStatus lockElementStatus = null;
-        try {
-            lockElementStatus = disable ? JanusGraphOperationStatus.OK : janusGraphGenericDao.lockElement(name, nodeType);
-        } catch (Exception e) {
-            lockElementStatus = JanusGraphOperationStatus.ALREADY_LOCKED;
-        }
-        return DaoStatusConverter.convertJanusGraphStatusToStorageStatus(lockElementStatus);
+        return disable ? StorageOperationStatus.OK : lock(name, nodeType);
     }
 
     @Override
@@ -90,4 +110,209 @@ public class GraphLockOperation implements IGraphLockOperation {
         this.disable = disable;
         return this.disable;
     }
+
+    /**
+     * Fails the startup when the configured lock backend can't be used, rather than locking through another one than the other BE instances.
+     */
+    @PostConstruct
+    protected void init() {
+        getBackend();
+    }
+
+    @PreDestroy
+    protected synchronized void destroy() {
+        if (renewalScheduler != null) {
+            renewalScheduler.shutdownNow();
+        }
+    }
+
+    public long getAcquiredCount() {
+        return acquiredCount.get();
+    }
+
+    /**
+     * @return the number of lock requests that found the lock held by another user
+     */
+    public long getContendedCount() {
+        return contendedCount.get();
+    }
+
+    /**
+     * @return the number of lock requests that failed after waiting for the lock
+     */
+    public long getTimedOutCount() {
+        return timedOutCount.get();
+    }
+
+    public long getTotalWaitMillis() {
+        return totalWaitMillis.get();
+    }
+
+    public long getMaxWaitMillis() {
+        return maxWaitMillis.get();
+    }
+
+    /**
+     * @return the number of leases taken by other users before being renewed
+     */
+    public long getLostLeaseCount() {
+        return lostLeaseCount.get();
+    }
+
+    public int getHeldLockCount() {
+        return heldLocks.size();
+    }
+
+    private StorageOperationStatus lock(String id, NodeTypeEnum nodeType) {
+        ComponentLockBackend lockBackend = getBackend();
+        ComponentLockConfig lockConfig = getConfig();
+        long leaseMillis = TimeUnit.SECONDS.toMillis(lockConfig.getLeaseSeconds());
+        String owner = instanceId + "_" + ownerSequence.incrementAndGet();
+        long start = System.currentTimeMillis();
+        long deadline = start + lockConfig.getMaxWaitMillis();
+        boolean contended = false;
+        while (true) {
+            Either<Long, StorageOperationStatus> result = lockBackend.tryAcquire(id, nodeType, owner, leaseMillis);
+            long now = System.currentTimeMillis();
+            if (result.isLeft()) {
+                recordWait(now - start);
+                acquiredCount.incrementAndGet();
+                if (lockBackend.hasLeases()) {
+                    heldLocks.put(ComponentLockBackend.getLockId(id, nodeType),
+                        new HeldLock(id, nodeType, owner, result.left().value(), start + TimeUnit.SECONDS.toMillis(getMaxHoldSeconds())));
+                    startRenewal(leaseMillis);
+                }
+                return StorageOperationStatus.OK;
+            }
+            if (result.right().value() != StorageOperationStatus.FAILED_TO_LOCK_ELEMENT) {
+                log.debug("Failed to lock {} error = {}", id, result.right().value());
+                return result.right().value();
+            }
+            if (!contended) {
+                contended = true;
+                contendedCount.incrementAndGet();
+            }
+            if (now >= deadline) {
+                if (lockConfig.getMaxWaitMillis() > 0) {
+                    timedOutCount.incrementAndGet();
+                    recordWait(now - start);
+                }
+                log.debug("{} is locked by another user", id);
+                return StorageOperationStatus.FAILED_TO_LOCK_ELEMENT;
+            }
+            try {
+                Thread.sleep(Math.min(Math.max(lockConfig.getRetryIntervalMillis(), 1), deadline - now));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return StorageOperationStatus.FAILED_TO_LOCK_ELEMENT;
+            }
+        }
+    }
+
+    private StorageOperationStatus unlock(String id, NodeTypeEnum nodeType) {
+        ComponentLockBackend lockBackend = getBackend();
+        if (!lockBackend.hasLeases()) {
+            return lockBackend.release(id, nodeType, null);
+        }
+        HeldLock heldLock = heldLocks.remove(ComponentLockBackend.getLockId(id, nodeType));
+        if (heldLock == null) {
+            // not locked by this instance, the lease of another user is left to its owner or to expire
+            log.debug("{} is not locked by this instance", id);
+            return StorageOperationStatus.NOT_FOUND;
+        }
+        return lockBackend.release(id, nodeType, heldLock.token);
+    }
+
+    private void recordWait(long waitMillis) {
+        totalWaitMillis.addAndGet(waitMillis);
+        maxWaitMillis.accumulateAndGet(waitMillis, Math::max);
+    }
+
+    private synchronized void startRenewal(long leaseMillis) {
+        if (renewalScheduler != null) {
+            return;
+        }
+        long renewalIntervalMillis = Math.max(leaseMillis / 3, 1);
+        renewalScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Component-Lock-Renewal-Task");
+            thread.setDaemon(true);
+            return thread;
+        });
+        renewalScheduler.scheduleWithFixedDelay(() -> renewLeases(leaseMillis), renewalIntervalMillis, renewalIntervalMillis,
+            TimeUnit.MILLISECONDS);
+    }
+
+    void renewLeases(long leaseMillis) {
+        long now = System.currentTimeMillis();
+        heldLocks.forEach((lockId, heldLock) -> {
+            if (now >= heldLock.renewUntil) {
+                // held for longer than janusGraphLockTimeout, most probably never to be released, let it expire
+                return;
+            }
+            try {
+                StorageOperationStatus status = getBackend().renew(heldLock.id, heldLock.nodeType, heldLock.owner, heldLock.token, leaseMillis);
+                if (status == StorageOperationStatus.FAILED_TO_LOCK_ELEMENT && heldLocks.remove(lockId, heldLock)) {
+                    lostLeaseCount.incrementAndGet();
+                    log.warn("The lock of {} was taken by another user before its lease was renewed", heldLock.id);
+                } else if (status != StorageOperationStatus.OK) {
+                    log.debug("Failed to renew the lock of {} error = {}", heldLock.id, status);
+                }
+            } catch (RuntimeException e) {
+                log.debug("Failed to renew the lock of {}", heldLock.id, e);
+            }
+        });
+    }
+
+    private synchronized ComponentLockBackend getBackend() {
+        if (backend == null) {
+            String backendName = getConfig().getBackend();
+            if ("CASSANDRA".equalsIgnoreCase(backendName)) {
+                if (componentLockCassandraDao == null) {
+                    log.error(EcompLoggerErrorCode.SCHEMA_ERROR, GraphLockOperation.class.getName(),
+                        "The CASSANDRA component lock backend is configured but no cassandra lock dao is available");
+                    throw new IllegalStateException("The CASSANDRA component lock backend is configured but no cassandra lock dao is available");
+                }
+                backend = new CassandraComponentLockBackend(componentLockCassandraDao);
+            } else if ("LOCAL".equalsIgnoreCase(backendName)) {
+                backend = new LocalComponentLockBackend();
+            } else if (backendName == null || "GRAPH".equalsIgnoreCase(backendName)) {
+                backend = new GraphComponentLockBackend(janusGraphGenericDao);
+            } else {
+                log.error(EcompLoggerErrorCode.SCHEMA_ERROR, GraphLockOperation.class.getName(), "Unknown component lock backend {}", backendName);
+                throw new IllegalStateException("Unknown component lock backend " + backendName);
+            }
+            log.info("component locks are kept by {}", backend.getClass().getSimpleName());
+        }
+        return backend;
+    }
+
+    private synchronized ComponentLockConfig getConfig() {
+        if (config == null) {
+            Configuration configuration = getConfiguration();
+            ComponentLockConfig componentLockConfig = configuration == null ? null : configuration.getComponentLock();
+            config = componentLockConfig == null ? new ComponentLockConfig() : componentLockConfig;
+        }
+        return config;
+    }
+
+    private static long getMaxHoldSeconds() {
+        Configuration configuration = getConfiguration();
+        Long lockTimeout = configuration == null ? null : configuration.getJanusGraphLockTimeout();
+        return lockTimeout == null || lockTimeout <= 0 ? DEFAULT_MAX_HOLD_SECONDS : lockTimeout;
+    }
+
+    private static Configuration getConfiguration() {
+        ConfigurationManager configurationManager = ConfigurationManager.getConfigurationManager();
+        return configurationManager == null ? null : configurationManager.getConfiguration();
+    }
+
+    @AllArgsConstructor
+    private static final class HeldLock {
+
+        private final String id;
+        private final NodeTypeEnum nodeType;
+        private final String owner;
+        private final long token;
+        private final long renewUntil;
+    }
 }
@@ -27,6 +27,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import javax.validation.constraints.NotNull;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.tinkerpop.gremlin.structure.Direction;
@@ -97,6 +98,32 @@ public class UserAdminOperation {
         }
     }
 
+    /**
+     * Checks a user read earlier against the graph, reading only the role and status of the user vertex
+     *
+     * @return true if the user still exists with the same role and status
+     */
+    public boolean isRoleAndStatusCurrent(User user, boolean inTransaction) {
+        try {
+            Either<JanusGraphVertex, JanusGraphOperationStatus> vertex = janusGraphGenericDao
+                .getVertexByProperty(UniqueIdBuilder.getKeyByNodeType(NodeTypeEnum.User), user.getUserId().toLowerCase());
+            if (vertex.isRight()) {
+                return false;
+            }
+            JanusGraphVertex userVertex = vertex.left().value();
+            String role = (String) janusGraphGenericDao.getProperty(userVertex, GraphPropertiesDictionary.ROLE.getProperty());
+            Either<UserStatusEnum, MethodActivationStatusEnum> status = UserStatusEnum
+                .findByName((String) janusGraphGenericDao.getProperty(userVertex, GraphPropertiesDictionary.USER_STATUS.getProperty()));
+            // Support backward compatibility - user status may not exist in old users
+            UserStatusEnum currentStatus = status.isLeft() ? status.left().value() : UserStatusEnum.ACTIVE;
+            return Objects.equals(user.getRole(), role) && user.getStatus() == currentStatus;
+        } finally {
+            if (!inTransaction) {
+                janusGraphGenericDao.commit();
+            }
+        }
+    }
+
     private void validateInActiveUser(Wrapper<Either<User, ActionStatus>> resultWrapper, UserData userData) {
         User user = convertToUser(userData);
         if (user.getStatus() == UserStatusEnum.ACTIVE) {
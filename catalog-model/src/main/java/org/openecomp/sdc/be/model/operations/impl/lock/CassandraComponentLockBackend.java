@@ -0,0 +1,105 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.model.operations.impl.lock;
+
+import fj.data.Either;
+import org.openecomp.sdc.be.dao.cassandra.CassandraOperationStatus;
+import org.openecomp.sdc.be.dao.cassandra.ComponentLockCassandraDao;
+import org.openecomp.sdc.be.datatypes.enums.NodeTypeEnum;
+import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
+import org.openecomp.sdc.be.model.operations.impl.DaoStatusConverter;
+import org.openecomp.sdc.be.resources.data.ComponentLockData;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+
+/**
+ * Leases shared by the BE instances through a cassandra table. A lease is taken by a lightweight transaction conditioned on the token of the
+ * previous lease, so of the instances racing for an expired lease only one gets it. Lease expiry is checked against the clock of the instance
+ * taking the lock, the lease duration has to be well above the clock skew between the instances.
+ */
+public class CassandraComponentLockBackend implements ComponentLockBackend {
+
+    private static final Logger log = Logger.getLogger(CassandraComponentLockBackend.class.getName());
+    private static final long FIRST_TOKEN = 1;
+    private final ComponentLockCassandraDao componentLockCassandraDao;
+
+    public CassandraComponentLockBackend(ComponentLockCassandraDao componentLockCassandraDao) {
+        this.componentLockCassandraDao = componentLockCassandraDao;
+    }
+
+    @Override
+    public Either<Long, StorageOperationStatus> tryAcquire(String id, NodeTypeEnum nodeType, String owner, long leaseMillis) {
+        String lockId = ComponentLockBackend.getLockId(id, nodeType);
+        long now = System.currentTimeMillis();
+        Either<Boolean, CassandraOperationStatus> created = componentLockCassandraDao
+            .create(new ComponentLockData(lockId, owner, FIRST_TOKEN, now + leaseMillis));
+        if (created.isRight()) {
+            return Either.right(DaoStatusConverter.convertCassandraStatusToStorageStatus(created.right().value()));
+        }
+        if (Boolean.TRUE.equals(created.left().value())) {
+            return Either.left(FIRST_TOKEN);
+        }
+        Either<ComponentLockData, CassandraOperationStatus> current = componentLockCassandraDao.get(lockId);
+        if (current.isRight()) {
+            log.debug("Failed to read lock {} error = {}", lockId, current.right().value());
+            return Either.right(current.right().value() == CassandraOperationStatus.NOT_FOUND ? StorageOperationStatus.FAILED_TO_LOCK_ELEMENT
+                : DaoStatusConverter.convertCassandraStatusToStorageStatus(current.right().value()));
+        }
+        ComponentLockData lock = current.left().value();
+        if (lock.getOwner() != null && lock.getExpiry() > now) {
+            return Either.right(StorageOperationStatus.FAILED_TO_LOCK_ELEMENT);
+        }
+        long token = lock.getToken() + 1;
+        Either<Boolean, CassandraOperationStatus> updated = componentLockCassandraDao
+            .update(new ComponentLockData(lockId, owner, token, now + leaseMillis), lock.getToken());
+        if (updated.isRight()) {
+            return Either.right(DaoStatusConverter.convertCassandraStatusToStorageStatus(updated.right().value()));
+        }
+        return Boolean.TRUE.equals(updated.left().value()) ? Either.left(token) : Either.right(StorageOperationStatus.FAILED_TO_LOCK_ELEMENT);
+    }
+
+    @Override
+    public StorageOperationStatus renew(String id, NodeTypeEnum nodeType, String owner, long token, long leaseMillis) {
+        String lockId = ComponentLockBackend.getLockId(id, nodeType);
+        ComponentLockData renewed = new ComponentLockData(lockId, owner, token, System.currentTimeMillis() + leaseMillis);
+        return toStatus(componentLockCassandraDao.update(renewed, token), StorageOperationStatus.FAILED_TO_LOCK_ELEMENT);
+    }
+
+    @Override
+    public StorageOperationStatus release(String id, NodeTypeEnum nodeType, Long token) {
+        String lockId = ComponentLockBackend.getLockId(id, nodeType);
+        if (token == null) {
+            return DaoStatusConverter.convertCassandraStatusToStorageStatus(componentLockCassandraDao.release(lockId));
+        }
+        // the row is kept, so the token of the next lease follows this one
+        return toStatus(componentLockCassandraDao.update(new ComponentLockData(lockId, null, token, 0), token), StorageOperationStatus.NOT_FOUND);
+    }
+
+    @Override
+    public boolean hasLeases() {
+        return true;
+    }
+
+    private static StorageOperationStatus toStatus(Either<Boolean, CassandraOperationStatus> applied, StorageOperationStatus notAppliedStatus) {
+        if (applied.isRight()) {
+            return DaoStatusConverter.convertCassandraStatusToStorageStatus(applied.right().value());
+        }
+        return Boolean.TRUE.equals(applied.left().value()) ? StorageOperationStatus.OK : notAppliedStatus;
+    }
+}
@@ -0,0 +1,56 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.model.operations.impl.lock;
+
+import fj.data.Either;
+import org.openecomp.sdc.be.datatypes.enums.NodeTypeEnum;
+import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
+
+/**
+ * Store of the component locks. A lock is held through a lease which its owner renews while it works on the component, and which another owner
+ * may take once expired. Each lease of a lock gets a greater token than the previous one, so a renewal or a release only changes the lease it
+ * was made for.
+ */
+public interface ComponentLockBackend {
+
+    /**
+     * @return the token of the new lease, or FAILED_TO_LOCK_ELEMENT if another owner holds a lease that did not expire
+     */
+    Either<Long, StorageOperationStatus> tryAcquire(String id, NodeTypeEnum nodeType, String owner, long leaseMillis);
+
+    /**
+     * Extends the lease, failing with FAILED_TO_LOCK_ELEMENT if it was taken by another owner
+     */
+    StorageOperationStatus renew(String id, NodeTypeEnum nodeType, String owner, long token, long leaseMillis);
+
+    /**
+     * Ends the lease with the given token, or whatever lease the lock has when the token is null
+     */
+    StorageOperationStatus release(String id, NodeTypeEnum nodeType, Long token);
+
+    /**
+     * @return false if the locks do not expire unless released, so there is nothing to renew
+     */
+    boolean hasLeases();
+
+    static String getLockId(String id, NodeTypeEnum nodeType) {
+        return nodeType.getName() + "_" + id;
+    }
+}
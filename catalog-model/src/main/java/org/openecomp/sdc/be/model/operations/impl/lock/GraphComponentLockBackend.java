@@ -0,0 +1,70 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.model.operations.impl.lock;
+
+import fj.data.Either;
+import org.openecomp.sdc.be.dao.janusgraph.JanusGraphGenericDao;
+import org.openecomp.sdc.be.dao.janusgraph.JanusGraphOperationStatus;
+import org.openecomp.sdc.be.datatypes.enums.NodeTypeEnum;
+import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
+import org.openecomp.sdc.be.model.operations.impl.DaoStatusConverter;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+
+/**
+ * Locks stored as vertices of the graph, each lock and release committing a graph transaction. A lock vertex is removed by the next lock
+ * attempt once older than janusGraphLockTimeout. The lease token is always 0.
+ */
+public class GraphComponentLockBackend implements ComponentLockBackend {
+
+    private static final Logger log = Logger.getLogger(GraphComponentLockBackend.class.getName());
+    private final JanusGraphGenericDao janusGraphGenericDao;
+
+    public GraphComponentLockBackend(JanusGraphGenericDao janusGraphGenericDao) {
+        this.janusGraphGenericDao = janusGraphGenericDao;
+    }
+
+    @Override
+    public Either<Long, StorageOperationStatus> tryAcquire(String id, NodeTypeEnum nodeType, String owner, long leaseMillis) {
+        JanusGraphOperationStatus lockElementStatus;
+        try {
+            lockElementStatus = janusGraphGenericDao.lockElement(id, nodeType);
+        } catch (Exception e) {
+            log.debug("Failed to lock {}", id, e);
+            lockElementStatus = JanusGraphOperationStatus.ALREADY_LOCKED;
+        }
+        StorageOperationStatus status = DaoStatusConverter.convertJanusGraphStatusToStorageStatus(lockElementStatus);
+        return status == StorageOperationStatus.OK ? Either.left(0L) : Either.right(status);
+    }
+
+    @Override
+    public StorageOperationStatus renew(String id, NodeTypeEnum nodeType, String owner, long token, long leaseMillis) {
+        return StorageOperationStatus.OK;
+    }
+
+    @Override
+    public StorageOperationStatus release(String id, NodeTypeEnum nodeType, Long token) {
+        return DaoStatusConverter.convertJanusGraphStatusToStorageStatus(janusGraphGenericDao.releaseElement(id, nodeType));
+    }
+
+    @Override
+    public boolean hasLeases() {
+        return false;
+    }
+}
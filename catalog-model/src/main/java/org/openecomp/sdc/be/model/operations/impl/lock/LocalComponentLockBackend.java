@@ -0,0 +1,88 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.model.operations.impl.lock;
+
+import fj.data.Either;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import lombok.AllArgsConstructor;
+import org.openecomp.sdc.be.datatypes.enums.NodeTypeEnum;
+import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
+
+/**
+ * Leases kept in memory, for a single BE instance. Changes of a lease only lock the bin of the map holding it, so locking a component does not
+ * wait for the locks of other components.
+ */
+public class LocalComponentLockBackend implements ComponentLockBackend {
+
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+    private final AtomicLong lastToken = new AtomicLong();
+    private final LongSupplier clock;
+
+    public LocalComponentLockBackend() {
+        this(System::currentTimeMillis);
+    }
+
+    LocalComponentLockBackend(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public Either<Long, StorageOperationStatus> tryAcquire(String id, NodeTypeEnum nodeType, String owner, long leaseMillis) {
+        long now = clock.getAsLong();
+        Lease lease = new Lease(owner, lastToken.incrementAndGet(), now + leaseMillis);
+        Lease current = leases.compute(ComponentLockBackend.getLockId(id, nodeType),
+            (lockId, previous) -> previous != null && previous.expiry > now ? previous : lease);
+        return current == lease ? Either.left(lease.token) : Either.right(StorageOperationStatus.FAILED_TO_LOCK_ELEMENT);
+    }
+
+    @Override
+    public StorageOperationStatus renew(String id, NodeTypeEnum nodeType, String owner, long token, long leaseMillis) {
+        Lease renewed = leases.computeIfPresent(ComponentLockBackend.getLockId(id, nodeType),
+            (lockId, current) -> current.token == token ? new Lease(owner, token, clock.getAsLong() + leaseMillis) : current);
+        return renewed != null && renewed.token == token ? StorageOperationStatus.OK : StorageOperationStatus.FAILED_TO_LOCK_ELEMENT;
+    }
+
+    @Override
+    public StorageOperationStatus release(String id, NodeTypeEnum nodeType, Long token) {
+        String lockId = ComponentLockBackend.getLockId(id, nodeType);
+        if (token == null) {
+            return leases.remove(lockId) == null ? StorageOperationStatus.NOT_FOUND : StorageOperationStatus.OK;
+        }
+        Lease current = leases.get(lockId);
+        return current != null && current.token == token && leases.remove(lockId, current) ? StorageOperationStatus.OK
+            : StorageOperationStatus.NOT_FOUND;
+    }
+
+    @Override
+    public boolean hasLeases() {
+        return true;
+    }
+
+    @AllArgsConstructor
+    private static final class Lease {
+
+        private final String owner;
+        private final long token;
+        private final long expiry;
+    }
+}
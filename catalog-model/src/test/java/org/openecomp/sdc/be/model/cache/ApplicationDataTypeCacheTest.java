@@ -26,6 +26,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import fj.data.Either;
@@ -232,6 +235,51 @@ class ApplicationDataTypeCacheTest {
 		assertEquals(expectedDataTypeDefinition.getModificationTime(), actualDataTypeDefinition.getModificationTime());
 	}
 
+	@Test
+	void testRefreshDataTypesReplacesOnlyTheChangedDataTypes() {
+		final DataTypeDefinition testDataType1 = createDataTypeDefinition("test.data.type1", "test.data.type1", 100L, 1000L);
+		final DataTypeDefinition testDataType2 = createDataTypeDefinition("test.data.type2", "test.data.type2", 101L, 1001L);
+		final Map<String, Map<String, DataTypeDefinition>> dataTypesMappedByModel = new HashMap<>();
+		dataTypesMappedByModel.put(null, Map.of(testDataType1.getName(), testDataType1, testDataType2.getName(), testDataType2));
+		when(propertyOperation.getAllDataTypes()).thenReturn(Either.left(dataTypesMappedByModel));
+		assertTrue(applicationDataTypeCache.getAll(null).isLeft());
+
+		final DataTypeDefinition updatedDataType1 = createDataTypeDefinition("test.data.type1", "test.data.type1", 100L, 2000L);
+		final DataTypeDefinition newDataType3 = createDataTypeDefinition("test.data.type3", "test.data.type3", 102L, 1002L);
+		when(propertyOperation.getDataTypeByUid("test.data.type1")).thenReturn(Either.left(updatedDataType1));
+		when(propertyOperation.getDataTypeByUid("test.data.type3")).thenReturn(Either.left(newDataType3));
+		applicationDataTypeCache.refreshDataTypes(List.of("test.data.type1", "test.data.type3"));
+
+		assertDataTypeCache(Map.of(updatedDataType1.getName(), updatedDataType1, testDataType2.getName(), testDataType2,
+			newDataType3.getName(), newDataType3));
+		assertEquals(2000L, applicationDataTypeCache.get(null, "test.data.type1").left().value().getModificationTime());
+		assertEquals(1002L, applicationDataTypeCache.get(null, "test.data.type3").left().value().getModificationTime());
+		verify(propertyOperation, times(1)).getAllDataTypes();
+		verify(applicationEventPublisher).publishEvent(any(ApplicationDataTypeCache.DataTypesCacheChangedEvent.class));
+	}
+
+	@Test
+	void testRefreshDataTypesRereadsDerivedDataTypes() {
+		final DataTypeDefinition parentDataType = createDataTypeDefinition("test.data.parent", "test.data.parent", 100L, 1000L);
+		final DataTypeDefinition childDataType = createDataTypeDefinition("test.data.child", "test.data.child", 101L, 1001L);
+		childDataType.setDerivedFrom(parentDataType);
+		final Map<String, Map<String, DataTypeDefinition>> dataTypesMappedByModel = new HashMap<>();
+		dataTypesMappedByModel.put(null, Map.of(parentDataType.getName(), parentDataType, childDataType.getName(), childDataType));
+		when(propertyOperation.getAllDataTypes()).thenReturn(Either.left(dataTypesMappedByModel));
+		assertTrue(applicationDataTypeCache.getAll(null).isLeft());
+
+		final DataTypeDefinition updatedParentDataType = createDataTypeDefinition("test.data.parent", "test.data.parent", 100L, 2000L);
+		final DataTypeDefinition updatedChildDataType = createDataTypeDefinition("test.data.child", "test.data.child", 101L, 1001L);
+		updatedChildDataType.setDerivedFrom(updatedParentDataType);
+		when(propertyOperation.getDataTypeByUid("test.data.parent")).thenReturn(Either.left(updatedParentDataType));
+		when(propertyOperation.getDataTypeByUid("test.data.child")).thenReturn(Either.left(updatedChildDataType));
+		applicationDataTypeCache.refreshDataTypes(List.of("test.data.parent"));
+
+		final DataTypeDefinition cachedChild = applicationDataTypeCache.getAll(null).left().value().get("test.data.child");
+		assertEquals(2000L, cachedChild.getDerivedFrom().getModificationTime());
+		verify(propertyOperation).getDataTypeByUid("test.data.child");
+	}
+
     private void defaultInit() {
         var applicationL1CacheInfo = new ApplicationL1CacheInfo();
         applicationL1CacheInfo.setEnabled(schedulerIsEnabled);
@@ -0,0 +1,106 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.model.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openecomp.sdc.be.datatypes.enums.ResourceTypeEnum;
+import org.openecomp.sdc.be.model.catalog.CatalogComponent;
+
+class CatalogComponentIndexTest {
+
+    private CatalogComponentIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new CatalogComponentIndex();
+    }
+
+    @Test
+    void loadAndFilterByExcludedTypes() {
+        assertFalse(index.isLoaded(true));
+        index.load(true, List.of(component("vf", "VF"), component("vfc", "VFC"), component("service", null)));
+        assertTrue(index.isLoaded(true));
+        assertFalse(index.isLoaded(false));
+        assertEquals(3, index.getComponents(true, null).size());
+        assertEquals(2, index.getComponents(true, List.of(ResourceTypeEnum.VFC)).size());
+        assertTrue(index.getComponents(false, null).isEmpty());
+    }
+
+    @Test
+    void updateMovesElementBetweenCatalogAndArchive() {
+        index.load(true, List.of(component("vf", "VF")));
+        index.load(false, List.of());
+        index.update("vf", component("vf", "VF"), false);
+        assertTrue(index.getComponents(true, null).isEmpty());
+        assertEquals(1, index.getComponents(false, null).size());
+        index.update("vf", null, true);
+        assertTrue(index.getComponents(false, null).isEmpty());
+    }
+
+    @Test
+    void eTagChangesOnlyWhenContentChanges() {
+        index.load(true, List.of(component("vf", "VF")));
+        String eTag = index.getETag(true, null);
+        assertEquals(eTag, index.getETag(true, null));
+        assertNotEquals(eTag, index.getETag(true, List.of(ResourceTypeEnum.VFC)));
+        assertNotEquals(eTag, index.getETag(false, null));
+        index.markChanged("vf");
+        assertEquals(eTag, index.getETag(true, null));
+        index.update("vf", component("vf", "VF"), true);
+        assertEquals(eTag, index.getETag(true, null));
+        CatalogComponent updated = component("vf", "VF");
+        updated.setLastUpdateDate(1L);
+        index.update("vf", updated, true);
+        assertNotEquals(eTag, index.getETag(true, null));
+    }
+
+    @Test
+    void eTagIsSharedByIndexesWithTheSameContent() {
+        index.load(true, List.of(component("vf", "VF"), component("service", null)));
+        CatalogComponentIndex otherIndex = new CatalogComponentIndex();
+        otherIndex.load(true, List.of(component("service", null), component("vf", "VF")));
+        assertEquals(index.getETag(true, List.of(ResourceTypeEnum.VFC, ResourceTypeEnum.CP)),
+            otherIndex.getETag(true, List.of(ResourceTypeEnum.CP, ResourceTypeEnum.VFC)));
+        index.load(true, List.of(component("vf", "VF"), component("service", null)));
+        assertEquals(otherIndex.getETag(true, null), index.getETag(true, null));
+    }
+
+    @Test
+    void pollChangedDrainsMarkedElements() {
+        index.markChanged("a", null, "b", "a");
+        assertEquals(Set.of("a", "b"), index.pollChanged());
+        assertTrue(index.pollChanged().isEmpty());
+    }
+
+    private CatalogComponent component(String uniqueId, String resourceType) {
+        CatalogComponent component = new CatalogComponent();
+        component.setUniqueId(uniqueId);
+        component.setResourceType(resourceType);
+        return component;
+    }
+}
@@ -0,0 +1,158 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.model.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import fj.data.Either;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openecomp.sdc.be.config.Configuration.CertifiedComponentCacheConfig;
+import org.openecomp.sdc.be.model.LifecycleStateEnum;
+import org.openecomp.sdc.be.model.Resource;
+import org.openecomp.sdc.be.model.cache.CertifiedComponentCache.ComponentView;
+import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
+
+class CertifiedComponentCacheTest {
+
+    private CertifiedComponentCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        CertifiedComponentCacheConfig config = new CertifiedComponentCacheConfig();
+        config.setEnabled(true);
+        config.setMaxComponentWeight(1000);
+        config.setMaxNodeTypeTemplateBytes(1000);
+        config.setMaxAgeInSeconds(3600);
+        cache = new CertifiedComponentCache(config);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void certifiedComponentIsLoadedOncePerView() {
+        Resource resource = resource("res", LifecycleStateEnum.CERTIFIED);
+        assertSame(resource, cache.getComponent("res", ComponentView.ALL, loader(resource)).left().value());
+        assertSame(resource, cache.getComponent("res", ComponentView.ALL, loader(resource)).left().value());
+        assertEquals(1, loads.get());
+        cache.getComponent("res", ComponentView.FULL, loader(resource));
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.getComponentStats().hitCount());
+        assertEquals(2, cache.getComponentStats().missCount());
+    }
+
+    @Test
+    void componentNotCertifiedOrNotFoundIsNotKept() {
+        Resource resource = resource("res", LifecycleStateEnum.NOT_CERTIFIED_CHECKOUT);
+        cache.getComponent("res", ComponentView.ALL, loader(resource));
+        cache.getComponent("res", ComponentView.ALL, loader(resource));
+        Supplier<Either<Resource, StorageOperationStatus>> notFound = () -> {
+            loads.incrementAndGet();
+            return Either.right(StorageOperationStatus.NOT_FOUND);
+        };
+        cache.getComponent("missing", ComponentView.ALL, notFound);
+        assertEquals(StorageOperationStatus.NOT_FOUND, cache.getComponent("missing", ComponentView.ALL, notFound).right().value());
+        assertEquals(4, loads.get());
+        assertEquals(0, cache.getComponentCount());
+    }
+
+    @Test
+    void evictDropsComponentAndItsNodeTypeTemplates() {
+        Resource resource = resource("res", LifecycleStateEnum.CERTIFIED);
+        cache.getComponent("res", ComponentView.ALL, loader(resource));
+        cache.getNodeTypeTemplate(resource, "interface", template("yaml"), String::length, UnaryOperator.identity());
+        assertEquals("yaml", cache.getNodeTypeTemplate(resource, "interface", template("other"), String::length, UnaryOperator.identity()).left().value());
+        cache.evict("res");
+        cache.getComponent("res", ComponentView.ALL, loader(resource));
+        assertEquals("other", cache.getNodeTypeTemplate(resource, "interface", template("other"), String::length, UnaryOperator.identity()).left().value());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void nodeTypeTemplatesAreBoundedBySize() {
+        Resource first = resource("first", LifecycleStateEnum.CERTIFIED);
+        Resource second = resource("second", LifecycleStateEnum.CERTIFIED);
+        cache.getNodeTypeTemplate(first, "interface", template("a".repeat(600)), String::length, UnaryOperator.identity());
+        cache.getNodeTypeTemplate(second, "interface", template("b".repeat(600)), String::length, UnaryOperator.identity());
+        cache.getNodeTypeTemplate(first, "interface", template("c"), String::length, UnaryOperator.identity());
+        assertTrue(cache.getNodeTypeTemplateStats().evictionCount() > 0);
+        assertEquals(3, cache.getNodeTypeTemplateStats().missCount());
+    }
+
+    @Test
+    void componentEvictedDuringLoadIsNotKept() {
+        Resource resource = resource("res", LifecycleStateEnum.CERTIFIED);
+        cache.getComponent("res", ComponentView.ALL, () -> {
+            loads.incrementAndGet();
+            // the change is committed while the previous state is read
+            cache.evict("res");
+            return Either.left(resource);
+        });
+        cache.getComponent("res", ComponentView.ALL, loader(resource));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void nodeTypeTemplatesAreHandedOutAsCopies() {
+        Resource resource = resource("res", LifecycleStateEnum.CERTIFIED);
+        Supplier<Either<List<String>, StorageOperationStatus>> generator = () -> Either.left(new ArrayList<>(List.of("yaml")));
+        List<String> generated = cache.getNodeTypeTemplate(resource, "interface", generator, List::size, ArrayList::new).left().value();
+        generated.add("modified");
+        List<String> cached = cache.getNodeTypeTemplate(resource, "interface", generator, List::size, ArrayList::new).left().value();
+        assertEquals(List.of("yaml"), cached);
+        cached.add("modified");
+        assertEquals(List.of("yaml"), cache.getNodeTypeTemplate(resource, "interface", generator, List::size, ArrayList::new).left().value());
+    }
+
+    @Test
+    void disabledCacheAlwaysLoads() {
+        cache = new CertifiedComponentCache(new CertifiedComponentCacheConfig());
+        Resource resource = resource("res", LifecycleStateEnum.CERTIFIED);
+        cache.getComponent("res", ComponentView.ALL, loader(resource));
+        cache.getComponent("res", ComponentView.ALL, loader(resource));
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.getComponentStats().requestCount());
+    }
+
+    private Supplier<Either<Resource, StorageOperationStatus>> loader(Resource resource) {
+        return () -> {
+            loads.incrementAndGet();
+            return Either.left(resource);
+        };
+    }
+
+    private Supplier<Either<String, StorageOperationStatus>> template(String yaml) {
+        return () -> Either.left(yaml);
+    }
+
+    private Resource resource(String uniqueId, LifecycleStateEnum state) {
+        Resource resource = new Resource();
+        resource.setUniqueId(uniqueId);
+        resource.setLifecycleState(state);
+        return resource;
+    }
+}
@@ -0,0 +1,155 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.model.jsonjanusgraph.operations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.openecomp.sdc.be.dao.config.JanusGraphSpringConfig;
+import org.openecomp.sdc.be.dao.janusgraph.HealingJanusGraphDao;
+import org.openecomp.sdc.be.dao.janusgraph.JanusGraphOperationStatus;
+import org.openecomp.sdc.be.dao.jsongraph.GraphVertex;
+import org.openecomp.sdc.be.dao.jsongraph.types.EdgeLabelEnum;
+import org.openecomp.sdc.be.dao.jsongraph.types.JsonParseFlagEnum;
+import org.openecomp.sdc.be.dao.jsongraph.types.VertexTypeEnum;
+import org.openecomp.sdc.be.datatypes.elements.PropertyDataDefinition;
+import org.openecomp.sdc.be.datatypes.enums.GraphPropertyEnum;
+import org.openecomp.sdc.be.model.ModelTestBase;
+import org.openecomp.sdc.be.model.config.ModelOperationsSpringConfig;
+import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = {JanusGraphSpringConfig.class, ModelOperationsSpringConfig.class})
+public class BaseOperationCopyOnUpdateTest extends ModelTestBase {
+
+    private static final String OLD_VERSION_ID = "oldVersion";
+    private static final String NEW_VERSION_ID = "newVersion";
+
+    @Autowired
+    private TopologyTemplateOperation topologyTemplateOperation;
+
+    @Autowired
+    private HealingJanusGraphDao janusGraphDao;
+
+    @BeforeClass
+    public static void initClass() {
+        ModelTestBase.init();
+    }
+
+    @Before
+    public void setUp() {
+        configurationManager.getConfiguration().setJanusGraphDeltaDataVertices(true);
+    }
+
+    @After
+    public void tearDown() {
+        configurationManager.getConfiguration().setJanusGraphDeltaDataVertices(false);
+        janusGraphDao.rollback();
+    }
+
+    @Test
+    public void updateAfterCheckout_oldVersionDeleted_newVersionReadsItsUpdate() {
+        GraphVertex oldVersion = createToscaElementVertex(OLD_VERSION_ID);
+        assertThat(topologyTemplateOperation.associateElementToData(oldVersion, VertexTypeEnum.PROPERTIES, EdgeLabelEnum.PROPERTIES,
+            buildProperties(10)).isLeft()).isTrue();
+        GraphVertex newVersion = createToscaElementVertex(NEW_VERSION_ID);
+        GraphVertex sharedDataVertex = checkout(oldVersion, newVersion);
+
+        Map<String, PropertyDataDefinition> properties = buildProperties(10);
+        properties.get("property1").setValue("changed");
+        properties.remove("property2");
+        assertThat(topologyTemplateOperation.overrideToscaDataOfToscaElement(NEW_VERSION_ID, EdgeLabelEnum.PROPERTIES, properties))
+            .isEqualTo(StorageOperationStatus.OK);
+        assertThat(janusGraphDao.isJsonBase(sharedDataVertex.getVertex())).isTrue();
+        assertThat(readProperties(oldVersion)).hasSize(10);
+
+        assertThat(janusGraphDao.disassociateAndDeleteLast(oldVersion, Direction.OUT, EdgeLabelEnum.PROPERTIES))
+            .isEqualTo(JanusGraphOperationStatus.OK);
+        oldVersion.getVertex().remove();
+
+        Map<String, PropertyDataDefinition> newVersionProperties = readProperties(newVersion);
+        assertThat(newVersionProperties).hasSize(9).doesNotContainKey("property2");
+        assertThat(newVersionProperties.get("property1").getValue()).isEqualTo("changed");
+        assertThat(newVersionProperties.get("property3").getValue()).isEqualTo("value3");
+    }
+
+    @Test
+    public void updateAfterCheckout_lastVersionDeleted_removesTheSharedVertex() {
+        GraphVertex oldVersion = createToscaElementVertex(OLD_VERSION_ID);
+        topologyTemplateOperation.associateElementToData(oldVersion, VertexTypeEnum.PROPERTIES, EdgeLabelEnum.PROPERTIES, buildProperties(10));
+        GraphVertex newVersion = createToscaElementVertex(NEW_VERSION_ID);
+        GraphVertex sharedDataVertex = checkout(oldVersion, newVersion);
+        Map<String, PropertyDataDefinition> properties = buildProperties(10);
+        properties.get("property1").setValue("changed");
+        topologyTemplateOperation.overrideToscaDataOfToscaElement(NEW_VERSION_ID, EdgeLabelEnum.PROPERTIES, properties);
+
+        janusGraphDao.disassociateAndDeleteLast(oldVersion, Direction.OUT, EdgeLabelEnum.PROPERTIES);
+        assertThat(janusGraphDao.getVertexById(sharedDataVertex.getUniqueId()).isLeft()).isTrue();
+        janusGraphDao.disassociateAndDeleteLast(newVersion, Direction.OUT, EdgeLabelEnum.PROPERTIES);
+
+        assertThat(janusGraphDao.getVertexById(sharedDataVertex.getUniqueId()).isRight()).isTrue();
+    }
+
+    /**
+     * Shares the data vertices of the old version with the new one, as {@link ToscaElementOperation#cloneToscaElement} does
+     */
+    private GraphVertex checkout(GraphVertex oldVersion, GraphVertex newVersion) {
+        Edge edge = oldVersion.getVertex().edges(Direction.OUT, EdgeLabelEnum.PROPERTIES.name()).next();
+        assertThat(janusGraphDao.createEdge(newVersion.getVertex(), edge.inVertex(), EdgeLabelEnum.PROPERTIES, edge))
+            .isEqualTo(JanusGraphOperationStatus.OK);
+        return janusGraphDao.getChildVertex(oldVersion, EdgeLabelEnum.PROPERTIES, JsonParseFlagEnum.NoParse).left().value();
+    }
+
+    private GraphVertex createToscaElementVertex(String uniqueId) {
+        GraphVertex toscaElement = new GraphVertex(VertexTypeEnum.TOPOLOGY_TEMPLATE);
+        toscaElement.addMetadataProperty(GraphPropertyEnum.UNIQUE_ID, uniqueId);
+        return janusGraphDao.createVertex(toscaElement).left().value();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, PropertyDataDefinition> readProperties(GraphVertex toscaElement) {
+        return (Map<String, PropertyDataDefinition>) janusGraphDao
+            .getChildVertex(toscaElement, EdgeLabelEnum.PROPERTIES, JsonParseFlagEnum.ParseJson).left().value().getJson();
+    }
+
+    private static Map<String, PropertyDataDefinition> buildProperties(int count) {
+        Map<String, PropertyDataDefinition> properties = new LinkedHashMap<>();
+        for (int i = 0; i < count; ++i) {
+            PropertyDataDefinition property = new PropertyDataDefinition();
+            property.setName("property" + i);
+            property.setType("string");
+            property.setValue("value" + i);
+            properties.put(property.getName(), property);
+        }
+        return properties;
+    }
+}
@@ -153,7 +153,7 @@ class NodeTemplateOperationTest extends ModelTestBase {
         GraphVertex dataVertex = new GraphVertex();
         dataVertex.setJson(fulfilledCapability);
         Either<GraphVertex, JanusGraphOperationStatus> childVertexRes = Either.left(dataVertex);
-        when(janusGraphDao.getChildVertex(eq(vertex), eq(EdgeLabelEnum.FULLFILLED_CAPABILITIES), eq(JsonParseFlagEnum.ParseJson))).thenReturn(childVertexRes);
+        when(janusGraphDao.getChildVertex(eq(vertex), eq(EdgeLabelEnum.FULLFILLED_CAPABILITIES), eq(JsonParseFlagEnum.ParseJsonLazy))).thenReturn(childVertexRes);
         Either<CapabilityDataDefinition, StorageOperationStatus> result = operation.getFulfilledCapabilityByRelation(COMPONENT_ID, TO_INSTANCE_ID, relation, this::isBelongingCapability);
         assertTrue(result.isLeft());
         assertEquals(result.left().value(), capability);
@@ -168,7 +168,7 @@ class NodeTemplateOperationTest extends ModelTestBase {
         GraphVertex dataVertex = new GraphVertex();
         dataVertex.setJson(fulfilledRequirement);
         Either<GraphVertex, JanusGraphOperationStatus> childVertexRes = Either.left(dataVertex);
-        when(janusGraphDao.getChildVertex(eq(vertex), eq(EdgeLabelEnum.FULLFILLED_REQUIREMENTS), eq(JsonParseFlagEnum.ParseJson))).thenReturn(childVertexRes);
+        when(janusGraphDao.getChildVertex(eq(vertex), eq(EdgeLabelEnum.FULLFILLED_REQUIREMENTS), eq(JsonParseFlagEnum.ParseJsonLazy))).thenReturn(childVertexRes);
         Either<RequirementDataDefinition, StorageOperationStatus> result = operation.getFulfilledRequirementByRelation(COMPONENT_ID, FROM_INSTANCE_ID, relation, this::isBelongingRequirement);
         assertTrue(result.isLeft());
         assertEquals(result.left().value(), requirement);
@@ -182,7 +182,7 @@ class NodeTemplateOperationTest extends ModelTestBase {
 
         Either<GraphVertex, JanusGraphOperationStatus> childVertexRes = Either.right(
             JanusGraphOperationStatus.NOT_FOUND);
-        when(janusGraphDao.getChildVertex(eq(vertex), eq(EdgeLabelEnum.FULLFILLED_CAPABILITIES), eq(JsonParseFlagEnum.ParseJson))).thenReturn(childVertexRes);
+        when(janusGraphDao.getChildVertex(eq(vertex), eq(EdgeLabelEnum.FULLFILLED_CAPABILITIES), eq(JsonParseFlagEnum.ParseJsonLazy))).thenReturn(childVertexRes);
         Either<CapabilityDataDefinition, StorageOperationStatus> result = operation.getFulfilledCapabilityByRelation(COMPONENT_ID, TO_INSTANCE_ID, relation, this::isBelongingCapability);
         assertTrue(result.isRight());
         assertSame(StorageOperationStatus.NOT_FOUND, result.right().value());
@@ -196,7 +196,7 @@ class NodeTemplateOperationTest extends ModelTestBase {
 
         Either<GraphVertex, JanusGraphOperationStatus> childVertexRes = Either.right(
             JanusGraphOperationStatus.NOT_FOUND);
-        when(janusGraphDao.getChildVertex(eq(vertex), eq(EdgeLabelEnum.FULLFILLED_REQUIREMENTS), eq(JsonParseFlagEnum.ParseJson))).thenReturn(childVertexRes);
+        when(janusGraphDao.getChildVertex(eq(vertex), eq(EdgeLabelEnum.FULLFILLED_REQUIREMENTS), eq(JsonParseFlagEnum.ParseJsonLazy))).thenReturn(childVertexRes);
         Either<RequirementDataDefinition, StorageOperationStatus> result = operation.getFulfilledRequirementByRelation(COMPONENT_ID, FROM_INSTANCE_ID, relation, this::isBelongingRequirement);
         assertTrue(result.isRight());
         assertSame(StorageOperationStatus.NOT_FOUND, result.right().value());
@@ -329,7 +329,7 @@ class NodeTemplateOperationTest extends ModelTestBase {
         mapOfRequirements.put(requirement.getOwnerId(), mapListRequirementDataDefinition);
         GraphVertex childVertex = new GraphVertex();
         childVertex.setJson(mapOfRequirements);
-        when(janusGraphDao.getChildVertex(graphVertex, EdgeLabelEnum.CALCULATED_REQUIREMENTS, JsonParseFlagEnum.ParseJson)).thenReturn(Either.left(childVertex));
+        when(janusGraphDao.getChildVertex(graphVertex, EdgeLabelEnum.CALCULATED_REQUIREMENTS, JsonParseFlagEnum.ParseJsonLazy)).thenReturn(Either.left(childVertex));
         
         JanusGraphVertex outVertex = Mockito.mock(JanusGraphVertex.class);
         Edge edge = Mockito.mock(Edge.class);
@@ -474,7 +474,7 @@ class NodeTemplateOperationTest extends ModelTestBase {
         final GraphVertex capabilitiesVertex = Mockito.mock(GraphVertex.class);
         doReturn(capabilityByInstanceMap).when(capabilitiesVertex).getJson();
         when(janusGraphDao.getVertexById(COMPONENT_ID, JsonParseFlagEnum.ParseAll)).thenReturn(Either.left(componentVertex));
-        when(janusGraphDao.getChildVertex(componentVertex, EdgeLabelEnum.CALCULATED_CAPABILITIES, JsonParseFlagEnum.ParseJson))
+        when(janusGraphDao.getChildVertex(componentVertex, EdgeLabelEnum.CALCULATED_CAPABILITIES, JsonParseFlagEnum.ParseJsonLazy))
             .thenReturn(Either.left(capabilitiesVertex));
         when(janusGraphDao.updateVertex(componentVertex)).thenReturn(Either.left(componentVertex));
         doReturn(Either.left(capabilitiesVertex))
@@ -493,7 +493,7 @@ class NodeTemplateOperationTest extends ModelTestBase {
         final GraphVertex calculatedCapabilityVertex = Mockito.mock(GraphVertex.class);
         //no capabilities found
         when(janusGraphDao.getVertexById(COMPONENT_ID, JsonParseFlagEnum.ParseAll)).thenReturn(Either.left(componentVertex));
-        when(janusGraphDao.getChildVertex(componentVertex, EdgeLabelEnum.CALCULATED_CAPABILITIES, JsonParseFlagEnum.ParseJson))
+        when(janusGraphDao.getChildVertex(componentVertex, EdgeLabelEnum.CALCULATED_CAPABILITIES, JsonParseFlagEnum.ParseJsonLazy))
             .thenReturn(Either.right(JanusGraphOperationStatus.NOT_FOUND));
         OperationException actualException = assertThrows(OperationException.class, () ->
             operation.updateComponentInstanceCapabilities(COMPONENT_ID, componentInstanceId, capabilityDataDefinition));
@@ -504,7 +504,7 @@ class NodeTemplateOperationTest extends ModelTestBase {
         assertEquals(COMPONENT_ID, actualException.getParams()[2]);
 
         //found capabilities, but not for the provided instance id
-        when(janusGraphDao.getChildVertex(componentVertex, EdgeLabelEnum.CALCULATED_CAPABILITIES, JsonParseFlagEnum.ParseJson))
+        when(janusGraphDao.getChildVertex(componentVertex, EdgeLabelEnum.CALCULATED_CAPABILITIES, JsonParseFlagEnum.ParseJsonLazy))
             .thenReturn(Either.left(calculatedCapabilityVertex));
         actualException = assertThrows(OperationException.class, () ->
             operation.updateComponentInstanceCapabilities(COMPONENT_ID, "componentInstanceId", capabilityDataDefinition));
@@ -534,7 +534,7 @@ class NodeTemplateOperationTest extends ModelTestBase {
         final GraphVertex componentVertex = Mockito.mock(GraphVertex.class);
         when(componentVertex.getUniqueId()).thenReturn(COMPONENT_ID);
         when(janusGraphDao.getVertexById(COMPONENT_ID, JsonParseFlagEnum.ParseAll)).thenReturn(Either.left(componentVertex));
-        when(janusGraphDao.getChildVertex(componentVertex, EdgeLabelEnum.CALCULATED_CAPABILITIES, JsonParseFlagEnum.ParseJson))
+        when(janusGraphDao.getChildVertex(componentVertex, EdgeLabelEnum.CALCULATED_CAPABILITIES, JsonParseFlagEnum.ParseJsonLazy))
             .thenReturn(Either.right(JanusGraphOperationStatus.GENERAL_ERROR));
         final OperationException actualException = assertThrows(OperationException.class, () ->
             operation.updateComponentInstanceCapabilities(COMPONENT_ID, "componentInstanceId", new CapabilityDataDefinition()));
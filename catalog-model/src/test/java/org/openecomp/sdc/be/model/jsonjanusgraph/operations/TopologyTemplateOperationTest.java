@@ -39,6 +39,7 @@ import org.openecomp.sdc.be.dao.jsongraph.types.VertexTypeEnum;
 import org.openecomp.sdc.be.datatypes.elements.MapCapabilityProperty;
 import org.openecomp.sdc.be.datatypes.elements.MapListCapabilityDataDefinition;
 import org.openecomp.sdc.be.datatypes.elements.MapListRequirementDataDefinition;
+import org.openecomp.sdc.be.datatypes.elements.PropertyDataDefinition;
 import org.openecomp.sdc.be.datatypes.enums.GraphPropertyEnum;
 import org.openecomp.sdc.be.datatypes.enums.JsonPresentationFields;
 import org.openecomp.sdc.be.model.DistributionStatusEnum;
@@ -48,6 +49,7 @@ import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
 import org.openecomp.sdc.be.model.operations.impl.UniqueIdBuilder;
 import org.openecomp.sdc.be.model.ComponentParametersView;
 import org.openecomp.sdc.be.model.jsonjanusgraph.datamodel.ToscaElement;
+import org.openecomp.sdc.be.model.jsonjanusgraph.datamodel.TopologyTemplate;
 
 import java.util.*;
 
@@ -56,6 +58,7 @@ import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -82,7 +85,7 @@ public class TopologyTemplateOperationTest {
     public void overrideToscaDataOfToscaElement_failedToFetchDataVertex() {
         GraphVertex containerVertex = new GraphVertex();
         when(janusGraphDao.getVertexById(CONTAINER_ID, JsonParseFlagEnum.NoParse)).thenReturn(Either.left(containerVertex));
-        when(janusGraphDao.getChildVertex(containerVertex, EdgeLabelEnum.CALCULATED_CAP_PROPERTIES, JsonParseFlagEnum.ParseJson)).thenReturn(Either.right(
+        when(janusGraphDao.getChildVertex(containerVertex, EdgeLabelEnum.CALCULATED_CAP_PROPERTIES, JsonParseFlagEnum.ParseJsonLazy)).thenReturn(Either.right(
             JanusGraphOperationStatus.NOT_FOUND));
         StorageOperationStatus storageOperationStatus = topologyTemplateOperation.overrideToscaDataOfToscaElement(CONTAINER_ID, EdgeLabelEnum.CALCULATED_CAP_PROPERTIES, Collections.emptyMap());
         assertThat(storageOperationStatus).isEqualTo(StorageOperationStatus.NOT_FOUND);
@@ -100,7 +103,7 @@ public class TopologyTemplateOperationTest {
     public void updateToscaDataDeepElements_failedToFetchDataVertex() {
         GraphVertex containerVertex = new GraphVertex();
         when(janusGraphDao.getVertexById(CONTAINER_ID, JsonParseFlagEnum.NoParse)).thenReturn(Either.left(containerVertex));
-        when(janusGraphDao.getChildVertex(containerVertex, EdgeLabelEnum.CALCULATED_CAP_PROPERTIES, JsonParseFlagEnum.ParseJson)).thenReturn(Either.right(
+        when(janusGraphDao.getChildVertex(containerVertex, EdgeLabelEnum.CALCULATED_CAP_PROPERTIES, JsonParseFlagEnum.ParseJsonLazy)).thenReturn(Either.right(
             JanusGraphOperationStatus.NOT_FOUND));
         StorageOperationStatus storageOperationStatus = topologyTemplateOperation.updateToscaDataDeepElementsBlockToToscaElement(CONTAINER_ID, EdgeLabelEnum.CALCULATED_CAP_PROPERTIES, new MapCapabilityProperty(), "");
         assertThat(storageOperationStatus).isEqualTo(StorageOperationStatus.NOT_FOUND);
@@ -169,6 +172,34 @@ public class TopologyTemplateOperationTest {
         verify(janusGraphDao, times(1)).getChildVertex(any(GraphVertex.class), any(EdgeLabelEnum.class), any(JsonParseFlagEnum.class));
     }
 
+    @Test
+    public void testGetToscaElementReadsDataVerticesInOneBatch() {
+        final GraphVertex containerVertex = new GraphVertex();
+        final ComponentParametersView filter = new ComponentParametersView(true);
+        filter.setIgnoreProperties(false);
+        filter.setIgnoreInputs(false);
+        containerVertex.setVertex(Mockito.mock(JanusGraphVertex.class));
+        containerVertex.setJsonMetadataField(JsonPresentationFields.NAME, "componentName");
+        containerVertex.setUniqueId(UniqueIdBuilder.buildResourceUniqueId());
+        containerVertex.setLabel(VertexTypeEnum.TOPOLOGY_TEMPLATE);
+        final GraphVertex propertiesVertex = new GraphVertex(VertexTypeEnum.PROPERTIES);
+        final Map<String, PropertyDataDefinition> properties = Collections.singletonMap("prop", new PropertyDataDefinition());
+        propertiesVertex.setJson(properties);
+        final Map<EdgeLabelEnum, GraphVertex> childVertices = new EnumMap<>(EdgeLabelEnum.class);
+        childVertices.put(EdgeLabelEnum.PROPERTIES, propertiesVertex);
+        childVertices.put(EdgeLabelEnum.INPUTS, null);
+        childVertices.put(EdgeLabelEnum.CAPABILITIES, null);
+        when(janusGraphDao.getChildVertices(containerVertex,
+            EnumSet.of(EdgeLabelEnum.PROPERTIES, EdgeLabelEnum.INPUTS, EdgeLabelEnum.CAPABILITIES), JsonParseFlagEnum.ParseJsonLazy))
+            .thenReturn(Either.left(childVertices));
+        final Either<ToscaElement, StorageOperationStatus> storageOperationStatus
+            = topologyTemplateOperation.getToscaElement(containerVertex, filter);
+        assertThat(storageOperationStatus.isLeft()).isTrue();
+        assertThat(((TopologyTemplate) storageOperationStatus.left().value()).getProperties()).isEqualTo(properties);
+        assertThat(containerVertex.getPrefetchedChildVertices()).isNull();
+        verify(janusGraphDao, never()).getChildVertex(any(GraphVertex.class), any(EdgeLabelEnum.class), any(JsonParseFlagEnum.class));
+    }
+
     @Test
     public void testUpdateDistributionStatus() {
         Either<GraphVertex, StorageOperationStatus> result;
@@ -217,7 +248,7 @@ public class TopologyTemplateOperationTest {
         int counter = 0;
         Either<GraphVertex, JanusGraphOperationStatus> toscaDataVertexRes = Either.right(
             JanusGraphOperationStatus.NOT_FOUND);
-        when(janusGraphDao.getChildVertex(componentV, EdgeLabelEnum.POLICIES, JsonParseFlagEnum.ParseJson)).thenReturn(toscaDataVertexRes);
+        when(janusGraphDao.getChildVertex(componentV, EdgeLabelEnum.POLICIES, JsonParseFlagEnum.ParseJsonLazy)).thenReturn(toscaDataVertexRes);
         Either<GraphVertex, JanusGraphOperationStatus> createVertex = Either.left(dataV);
         when(janusGraphDao.createVertex(any(GraphVertex.class))).thenReturn(createVertex);
         when(janusGraphDao.createEdge(any(JanusGraphVertex.class), any(JanusGraphVertex.class), any(EdgeLabelEnum.class), any(HashMap.class))).thenReturn(status);
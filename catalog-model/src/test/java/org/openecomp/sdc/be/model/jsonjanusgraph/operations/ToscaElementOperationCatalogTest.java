@@ -36,14 +36,19 @@ import org.openecomp.sdc.be.dao.janusgraph.JanusGraphDao;
 import org.openecomp.sdc.be.dao.jsongraph.types.EdgeLabelEnum;
 import org.openecomp.sdc.be.dao.jsongraph.types.JsonParseFlagEnum;
 import org.openecomp.sdc.be.dao.neo4j.GraphPropertiesDictionary;
+import org.openecomp.sdc.be.datatypes.enums.ResourceTypeEnum;
+import org.openecomp.sdc.be.model.cache.CatalogComponentIndex;
 import org.openecomp.sdc.be.model.catalog.CatalogComponent;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -120,4 +125,18 @@ public class ToscaElementOperationCatalogTest {
         assertEquals(UPDATER_ID, componentList.get(0).getLastUpdaterUserId());
     }
 
+    @Test
+    public void getComponentFromCatalogIndexFetchesGraphOnce() {
+        stubEmptyUpdater();
+        final String vertexJson = "{\"lifecycleState\":\"CERTIFIED\",\"componentType\":\"RESOURCE\",\"version\":\"1.0\",\"highestVersion\":true,\"name\":\"Cloud\",\"uniqueId\":\"9674e7e1-bc1a-41fe-b503-fbe996801475\",\"resourceType\":\"VFC\"}";
+        when(property.value()).thenReturn(vertexJson);
+        toscaOperation.setCatalogComponentIndex(new CatalogComponentIndex());
+        assertEquals(1, toscaOperation.getElementCatalogData(true, null).left().value().size());
+        String eTag = toscaOperation.getElementCatalogETag(true, null).left().value();
+        assertEquals(1, toscaOperation.getElementCatalogData(true, null).left().value().size());
+        assertTrue(toscaOperation.getElementCatalogData(true, Collections.singletonList(ResourceTypeEnum.VFC)).left().value().isEmpty());
+        assertEquals(eTag, toscaOperation.getElementCatalogETag(true, null).left().value());
+        verify(janusGraphDao, times(1)).getCatalogOrArchiveVerticies(true);
+    }
+
 }
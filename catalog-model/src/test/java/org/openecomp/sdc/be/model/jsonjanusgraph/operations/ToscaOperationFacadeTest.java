@@ -42,6 +42,7 @@ import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -182,6 +183,30 @@ public class ToscaOperationFacadeTest {
         assertEquals(true, notCriteria.get(GraphPropertyEnum.IS_DELETED));
     }
 
+    @Test
+    public void fetchMetaDataByResourceType_readsOnlyTheSelectedComponents() {
+        ComponentParametersView dataFilter = new ComponentParametersView();
+        List<GraphVertex> mockVertices = new ArrayList<>();
+        for (String uniqueId : new String[]{"0", "1", "2"}) {
+            GraphVertex vertex = getTopologyTemplateVertex();
+            vertex.setType(ComponentTypeEnum.RESOURCE);
+            vertex.setUniqueId(uniqueId);
+            vertex.setMetadataJson(new HashMap<>(Collections.singletonMap(JsonPresentationFields.UNIQUE_ID.getPresentation(), uniqueId)));
+            mockVertices.add(vertex);
+        }
+        when(janusGraphDaoMock.getByCriteria(eq(null), anyMap(), anyMap(), eq(JsonParseFlagEnum.ParseMetadata))).thenReturn(Either.left(mockVertices));
+        when(topologyTemplateOperationMock.getToscaElement(mockVertices.get(1), dataFilter)).thenReturn(Either.left(getResourceToscaElement("1")));
+
+        Either<List<Component>, StorageOperationStatus> fetchedComponents = testInstance.fetchMetaDataByResourceType(ResourceTypeEnum.VF.getValue(),
+            dataFilter, metadata -> metadata.stream().filter(component -> "1".equals(component.getUniqueId())).collect(Collectors.toList()));
+
+        assertTrue(fetchedComponents.isLeft());
+        assertEquals(1, fetchedComponents.left().value().size());
+        assertEquals("1", fetchedComponents.left().value().get(0).getUniqueId());
+        verify(topologyTemplateOperationMock, never()).getToscaElement(mockVertices.get(0), dataFilter);
+        verify(topologyTemplateOperationMock, never()).getToscaElement(mockVertices.get(2), dataFilter);
+    }
+
     @SuppressWarnings("unchecked")
     @Test
     public void fetchMetaDataByResourceType_failedToGetData() throws Exception {
@@ -0,0 +1,124 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.model.operations.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.openecomp.sdc.be.config.Configuration.ComponentLockConfig;
+import org.openecomp.sdc.be.datatypes.enums.NodeTypeEnum;
+import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
+import org.openecomp.sdc.be.model.operations.impl.lock.LocalComponentLockBackend;
+
+class GraphLockOperationTest {
+
+    @Test
+    void lockHeldByAnotherUserFailsAtOnceByDefault() {
+        GraphLockOperation lockOperation = new GraphLockOperation(new LocalComponentLockBackend(), new ComponentLockConfig());
+        assertEquals(StorageOperationStatus.OK, lockOperation.lockComponent("id", NodeTypeEnum.Resource));
+        assertEquals(StorageOperationStatus.FAILED_TO_LOCK_ELEMENT, lockOperation.lockComponent("id", NodeTypeEnum.Resource));
+        assertEquals(StorageOperationStatus.OK, lockOperation.lockComponent("id", NodeTypeEnum.Service));
+        assertEquals(1, lockOperation.getContendedCount());
+        assertEquals(0, lockOperation.getTimedOutCount());
+    }
+
+    @Test
+    void lockIsFreeOnceUnlocked() {
+        GraphLockOperation lockOperation = new GraphLockOperation(new LocalComponentLockBackend(), new ComponentLockConfig());
+        lockOperation.lockComponent("id", NodeTypeEnum.Resource);
+        assertEquals(StorageOperationStatus.OK, lockOperation.unlockComponent("id", NodeTypeEnum.Resource));
+        assertEquals(0, lockOperation.getHeldLockCount());
+        assertEquals(StorageOperationStatus.OK, lockOperation.lockComponent("id", NodeTypeEnum.Resource));
+        assertEquals(2, lockOperation.getAcquiredCount());
+    }
+
+    @Test
+    void cassandraBackendWithoutDaoFailsInit() {
+        ComponentLockConfig config = new ComponentLockConfig();
+        config.setBackend("CASSANDRA");
+        GraphLockOperation lockOperation = new GraphLockOperation(null, config);
+        assertThrows(IllegalStateException.class, lockOperation::init);
+    }
+
+    @Test
+    void unknownBackendFailsInit() {
+        ComponentLockConfig config = new ComponentLockConfig();
+        config.setBackend("ZOOKEEPER");
+        GraphLockOperation lockOperation = new GraphLockOperation(null, config);
+        assertThrows(IllegalStateException.class, lockOperation::init);
+    }
+
+    @Test
+    void unlockOfLockNotHeldLeavesItLocked() {
+        LocalComponentLockBackend backend = new LocalComponentLockBackend();
+        GraphLockOperation owner = new GraphLockOperation(backend, new ComponentLockConfig());
+        GraphLockOperation other = new GraphLockOperation(backend, new ComponentLockConfig());
+        owner.lockComponent("id", NodeTypeEnum.Resource);
+        assertEquals(StorageOperationStatus.NOT_FOUND, other.unlockComponent("id", NodeTypeEnum.Resource));
+        assertEquals(StorageOperationStatus.FAILED_TO_LOCK_ELEMENT, other.lockComponent("id", NodeTypeEnum.Resource));
+    }
+
+    @Test
+    void lockIsWaitedForUntilReleased() throws Exception {
+        ComponentLockConfig config = new ComponentLockConfig();
+        config.setMaxWaitMillis(10000);
+        config.setRetryIntervalMillis(10);
+        GraphLockOperation lockOperation = new GraphLockOperation(new LocalComponentLockBackend(), config);
+        lockOperation.lockComponent("id", NodeTypeEnum.Resource);
+        CompletableFuture<StorageOperationStatus> waiting = CompletableFuture
+            .supplyAsync(() -> lockOperation.lockComponent("id", NodeTypeEnum.Resource));
+        Thread.sleep(50);
+        lockOperation.unlockComponent("id", NodeTypeEnum.Resource);
+        assertEquals(StorageOperationStatus.OK, waiting.get(10, TimeUnit.SECONDS));
+        assertEquals(1, lockOperation.getContendedCount());
+        assertTrue(lockOperation.getMaxWaitMillis() > 0);
+    }
+
+    @Test
+    void lockNotReleasedInTimeFails() {
+        ComponentLockConfig config = new ComponentLockConfig();
+        config.setMaxWaitMillis(30);
+        config.setRetryIntervalMillis(10);
+        GraphLockOperation lockOperation = new GraphLockOperation(new LocalComponentLockBackend(), config);
+        lockOperation.lockComponent("id", NodeTypeEnum.Resource);
+        assertEquals(StorageOperationStatus.FAILED_TO_LOCK_ELEMENT, lockOperation.lockComponent("id", NodeTypeEnum.Resource));
+        assertEquals(1, lockOperation.getTimedOutCount());
+    }
+
+    @Test
+    void leaseTakenByAnotherUserIsReportedLost() {
+        LocalComponentLockBackend backend = new LocalComponentLockBackend();
+        ComponentLockConfig config = new ComponentLockConfig();
+        config.setLeaseSeconds(0);
+        GraphLockOperation owner = new GraphLockOperation(backend, config);
+        GraphLockOperation other = new GraphLockOperation(backend, config);
+        owner.lockComponent("id", NodeTypeEnum.Resource);
+        assertEquals(StorageOperationStatus.OK, other.lockComponent("id", NodeTypeEnum.Resource));
+        owner.renewLeases(60000);
+        assertEquals(1, owner.getLostLeaseCount());
+        assertEquals(0, owner.getHeldLockCount());
+        owner.destroy();
+        other.destroy();
+    }
+}
@@ -57,6 +57,7 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -160,6 +161,24 @@ public class UserAdminOperationTest extends ModelTestBase {
         assertThat(((TestEdge)pendingTasks.get(1)).getName()).isNotEqualTo("2");
     }
 
+    @Test
+    public void isRoleAndStatusCurrent_shouldDetectRevokedRole() {
+        String userKey = UniqueIdBuilder.getKeyByNodeType(NodeTypeEnum.User);
+        User user = userAdminOperation.convertToUser(mockJanusGraphGet(ADMIN, UserRoleEnum.ADMIN, true));
+        JanusGraphVertex userVertex = mock(JanusGraphVertex.class);
+        when(janusGraphGenericDao.getVertexByProperty(userKey, ADMIN)).thenReturn(Either.left(userVertex));
+        when(janusGraphGenericDao.getProperty(userVertex, GraphPropertiesDictionary.USER_STATUS.getProperty()))
+            .thenReturn(UserStatusEnum.ACTIVE.name());
+        when(janusGraphGenericDao.getProperty(userVertex, GraphPropertiesDictionary.ROLE.getProperty())).thenReturn(UserRoleEnum.ADMIN.getName());
+        assertTrue(userAdminOperation.isRoleAndStatusCurrent(user, false));
+
+        when(janusGraphGenericDao.getProperty(userVertex, GraphPropertiesDictionary.ROLE.getProperty())).thenReturn(UserRoleEnum.DESIGNER.getName());
+        assertFalse(userAdminOperation.isRoleAndStatusCurrent(user, false));
+
+        when(janusGraphGenericDao.getVertexByProperty(userKey, ADMIN)).thenReturn(Either.right(JanusGraphOperationStatus.NOT_FOUND));
+        assertFalse(userAdminOperation.isRoleAndStatusCurrent(user, false));
+    }
+
     private class TestVertex implements JanusGraphVertex {
 
         private final Boolean isDeleted;
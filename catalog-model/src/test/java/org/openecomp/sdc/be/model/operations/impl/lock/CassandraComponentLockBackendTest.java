@@ -0,0 +1,94 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.model.operations.impl.lock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import fj.data.Either;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openecomp.sdc.be.dao.cassandra.CassandraOperationStatus;
+import org.openecomp.sdc.be.dao.cassandra.ComponentLockCassandraDao;
+import org.openecomp.sdc.be.datatypes.enums.NodeTypeEnum;
+import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
+import org.openecomp.sdc.be.resources.data.ComponentLockData;
+
+@ExtendWith(MockitoExtension.class)
+class CassandraComponentLockBackendTest {
+
+    private static final String LOCK_ID = "resource_id";
+    @Mock
+    private ComponentLockCassandraDao dao;
+
+    @Test
+    void firstLeaseIsCreated() {
+        when(dao.create(any())).thenReturn(Either.left(true));
+        assertEquals(1L, new CassandraComponentLockBackend(dao).tryAcquire("id", NodeTypeEnum.Resource, "owner", 1000).left().value());
+        verify(dao, never()).get(any());
+    }
+
+    @Test
+    void validLeaseOfAnotherOwnerIsNotTaken() {
+        when(dao.create(any())).thenReturn(Either.left(false));
+        when(dao.get(LOCK_ID)).thenReturn(Either.left(new ComponentLockData(LOCK_ID, "other", 4, System.currentTimeMillis() + 60000)));
+        assertEquals(StorageOperationStatus.FAILED_TO_LOCK_ELEMENT,
+            new CassandraComponentLockBackend(dao).tryAcquire("id", NodeTypeEnum.Resource, "owner", 1000).right().value());
+        verify(dao, never()).update(any(), eq(4L));
+    }
+
+    @Test
+    void expiredLeaseIsTakenWithTheNextToken() {
+        when(dao.create(any())).thenReturn(Either.left(false));
+        when(dao.get(LOCK_ID)).thenReturn(Either.left(new ComponentLockData(LOCK_ID, "other", 4, System.currentTimeMillis() - 1)));
+        when(dao.update(argThat(lock -> lock.getToken() == 5 && "owner".equals(lock.getOwner())), eq(4L))).thenReturn(Either.left(true));
+        assertEquals(5L, new CassandraComponentLockBackend(dao).tryAcquire("id", NodeTypeEnum.Resource, "owner", 1000).left().value());
+    }
+
+    @Test
+    void expiredLeaseTakenByAnotherOwnerFirstIsNotTaken() {
+        when(dao.create(any())).thenReturn(Either.left(false));
+        when(dao.get(LOCK_ID)).thenReturn(Either.left(new ComponentLockData(LOCK_ID, null, 4, 0)));
+        when(dao.update(any(), eq(4L))).thenReturn(Either.left(false));
+        assertEquals(StorageOperationStatus.FAILED_TO_LOCK_ELEMENT,
+            new CassandraComponentLockBackend(dao).tryAcquire("id", NodeTypeEnum.Resource, "owner", 1000).right().value());
+    }
+
+    @Test
+    void releaseKeepsTheToken() {
+        when(dao.update(argThat(lock -> lock.getToken() == 4 && lock.getOwner() == null && lock.getExpiry() == 0), eq(4L)))
+            .thenReturn(Either.left(true));
+        assertEquals(StorageOperationStatus.OK, new CassandraComponentLockBackend(dao).release("id", NodeTypeEnum.Resource, 4L));
+    }
+
+    @Test
+    void connectionFailureIsReported() {
+        when(dao.create(any())).thenReturn(Either.right(CassandraOperationStatus.CLUSTER_NOT_CONNECTED));
+        assertEquals(StorageOperationStatus.CONNECTION_FAILURE,
+            new CassandraComponentLockBackend(dao).tryAcquire("id", NodeTypeEnum.Resource, "owner", 1000).right().value());
+    }
+}
@@ -80,6 +80,36 @@ public class Configuration extends BasicConfiguration {
     private Long janusGraphReconnectIntervalInSeconds;
     private List<String> healthStatusExclude;
     private Long janusGraphHealthCheckReadTimeout;
+    /**
+     * Codec (TEXT | DEFLATE) used to write the json property of graph vertices, by vertex label. Labels not listed are written as TEXT.
+     */
+    private Map<String, String> janusGraphVertexPayloadCodecs;
+    /**
+     * Vertex labels whose json property is written as one shard per top level entry, so that updating one entry does not rewrite the others.
+     */
+    private List<String> janusGraphShardedVertexLabels;
+    /**
+     * Whether copy on update of a data vertex shared by several versions writes only the entries that differ from the shared vertex, instead of a
+     * full copy of its json.
+     */
+    private boolean janusGraphDeltaDataVertices;
+    /**
+     * Age after which the in-memory catalog index is reloaded from the graph, bounding the staleness of changes made by other BE instances. Null
+     * or zero keeps the index until the BE restarts.
+     */
+    private Long catalogIndexMaxAgeInSeconds;
+    /**
+     * Cache of certified components and of the node type templates generated for them, shared by the tosca and csar exports. Null disables it.
+     */
+    private CertifiedComponentCacheConfig certifiedComponentCache;
+    /**
+     * Cache of the users resolved from the USER_ID header of the requests. Null disables it.
+     */
+    private UserCacheConfig userCache;
+    /**
+     * Lock service of the components being changed. Null keeps the lock vertices of the graph.
+     */
+    private ComponentLockConfig componentLock;
     private Long uebHealthCheckReconnectIntervalInSeconds;
     private Long uebHealthCheckReadTimeout;
     private List<Map<String, Map<String, String>>> defaultImports;
@@ -116,6 +146,7 @@ public class Configuration extends BasicConfiguration {
     private ApplicationL2CacheConfig applicationL2Cache;
     private ToscaValidatorsConfig toscaValidators;
     private boolean disableAudit;
+    private AuditAsyncConfig auditAsyncConfig;
     private Boolean consumerBusinessLogic;
     private Map<String, VfModuleProperty> vfModuleProperties;
     private Map<String, String> genericAssetNodeTypes;
@@ -244,6 +275,8 @@ public class Configuration extends BasicConfiguration {
         private String truststorePath;
         private String truststorePassword;
         private int maxWaitSeconds = 120;
+        // artifacts larger than a chunk are stored as chunks of this size
+        private int artifactChunkSizeInKB = 1024;
 
         public Integer getCassandraPort() {
             return cassandraPort != null ? cassandraPort : Configuration.CassandrConfig.CASSANDRA_DEFAULT_PORT;
@@ -260,6 +293,59 @@ public class Configuration extends BasicConfiguration {
         }
     }
 
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class AuditAsyncConfig {
+
+        // when disabled audit events are written to cassandra by the request thread
+        private boolean enabled;
+        private int queueCapacity = 10000;
+        // writes of single events sent to cassandra without waiting for the previous ones to complete
+        private int maxInFlightWrites = 32;
+        // DROP discards the events that do not fit in the queue, CALLER_RUNS writes them by the request thread
+        private String overflowPolicy = "CALLER_RUNS";
+        private long shutdownTimeoutMillis = 10000;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class CertifiedComponentCacheConfig {
+
+        private boolean enabled;
+        // weight of a component is the number of its instances, properties, inputs, capabilities, requirements, interfaces and artifacts
+        private long maxComponentWeight = 200000;
+        private long maxNodeTypeTemplateBytes = 67108864;
+        // bounds the staleness of components deleted or archived by other BE instances
+        private long maxAgeInSeconds = 3600;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class UserCacheConfig {
+
+        private boolean enabled;
+        private long maxSize = 10000;
+        // bounds the staleness of the user details changed by other BE instances, role and status are checked on every hit
+        private long maxAgeInSeconds = 60;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class ComponentLockConfig {
+
+        // GRAPH - lock vertices in the graph, CASSANDRA - leases shared by the BE instances, LOCAL - leases of a single BE instance
+        private String backend = "GRAPH";
+        // leases not renewed in time are free to be taken, the owner renews them until janusGraphLockTimeout
+        private long leaseSeconds = 60;
+        // time to wait for a lock held by another user before failing, 0 fails at once
+        private long maxWaitMillis = 0;
+        private long retryIntervalMillis = 100;
+    }
+
     @Getter
     @Setter
     @NoArgsConstructor
@@ -364,6 +450,10 @@ public class Configuration extends BasicConfiguration {
         private String userName;
         private String userPass;
         private String excludedUrls;
+        /**
+         * Only the first successful login of a user in every interval is audited, 0 audits all of them. Failed logins are always audited.
+         */
+        private long successAuditIntervalInSeconds;
     }
 
     @Getter
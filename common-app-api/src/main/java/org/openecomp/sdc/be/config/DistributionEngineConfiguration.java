@@ -392,6 +392,9 @@ public class DistributionEngineConfiguration extends BasicConfiguration {
         private Integer maxWaitingAfterSendingSeconds;
         private Integer maxThreadPoolSize;
         private Integer minThreadPoolSize;
+        private Integer publisherMaxBatchSize;
+        private Integer publisherMaxBatchAgeMs;
+        private Integer publisherIdleTimeoutSeconds;
 
         public Integer getMaxWaitingAfterSendingSeconds() {
             return maxWaitingAfterSendingSeconds;
@@ -417,10 +420,35 @@ public class DistributionEngineConfiguration extends BasicConfiguration {
             this.minThreadPoolSize = minThreadPoolSize;
         }
 
+        public Integer getPublisherMaxBatchSize() {
+            return publisherMaxBatchSize;
+        }
+
+        public void setPublisherMaxBatchSize(Integer publisherMaxBatchSize) {
+            this.publisherMaxBatchSize = publisherMaxBatchSize;
+        }
+
+        public Integer getPublisherMaxBatchAgeMs() {
+            return publisherMaxBatchAgeMs;
+        }
+
+        public void setPublisherMaxBatchAgeMs(Integer publisherMaxBatchAgeMs) {
+            this.publisherMaxBatchAgeMs = publisherMaxBatchAgeMs;
+        }
+
+        public Integer getPublisherIdleTimeoutSeconds() {
+            return publisherIdleTimeoutSeconds;
+        }
+
+        public void setPublisherIdleTimeoutSeconds(Integer publisherIdleTimeoutSeconds) {
+            this.publisherIdleTimeoutSeconds = publisherIdleTimeoutSeconds;
+        }
+
         @Override
         public String toString() {
             return "DistributionNotificationTopicConfig [maxWaitingAfterSendingSeconds=" + maxWaitingAfterSendingSeconds + ", maxThreadPoolSize="
-                + maxThreadPoolSize + ", minThreadPoolSize=" + minThreadPoolSize + "]";
+                + maxThreadPoolSize + ", minThreadPoolSize=" + minThreadPoolSize + ", publisherMaxBatchSize=" + publisherMaxBatchSize
+                + ", publisherMaxBatchAgeMs=" + publisherMaxBatchAgeMs + ", publisherIdleTimeoutSeconds=" + publisherIdleTimeoutSeconds + "]";
         }
     }
 
@@ -43,11 +43,15 @@ public final class Constants {
     public static final String CONTENT_LENGTH_HEADER = "Content-Length";
     public static final String CONTENT_DISPOSITION_HEADER = "Content-Disposition";
     public static final String CONTENT_TYPE_HEADER = "Content-Type";
+    public static final String RANGE_HEADER = "Range";
+    public static final String CONTENT_RANGE_HEADER = "Content-Range";
+    public static final String ACCEPT_RANGES_HEADER = "Accept-Ranges";
     public static final String ORIGIN_HEADER = "HTTP_IV_REMOTE_ADDRESS";
     public static final String ACCESS_HEADER = "HTTP_CSP_WSTYPE";
     public static final String X_ECOMP_REQUEST_ID_HEADER = "X-ECOMP-RequestID";
     public static final String X_ECOMP_INSTANCE_ID_HEADER = "X-ECOMP-InstanceID";
     public static final String X_ECOMP_SERVICE_ID_HEADER = "X-ECOMP-ServiceID";
+    public static final String X_ECOMP_NEXT_CURSOR_HEADER = "X-ECOMP-NextCursor";
     public static final String X_REQUEST_ID = "X-RequestID";
     public static final String X_TRANSACTION_ID_HEADER = "X-TransactionId";
     public static final String X_FROM_APP_ID = "X-FromAppId";
@@ -136,7 +140,9 @@ public final class Constants {
     public static final String HC_COMPONENT_CADI = "External API";
     public static final String HC_COMPONENT_JANUSGRAPH = "JANUSGRAPH";
     public static final String HC_COMPONENT_CASSANDRA = "CASSANDRA";
+    public static final String HC_COMPONENT_AUDIT_WRITER = "AUDIT_WRITER";
     public static final String HC_COMPONENT_DISTRIBUTION_ENGINE = "DE";
+    public static final String HC_COMPONENT_DISTRIBUTION_NOTIFICATIONS = "DE_NOTIFICATIONS";
     public static final String HC_COMPONENT_DMAAP_ENGINE = "DMAAP";
     public static final String HC_COMPONENT_DMAAP_PRODUCER = "DMAAP_PRODUCER";
     public static final String HC_COMPONENT_CATALOG_FACADE_MS = "CATALOG_FACADE_MS";
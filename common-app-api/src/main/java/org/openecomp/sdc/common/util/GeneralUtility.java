@@ -21,6 +21,7 @@ package org.openecomp.sdc.common.util;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -141,6 +142,15 @@ public class GeneralUtility {
         return new String(encodeMd5);
     }
 
+    /**
+     * Same as {@link #calculateMD5Base64EncodedByByteArray(byte[])} for a payload read from a stream, which is consumed but not closed
+     */
+    public static String calculateMD5Base64EncodedByInputStream(InputStream payload) throws IOException {
+        String decodedMd5 = org.apache.commons.codec.digest.DigestUtils.md5Hex(payload);
+        byte[] encodeMd5 = Base64.encodeBase64(decodedMd5.getBytes());
+        return new String(encodeMd5);
+    }
+
     /**
      * @param data
      * @return
@@ -26,12 +26,14 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
@@ -176,6 +178,41 @@ public class ZipUtils {
         return filePathAndByteMap;
     }
 
+    /**
+     * Reads a zip file giving each entry to the consumer as it is read, so the content of the zip is never held as a whole in memory. Files are
+     * given with a stream of their content, which is valid only during the consumer call and must not be closed by it. Directories are given with
+     * a {@code null} stream, following the same rules as {@link #readZip(byte[], boolean)}.
+     *
+     * @param zipFileBytes            the zip file byte array to read
+     * @param hasToIncludeDirectories includes or not the directories found during the zip reading.
+     * @param entryConsumer           the consumer of the file path and its content
+     * @throws ZipException when there was a problem during the reading process
+     */
+    public static void readZip(final byte[] zipFileBytes, final boolean hasToIncludeDirectories,
+                               final BiConsumer<String, InputStream> entryConsumer) throws ZipException {
+        try (final ZipInputStream inputZipStream = ZipUtils.getInputStreamFromBytes(zipFileBytes)) {
+            ZipEntry zipEntry;
+            while ((zipEntry = inputZipStream.getNextEntry()) != null) {
+                checkForZipSlipInRead(zipEntry);
+                if (zipEntry.isDirectory()) {
+                    if (hasToIncludeDirectories) {
+                        entryConsumer.accept(normalizeFolder(zipEntry.getName()), null);
+                    }
+                    continue;
+                }
+                if (hasToIncludeDirectories) {
+                    final Path parentFolderPath = Paths.get(zipEntry.getName()).getParent();
+                    if (parentFolderPath != null) {
+                        entryConsumer.accept(normalizeFolder(parentFolderPath.toString()), null);
+                    }
+                }
+                entryConsumer.accept(zipEntry.getName(), inputZipStream);
+            }
+        } catch (final IOException e) {
+            throw new ZipException("Could not read the zip file", e);
+        }
+    }
+
     private static Map<String, byte[]> processZipEntryInRead(final ZipEntry zipEntry, final byte[] inputStreamBytes,
                                                              final boolean hasToIncludeDirectories) throws ZipException {
         final Map<String, byte[]> filePathAndByteMap = new HashMap<>();
@@ -0,0 +1,184 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onap.config.impl;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import org.onap.config.ConfigurationUtils;
+import org.onap.config.api.Config;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The fields of a class decorated with {@link Config}, with their keys and the way their values are read, looked up once per class.
+ */
+final class ConfigTypeBinding<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConfigTypeBinding.class);
+    private static final ClassValue<ConfigTypeBinding<?>> BINDINGS = new ClassValue<>() {
+        @Override
+        protected ConfigTypeBinding<?> computeValue(Class<?> type) {
+            return type.isAnnotationPresent(Config.class) ? new ConfigTypeBinding<>(type) : null;
+        }
+    };
+    private final String key;
+    private final Constructor<T> constructor;
+    private final List<FieldBinding> fields;
+    private final NoSuchMethodException constructorError;
+
+    private ConfigTypeBinding(Class<T> clazz) {
+        key = clazz.getAnnotation(Config.class).key();
+        Constructor<T> noArgsConstructor = null;
+        NoSuchMethodException error = null;
+        try {
+            noArgsConstructor = clazz.getDeclaredConstructor();
+            noArgsConstructor.setAccessible(true);
+        } catch (NoSuchMethodException e) {
+            error = e;
+        }
+        constructor = noArgsConstructor;
+        constructorError = error;
+        List<FieldBinding> fieldBindings = new ArrayList<>();
+        for (Field field : clazz.getDeclaredFields()) {
+            Config fieldConfAnnotation = field.getAnnotation(Config.class);
+            if (fieldConfAnnotation != null) {
+                field.setAccessible(true);
+                fieldBindings.add(new FieldBinding(field, fieldConfAnnotation.key()));
+            }
+        }
+        fields = Collections.unmodifiableList(fieldBindings);
+    }
+
+    /**
+     * @return the binding of a class decorated with {@link Config}, null for any other class
+     */
+    @SuppressWarnings("unchecked")
+    static <T> ConfigTypeBinding<T> of(Class<T> clazz) {
+        return (ConfigTypeBinding<T>) BINDINGS.get(clazz);
+    }
+
+    String getKey() {
+        return key;
+    }
+
+    List<FieldBinding> getFields() {
+        return fields;
+    }
+
+    T newInstance() throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
+        if (constructor == null) {
+            throw constructorError;
+        }
+        return constructor.newInstance();
+    }
+
+    enum FieldKind {
+        VALUE, COLLECTION, MAP, UNSUPPORTED
+    }
+
+    static final class FieldBinding {
+
+        private final Field field;
+        private final String key;
+        private final FieldKind kind;
+        // for collection fields, the array type the values are read as and the constructor of the collection
+        private final Class<?> arrayType;
+        private final Constructor<?> collectionConstructor;
+        private final boolean sizedCollectionConstructor;
+
+        private FieldBinding(Field field, String key) {
+            this.field = field;
+            this.key = key;
+            Class<?> fieldType = field.getType();
+            Class<?> valuesArrayType = null;
+            Constructor<?> constructor = null;
+            boolean sized = false;
+            if (ConfigurationUtils.isAPrimitiveOrWrapper(fieldType) || ConfigurationUtils.isAPrimitivesOrWrappersArray(fieldType)) {
+                kind = FieldKind.VALUE;
+            } else if (ConfigurationUtils.isACollection(fieldType)) {
+                kind = FieldKind.COLLECTION;
+                valuesArrayType = ConfigurationUtils.getArrayClass(ConfigurationUtils.getCollectionGenericType(field));
+                Class<?> clazzToInstantiate = getCollectionClassToInstantiate(fieldType);
+                constructor = getConstructorWithArguments(clazzToInstantiate, Collection.class);
+                if (constructor == null) {
+                    constructor = getConstructorWithArguments(clazzToInstantiate, Integer.class, Boolean.class, Collection.class);
+                    sized = constructor != null;
+                }
+                if (constructor != null) {
+                    constructor.setAccessible(true);
+                }
+            } else if (ConfigurationUtils.isAMap(fieldType)) {
+                kind = FieldKind.MAP;
+            } else {
+                kind = FieldKind.UNSUPPORTED;
+            }
+            arrayType = valuesArrayType;
+            collectionConstructor = constructor;
+            sizedCollectionConstructor = sized;
+        }
+
+        Field getField() {
+            return field;
+        }
+
+        String getKey() {
+            return key;
+        }
+
+        FieldKind getKind() {
+            return kind;
+        }
+
+        Class<?> getArrayType() {
+            return arrayType;
+        }
+
+        /**
+         * @return a new collection of the field type holding the values, or null if the field type can not be instantiated
+         */
+        Object newCollection(List<Object> values) throws IllegalAccessException, InvocationTargetException, InstantiationException {
+            if (collectionConstructor == null) {
+                return null;
+            }
+            return sizedCollectionConstructor ? collectionConstructor.newInstance(values.size(), true, values)
+                : collectionConstructor.newInstance(values);
+        }
+
+        private static Class<?> getCollectionClassToInstantiate(Class<?> fieldType) {
+            if (fieldType.isInterface()) {
+                return ConfigurationUtils.getConcreteCollection(fieldType).getClass();
+            } else if (Modifier.isAbstract(fieldType.getModifiers())) {
+                return ConfigurationUtils.getCompatibleCollectionForAbstractDef(fieldType).getClass();
+            }
+            return fieldType;
+        }
+
+        private static Constructor<?> getConstructorWithArguments(Class<?> clazz, Class<?>... classes) {
+            try {
+                return clazz.getDeclaredConstructor(classes);
+            } catch (Exception exception) {
+                LOGGER.warn("Failed to get {} constructor.", clazz.getSimpleName(), exception);
+                return null;
+            }
+        }
+    }
+}
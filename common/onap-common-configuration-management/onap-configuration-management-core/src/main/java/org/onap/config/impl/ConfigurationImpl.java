@@ -18,10 +18,8 @@ package org.onap.config.impl;
 import static org.onap.config.ConfigurationUtils.isBlank;
 
 import java.io.File;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
+import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Modifier;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -39,8 +37,9 @@ import org.apache.commons.configuration2.ex.ConfigurationException;
 import org.onap.config.ConfigurationUtils;
 import org.onap.config.Constants;
 import org.onap.config.NonConfigResource;
-import org.onap.config.api.Config;
 import org.onap.config.api.Hint;
+import org.onap.config.impl.ConfigTypeBinding.FieldBinding;
+import org.onap.config.impl.ConfigurationSnapshot.LookupKey;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -50,8 +49,13 @@ public class ConfigurationImpl implements org.onap.config.api.Configuration {
     private static final String KEY_CANNOT_BE_NULL = "Key can't be null.";
     private static final NonConfigResource NON_CONFIG_RESOURCE = new NonConfigResource();
     private static final Map<String, AggregateConfiguration> MODULE_CONFIG_STORE = new HashMap<>();
+    private static final int DEFAULT_PROCESSING_HINTS = Hint.DEFAULT.value() | Hint.EXTERNAL_LOOKUP.value() | Hint.NODE_SPECIFIC.value();
+    private static final AtomicReference<ConfigurationSnapshot> SNAPSHOT = new AtomicReference<>(new ConfigurationSnapshot());
+    // set when a value is read from an external file, whose content may change without the repository knowing, so it is not kept
+    private static final ThreadLocal<boolean[]> EXTERNAL_CONTENT_READ = ThreadLocal.withInitial(() -> new boolean[1]);
 
     static {
+        ConfigurationRepository.lookup().addConfigurationChangeListener(key -> SNAPSHOT.set(new ConfigurationSnapshot()));
         if (!loadClassPathConfigurationsAndResources() || !loadAdditionalConfigurationsAndResources() || !loadTenantConfigurations()) {
             throw new IllegalStateException("Failed to initialize configuration");
         }
@@ -194,8 +198,63 @@ public class ConfigurationImpl implements org.onap.config.api.Configuration {
         return tenant.toUpperCase();
     }
 
+    private static int getProcessingHints(Hint... hints) {
+        if (hints == null || hints.length == 0) {
+            return DEFAULT_PROCESSING_HINTS;
+        }
+        int processingHints = Hint.DEFAULT.value();
+        for (Hint hint : hints) {
+            processingHints = processingHints | hint.value();
+        }
+        return processingHints;
+    }
+
+    /**
+     * Values are resolved once per content of the configuration repository and then read from a snapshot, except for the latest lookups and the
+     * classes decorated with {@link org.onap.config.api.Config}, which are instantiated on each call from the resolved values of their fields.
+     */
     @Override
     public <T> T get(String tenant, String namespace, String key, Class<T> clazz, Hint... hints) {
+        int processingHints = getProcessingHints(hints);
+        if (clazz == null || ConfigurationUtils.isDirectLookup(processingHints) || ConfigTypeBinding.of(clazz) != null) {
+            return resolve(tenant, namespace, key, clazz, hints);
+        }
+        ConfigurationSnapshot snapshot = SNAPSHOT.get();
+        LookupKey lookupKey = new LookupKey(tenant, namespace, key, clazz, processingHints);
+        Object value = snapshot.get(lookupKey);
+        if (value == null) {
+            boolean[] externalContentRead = EXTERNAL_CONTENT_READ.get();
+            boolean outerExternalContentRead = externalContentRead[0];
+            externalContentRead[0] = false;
+            try {
+                T resolved = resolve(tenant, namespace, key, clazz, hints);
+                if (!externalContentRead[0]) {
+                    snapshot.put(lookupKey, resolved);
+                }
+                value = resolved == null ? ConfigurationSnapshot.NULL_VALUE : resolved;
+            } finally {
+                externalContentRead[0] = externalContentRead[0] || outerExternalContentRead;
+            }
+        }
+        return value == ConfigurationSnapshot.NULL_VALUE ? null : (T) copyIfArray(value);
+    }
+
+    public static int getSnapshotSize() {
+        return SNAPSHOT.get().size();
+    }
+
+    // arrays are mutable, so each caller gets its own copy of a kept one
+    private static Object copyIfArray(Object value) {
+        if (!value.getClass().isArray()) {
+            return value;
+        }
+        int length = Array.getLength(value);
+        Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+        System.arraycopy(value, 0, copy, 0, length);
+        return copy;
+    }
+
+    private <T> T resolve(String tenant, String namespace, String key, Class<T> clazz, Hint... hints) {
         String[] tenantNamespaceArray;
         if (tenant == null && namespace != null) {
             tenantNamespaceArray = namespace.split(Constants.TENANT_NAMESPACE_SEPARATOR);
@@ -300,7 +359,7 @@ public class ConfigurationImpl implements org.onap.config.api.Configuration {
         }
         tenant = calculateTenant(tenant);
         namespace = calculateNamespace(namespace);
-        if (isBlank(key) && !clazz.isAnnotationPresent(Config.class)) {
+        if (isBlank(key) && ConfigTypeBinding.of(clazz) == null) {
             throw new IllegalArgumentException(KEY_CANNOT_BE_NULL);
         }
         if (clazz == null) {
@@ -314,7 +373,7 @@ public class ConfigurationImpl implements org.onap.config.api.Configuration {
                 return getWrapperTypeValue(tenant, namespace, key, clazz, processingHints);
             } else if (ConfigurationUtils.isAPrimitivesOrWrappersArray(clazz)) {
                 return getArrayTypeValue(tenant, namespace, key, clazz, processingHints);
-            } else if (clazz.isAnnotationPresent(Config.class)) {
+            } else if (ConfigTypeBinding.of(clazz) != null) {
                 return getAnnotatedTypeValue(tenant, namespace, clazz, isBlank(key) ? "" : (key + "."), hints);
             } else {
                 throw new IllegalArgumentException("Only primitive classes, wrapper classes, corresponding array classes and any "
@@ -366,82 +425,49 @@ public class ConfigurationImpl implements org.onap.config.api.Configuration {
 
     private <T> T getAnnotatedTypeValue(String tenant, String namespace, Class<T> clazz, String keyPrefix, Hint... hints)
         throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
-        Config confAnnotation = clazz.getAnnotation(Config.class);
-        if (confAnnotation != null && confAnnotation.key().length() > 0 && !keyPrefix.endsWith(".")) {
-            keyPrefix += (confAnnotation.key() + ".");
-        }
-        Constructor<T> constructor = clazz.getDeclaredConstructor();
-        constructor.setAccessible(true);
-        T objToReturn = constructor.newInstance();
-        for (Field field : clazz.getDeclaredFields()) {
-            field.setAccessible(true);
-            Config fieldConfAnnotation = field.getAnnotation(Config.class);
-            Class<?> fieldType = field.getType();
-            if (fieldConfAnnotation == null) {
-                continue;
-            }
-            if (ConfigurationUtils.isAPrimitiveOrWrapper(fieldType) || ConfigurationUtils.isAPrimitivesOrWrappersArray(fieldType)) {
-                setPrimitiveField(field, objToReturn, tenant, namespace, keyPrefix, hints);
-            }
-            if (ConfigurationUtils.isACollection(fieldType)) {
-                setCollectionField(field, objToReturn, tenant, namespace, keyPrefix, hints);
-            }
-            if (ConfigurationUtils.isAMap(fieldType)) {
-                setMapField(field, objToReturn, tenant, namespace, keyPrefix);
+        ConfigTypeBinding<T> binding = ConfigTypeBinding.of(clazz);
+        if (binding.getKey().length() > 0 && !keyPrefix.endsWith(".")) {
+            keyPrefix += (binding.getKey() + ".");
+        }
+        T objToReturn = binding.newInstance();
+        for (FieldBinding fieldBinding : binding.getFields()) {
+            switch (fieldBinding.getKind()) {
+                case VALUE:
+                    setPrimitiveField(fieldBinding, objToReturn, tenant, namespace, keyPrefix, hints);
+                    break;
+                case COLLECTION:
+                    setCollectionField(fieldBinding, objToReturn, tenant, namespace, keyPrefix, hints);
+                    break;
+                case MAP:
+                    setMapField(fieldBinding, objToReturn, tenant, namespace, keyPrefix);
+                    break;
+                default:
+                    break;
             }
         }
         return objToReturn;
     }
 
-    private void setPrimitiveField(Field field, Object objToReturn, String tenant, String namespace, String keyPrefix, Hint[] hints)
+    private void setPrimitiveField(FieldBinding fieldBinding, Object objToReturn, String tenant, String namespace, String keyPrefix, Hint[] hints)
         throws IllegalAccessException {
-        String fieldConfAnnotationKey = field.getAnnotation(Config.class).key();
-        Class<?> fieldType = field.getType();
-        field.set(objToReturn, get(tenant, namespace, keyPrefix + fieldConfAnnotationKey, fieldType, hints));
+        fieldBinding.getField()
+            .set(objToReturn, get(tenant, namespace, keyPrefix + fieldBinding.getKey(), fieldBinding.getField().getType(), hints));
     }
 
-    private void setMapField(Field field, Object objToReturn, String tenant, String namespace, String keyPrefix) throws IllegalAccessException {
-        String fieldConfAnnotationKey = field.getAnnotation(Config.class).key();
-        field.set(objToReturn, generateMap(tenant, namespace, keyPrefix + fieldConfAnnotationKey));
+    private void setMapField(FieldBinding fieldBinding, Object objToReturn, String tenant, String namespace, String keyPrefix)
+        throws IllegalAccessException {
+        fieldBinding.getField().set(objToReturn, generateMap(tenant, namespace, keyPrefix + fieldBinding.getKey()));
     }
 
-    private void setCollectionField(Field field, Object objToReturn, String tenant, String namespace, String keyPrefix, Hint[] hints)
-        throws IllegalAccessException, InvocationTargetException, InstantiationException {
-        String fieldConfAnnotationKey = field.getAnnotation(Config.class).key();
-        Class<?> fieldType = field.getType();
-        Object obj = get(tenant, namespace, keyPrefix + fieldConfAnnotationKey,
-            ConfigurationUtils.getArrayClass(ConfigurationUtils.getCollectionGenericType(field)), hints);
+    private void setCollectionField(FieldBinding fieldBinding, Object objToReturn, String tenant, String namespace, String keyPrefix,
+                                    Hint[] hints) throws IllegalAccessException, InvocationTargetException, InstantiationException {
+        Object obj = get(tenant, namespace, keyPrefix + fieldBinding.getKey(), fieldBinding.getArrayType(), hints);
         if (obj == null) {
             return;
         }
-        List<Object> list = Arrays.asList((Object[]) obj);
-        Class clazzToInstantiate;
-        if (fieldType.isInterface()) {
-            clazzToInstantiate = ConfigurationUtils.getConcreteCollection(fieldType).getClass();
-        } else if (Modifier.isAbstract(fieldType.getModifiers())) {
-            clazzToInstantiate = ConfigurationUtils.getCompatibleCollectionForAbstractDef(fieldType).getClass();
-        } else {
-            clazzToInstantiate = fieldType;
-        }
-        Constructor construct = getConstructorWithArguments(clazzToInstantiate, Collection.class);
-        if (construct != null) {
-            construct.setAccessible(true);
-            field.set(objToReturn, construct.newInstance(list));
-        } else {
-            construct = getConstructorWithArguments(clazzToInstantiate, Integer.class, Boolean.class, Collection.class);
-            if (construct != null) {
-                construct.setAccessible(true);
-                field.set(objToReturn, construct.newInstance(list.size(), true, list));
-            }
-        }
-    }
-
-    private Constructor getConstructorWithArguments(Class<?> clazz, Class<?>... classes) {
-        try {
-            return clazz.getDeclaredConstructor(classes);
-        } catch (Exception exception) {
-            LOGGER.warn("Failed to get {} constructor.", clazz.getSimpleName(), exception);
-            return null;
+        Object collection = fieldBinding.newCollection(Arrays.asList((Object[]) obj));
+        if (collection != null) {
+            fieldBinding.getField().set(objToReturn, collection);
         }
     }
 
@@ -497,6 +523,7 @@ public class ConfigurationImpl implements org.onap.config.api.Configuration {
             if (contents != null) {
                 obj = contents;
             }
+            EXTERNAL_CONTENT_READ.get()[0] = true;
         }
         return (T) obj.toString();
     }
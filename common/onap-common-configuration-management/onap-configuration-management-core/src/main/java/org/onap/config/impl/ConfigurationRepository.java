@@ -22,8 +22,10 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.apache.commons.configuration2.CombinedConfiguration;
 import org.apache.commons.configuration2.CompositeConfiguration;
 import org.apache.commons.configuration2.Configuration;
@@ -41,6 +43,7 @@ public final class ConfigurationRepository {
     private static final ConfigurationRepository REPO = new ConfigurationRepository();
     private final Set<String> tenants = Collections.synchronizedSet(new HashSet<>());
     private final Set<String> namespaces = Collections.synchronizedSet(new HashSet<>());
+    private final List<ConfigurationChangeListener> changeListeners = new CopyOnWriteArrayList<>();
     private final Map<String, ConfigurationHolder> store = Collections
         .synchronizedMap(new LinkedHashMap<String, ConfigurationHolder>(16, 0.75f, true) {
             @Override
@@ -88,6 +91,25 @@ public final class ConfigurationRepository {
     public void populateConfiguration(String key, Configuration builder) {
         store.put(key, new ConfigurationHolder(builder));
         populateTenantsNamespace(key);
+        notifyConfigurationChange(key);
+    }
+
+    public void addConfigurationChangeListener(ConfigurationChangeListener listener) {
+        changeListeners.add(listener);
+    }
+
+    public void removeConfigurationChangeListener(ConfigurationChangeListener listener) {
+        changeListeners.remove(listener);
+    }
+
+    private void notifyConfigurationChange(String key) {
+        for (ConfigurationChangeListener listener : changeListeners) {
+            try {
+                listener.configurationChanged(key);
+            } catch (RuntimeException exception) {
+                logger.error("Configuration change listener failed for {}", key, exception);
+            }
+        }
     }
 
     private void populateTenantsNamespace(String key) {
@@ -106,6 +128,19 @@ public final class ConfigurationRepository {
         }
         holder.addOverrideConfiguration(file.getAbsolutePath(), ConfigurationUtils.getConfigurationBuilder(file));
         populateTenantsNamespace(key);
+        notifyConfigurationChange(key);
+    }
+
+    /**
+     * Notified after the configuration of a tenant and namespace was added or overridden.
+     */
+    @FunctionalInterface
+    public interface ConfigurationChangeListener {
+
+        /**
+         * @param key the repository key of the configuration, made of its tenant and namespace
+         */
+        void configurationChanged(String key);
     }
 
     private class ConfigurationHolder {
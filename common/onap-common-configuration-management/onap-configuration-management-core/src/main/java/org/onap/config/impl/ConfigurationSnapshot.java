@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onap.config.impl;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Values resolved from the configuration repository, converted to the type they were requested as. A snapshot is replaced by a new, empty one
+ * whenever the repository changes, so each lookup is resolved once per repository content and then served by a single map read.
+ */
+final class ConfigurationSnapshot {
+
+    static final Object NULL_VALUE = new Object();
+    private final Map<LookupKey, Object> values = new ConcurrentHashMap<>();
+
+    /**
+     * @return the resolved value, {@link #NULL_VALUE} if it resolved to null, or null if it was not resolved yet
+     */
+    Object get(LookupKey key) {
+        return values.get(key);
+    }
+
+    void put(LookupKey key, Object value) {
+        values.put(key, value == null ? NULL_VALUE : value);
+    }
+
+    int size() {
+        return values.size();
+    }
+
+    /**
+     * Arguments of a lookup, as given by the caller, so neither the tenant and namespace nor the hints are normalized on a hit.
+     */
+    static final class LookupKey {
+
+        private final String tenant;
+        private final String namespace;
+        private final String key;
+        private final Class<?> clazz;
+        private final int processingHints;
+        private final int hash;
+
+        LookupKey(String tenant, String namespace, String key, Class<?> clazz, int processingHints) {
+            this.tenant = tenant;
+            this.namespace = namespace;
+            this.key = key;
+            this.clazz = clazz;
+            this.processingHints = processingHints;
+            this.hash = Objects.hash(tenant, namespace, key, clazz, processingHints);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof LookupKey)) {
+                return false;
+            }
+            LookupKey other = (LookupKey) o;
+            return processingHints == other.processingHints && clazz == other.clazz && Objects.equals(key, other.key) && Objects
+                .equals(namespace, other.namespace) && Objects.equals(tenant, other.tenant);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onap.config.impl;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.apache.commons.configuration2.BaseConfiguration;
+import org.junit.Before;
+import org.junit.Test;
+import org.onap.config.Constants;
+
+public class ConfigurationImplTest {
+
+    private static final String NAMESPACE = "SNAPSHOTNS";
+    private static final String VALUE_KEY = "snapshot.value";
+    private static final String VALUES_KEY = "snapshot.values";
+
+    private ConfigurationImpl configuration;
+
+    @Before
+    public void setUp() {
+        configuration = new ConfigurationImpl();
+        populate("10");
+    }
+
+    @Test
+    public void testValueIsKeptUntilConfigurationChanges() {
+        assertEquals(Integer.valueOf(10), configuration.get(null, NAMESPACE, VALUE_KEY, Integer.class));
+        int size = ConfigurationImpl.getSnapshotSize();
+        assertEquals(Integer.valueOf(10), configuration.get(null, NAMESPACE, VALUE_KEY, Integer.class));
+        assertEquals(size, ConfigurationImpl.getSnapshotSize());
+        assertEquals("10", configuration.getAsString(NAMESPACE, VALUE_KEY));
+        assertTrue(ConfigurationImpl.getSnapshotSize() > size);
+
+        populate("20");
+        assertEquals(Integer.valueOf(20), configuration.get(null, NAMESPACE, VALUE_KEY, Integer.class));
+    }
+
+    @Test
+    public void testMissingValueIsKept() {
+        assertNull(configuration.get(null, NAMESPACE, "snapshot.missing", String.class));
+        int size = ConfigurationImpl.getSnapshotSize();
+        assertNull(configuration.get(null, NAMESPACE, "snapshot.missing", String.class));
+        assertEquals(size, ConfigurationImpl.getSnapshotSize());
+    }
+
+    @Test
+    public void testKeptArrayIsCopiedForEachCaller() {
+        String[] values = configuration.get(null, NAMESPACE, VALUES_KEY, String[].class);
+        assertArrayEquals(new String[]{"a", "b"}, values);
+        values[0] = "changed";
+        assertArrayEquals(new String[]{"a", "b"}, configuration.get(null, NAMESPACE, VALUES_KEY, String[].class));
+    }
+
+    private static void populate(String value) {
+        BaseConfiguration config = new BaseConfiguration();
+        config.setProperty(VALUE_KEY, value);
+        config.setProperty(VALUES_KEY, "a,b");
+        ConfigurationRepository.lookup().populateConfiguration(Constants.DEFAULT_TENANT + Constants.KEY_ELEMENTS_DELIMITER + NAMESPACE, config);
+    }
+}
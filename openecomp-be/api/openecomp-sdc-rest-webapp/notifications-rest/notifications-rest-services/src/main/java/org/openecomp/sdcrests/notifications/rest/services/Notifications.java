@@ -32,16 +32,21 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.tags.Tags;
 import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
 import java.util.UUID;
 import javax.validation.constraints.NotNull;
 import javax.ws.rs.Consumes;
+import javax.ws.rs.DELETE;
 import javax.ws.rs.GET;
 import javax.ws.rs.HeaderParam;
+import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import org.openecomp.sdcrests.notifications.types.NotificationsStatusDto;
@@ -57,6 +62,8 @@ public interface Notifications {
 
     String LIMIT_QUERY_PARAM = "NOTIFICATION_ROWS_LIMIT";
     String END_OF_PAGE_QUERY_PARAM = "END_OF_PAGE_EVENT_ID";
+    String WAIT_QUERY_PARAM = "WAIT_MSEC";
+    String POLL_ID_QUERY_PARAM = "POLL_ID";
 
     @GET
     @Operation(description = "Retrieve all user notifications", responses = @ApiResponse(content = @Content(array = @ArraySchema(schema = @Schema(implementation = NotificationsStatusDto.class)))))
@@ -82,4 +89,17 @@ public interface Notifications {
     @Operation(description = "Retrive user not delivered notifications", responses = @ApiResponse(content = @Content(array = @ArraySchema(schema = @Schema(implementation = NotificationsStatusDto.class)))))
     Response getNewNotificationsByOwnerId(@NotNull(message = USER_MISSING_ERROR_MSG) @HeaderParam(USER_ID_HEADER_PARAM) String user,
                                           @QueryParam(LAST_DELIVERED_QUERY_PARAM) String eventId, @QueryParam(LIMIT_QUERY_PARAM) String limit);
+
+    @POST
+    @Path("/worker")
+    @Operation(description = "Retrieve not delivered notifications of several users, waiting for new ones when there are none", responses = @ApiResponse(content = @Content(schema = @Schema(implementation = Map.class))))
+    void getNewNotificationsByOwnerIds(@Parameter(description = "Last delivered event id of each user") Map<String, UUID> lastDelivered,
+                                       @QueryParam(LIMIT_QUERY_PARAM) String limit, @QueryParam(WAIT_QUERY_PARAM) String waitMsec,
+                                       @Parameter(description = "Id by which the wait can be cancelled") @QueryParam(POLL_ID_QUERY_PARAM) String pollId,
+                                       @Suspended AsyncResponse asyncResponse);
+
+    @DELETE
+    @Path("/worker/{pollId}")
+    @Operation(description = "Cancel a pending wait for not delivered notifications")
+    Response cancelNewNotificationsWait(@Parameter(description = "Id given to the wait") @PathParam("pollId") String pollId);
 }
@@ -20,10 +20,14 @@
 package org.openecomp.sdcrests.notifications.rest.services.impl;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import javax.inject.Named;
+import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.core.Response;
 import org.openecomp.sdc.common.errors.Messages;
 import org.openecomp.sdc.datatypes.error.ErrorLevel;
@@ -33,7 +37,9 @@ import org.openecomp.sdc.logging.api.LoggerFactory;
 import org.openecomp.sdc.notification.dao.types.NotificationEntity;
 import org.openecomp.sdc.notification.dtos.NotificationsStatus;
 import org.openecomp.sdc.notification.exceptons.NotificationNotExistException;
+import org.openecomp.sdc.notification.factories.NotificationEventBusFactory;
 import org.openecomp.sdc.notification.factories.NotificationsServiceFactory;
+import org.openecomp.sdc.notification.services.NotificationEventBus;
 import org.openecomp.sdc.notification.services.NotificationsService;
 import org.openecomp.sdcrests.notifications.rest.mapping.MapNotificationsStatusToDto;
 import org.openecomp.sdcrests.notifications.rest.mapping.MapNotificationsToDto;
@@ -54,7 +60,9 @@ public class NotificationsImpl implements Notifications {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(NotificationsImpl.class);
     private static int selectionLimit = 10;
+    private static final long MAX_WAIT_MSEC = 60000;
     private NotificationsService notificationsService = NotificationsServiceFactory.getInstance().createInterface();
+    private NotificationEventBus notificationEventBus = NotificationEventBusFactory.getInstance().createInterface();
 
     @Override
     public Response getNotifications(String user, UUID lastDelivered, UUID endOfPage) {
@@ -93,6 +101,48 @@ public class NotificationsImpl implements Notifications {
 
     @Override
     public Response getNewNotificationsByOwnerId(String user, String eventId, String limitStr) {
+        int limit = parseLimit(limitStr);
+        List<NotificationEntity> notifications = Objects.isNull(eventId) ? notificationsService.getNotificationsByOwnerId(user, limit)
+            : notificationsService.getNewNotificationsByOwnerId(user, UUID.fromString(eventId), limit);
+        MapNotificationsToDto converter = new MapNotificationsToDto();
+        NotificationsStatusDto notificationsStatusDto = new NotificationsStatusDto();
+        converter.doMapping(notifications, notificationsStatusDto);
+        return Response.ok(notificationsStatusDto).build();
+    }
+
+    @Override
+    public void getNewNotificationsByOwnerIds(Map<String, UUID> lastDelivered, String limitStr, String waitMsecStr, String pollId,
+                                              AsyncResponse asyncResponse) {
+        if (Objects.isNull(lastDelivered) || lastDelivered.isEmpty()) {
+            asyncResponse.resume(toNotificationsByOwnerResponse(Collections.emptyMap()));
+            return;
+        }
+        int limit = parseLimit(limitStr);
+        long waitMsec = Math.min(parseWaitMsec(waitMsecStr), MAX_WAIT_MSEC);
+        new NotificationsLongPoll(pollId, lastDelivered, limit, asyncResponse, notificationsService, notificationEventBus,
+            NotificationsImpl::toNotificationsByOwnerResponse).start(waitMsec);
+    }
+
+    @Override
+    public Response cancelNewNotificationsWait(String pollId) {
+        if (!NotificationsLongPoll.cancel(pollId)) {
+            LOGGER.debug("No pending read of new notifications {} to cancel", pollId);
+        }
+        return Response.ok().build();
+    }
+
+    private static Response toNotificationsByOwnerResponse(Map<String, List<NotificationEntity>> notifications) {
+        MapNotificationsToDto converter = new MapNotificationsToDto();
+        Map<String, NotificationsStatusDto> notificationsStatusDtos = new HashMap<>();
+        notifications.forEach((ownerId, ownerNotifications) -> {
+            NotificationsStatusDto notificationsStatusDto = new NotificationsStatusDto();
+            converter.doMapping(ownerNotifications, notificationsStatusDto);
+            notificationsStatusDtos.put(ownerId, notificationsStatusDto);
+        });
+        return Response.ok(notificationsStatusDtos).build();
+    }
+
+    private int parseLimit(String limitStr) {
         int limit = selectionLimit;
         if (Objects.nonNull(limitStr)) {
             try {
@@ -101,11 +151,17 @@ public class NotificationsImpl implements Notifications {
                 LOGGER.error("Non numeric selection list size value specified: " + limitStr);
             }
         }
-        List<NotificationEntity> notifications = Objects.isNull(eventId) ? notificationsService.getNotificationsByOwnerId(user, limit)
-            : notificationsService.getNewNotificationsByOwnerId(user, UUID.fromString(eventId), limit);
-        MapNotificationsToDto converter = new MapNotificationsToDto();
-        NotificationsStatusDto notificationsStatusDto = new NotificationsStatusDto();
-        converter.doMapping(notifications, notificationsStatusDto);
-        return Response.ok(notificationsStatusDto).build();
+        return limit;
+    }
+
+    private long parseWaitMsec(String waitMsecStr) {
+        if (Objects.nonNull(waitMsecStr)) {
+            try {
+                return Long.parseLong(waitMsecStr);
+            } catch (NumberFormatException f) {
+                LOGGER.error("Non numeric wait time value specified: " + waitMsecStr);
+            }
+        }
+        return 0;
     }
 }
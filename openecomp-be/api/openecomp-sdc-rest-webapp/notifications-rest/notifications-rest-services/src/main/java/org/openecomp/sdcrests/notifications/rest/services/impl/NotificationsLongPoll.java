@@ -0,0 +1,189 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdcrests.notifications.rest.services.impl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.CompletionCallback;
+import javax.ws.rs.container.ConnectionCallback;
+import javax.ws.rs.core.Response;
+import org.openecomp.sdc.logging.api.Logger;
+import org.openecomp.sdc.logging.api.LoggerFactory;
+import org.openecomp.sdc.notification.dao.types.NotificationEntity;
+import org.openecomp.sdc.notification.services.NotificationEventBus;
+import org.openecomp.sdc.notification.services.NotificationEventBus.NotificationListener;
+import org.openecomp.sdc.notification.services.NotificationsService;
+
+/**
+ * A suspended read of the new notifications of several owners. No request thread is held while waiting: the notifications are read again when one
+ * of the owners is published on the event bus, every recheck interval and once more when the wait times out. The listener is released as soon as
+ * the response is sent, the client disconnects or the client cancels the wait by its poll id.
+ */
+class NotificationsLongPoll {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NotificationsLongPoll.class);
+    // the event bus only sees the notifications persisted by this instance, the ones of other instances are found by reading again
+    static final long RECHECK_INTERVAL_MSEC = 2000;
+    private static final int READ_THREADS = 2;
+    private static final ScheduledExecutorService READ_EXECUTOR = Executors.newScheduledThreadPool(READ_THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "notifications-long-poll");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final Map<String, NotificationsLongPoll> pendingPolls = new ConcurrentHashMap<>();
+    private final String pollId;
+    private final Map<String, UUID> lastDelivered;
+    private final int limit;
+    private final AsyncResponse asyncResponse;
+    private final NotificationsService notificationsService;
+    private final NotificationEventBus notificationEventBus;
+    private final Function<Map<String, List<NotificationEntity>>, Response> responseMapper;
+    private final ScheduledExecutorService readExecutor;
+    private final NotificationListener listener = this::onNotifications;
+    private final AtomicBoolean released = new AtomicBoolean();
+    private volatile ScheduledFuture<?> recheck;
+
+    NotificationsLongPoll(String pollId, Map<String, UUID> lastDelivered, int limit, AsyncResponse asyncResponse,
+                          NotificationsService notificationsService, NotificationEventBus notificationEventBus,
+                          Function<Map<String, List<NotificationEntity>>, Response> responseMapper) {
+        this(pollId, lastDelivered, limit, asyncResponse, notificationsService, notificationEventBus, responseMapper, READ_EXECUTOR);
+    }
+
+    NotificationsLongPoll(String pollId, Map<String, UUID> lastDelivered, int limit, AsyncResponse asyncResponse,
+                          NotificationsService notificationsService, NotificationEventBus notificationEventBus,
+                          Function<Map<String, List<NotificationEntity>>, Response> responseMapper, ScheduledExecutorService readExecutor) {
+        this.pollId = pollId;
+        this.lastDelivered = lastDelivered;
+        this.limit = limit;
+        this.asyncResponse = asyncResponse;
+        this.notificationsService = notificationsService;
+        this.notificationEventBus = notificationEventBus;
+        this.responseMapper = responseMapper;
+        this.readExecutor = readExecutor;
+    }
+
+    /**
+     * Cancels the pending poll of the given id, so its listener is released without waiting for the timeout.
+     *
+     * @return whether such a poll was pending
+     */
+    static boolean cancel(String pollId) {
+        NotificationsLongPoll poll = Objects.isNull(pollId) ? null : pendingPolls.get(pollId);
+        if (Objects.isNull(poll)) {
+            return false;
+        }
+        poll.cancel();
+        return true;
+    }
+
+    /**
+     * Answers right away when there are new notifications or nothing to wait for, otherwise suspends the response for at most the given time.
+     */
+    void start(long waitMsec) {
+        if (waitMsec <= 0) {
+            read(true);
+            return;
+        }
+        // subscribe before reading so a notification persisted in between still ends the wait
+        notificationEventBus.subscribe(listener);
+        recheck = readExecutor.scheduleWithFixedDelay(() -> read(false), RECHECK_INTERVAL_MSEC, RECHECK_INTERVAL_MSEC, TimeUnit.MILLISECONDS);
+        if (Objects.nonNull(pollId)) {
+            NotificationsLongPoll previous = pendingPolls.put(pollId, this);
+            if (Objects.nonNull(previous)) {
+                previous.cancel();
+            }
+        }
+        asyncResponse.register((CompletionCallback) throwable -> release());
+        asyncResponse.register((ConnectionCallback) disconnected -> release());
+        asyncResponse.setTimeoutHandler(timedOut -> readExecutor.execute(() -> read(true)));
+        asyncResponse.setTimeout(waitMsec, TimeUnit.MILLISECONDS);
+        if (released.get()) {
+            // answered meanwhile, possibly before the recheck was scheduled
+            cleanUp();
+            return;
+        }
+        read(false);
+    }
+
+    private void onNotifications(List<NotificationEntity> entities) {
+        if (entities.stream().anyMatch(entity -> lastDelivered.containsKey(entity.getOwnerId()))) {
+            readExecutor.execute(() -> read(true));
+        }
+    }
+
+    private void read(boolean resumeWhenEmpty) {
+        if (released.get()) {
+            return;
+        }
+        try {
+            Map<String, List<NotificationEntity>> notifications = notificationsService.getNewNotificationsByOwnerIds(lastDelivered, limit);
+            if (resumeWhenEmpty || !notifications.isEmpty()) {
+                resume(responseMapper.apply(notifications));
+            }
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to read the new notifications of {}", lastDelivered.keySet(), e);
+            if (released.compareAndSet(false, true)) {
+                cleanUp();
+                asyncResponse.resume(e);
+            }
+        }
+    }
+
+    private void resume(Response response) {
+        if (released.compareAndSet(false, true)) {
+            cleanUp();
+            asyncResponse.resume(response);
+        }
+    }
+
+    private void cancel() {
+        if (released.compareAndSet(false, true)) {
+            cleanUp();
+            asyncResponse.cancel();
+        }
+    }
+
+    private void release() {
+        if (released.compareAndSet(false, true)) {
+            cleanUp();
+        }
+    }
+
+    private void cleanUp() {
+        notificationEventBus.unsubscribe(listener);
+        ScheduledFuture<?> pendingRecheck = recheck;
+        if (Objects.nonNull(pendingRecheck)) {
+            pendingRecheck.cancel(false);
+        }
+        if (Objects.nonNull(pollId)) {
+            pendingPolls.remove(pollId, this);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdcrests.notifications.rest.services.impl;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.ConnectionCallback;
+import javax.ws.rs.container.TimeoutHandler;
+import javax.ws.rs.core.Response;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.openecomp.sdc.notification.dao.types.NotificationEntity;
+import org.openecomp.sdc.notification.services.NotificationEventBus;
+import org.openecomp.sdc.notification.services.NotificationEventBus.NotificationListener;
+import org.openecomp.sdc.notification.services.NotificationsService;
+
+public class NotificationsLongPollTest {
+
+    private static final String OWNER_ID = "owner";
+    private static final long WAIT_MSEC = 20000;
+    private final Map<String, UUID> lastDelivered = Collections.singletonMap(OWNER_ID, UUID.randomUUID());
+    private final Response response = Response.ok().build();
+    private final Map<String, List<NotificationEntity>> newNotifications =
+        Collections.singletonMap(OWNER_ID, Collections.singletonList(new NotificationEntity(OWNER_ID, UUID.randomUUID())));
+    private NotificationsService notificationsService;
+    private NotificationEventBus notificationEventBus;
+    private AsyncResponse asyncResponse;
+    private ScheduledExecutorService readExecutor;
+
+    @Before
+    public void setUp() {
+        notificationsService = mock(NotificationsService.class);
+        notificationEventBus = mock(NotificationEventBus.class);
+        asyncResponse = mock(AsyncResponse.class);
+        readExecutor = Executors.newSingleThreadScheduledExecutor();
+        when(notificationsService.getNewNotificationsByOwnerIds(eq(lastDelivered), anyInt())).thenReturn(Collections.emptyMap());
+    }
+
+    @After
+    public void tearDown() {
+        readExecutor.shutdownNow();
+    }
+
+    @Test
+    public void testNewNotificationsAnsweredRightAway() {
+        when(notificationsService.getNewNotificationsByOwnerIds(eq(lastDelivered), anyInt())).thenReturn(newNotifications);
+        NotificationListener listener = start("answered");
+        verify(asyncResponse).resume(response);
+        verify(notificationEventBus).unsubscribe(listener);
+        assertFalse(NotificationsLongPoll.cancel("answered"));
+    }
+
+    @Test
+    public void testPublishedNotificationEndsWait() {
+        NotificationListener listener = start("published");
+        verify(asyncResponse, never()).resume(any(Object.class));
+        when(notificationsService.getNewNotificationsByOwnerIds(eq(lastDelivered), anyInt())).thenReturn(newNotifications);
+        listener.onNotifications(Collections.singletonList(new NotificationEntity("other owner", UUID.randomUUID())));
+        listener.onNotifications(newNotifications.get(OWNER_ID));
+        verify(asyncResponse, timeout(5000)).resume(response);
+        verify(notificationEventBus).unsubscribe(listener);
+    }
+
+    @Test
+    public void testTimeoutAnswersWithoutNotifications() {
+        NotificationListener listener = start("timedOut");
+        ArgumentCaptor<TimeoutHandler> timeoutHandler = ArgumentCaptor.forClass(TimeoutHandler.class);
+        verify(asyncResponse).setTimeoutHandler(timeoutHandler.capture());
+        verify(asyncResponse).setTimeout(WAIT_MSEC, TimeUnit.MILLISECONDS);
+        timeoutHandler.getValue().handleTimeout(asyncResponse);
+        verify(asyncResponse, timeout(5000)).resume(response);
+        verify(notificationEventBus).unsubscribe(listener);
+    }
+
+    @Test
+    public void testCancelReleasesListener() {
+        NotificationListener listener = start("cancelled");
+        assertTrue(NotificationsLongPoll.cancel("cancelled"));
+        verify(asyncResponse).cancel();
+        verify(notificationEventBus).unsubscribe(listener);
+        assertFalse(NotificationsLongPoll.cancel("cancelled"));
+        listener.onNotifications(newNotifications.get(OWNER_ID));
+        verify(asyncResponse, never()).resume(any(Object.class));
+    }
+
+    @Test
+    public void testDisconnectReleasesListener() {
+        NotificationListener listener = start("disconnected");
+        ArgumentCaptor<Object> callbacks = ArgumentCaptor.forClass(Object.class);
+        verify(asyncResponse, times(2)).register(callbacks.capture());
+        callbacks.getAllValues().stream().filter(ConnectionCallback.class::isInstance).map(ConnectionCallback.class::cast)
+            .forEach(callback -> callback.onDisconnect(asyncResponse));
+        verify(notificationEventBus).unsubscribe(listener);
+        assertFalse(NotificationsLongPoll.cancel("disconnected"));
+    }
+
+    @Test
+    public void testNoWaitAnswersRightAway() {
+        new NotificationsLongPoll(null, lastDelivered, 10, asyncResponse, notificationsService, notificationEventBus, notifications -> response,
+            readExecutor).start(0);
+        verify(asyncResponse).resume(response);
+        verify(notificationEventBus, never()).subscribe(any());
+        verify(asyncResponse, never()).setTimeout(anyLong(), any());
+    }
+
+    private NotificationListener start(String pollId) {
+        new NotificationsLongPoll(pollId, lastDelivered, 10, asyncResponse, notificationsService, notificationEventBus, notifications -> response,
+            readExecutor).start(WAIT_MSEC);
+        ArgumentCaptor<NotificationListener> listener = ArgumentCaptor.forClass(NotificationListener.class);
+        verify(notificationEventBus).subscribe(listener.capture());
+        return listener.getValue();
+    }
+}
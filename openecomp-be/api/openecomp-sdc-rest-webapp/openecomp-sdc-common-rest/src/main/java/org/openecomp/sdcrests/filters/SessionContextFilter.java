@@ -29,6 +29,7 @@ import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServletRequest;
 import org.openecomp.sdc.common.session.SessionContextProvider;
 import org.openecomp.sdc.common.session.SessionContextProviderFactory;
+import org.openecomp.sdc.common.session.SessionScopedCache;
 
 public abstract class SessionContextFilter implements Filter {
 
@@ -43,9 +44,11 @@ public abstract class SessionContextFilter implements Filter {
         try {
             if (servletRequest instanceof HttpServletRequest) {
                 contextProvider.create(getUser(servletRequest), getTenant(servletRequest));
+                SessionScopedCache.open();
             }
             filterChain.doFilter(servletRequest, servletResponse);
         } finally {
+            SessionScopedCache.close();
             contextProvider.close();
         }
     }
@@ -40,6 +40,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
 import org.apache.commons.collections4.CollectionUtils;
@@ -169,8 +170,13 @@ public class VendorSoftwareProductManagerImpl implements VendorSoftwareProductMa
     public ValidationResponse validate(VspDetails vspDetails) throws IOException {
         List<ErrorCode> vspErrors = new ArrayList<>(validateVspFields(vspDetails));
         ValidationResponse validationResponse = new ValidationResponse();
+        Collection<NicEntity> nics;
+        Collection<ImageEntity> images = Collections.emptyList();
         if (Objects.nonNull(vspDetails.getOnboardingMethod()) && OnboardingMethod.Manual.name().equals(vspDetails.getOnboardingMethod())) {
-            validateManualOnboardingMethod(vspDetails, validationResponse, vspErrors);
+            // the composition of the whole vsp is read once and shared by the component and questionnaire validations
+            nics = nicDao.listByVsp(vspDetails.getId(), vspDetails.getVersion());
+            images = imageDao.listByVsp(vspDetails.getId(), vspDetails.getVersion());
+            validateManualOnboardingMethod(vspDetails, validationResponse, vspErrors, nics, images);
         } else {
             validateOrchestrationTemplateCandidate(validationResponse, vspErrors, vspDetails.getId(), vspDetails.getVersion());
             if (!validationResponse.isValid()) {
@@ -184,9 +190,10 @@ public class VendorSoftwareProductManagerImpl implements VendorSoftwareProductMa
                     .vendorSoftwareProductMissingServiceModelErrorBuilder(vspDetails.getId(), vspDetails.getVersion()));
             }
             validationResponse.setUploadDataErrors(validateOrchestrationTemplate(orchestrationTemplate));
+            nics = nicDao.listByVsp(vspDetails.getId(), vspDetails.getVersion());
         }
         QuestionnaireValidationResult questionnaireValidationResult = validateQuestionnaire(vspDetails.getId(), vspDetails.getVersion(),
-            vspDetails.getOnboardingMethod());
+            vspDetails.getOnboardingMethod(), nics, images);
         if (Objects.nonNull(questionnaireValidationResult)) {
             if (validationResponse.getQuestionnaireValidationResult() == null
                 || validationResponse.getQuestionnaireValidationResult().getValidationData() == null) {
@@ -221,7 +228,8 @@ public class VendorSoftwareProductManagerImpl implements VendorSoftwareProductMa
         });
     }
 
-    private void validateManualOnboardingMethod(VspDetails vspDetails, ValidationResponse validationResponse, List<ErrorCode> vspErrors) {
+    private void validateManualOnboardingMethod(VspDetails vspDetails, ValidationResponse validationResponse, List<ErrorCode> vspErrors,
+                                                Collection<NicEntity> nics, Collection<ImageEntity> images) {
         vspErrors.addAll(validateMandatoryLicenseFields(vspDetails));
         Collection<DeploymentFlavorEntity> deploymentFlavors = deploymentFlavorDao
             .list(new DeploymentFlavorEntity(vspDetails.getId(), vspDetails.getVersion(), null));
@@ -229,7 +237,8 @@ public class VendorSoftwareProductManagerImpl implements VendorSoftwareProductMa
             vspErrors.add(vspMissingDeploymentFlavorErrorBuilder());
         }
         vspErrors.addAll(validateDeploymentFlavors(deploymentFlavors));
-        Set<CompositionEntityValidationData> componentValidationResult = componentValidation(vspDetails.getId(), vspDetails.getVersion());
+        Set<CompositionEntityValidationData> componentValidationResult = componentValidation(vspDetails.getId(), vspDetails.getVersion(), nics,
+            images);
         if (!CollectionUtils.isEmpty(componentValidationResult)) {
             if (validationResponse.getQuestionnaireValidationResult() == null
                 || validationResponse.getQuestionnaireValidationResult().getValidationData() == null) {
@@ -301,23 +310,25 @@ public class VendorSoftwareProductManagerImpl implements VendorSoftwareProductMa
         errorCodeList.add(deploymentFlavorErrorBuilder);
     }
 
-    private Set<CompositionEntityValidationData> componentValidation(String vspId, Version version) {
+    private Set<CompositionEntityValidationData> componentValidation(String vspId, Version version, Collection<NicEntity> nics,
+                                                                     Collection<ImageEntity> images) {
         Set<CompositionEntityValidationData> validationData = new HashSet<>();
         Collection<ComponentEntity> components = componentDao.list(new ComponentEntity(vspId, version, null));
         if (!CollectionUtils.isEmpty(components)) {
+            Set<String> componentsWithImages = images.stream().map(ImageEntity::getComponentId).collect(Collectors.toSet());
             components.forEach(component -> {
-                validateImage(vspId, version, validationData, component);
-                validateNic(vspId, version, validationData, component);
+                if (!componentsWithImages.contains(component.getId())) {
+                    addMissingImageError(validationData, component);
+                }
             });
+            validateNics(validationData, nics);
         }
         return validationData;
     }
 
-    private void validateNic(String vspId, Version version, Set<CompositionEntityValidationData> validationData, ComponentEntity component) {
-        Collection<NicEntity> nics = nicDao.list(new NicEntity(vspId, version, component.getId(), null));
+    private void validateNics(Set<CompositionEntityValidationData> validationData, Collection<NicEntity> nics) {
         if (CollectionUtils.isNotEmpty(nics)) {
-            nics.forEach(nicEntity -> {
-                NicEntity nic = nicDao.get(new NicEntity(vspId, version, component.getId(), nicEntity.getId()));
+            nics.forEach(nic -> {
                 NetworkType networkType = nic.getNicCompositionData().getNetworkType();
                 String networkId = nic.getNicCompositionData().getNetworkId();
                 if (networkType.equals(NetworkType.Internal) && networkId == null) {
@@ -334,18 +345,15 @@ public class VendorSoftwareProductManagerImpl implements VendorSoftwareProductMa
         }
     }
 
-    private void validateImage(String vspId, Version version, Set<CompositionEntityValidationData> validationData, ComponentEntity component) {
-        Collection<ImageEntity> images = imageDao.list(new ImageEntity(vspId, version, component.getId(), null));
-        if (CollectionUtils.isEmpty(images)) {
-            CompositionEntityValidationData compositionEntityValidationData = new CompositionEntityValidationData(component.getType(),
-                component.getId());
-            compositionEntityValidationData.setEntityName(component.getComponentCompositionData().getDisplayName());
-            ErrorCode vfcMissingImageErrorBuilder = ComponentErrorBuilder.vfcMissingImageErrorBuilder();
-            List<String> errors = new ArrayList<>();
-            errors.add(vfcMissingImageErrorBuilder.message());
-            compositionEntityValidationData.setErrors(errors);
-            validationData.add(compositionEntityValidationData);
-        }
+    private void addMissingImageError(Set<CompositionEntityValidationData> validationData, ComponentEntity component) {
+        CompositionEntityValidationData compositionEntityValidationData = new CompositionEntityValidationData(component.getType(),
+            component.getId());
+        compositionEntityValidationData.setEntityName(component.getComponentCompositionData().getDisplayName());
+        ErrorCode vfcMissingImageErrorBuilder = ComponentErrorBuilder.vfcMissingImageErrorBuilder();
+        List<String> errors = new ArrayList<>();
+        errors.add(vfcMissingImageErrorBuilder.message());
+        compositionEntityValidationData.setErrors(errors);
+        validationData.add(compositionEntityValidationData);
     }
 
     private List<ErrorCode> validateVspFields(VspDetails vspDetails) {
@@ -642,13 +650,13 @@ public class VendorSoftwareProductManagerImpl implements VendorSoftwareProductMa
         return fileContentMap;
     }
 
-    private QuestionnaireValidationResult validateQuestionnaire(String vspId, Version version, String onboardingMethod) {
+    private QuestionnaireValidationResult validateQuestionnaire(String vspId, Version version, String onboardingMethod,
+                                                                Collection<NicEntity> nics, Collection<ImageEntity> images) {
         // The apis of CompositionEntityDataManager used here are stateful!
 
         // so, it must be re-created from scratch when it is used!
-        CompositionEntityDataManager compositionEntityDataManager = CompositionEntityDataManagerFactory.getInstance().createInterface();
+        CompositionEntityDataManager compositionEntityDataManager = createCompositionEntityDataManager();
         compositionEntityDataManager.addEntity(vspInfoDao.getQuestionnaire(vspId, version), null);
-        Collection<NicEntity> nics = nicDao.listByVsp(vspId, version);
         Map<String, List<String>> nicNamesByComponent = new HashMap<>();
         for (NicEntity nicEntity : nics) {
             compositionEntityDataManager.addEntity(nicEntity, null);
@@ -665,7 +673,6 @@ public class VendorSoftwareProductManagerImpl implements VendorSoftwareProductMa
         Collection<ComputeEntity> computes = computeDao.listByVsp(vspId, version);
         computes.forEach(compute -> compositionEntityDataManager.addEntity(compute, null));
         if (OnboardingMethod.Manual.name().equals(onboardingMethod)) {
-            Collection<ImageEntity> images = imageDao.listByVsp(vspId, version);
             images.forEach(image -> compositionEntityDataManager.addEntity(image, null));
         }
         Map<CompositionEntityId, Collection<String>> errorsByEntityId = compositionEntityDataManager.validateEntitiesQuestionnaire();
@@ -677,6 +684,10 @@ public class VendorSoftwareProductManagerImpl implements VendorSoftwareProductMa
         return null;
     }
 
+    CompositionEntityDataManager createCompositionEntityDataManager() {
+        return CompositionEntityDataManagerFactory.getInstance().createInterface();
+    }
+
     @Override
     public File getInformationArtifact(String vspId, Version version) {
         VspDetails vspDetails = vspInfoDao.get(new VspDetails(vspId, version));
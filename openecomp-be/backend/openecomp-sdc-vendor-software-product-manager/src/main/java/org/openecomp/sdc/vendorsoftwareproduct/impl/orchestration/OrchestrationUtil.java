@@ -38,6 +38,7 @@ import org.openecomp.core.utilities.file.FileContentHandler;
 import org.openecomp.core.utilities.file.FileUtils;
 import org.openecomp.core.utilities.json.JsonUtil;
 import org.openecomp.core.utilities.orchestration.OnboardingTypesEnum;
+import org.openecomp.sdc.common.CommonConfigurationManager;
 import org.openecomp.sdc.common.errors.CoreException;
 import org.openecomp.sdc.common.errors.Messages;
 import org.openecomp.sdc.common.utils.CommonUtil;
@@ -85,6 +86,9 @@ public class OrchestrationUtil {
     public static final String ORCHESTRATION_CONFIG_NAMESPACE = "orchestration";
     public static final String ORCHESTRATION_IMPL_KEY = "orchestration_impl";
     private static final Logger LOGGER = LoggerFactory.getLogger(OrchestrationUtil.class);
+    private static final String PACKAGE_CONTENT_CONFIG_SECTION = "packageContent";
+    private static final String SPILL_THRESHOLD_CONFIG = "spillToDiskThresholdBytes";
+    private static final long NO_SPILL_THRESHOLD = -1;
     private final NicDao nicDao;
     private final ComponentArtifactDao componentArtifactDao;
     private final ProcessDao processDao;
@@ -120,9 +124,20 @@ public class OrchestrationUtil {
 
     public static Optional<FileContentHandler> getFileContentMap(OnboardingTypesEnum type, UploadFileResponse uploadFileResponse,
                                                                  byte[] uploadedFileData) {
+        return getFileContentMap(type, uploadFileResponse, uploadedFileData, -1);
+    }
+
+    /**
+     * Reads an uploaded package keeping its files bigger than the spill threshold on disk. The returned handler should be closed once the package
+     * was processed.
+     *
+     * @param spillThreshold the maximum size, in bytes, of a file kept in memory, a negative value keeping all the files in memory
+     */
+    public static Optional<FileContentHandler> getFileContentMap(OnboardingTypesEnum type, UploadFileResponse uploadFileResponse,
+                                                                 byte[] uploadedFileData, long spillThreshold) {
         FileContentHandler contentMap = null;
         try {
-            contentMap = CommonUtil.validateAndUploadFileContent(type, uploadedFileData);
+            contentMap = CommonUtil.validateAndUploadFileContent(type, uploadedFileData, spillThreshold);
         } catch (IOException exception) {
             uploadFileResponse
                 .addStructureError(SdcCommon.UPLOAD_FILE, new ErrorMessage(ErrorLevel.ERROR, Messages.INVALID_ZIP_FILE.getErrorMessage()));
@@ -134,6 +149,15 @@ public class OrchestrationUtil {
         return Optional.ofNullable(contentMap);
     }
 
+    /**
+     * @return the configured size, in bytes, above which the files of an uploaded package are kept on disk, -1 if they are all kept in memory
+     */
+    public static long getPackageSpillThreshold() {
+        final Number spillThreshold = CommonConfigurationManager.getInstance()
+            .getConfigValue(PACKAGE_CONTENT_CONFIG_SECTION, SPILL_THRESHOLD_CONFIG, (Number) NO_SPILL_THRESHOLD);
+        return spillThreshold.longValue();
+    }
+
     public static HeatStructureTree createHeatTree(FileContentHandler fileContentMap, Map<String, List<ErrorMessage>> validationErrors) {
         HeatTreeManager heatTreeManager = HeatTreeManagerUtil.initHeatTreeManager(fileContentMap);
         heatTreeManager.createTree();
@@ -147,12 +171,14 @@ public class OrchestrationUtil {
                                                           Map<String, Collection<ProcessEntity>> componentProcesses,
                                                           Map<String, ProcessEntity> processArtifact) {
         Collection<ComponentEntity> componentsCompositionAndQuestionnaire = componentDao.listCompositionAndQuestionnaire(vspId, version);
+        Map<String, List<NicEntity>> nicsByComponent = nicDao.listByVsp(vspId, version).stream()
+            .collect(Collectors.groupingBy(NicEntity::getComponentId));
         componentsCompositionAndQuestionnaire.forEach(componentEntity -> {
             String componentName = componentEntity.getComponentCompositionData().getName();
             componentsQustanniare.put(componentName, componentEntity.getQuestionnaireData());
             backupMibData(vspId, version, componentEntity, componentName, componentMibList);
             backupProcess(vspId, version, componentEntity.getId(), componentName, componentProcesses, processArtifact);
-            backupNicsQuestionnaire(vspId, version, componentEntity, componentName, componentNicsQustanniare);
+            backupNicsQuestionnaire(nicsByComponent.get(componentEntity.getId()), componentName, componentNicsQustanniare);
         });
     }
 
@@ -179,15 +205,11 @@ public class OrchestrationUtil {
         }
     }
 
-    private void backupNicsQuestionnaire(String vspId, Version version, ComponentEntity componentEntity, String componentName,
+    private void backupNicsQuestionnaire(Collection<NicEntity> nics, String componentName,
                                          Map<String, Map<String, String>> componentNicsQustanniare) {
-        Collection<NicEntity> nics = nicDao.list(new NicEntity(vspId, version, componentEntity.getId(), null));
         if (CollectionUtils.isNotEmpty(nics)) {
             Map<String, String> nicsQuestionnaire = new HashMap<>();
-            nics.forEach(nicEntity -> {
-                NicEntity nicQuestionnaire = nicDao.getQuestionnaireData(vspId, version, componentEntity.getId(), nicEntity.getId());
-                nicsQuestionnaire.put(nicEntity.getNicCompositionData().getName(), nicQuestionnaire.getQuestionnaireData());
-            });
+            nics.forEach(nicEntity -> nicsQuestionnaire.put(nicEntity.getNicCompositionData().getName(), nicEntity.getQuestionnaireData()));
             componentNicsQustanniare.put(componentName, nicsQuestionnaire);
         }
     }
@@ -65,11 +65,11 @@ public class OrchestrationTemplateProcessCsarHandler implements OrchestrationTem
     public OrchestrationTemplateActionResponse process(VspDetails vspDetails, OrchestrationTemplateCandidateData candidateData) {
         UploadFileResponse uploadFileResponse = new UploadFileResponse();
         Optional<FileContentHandler> fileContent = OrchestrationUtil
-            .getFileContentMap(OnboardingTypesEnum.CSAR, uploadFileResponse, candidateData.getContentData().array());
+            .getFileContentMap(OnboardingTypesEnum.CSAR, uploadFileResponse, candidateData.getContentData().array(),
+                OrchestrationUtil.getPackageSpillThreshold());
         OrchestrationTemplateActionResponse response = new OrchestrationTemplateActionResponse();
         if (fileContent.isPresent()) {
-            try {
-                FileContentHandler fileContentHandler = fileContent.get();
+            try (FileContentHandler fileContentHandler = fileContent.get()) {
                 processCsar(vspDetails, fileContentHandler, candidateData, response);
             } catch (CoreException e) {
                 LOGGER.error(e.getMessage(), e);
@@ -159,9 +159,7 @@ public class OrchestrationTemplateProcessCsarHandler implements OrchestrationTem
     }
 
     private void addFiles(FileContentHandler fileContentHandler) {
-        for (Map.Entry<String, byte[]> fileEntry : fileContentHandler.getFiles().entrySet()) {
-            toscaTreeManager.addFile(fileEntry.getKey(), fileEntry.getValue());
-        }
+        fileContentHandler.getFileList().forEach(toscaTreeManager::addFile);
     }
 
     private Map<String, List<ErrorMessage>> validateCsar(FileContentHandler fileContentHandler) {
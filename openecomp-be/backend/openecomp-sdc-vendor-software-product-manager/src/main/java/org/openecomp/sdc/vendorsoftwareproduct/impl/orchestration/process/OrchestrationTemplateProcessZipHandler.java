@@ -67,18 +67,26 @@ public class OrchestrationTemplateProcessZipHandler implements OrchestrationTemp
 
     @Override
     public OrchestrationTemplateActionResponse process(VspDetails vspDetails, OrchestrationTemplateCandidateData candidateData) {
-        String vspId = vspDetails.getId();
-        Version version = vspDetails.getVersion();
         OrchestrationTemplateActionResponse response = new OrchestrationTemplateActionResponse();
         UploadFileResponse uploadFileResponse = new UploadFileResponse();
         Optional<FileContentHandler> fileContent = OrchestrationUtil
-            .getFileContentMap(OnboardingTypesEnum.ZIP, uploadFileResponse, candidateData.getContentData().array());
+            .getFileContentMap(OnboardingTypesEnum.ZIP, uploadFileResponse, candidateData.getContentData().array(),
+                OrchestrationUtil.getPackageSpillThreshold());
         if (!fileContent.isPresent()) {
             response.addStructureErrors(uploadFileResponse.getErrors());
             return response;
         }
+        try (FileContentHandler fileContentMap = fileContent.get()) {
+            return process(vspDetails, candidateData, fileContentMap, response, uploadFileResponse);
+        }
+    }
+
+    private OrchestrationTemplateActionResponse process(VspDetails vspDetails, OrchestrationTemplateCandidateData candidateData,
+                                                        FileContentHandler fileContentMap, OrchestrationTemplateActionResponse response,
+                                                        UploadFileResponse uploadFileResponse) {
+        String vspId = vspDetails.getId();
+        Version version = vspDetails.getVersion();
         Map<String, List<ErrorMessage>> uploadErrors = uploadFileResponse.getErrors();
-        FileContentHandler fileContentMap = fileContent.get();
         try (InputStream zipFileManifest = fileContentMap.getFileContentAsStream(SdcCommon.MANIFEST_NAME)) {
             addDummyHeatBase(zipFileManifest, fileContentMap);
         } catch (Exception e) {
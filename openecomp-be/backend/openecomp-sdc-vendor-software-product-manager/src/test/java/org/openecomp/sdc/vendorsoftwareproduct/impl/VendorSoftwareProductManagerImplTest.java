@@ -26,12 +26,14 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.openecomp.sdc.tosca.csar.CSARConstants.MAIN_SERVICE_TEMPLATE_MF_FILE_NAME;
@@ -42,6 +44,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -75,18 +78,32 @@ import org.openecomp.sdc.vendorsoftwareproduct.ManualVspToscaManager;
 import org.openecomp.sdc.vendorsoftwareproduct.MonitoringUploadsManager;
 import org.openecomp.sdc.vendorsoftwareproduct.OrchestrationTemplateCandidateManager;
 import org.openecomp.sdc.vendorsoftwareproduct.VendorSoftwareProductConstants;
+import org.openecomp.sdc.vendorsoftwareproduct.dao.ComponentDao;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.ComponentDependencyModelDao;
+import org.openecomp.sdc.vendorsoftwareproduct.dao.ComputeDao;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.DeploymentFlavorDao;
+import org.openecomp.sdc.vendorsoftwareproduct.dao.ImageDao;
+import org.openecomp.sdc.vendorsoftwareproduct.dao.NicDao;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.OrchestrationTemplateDao;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.PackageInfoDao;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.VendorSoftwareProductInfoDao;
+import org.openecomp.sdc.vendorsoftwareproduct.dao.type.ComponentEntity;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.type.DeploymentFlavorEntity;
+import org.openecomp.sdc.vendorsoftwareproduct.dao.type.ImageEntity;
+import org.openecomp.sdc.vendorsoftwareproduct.dao.type.NicEntity;
+import org.openecomp.sdc.vendorsoftwareproduct.dao.type.OnboardingMethod;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.type.OrchestrationTemplateCandidateData;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.type.PackageInfo;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.type.VspDetails;
 import org.openecomp.sdc.vendorsoftwareproduct.informationArtifact.InformationArtifactGenerator;
 import org.openecomp.sdc.vendorsoftwareproduct.types.ValidationResponse;
+import org.openecomp.sdc.vendorsoftwareproduct.types.composition.ComponentData;
+import org.openecomp.sdc.vendorsoftwareproduct.types.composition.CompositionEntityType;
+import org.openecomp.sdc.vendorsoftwareproduct.types.composition.CompositionEntityValidationData;
 import org.openecomp.sdc.vendorsoftwareproduct.types.composition.DeploymentFlavor;
+import org.openecomp.sdc.vendorsoftwareproduct.types.composition.Image;
+import org.openecomp.sdc.vendorsoftwareproduct.types.composition.NetworkType;
+import org.openecomp.sdc.vendorsoftwareproduct.types.composition.Nic;
 import org.openecomp.sdc.vendorsoftwareproduct.types.schemagenerator.SchemaTemplateInput;
 import org.openecomp.sdc.versioning.ActionVersioningManager;
 import org.openecomp.sdc.versioning.dao.types.Version;
@@ -135,6 +152,14 @@ class VendorSoftwareProductManagerImplTest {
     private OrchestrationTemplateCandidateManager orchestrationTemplateCandidateManagerMock;
     @Mock
     private ComponentDependencyModelDao componentDependencyModelDao;
+    @Mock
+    private ComponentDao componentDaoMock;
+    @Mock
+    private NicDao nicDaoMock;
+    @Mock
+    private ImageDao imageDaoMock;
+    @Mock
+    private ComputeDao computeDaoMock;
     private OrchestrationTemplateCandidateManager candidateManager;
     private MonitoringUploadsManager monitoringUploadsManager;
 
@@ -520,6 +545,53 @@ class VendorSoftwareProductManagerImplTest {
         assertEquals(1, validationResponse.getVspErrors().size());
     }
 
+    @Test
+    void testValidateManualVspReadsTheNicsAndImagesOfTheWholeVspOnce() throws IOException {
+        VspDetails vsp = createVspDetails(VSP_ID, VERSION01, "Vsp1", "Test-VSP", "vendorName", "vlm1Id", "icon", "category", "subCategory",
+            "licenseAgreementId", Collections.singletonList("featureGroupId"));
+        vsp.setOnboardingMethod(OnboardingMethod.Manual.name());
+        List<ComponentEntity> components = Arrays.asList(createComponent("component1"), createComponent("component2"));
+        doReturn(components).when(componentDaoMock).list(any(ComponentEntity.class));
+        doReturn(components).when(componentDaoMock).listCompositionAndQuestionnaire(VSP_ID, VERSION01);
+        NicEntity nic = new NicEntity(VSP_ID, VERSION01, "component1", "nic1");
+        Nic nicData = new Nic();
+        nicData.setName("nic1");
+        nicData.setNetworkType(NetworkType.Internal);
+        nic.setNicCompositionData(nicData);
+        doReturn(Collections.singletonList(nic)).when(nicDaoMock).listByVsp(VSP_ID, VERSION01);
+        ImageEntity image = new ImageEntity(VSP_ID, VERSION01, "component1", "image1");
+        image.setImageCompositionData(new Image("image1"));
+        doReturn(Collections.singletonList(image)).when(imageDaoMock).listByVsp(VSP_ID, VERSION01);
+        doReturn(compositionEntityDataManagerMock).when(vendorSoftwareProductManager).createCompositionEntityDataManager();
+
+        ValidationResponse validationResponse = vendorSoftwareProductManager.validate(vsp);
+
+        Collection<CompositionEntityValidationData> validationData = validationResponse.getQuestionnaireValidationResult().getValidationData();
+        assertEquals(2, validationData.size());
+        // component2 has no image and nic1 is on an internal network without a network id
+        assertTrue(validationData.stream()
+            .anyMatch(data -> data.getEntityType() == CompositionEntityType.component && "component2".equals(data.getEntityId())));
+        assertTrue(validationData.stream().anyMatch(data -> data.getEntityType() == CompositionEntityType.nic && "nic1".equals(data.getEntityId())));
+        verify(nicDaoMock).listByVsp(VSP_ID, VERSION01);
+        verify(imageDaoMock).listByVsp(VSP_ID, VERSION01);
+        verify(nicDaoMock, never()).list(any());
+        verify(nicDaoMock, never()).get(any());
+        verify(imageDaoMock, never()).list(any());
+        // the questionnaire validation uses the same nics and images
+        verify(compositionEntityDataManagerMock).addEntity(nic, null);
+        verify(compositionEntityDataManagerMock).addEntity(image, null);
+    }
+
+    private static ComponentEntity createComponent(String componentId) {
+        ComponentEntity component = new ComponentEntity(VSP_ID, VERSION01, componentId);
+        ComponentData componentData = new ComponentData();
+        componentData.setName(componentId);
+        componentData.setDisplayName(componentId);
+        component.setComponentCompositionData(componentData);
+        component.setQuestionnaireData("{}");
+        return component;
+    }
+
     private static VspDetails createVspDetails(String id, Version version, String name, String desc,
                                                String vendorName, String vlm, String icon,
                                                String category, String subCategory,
@@ -0,0 +1,116 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.vendorsoftwareproduct.impl.orchestration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openecomp.sdc.vendorsoftwareproduct.dao.ComponentArtifactDao;
+import org.openecomp.sdc.vendorsoftwareproduct.dao.ComponentDao;
+import org.openecomp.sdc.vendorsoftwareproduct.dao.NicDao;
+import org.openecomp.sdc.vendorsoftwareproduct.dao.ProcessDao;
+import org.openecomp.sdc.vendorsoftwareproduct.dao.type.ComponentEntity;
+import org.openecomp.sdc.vendorsoftwareproduct.dao.type.ComponentMonitoringUploadEntity;
+import org.openecomp.sdc.vendorsoftwareproduct.dao.type.NicEntity;
+import org.openecomp.sdc.vendorsoftwareproduct.dao.type.ProcessEntity;
+import org.openecomp.sdc.vendorsoftwareproduct.types.composition.ComponentData;
+import org.openecomp.sdc.vendorsoftwareproduct.types.composition.Nic;
+import org.openecomp.sdc.versioning.dao.types.Version;
+
+@ExtendWith(MockitoExtension.class)
+class OrchestrationUtilTest {
+
+    private static final String VSP_ID = "vspId";
+    private static final Version VERSION = new Version("versionId");
+
+    @Mock
+    private NicDao nicDao;
+    @Mock
+    private ComponentDao componentDao;
+    @Mock
+    private ComponentArtifactDao componentArtifactDao;
+    @Mock
+    private ProcessDao processDao;
+    @InjectMocks
+    private OrchestrationUtil orchestrationUtil;
+
+    @Test
+    void backupComponentsQuestionnaireGroupsTheNicsOfTheVspByComponent() {
+        when(componentDao.listCompositionAndQuestionnaire(VSP_ID, VERSION)).thenReturn(Arrays
+            .asList(createComponent("component1", "vfc1", "{\"c\":1}"), createComponent("component2", "vfc2", "{\"c\":2}"),
+                createComponent("component3", "vfc3", "{\"c\":3}")));
+        when(nicDao.listByVsp(VSP_ID, VERSION)).thenReturn(Arrays
+            .asList(createNic("component1", "nic1", "{\"n\":1}"), createNic("component2", "nic2", "{\"n\":2}"),
+                createNic("component1", "nic3", "{\"n\":3}")));
+        Map<String, String> componentsQuestionnaire = new HashMap<>();
+        Map<String, Map<String, String>> componentNicsQuestionnaire = new HashMap<>();
+        Map<String, Collection<ComponentMonitoringUploadEntity>> componentMibList = new HashMap<>();
+        Map<String, Collection<ProcessEntity>> componentProcesses = new HashMap<>();
+        Map<String, ProcessEntity> processArtifact = new HashMap<>();
+
+        orchestrationUtil.backupComponentsQuestionnaireBeforeDelete(VSP_ID, VERSION, componentsQuestionnaire, componentNicsQuestionnaire,
+            componentMibList, componentProcesses, processArtifact);
+
+        assertEquals(3, componentsQuestionnaire.size());
+        assertEquals("{\"c\":1}", componentsQuestionnaire.get("vfc1"));
+        assertEquals("{\"c\":3}", componentsQuestionnaire.get("vfc3"));
+        assertEquals(2, componentNicsQuestionnaire.size());
+        assertEquals(2, componentNicsQuestionnaire.get("vfc1").size());
+        assertEquals("{\"n\":1}", componentNicsQuestionnaire.get("vfc1").get("nic1"));
+        assertEquals("{\"n\":3}", componentNicsQuestionnaire.get("vfc1").get("nic3"));
+        assertEquals(1, componentNicsQuestionnaire.get("vfc2").size());
+        assertEquals("{\"n\":2}", componentNicsQuestionnaire.get("vfc2").get("nic2"));
+        assertFalse(componentNicsQuestionnaire.containsKey("vfc3"));
+        verify(nicDao).listByVsp(VSP_ID, VERSION);
+        verify(nicDao, never()).list(any());
+        verify(componentDao, never()).list(any());
+    }
+
+    private static ComponentEntity createComponent(String componentId, String name, String questionnaireData) {
+        ComponentEntity component = new ComponentEntity(VSP_ID, VERSION, componentId);
+        ComponentData componentData = new ComponentData();
+        componentData.setName(name);
+        component.setComponentCompositionData(componentData);
+        component.setQuestionnaireData(questionnaireData);
+        return component;
+    }
+
+    private static NicEntity createNic(String componentId, String name, String questionnaireData) {
+        NicEntity nic = new NicEntity(VSP_ID, VERSION, componentId, name);
+        Nic nicData = new Nic();
+        nicData.setName(name);
+        nic.setNicCompositionData(nicData);
+        nic.setQuestionnaireData(questionnaireData);
+        return nic;
+    }
+}
@@ -23,6 +23,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -56,14 +57,34 @@ public class CommonUtil {
      * @throws IOException when the zip could not be read
      */
     public static FileContentHandler validateAndUploadFileContent(final OnboardingTypesEnum type, final byte[] uploadedFileData) throws IOException {
+        return validateAndUploadFileContent(type, uploadedFileData, -1);
+    }
+
+    /**
+     * Reads the files from the zip AND validates zip is flat (no folders), keeping the files bigger than the spill threshold on disk.
+     *
+     * @param type             the onboarding type
+     * @param uploadedFileData zip file bytes
+     * @param spillThreshold   the maximum size, in bytes, of a file kept in memory, a negative value keeping all the files in memory
+     * @return FileContentHandler if input is valid and has no folders
+     * @throws IOException when the zip could not be read
+     * @see FileContentHandler#FileContentHandler(long)
+     */
+    public static FileContentHandler validateAndUploadFileContent(final OnboardingTypesEnum type, final byte[] uploadedFileData,
+                                                                  final long spillThreshold) throws IOException {
         final Pair<FileContentHandler, List<String>> pair;
         try {
-            pair = getFileContentMapFromOrchestrationCandidateZip(uploadedFileData);
+            pair = getFileContentMapFromOrchestrationCandidateZip(uploadedFileData, spillThreshold);
         } catch (final ZipException e) {
             throw new IOException(e);
         }
         if (isFileOriginFromZip(type.toString())) {
-            validateNoFolders(pair.getRight());
+            try {
+                validateNoFolders(pair.getRight());
+            } catch (final CoreException e) {
+                pair.getLeft().close();
+                throw e;
+            }
         }
         return pair.getLeft();
     }
@@ -77,19 +98,53 @@ public class CommonUtil {
      * @throws ZipException when there was a problem during the zip reading
      */
     public static Pair<FileContentHandler, List<String>> getFileContentMapFromOrchestrationCandidateZip(byte[] uploadFileData) throws ZipException {
-        final Map<String, byte[]> zipFileMap = ZipUtils.readZip(uploadFileData, true);
+        return getFileContentMapFromOrchestrationCandidateZip(uploadFileData, -1);
+    }
+
+    /**
+     * Extracts the zip and build a pair of {@link FileContentHandler} and the zip folder list. With a spill threshold the zip entries are read one
+     * at a time and the files bigger than the threshold are written to disk.
+     *
+     * @param uploadFileData the zip file to extract
+     * @param spillThreshold the maximum size, in bytes, of a file kept in memory, a negative value keeping all the files in memory
+     * @return a pair of {@link FileContentHandler} only with the zip files and a list of the zip folders.
+     * @throws ZipException when there was a problem during the zip reading
+     */
+    public static Pair<FileContentHandler, List<String>> getFileContentMapFromOrchestrationCandidateZip(final byte[] uploadFileData,
+                                                                                                      final long spillThreshold)
+        throws ZipException {
         final List<String> folderList = new ArrayList<>();
-        final FileContentHandler mapFileContent = new FileContentHandler();
-        zipFileMap.forEach((key, value) -> {
-            if (value == null) {
-                folderList.add(key);
-            } else {
-                mapFileContent.addFile(key, value);
-            }
-        });
+        final FileContentHandler mapFileContent = new FileContentHandler(spillThreshold);
+        if (spillThreshold < 0) {
+            ZipUtils.readZip(uploadFileData, true).forEach((key, value) -> addZipEntry(mapFileContent, folderList, key, value));
+            return new ImmutablePair<>(mapFileContent, folderList);
+        }
+        // a folder is reported once per file it contains
+        final Set<String> folders = new LinkedHashSet<>();
+        try {
+            ZipUtils.readZip(uploadFileData, true, (key, content) -> {
+                if (content == null) {
+                    folders.add(key);
+                } else {
+                    mapFileContent.addFile(key, content);
+                }
+            });
+        } catch (final ZipException | RuntimeException e) {
+            mapFileContent.close();
+            throw e;
+        }
+        folderList.addAll(folders);
         return new ImmutablePair<>(mapFileContent, folderList);
     }
 
+    private static void addZipEntry(final FileContentHandler mapFileContent, final List<String> folderList, final String key, final byte[] value) {
+        if (value == null) {
+            folderList.add(key);
+        } else {
+            mapFileContent.addFile(key, value);
+        }
+    }
+
     /**
      * Extracts the zip in memory and build the {@link FileContentHandler}.
      *
@@ -0,0 +1,53 @@
+/*
+ *  Copyright © 2016-2017 European Support Limited
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.openecomp.sdc.common.session;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Objects kept by the current thread for the duration of a single request, opened and closed around the request together with its session
+ * context. Nothing is kept by a thread that did not open the cache, so code running outside a request always reads fresh data.
+ */
+public final class SessionScopedCache {
+
+    private static final ThreadLocal<Map<Class<?>, Object>> threadCache = new ThreadLocal<>();
+
+    private SessionScopedCache() {
+    }
+
+    public static void open() {
+        threadCache.set(new HashMap<>());
+    }
+
+    public static void close() {
+        threadCache.remove();
+    }
+
+    /**
+     * @return the object of the given type kept for the current request, created by the factory on first use, or empty if the cache was not
+     * opened by the current thread
+     */
+    public static <T> Optional<T> get(Class<T> type, Supplier<T> factory) {
+        Map<Class<?>, Object> cache = threadCache.get();
+        if (cache == null) {
+            return Optional.empty();
+        }
+        return Optional.of(type.cast(cache.computeIfAbsent(type, key -> factory.get())));
+    }
+}
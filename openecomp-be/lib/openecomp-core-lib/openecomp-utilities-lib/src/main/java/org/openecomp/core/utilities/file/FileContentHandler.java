@@ -20,25 +20,60 @@
 package org.openecomp.core.utilities.file;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
+import org.apache.commons.io.IOUtils;
 
 /**
- * Stores the content of files in a path:byte[] structure
+ * Stores the content of files in a path:byte[] structure. When created with a spill threshold, files bigger than the threshold are kept in a
+ * temporary directory instead of the heap and read back on access, so large packages do not have to fit in memory. The temporary directory
+ * is deleted by {@link #close()}, or when the handler is garbage collected.
  */
-public class FileContentHandler {
+public class FileContentHandler implements Closeable {
 
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final long NO_SPILL = -1;
     private final Map<String, byte[]> files = new HashMap<>();
+    private final Map<String, Path> spilledFiles = new HashMap<>();
+    private final long spillThreshold;
+    private final Map<String, byte[]> fileView = new FileView();
+    private SpillDirectory spillDirectory;
 
     public FileContentHandler() {
+        this(NO_SPILL);
+    }
+
+    /**
+     * Creates a handler keeping the files bigger than the given size on disk.
+     *
+     * @param spillThreshold the maximum size, in bytes, of a file kept in memory, a negative value keeping all the files in memory
+     */
+    public FileContentHandler(final long spillThreshold) {
+        this.spillThreshold = spillThreshold;
     }
 
     public FileContentHandler(final FileContentHandler other) {
+        this(other.spillThreshold);
         addAll(other);
     }
 
@@ -49,6 +84,14 @@ public class FileContentHandler {
      * @return if the file was found, its content as stream, otherwise {@code null}.
      */
     public InputStream getFileContentAsStream(final String fileName) {
+        final Path spilledFile = spilledFiles.get(fileName);
+        if (spilledFile != null) {
+            try {
+                return Files.newInputStream(spilledFile);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(String.format("Could not read the file '%s'", fileName), e);
+            }
+        }
         byte[] content = files.get(fileName);
         if (content == null || content.length == 0) {
             return null;
@@ -63,6 +106,14 @@ public class FileContentHandler {
      * @return the content of the file
      */
     public byte[] getFileContent(final String filePath) {
+        final Path spilledFile = spilledFiles.get(filePath);
+        if (spilledFile != null) {
+            try {
+                return Files.readAllBytes(spilledFile);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(String.format("Could not read the file '%s'", filePath), e);
+            }
+        }
         return files.get(filePath);
     }
 
@@ -73,7 +124,7 @@ public class FileContentHandler {
      * @return {@code true} if the path is a folder, {@code false} otherwise
      */
     public boolean isFolder(final String filePath) {
-        return files.get(filePath) == null;
+        return !isFile(filePath);
     }
 
     /**
@@ -83,7 +134,7 @@ public class FileContentHandler {
      * @return {@code true} if the path is a file, {@code false} otherwise
      */
     public boolean isFile(final String filePath) {
-        return files.get(filePath) != null;
+        return files.get(filePath) != null || spilledFiles.containsKey(filePath);
     }
 
     /**
@@ -92,6 +143,7 @@ public class FileContentHandler {
      * @param folderPath the folder path to add
      */
     public void addFolder(final String folderPath) {
+        deleteSpilledFile(folderPath);
         files.put(folderPath, null);
     }
 
@@ -102,6 +154,12 @@ public class FileContentHandler {
      * @param content  the file content
      */
     public void addFile(final String filePath, final byte[] content) {
+        deleteSpilledFile(filePath);
+        if (content != null && isSpilled(content.length)) {
+            files.remove(filePath);
+            spill(filePath, new ByteArrayInputStream(content));
+            return;
+        }
         files.put(filePath, content == null ? new byte[0] : content);
     }
 
@@ -112,16 +170,60 @@ public class FileContentHandler {
      * @param fileInputStream the file input stream
      */
     public void addFile(final String filePath, final InputStream fileInputStream) {
-        files.put(filePath, FileUtils.toByteArray(fileInputStream));
+        if (spillThreshold < 0 || fileInputStream == null) {
+            addFile(filePath, FileUtils.toByteArray(fileInputStream));
+            return;
+        }
+        // reads up to the threshold in memory, the files going beyond are written to disk without being held as a whole
+        final ByteArrayOutputStream head = new ByteArrayOutputStream();
+        try {
+            IOUtils.copyLarge(fileInputStream, head, 0, spillThreshold + 1);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(String.format("Could not read the file '%s'", filePath), e);
+        }
+        if (!isSpilled(head.size())) {
+            addFile(filePath, head.toByteArray());
+            return;
+        }
+        deleteSpilledFile(filePath);
+        files.remove(filePath);
+        spill(filePath, new SequenceInputStream(new ByteArrayInputStream(head.toByteArray()), fileInputStream));
     }
 
     /**
-     * Gets only the files, ignoring directories from the structure.
+     * Adds a file of another handler. A file the other handler keeps on disk is streamed, not read as a whole.
+     *
+     * @param filePath       the file path
+     * @param source         the handler holding the file
+     * @param sourceFilePath the path of the file in the source handler
+     */
+    public void addFile(final String filePath, final FileContentHandler source, final String sourceFilePath) {
+        if (!source.spilledFiles.containsKey(sourceFilePath)) {
+            addFile(filePath, source.files.get(sourceFilePath));
+            return;
+        }
+        try (final InputStream content = source.getFileContentAsStream(sourceFilePath)) {
+            addFile(filePath, content);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(String.format("Could not read the file '%s'", sourceFilePath), e);
+        }
+    }
+
+    /**
+     * Gets only the files, ignoring directories from the structure. The map is a read only view of the handler content, the files kept on
+     * disk being read when their content is accessed.
      *
      * @return a file path:content map
      */
     public Map<String, byte[]> getFiles() {
-        return files.entrySet().stream().filter(entry -> entry.getValue() != null).collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        return fileView;
+    }
+
+    /**
+     * @return the maximum size, in bytes, of a file kept in memory, negative if all the files are kept in memory
+     */
+    public long getSpillThreshold() {
+        return spillThreshold;
     }
 
     public void setFiles(final Map<String, byte[]> files) {
@@ -129,12 +231,12 @@ public class FileContentHandler {
     }
 
     /**
-     * Gets only the file paths, ignoring directories from the structure.
+     * Gets only the file paths, ignoring directories from the structure. The set is a read only view of the handler content.
      *
      * @return a set of the file paths
      */
     public Set<String> getFileList() {
-        return files.keySet().stream().filter(this::isFile).collect(Collectors.toSet());
+        return fileView.keySet();
     }
 
     /**
@@ -150,7 +252,9 @@ public class FileContentHandler {
         if (CollectionUtils.isNotEmpty(fileContentHandlerOther.getFolderList())) {
             fileContentHandlerOther.getFolderList().forEach(this::addFolder);
         }
-        addAll(fileContentHandlerOther.getFiles());
+        for (final String filePath : fileContentHandlerOther.getFileList()) {
+            addFile(filePath, fileContentHandlerOther, filePath);
+        }
     }
 
     private void addAll(final Map<String, byte[]> files) {
@@ -165,7 +269,7 @@ public class FileContentHandler {
      * @return {@code true} if the file structure is empty, {@code false} otherwise
      */
     public boolean isEmpty() {
-        return MapUtils.isEmpty(this.files);
+        return MapUtils.isEmpty(this.files) && spilledFiles.isEmpty();
     }
 
     /**
@@ -175,9 +279,31 @@ public class FileContentHandler {
      * @return the removed file content
      */
     public byte[] remove(final String filePath) {
+        if (spilledFiles.containsKey(filePath)) {
+            final byte[] content = getFileContent(filePath);
+            deleteSpilledFile(filePath);
+            return content;
+        }
         return files.remove(filePath);
     }
 
+    /**
+     * Moves a file to another path, replacing the file the path may have. A file kept on disk stays there, without being read.
+     *
+     * @param filePath    the file path
+     * @param newFilePath the new file path
+     */
+    public void moveFile(final String filePath, final String newFilePath) {
+        final Path spilledFile = spilledFiles.remove(filePath);
+        if (spilledFile == null) {
+            addFile(newFilePath, files.remove(filePath));
+            return;
+        }
+        deleteSpilledFile(newFilePath);
+        files.remove(newFilePath);
+        spilledFiles.put(newFilePath, spilledFile);
+    }
+
     /**
      * Checks if the file structure contains the provided file.
      *
@@ -185,6 +311,182 @@ public class FileContentHandler {
      * @return {@code true} if the file exists, {@code false} otherwise
      */
     public boolean containsFile(final String filePath) {
-        return files.containsKey(filePath);
+        return files.containsKey(filePath) || spilledFiles.containsKey(filePath);
+    }
+
+    /**
+     * Deletes the files kept on disk. The handler keeps only its in memory files after being closed.
+     */
+    @Override
+    public void close() {
+        spilledFiles.clear();
+        if (spillDirectory != null) {
+            spillDirectory.cleanable.clean();
+            spillDirectory = null;
+        }
+    }
+
+    private boolean isSpilled(final long size) {
+        return spillThreshold >= 0 && size > spillThreshold && size > 0;
+    }
+
+    private void spill(final String filePath, final InputStream content) {
+        try {
+            final Path spilledFile = Files.createTempFile(getSpillDirectory(), "file", ".bin");
+            spilledFiles.put(filePath, spilledFile);
+            try (final OutputStream outputStream = Files.newOutputStream(spilledFile)) {
+                IOUtils.copyLarge(content, outputStream);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(String.format("Could not write the file '%s' to disk", filePath), e);
+        }
+    }
+
+    private void deleteSpilledFile(final String filePath) {
+        final Path spilledFile = spilledFiles.remove(filePath);
+        if (spilledFile != null) {
+            org.apache.commons.io.FileUtils.deleteQuietly(spilledFile.toFile());
+        }
+    }
+
+    private Path getSpillDirectory() throws IOException {
+        if (spillDirectory == null) {
+            spillDirectory = new SpillDirectory(Files.createTempDirectory("file-content-"));
+            spillDirectory.cleanable = CLEANER.register(this, spillDirectory);
+        }
+        return spillDirectory.path;
+    }
+
+    /**
+     * Deletes the temporary directory, holding no reference to the handler so it can run once the handler is unreachable
+     */
+    private static final class SpillDirectory implements Runnable {
+
+        private final Path path;
+        private Cleaner.Cleanable cleanable;
+
+        private SpillDirectory(final Path path) {
+            this.path = path;
+        }
+
+        @Override
+        public void run() {
+            org.apache.commons.io.FileUtils.deleteQuietly(path.toFile());
+        }
+    }
+
+    /**
+     * Read only view of the files, folders excluded
+     */
+    private final class FileView extends AbstractMap<String, byte[]> {
+
+        private final Set<Entry<String, byte[]>> entries = new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, byte[]>> iterator() {
+                return filePaths().map(filePath -> (Entry<String, byte[]>) new FileEntry(filePath)).iterator();
+            }
+
+            @Override
+            public int size() {
+                return (int) filePaths().count();
+            }
+        };
+
+        private final Set<String> keys = new AbstractSet<>() {
+            @Override
+            public Iterator<String> iterator() {
+                return filePaths().iterator();
+            }
+
+            @Override
+            public int size() {
+                return (int) filePaths().count();
+            }
+
+            @Override
+            public boolean contains(final Object filePath) {
+                return containsKey(filePath);
+            }
+        };
+
+        @Override
+        public Set<Entry<String, byte[]>> entrySet() {
+            return entries;
+        }
+
+        @Override
+        public Set<String> keySet() {
+            return keys;
+        }
+
+        @Override
+        public boolean containsKey(final Object filePath) {
+            return filePath instanceof String && isFile((String) filePath);
+        }
+
+        @Override
+        public byte[] get(final Object filePath) {
+            return containsKey(filePath) ? getFileContent((String) filePath) : null;
+        }
+
+        private Stream<String> filePaths() {
+            return Stream.concat(files.entrySet().stream().filter(entry -> entry.getValue() != null).map(Entry::getKey),
+                spilledFiles.keySet().stream());
+        }
+    }
+
+    private final class FileEntry implements Map.Entry<String, byte[]> {
+
+        private final String filePath;
+
+        private FileEntry(final String filePath) {
+            this.filePath = filePath;
+        }
+
+        @Override
+        public String getKey() {
+            return filePath;
+        }
+
+        @Override
+        public byte[] getValue() {
+            return getFileContent(filePath);
+        }
+
+        @Override
+        public byte[] setValue(final byte[] value) {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Entries of the same file of this handler are equal without reading the file, any other entry is compared by its content.
+         */
+        @Override
+        public boolean equals(final Object other) {
+            if (!(other instanceof Map.Entry)) {
+                return false;
+            }
+            final Map.Entry<?, ?> entry = (Map.Entry<?, ?>) other;
+            if (!Objects.equals(filePath, entry.getKey())) {
+                return false;
+            }
+            if (entry instanceof FileEntry && ((FileEntry) entry).getHandler() == FileContentHandler.this) {
+                return true;
+            }
+            return entry.getValue() instanceof byte[] && Arrays.equals(getValue(), (byte[]) entry.getValue());
+        }
+
+        /**
+         * Hashes the file path only, so that hashing an entry does not read the file. Equal entries have the same path, so this is consistent
+         * with {@link #equals(Object)}.
+         */
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(filePath);
+        }
+
+        private FileContentHandler getHandler() {
+            return FileContentHandler.this;
+        }
     }
 }
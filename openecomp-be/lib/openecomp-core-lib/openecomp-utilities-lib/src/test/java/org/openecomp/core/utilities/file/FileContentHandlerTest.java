@@ -130,6 +130,92 @@ public class FileContentHandlerTest {
         });
     }
 
+    @Test
+    public void testFilesOverThresholdAreSpilledToDisk() throws IOException {
+        final byte[] bigContent = new byte[100];
+        Arrays.fill(bigContent, (byte) 7);
+        final FileContentHandler contentHandler = new FileContentHandler(10);
+        contentHandler.addFile("small", new byte[]{1, 2, 3});
+        contentHandler.addFile("bigFromBytes", bigContent);
+        contentHandler.addFile("bigFromStream", new ByteArrayInputStream(bigContent));
+        contentHandler.addFolder("folder/");
+
+        final Map<String, byte[]> files = contentHandler.getFiles();
+        assertThat("Should contain the expected number of files", files, aMapWithSize(3));
+        assertTrue(Arrays.equals(bigContent, contentHandler.getFileContent("bigFromBytes")));
+        assertTrue(Arrays.equals(bigContent, files.get("bigFromStream")));
+        try (InputStream inputStream = contentHandler.getFileContentAsStream("bigFromStream")) {
+            assertTrue(Arrays.equals(bigContent, FileUtils.toByteArray(inputStream)));
+        }
+        assertTrue(contentHandler.isFile("bigFromBytes"));
+        assertTrue(contentHandler.isFolder("folder/"));
+
+        final FileContentHandler copy = new FileContentHandler(contentHandler);
+        assertTrue(Arrays.equals(bigContent, contentHandler.remove("bigFromBytes")));
+        assertFalse(contentHandler.getFileList().contains("bigFromBytes"));
+        assertThat("Should be a live view of the files", files, aMapWithSize(2));
+        assertTrue(Arrays.equals(bigContent, copy.getFileContent("bigFromBytes")));
+
+        contentHandler.close();
+        copy.close();
+        assertThat("Should keep only the in memory files", contentHandler.getFileList(), hasSize(1));
+    }
+
+    @Test
+    public void testSpilledFilesAreMovedAndCopiedWithoutReadingThem() {
+        final byte[] bigContent = new byte[100];
+        Arrays.fill(bigContent, (byte) 7);
+        final FileContentHandler contentHandler = new FileContentHandler(10);
+        contentHandler.addFile("big", bigContent);
+        contentHandler.addFile("small", new byte[]{1, 2, 3});
+
+        contentHandler.moveFile("big", "moved/big");
+        contentHandler.moveFile("small", "moved/small");
+        assertFalse(contentHandler.containsFile("big"));
+        assertFalse(contentHandler.containsFile("small"));
+        assertTrue(Arrays.equals(bigContent, contentHandler.getFileContent("moved/big")));
+        assertTrue(Arrays.equals(new byte[]{1, 2, 3}, contentHandler.getFileContent("moved/small")));
+
+        final FileContentHandler artifacts = new FileContentHandler(contentHandler.getSpillThreshold());
+        artifacts.addFile("big", contentHandler, "moved/big");
+        assertTrue(Arrays.equals(bigContent, artifacts.getFileContent("big")));
+        assertTrue(Arrays.equals(bigContent, contentHandler.getFileContent("moved/big")));
+
+        contentHandler.close();
+        artifacts.close();
+    }
+
+    @Test
+    public void testFileEntriesAreComparedByContent() {
+        final byte[] bigContent = new byte[100];
+        Arrays.fill(bigContent, (byte) 7);
+        final FileContentHandler contentHandler = new FileContentHandler(10);
+        contentHandler.addFile("big", bigContent);
+        contentHandler.addFile("small", new byte[]{1, 2, 3});
+        final FileContentHandler copy = new FileContentHandler(contentHandler);
+
+        final Map.Entry<String, byte[]> bigEntry = getFileEntry(contentHandler, "big");
+        final Map.Entry<String, byte[]> smallEntry = getFileEntry(contentHandler, "small");
+        assertEquals(bigEntry, getFileEntry(contentHandler, "big"));
+        assertEquals(bigEntry, getFileEntry(copy, "big"));
+        assertEquals(bigEntry.hashCode(), getFileEntry(copy, "big").hashCode());
+        assertEquals(bigEntry, new AbstractMap.SimpleEntry<>("big", bigContent.clone()));
+        assertEquals(smallEntry, new AbstractMap.SimpleEntry<>("small", new byte[]{1, 2, 3}));
+        assertFalse(smallEntry.equals(new AbstractMap.SimpleEntry<>("small", new byte[]{1, 2})));
+        assertFalse(bigEntry.equals(smallEntry));
+
+        copy.addFile("small", new byte[]{4, 5, 6});
+        assertFalse(smallEntry.equals(getFileEntry(copy, "small")));
+
+        contentHandler.close();
+        copy.close();
+    }
+
+    private static Map.Entry<String, byte[]> getFileEntry(final FileContentHandler contentHandler, final String filePath) {
+        return contentHandler.getFiles().entrySet().stream().filter(entry -> entry.getKey().equals(filePath)).findFirst()
+            .orElseThrow(AssertionError::new);
+    }
+
     private FileContentHandler createFileContentHandler() {
         final FileContentHandler contentHandler = new FileContentHandler();
         final Map<String, byte[]> fileMap = Stream.of(new AbstractMap.SimpleEntry<>("file1", new byte[0]),
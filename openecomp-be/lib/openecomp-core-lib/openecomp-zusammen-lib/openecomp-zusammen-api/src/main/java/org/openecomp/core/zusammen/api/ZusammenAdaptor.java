@@ -33,7 +33,9 @@ import com.amdocs.zusammen.datatypes.item.Resolution;
 import com.amdocs.zusammen.datatypes.itemversion.ItemVersionRevisions;
 import com.amdocs.zusammen.datatypes.itemversion.Tag;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 public interface ZusammenAdaptor {
 
@@ -78,6 +80,14 @@ public interface ZusammenAdaptor {
     Optional<Element> getElement(SessionContext context, ElementContext elementContext,
                                  String elementId); // TODO: 4/3/2017 change to Id
 
+    /**
+     * Gets the elements of the given ids, in the order of the ids, skipping the ones not found
+     */
+    default Collection<Element> getElements(SessionContext context, ElementContext elementContext, List<Id> elementIds) {
+        return elementIds.stream().map(elementId -> getElement(context, elementContext, elementId.getValue())).filter(Optional::isPresent)
+            .map(Optional::get).collect(Collectors.toList());
+    }
+
     Optional<Element> getElementByName(SessionContext context, ElementContext elementContext, Id parentElementId, String elementName);
 
     Collection<ElementInfo> listElements(SessionContext context, ElementContext elementContext, Id parentElementId);
@@ -32,6 +32,7 @@ import com.amdocs.zusammen.datatypes.item.Resolution;
 import com.amdocs.zusammen.datatypes.itemversion.ItemVersionRevisions;
 import com.amdocs.zusammen.datatypes.itemversion.Tag;
 import java.util.Collection;
+import java.util.List;
 
 public interface ZusammenConnector {
 
@@ -85,6 +86,11 @@ public interface ZusammenConnector {
 
     Element getElement(SessionContext context, ElementContext elementContext, Id elementId);
 
+    /**
+     * Gets the elements of the given ids, in the order of the ids
+     */
+    List<Element> getElements(SessionContext context, ElementContext elementContext, List<Id> elementIds);
+
     ElementConflict getElementConflict(SessionContext context, ElementContext elementContext, Id elementId);
 
     Element saveElement(SessionContext context, ElementContext elementContext, Element element, String message);
@@ -39,6 +39,13 @@ import com.amdocs.zusammen.datatypes.itemversion.ItemVersionRevisions;
 import com.amdocs.zusammen.datatypes.itemversion.Tag;
 import com.amdocs.zusammen.datatypes.response.Response;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 import org.openecomp.core.zusammen.db.ZusammenConnector;
 import org.openecomp.core.zusammen.impl.CassandraConnectionInitializer;
 import org.openecomp.sdc.common.errors.SdcRuntimeException;
@@ -47,10 +54,13 @@ public class ZusammenConnectorImpl implements ZusammenConnector {
 
     private static final String GET_ELEMENT_ERR_MSG = "Failed to get element. Item Id: %s, version Id: %s, element Id: %s message: %s";
     private static final String GET_ELEMENT_IN_REV_ERR_MSG = "Failed to get element. Item Id: %s, version Id: %s, revision Id: %s, element Id: %s message: %s";
+    // number of elements fetched concurrently by getElements, zusammen having no query for several elements
+    private static final int ELEMENT_FETCH_PARALLELISM = Integer.getInteger("zusammen.elementFetchParallelism", 8);
     private final ItemAdaptorFactory itemAdaptorFactory;
     private final ItemVersionAdaptorFactory versionAdaptorFactory;
     private final ElementAdaptorFactory elementAdaptorFactory;
     private final HealthAdaptorFactory healthAdaptorFactory;
+    private ExecutorService elementFetchExecutor;
 
     public ZusammenConnectorImpl(ItemAdaptorFactory itemAdaptorFactory, ItemVersionAdaptorFactory versionAdaptorFactory,
                                  ElementAdaptorFactory elementAdaptorFactory, HealthAdaptorFactory healthAdaptorFactory) {
@@ -298,6 +308,27 @@ public class ZusammenConnectorImpl implements ZusammenConnector {
         return response.getValue();
     }
 
+    @Override
+    public List<Element> getElements(SessionContext context, ElementContext elementContext, List<Id> elementIds) {
+        if (elementIds.size() <= 1 || ELEMENT_FETCH_PARALLELISM <= 1) {
+            return elementIds.stream().map(elementId -> getElement(context, elementContext, elementId)).collect(Collectors.toList());
+        }
+        ExecutorService executor = getElementFetchExecutor();
+        List<CompletableFuture<Element>> futures = elementIds.stream()
+            .map(elementId -> CompletableFuture.supplyAsync(() -> getElement(context, elementContext, elementId), executor))
+            .collect(Collectors.toList());
+        try {
+            return futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+        } catch (CompletionException e) {
+            futures.forEach(future -> future.cancel(false));
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new SdcRuntimeException(String.format("Failed to get elements. Item Id: %s, version Id: %s, message: %s",
+                elementContext.getItemId().getValue(), elementContext.getVersionId().getValue(), e.getMessage()), e);
+        }
+    }
+
     @Override
     public ElementConflict getElementConflict(SessionContext context, ElementContext elementContext, Id elementId) {
         Response<ElementConflict> response = elementAdaptorFactory.createInterface(context).getConflict(context, elementContext, elementId);
@@ -333,6 +364,18 @@ public class ZusammenConnectorImpl implements ZusammenConnector {
         // no-op, required by the interface
     }
 
+    private synchronized ExecutorService getElementFetchExecutor() {
+        if (elementFetchExecutor == null) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            elementFetchExecutor = Executors.newFixedThreadPool(ELEMENT_FETCH_PARALLELISM, runnable -> {
+                Thread thread = new Thread(runnable, "zusammen-element-fetch-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return elementFetchExecutor;
+    }
+
     private SdcRuntimeException buildGetElementException(ElementContext elementContext, Id elementId, String zusammenErrorMessage) {
         if (elementContext.getRevisionId() == null) {
             return new SdcRuntimeException(String
@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2016-2017 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openecomp.core.zusammen.impl;
+
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.ElementInfo;
+import com.amdocs.zusammen.datatypes.Id;
+import com.amdocs.zusammen.datatypes.SessionContext;
+import com.amdocs.zusammen.datatypes.item.ElementContext;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Element infos read during a single request, so the DAOs that list the same elements, or look them up by name, in one request read them
+ * once. Elements themselves are not kept since their data is a stream which can be read only once.
+ */
+class ElementInfoCache {
+
+    private final Map<Key, ElementInfo> elementInfos = new HashMap<>();
+    private final Map<Key, Collection<ElementInfo>> subElementInfos = new HashMap<>();
+
+    ElementInfo getElementInfo(SessionContext context, ElementContext elementContext, Id elementId, Supplier<ElementInfo> loader) {
+        Key key = new Key(context, elementContext, elementId);
+        ElementInfo elementInfo = elementInfos.get(key);
+        if (elementInfo == null) {
+            elementInfo = loader.get();
+            if (elementInfo != null) {
+                elementInfos.put(key, elementInfo);
+            }
+        }
+        return elementInfo;
+    }
+
+    Collection<ElementInfo> listElements(SessionContext context, ElementContext elementContext, Id parentElementId,
+                                         Supplier<Collection<ElementInfo>> loader) {
+        Key key = new Key(context, elementContext, parentElementId);
+        Collection<ElementInfo> cached = subElementInfos.get(key);
+        if (cached == null) {
+            Collection<ElementInfo> loaded = loader.get();
+            if (loaded == null) {
+                return null;
+            }
+            cached = new ArrayList<>(loaded);
+            subElementInfos.put(key, cached);
+        }
+        return new ArrayList<>(cached);
+    }
+
+    void clear() {
+        elementInfos.clear();
+        subElementInfos.clear();
+    }
+
+    @EqualsAndHashCode
+    private static final class Key {
+
+        private final String user;
+        private final String tenant;
+        private final String itemId;
+        private final String versionId;
+        private final String revisionId;
+        private final String elementId;
+
+        private Key(SessionContext context, ElementContext elementContext, Id elementId) {
+            this.user = context.getUser() == null ? null : context.getUser().getUserName();
+            this.tenant = context.getTenant();
+            this.itemId = getValue(elementContext.getItemId());
+            this.versionId = getValue(elementContext.getVersionId());
+            this.revisionId = getValue(elementContext.getRevisionId());
+            this.elementId = getValue(elementId);
+        }
+
+        private static String getValue(Id id) {
+            return id == null ? null : id.getValue();
+        }
+    }
+}
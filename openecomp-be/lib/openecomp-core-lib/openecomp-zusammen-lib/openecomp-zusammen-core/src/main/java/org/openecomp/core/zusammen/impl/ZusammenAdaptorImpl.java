@@ -35,11 +35,14 @@ import com.amdocs.zusammen.datatypes.itemversion.ItemVersionRevisions;
 import com.amdocs.zusammen.datatypes.itemversion.Tag;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.openecomp.core.zusammen.api.ZusammenAdaptor;
 import org.openecomp.core.zusammen.db.ZusammenConnector;
+import org.openecomp.sdc.common.session.SessionScopedCache;
 
 public class ZusammenAdaptorImpl implements ZusammenAdaptor {
 
@@ -51,7 +54,10 @@ public class ZusammenAdaptorImpl implements ZusammenAdaptor {
 
     @Override
     public Optional<ElementInfo> getElementInfo(SessionContext context, ElementContext elementContext, Id elementId) {
-        return Optional.ofNullable(connector.getElementInfo(context, elementContext, elementId));
+        Optional<ElementInfoCache> cache = getElementInfoCache();
+        return Optional.ofNullable(cache.isPresent() ? cache.get()
+            .getElementInfo(context, elementContext, elementId, () -> connector.getElementInfo(context, elementContext, elementId))
+            : connector.getElementInfo(context, elementContext, elementId));
     }
 
     @Override
@@ -59,37 +65,44 @@ public class ZusammenAdaptorImpl implements ZusammenAdaptor {
         return Optional.ofNullable(connector.getElement(context, elementContext, new Id(elementId)));
     }
 
+    @Override
+    public Collection<Element> getElements(SessionContext context, ElementContext elementContext, List<Id> elementIds) {
+        if (elementIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return connector.getElements(context, elementContext, elementIds).stream().filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
     @Override
     public Optional<Element> getElementByName(SessionContext context, ElementContext elementContext, Id parentElementId, String elementName) {
-        Collection<ElementInfo> elementInfos = connector.listElements(context, elementContext, parentElementId);
-        Predicate<ElementInfo> elementInfoPredicate = elementInfo -> elementInfo.getInfo() != null && elementName
-            .equals(elementInfo.getInfo().getName());
-        return getFirstElementInfo(elementInfos, elementInfoPredicate)
+        return getElementInfoByName(context, elementContext, parentElementId, elementName)
             .flatMap(elementInfo -> getElement(context, elementContext, elementInfo.getId().getValue()));
     }
 
     @Override
     public Collection<ElementInfo> listElements(SessionContext context, ElementContext elementContext, Id parentElementId) {
-        return connector.listElements(context, elementContext, parentElementId);
+        Optional<ElementInfoCache> cache = getElementInfoCache();
+        return cache.isPresent() ? cache.get()
+            .listElements(context, elementContext, parentElementId, () -> connector.listElements(context, elementContext, parentElementId))
+            : connector.listElements(context, elementContext, parentElementId);
     }
 
     @Override
     public Collection<Element> listElementData(SessionContext context, ElementContext elementContext, Id parentElementId) {
-        Collection<ElementInfo> elementInfoList = connector.listElements(context, elementContext, parentElementId);
+        Collection<ElementInfo> elementInfoList = listElements(context, elementContext, parentElementId);
         return elementInfoList == null ? new ArrayList<>()
-            : elementInfoList.stream().map(elementInfo -> connector.getElement(context, elementContext, elementInfo.getId()))
-                .collect(Collectors.toList());
+            : connector.getElements(context, elementContext, elementInfoList.stream().map(ElementInfo::getId).collect(Collectors.toList()));
     }
 
     @Override
     public Collection<ElementInfo> listElementsByName(SessionContext context, ElementContext elementContext, Id parentElementId, String elementName) {
         Optional<ElementInfo> elementInfoByName = getElementInfoByName(context, elementContext, parentElementId, elementName);
-        return elementInfoByName.isPresent() ? connector.listElements(context, elementContext, elementInfoByName.get().getId()) : new ArrayList<>();
+        return elementInfoByName.isPresent() ? listElements(context, elementContext, elementInfoByName.get().getId()) : new ArrayList<>();
     }
 
     @Override
     public Optional<ElementInfo> getElementInfoByName(SessionContext context, ElementContext elementContext, Id parentElementId, String elementName) {
-        Collection<ElementInfo> elementInfos = connector.listElements(context, elementContext, parentElementId);
+        Collection<ElementInfo> elementInfos = listElements(context, elementContext, parentElementId);
         return getFirstElementInfo(elementInfos, elementInfo -> elementInfo.getInfo() != null && elementName.equals(elementInfo.getInfo().getName()));
     }
 
@@ -101,11 +114,13 @@ public class ZusammenAdaptorImpl implements ZusammenAdaptor {
     @Override
     public Element saveElement(SessionContext context, ElementContext elementContext, ZusammenElement element, String message) {
         enrichElementHierarchyRec(context, elementContext, null, element);
+        clearElementInfoCache();
         return connector.saveElement(context, elementContext, element, message);
     }
 
     @Override
     public void resolveElementConflict(SessionContext context, ElementContext elementContext, ZusammenElement element, Resolution resolution) {
+        clearElementInfoCache();
         connector.resolveElementConflict(context, elementContext, element, resolution);
     }
 
@@ -137,6 +152,14 @@ public class ZusammenAdaptorImpl implements ZusammenAdaptor {
         }
     }
 
+    private Optional<ElementInfoCache> getElementInfoCache() {
+        return SessionScopedCache.get(ElementInfoCache.class, ElementInfoCache::new);
+    }
+
+    private void clearElementInfoCache() {
+        getElementInfoCache().ifPresent(ElementInfoCache::clear);
+    }
+
     private Optional<ElementInfo> getFirstElementInfo(Collection<ElementInfo> elementInfos, Predicate<ElementInfo> elementInfoPredicate) {
         return elementInfos.stream().filter(elementInfoPredicate).findFirst();
     }
@@ -158,6 +181,7 @@ public class ZusammenAdaptorImpl implements ZusammenAdaptor {
 
     @Override
     public void deleteItem(SessionContext context, Id itemId) {
+        clearElementInfoCache();
         connector.deleteItem(context, itemId);
     }
 
@@ -208,31 +232,37 @@ public class ZusammenAdaptorImpl implements ZusammenAdaptor {
 
     @Override
     public void resetVersionHistory(SessionContext context, Id itemId, Id versionId, String changeRef) {
+        clearElementInfoCache();
         connector.resetVersionHistory(context, itemId, versionId, changeRef);
     }
 
     @Override
     public void publishVersion(SessionContext context, Id itemId, Id versionId, String message) {
+        clearElementInfoCache();
         connector.publishVersion(context, itemId, versionId, message);
     }
 
     @Override
     public void syncVersion(SessionContext context, Id itemId, Id versionId) {
+        clearElementInfoCache();
         connector.syncVersion(context, itemId, versionId);
     }
 
     @Override
     public void forceSyncVersion(SessionContext context, Id itemId, Id versionId) {
+        clearElementInfoCache();
         connector.forceSyncVersion(context, itemId, versionId);
     }
 
     @Override
     public void cleanVersion(SessionContext context, Id itemId, Id versionId) {
+        clearElementInfoCache();
         connector.cleanVersion(context, itemId, versionId);
     }
 
     @Override
     public void revert(SessionContext context, Id itemId, Id versionId, Id revisionId) {
+        clearElementInfoCache();
         connector.revertVersionRevision(context, itemId, versionId, revisionId);
     }
 
@@ -23,6 +23,7 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.amdocs.zusammen.adaptor.inbound.api.types.item.Element;
@@ -45,6 +46,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.openecomp.core.zusammen.db.ZusammenConnector;
+import org.openecomp.sdc.common.session.SessionScopedCache;
 
 public class ZusammenAdaptorImplTest {
 
@@ -118,15 +120,35 @@ public class ZusammenAdaptorImplTest {
 
         List<ZusammenElement> returnedElements =
                 Arrays.asList(new ZusammenElement(), new ZusammenElement(), new ZusammenElement());
-        doReturn(returnedElements.get(0)).when(connector).getElement(CONTEXT, ELEMENT_CONTEXT, ELEMENTS.get(0).getId());
-        doReturn(returnedElements.get(1)).when(connector).getElement(CONTEXT, ELEMENT_CONTEXT, ELEMENTS.get(1).getId());
-        doReturn(returnedElements.get(2)).when(connector).getElement(CONTEXT, ELEMENT_CONTEXT, ELEMENTS.get(2).getId());
+        doReturn(returnedElements).when(connector).getElements(CONTEXT, ELEMENT_CONTEXT,
+                Arrays.asList(ELEMENTS.get(0).getId(), ELEMENTS.get(1).getId(), ELEMENTS.get(2).getId()));
 
         Collection<Element> elements = zusammenAdaptor.listElementData(CONTEXT, ELEMENT_CONTEXT, ELEMENT_ID);
 
         assertEquals(returnedElements, elements);
     }
 
+    @Test
+    public void listElementsOnceInRequestUntilElementIsSaved() {
+        doReturn(ELEMENTS).when(connector).listElements(CONTEXT, ELEMENT_CONTEXT, ELEMENT_ID);
+        SessionScopedCache.open();
+        try {
+            zusammenAdaptor.getElementInfoByName(CONTEXT, ELEMENT_CONTEXT, ELEMENT_ID, "element1");
+            Collection<ElementInfo> elements = zusammenAdaptor.listElements(CONTEXT, ELEMENT_CONTEXT, ELEMENT_ID);
+            assertEquals(ELEMENTS, elements);
+            verify(connector, times(1)).listElements(CONTEXT, ELEMENT_CONTEXT, ELEMENT_ID);
+
+            ZusammenElement element = new ZusammenElement();
+            element.setElementId(ELEMENTS.get(0).getId());
+            element.setAction(Action.UPDATE);
+            zusammenAdaptor.saveElement(CONTEXT, ELEMENT_CONTEXT, element, "message");
+            zusammenAdaptor.listElements(CONTEXT, ELEMENT_CONTEXT, ELEMENT_ID);
+            verify(connector, times(2)).listElements(CONTEXT, ELEMENT_CONTEXT, ELEMENT_ID);
+        } finally {
+            SessionScopedCache.close();
+        }
+    }
+
     @Test
     public void getEmptyListWhenParentElementNameNotExist() {
         doReturn(ELEMENTS).when(connector).listElements(CONTEXT, ELEMENT_CONTEXT, ELEMENT_ID);
@@ -17,11 +17,12 @@ package org.openecomp.sdc.heat.services.tree;
 
 import java.io.File;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.regex.Pattern;
-import org.openecomp.core.utilities.file.FileContentHandler;
 import org.openecomp.sdc.common.utils.SdcCommon;
 import org.openecomp.sdc.datatypes.error.ErrorMessage;
 import org.openecomp.sdc.heat.datatypes.structure.HeatStructureTree;
@@ -31,7 +32,8 @@ import org.openecomp.sdc.heat.datatypes.structure.HeatStructureTree;
  */
 public class ToscaTreeManager {
 
-    private FileContentHandler csarContentMap = new FileContentHandler();
+    // only the names of the files make the tree, their content is not kept
+    private Set<String> csarFileNames = new HashSet<>();
     private HeatStructureTree tree = new HeatStructureTree();
     private Map<String, HeatStructureTree> fileTreeRef = new HashMap<>();
 
@@ -42,8 +44,17 @@ public class ToscaTreeManager {
      * @param content  the content
      */
     public void addFile(String fileName, byte[] content) {
+        addFile(fileName);
+    }
+
+    /**
+     * Add file.
+     *
+     * @param fileName the file name
+     */
+    public void addFile(String fileName) {
         if (!fileName.equals(SdcCommon.CSAR_MANIFEST_NAME)) {
-            csarContentMap.addFile(fileName, content);
+            csarFileNames.add(fileName);
         }
     }
 
@@ -51,8 +62,8 @@ public class ToscaTreeManager {
      * Create tree.
      */
     public void createTree() {
-        for (Map.Entry<String, byte[]> fileEntry : csarContentMap.getFiles().entrySet()) {
-            String[] splitFilename = getFullFileNameAsArray(fileEntry.getKey());
+        for (String fileName : csarFileNames) {
+            String[] splitFilename = getFullFileNameAsArray(fileName);
             addFileToTree(splitFilename, 0, splitFilename[0], tree);
         }
     }
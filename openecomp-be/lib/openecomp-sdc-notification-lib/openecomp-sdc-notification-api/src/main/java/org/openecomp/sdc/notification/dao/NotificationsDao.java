@@ -21,6 +21,7 @@ package org.openecomp.sdc.notification.dao;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.openecomp.core.dao.BaseDao;
 import org.openecomp.sdc.notification.dao.types.NotificationEntity;
@@ -36,6 +37,15 @@ public interface NotificationsDao extends BaseDao<NotificationEntity> {
 
     List<NotificationEntity> getNewNotificationsByOwnerId(String ownerId, UUID eventId, int limit);
 
+    /**
+     * Reads the notifications of several owners at once.
+     *
+     * @param lastEventIds the last event delivered to each owner, null when nothing was delivered yet
+     * @param limit        maximum number of notifications returned per owner
+     * @return the newest notifications of the owners that have ones after their last delivered event, newest first
+     */
+    Map<String, List<NotificationEntity>> getNewNotificationsByOwnerIds(Map<String, UUID> lastEventIds, int limit);
+
     NotificationsStatus getNotificationsStatus(String ownerId, UUID lastSeenNotification, int numOfRecordsToReturn);
 
     NotificationsStatus getNotificationsStatus(String ownerId, UUID lastSeenNotification, int numOfRecordsToReturn, UUID prevLastNotification);
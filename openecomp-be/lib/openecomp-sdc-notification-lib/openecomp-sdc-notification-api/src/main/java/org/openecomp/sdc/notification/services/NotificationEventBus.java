@@ -0,0 +1,45 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.notification.services;
+
+import java.util.List;
+import org.openecomp.sdc.notification.dao.types.NotificationEntity;
+
+/**
+ * Delivers the notifications persisted by the propagation service to the listeners waiting for them, so they do not have to poll the notifications
+ * table to learn about new ones.
+ */
+public interface NotificationEventBus {
+
+    void publish(List<NotificationEntity> notifications);
+
+    void subscribe(NotificationListener listener);
+
+    void unsubscribe(NotificationListener listener);
+
+    /**
+     * Called on the publishing thread, so it must return quickly.
+     */
+    @FunctionalInterface
+    interface NotificationListener {
+
+        void onNotifications(List<NotificationEntity> notifications);
+    }
+}
@@ -20,6 +20,7 @@
 package org.openecomp.sdc.notification.services;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.openecomp.sdc.notification.dao.types.LastSeenNotificationEntity;
 import org.openecomp.sdc.notification.dao.types.NotificationEntity;
@@ -45,4 +46,6 @@ public interface NotificationsService {
     List<NotificationEntity> getNewNotificationsByOwnerId(String ownerId, UUID eventId);
 
     List<NotificationEntity> getNewNotificationsByOwnerId(String ownerId, UUID eventId, int limit);
+
+    Map<String, List<NotificationEntity>> getNewNotificationsByOwnerIds(Map<String, UUID> lastEventIds, int limit);
 }
@@ -32,7 +32,10 @@ import com.datastax.driver.mapping.annotations.Query;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -48,6 +51,7 @@ import org.openecomp.sdc.notification.dtos.NotificationsStatus;
 //import java.util.Optional;
 public class NotificationsDaoCassandraImpl extends CassandraBaseDao<NotificationEntity> implements NotificationsDao {
 
+    private static final int MAX_OWNERS_PER_QUERY = 100;
     private static final NoSqlDb noSqlDb = NoSqlDbFactory.getInstance().createInterface();
     private static final Mapper<NotificationEntity> mapper = noSqlDb.getMappingManager().mapper(NotificationEntity.class);
     private static final NotificationsAccessor accessor = noSqlDb.getMappingManager().createAccessor(NotificationsAccessor.class);
@@ -85,6 +89,39 @@ public class NotificationsDaoCassandraImpl extends CassandraBaseDao<Notification
         return accessor.getNewNotifications(ownerId, eventId, limit).all();
     }
 
+    @Override
+    public Map<String, List<NotificationEntity>> getNewNotificationsByOwnerIds(Map<String, UUID> lastEventIds, int limit) {
+        Map<String, List<NotificationEntity>> notifications = new HashMap<>();
+        List<String> ownersWithoutEvent = new ArrayList<>();
+        List<String> ownersWithEvent = new ArrayList<>();
+        lastEventIds.forEach((ownerId, eventId) -> (eventId == null ? ownersWithoutEvent : ownersWithEvent).add(ownerId));
+        for (List<String> ownerIds : partition(ownersWithoutEvent)) {
+            accessor.getOwnersNotifications(ownerIds, limit).forEach(entity -> addNotification(notifications, entity));
+        }
+        for (List<String> ownerIds : partition(ownersWithEvent)) {
+            // one range for all the owners, starting at the oldest of their events, the newer events of each owner are filtered below
+            UUID oldestEventId = ownerIds.stream().map(lastEventIds::get).min(Comparator.comparingLong(UUID::timestamp)).orElse(null);
+            accessor.getOwnersNewNotifications(ownerIds, oldestEventId, limit).forEach(entity -> {
+                if (entity.getEventId().timestamp() > lastEventIds.get(entity.getOwnerId()).timestamp()) {
+                    addNotification(notifications, entity);
+                }
+            });
+        }
+        return notifications;
+    }
+
+    private static void addNotification(Map<String, List<NotificationEntity>> notifications, NotificationEntity entity) {
+        notifications.computeIfAbsent(entity.getOwnerId(), ownerId -> new ArrayList<>()).add(entity);
+    }
+
+    private static List<List<String>> partition(List<String> ownerIds) {
+        List<List<String>> partitions = new ArrayList<>();
+        for (int i = 0; i < ownerIds.size(); i += MAX_OWNERS_PER_QUERY) {
+            partitions.add(ownerIds.subList(i, Math.min(i + MAX_OWNERS_PER_QUERY, ownerIds.size())));
+        }
+        return partitions;
+    }
+
     @Override
     public void markNotificationAsRead(String ownerId, Collection<UUID> eventIds) {
         eventIds.forEach(eventId -> accessor.markAsRead(ownerId, eventId));
@@ -190,6 +227,12 @@ public class NotificationsDaoCassandraImpl extends CassandraBaseDao<Notification
         @Query("select * from notifications where owner_id=? and event_id > ? limit ?")
         Result<NotificationEntity> getNewNotifications(String ownerId, UUID lastScannedEventId, int limit);
 
+        @Query("select * from notifications where owner_id in ? per partition limit ?")
+        Result<NotificationEntity> getOwnersNotifications(List<String> ownerIds, int limit);
+
+        @Query("select * from notifications where owner_id in ? and event_id > ? per partition limit ?")
+        Result<NotificationEntity> getOwnersNewNotifications(List<String> ownerIds, UUID lastScannedEventId, int limit);
+
         @Query("select * from notifications where owner_id=? and event_id < ? limit ?")
         Result<NotificationEntity> getPrevNotifications(String ownerId, UUID prevLastScannedEventId, int limit);
 
@@ -19,6 +19,7 @@
  */
 package org.openecomp.sdc.notification.factories.impl;
 
+import org.openecomp.sdc.notification.factories.NotificationEventBusFactory;
 import org.openecomp.sdc.notification.factories.NotificationsDaoFactory;
 import org.openecomp.sdc.notification.factories.PropagationServiceFactory;
 import org.openecomp.sdc.notification.services.PropagationService;
@@ -26,7 +27,8 @@ import org.openecomp.sdc.notification.services.impl.PropagationServiceImpl;
 
 public class PropagationServiceFactoryImpl extends PropagationServiceFactory {
 
-    private static final PropagationService INSTANCE = new PropagationServiceImpl(NotificationsDaoFactory.getInstance().createInterface());
+    private static final PropagationService INSTANCE = new PropagationServiceImpl(NotificationsDaoFactory.getInstance().createInterface(),
+        NotificationEventBusFactory.getInstance().createInterface());
 
     @Override
     public PropagationService createInterface() {
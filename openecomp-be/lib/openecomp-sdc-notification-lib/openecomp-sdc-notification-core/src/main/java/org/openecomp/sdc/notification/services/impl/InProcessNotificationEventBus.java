@@ -0,0 +1,66 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.notification.services.impl;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.apache.commons.collections4.CollectionUtils;
+import org.openecomp.sdc.logging.api.Logger;
+import org.openecomp.sdc.logging.api.LoggerFactory;
+import org.openecomp.sdc.notification.dao.types.NotificationEntity;
+import org.openecomp.sdc.notification.services.NotificationEventBus;
+
+/**
+ * Delivers the notifications to the listeners of the same application instance. Listeners of other instances learn about them from the
+ * notifications table.
+ */
+public class InProcessNotificationEventBus implements NotificationEventBus {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InProcessNotificationEventBus.class);
+    private final List<NotificationListener> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(List<NotificationEntity> notifications) {
+        if (CollectionUtils.isEmpty(notifications)) {
+            return;
+        }
+        for (NotificationListener listener : listeners) {
+            try {
+                listener.onNotifications(notifications);
+            } catch (RuntimeException e) {
+                LOGGER.error("Notification listener failed to handle {} notifications", notifications.size(), e);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(NotificationListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void unsubscribe(NotificationListener listener) {
+        listeners.remove(listener);
+    }
+
+    public int getListenerCount() {
+        return listeners.size();
+    }
+}
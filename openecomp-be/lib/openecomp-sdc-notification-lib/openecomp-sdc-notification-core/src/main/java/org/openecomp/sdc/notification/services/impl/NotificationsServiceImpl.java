@@ -20,6 +20,7 @@
 package org.openecomp.sdc.notification.services.impl;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import org.openecomp.sdc.notification.dao.LastNotificationDao;
@@ -98,4 +99,9 @@ public class NotificationsServiceImpl implements NotificationsService {
     public List<NotificationEntity> getNewNotificationsByOwnerId(String ownerId, UUID eventId, int limit) {
         return notificationsDao.getNewNotificationsByOwnerId(ownerId, eventId, limit);
     }
+
+    @Override
+    public Map<String, List<NotificationEntity>> getNewNotificationsByOwnerIds(Map<String, UUID> lastEventIds, int limit) {
+        return notificationsDao.getNewNotificationsByOwnerIds(lastEventIds, limit);
+    }
 }
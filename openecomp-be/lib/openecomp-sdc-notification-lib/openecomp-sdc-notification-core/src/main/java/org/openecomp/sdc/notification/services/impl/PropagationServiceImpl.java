@@ -32,14 +32,21 @@ import org.openecomp.sdc.destinationprovider.DestinationProvider;
 import org.openecomp.sdc.notification.dao.NotificationsDao;
 import org.openecomp.sdc.notification.dao.types.NotificationEntity;
 import org.openecomp.sdc.notification.dtos.Event;
+import org.openecomp.sdc.notification.services.NotificationEventBus;
 import org.openecomp.sdc.notification.services.PropagationService;
 
 public class PropagationServiceImpl implements PropagationService {
 
     private NotificationsDao notificationsDao;
+    private NotificationEventBus notificationEventBus;
 
     public PropagationServiceImpl(NotificationsDao notificationsDao) {
+        this(notificationsDao, null);
+    }
+
+    public PropagationServiceImpl(NotificationsDao notificationsDao, NotificationEventBus notificationEventBus) {
         this.notificationsDao = notificationsDao;
+        this.notificationEventBus = notificationEventBus;
     }
 
     @Override
@@ -56,6 +63,9 @@ public class PropagationServiceImpl implements PropagationService {
         }).collect(Collectors.toList());
         if (CollectionUtils.isNotEmpty(notificationEntities)) {
             notificationsDao.createBatch(notificationEntities);
+            if (notificationEventBus != null) {
+                notificationEventBus.publish(notificationEntities);
+            }
         }
     }
 
@@ -0,0 +1,70 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.notification.services.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+import org.openecomp.sdc.notification.dao.types.NotificationEntity;
+import org.openecomp.sdc.notification.services.NotificationEventBus.NotificationListener;
+
+public class InProcessNotificationEventBusTest {
+
+    private final InProcessNotificationEventBus eventBus = new InProcessNotificationEventBus();
+
+    @Test
+    public void shouldDeliverPublishedNotificationsToSubscribedListeners() {
+        List<List<NotificationEntity>> received = new ArrayList<>();
+        NotificationListener listener = received::add;
+        eventBus.subscribe(listener);
+        List<NotificationEntity> notifications = Collections.singletonList(new NotificationEntity("owner"));
+        eventBus.publish(notifications);
+        assertEquals(1, received.size());
+        assertSame(notifications, received.get(0));
+        eventBus.unsubscribe(listener);
+        eventBus.publish(notifications);
+        assertEquals(1, received.size());
+        assertEquals(0, eventBus.getListenerCount());
+    }
+
+    @Test
+    public void shouldDeliverToOtherListenersWhenOneFails() {
+        List<List<NotificationEntity>> received = new ArrayList<>();
+        eventBus.subscribe(notifications -> {
+            throw new IllegalStateException("closed");
+        });
+        eventBus.subscribe(received::add);
+        eventBus.publish(Collections.singletonList(new NotificationEntity("owner")));
+        assertEquals(1, received.size());
+    }
+
+    @Test
+    public void shouldNotDeliverEmptyNotifications() {
+        List<List<NotificationEntity>> received = new ArrayList<>();
+        eventBus.subscribe(received::add);
+        eventBus.publish(Collections.emptyList());
+        assertTrue(received.isEmpty());
+    }
+}
@@ -29,6 +29,7 @@ import org.mockito.*;
 import org.openecomp.sdc.destinationprovider.DestinationProvider;
 import org.openecomp.sdc.notification.dao.NotificationsDao;
 import org.openecomp.sdc.notification.dtos.Event;
+import org.openecomp.sdc.notification.services.NotificationEventBus;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -75,6 +76,16 @@ public class PropagationServiceImplTest {
         Assert.assertEquals(createBatchCaptor.getValue().size(), subscribersList.size());
     }
 
+    @Test
+    public void shouldPublishNotificationEntitiesAfterCreatingThem() throws Exception {
+        NotificationEventBus notificationEventBusMock = mock(NotificationEventBus.class);
+        doReturn(subscribersList).when(destinationProviderMock).getSubscribers();
+        new PropagationServiceImpl(notificationsDaoMock, notificationEventBusMock).notify(eventMock, destinationProviderMock);
+        InOrder inOrder = inOrder(notificationsDaoMock, notificationEventBusMock);
+        inOrder.verify(notificationsDaoMock).createBatch(createBatchCaptor.capture());
+        inOrder.verify(notificationEventBusMock).publish(createBatchCaptor.getValue());
+    }
+
     @Test
     public void shouldNotCallNotificationDaoIfSubscriberIsNull() throws Exception {
         doReturn(Collections.EMPTY_LIST).when(destinationProviderMock).getSubscribers();
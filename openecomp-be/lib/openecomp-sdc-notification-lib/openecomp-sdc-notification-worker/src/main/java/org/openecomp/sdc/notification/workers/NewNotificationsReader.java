@@ -19,10 +19,36 @@
  */
 package org.openecomp.sdc.notification.workers;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import org.openecomp.sdc.notification.types.NotificationsStatusDto;
 
 public interface NewNotificationsReader {
 
     NotificationsStatusDto getNewNotifications(String ownerId, UUID eventId, int limit);
+
+    /**
+     * Reads the new notifications of several owners, possibly waiting a while for some to be published.
+     *
+     * @param lastEventIds the last event delivered to each owner, null when nothing was delivered yet
+     * @return the new notifications of each owner that has some, null when they could not be read
+     */
+    default Map<String, NotificationsStatusDto> getNewNotifications(Map<String, UUID> lastEventIds, int limit) {
+        Map<String, NotificationsStatusDto> notifications = new HashMap<>();
+        lastEventIds.forEach((ownerId, eventId) -> {
+            NotificationsStatusDto status = getNewNotifications(ownerId, eventId, limit);
+            if (Objects.nonNull(status)) {
+                notifications.put(ownerId, status);
+            }
+        });
+        return notifications;
+    }
+
+    /**
+     * Ends a pending wait for notifications, so the owners registered meanwhile are read without delay.
+     */
+    default void wakeUp() {
+    }
 }
@@ -43,6 +43,7 @@ public class NotificationWorker {
     private int selectionLimit = DEFAULT_SELECTION_LIMIT;
     private int pollingSleepInterval = DEFAULT_POLLING_INTERVAL;
     private NewNotificationsReader news = null;
+    private volatile boolean usersChanged = false;
 
     public NotificationWorker(NewNotificationsReader news) {
         NotificationConfigurationManager cm = NotificationConfigurationManager.getInstance();
@@ -63,6 +64,8 @@ public class NotificationWorker {
         NotificationReceiver receiver = new NotificationReceiver(ownerId, lastDelivered, notesProcessor);
         activeUsers.put(ownerId, receiver);
         LOGGER.debug("User {} is registered with eventId: {}", ownerId, receiver.getLastEventId());
+        usersChanged = true;
+        news.wakeUp();
     }
 
     public void unregister(String ownerId) {
@@ -81,8 +84,14 @@ public class NotificationWorker {
         public void run() {
             try {
                 while (!stopRunning) {
-                    pollNotifications();
-                    Thread.sleep(pollingSleepInterval);
+                    usersChanged = false;
+                    long start = System.currentTimeMillis();
+                    boolean delivered = pollNotifications();
+                    long remaining = pollingSleepInterval - (System.currentTimeMillis() - start);
+                    // the reader may have waited for new notifications already, and users registered meanwhile are read right away
+                    if (!delivered && !usersChanged && remaining > 0) {
+                        Thread.sleep(remaining);
+                    }
                 }
             } catch (InterruptedException e) {
                 LOGGER.error("Interrupted Exception during Notification poller launch.", e);
@@ -90,18 +99,33 @@ public class NotificationWorker {
             }
         }
 
-        private void pollNotifications() {
-            Map<String, NotificationReceiver> currUsers = new HashMap<>();
-            currUsers.putAll(getActiveUsers());
-            for (NotificationReceiver receiver : currUsers.values()) {
-                String ownerId = receiver.getOwnerId();
-                UUID eventId = receiver.getLastEventId();
-                NotificationsStatusDto status = news.getNewNotifications(ownerId, eventId, selectionLimit);
-                if (Objects.nonNull(status) && CollectionUtils.isNotEmpty(status.getNotifications())) {
+        /**
+         * Reads the new notifications of all the active users at once.
+         *
+         * @return whether notifications were delivered to some users
+         */
+        private boolean pollNotifications() {
+            Map<String, NotificationReceiver> currUsers = new HashMap<>(getActiveUsers());
+            if (currUsers.isEmpty()) {
+                return false;
+            }
+            Map<String, UUID> lastEventIds = new HashMap<>();
+            currUsers.forEach((ownerId, receiver) -> lastEventIds.put(ownerId, receiver.getLastEventId()));
+            Map<String, NotificationsStatusDto> notifications = news.getNewNotifications(lastEventIds, selectionLimit);
+            if (Objects.isNull(notifications)) {
+                return false;
+            }
+            boolean delivered = false;
+            for (Map.Entry<String, NotificationsStatusDto> entry : notifications.entrySet()) {
+                NotificationReceiver receiver = currUsers.get(entry.getKey());
+                NotificationsStatusDto status = entry.getValue();
+                if (Objects.nonNull(receiver) && Objects.nonNull(status) && CollectionUtils.isNotEmpty(status.getNotifications())) {
                     receiver.setLastEventId(status.getLastScanned());
                     receiver.getNotesProcessor().accept(status);
+                    delivered = true;
                 }
             }
+            return delivered;
         }
     }
 }
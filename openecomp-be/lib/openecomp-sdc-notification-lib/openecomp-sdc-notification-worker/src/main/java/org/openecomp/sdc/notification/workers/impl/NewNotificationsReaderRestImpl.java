@@ -19,59 +19,152 @@
  */
 package org.openecomp.sdc.notification.workers.impl;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import java.io.InputStreamReader;
+import java.io.IOException;
+import java.util.Map;
 import java.util.UUID;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
-import org.apache.http.HttpResponse;
-import org.apache.http.client.HttpClient;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpDelete;
 import org.apache.http.client.methods.HttpGet;
-import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.util.EntityUtils;
 import org.openecomp.sdc.logging.api.Logger;
 import org.openecomp.sdc.logging.api.LoggerFactory;
 import org.openecomp.sdc.notification.config.NotificationConfigurationManager;
 import org.openecomp.sdc.notification.types.NotificationsStatusDto;
 import org.openecomp.sdc.notification.workers.NewNotificationsReader;
 
+/**
+ * Reads the notifications from the onboarding BE through a single pooled http client. The notifications of all the owners are read by one request,
+ * which the BE holds until some of them have new notifications or the long polling timeout elapses.
+ */
 public class NewNotificationsReaderRestImpl implements NewNotificationsReader {
 
     private static final String USER_ID_HEADER_PARAM = "USER_ID";
     private static final String LAST_DELIVERED_QUERY_PARAM = "LAST_DELIVERED_EVENT_ID";
     private static final String LIMIT_QUERY_PARAM = "NOTIFICATION_ROWS_LIMIT";
+    private static final String WAIT_QUERY_PARAM = "WAIT_MSEC";
+    private static final String POLL_ID_QUERY_PARAM = "POLL_ID";
     private static final String BE_HOST = "beHost";
     private static final String BE_PORT = "beHttpPort";
+    private static final String LONG_POLLING_TIMEOUT = "longPollingTimeoutMsec";
     private static final String DEFAULT_BE_HOST = "localhost";
     private static final int DEFAULT_BE_PORT = 8080;
+    private static final int DEFAULT_LONG_POLLING_TIMEOUT = 20000;
+    private static final int CONNECT_TIMEOUT = 5000;
+    // margin over the long polling timeout for the BE to read and send the notifications
+    private static final int READ_TIMEOUT_MARGIN = 30000;
+    private static final int MAX_CONNECTIONS = 10;
     private static final String URL = "http://%s:%d/onboarding-api/v1.0/notifications/worker?";
+    private static final String CANCEL_URL = "http://%s:%d/onboarding-api/v1.0/notifications/worker/%s";
     private static final ObjectMapper mapper = new ObjectMapper();
+    private static final TypeReference<Map<String, NotificationsStatusDto>> NOTIFICATIONS_BY_OWNER = new TypeReference<>() {
+    };
     private static final Logger LOGGER = LoggerFactory.getLogger(NewNotificationsReaderRestImpl.class);
     private static String beHost;
     private static int bePort;
+    private final int longPollingTimeout;
+    private final CloseableHttpClient client;
+    private volatile HttpPost pendingRequest;
+    private volatile boolean wakeUpRequested;
 
     public NewNotificationsReaderRestImpl() {
         NotificationConfigurationManager cm = NotificationConfigurationManager.getInstance();
         bePort = cm.getConfigValue(BE_PORT, DEFAULT_BE_PORT);
         beHost = cm.getConfigValue(BE_HOST, DEFAULT_BE_HOST);
+        longPollingTimeout = Math.max(0, cm.getConfigValue(LONG_POLLING_TIMEOUT, DEFAULT_LONG_POLLING_TIMEOUT));
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(MAX_CONNECTIONS);
+        connectionManager.setDefaultMaxPerRoute(MAX_CONNECTIONS);
+        RequestConfig requestConfig = RequestConfig.custom().setConnectTimeout(CONNECT_TIMEOUT)
+            .setSocketTimeout(longPollingTimeout + READ_TIMEOUT_MARGIN).build();
+        client = HttpClients.custom().setConnectionManager(connectionManager).setDefaultRequestConfig(requestConfig).build();
     }
 
+    @Override
     public NotificationsStatusDto getNewNotifications(String ownerId, UUID eventId, int limit) {
-        HttpClient client = HttpClientBuilder.create().build();
         String url = String.format(URL, beHost, bePort);
         url = url + LIMIT_QUERY_PARAM + "=" + limit;
         if (eventId != null) {
             url = url + "&" + LAST_DELIVERED_QUERY_PARAM + "=" + eventId;
         }
         HttpGet request = new HttpGet(url);
-        request.addHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON);
-        request.addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON);
+        addHeaders(request);
         request.addHeader(USER_ID_HEADER_PARAM, ownerId);
-        try {
-            HttpResponse response = client.execute(request);
-            return mapper.readValue(new InputStreamReader(response.getEntity().getContent()), NotificationsStatusDto.class);
+        try (CloseableHttpResponse response = client.execute(request)) {
+            return mapper.readValue(response.getEntity().getContent(), NotificationsStatusDto.class);
         } catch (Exception e) {
             LOGGER.error("Failed to execute the request {}", url, e);
             return null;
         }
     }
+
+    @Override
+    public Map<String, NotificationsStatusDto> getNewNotifications(Map<String, UUID> lastEventIds, int limit) {
+        String pollId = UUID.randomUUID().toString();
+        String url = String.format(URL, beHost, bePort) + LIMIT_QUERY_PARAM + "=" + limit + "&" + WAIT_QUERY_PARAM + "=" + longPollingTimeout + "&"
+            + POLL_ID_QUERY_PARAM + "=" + pollId;
+        HttpPost request = new HttpPost(url);
+        addHeaders(request);
+        try {
+            request.setEntity(new StringEntity(mapper.writeValueAsString(lastEventIds), ContentType.APPLICATION_JSON));
+            pendingRequest = request;
+            if (wakeUpRequested) {
+                wakeUpRequested = false;
+                request.abort();
+            }
+            try (CloseableHttpResponse response = client.execute(request)) {
+                return mapper.readValue(response.getEntity().getContent(), NOTIFICATIONS_BY_OWNER);
+            }
+        } catch (IOException e) {
+            if (request.isAborted()) {
+                LOGGER.debug("The request {} was aborted to read the notifications of new owners", url);
+                cancelWait(pollId);
+            } else {
+                LOGGER.error("Failed to execute the request {}", url, e);
+            }
+            return null;
+        } finally {
+            pendingRequest = null;
+        }
+    }
+
+    @Override
+    public void wakeUp() {
+        wakeUpRequested = true;
+        HttpPost request = pendingRequest;
+        if (request != null) {
+            wakeUpRequested = false;
+            request.abort();
+        }
+    }
+
+    /**
+     * Aborting the request only closes the connection, which the BE does not notice while it waits without writing, so the wait is cancelled
+     * explicitly to release it right away.
+     */
+    private void cancelWait(String pollId) {
+        HttpDelete request = new HttpDelete(String.format(CANCEL_URL, beHost, bePort, pollId));
+        addHeaders(request);
+        try (CloseableHttpResponse response = client.execute(request)) {
+            EntityUtils.consume(response.getEntity());
+        } catch (IOException e) {
+            LOGGER.debug("Failed to cancel the wait {}, it ends when the long polling timeout elapses", pollId, e);
+        }
+    }
+
+    private static void addHeaders(HttpRequestBase request) {
+        request.addHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON);
+        request.addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON);
+    }
 }
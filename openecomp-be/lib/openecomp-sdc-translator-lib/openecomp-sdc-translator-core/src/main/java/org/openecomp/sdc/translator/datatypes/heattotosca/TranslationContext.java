@@ -18,6 +18,7 @@ package org.openecomp.sdc.translator.datatypes.heattotosca;
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ListMultimap;
 import java.io.InputStream;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -25,11 +26,20 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.commons.collections.MapUtils;
 import org.onap.config.api.Configuration;
 import org.onap.config.api.ConfigurationManager;
 import org.onap.sdc.tosca.datatypes.model.NodeTemplate;
 import org.onap.sdc.tosca.datatypes.model.ServiceTemplate;
+import org.onap.sdc.tosca.services.YamlUtil;
 import org.openecomp.core.utilities.CommonMethods;
 import org.openecomp.core.utilities.file.FileContentHandler;
 import org.openecomp.core.utilities.orchestration.OnboardingTypesEnum;
@@ -37,7 +47,11 @@ import org.openecomp.sdc.common.errors.CoreException;
 import org.openecomp.sdc.datatypes.configuration.ImplementationConfiguration;
 import org.openecomp.sdc.heat.datatypes.manifest.FileData;
 import org.openecomp.sdc.heat.datatypes.manifest.ManifestFile;
+import org.openecomp.sdc.heat.datatypes.model.HeatOrchestrationTemplate;
 import org.openecomp.sdc.heat.datatypes.model.Resource;
+import org.openecomp.sdc.logging.api.Logger;
+import org.openecomp.sdc.logging.api.LoggerFactory;
+import org.openecomp.sdc.tosca.datatypes.ToscaServiceModel;
 import org.openecomp.sdc.tosca.services.ToscaUtil;
 import org.openecomp.sdc.translator.datatypes.heattotosca.to.TranslatedHeatResource;
 import org.openecomp.sdc.translator.datatypes.heattotosca.unifiedmodel.composition.UnifiedCompositionEntity;
@@ -57,6 +71,12 @@ import org.openecomp.sdc.translator.services.heattotosca.globaltypes.GlobalTypes
 
 public class TranslationContext {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(TranslationContext.class);
+    private static final int DEFAULT_HEAT_PARSE_PARALLELISM = 4;
+    private static final long HEAT_PARSE_THREAD_KEEP_ALIVE_SECONDS = 60;
+    // number of heat files parsed concurrently ahead of the translation
+    private static final int heatParseParallelism;
+    private static ExecutorService sharedHeatParseExecutor;
     private ManifestFile manifest;
     private static final Map<String, Map<String, Map<String, String>>> translationMapping;
     private static final Map<String, ServiceTemplate> globalServiceTemplates;
@@ -96,6 +116,11 @@ public class TranslationContext {
     private final Set<String> nodeTemplateIdsPointingToStWithoutNodeTemplates = new HashSet<>();
     //Key - service template name, value - Map of key: node template id, value: properties with %index%
     private final Map<String, ListMultimap<String, String>> indexVarProperties = new HashMap<>();
+    //Key - entry definition service template name, value - tosca service model reused by the type lookups of the translation
+    private final Map<String, ToscaServiceModel> toscaServiceModels = new HashMap<>();
+    //Key - heat file name, value - the parsed heat file, shared by all the translation steps reading the file
+    private final Map<String, HeatOrchestrationTemplate> heatOrchestrationTemplates = new ConcurrentHashMap<>();
+    private Executor heatParseExecutor;
 
     static {
         Configuration config = ConfigurationManager.lookup();
@@ -118,6 +143,9 @@ public class TranslationContext {
         vfcInstanceGroupConfiguration = getVfcInstanceGroupConfiguration(config);
         vfcGroupSubInterfaceExposedProperties = config
             .getAsStringValues(ConfigConstants.UNIFIED_MODEL_NAMESPACE, ConfigConstants.FULL_EXPOSED_PROPERTIES_KEY);
+        Integer configuredHeatParseParallelism = config
+            .getAsIntegerValue(ConfigConstants.TRANSLATOR_NAMESPACE, ConfigConstants.HEAT_PARSE_PARALLELISM_KEY);
+        heatParseParallelism = Objects.isNull(configuredHeatParseParallelism) ? DEFAULT_HEAT_PARSE_PARALLELISM : configuredHeatParseParallelism;
     }
 
     private static ImplementationConfiguration getVfcInstanceGroupConfiguration(Configuration config) {
@@ -262,6 +290,7 @@ public class TranslationContext {
 
     public void setFiles(Map<String, byte[]> files) {
         this.files.setFiles(files);
+        heatOrchestrationTemplates.clear();
     }
 
     public InputStream getFileContentAsStream(final String fileName) {
@@ -270,6 +299,67 @@ public class TranslationContext {
 
     public void addFile(String name, byte[] content) {
         files.addFile(name, content);
+        heatOrchestrationTemplates.remove(name);
+    }
+
+    /**
+     * Gets a heat file parsed. The file is parsed once per translation and the template is shared by all its readers, so it must not be
+     * modified.
+     *
+     * @param heatFileName the heat file name
+     * @return the parsed heat file
+     */
+    public HeatOrchestrationTemplate getHeatOrchestrationTemplate(String heatFileName) {
+        return heatOrchestrationTemplates.computeIfAbsent(heatFileName,
+            fileName -> new YamlUtil().yamlToObject(getFileContentAsStream(fileName), HeatOrchestrationTemplate.class));
+    }
+
+    /**
+     * Parses heat files concurrently, ahead of the translation which then reads them in its own order. A file that fails to parse is not
+     * kept, its error being raised again where the translation reads it.
+     *
+     * @param heatFileNames the names of the heat files
+     */
+    public void parseHeatFiles(Collection<String> heatFileNames) {
+        if (heatFileNames.size() <= 1 || (Objects.isNull(heatParseExecutor) && heatParseParallelism <= 1)) {
+            return;
+        }
+        Executor executor = Objects.isNull(heatParseExecutor) ? getSharedHeatParseExecutor() : heatParseExecutor;
+        CompletableFuture.allOf(heatFileNames.stream().map(heatFileName -> CompletableFuture.runAsync(() -> {
+            try {
+                getHeatOrchestrationTemplate(heatFileName);
+            } catch (RuntimeException exception) {
+                LOGGER.debug("Failed to parse heat file {} ahead of the translation", heatFileName, exception);
+            }
+        }, executor)).toArray(CompletableFuture[]::new)).join();
+    }
+
+    /**
+     * Sets the executor parsing the heat files ahead of the translation instead of the shared pool.
+     *
+     * @param heatParseExecutor the executor, a caller runs executor parses them one after the other
+     */
+    public void setHeatParseExecutor(Executor heatParseExecutor) {
+        this.heatParseExecutor = heatParseExecutor;
+    }
+
+    /**
+     * The pool is shared by all the translations. Its threads are daemons and end when idle, so a JVM which no longer translates neither waits
+     * for them nor keeps them.
+     */
+    private static synchronized ExecutorService getSharedHeatParseExecutor() {
+        if (sharedHeatParseExecutor == null) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(heatParseParallelism, heatParseParallelism, HEAT_PARSE_THREAD_KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "heat-parse-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.allowCoreThreadTimeOut(true);
+            sharedHeatParseExecutor = executor;
+        }
+        return sharedHeatParseExecutor;
     }
 
     public ManifestFile getManifest() {
@@ -333,6 +423,10 @@ public class TranslationContext {
         return translatedServiceTemplates;
     }
 
+    public Map<String, ToscaServiceModel> getToscaServiceModels() {
+        return toscaServiceModels;
+    }
+
     public ServiceTemplate getGlobalSubstitutionServiceTemplate() {
         return getTranslatedServiceTemplates().get(Constants.GLOBAL_SUBSTITUTION_TYPES_TEMPLATE_NAME);
     }
@@ -37,6 +37,7 @@ public class ConfigConstants {
     public static final String ENRICH_PORT_RESOURCE_PROP = "enrichPortResourceProperties";
     public static final String UNIFIED_MODEL_IMPL_KEY = "unifiedModelImpl";
     public static final String VFC_INSTANCE_GROUP_KEY = "vfcInstanceGroup";
+    public static final String HEAT_PARSE_PARALLELISM_KEY = "heatParseParallelism";
     public static final String FULL_EXPOSED_PROPERTIES_KEY = "unifiedModelImpl.vfcInstanceGroup.properties.exposedProperties";
     //others
     public static final String TRANS_MAPPING_DELIMITER_CHAR = "#";
@@ -47,7 +47,6 @@ import org.onap.sdc.tosca.datatypes.model.ServiceTemplate;
 import org.onap.sdc.tosca.datatypes.model.Template;
 import org.onap.sdc.tosca.datatypes.model.TopologyTemplate;
 import org.onap.sdc.tosca.services.ToscaExtensionYamlUtil;
-import org.onap.sdc.tosca.services.YamlUtil;
 import org.openecomp.core.translator.api.HeatToToscaTranslator;
 import org.openecomp.core.translator.datatypes.TranslatorOutput;
 import org.openecomp.core.translator.factory.HeatToToscaTranslatorFactory;
@@ -231,8 +230,7 @@ public class HeatToToscaUtil {
                 if (fileData.getBase() != null && fileData.getBase()) {
                     fileDataCollection.addBaseFiles(fileData);
                 }
-                HeatOrchestrationTemplate heatOrchestrationTemplate = new YamlUtil()
-                    .yamlToObject(translationContext.getFileContentAsStream(fileName), HeatOrchestrationTemplate.class);
+                HeatOrchestrationTemplate heatOrchestrationTemplate = translationContext.getHeatOrchestrationTemplate(fileName);
                 if (MapUtils.isNotEmpty(heatOrchestrationTemplate.getResources())) {
                     referenced.addAll(applyFilterOnFileCollection(heatOrchestrationTemplate, translationContext, fileDataCollection, filteredFiles));
                 }
@@ -531,16 +529,15 @@ public class HeatToToscaUtil {
     }
 
     private static boolean isNestedVlanResource(String nestedHeatFileName, TranslationContext translationContext) {
-        HeatOrchestrationTemplate nestedHeatOrchestrationTemplate = new YamlUtil()
-            .yamlToObject(translationContext.getFileContentAsStream(nestedHeatFileName), HeatOrchestrationTemplate.class);
+        HeatOrchestrationTemplate nestedHeatOrchestrationTemplate = translationContext.getHeatOrchestrationTemplate(nestedHeatFileName);
         return Objects.nonNull(nestedHeatOrchestrationTemplate.getResources()) && nestedHeatOrchestrationTemplate.getResources().values().stream()
             .anyMatch(new ContrailV2VirtualMachineInterfaceHelper()::isVlanSubInterfaceResource);
     }
 
     public static Optional<String> getSubInterfaceParentPortNodeTemplateId(TranslateTo subInterfaceTo) {
         String subInterfaceResourceType = getSubInterfaceResourceType(subInterfaceTo.getResource());
-        HeatOrchestrationTemplate nestedHeatOrchestrationTemplate = new YamlUtil()
-            .yamlToObject(subInterfaceTo.getContext().getFileContentAsStream(subInterfaceResourceType), HeatOrchestrationTemplate.class);
+        HeatOrchestrationTemplate nestedHeatOrchestrationTemplate = subInterfaceTo.getContext()
+            .getHeatOrchestrationTemplate(subInterfaceResourceType);
         if (Objects.isNull(nestedHeatOrchestrationTemplate.getResources())) {
             return Optional.empty();
         }
@@ -616,8 +613,7 @@ public class HeatToToscaUtil {
      */
     public static boolean isNestedVfcResource(Resource resource, TranslationContext context) {
         Optional<String> nestedHeatFileName = HeatToToscaUtil.getNestedHeatFileName(resource);
-        HeatOrchestrationTemplate nestedHeatOrchestrationTemplate = new YamlUtil()
-            .yamlToObject(context.getFileContentAsStream(nestedHeatFileName.get()), HeatOrchestrationTemplate.class);
+        HeatOrchestrationTemplate nestedHeatOrchestrationTemplate = context.getHeatOrchestrationTemplate(nestedHeatFileName.get());
         Map<String, Resource> resources = nestedHeatOrchestrationTemplate.getResources();
         return Objects.nonNull(resources) && resources.values().stream().anyMatch(ConsolidationDataUtil::isComputeResource);
     }
@@ -785,7 +781,12 @@ public class HeatToToscaUtil {
         for (ServiceTemplate serviceTemplate : tmpServiceTemplates) {
             ToscaUtil.addServiceTemplateToMapWithKeyFileName(serviceTemplates, serviceTemplate);
         }
-        return new ToscaServiceModel(null, serviceTemplates, ToscaUtil.getServiceTemplateFileName(entryDefinitionMetadata));
+        // the same model is returned for an entry definition so the imports resolved by its import index are reused
+        String entryDefinitionServiceTemplate = ToscaUtil.getServiceTemplateFileName(entryDefinitionMetadata);
+        ToscaServiceModel toscaServiceModel = context.getToscaServiceModels()
+            .computeIfAbsent(entryDefinitionServiceTemplate, key -> new ToscaServiceModel(null, serviceTemplates, key));
+        toscaServiceModel.setServiceTemplates(serviceTemplates);
+        return toscaServiceModel;
     }
 
     /**
@@ -1223,8 +1224,7 @@ public class HeatToToscaUtil {
         if (!nestedHeatFileName.isPresent()) {
             return networkRole;
         }
-        HeatOrchestrationTemplate nestedHeatOrchestrationTemplate = new YamlUtil()
-            .yamlToObject(translationContext.getFileContentAsStream(nestedHeatFileName.get()), HeatOrchestrationTemplate.class);
+        HeatOrchestrationTemplate nestedHeatOrchestrationTemplate = translationContext.getHeatOrchestrationTemplate(nestedHeatFileName.get());
         if (MapUtils.isNotEmpty(nestedHeatOrchestrationTemplate.getResources())) {
             ContrailV2VirtualMachineInterfaceHelper contrailV2VirtualMachineInterfaceHelper = new ContrailV2VirtualMachineInterfaceHelper();
             Optional<Map.Entry<String, Resource>> vlanSubInterfaceResource = nestedHeatOrchestrationTemplate.getResources().entrySet().stream()
@@ -87,6 +87,7 @@ public class TranslationService {
     public TranslatorOutput translateHeatFiles(TranslationContext translationContext) {
         ServiceTemplate mainServiceTemplate = createMainServiceTemplate(translationContext);
         List<FileData> fileDataList = translationContext.getManifest().getContent().getData();
+        translationContext.parseHeatFiles(getHeatFileNames(fileDataList, new HashSet<>()));
         FileDataCollection fileDataCollection = HeatToToscaUtil
             .getFileCollectionsByFilter(fileDataList, TranslationService.getTypesToProcessByTranslator(), translationContext);
         FileDataCollection fileDataCollectionHelm = HeatToToscaUtil
@@ -128,6 +129,19 @@ public class TranslationService {
         return mainServiceTemplate;
     }
 
+    private static Set<String> getHeatFileNames(List<FileData> fileDataList, Set<String> heatFileNames) {
+        if (CollectionUtils.isEmpty(fileDataList)) {
+            return heatFileNames;
+        }
+        for (FileData fileData : fileDataList) {
+            if (FileData.isHeatFile(fileData.getType())) {
+                heatFileNames.add(fileData.getFile());
+            }
+            getHeatFileNames(fileData.getData(), heatFileNames);
+        }
+        return heatFileNames;
+    }
+
     /**
      * Translate heat file.
      *
@@ -137,8 +151,7 @@ public class TranslationService {
      */
     public void translateHeatFile(ServiceTemplate serviceTemplate, FileData heatFileData, TranslationContext context) {
         String heatFileName = heatFileData.getFile();
-        HeatOrchestrationTemplate heatOrchestrationTemplate = new YamlUtil()
-            .yamlToObject(context.getFileContentAsStream(heatFileName), HeatOrchestrationTemplate.class);
+        HeatOrchestrationTemplate heatOrchestrationTemplate = context.getHeatOrchestrationTemplate(heatFileName);
         translateInputParameters(serviceTemplate, heatOrchestrationTemplate, heatFileData, context, heatFileName);
         translateResources(heatFileName, serviceTemplate, heatOrchestrationTemplate, context);
         translateOutputParameters(serviceTemplate, heatOrchestrationTemplate, heatFileData, heatFileName, context);
@@ -889,7 +889,7 @@ public class UnifiedCompositionService {
 
             // original node template
             RequirementAssignment requirementAssignmentCopy = (RequirementAssignment) getClonedObject(
-                requirementAssignmentData.getRequirementAssignment(), RequirementAssignment.class);
+                requirementAssignmentData.getRequirementAssignment());
             NodeTemplate originalNodeTemplate = DataModelUtil.getNodeTemplate(serviceTemplate, originalNodeTemplateId);
             requirementAssignmentCopy.setCapability(newCapabilityId.get());
             requirementAssignmentCopy.setNode(newAbstractUnifiedNodeTemplateId);
@@ -918,7 +918,7 @@ public class UnifiedCompositionService {
 
         // original node template
         RequirementAssignment requirementAssignmentCopy = (RequirementAssignment) getClonedObject(
-            requirementAssignmentData.getRequirementAssignment(), RequirementAssignment.class);
+            requirementAssignmentData.getRequirementAssignment());
         NodeTemplate unifiedAbstractNestedNodeTemplate = DataModelUtil.getNodeTemplate(serviceTemplate, newAbstractUnifiedNodeTemplateId);
         requirementAssignmentCopy.setCapability(requirementAssignment.getCapability());
         requirementAssignmentCopy.setNode(newAbstractUnifiedNodeTemplateId);
@@ -971,7 +971,7 @@ public class UnifiedCompositionService {
             for (RequirementAssignmentData requirementAssignmentData : requirementAssignmentDataList) {
                 String oldRequirementId = requirementAssignmentData.getRequirementId();
                 RequirementAssignment abstractRequirementAssignment = (RequirementAssignment) getClonedObject(
-                    requirementAssignmentData.getRequirementAssignment(), RequirementAssignment.class);
+                    requirementAssignmentData.getRequirementAssignment());
                 String newRequirementId = oldRequirementId + "_" + newNodeTemplateId;
                 //Check if the requirement is not already present in the list of requirements of the
 
@@ -1003,7 +1003,7 @@ public class UnifiedCompositionService {
             for (RequirementAssignmentData requirementAssignmentData : requirementAssignmentDataList) {
                 String oldRequirementId = requirementAssignmentData.getRequirementId();
                 RequirementAssignment clonedRequirementAssignment = (RequirementAssignment) getClonedObject(
-                    requirementAssignmentData.getRequirementAssignment(), RequirementAssignment.class);
+                    requirementAssignmentData.getRequirementAssignment());
                 String newRequirementId = oldRequirementId + "_" + newNodeTemplateId;
                 //Check if the requirement is not already present in the list of requirements of the
 
@@ -1984,10 +1984,8 @@ public class UnifiedCompositionService {
     }
 
     private Object getClonedPropertyValue(Map.Entry<String, Object> propertyEntry) {
-        if (propertyEntry.getValue() instanceof Map) {
-            return getClonedObject(propertyEntry.getValue(), Map.class);
-        } else if (propertyEntry.getValue() instanceof List) {
-            return getClonedObject(propertyEntry.getValue(), List.class);
+        if (propertyEntry.getValue() instanceof Map || propertyEntry.getValue() instanceof List) {
+            return getClonedObject(propertyEntry.getValue());
         }
         return propertyEntry.getValue();
     }
@@ -104,10 +104,18 @@ public class BaseResourceTranslationTest {
 
     protected void initTranslatorAndTranslate() throws IOException {
         translationService = new TranslationService();
-        translationContext = new TranslationContext();
+        translationContext = createTranslationContext();
         translatedZipFile = translateZipFile();
     }
 
+    protected TranslationContext createTranslationContext() {
+        return new TranslationContext();
+    }
+
+    byte[] getTranslatedZipFile() {
+        return translatedZipFile;
+    }
+
     protected void testTranslation() throws IOException {
 
         URL url = BaseResourceTranslationTest.class.getResource(outputFilesPath);
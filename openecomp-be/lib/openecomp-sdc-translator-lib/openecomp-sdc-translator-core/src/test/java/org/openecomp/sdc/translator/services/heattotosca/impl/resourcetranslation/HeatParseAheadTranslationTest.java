@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2016-2017 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on a "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openecomp.sdc.translator.services.heattotosca.impl.resourcetranslation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import org.junit.Before;
+import org.junit.Test;
+import org.openecomp.core.utilities.file.FileUtils;
+import org.openecomp.sdc.translator.TestUtils;
+import org.openecomp.sdc.translator.datatypes.heattotosca.TranslationContext;
+
+/**
+ * Translates a package of several heat files once with the heat files parsed ahead on the shared pool and once with them parsed one after the
+ * other, the translations must not differ.
+ */
+public class HeatParseAheadTranslationTest extends BaseResourceTranslationTest {
+
+    private Executor heatParseExecutor;
+
+    @Override
+    @Before
+    public void setUp() {
+        inputFilesPath = "/mock/services/heattotosca/fulltest/mixPatterns/dependencyConnectivity/in";
+    }
+
+    @Override
+    protected TranslationContext createTranslationContext() {
+        TranslationContext context = super.createTranslationContext();
+        context.setHeatParseExecutor(heatParseExecutor);
+        return context;
+    }
+
+    @Test
+    public void testParallelParseTranslatesAsSequentialParse() throws IOException {
+        heatParseExecutor = Runnable::run;
+        initTranslatorAndTranslate();
+        Map<String, byte[]> sequentialOutput = unzip(getTranslatedZipFile());
+        assertFalse(sequentialOutput.isEmpty());
+
+        heatParseExecutor = null;
+        initTranslatorAndTranslate();
+        try (ZipInputStream zis = new ZipInputStream(new ByteArrayInputStream(getTranslatedZipFile()))) {
+            TestUtils.compareTranslatedOutput(sequentialOutput.keySet(), sequentialOutput, zis);
+        }
+        assertEquals(0, sequentialOutput.size());
+    }
+
+    private static Map<String, byte[]> unzip(byte[] zipFile) throws IOException {
+        Map<String, byte[]> files = new HashMap<>();
+        try (ZipInputStream zis = new ZipInputStream(new ByteArrayInputStream(zipFile))) {
+            ZipEntry entry;
+            while ((entry = zis.getNextEntry()) != null) {
+                if (!entry.isDirectory()) {
+                    files.put(entry.getName().substring(entry.getName().lastIndexOf(File.separator) + 1), FileUtils.toByteArray(zis));
+                }
+            }
+        }
+        return files;
+    }
+}
@@ -20,7 +20,9 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.commons.collections4.CollectionUtils;
 import org.openecomp.core.validation.ErrorMessageCode;
@@ -33,6 +35,7 @@ public class GlobalValidationContext {
     private static final Logger LOGGER = LoggerFactory.getLogger(GlobalValidationContext.class);
     private final Map<String, FileValidationContext> fileContextMap = new HashMap<>();
     private final Map<String, MessageContainer> messageContainerMap = new HashMap<>();
+    private final Map<String, Map<Class<?>, ParsedContent>> parsedContentMap = new ConcurrentHashMap<>();
     private ErrorMessageCode messageCode;
 
     public ErrorMessageCode getMessageCode() {
@@ -78,8 +81,28 @@ public class GlobalValidationContext {
         return Optional.of(fileContext.getContent());
     }
 
+    /**
+     * Gets file content parsed into the given type. The file is parsed by the first call only, all the later calls, from any validator, getting
+     * the same instance, which therefore must not be modified. A parsing failure is kept as well and thrown again to every caller.
+     *
+     * @param fileName the file name
+     * @param type     the type the file is parsed into
+     * @param parser   parses the file content, throwing a runtime exception when the content is invalid
+     * @return the parsed file content, empty if the file has no content
+     */
+    public <T> Optional<T> getParsedFileContent(String fileName, Class<T> type, Function<InputStream, T> parser) {
+        FileValidationContext fileContext = fileContextMap.get(fileName);
+        if (fileContext == null || fileContext.isEmpty()) {
+            return Optional.empty();
+        }
+        ParsedContent parsedContent = parsedContentMap.computeIfAbsent(fileName, key -> new ConcurrentHashMap<>())
+            .computeIfAbsent(type, key -> ParsedContent.parse(fileContext, parser));
+        return Optional.ofNullable(type.cast(parsedContent.get()));
+    }
+
     public void addFileContext(String fileName, byte[] fileContent) {
         fileContextMap.put(fileName, new FileValidationContext(fileName, fileContent));
+        parsedContentMap.remove(fileName);
     }
 
     /**
@@ -107,4 +130,30 @@ public class GlobalValidationContext {
     public Collection<String> getFiles() {
         return this.getFileContextMap().keySet();
     }
+
+    private static final class ParsedContent {
+
+        private final Object value;
+        private final RuntimeException failure;
+
+        private ParsedContent(Object value, RuntimeException failure) {
+            this.value = value;
+            this.failure = failure;
+        }
+
+        private static ParsedContent parse(FileValidationContext fileContext, Function<InputStream, ?> parser) {
+            try {
+                return new ParsedContent(parser.apply(fileContext.getContent()), null);
+            } catch (RuntimeException exception) {
+                return new ParsedContent(null, exception);
+            }
+        }
+
+        private Object get() {
+            if (failure != null) {
+                throw failure;
+            }
+            return value;
+        }
+    }
 }
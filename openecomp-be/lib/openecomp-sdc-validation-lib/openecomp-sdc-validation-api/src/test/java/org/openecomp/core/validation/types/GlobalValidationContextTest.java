@@ -30,10 +30,14 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class GlobalValidationContextTest {
@@ -98,6 +102,43 @@ public class GlobalValidationContextTest {
     assertTrue(globalValidationContext.getFileContent(yaml1).get() instanceof InputStream);
   }
 
+  @Test
+  public void testGetParsedFileContentParsesOnce() {
+    GlobalValidationContext globalValidationContext = new GlobalValidationContext();
+    globalValidationContext.addFileContext(yaml1, content.getBytes());
+    AtomicInteger parses = new AtomicInteger();
+    Function<InputStream, String> parser = stream -> {
+      parses.incrementAndGet();
+      return content;
+    };
+
+    String parsed = globalValidationContext.getParsedFileContent(yaml1, String.class, parser).get();
+
+    assertSame(parsed, globalValidationContext.getParsedFileContent(yaml1, String.class, parser).get());
+    assertTrue(globalValidationContext.getParsedFileContent(yaml2, String.class, parser).isEmpty());
+    assertEquals(1, parses.get());
+    globalValidationContext.addFileContext(yaml1, content.getBytes());
+    globalValidationContext.getParsedFileContent(yaml1, String.class, parser);
+    assertEquals(2, parses.get());
+  }
+
+  @Test
+  public void testGetParsedFileContentKeepsFailure() {
+    GlobalValidationContext globalValidationContext = new GlobalValidationContext();
+    globalValidationContext.addFileContext(yaml1, content.getBytes());
+    AtomicInteger parses = new AtomicInteger();
+    Function<InputStream, String> parser = stream -> {
+      parses.incrementAndGet();
+      throw new IllegalStateException(message);
+    };
+
+    assertThrows(IllegalStateException.class,
+        () -> globalValidationContext.getParsedFileContent(yaml1, String.class, parser));
+    assertThrows(IllegalStateException.class,
+        () -> globalValidationContext.getParsedFileContent(yaml1, String.class, parser));
+    assertEquals(1, parses.get());
+  }
+
   @Test
   public void testGetFiles() {
     GlobalValidationContext globalValidationContext = new GlobalValidationContext();
@@ -15,12 +15,10 @@
  */
 package org.openecomp.sdc.validation.impl.validators;
 
-import java.io.InputStream;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import org.apache.commons.collections4.MapUtils;
-import org.onap.sdc.tosca.services.YamlUtil;
 import org.openecomp.core.validation.ErrorMessageCode;
 import org.openecomp.core.validation.errors.ErrorMessagesFormatBuilder;
 import org.openecomp.core.validation.types.GlobalValidationContext;
@@ -85,23 +83,22 @@ public class ContrailValidator implements Validator {
     }
 
     private Optional<ContrailResourcesMappingTo> collectHeatFileContrailResources(GlobalValidationContext globalContext, String fileName) {
-        Optional<InputStream> fileContent = globalContext.getFileContent(fileName);
-        if (!fileContent.isPresent()) {
+        if (!globalContext.getFileContent(fileName).isPresent()) {
             globalContext.addMessage(fileName, ErrorLevel.ERROR, ErrorMessagesFormatBuilder
                 .getErrorWithParameters(ERROR_CODE_CTL_1, Messages.INVALID_HEAT_FORMAT_REASON.getErrorMessage(),
                     "The file '" + fileName + "' has no content"));
             return Optional.empty();
         }
-        return fetchContrailResourcesMapping(fileName, fileContent.get());
+        return fetchContrailResourcesMapping(fileName, globalContext);
     }
 
-    private Optional<ContrailResourcesMappingTo> fetchContrailResourcesMapping(String fileName, InputStream fileContent) {
+    private Optional<ContrailResourcesMappingTo> fetchContrailResourcesMapping(String fileName, GlobalValidationContext globalContext) {
         ContrailResourcesMappingTo contrailResourcesMappingTo = new ContrailResourcesMappingTo();
         HeatOrchestrationTemplate heatOrchestrationTemplate;
         try {
-            heatOrchestrationTemplate = new YamlUtil().yamlToObject(fileContent, HeatOrchestrationTemplate.class);
+            heatOrchestrationTemplate = ValidationUtil.getParsedYaml(fileName, HeatOrchestrationTemplate.class, globalContext).orElseThrow();
         } catch (Exception ignored) {
-            LOGGER.error("Invalid file content : " + fileContent, ignored);
+            LOGGER.error("Invalid file content : " + fileName, ignored);
             // the HeatValidator should handle file that is failing to parse
             return Optional.empty();
         }
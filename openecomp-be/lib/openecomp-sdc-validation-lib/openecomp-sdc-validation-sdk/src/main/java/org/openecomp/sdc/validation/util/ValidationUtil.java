@@ -117,12 +117,25 @@ public class ValidationUtil {
         }
     }
 
+    /**
+     * Gets a yaml file of the global context parsed into the given type. The file is parsed once and the result shared by all the validators,
+     * so it must not be modified.
+     *
+     * @param fileName      the file name
+     * @param type          the type the file is parsed into
+     * @param globalContext the global context
+     * @return the parsed file, empty if the file has no content
+     */
+    public static <T> Optional<T> getParsedYaml(String fileName, Class<T> type, GlobalValidationContext globalContext) {
+        return globalContext.getParsedFileContent(fileName, type, content -> new YamlUtil().yamlToObject(content, type));
+    }
+
     public static Environment validateEnvContent(String envFileName, GlobalValidationContext globalContext) {
         Environment envContent;
         try {
-            Optional<InputStream> fileContent = globalContext.getFileContent(envFileName);
-            if (fileContent.isPresent()) {
-                envContent = new YamlUtil().yamlToObject(fileContent.get(), Environment.class);
+            Optional<Environment> parsedEnvContent = getParsedYaml(envFileName, Environment.class, globalContext);
+            if (parsedEnvContent.isPresent()) {
+                envContent = parsedEnvContent.get();
             } else {
                 throw new Exception("The file '" + envFileName + "' has no content");
             }
@@ -174,12 +187,7 @@ public class ValidationUtil {
     public static HeatOrchestrationTemplate checkHeatOrchestrationPreCondition(String fileName, GlobalValidationContext globalContext) {
         HeatOrchestrationTemplate heatOrchestrationTemplate;
         try {
-            Optional<InputStream> fileContent = globalContext.getFileContent(fileName);
-            if (fileContent.isPresent()) {
-                heatOrchestrationTemplate = new YamlUtil().yamlToObject(fileContent.get(), HeatOrchestrationTemplate.class);
-            } else {
-                heatOrchestrationTemplate = null;
-            }
+            heatOrchestrationTemplate = getParsedYaml(fileName, HeatOrchestrationTemplate.class, globalContext).orElse(null);
         } catch (Exception exception) {
             globalContext.addMessage(fileName, ErrorLevel.ERROR, ErrorMessagesFormatBuilder
                 .getErrorWithParameters(globalContext.getMessageCode(), Messages.INVALID_HEAT_FORMAT_REASON.getErrorMessage(),
@@ -35,6 +35,9 @@ import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import org.openecomp.core.zusammen.api.ZusammenAdaptor;
@@ -70,6 +73,28 @@ public class ComponentDaoZusammenImpl implements ComponentDao {
             }).collect(Collectors.toList());
     }
 
+    /**
+     * Gets the sub element named elementName of each of the given parent elements. The element infos are resolved from the session cache and
+     * the elements are then read together in a single bulk fetch, instead of a round trip per parent element.
+     *
+     * @return the elements found, by the id of their parent element
+     */
+    static Map<String, Element> getSubElementsByName(ZusammenAdaptor zusammenAdaptor, SessionContext context, ElementContext elementContext,
+                                                     Collection<String> parentElementIds, String elementName) {
+        Map<String, String> parentIdByElementId = new HashMap<>();
+        List<Id> elementIds = new ArrayList<>();
+        parentElementIds.forEach(
+            parentElementId -> zusammenAdaptor.getElementInfoByName(context, elementContext, new Id(parentElementId), elementName)
+                .ifPresent(elementInfo -> {
+                    parentIdByElementId.put(elementInfo.getId().getValue(), parentElementId);
+                    elementIds.add(elementInfo.getId());
+                }));
+        Map<String, Element> elementsByParentId = new HashMap<>();
+        zusammenAdaptor.getElements(context, elementContext, elementIds)
+            .forEach(element -> elementsByParentId.put(parentIdByElementId.get(element.getElementId().getValue()), element));
+        return elementsByParentId;
+    }
+
     @Override
     public void registerVersioning(String versionableEntityType) {
         // registerVersioning is not implemented for ComponentDaoZusammenImpl
@@ -159,7 +184,11 @@ public class ComponentDaoZusammenImpl implements ComponentDao {
         SessionContext context = createSessionContext();
         Collection<ComponentEntity> components = listComponents(zusammenAdaptor, context, vspId, version);
         ElementContext elementContext = new ElementContext(vspId, version.getId());
-        components.forEach(component -> component.setQuestionnaireData(getQuestionnaire(context, elementContext, component).getQuestionnaireData()));
+        Map<String, Element> questionnaires = getSubElementsByName(zusammenAdaptor, context, elementContext,
+            components.stream().map(ComponentEntity::getId).collect(Collectors.toList()), ElementType.ComponentQuestionnaire.name());
+        ElementToComponentQuestionnnaireConvertor convertor = new ElementToComponentQuestionnnaireConvertor();
+        components.forEach(component -> Optional.ofNullable(questionnaires.get(component.getId()))
+            .ifPresent(questionnaire -> component.setQuestionnaireData(convertor.convert(questionnaire).getQuestionnaireData())));
         return components;
     }
 
@@ -33,6 +33,8 @@ import com.amdocs.zusammen.datatypes.item.Info;
 import java.io.ByteArrayInputStream;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import org.openecomp.core.utilities.file.FileUtils;
@@ -153,10 +155,14 @@ public class ComputeDaoZusammenImpl implements ComputeDao {
         SessionContext context = createSessionContext();
         ElementContext elementContext = new ElementContext(vspId, version.getId());
         Collection<ComponentEntity> components = ComponentDaoZusammenImpl.listComponents(zusammenAdaptor, context, vspId, version);
-        return components.stream().map(
-            component -> listComputes(context, elementContext, new ComputeEntity(vspId, version, component.getId(), null)).stream()
-                .map(compute -> getQuestionnaire(context, elementContext, compute)).collect(Collectors.toList())).flatMap(Collection::stream)
-            .collect(Collectors.toList());
+        List<ComputeEntity> computes = components.stream()
+            .map(component -> listComputes(context, elementContext, new ComputeEntity(vspId, version, component.getId(), null)))
+            .flatMap(Collection::stream).collect(Collectors.toList());
+        Map<String, Element> questionnaires = ComponentDaoZusammenImpl.getSubElementsByName(zusammenAdaptor, context, elementContext,
+            computes.stream().map(ComputeEntity::getId).collect(Collectors.toList()), ElementType.ComputeQuestionnaire.name());
+        computes.forEach(compute -> Optional.ofNullable(questionnaires.get(compute.getId())).filter(questionnaire -> questionnaire.getData() != null)
+            .ifPresent(questionnaire -> compute.setQuestionnaireData(new String(FileUtils.toByteArray(questionnaire.getData())))));
+        return computes;
     }
 
     @Override
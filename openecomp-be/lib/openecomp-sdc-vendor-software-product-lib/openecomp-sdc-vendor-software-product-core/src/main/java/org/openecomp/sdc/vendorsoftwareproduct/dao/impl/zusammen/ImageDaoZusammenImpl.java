@@ -33,6 +33,8 @@ import com.amdocs.zusammen.datatypes.item.Info;
 import java.io.ByteArrayInputStream;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import org.openecomp.core.utilities.file.FileUtils;
@@ -141,10 +143,14 @@ public class ImageDaoZusammenImpl implements ImageDao {
         SessionContext context = createSessionContext();
         ElementContext elementContext = new ElementContext(vspId, version.getId());
         Collection<ComponentEntity> components = ComponentDaoZusammenImpl.listComponents(zusammenAdaptor, context, vspId, version);
-        return components.stream().map(
-            component -> listImages(context, elementContext, new ImageEntity(vspId, version, component.getId(), null)).stream()
-                .map(image -> getQuestionnaire(context, elementContext, image)).collect(Collectors.toList())).flatMap(Collection::stream)
-            .collect(Collectors.toList());
+        List<ImageEntity> images = components.stream()
+            .map(component -> listImages(context, elementContext, new ImageEntity(vspId, version, component.getId(), null)))
+            .flatMap(Collection::stream).collect(Collectors.toList());
+        Map<String, Element> questionnaires = ComponentDaoZusammenImpl.getSubElementsByName(zusammenAdaptor, context, elementContext,
+            images.stream().map(ImageEntity::getId).collect(Collectors.toList()), ElementType.ImageQuestionnaire.name());
+        images.forEach(image -> Optional.ofNullable(questionnaires.get(image.getId())).filter(questionnaire -> questionnaire.getData() != null)
+            .ifPresent(questionnaire -> image.setQuestionnaireData(new String(FileUtils.toByteArray(questionnaire.getData())))));
+        return images;
     }
 
     @Override
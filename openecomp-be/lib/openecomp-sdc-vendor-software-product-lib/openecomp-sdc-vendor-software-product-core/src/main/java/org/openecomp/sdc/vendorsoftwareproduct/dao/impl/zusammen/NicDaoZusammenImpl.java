@@ -33,6 +33,8 @@ import com.amdocs.zusammen.datatypes.item.Info;
 import java.io.ByteArrayInputStream;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import org.openecomp.core.zusammen.api.ZusammenAdaptor;
@@ -150,11 +152,15 @@ public class NicDaoZusammenImpl implements NicDao {
         SessionContext context = createSessionContext();
         Collection<ComponentEntity> components = ComponentDaoZusammenImpl.listComponents(zusammenAdaptor, context, vspId, version);
         ElementContext elementContext = new ElementContext(vspId, version.getId());
-        return components.stream()
-            .map(component -> listNics(context, elementContext, new NicEntity(vspId, version, component.getId(), null)).stream().map(nic -> {
-                nic.setQuestionnaireData(getQuestionnaire(context, elementContext, nic).getQuestionnaireData());
-                return nic;
-            }).collect(Collectors.toList())).flatMap(Collection::stream).collect(Collectors.toList());
+        List<NicEntity> nics = components.stream()
+            .map(component -> listNics(context, elementContext, new NicEntity(vspId, version, component.getId(), null)))
+            .flatMap(Collection::stream).collect(Collectors.toList());
+        Map<String, Element> questionnaires = ComponentDaoZusammenImpl.getSubElementsByName(zusammenAdaptor, context, elementContext,
+            nics.stream().map(NicEntity::getId).collect(Collectors.toList()), ElementType.NicQuestionnaire.name());
+        ElementToNicQuestionnaireConvertor convertor = new ElementToNicQuestionnaireConvertor();
+        nics.forEach(nic -> Optional.ofNullable(questionnaires.get(nic.getId()))
+            .ifPresent(questionnaire -> nic.setQuestionnaireData(convertor.convert(questionnaire).getQuestionnaireData())));
+        return nics;
     }
 
     @Override
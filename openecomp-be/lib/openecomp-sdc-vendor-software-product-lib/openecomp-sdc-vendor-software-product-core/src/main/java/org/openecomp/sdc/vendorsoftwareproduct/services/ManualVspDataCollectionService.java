@@ -17,11 +17,13 @@ package org.openecomp.sdc.vendorsoftwareproduct.services;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.openecomp.core.utilities.json.JsonUtil;
@@ -65,16 +67,34 @@ import org.openecomp.sdc.versioning.dao.types.Version;
 
 public class ManualVspDataCollectionService {
 
-    private static final VendorSoftwareProductInfoDao vendorSoftwareProductInfoDao = VendorSoftwareProductInfoDaoFactory.getInstance()
-        .createInterface();
-    private static final DeploymentFlavorDao deploymentFlavorDao = DeploymentFlavorDaoFactory.getInstance().createInterface();
-    private static final ComputeDao computeDao = ComputeDaoFactory.getInstance().createInterface();
-    private static final ImageDao imageDao = ImageDaoFactory.getInstance().createInterface();
-    private static final ComponentDao componentDao = ComponentDaoFactory.getInstance().createInterface();
-    private static final NicDao nicDao = NicDaoFactory.getInstance().createInterface();
-    private static final VendorLicenseFacade vendorLicenseFacade = VendorLicenseFacadeFactory.getInstance().createInterface();
+    private final VendorSoftwareProductInfoDao vendorSoftwareProductInfoDao;
+    private final DeploymentFlavorDao deploymentFlavorDao;
+    private final ComputeDao computeDao;
+    private final ImageDao imageDao;
+    private final ComponentDao componentDao;
+    private final NicDao nicDao;
+    private final VendorLicenseFacade vendorLicenseFacade;
     private final Logger log = LoggerFactory.getLogger(this.getClass().getName());
 
+    public ManualVspDataCollectionService() {
+        this(VendorSoftwareProductInfoDaoFactory.getInstance().createInterface(), DeploymentFlavorDaoFactory.getInstance().createInterface(),
+            ComputeDaoFactory.getInstance().createInterface(), ImageDaoFactory.getInstance().createInterface(),
+            ComponentDaoFactory.getInstance().createInterface(), NicDaoFactory.getInstance().createInterface(),
+            VendorLicenseFacadeFactory.getInstance().createInterface());
+    }
+
+    ManualVspDataCollectionService(VendorSoftwareProductInfoDao vendorSoftwareProductInfoDao, DeploymentFlavorDao deploymentFlavorDao,
+                                   ComputeDao computeDao, ImageDao imageDao, ComponentDao componentDao, NicDao nicDao,
+                                   VendorLicenseFacade vendorLicenseFacade) {
+        this.vendorSoftwareProductInfoDao = vendorSoftwareProductInfoDao;
+        this.deploymentFlavorDao = deploymentFlavorDao;
+        this.computeDao = computeDao;
+        this.imageDao = imageDao;
+        this.componentDao = componentDao;
+        this.nicDao = nicDao;
+        this.vendorLicenseFacade = vendorLicenseFacade;
+    }
+
     /**
      * Gets vendor name for the vsp.
      *
@@ -158,13 +178,18 @@ public class ManualVspDataCollectionService {
     public Map<String, List<MultiFlavorVfcImage>> getVspComponentImages(String vspId, Version version) {
         Map<String, List<MultiFlavorVfcImage>> vspComponentImages = new HashMap<>();
         Collection<DeploymentFlavorEntity> deploymentFlavorEntities = deploymentFlavorDao.list(new DeploymentFlavorEntity(vspId, version, null));
+        Map<String, List<ImageEntity>> imagesByComponent = null;
         for (DeploymentFlavorEntity deploymentFlavorEntity : deploymentFlavorEntities) {
             DeploymentFlavor deploymentFlavorCompositionData = deploymentFlavorEntity.getDeploymentFlavorCompositionData();
             List<ComponentComputeAssociation> componentComputeAssociations = deploymentFlavorCompositionData.getComponentComputeAssociations();
             if (CollectionUtils.isNotEmpty(componentComputeAssociations)) {
+                if (imagesByComponent == null) {
+                    imagesByComponent = imageDao.listByVsp(vspId, version).stream().collect(Collectors.groupingBy(ImageEntity::getComponentId));
+                }
                 for (ComponentComputeAssociation componentComputeAssociation : componentComputeAssociations) {
                     String componentId = componentComputeAssociation.getComponentId();
-                    List<MultiFlavorVfcImage> componentImages = getComponentImages(vspId, version, componentId);
+                    List<MultiFlavorVfcImage> componentImages = getComponentImages(
+                        imagesByComponent.getOrDefault(componentId, Collections.emptyList()));
                     if (CollectionUtils.isNotEmpty(componentImages)) {
                         vspComponentImages.put(componentId, componentImages);
                     }
@@ -209,6 +234,8 @@ public class ManualVspDataCollectionService {
         Map<String, List<Nic>> vspComponentNics = new HashMap<>();
         Collection<DeploymentFlavorEntity> deploymentFlavorEntities = deploymentFlavorDao.list(new DeploymentFlavorEntity(vspId, version, null));
         if (CollectionUtils.isNotEmpty(deploymentFlavorEntities)) {
+            Map<String, List<NicEntity>> nicsByComponent = nicDao.listByVsp(vspId, version).stream()
+                .collect(Collectors.groupingBy(NicEntity::getComponentId));
             for (DeploymentFlavorEntity deploymentFlavorEntity : deploymentFlavorEntities) {
                 DeploymentFlavor deploymentFlavorCompositionData = deploymentFlavorEntity.getDeploymentFlavorCompositionData();
                 if (Objects.nonNull(deploymentFlavorCompositionData)) {
@@ -217,7 +244,7 @@ public class ManualVspDataCollectionService {
                     if (CollectionUtils.isNotEmpty(componentComputeAssociations)) {
                         for (ComponentComputeAssociation componentComputeAssociation : componentComputeAssociations) {
                             String componentId = componentComputeAssociation.getComponentId();
-                            List<Nic> componentNics = getComponentNics(vspId, version, componentId);
+                            List<Nic> componentNics = getComponentNics(nicsByComponent.getOrDefault(componentId, Collections.emptyList()));
                             if (CollectionUtils.isNotEmpty(componentNics)) {
                                 vspComponentNics.put(componentId, componentNics);
                             }
@@ -229,16 +256,11 @@ public class ManualVspDataCollectionService {
         return vspComponentNics;
     }
 
-    private List<Nic> getComponentNics(String vspId, Version version, String componentId) {
+    private List<Nic> getComponentNics(Collection<NicEntity> nics) {
         List<Nic> componentNics = new ArrayList<>();
-        Collection<NicEntity> nics = nicDao.list(new NicEntity(vspId, version, componentId, null));
-        if (Objects.nonNull(nics)) {
-            for (NicEntity nic : nics) {
-                String nicId = nic.getId();
-                NicEntity nicEntity = nicDao.get(new NicEntity(vspId, version, componentId, nicId));
-                if (Objects.nonNull(nicEntity) && Objects.nonNull(nicEntity.getCompositionData())) {
-                    componentNics.add(nicEntity.getNicCompositionData());
-                }
+        for (NicEntity nicEntity : nics) {
+            if (Objects.nonNull(nicEntity.getCompositionData())) {
+                componentNics.add(nicEntity.getNicCompositionData());
             }
         }
         return componentNics;
@@ -326,38 +348,34 @@ public class ManualVspDataCollectionService {
         return Optional.empty();
     }
 
-    private List<MultiFlavorVfcImage> getComponentImages(String vspId, Version version, String componentId) {
+    private List<MultiFlavorVfcImage> getComponentImages(Collection<ImageEntity> componentImages) {
         List<MultiFlavorVfcImage> multiFlavorVfcImages = new ArrayList<>();
         MultiFlavorVfcImage multiFlavorVfcImage;
-        Collection<ImageEntity> componentImages = imageDao.list(new ImageEntity(vspId, version, componentId, null));
-        if (Objects.nonNull(componentImages)) {
-            for (ImageEntity componentImage : componentImages) {
-                ImageEntity imageEntity = imageDao.get(componentImage);
-                ImageEntity imageQuestionnaireDataEntity = imageDao.getQuestionnaireData(vspId, version, componentId, componentImage.getId());
-                Image imageCompositionData = imageEntity.getImageCompositionData();
-                if (Objects.nonNull(imageEntity) && Objects.nonNull(imageQuestionnaireDataEntity) && Objects.nonNull(imageCompositionData)) {
-                    ImageDetails imageDetails;
-                    try {
-                        imageDetails = JsonUtil.json2Object(imageQuestionnaireDataEntity.getQuestionnaireData(), ImageDetails.class);
-                    } catch (Exception ex) {
-                        log.warn("Failed to convert json value to ImageDetails object," + "initializing imageDetails to null", ex);
-                        imageDetails = null;
-                    }
-                    if (Objects.nonNull(imageDetails) && Objects.nonNull(imageDetails.getVersion())) {
-                        //Image version is used as a key for the image block
+        // the images listed by vsp carry both their composition and questionnaire data
+        for (ImageEntity imageEntity : componentImages) {
+            Image imageCompositionData = imageEntity.getImageCompositionData();
+            if (Objects.nonNull(imageEntity.getQuestionnaireData()) && Objects.nonNull(imageCompositionData)) {
+                ImageDetails imageDetails;
+                try {
+                    imageDetails = JsonUtil.json2Object(imageEntity.getQuestionnaireData(), ImageDetails.class);
+                } catch (Exception ex) {
+                    log.warn("Failed to convert json value to ImageDetails object," + "initializing imageDetails to null", ex);
+                    imageDetails = null;
+                }
+                if (Objects.nonNull(imageDetails) && Objects.nonNull(imageDetails.getVersion())) {
+                    //Image version is used as a key for the image block
 
-                        //So excluding the population if questionnaire data is absent or invalid
-                        multiFlavorVfcImage = new MultiFlavorVfcImage();
-                        multiFlavorVfcImage.setSoftware_version(imageDetails.getVersion());
-                        if (Objects.nonNull(imageCompositionData.getFileName())) {
-                            multiFlavorVfcImage.setFile_name(imageCompositionData.getFileName());
-                        }
-                        if (Objects.nonNull(imageDetails.getMd5())) {
-                            multiFlavorVfcImage.setFile_hash(imageDetails.getMd5());
-                        }
-                        multiFlavorVfcImage.setFile_hash_type("md5");
-                        multiFlavorVfcImages.add(multiFlavorVfcImage);
+                    //So excluding the population if questionnaire data is absent or invalid
+                    multiFlavorVfcImage = new MultiFlavorVfcImage();
+                    multiFlavorVfcImage.setSoftware_version(imageDetails.getVersion());
+                    if (Objects.nonNull(imageCompositionData.getFileName())) {
+                        multiFlavorVfcImage.setFile_name(imageCompositionData.getFileName());
+                    }
+                    if (Objects.nonNull(imageDetails.getMd5())) {
+                        multiFlavorVfcImage.setFile_hash(imageDetails.getMd5());
                     }
+                    multiFlavorVfcImage.setFile_hash_type("md5");
+                    multiFlavorVfcImages.add(multiFlavorVfcImage);
                 }
             }
         }
@@ -140,7 +140,7 @@ public class ETSIServiceImpl implements ETSIService {
             final Path newNonManoPath = Paths
                 .get(nonManoFolderType.getType(), nonManoFolderType.getLocation(), fixedSourcePath.getFileName().toString());
             if (!handler.containsFile(newNonManoPath.toString())) {
-                handler.addFile(newNonManoPath.toString(), handler.remove(fixedSourcePath.toString()));
+                handler.moveFile(fixedSourcePath.toString(), newNonManoPath.toString());
                 return Optional.of(newNonManoPath);
             }
         }
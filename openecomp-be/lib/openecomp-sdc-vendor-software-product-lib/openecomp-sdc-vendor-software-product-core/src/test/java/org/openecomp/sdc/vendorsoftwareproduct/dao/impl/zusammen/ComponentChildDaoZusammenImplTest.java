@@ -0,0 +1,144 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen.TestUtil.createElement;
+import static org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen.TestUtil.createElementInfo;
+import static org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen.TestUtil.mockComponents;
+import static org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen.TestUtil.mockSubElementInfo;
+
+import com.amdocs.zusammen.datatypes.Id;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openecomp.core.zusammen.api.ZusammenAdaptor;
+import org.openecomp.sdc.common.session.SessionContextProviderFactory;
+import org.openecomp.sdc.datatypes.model.ElementType;
+import org.openecomp.sdc.vendorsoftwareproduct.dao.type.CompositionEntity;
+import org.openecomp.sdc.vendorsoftwareproduct.types.composition.CompositionEntityId;
+import org.openecomp.sdc.versioning.dao.types.Version;
+
+/**
+ * Covers the listing by vsp of the nics, images and computes, which all read the children of every component of the vsp and their
+ * questionnaires the same way.
+ */
+@ExtendWith(MockitoExtension.class)
+class ComponentChildDaoZusammenImplTest {
+
+    private static final String VSP_ID = "vspId";
+    private static final Version VERSION = new Version("versionId");
+    private static final String COMPONENT1_ID = "component1";
+    private static final String COMPONENT2_ID = "component2";
+
+    @Mock
+    private ZusammenAdaptor zusammenAdaptor;
+
+    static Stream<Arguments> childDaos() {
+        return Stream.of(
+            Arguments.of(ElementType.Nics, ElementType.NicQuestionnaire,
+                (Function<ZusammenAdaptor, ListByVsp>) adaptor -> new NicDaoZusammenImpl(adaptor)::listByVsp),
+            Arguments.of(ElementType.Images, ElementType.ImageQuestionnaire,
+                (Function<ZusammenAdaptor, ListByVsp>) adaptor -> new ImageDaoZusammenImpl(adaptor)::listByVsp),
+            Arguments.of(ElementType.Computes, ElementType.ComputeQuestionnaire,
+                (Function<ZusammenAdaptor, ListByVsp>) adaptor -> new ComputeDaoZusammenImpl(adaptor)::listByVsp));
+    }
+
+    @BeforeEach
+    void setUp() {
+        SessionContextProviderFactory.getInstance().createInterface().create("user", "dox");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SessionContextProviderFactory.getInstance().createInterface().close();
+    }
+
+    @ParameterizedTest
+    @MethodSource("childDaos")
+    void listByVspReadsTheQuestionnairesOfAllChildrenInOneFetch(ElementType childrenType, ElementType questionnaireType,
+                                                                 Function<ZusammenAdaptor, ListByVsp> dao) {
+        mockComponents(zusammenAdaptor, COMPONENT1_ID, COMPONENT2_ID);
+        when(zusammenAdaptor.listElementsByName(any(), any(), eq(new Id(COMPONENT1_ID)), eq(childrenType.name())))
+            .thenReturn(Arrays.asList(createElementInfo("child1", compositionData("child1")),
+                createElementInfo("child2", compositionData("child2"))));
+        when(zusammenAdaptor.listElementsByName(any(), any(), eq(new Id(COMPONENT2_ID)), eq(childrenType.name())))
+            .thenReturn(Arrays.asList(createElementInfo("child3", compositionData("child3"))));
+        mockSubElementInfo(zusammenAdaptor, "child1", questionnaireType.name(), "questionnaire1");
+        mockSubElementInfo(zusammenAdaptor, "child2", questionnaireType.name(), "questionnaire2");
+        mockSubElementInfo(zusammenAdaptor, "child3", questionnaireType.name(), null);
+        // the elements are not returned in the order of the ids, they must be matched to their child by id
+        when(zusammenAdaptor.getElements(any(), any(), eq(Arrays.asList(new Id("questionnaire1"), new Id("questionnaire2")))))
+            .thenReturn(Arrays.asList(createElement("questionnaire2", null), createElement("questionnaire1", "{\"q\":1}")));
+
+        Map<String, CompositionEntity> children = dao.apply(zusammenAdaptor).listByVsp(VSP_ID, VERSION).stream()
+            .collect(Collectors.toMap(CompositionEntity::getId, Function.identity()));
+
+        assertEquals(3, children.size());
+        assertChild(children.get("child1"), COMPONENT1_ID, "child1", "{\"q\":1}");
+        // a questionnaire without data leaves the questionnaire data of its child unset
+        assertChild(children.get("child2"), COMPONENT1_ID, "child2", null);
+        assertChild(children.get("child3"), COMPONENT2_ID, "child3", null);
+        verify(zusammenAdaptor, never()).getElementByName(any(), any(), any(), anyString());
+    }
+
+    @ParameterizedTest
+    @MethodSource("childDaos")
+    void listByVspWithoutComponents(ElementType childrenType, ElementType questionnaireType, Function<ZusammenAdaptor, ListByVsp> dao) {
+        assertEquals(0, dao.apply(zusammenAdaptor).listByVsp(VSP_ID, VERSION).size());
+        verify(zusammenAdaptor).getElements(any(), any(), eq(new ArrayList<>()));
+    }
+
+    private static String compositionData(String name) {
+        return "{\"name\":\"" + name + "\"}";
+    }
+
+    private static void assertChild(CompositionEntity child, String componentId, String name, String questionnaireData) {
+        assertEquals(new CompositionEntityId(name, new CompositionEntityId(componentId, new CompositionEntityId(VSP_ID, null))),
+            child.getCompositionEntityId());
+        assertEquals(VERSION, child.getVersion());
+        assertEquals(compositionData(name), child.getCompositionData());
+        assertEquals(questionnaireData, child.getQuestionnaireData());
+    }
+
+    @FunctionalInterface
+    private interface ListByVsp {
+
+        Collection<? extends CompositionEntity> listByVsp(String vspId, Version version);
+    }
+}
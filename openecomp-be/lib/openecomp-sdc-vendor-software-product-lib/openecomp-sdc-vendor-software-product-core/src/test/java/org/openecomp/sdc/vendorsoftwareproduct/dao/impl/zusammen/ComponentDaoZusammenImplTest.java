@@ -0,0 +1,129 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen.TestUtil.createElement;
+import static org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen.TestUtil.mockComponents;
+import static org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen.TestUtil.mockSubElementInfo;
+
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.Element;
+import com.amdocs.zusammen.datatypes.Id;
+import com.amdocs.zusammen.datatypes.SessionContext;
+import com.amdocs.zusammen.datatypes.item.ElementContext;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openecomp.core.zusammen.api.ZusammenAdaptor;
+import org.openecomp.sdc.common.session.SessionContextProviderFactory;
+import org.openecomp.sdc.datatypes.model.ElementType;
+import org.openecomp.sdc.vendorsoftwareproduct.dao.type.ComponentEntity;
+import org.openecomp.sdc.versioning.dao.types.Version;
+
+@ExtendWith(MockitoExtension.class)
+class ComponentDaoZusammenImplTest {
+
+    private static final String VSP_ID = "vspId";
+    private static final Version VERSION = new Version("versionId");
+    private static final String COMPONENT1_ID = "component1";
+    private static final String COMPONENT2_ID = "component2";
+    private static final String COMPONENT3_ID = "component3";
+
+    @Mock
+    private ZusammenAdaptor zusammenAdaptor;
+    @InjectMocks
+    private ComponentDaoZusammenImpl componentDao;
+
+    @BeforeEach
+    void setUp() {
+        SessionContextProviderFactory.getInstance().createInterface().create("user", "dox");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SessionContextProviderFactory.getInstance().createInterface().close();
+    }
+
+    @Test
+    void getSubElementsByNameMatchesTheElementsToTheirParents() {
+        SessionContext context = new SessionContext();
+        ElementContext elementContext = new ElementContext(VSP_ID, VERSION.getId());
+        mockSubElementInfo(zusammenAdaptor, COMPONENT1_ID, ElementType.ComponentQuestionnaire.name(), "questionnaire1");
+        mockSubElementInfo(zusammenAdaptor, COMPONENT2_ID, ElementType.ComponentQuestionnaire.name(), null);
+        mockSubElementInfo(zusammenAdaptor, COMPONENT3_ID, ElementType.ComponentQuestionnaire.name(), "questionnaire3");
+        Element questionnaire1 = createElement("questionnaire1", "{\"q\":1}");
+        Element questionnaire3 = createElement("questionnaire3", "{\"q\":3}");
+        when(zusammenAdaptor.getElements(same(context), same(elementContext), eq(Arrays.asList(new Id("questionnaire1"), new Id("questionnaire3")))))
+            .thenReturn(Arrays.asList(questionnaire3, questionnaire1));
+
+        Map<String, Element> elementsByParentId = ComponentDaoZusammenImpl.getSubElementsByName(zusammenAdaptor, context, elementContext,
+            Arrays.asList(COMPONENT1_ID, COMPONENT2_ID, COMPONENT3_ID), ElementType.ComponentQuestionnaire.name());
+
+        assertEquals(2, elementsByParentId.size());
+        assertEquals(questionnaire1, elementsByParentId.get(COMPONENT1_ID));
+        assertNull(elementsByParentId.get(COMPONENT2_ID));
+        assertEquals(questionnaire3, elementsByParentId.get(COMPONENT3_ID));
+    }
+
+    @Test
+    void listCompositionAndQuestionnaireReadsTheQuestionnairesOfAllComponentsInOneFetch() {
+        mockComponents(zusammenAdaptor, COMPONENT1_ID, COMPONENT2_ID);
+        mockSubElementInfo(zusammenAdaptor, COMPONENT1_ID, ElementType.ComponentQuestionnaire.name(), "questionnaire1");
+        mockSubElementInfo(zusammenAdaptor, COMPONENT2_ID, ElementType.ComponentQuestionnaire.name(), "questionnaire2");
+        when(zusammenAdaptor.getElements(any(), any(), eq(Arrays.asList(new Id("questionnaire1"), new Id("questionnaire2")))))
+            .thenReturn(Arrays.asList(createElement("questionnaire2", "{\"q\":2}"), createElement("questionnaire1", "{\"q\":1}")));
+
+        Map<String, ComponentEntity> components = byId(componentDao.listCompositionAndQuestionnaire(VSP_ID, VERSION));
+
+        assertEquals(2, components.size());
+        assertComponent(components.get(COMPONENT1_ID), "{\"q\":1}");
+        assertComponent(components.get(COMPONENT2_ID), "{\"q\":2}");
+        verify(zusammenAdaptor, never()).getElementByName(any(), any(), any(), anyString());
+    }
+
+    private static void assertComponent(ComponentEntity component, String questionnaireData) {
+        assertEquals(VSP_ID, component.getVspId());
+        assertEquals(VERSION, component.getVersion());
+        // the composition data of the stubbed components holds their id as name
+        assertEquals(component.getId(), component.getComponentCompositionData().getName());
+        assertEquals(questionnaireData, component.getQuestionnaireData());
+    }
+
+    private static Map<String, ComponentEntity> byId(Collection<ComponentEntity> components) {
+        return components.stream().collect(Collectors.toMap(ComponentEntity::getId, Function.identity()));
+    }
+}
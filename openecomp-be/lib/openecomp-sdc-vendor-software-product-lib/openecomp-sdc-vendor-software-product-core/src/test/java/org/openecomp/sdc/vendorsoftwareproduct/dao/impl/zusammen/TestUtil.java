@@ -0,0 +1,89 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.Element;
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.ElementInfo;
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.ZusammenElement;
+import com.amdocs.zusammen.datatypes.Id;
+import com.amdocs.zusammen.datatypes.item.Info;
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.openecomp.core.zusammen.api.ZusammenAdaptor;
+import org.openecomp.sdc.datatypes.model.ElementType;
+import org.openecomp.types.ElementPropertyName;
+
+class TestUtil {
+
+    static final String VSP_MODEL_ID = "vspModelId";
+
+    private TestUtil() {
+    }
+
+    static ElementInfo createElementInfo(String id) {
+        return createElementInfo(id, null);
+    }
+
+    static ElementInfo createElementInfo(String id, String compositionData) {
+        ElementInfo elementInfo = new ElementInfo();
+        elementInfo.setId(new Id(id));
+        Info info = new Info();
+        if (compositionData != null) {
+            info.addProperty(ElementPropertyName.compositionData.name(), compositionData);
+        }
+        elementInfo.setInfo(info);
+        return elementInfo;
+    }
+
+    static Element createElement(String id, String data) {
+        ZusammenElement element = new ZusammenElement();
+        element.setElementId(new Id(id));
+        if (data != null) {
+            element.setData(new ByteArrayInputStream(data.getBytes()));
+        }
+        return element;
+    }
+
+    /**
+     * Stubs the components of the vsp model, the components' composition data holding their id as name
+     */
+    static void mockComponents(ZusammenAdaptor zusammenAdaptor, String... componentIds) {
+        when(zusammenAdaptor.getElementInfoByName(any(), any(), isNull(), eq(ElementType.VspModel.name())))
+            .thenReturn(Optional.of(createElementInfo(VSP_MODEL_ID)));
+        when(zusammenAdaptor.listElementsByName(any(), any(), eq(new Id(VSP_MODEL_ID)), eq(ElementType.Components.name()))).thenReturn(
+            Arrays.stream(componentIds).map(componentId -> createElementInfo(componentId, "{\"name\":\"" + componentId + "\"}"))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Stubs the sub element named elementName of a parent element, none when elementId is null
+     */
+    static void mockSubElementInfo(ZusammenAdaptor zusammenAdaptor, String parentElementId, String elementName, String elementId) {
+        when(zusammenAdaptor.getElementInfoByName(any(), any(), eq(new Id(parentElementId)), eq(elementName)))
+            .thenReturn(elementId == null ? Optional.empty() : Optional.of(createElementInfo(elementId)));
+    }
+}
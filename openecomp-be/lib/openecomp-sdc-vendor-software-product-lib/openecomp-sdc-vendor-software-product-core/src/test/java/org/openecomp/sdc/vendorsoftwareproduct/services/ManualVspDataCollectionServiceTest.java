@@ -0,0 +1,160 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.vendorsoftwareproduct.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openecomp.core.utilities.json.JsonUtil;
+import org.openecomp.sdc.generator.datatypes.tosca.MultiFlavorVfcImage;
+import org.openecomp.sdc.vendorsoftwareproduct.dao.DeploymentFlavorDao;
+import org.openecomp.sdc.vendorsoftwareproduct.dao.ImageDao;
+import org.openecomp.sdc.vendorsoftwareproduct.dao.NicDao;
+import org.openecomp.sdc.vendorsoftwareproduct.dao.type.DeploymentFlavorEntity;
+import org.openecomp.sdc.vendorsoftwareproduct.dao.type.ImageEntity;
+import org.openecomp.sdc.vendorsoftwareproduct.dao.type.NicEntity;
+import org.openecomp.sdc.vendorsoftwareproduct.types.composition.ComponentComputeAssociation;
+import org.openecomp.sdc.vendorsoftwareproduct.types.composition.DeploymentFlavor;
+import org.openecomp.sdc.vendorsoftwareproduct.types.composition.Image;
+import org.openecomp.sdc.vendorsoftwareproduct.types.composition.Nic;
+import org.openecomp.sdc.vendorsoftwareproduct.types.questionnaire.component.image.ImageDetails;
+import org.openecomp.sdc.versioning.dao.types.Version;
+
+@ExtendWith(MockitoExtension.class)
+class ManualVspDataCollectionServiceTest {
+
+    private static final String VSP_ID = "vspId";
+    private static final Version VERSION = new Version("versionId");
+    private static final String COMPONENT1_ID = "component1";
+    private static final String COMPONENT2_ID = "component2";
+    private static final String COMPONENT3_ID = "component3";
+
+    @Mock
+    private DeploymentFlavorDao deploymentFlavorDao;
+    @Mock
+    private ImageDao imageDao;
+    @Mock
+    private NicDao nicDao;
+    @InjectMocks
+    private ManualVspDataCollectionService manualVspDataCollectionService;
+
+    @Test
+    void getVspComponentImagesGroupsTheImagesOfTheVspByComponent() {
+        mockDeploymentFlavors();
+        when(imageDao.listByVsp(VSP_ID, VERSION)).thenReturn(Arrays
+            .asList(createImage(COMPONENT1_ID, "image1", "1.0"), createImage(COMPONENT2_ID, "image2", "2.0"),
+                createImage(COMPONENT1_ID, "image3", "3.0"), createImage(COMPONENT2_ID, "image4", null)));
+
+        Map<String, List<MultiFlavorVfcImage>> componentImages = manualVspDataCollectionService.getVspComponentImages(VSP_ID, VERSION);
+
+        assertEquals(2, componentImages.size());
+        assertEquals(Arrays.asList("image1", "image3"), fileNames(componentImages.get(COMPONENT1_ID)));
+        assertEquals(Arrays.asList("1.0", "3.0"),
+            componentImages.get(COMPONENT1_ID).stream().map(MultiFlavorVfcImage::getSoftware_version).collect(Collectors.toList()));
+        // an image without a questionnaire version is left out
+        assertEquals(Collections.singletonList("image2"), fileNames(componentImages.get(COMPONENT2_ID)));
+        assertEquals("md5", componentImages.get(COMPONENT2_ID).get(0).getFile_hash_type());
+        assertFalse(componentImages.containsKey(COMPONENT3_ID));
+        verify(imageDao).listByVsp(VSP_ID, VERSION);
+        verify(imageDao, never()).list(any());
+    }
+
+    @Test
+    void getVspComponentNicsGroupsTheNicsOfTheVspByComponent() {
+        mockDeploymentFlavors();
+        when(nicDao.listByVsp(VSP_ID, VERSION)).thenReturn(Arrays
+            .asList(createNic(COMPONENT1_ID, "nic1"), createNic(COMPONENT2_ID, "nic2"), createNic(COMPONENT1_ID, "nic3"),
+                new NicEntity(VSP_ID, VERSION, COMPONENT2_ID, "nic4")));
+
+        Map<String, List<Nic>> componentNics = manualVspDataCollectionService.getVspComponentNics(VSP_ID, VERSION);
+
+        assertEquals(2, componentNics.size());
+        assertEquals(Arrays.asList("nic1", "nic3"), componentNics.get(COMPONENT1_ID).stream().map(Nic::getName).collect(Collectors.toList()));
+        // a nic without composition data is left out
+        assertEquals(Collections.singletonList("nic2"),
+            componentNics.get(COMPONENT2_ID).stream().map(Nic::getName).collect(Collectors.toList()));
+        assertFalse(componentNics.containsKey(COMPONENT3_ID));
+        verify(nicDao).listByVsp(VSP_ID, VERSION);
+        verify(nicDao, never()).list(any());
+    }
+
+    @Test
+    void getVspComponentImagesWithoutComputeAssociationsDoesNotListTheImages() {
+        DeploymentFlavorEntity deploymentFlavor = new DeploymentFlavorEntity(VSP_ID, VERSION, "flavor1");
+        deploymentFlavor.setDeploymentFlavorCompositionData(new DeploymentFlavor());
+        when(deploymentFlavorDao.list(any(DeploymentFlavorEntity.class))).thenReturn(Collections.singletonList(deploymentFlavor));
+
+        assertTrue(manualVspDataCollectionService.getVspComponentImages(VSP_ID, VERSION).isEmpty());
+        verify(imageDao, never()).listByVsp(any(), any());
+    }
+
+    private void mockDeploymentFlavors() {
+        when(deploymentFlavorDao.list(any(DeploymentFlavorEntity.class))).thenReturn(Arrays
+            .asList(createDeploymentFlavor("flavor1", COMPONENT1_ID, COMPONENT3_ID), createDeploymentFlavor("flavor2", COMPONENT2_ID)));
+    }
+
+    private static DeploymentFlavorEntity createDeploymentFlavor(String id, String... componentIds) {
+        DeploymentFlavor deploymentFlavor = new DeploymentFlavor();
+        deploymentFlavor.setComponentComputeAssociations(Arrays.stream(componentIds).map(componentId -> {
+            ComponentComputeAssociation componentComputeAssociation = new ComponentComputeAssociation();
+            componentComputeAssociation.setComponentId(componentId);
+            return componentComputeAssociation;
+        }).collect(Collectors.toList()));
+        DeploymentFlavorEntity deploymentFlavorEntity = new DeploymentFlavorEntity(VSP_ID, VERSION, id);
+        deploymentFlavorEntity.setDeploymentFlavorCompositionData(deploymentFlavor);
+        return deploymentFlavorEntity;
+    }
+
+    private static ImageEntity createImage(String componentId, String fileName, String softwareVersion) {
+        ImageEntity image = new ImageEntity(VSP_ID, VERSION, componentId, fileName);
+        image.setImageCompositionData(new Image(fileName));
+        ImageDetails imageDetails = new ImageDetails();
+        imageDetails.setVersion(softwareVersion);
+        image.setQuestionnaireData(JsonUtil.object2Json(imageDetails));
+        return image;
+    }
+
+    private static NicEntity createNic(String componentId, String name) {
+        NicEntity nic = new NicEntity(VSP_ID, VERSION, componentId, name);
+        Nic nicData = new Nic();
+        nicData.setName(name);
+        nic.setNicCompositionData(nicData);
+        return nic;
+    }
+
+    private static List<String> fileNames(List<MultiFlavorVfcImage> images) {
+        return images.stream().map(MultiFlavorVfcImage::getFile_name).collect(Collectors.toList());
+    }
+}
@@ -71,11 +71,19 @@ public abstract class AbstractToscaConverter implements ToscaConverter {
 
     public abstract void convertTopologyTemplate(@NotNull ServiceTemplate serviceTemplate, ServiceTemplateReaderService readerService);
 
-    protected void handleMetadataFile(Map<String, byte[]> csarFiles) {
-        byte[] bytes = csarFiles.remove(TOSCA_META_PATH_FILE_NAME);
-        if (bytes != null) {
-            csarFiles.put(TOSCA_META_ORIG_PATH_FILE_NAME, bytes);
-        }
+    /**
+     * @return the metadata file of the package, kept among the artifacts as the original metadata file
+     */
+    private byte[] getMetadataFile(Map<String, byte[]> csarFiles) {
+        byte[] bytes = csarFiles.get(TOSCA_META_PATH_FILE_NAME);
+        return bytes != null ? bytes : csarFiles.get(TOSCA_META_ORIG_PATH_FILE_NAME);
+    }
+
+    /**
+     * Creates the handler of the artifacts of a package, keeping its large files on disk as the package handler does.
+     */
+    protected FileContentHandler createArtifactsHandler(FileContentHandler csarFiles) {
+        return new FileContentHandler(csarFiles.getSpillThreshold());
     }
 
     protected void handleDefinitionTemplate(String key, Map<String, byte[]> csarFiles, GlobalSubstitutionServiceTemplate gsst) {
@@ -111,7 +119,7 @@ public abstract class AbstractToscaConverter implements ToscaConverter {
         addGlobalServiceTemplates(globalServiceTemplates, serviceTemplates);
         toscaServiceModel.setServiceTemplates(serviceTemplates);
         toscaServiceModel.setEntryDefinitionServiceTemplate(entryDefinitionServiceTemplateName);
-        externalFilesHandler.addFile(TOSCA_META_ORIG_PATH_FILE_NAME, csarFiles.get(TOSCA_META_ORIG_PATH_FILE_NAME));
+        externalFilesHandler.addFile(TOSCA_META_ORIG_PATH_FILE_NAME, getMetadataFile(csarFiles));
         toscaServiceModel.setArtifactFiles(externalFilesHandler);
         if (MapUtils.isNotEmpty(globalSubstitutionServiceTemplate.getNode_types())
             || MapUtils.isNotEmpty(globalSubstitutionServiceTemplate.getData_types())) {
@@ -46,15 +46,15 @@ public abstract class AbstractToscaSolConverter extends AbstractToscaConverter {
 
     @Override
     public ToscaServiceModel convert(FileContentHandler fileContentHandler) throws IOException {
-        Map<String, byte[]> csarFiles = new HashMap<>(fileContentHandler.getFiles());
+        // a read only view, the files are read by name when needed
+        Map<String, byte[]> csarFiles = fileContentHandler.getFiles();
         ToscaServiceModel toscaServiceModel = new ToscaServiceModel();
         Map<String, ServiceTemplate> serviceTemplates = new HashMap<>();
-        FileContentHandler artifacts = new FileContentHandler();
+        FileContentHandler artifacts = createArtifactsHandler(fileContentHandler);
         GlobalSubstitutionServiceTemplate gsst = new GlobalSubstitutionServiceTemplate();
         String mServiceDefinitionPath = getMainServiceDefinitionFileName(fileContentHandler);
         handleMainServiceTemplate(csarFiles, serviceTemplates, gsst, mServiceDefinitionPath);
-        handleExternalArtifacts(csarFiles, serviceTemplates, artifacts);
-        handleMetadataFile(csarFiles);
+        handleExternalArtifacts(fileContentHandler, serviceTemplates, artifacts);
         updateToscaServiceModel(toscaServiceModel, serviceTemplates, artifacts, gsst, csarFiles, getSimpleName(mServiceDefinitionPath));
         return toscaServiceModel;
     }
@@ -67,13 +67,13 @@ public abstract class AbstractToscaSolConverter extends AbstractToscaConverter {
         }
     }
 
-    private void handleExternalArtifacts(Map<String, byte[]> csarFiles, Map<String, ServiceTemplate> serviceTemplates, FileContentHandler artifacts) {
-        for (Map.Entry<String, byte[]> fileEntry : csarFiles.entrySet()) {
-            if (!handledDefinitionFilesList.contains(fileEntry.getKey()) && !isMetadataFile(fileEntry.getKey())) {
-                if (isGlobalServiceTemplate(fileEntry.getKey())) {
-                    handleServiceTemplate(GLOBAL_ST_NAME, fileEntry.getKey(), csarFiles, serviceTemplates);
+    private void handleExternalArtifacts(FileContentHandler csarFiles, Map<String, ServiceTemplate> serviceTemplates, FileContentHandler artifacts) {
+        for (String fileName : csarFiles.getFileList()) {
+            if (!handledDefinitionFilesList.contains(fileName) && !isMetadataFile(fileName)) {
+                if (isGlobalServiceTemplate(fileName)) {
+                    handleServiceTemplate(GLOBAL_ST_NAME, fileName, csarFiles.getFiles(), serviceTemplates);
                 } else {
-                    artifacts.addFile(getConcreteArtifactFileName(fileEntry.getKey()), fileEntry.getValue());
+                    artifacts.addFile(getConcreteArtifactFileName(fileName), csarFiles, fileName);
                 }
             }
         }
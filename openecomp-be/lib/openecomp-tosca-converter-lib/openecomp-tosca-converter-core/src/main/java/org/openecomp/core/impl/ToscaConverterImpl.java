@@ -30,32 +30,31 @@ public class ToscaConverterImpl extends AbstractToscaConverter {
 
     @Override
     public ToscaServiceModel convert(FileContentHandler fileContentHandler) {
-        Map<String, byte[]> csarFiles = new HashMap<>(fileContentHandler.getFiles());
+        // a read only view, the files are read by name when needed
+        Map<String, byte[]> csarFiles = fileContentHandler.getFiles();
         ToscaServiceModel toscaServiceModel = new ToscaServiceModel();
         Map<String, ServiceTemplate> serviceTemplates = new HashMap<>();
-        FileContentHandler artifacts = new FileContentHandler();
+        FileContentHandler artifacts = createArtifactsHandler(fileContentHandler);
         GlobalSubstitutionServiceTemplate gsst = new GlobalSubstitutionServiceTemplate();
-        csarFiles.putAll(fileContentHandler.getFiles());
-        for (Map.Entry<String, byte[]> fileEntry : csarFiles.entrySet()) {
-            CsarFileTypes fileType = getFileType(fileEntry.getKey());
+        for (String fileName : fileContentHandler.getFileList()) {
+            CsarFileTypes fileType = getFileType(fileName);
             switch (fileType) {
                 case mainServiceTemplate:
-                    handleServiceTemplate(MAIN_ST_NAME, fileEntry.getKey(), csarFiles, serviceTemplates);
+                    handleServiceTemplate(MAIN_ST_NAME, fileName, csarFiles, serviceTemplates);
                     break;
                 case globalServiceTemplate:
-                    handleServiceTemplate(GLOBAL_ST_NAME, fileEntry.getKey(), csarFiles, serviceTemplates);
+                    handleServiceTemplate(GLOBAL_ST_NAME, fileName, csarFiles, serviceTemplates);
                     break;
                 case externalFile:
-                    artifacts.addFile(getConcreteArtifactFileName(fileEntry.getKey()), fileEntry.getValue());
+                    artifacts.addFile(getConcreteArtifactFileName(fileName), fileContentHandler, fileName);
                     break;
                 case definitionsFile:
-                    handleDefinitionTemplate(fileEntry.getKey(), csarFiles, gsst);
+                    handleDefinitionTemplate(fileName, csarFiles, gsst);
                     break;
                 default:
                     break;
             }
         }
-        handleMetadataFile(csarFiles);
         updateToscaServiceModel(toscaServiceModel, serviceTemplates, artifacts, gsst, csarFiles, MAIN_ST_NAME);
         return toscaServiceModel;
     }
@@ -30,7 +30,6 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
-import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.io.FilenameUtils;
 import org.onap.sdc.tosca.datatypes.model.ServiceTemplate;
 import org.openecomp.core.converter.ServiceTemplateReaderService;
@@ -58,17 +57,17 @@ public class ToscaModelConverter extends AbstractToscaConverter {
         init(fileContentHandler);
         handleMainServiceTemplate();
         handleExternalArtifacts();
-        handleMetadataFile(csarFileMap);
         updateToscaServiceModel();
         return toscaServiceModel;
     }
 
     private void init(final FileContentHandler fileContentHandler) throws IOException {
         csarFileContentHandler = fileContentHandler;
-        csarFileMap = new HashMap<>(fileContentHandler.getFiles());
+        // a read only view, the files are read by name when needed
+        csarFileMap = fileContentHandler.getFiles();
         toscaServiceModel = new ToscaServiceModel();
         serviceTemplateMap = new HashMap<>();
-        artifactFileContentHandler = new FileContentHandler();
+        artifactFileContentHandler = createArtifactsHandler(fileContentHandler);
         globalSubstitutionServiceTemplate = new GlobalSubstitutionServiceTemplate();
         mainDefinitionFilePath = getMainServiceDefinitionFileName();
     }
@@ -88,16 +87,13 @@ public class ToscaModelConverter extends AbstractToscaConverter {
     }
 
     private void handleExternalArtifacts() {
-        if (MapUtils.isEmpty(csarFileMap)) {
-            return;
-        }
-        csarFileMap.entrySet().stream()
-            .filter(fileEntry -> !handledDefinitionFilesList.contains(fileEntry.getKey()) && !isMetadataFile(fileEntry.getKey()))
-            .forEach(fileEntry -> {
-                if (isGlobalServiceTemplate(fileEntry.getKey())) {
-                    handleServiceTemplate(GLOBAL_ST_NAME, fileEntry.getKey(), csarFileMap, serviceTemplateMap);
+        csarFileContentHandler.getFileList().stream()
+            .filter(fileName -> !handledDefinitionFilesList.contains(fileName) && !isMetadataFile(fileName))
+            .forEach(fileName -> {
+                if (isGlobalServiceTemplate(fileName)) {
+                    handleServiceTemplate(GLOBAL_ST_NAME, fileName, csarFileMap, serviceTemplateMap);
                 } else {
-                    artifactFileContentHandler.addFile(getConcreteArtifactFileName(fileEntry.getKey()), fileEntry.getValue());
+                    artifactFileContentHandler.addFile(getConcreteArtifactFileName(fileName), csarFileContentHandler, fileName);
                 }
             });
     }
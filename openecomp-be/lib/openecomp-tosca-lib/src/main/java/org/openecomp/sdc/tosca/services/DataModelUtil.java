@@ -997,8 +997,13 @@ public class DataModelUtil {
      *
      * @param obj the object to be cloned
      * @return the cloned object
+     * @see ToscaModelCopier
      */
     public static Object getClonedObject(Object obj) {
+        return ToscaModelCopier.copy(obj, DataModelUtil::getSerializedClone);
+    }
+
+    private static Object getSerializedClone(Object obj) {
         Object clonedObjectValue;
         try {
             //Serialize object
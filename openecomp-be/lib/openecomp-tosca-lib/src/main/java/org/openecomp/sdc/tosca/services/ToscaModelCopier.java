@@ -0,0 +1,222 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openecomp.sdc.tosca.services;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+import org.openecomp.core.utilities.file.FileContentHandler;
+
+/**
+ * Deep copy of tosca model objects. The classes of the tosca data model are copied field by field, using a copy plan built once per class,
+ * collections and maps are copied element by element, and immutable values (strings, numbers, booleans, enums) are shared between the
+ * original and the copy instead of being duplicated. Shared references and cycles of the original are kept in the copy. Objects of other
+ * classes are copied by the given fallback.
+ */
+public final class ToscaModelCopier {
+
+    private static final String[] MODEL_PACKAGES = {"org.onap.sdc.tosca.datatypes.", "org.openecomp.sdc.tosca.datatypes."};
+    private static final Set<Class<?>> IMMUTABLE_TYPES = Set
+        .of(String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+            BigInteger.class, BigDecimal.class, Class.class);
+    private static final Map<Class<?>, CopyPlan> COPY_PLANS = new ConcurrentHashMap<>();
+    private final Map<Object, Object> copies = new IdentityHashMap<>();
+    private final UnaryOperator<Object> fallback;
+
+    private ToscaModelCopier(final UnaryOperator<Object> fallback) {
+        this.fallback = fallback;
+    }
+
+    /**
+     * Gets a deep copy of the given object.
+     *
+     * @param object   the object to copy
+     * @param fallback copies the objects that are neither tosca model objects, collections nor immutable values
+     * @return the copy
+     */
+    public static Object copy(final Object object, final UnaryOperator<Object> fallback) {
+        return new ToscaModelCopier(fallback).copy(object);
+    }
+
+    private Object copy(final Object object) {
+        if (object == null || isImmutable(object.getClass())) {
+            return object;
+        }
+        final Object existingCopy = copies.get(object);
+        if (existingCopy != null) {
+            return existingCopy;
+        }
+        if (object instanceof Map) {
+            return copyMap((Map<?, ?>) object);
+        }
+        if (object instanceof Collection) {
+            return copyCollection((Collection<?>) object);
+        }
+        if (object.getClass().isArray()) {
+            return copyArray(object);
+        }
+        if (object instanceof FileContentHandler) {
+            return register(object, new FileContentHandler((FileContentHandler) object));
+        }
+        final CopyPlan copyPlan = getCopyPlan(object.getClass());
+        if (copyPlan == null) {
+            return register(object, fallback.apply(object));
+        }
+        final Object copy = register(object, copyPlan.newInstance());
+        for (final Field field : copyPlan.fields) {
+            try {
+                field.set(copy, copy(field.get(object)));
+            } catch (final IllegalAccessException e) {
+                throw new IllegalStateException(String.format("Could not copy field '%s' of '%s'", field.getName(), object.getClass()), e);
+            }
+        }
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object copyMap(final Map<?, ?> map) {
+        final Map<Object, Object> copy =
+            map instanceof SortedMap ? new TreeMap<>(((SortedMap<Object, ?>) map).comparator()) : new LinkedHashMap<>(capacity(map.size()));
+        register(map, copy);
+        map.forEach((key, value) -> copy.put(copy(key), copy(value)));
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object copyCollection(final Collection<?> collection) {
+        final Collection<Object> copy;
+        if (collection instanceof SortedSet) {
+            copy = new TreeSet<>(((SortedSet<Object>) collection).comparator());
+        } else if (collection instanceof Set) {
+            copy = new LinkedHashSet<>(capacity(collection.size()));
+        } else {
+            copy = new ArrayList<>(collection.size());
+        }
+        register(collection, copy);
+        collection.forEach(element -> copy.add(copy(element)));
+        return copy;
+    }
+
+    private Object copyArray(final Object array) {
+        final int length = Array.getLength(array);
+        final Class<?> componentType = array.getClass().getComponentType();
+        final Object copy = Array.newInstance(componentType, length);
+        register(array, copy);
+        if (componentType.isPrimitive()) {
+            System.arraycopy(array, 0, copy, 0, length);
+        } else {
+            for (int i = 0; i < length; i++) {
+                Array.set(copy, i, copy(Array.get(array, i)));
+            }
+        }
+        return copy;
+    }
+
+    private Object register(final Object original, final Object copy) {
+        copies.put(original, copy);
+        return copy;
+    }
+
+    private static int capacity(final int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+
+    private static boolean isImmutable(final Class<?> clazz) {
+        return clazz.isEnum() || IMMUTABLE_TYPES.contains(clazz) || (clazz.getSuperclass() != null && clazz.getSuperclass().isEnum());
+    }
+
+    /**
+     * @return the copy plan of a tosca model class, null for the other classes
+     */
+    private static CopyPlan getCopyPlan(final Class<?> clazz) {
+        final CopyPlan copyPlan = COPY_PLANS.computeIfAbsent(clazz, CopyPlan::create);
+        return copyPlan == CopyPlan.NONE ? null : copyPlan;
+    }
+
+    private static boolean isModelClass(final Class<?> clazz) {
+        final String className = clazz.getName();
+        for (final String modelPackage : MODEL_PACKAGES) {
+            if (className.startsWith(modelPackage)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The constructor and the instance fields, including the inherited ones, of a tosca model class
+     */
+    private static final class CopyPlan {
+
+        private static final CopyPlan NONE = new CopyPlan(null, List.of());
+        private final Constructor<?> constructor;
+        private final List<Field> fields;
+
+        private CopyPlan(final Constructor<?> constructor, final List<Field> fields) {
+            this.constructor = constructor;
+            this.fields = fields;
+        }
+
+        private static CopyPlan create(final Class<?> clazz) {
+            if (!isModelClass(clazz) || clazz.isInterface() || Modifier.isAbstract(clazz.getModifiers())) {
+                return NONE;
+            }
+            final Constructor<?> constructor;
+            try {
+                constructor = clazz.getDeclaredConstructor();
+                constructor.setAccessible(true);
+            } catch (final NoSuchMethodException | RuntimeException e) {
+                return NONE;
+            }
+            final List<Field> fields = new ArrayList<>();
+            for (Class<?> current = clazz; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (final Field field : current.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                        field.setAccessible(true);
+                        fields.add(field);
+                    }
+                }
+            }
+            return new CopyPlan(constructor, List.copyOf(fields));
+        }
+
+        private Object newInstance() {
+            try {
+                return constructor.newInstance();
+            } catch (final InstantiationException | IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException(String.format("Could not create an instance of '%s'", constructor.getDeclaringClass()), e);
+            }
+        }
+    }
+}
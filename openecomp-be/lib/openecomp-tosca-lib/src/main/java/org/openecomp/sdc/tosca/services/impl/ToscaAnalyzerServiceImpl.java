@@ -17,19 +17,14 @@ package org.openecomp.sdc.tosca.services.impl;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.lang.reflect.InvocationTargetException;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 import org.apache.commons.collections4.CollectionUtils;
@@ -40,7 +35,6 @@ import org.onap.sdc.tosca.datatypes.model.CapabilityDefinition;
 import org.onap.sdc.tosca.datatypes.model.CapabilityType;
 import org.onap.sdc.tosca.datatypes.model.DataType;
 import org.onap.sdc.tosca.datatypes.model.DefinitionOfDataType;
-import org.onap.sdc.tosca.datatypes.model.Import;
 import org.onap.sdc.tosca.datatypes.model.InterfaceDefinitionType;
 import org.onap.sdc.tosca.datatypes.model.NodeTemplate;
 import org.onap.sdc.tosca.datatypes.model.NodeType;
@@ -74,18 +68,11 @@ import org.openecomp.sdc.tosca.errors.ToscaInvalidSubstitutionServiceTemplateErr
 import org.openecomp.sdc.tosca.services.DataModelUtil;
 import org.openecomp.sdc.tosca.services.ToscaAnalyzerService;
 import org.openecomp.sdc.tosca.services.ToscaConstants;
-import org.openecomp.sdc.tosca.services.ToscaUtil;
+import org.openecomp.sdc.tosca.services.impl.ToscaImportIndex.TypeDefinition;
+import org.openecomp.sdc.tosca.services.impl.ToscaImportIndex.TypeKind;
 
 public class ToscaAnalyzerServiceImpl implements ToscaAnalyzerService {
 
-    private static final String GET_NODE_TYPE_METHOD_NAME = "getNode_types";
-    private static final String GET_DERIVED_FROM_METHOD_NAME = "getDerived_from";
-    private static final String GET_TYPE_METHOD_NAME = "getType";
-    private static final String GET_DATA_TYPE_METHOD_NAME = "getData_types";
-    private static final String GET_INTERFACE_TYPE_METHOD_NAME = "getNormalizeInterfaceTypes";
-    private static final String GET_CAPABILITY_TYPE_METHOD_NAME = "getCapability_types";
-    private static final String TOSCA_DOT = "tosca.";
-    private static final String DOT_ROOT = ".Root";
     private static final String IMPORTS = "imports";
     private static final String TOSCA_META_FILE = "TOSCA-Metadata/TOSCA.meta";
     private static final String ENTRY_DEFINITIONS = "Entry-Definitions";
@@ -309,25 +296,28 @@ public class ToscaAnalyzerServiceImpl implements ToscaAnalyzerService {
 
     @Override
     public boolean isTypeOf(NodeTemplate nodeTemplate, String nodeType, ServiceTemplate serviceTemplate, ToscaServiceModel toscaServiceModel) {
-        return isTypeOf(nodeTemplate, nodeType, GET_NODE_TYPE_METHOD_NAME, serviceTemplate, toscaServiceModel);
+        return nodeTemplate != null && isTypeOf(nodeTemplate.getType(), nodeType, TypeKind.NODE_TYPE, serviceTemplate, toscaServiceModel);
     }
 
     @Override
     public boolean isTypeOf(InterfaceDefinitionType interfaceDefinition, String interfaceType, ServiceTemplate serviceTemplate,
                             ToscaServiceModel toscaServiceModel) {
-        return isTypeOf(interfaceDefinition, interfaceType, GET_INTERFACE_TYPE_METHOD_NAME, serviceTemplate, toscaServiceModel);
+        return interfaceDefinition != null && isTypeOf(interfaceDefinition.getType(), interfaceType, TypeKind.INTERFACE_TYPE, serviceTemplate,
+            toscaServiceModel);
     }
 
     @Override
     public boolean isTypeOf(DefinitionOfDataType parameterDefinition, String dataType, ServiceTemplate serviceTemplate,
                             ToscaServiceModel toscaServiceModel) {
-        return isTypeOf(parameterDefinition, dataType, GET_DATA_TYPE_METHOD_NAME, serviceTemplate, toscaServiceModel);
+        return parameterDefinition != null && isTypeOf(parameterDefinition.getType(), dataType, TypeKind.DATA_TYPE, serviceTemplate,
+            toscaServiceModel);
     }
 
     @Override
     public boolean isTypeOf(CapabilityDefinition capabilityDefinition, String capabilityType, ServiceTemplate serviceTemplate,
                             ToscaServiceModel toscaServiceModel) {
-        return isTypeOf(capabilityDefinition, capabilityType, GET_CAPABILITY_TYPE_METHOD_NAME, serviceTemplate, toscaServiceModel);
+        return capabilityDefinition != null && isTypeOf(capabilityDefinition.getType(), capabilityType, TypeKind.CAPABILITY_TYPE, serviceTemplate,
+            toscaServiceModel);
     }
 
     @Override
@@ -464,23 +454,11 @@ public class ToscaAnalyzerServiceImpl implements ToscaAnalyzerService {
 
     @Override
     public ToscaFlatData getFlatEntity(ToscaElementTypes elementType, String typeId, ServiceTemplate serviceTemplate, ToscaServiceModel toscaModel) {
+        TypeKind kind = getTypeKind(elementType, typeId);
         ToscaFlatData flatData = new ToscaFlatData();
         flatData.setElementType(elementType);
-        switch (elementType) {
-            case CAPABILITY_TYPE:
-                flatData.setFlatEntity(new CapabilityType());
-                break;
-            case NODE_TYPE:
-                flatData.setFlatEntity(new NodeType());
-                break;
-            case DATA_TYPE:
-                flatData.setFlatEntity(new DataType());
-                break;
-            default:
-                throw new SdcRuntimeException("Entity[" + elementType + "] id[" + typeId + "] flat not supported");
-        }
-        boolean isEntityFound = scanAnFlatEntity(elementType, typeId, flatData, serviceTemplate, toscaModel, new ArrayList<>(), 0);
-        if (!isEntityFound) {
+        flatData.setFlatEntity(createEmptyEntity(elementType));
+        if (!flatEntity(ToscaImportIndex.of(toscaModel), kind, typeId, flatData, serviceTemplate, toscaModel)) {
             throw new CoreException(new ToscaElementTypeNotFoundErrorBuilder(typeId).build());
         }
         return flatData;
@@ -491,79 +469,6 @@ public class ToscaAnalyzerServiceImpl implements ToscaAnalyzerService {
         return nodeTemplate.getDirectives() != null && nodeTemplate.getDirectives().contains(ToscaConstants.NODE_TEMPLATE_DIRECTIVE_SUBSTITUTABLE);
     }
 
-    private <T> Optional<Boolean> isTypeExistInServiceTemplateHierarchy(String typeToMatch, String typeToSearch, String getTypesMethodName,
-                                                                        ServiceTemplate serviceTemplate, ToscaServiceModel toscaServiceModel,
-                                                                        Set<String> analyzedImportFiles)
-        throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
-        Map<String, T> searchableTypes = (Map<String, T>) serviceTemplate.getClass().getMethod(getTypesMethodName).invoke(serviceTemplate);
-        if (!MapUtils.isEmpty(searchableTypes)) {
-            T typeObject = searchableTypes.get(typeToSearch);
-            if (Objects.nonNull(typeObject)) {
-                String derivedFromTypeVal = (String) typeObject.getClass().getMethod(GET_DERIVED_FROM_METHOD_NAME).invoke(typeObject);
-                if (Objects.equals(derivedFromTypeVal, typeToMatch)) {
-                    return Optional.of(true);
-                } else if (Objects.isNull(derivedFromTypeVal) || isTypeIsToscaRoot(derivedFromTypeVal)) {
-                    return Optional.of(false);
-                } else {
-                    return isTypeExistInServiceTemplateHierarchy(typeToMatch, derivedFromTypeVal, getTypesMethodName, serviceTemplate,
-                        toscaServiceModel, null);
-                }
-            } else {
-                return isTypeExistInImports(typeToMatch, typeToSearch, getTypesMethodName, serviceTemplate, toscaServiceModel, analyzedImportFiles);
-            }
-        }
-        return isTypeExistInImports(typeToMatch, typeToSearch, getTypesMethodName, serviceTemplate, toscaServiceModel, analyzedImportFiles);
-    }
-
-    private Optional<Boolean> isTypeExistInImports(String typeToMatch, String typeToSearch, String getTypesMethodName,
-                                                   ServiceTemplate serviceTemplate, ToscaServiceModel toscaServiceModel, Set<String> filesScanned)
-        throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
-        List<Map<String, Import>> imports = serviceTemplate.getImports();
-        if (CollectionUtils.isEmpty(imports)) {
-            return Optional.empty();
-        }
-        Set<String> createdFilesScanned = createFilesScannedSet(filesScanned);
-        for (Map<String, Import> map : imports) {
-            ToscaExtensionYamlUtil toscaExtensionYamlUtil = new ToscaExtensionYamlUtil();
-            Import anImport = toscaExtensionYamlUtil.yamlToObject(toscaExtensionYamlUtil.objectToYaml(map.values().iterator().next()), Import.class);
-            handleImportWithNoFileEntry(anImport);
-            String importFile = anImport.getFile();
-            ServiceTemplate template = toscaServiceModel.getServiceTemplates().get(
-                fetchFullFileNameForImport(importFile, serviceTemplate.getMetadata() == null ? null : serviceTemplate.getMetadata().get("filename"),
-                    serviceTemplate, toscaServiceModel));
-            if (Objects.isNull(template) || createdFilesScanned.contains(ToscaUtil.getServiceTemplateFileName(template))) {
-                continue;
-            } else {
-                createdFilesScanned.add(ToscaUtil.getServiceTemplateFileName(template));
-            }
-            Optional<Boolean> typeExistInServiceTemplateHierarchy = isTypeExistInServiceTemplateHierarchy(typeToMatch, typeToSearch,
-                getTypesMethodName, template, toscaServiceModel, createdFilesScanned);
-            if (typeExistInServiceTemplateHierarchy.isPresent() && (typeExistInServiceTemplateHierarchy.get())) {
-                createdFilesScanned.clear();
-                return Optional.of(true);
-            }
-        }
-        return Optional.of(false);
-    }
-
-    private void handleImportWithNoFileEntry(Import anImport) {
-        if (Objects.isNull(anImport) || Objects.isNull(anImport.getFile())) {
-            throw new SdcRuntimeException("import without file entry");
-        }
-    }
-
-    private Set<String> createFilesScannedSet(Set<String> filesScanned) {
-        Set<String> retFileScanned = filesScanned;
-        if (Objects.isNull(retFileScanned)) {
-            retFileScanned = new HashSet<>();
-        }
-        return retFileScanned;
-    }
-
-    private boolean isTypeIsToscaRoot(String type) {
-        return (type.contains(TOSCA_DOT) && type.contains(DOT_ROOT));
-    }
-
     private boolean isSubstitutionServiceTemplate(String substituteServiceTemplateFileName, ServiceTemplate substituteServiceTemplate) {
         if (substituteServiceTemplate != null && substituteServiceTemplate.getTopology_template() != null
             && substituteServiceTemplate.getTopology_template().getSubstitution_mappings() != null) {
@@ -575,161 +480,68 @@ public class ToscaAnalyzerServiceImpl implements ToscaAnalyzerService {
         return false;
     }
 
-    private boolean scanAnFlatEntity(ToscaElementTypes elementType, String typeId, ToscaFlatData flatData, ServiceTemplate serviceTemplate,
-                                     ToscaServiceModel toscaModel, List<String> filesScanned, int rootScanStartInx) {
-        boolean entityFound = enrichEntityFromCurrentServiceTemplate(elementType, typeId, flatData, serviceTemplate, toscaModel, filesScanned,
-            rootScanStartInx);
-        if (!entityFound) {
-            List<Map<String, Import>> imports = serviceTemplate.getImports();
-            if (CollectionUtils.isEmpty(imports)) {
-                return false;
-            }
-            boolean found = false;
-            for (Map<String, Import> importMap : imports) {
-                if (found) {
-                    return true;
-                }
-                found = isFlatEntity(importMap, flatData, serviceTemplate, filesScanned, toscaModel, elementType, typeId);
-            }
-            return found;
-        }
-        return true;
-    }
-
-    private boolean isFlatEntity(Map<String, Import> importMap, ToscaFlatData flatData, ServiceTemplate serviceTemplate, List<String> filesScanned,
-                                 ToscaServiceModel toscaModel, ToscaElementTypes elementType, String typeId) {
-        boolean found = false;
-        ToscaExtensionYamlUtil toscaExtensionYamlUtil = new ToscaExtensionYamlUtil();
-        for (Object importObject : importMap.values()) {
-            Import importServiceTemplate = toscaExtensionYamlUtil.yamlToObject(toscaExtensionYamlUtil.objectToYaml(importObject), Import.class);
-            String fileName = fetchFullFileNameForImport(importServiceTemplate.getFile(),
-                serviceTemplate.getMetadata() == null ? null : serviceTemplate.getMetadata().get("filename"), serviceTemplate, toscaModel);
-            if (filesScanned.contains(fileName)) {
-                return false;
-            } else {
-                filesScanned.add(fileName);
-            }
-            ServiceTemplate template = toscaModel.getServiceTemplates().get(fileName);
-            if (Objects.isNull(template)) {
-                throw new CoreException(new ToscaFileNotFoundErrorBuilder(fileName).build());
-            }
-            found = scanAnFlatEntity(elementType, typeId, flatData, template, toscaModel, filesScanned, filesScanned.size());
-        }
-        return found;
-    }
-
     String fetchFullFileNameForImport(String importServiceTemplateFile, String currentMetadatafileName, ServiceTemplate serviceTemplate,
                                       ToscaServiceModel toscaServiceModel) {
-        Optional<Map.Entry<String, ServiceTemplate>> serviceTemplateEntry = toscaServiceModel.getServiceTemplates().entrySet().stream()
-            .filter(entry -> entry.getValue() == serviceTemplate).findFirst();
-        if (!serviceTemplateEntry.isPresent()) {
-            if (importServiceTemplateFile.contains("../")) {
-                return importServiceTemplateFile.replace("../", "");
-            } else if (currentMetadatafileName != null && currentMetadatafileName.indexOf('/') != -1) {
-                return currentMetadatafileName.substring(0, currentMetadatafileName.indexOf('/')) + "/" + importServiceTemplateFile;
-            } else {
-                return importServiceTemplateFile;
-            }
-        }
-        Path currentPath = Paths.get(serviceTemplateEntry.get().getKey()).getParent();
-        if (currentPath == null) {
-            currentPath = Paths.get("");
-        }
-        return currentPath.resolve(importServiceTemplateFile).normalize().toString().replaceAll("\\\\", "/");
+        return ToscaImportIndex.resolveImportFileName(importServiceTemplateFile, currentMetadatafileName, serviceTemplate, toscaServiceModel);
     }
 
-    private boolean enrichEntityFromCurrentServiceTemplate(ToscaElementTypes elementType, String typeId, ToscaFlatData flatData,
-                                                           ServiceTemplate serviceTemplate, ToscaServiceModel toscaModel, List<String> filesScanned,
-                                                           int rootScanStartInx) {
+    private TypeKind getTypeKind(ToscaElementTypes elementType, String typeId) {
         switch (elementType) {
             case CAPABILITY_TYPE:
-                if (enrichCapabilityType(elementType, typeId, flatData, serviceTemplate, toscaModel, filesScanned, rootScanStartInx)) {
-                    return false;
-                }
-                break;
+                return TypeKind.CAPABILITY_TYPE;
             case NODE_TYPE:
-                if (enrichNodeTypeInfo(elementType, typeId, flatData, serviceTemplate, toscaModel, filesScanned, rootScanStartInx)) {
-                    return false;
-                }
-                break;
+                return TypeKind.NODE_TYPE;
             case DATA_TYPE:
-                if (enrichDataTypeInfo(elementType, typeId, flatData, serviceTemplate, toscaModel, filesScanned, rootScanStartInx)) {
-                    return false;
-                }
-                break;
+                return TypeKind.DATA_TYPE;
             default:
                 throw new SdcRuntimeException("Entity[" + elementType + "] id[" + typeId + "] flat not supported");
         }
-        return true;
     }
 
-    private boolean enrichNodeTypeInfo(ToscaElementTypes elementType, String typeId, ToscaFlatData flatData, ServiceTemplate serviceTemplate,
-                                       ToscaServiceModel toscaModel, List<String> filesScanned, int rootScanStartInx) {
-        String derivedFrom;
-        if (serviceTemplate.getNode_types() != null && serviceTemplate.getNode_types().containsKey(typeId)) {
-            filesScanned.clear();
-            flatData.addInheritanceHierarchyType(typeId);
-            NodeType targetNodeType = (NodeType) flatData.getFlatEntity();
-            NodeType sourceNodeType = serviceTemplate.getNode_types().get(typeId);
-            derivedFrom = sourceNodeType.getDerived_from();
-            if (derivedFrom != null) {
-                boolean isEntityFound = scanAnFlatEntity(elementType, derivedFrom, flatData, serviceTemplate, toscaModel, filesScanned,
-                    rootScanStartInx);
-                if (!isEntityFound) {
-                    throw new CoreException(new ToscaElementTypeNotFoundErrorBuilder(typeId).build());
-                }
-            }
-            combineNodeTypeInfo(sourceNodeType, targetNodeType);
-        } else {
-            return true;
+    private Object createEmptyEntity(ToscaElementTypes elementType) {
+        switch (elementType) {
+            case CAPABILITY_TYPE:
+                return new CapabilityType();
+            case NODE_TYPE:
+                return new NodeType();
+            default:
+                return new DataType();
         }
-        return false;
     }
 
-    private boolean enrichDataTypeInfo(ToscaElementTypes elementType, String typeId, ToscaFlatData flatData, ServiceTemplate serviceTemplate,
-                                       ToscaServiceModel toscaModel, List<String> filesScanned, int rootScanStartInx) {
-        String derivedFrom;
-        if (serviceTemplate.getData_types() != null && serviceTemplate.getData_types().containsKey(typeId)) {
-            filesScanned.clear();
-            flatData.addInheritanceHierarchyType(typeId);
-            DataType targetDataType = (DataType) flatData.getFlatEntity();
-            DataType sourceDataType = serviceTemplate.getData_types().get(typeId);
-            derivedFrom = sourceDataType.getDerived_from();
-            if (derivedFrom != null && !isPrimitiveType(derivedFrom)) {
-                boolean isEntityFound = scanAnFlatEntity(elementType, derivedFrom, flatData, serviceTemplate, toscaModel, filesScanned,
-                    rootScanStartInx);
-                if (!isEntityFound) {
-                    throw new CoreException(new ToscaElementTypeNotFoundErrorBuilder(typeId).build());
-                }
+    /*
+     * Adds the type and the types it derives from to the flat data, the derived from types being looked up from the service template
+     * defining the type.
+     */
+    private boolean flatEntity(ToscaImportIndex importIndex, TypeKind kind, String typeId, ToscaFlatData flatData, ServiceTemplate serviceTemplate,
+                               ToscaServiceModel toscaModel) {
+        Optional<TypeDefinition> typeDefinition = importIndex.getTypeDefinition(toscaModel, serviceTemplate, kind, typeId);
+        if (!typeDefinition.isPresent()) {
+            Optional<String> missingImportFile = importIndex.getMissingImportFile(toscaModel, serviceTemplate);
+            if (missingImportFile.isPresent()) {
+                throw new CoreException(new ToscaFileNotFoundErrorBuilder(missingImportFile.get()).build());
             }
-            combineDataTypeInfo(sourceDataType, targetDataType);
-        } else {
-            return true;
+            return false;
         }
-        return false;
-    }
-
-    private boolean enrichCapabilityType(ToscaElementTypes elementType, String typeId, ToscaFlatData flatData, ServiceTemplate serviceTemplate,
-                                         ToscaServiceModel toscaModel, List<String> filesScanned, int rootScanStartInx) {
-        String derivedFrom;
-        if (serviceTemplate.getCapability_types() != null && serviceTemplate.getCapability_types().containsKey(typeId)) {
-            filesScanned.clear();
-            flatData.addInheritanceHierarchyType(typeId);
-            CapabilityType targetCapabilityType = (CapabilityType) flatData.getFlatEntity();
-            CapabilityType sourceCapabilityType = serviceTemplate.getCapability_types().get(typeId);
-            derivedFrom = sourceCapabilityType.getDerived_from();
-            if (derivedFrom != null) {
-                boolean isEntityFound = scanAnFlatEntity(elementType, derivedFrom, flatData, serviceTemplate, toscaModel, filesScanned,
-                    rootScanStartInx);
-                if (!isEntityFound) {
-                    throw new CoreException(new ToscaElementTypeNotFoundErrorBuilder(typeId).build());
-                }
-            }
-            combineCapabilityTypeInfo(sourceCapabilityType, targetCapabilityType);
-        } else {
-            return true;
+        flatData.addInheritanceHierarchyType(typeId);
+        String derivedFrom = typeDefinition.get().getDerivedFrom();
+        if (derivedFrom != null && !(kind == TypeKind.DATA_TYPE && isPrimitiveType(derivedFrom)) && !flatEntity(importIndex, kind, derivedFrom,
+            flatData, typeDefinition.get().getServiceTemplate(), toscaModel)) {
+            throw new CoreException(new ToscaElementTypeNotFoundErrorBuilder(typeId).build());
         }
-        return false;
+        Object sourceEntity = typeDefinition.get().getDefinition();
+        switch (kind) {
+            case CAPABILITY_TYPE:
+                combineCapabilityTypeInfo((CapabilityType) sourceEntity, (CapabilityType) flatData.getFlatEntity());
+                break;
+            case NODE_TYPE:
+                combineNodeTypeInfo((NodeType) sourceEntity, (NodeType) flatData.getFlatEntity());
+                break;
+            default:
+                combineDataTypeInfo((DataType) sourceEntity, (DataType) flatData.getFlatEntity());
+                break;
+        }
+        return true;
     }
 
     private void combineNodeTypeInfo(NodeType sourceNodeType, NodeType targetNodeType) {
@@ -923,22 +735,12 @@ public class ToscaAnalyzerServiceImpl implements ToscaAnalyzerService {
                 .compareRequirementAssignment(requirementAssignment, requirement.get(requirementId)));
     }
 
-    private <T> boolean isTypeOf(T object, String type, String getTypesMethodName, ServiceTemplate serviceTemplate,
-                                 ToscaServiceModel toscaServiceModel) {
-        if (object == null) {
-            return false;
-        }
-        try {
-            String objectType = (String) object.getClass().getMethod(GET_TYPE_METHOD_NAME).invoke(object);
-            if (Objects.equals(objectType, type)) {
-                return true;
-            }
-            Optional<Boolean> typeExistInServiceTemplateHierarchy = isTypeExistInServiceTemplateHierarchy(type, objectType, getTypesMethodName,
-                serviceTemplate, toscaServiceModel, null);
-            return typeExistInServiceTemplateHierarchy
-                .orElseThrow(() -> new CoreException(new ToscaElementTypeNotFoundErrorBuilder(objectType).build()));
-        } catch (IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-            throw new SdcRuntimeException(e);
+    private boolean isTypeOf(String objectType, String type, TypeKind kind, ServiceTemplate serviceTemplate,
+                             ToscaServiceModel toscaServiceModel) {
+        if (Objects.equals(objectType, type)) {
+            return true;
         }
+        return ToscaImportIndex.of(toscaServiceModel).isDerivedFrom(toscaServiceModel, serviceTemplate, kind, objectType, type)
+            .orElseThrow(() -> new CoreException(new ToscaElementTypeNotFoundErrorBuilder(objectType).build()));
     }
 }
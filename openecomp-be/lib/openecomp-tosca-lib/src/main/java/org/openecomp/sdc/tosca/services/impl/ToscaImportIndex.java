@@ -0,0 +1,294 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openecomp.sdc.tosca.services.impl;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+import org.apache.commons.collections4.CollectionUtils;
+import org.onap.sdc.tosca.datatypes.model.CapabilityType;
+import org.onap.sdc.tosca.datatypes.model.DataType;
+import org.onap.sdc.tosca.datatypes.model.Import;
+import org.onap.sdc.tosca.datatypes.model.InterfaceType;
+import org.onap.sdc.tosca.datatypes.model.NodeType;
+import org.onap.sdc.tosca.datatypes.model.ServiceTemplate;
+import org.onap.sdc.tosca.services.ToscaExtensionYamlUtil;
+import org.openecomp.sdc.common.errors.SdcRuntimeException;
+import org.openecomp.sdc.tosca.datatypes.ToscaServiceModel;
+
+/**
+ * Index of the service templates a service template of a tosca service model imports, directly or not. The imports are resolved once, and
+ * types are then looked up in the service template and the ones it imports, in that order. Types themselves are not indexed: they are read from
+ * their service template on every lookup, so a type added, replaced or changed in place is seen by the next lookup. The imports of a service
+ * template are resolved again when an import is added to or removed from it or from one of the service templates it imports, or when an imported
+ * service template is replaced in the model.
+ */
+final class ToscaImportIndex {
+
+    private static final String TOSCA_DOT = "tosca.";
+    private static final String DOT_ROOT = ".Root";
+    private static final Map<ToscaServiceModel, ToscaImportIndex> INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+    private final Map<ServiceTemplate, Scope> scopes = new IdentityHashMap<>();
+
+    private ToscaImportIndex() {
+    }
+
+    static ToscaImportIndex of(ToscaServiceModel toscaServiceModel) {
+        if (toscaServiceModel == null) {
+            return new ToscaImportIndex();
+        }
+        return INDEXES.computeIfAbsent(toscaServiceModel, key -> new ToscaImportIndex());
+    }
+
+    /**
+     * Checks if a type derives, directly or not, from another type.
+     *
+     * @return empty if the type, or one of its derived_from types, is not defined in the service template and the service template has no
+     * imports
+     */
+    synchronized Optional<Boolean> isDerivedFrom(ToscaServiceModel toscaServiceModel, ServiceTemplate serviceTemplate, TypeKind kind,
+                                                 String type, String parentType) {
+        Set<String> ancestors = new HashSet<>();
+        ServiceTemplate currentServiceTemplate = serviceTemplate;
+        String currentType = type;
+        while (true) {
+            TypeDefinition typeDefinition = findTypeDefinition(toscaServiceModel, currentServiceTemplate, kind, currentType);
+            if (typeDefinition == null) {
+                // a type missing from the service template itself can't be told from a type that does not exist when there is nothing imported
+                boolean resolved = currentServiceTemplate != serviceTemplate || CollectionUtils.isNotEmpty(serviceTemplate.getImports());
+                return resolved ? Optional.of(false) : Optional.empty();
+            }
+            String derivedFrom = typeDefinition.getDerivedFrom();
+            if (derivedFrom == null || !ancestors.add(derivedFrom)) {
+                return Optional.of(false);
+            }
+            if (derivedFrom.equals(parentType)) {
+                return Optional.of(true);
+            }
+            if (isToscaRoot(derivedFrom)) {
+                return Optional.of(false);
+            }
+            currentServiceTemplate = typeDefinition.getServiceTemplate();
+            currentType = derivedFrom;
+        }
+    }
+
+    synchronized Optional<TypeDefinition> getTypeDefinition(ToscaServiceModel toscaServiceModel, ServiceTemplate serviceTemplate, TypeKind kind,
+                                                            String type) {
+        return Optional.ofNullable(findTypeDefinition(toscaServiceModel, serviceTemplate, kind, type));
+    }
+
+    /**
+     * @return the first import of the service template, or of the service templates it imports, whose file is not part of the model
+     */
+    synchronized Optional<String> getMissingImportFile(ToscaServiceModel toscaServiceModel, ServiceTemplate serviceTemplate) {
+        return Optional.ofNullable(getScope(toscaServiceModel, serviceTemplate).missingImportFile);
+    }
+
+    static String resolveImportFileName(String importServiceTemplateFile, String currentMetadatafileName, ServiceTemplate serviceTemplate,
+                                        ToscaServiceModel toscaServiceModel) {
+        Optional<Map.Entry<String, ServiceTemplate>> serviceTemplateEntry = toscaServiceModel.getServiceTemplates().entrySet().stream()
+            .filter(entry -> entry.getValue() == serviceTemplate).findFirst();
+        if (!serviceTemplateEntry.isPresent()) {
+            if (importServiceTemplateFile.contains("../")) {
+                return importServiceTemplateFile.replace("../", "");
+            } else if (currentMetadatafileName != null && currentMetadatafileName.indexOf('/') != -1) {
+                return currentMetadatafileName.substring(0, currentMetadatafileName.indexOf('/')) + "/" + importServiceTemplateFile;
+            } else {
+                return importServiceTemplateFile;
+            }
+        }
+        Path currentPath = Paths.get(serviceTemplateEntry.get().getKey()).getParent();
+        if (currentPath == null) {
+            currentPath = Paths.get("");
+        }
+        return currentPath.resolve(importServiceTemplateFile).normalize().toString().replaceAll("\\\\", "/");
+    }
+
+    private TypeDefinition findTypeDefinition(ToscaServiceModel toscaServiceModel, ServiceTemplate serviceTemplate, TypeKind kind, String type) {
+        for (ServiceTemplate definingServiceTemplate : getScope(toscaServiceModel, serviceTemplate).serviceTemplates) {
+            Map<String, ?> definedTypes = kind.typesGetter.apply(definingServiceTemplate);
+            Object definition = definedTypes == null ? null : definedTypes.get(type);
+            if (definition != null) {
+                Object convertedDefinition = kind.typeConverter.apply(definition);
+                return new TypeDefinition(convertedDefinition, kind.derivedFromGetter.apply(convertedDefinition), definingServiceTemplate);
+            }
+        }
+        return null;
+    }
+
+    private Scope getScope(ToscaServiceModel toscaServiceModel, ServiceTemplate serviceTemplate) {
+        Scope scope = scopes.get(serviceTemplate);
+        if (scope != null && scope.isCurrent(toscaServiceModel)) {
+            return scope;
+        }
+        scope = new Scope(serviceTemplate);
+        scanImports(toscaServiceModel, scope, serviceTemplate, Collections.newSetFromMap(new IdentityHashMap<>()));
+        scope.recordImportsSignature();
+        scopes.put(serviceTemplate, scope);
+        return scope;
+    }
+
+    private void scanImports(ToscaServiceModel toscaServiceModel, Scope scope, ServiceTemplate serviceTemplate, Set<ServiceTemplate> scanned) {
+        if (CollectionUtils.isEmpty(serviceTemplate.getImports())) {
+            return;
+        }
+        String metadataFileName = serviceTemplate.getMetadata() == null ? null : serviceTemplate.getMetadata().get("filename");
+        for (Map<String, Import> importMap : serviceTemplate.getImports()) {
+            for (Object importObject : importMap.values()) {
+                String fileName = resolveImportFileName(toImport(importObject).getFile(), metadataFileName, serviceTemplate, toscaServiceModel);
+                ServiceTemplate importedServiceTemplate = toscaServiceModel.getServiceTemplates().get(fileName);
+                scope.importedServiceTemplates.put(fileName, importedServiceTemplate);
+                if (importedServiceTemplate == null) {
+                    if (scope.missingImportFile == null) {
+                        scope.missingImportFile = fileName;
+                    }
+                } else if (importedServiceTemplate != scope.serviceTemplate && scanned.add(importedServiceTemplate)) {
+                    scope.serviceTemplates.add(importedServiceTemplate);
+                    scanImports(toscaServiceModel, scope, importedServiceTemplate, scanned);
+                }
+            }
+        }
+    }
+
+    private static boolean isToscaRoot(String type) {
+        return type.contains(TOSCA_DOT) && type.contains(DOT_ROOT);
+    }
+
+    private static Import toImport(Object importObject) {
+        Import anImport;
+        if (importObject instanceof Import) {
+            anImport = (Import) importObject;
+        } else {
+            ToscaExtensionYamlUtil toscaExtensionYamlUtil = new ToscaExtensionYamlUtil();
+            anImport = toscaExtensionYamlUtil.yamlToObject(toscaExtensionYamlUtil.objectToYaml(importObject), Import.class);
+        }
+        if (Objects.isNull(anImport) || Objects.isNull(anImport.getFile())) {
+            throw new SdcRuntimeException("import without file entry");
+        }
+        return anImport;
+    }
+
+    /**
+     * Changes when an import is added to or removed from the service template, or when its imports are replaced
+     */
+    private static long getImportsSignature(ServiceTemplate serviceTemplate) {
+        List<Map<String, Import>> imports = serviceTemplate.getImports();
+        long signature = 31L * System.identityHashCode(serviceTemplate) + System.identityHashCode(imports);
+        if (imports != null) {
+            for (Map<String, Import> importMap : imports) {
+                signature = 31 * signature + System.identityHashCode(importMap) + importMap.size();
+            }
+        }
+        return signature;
+    }
+
+    enum TypeKind {
+        // @formatter:off
+        NODE_TYPE(ServiceTemplate::getNode_types, Function.identity(), type -> ((NodeType) type).getDerived_from()),
+        DATA_TYPE(ServiceTemplate::getData_types, Function.identity(), type -> ((DataType) type).getDerived_from()),
+        CAPABILITY_TYPE(ServiceTemplate::getCapability_types, Function.identity(), type -> ((CapabilityType) type).getDerived_from()),
+        INTERFACE_TYPE(ServiceTemplate::getInterface_types, InterfaceType::new, type -> ((InterfaceType) type).getDerived_from());
+        // @formatter:on
+
+        private final Function<ServiceTemplate, Map<String, ?>> typesGetter;
+        private final Function<Object, Object> typeConverter;
+        private final Function<Object, String> derivedFromGetter;
+
+        TypeKind(Function<ServiceTemplate, Map<String, ?>> typesGetter, Function<Object, Object> typeConverter,
+                 Function<Object, String> derivedFromGetter) {
+            this.typesGetter = typesGetter;
+            this.typeConverter = typeConverter;
+            this.derivedFromGetter = derivedFromGetter;
+        }
+    }
+
+    /**
+     * A type and the service template defining it
+     */
+    static final class TypeDefinition {
+
+        private final Object definition;
+        private final String derivedFrom;
+        private final ServiceTemplate serviceTemplate;
+
+        private TypeDefinition(Object definition, String derivedFrom, ServiceTemplate serviceTemplate) {
+            this.definition = definition;
+            this.derivedFrom = derivedFrom;
+            this.serviceTemplate = serviceTemplate;
+        }
+
+        Object getDefinition() {
+            return definition;
+        }
+
+        String getDerivedFrom() {
+            return derivedFrom;
+        }
+
+        ServiceTemplate getServiceTemplate() {
+            return serviceTemplate;
+        }
+    }
+
+    private static final class Scope {
+
+        private final ServiceTemplate serviceTemplate;
+        // the service template and the ones it imports, in the order their types are looked up
+        private final List<ServiceTemplate> serviceTemplates = new ArrayList<>();
+        // the resolved file of each import, and the service template the model had for it
+        private final Map<String, ServiceTemplate> importedServiceTemplates = new HashMap<>();
+        private String missingImportFile;
+        private long importsSignature;
+
+        private Scope(ServiceTemplate serviceTemplate) {
+            this.serviceTemplate = serviceTemplate;
+            serviceTemplates.add(serviceTemplate);
+        }
+
+        private void recordImportsSignature() {
+            importsSignature = computeImportsSignature();
+        }
+
+        private long computeImportsSignature() {
+            long signature = 0;
+            for (ServiceTemplate scopeServiceTemplate : serviceTemplates) {
+                signature = 31 * signature + getImportsSignature(scopeServiceTemplate);
+            }
+            return signature;
+        }
+
+        private boolean isCurrent(ToscaServiceModel toscaServiceModel) {
+            for (Map.Entry<String, ServiceTemplate> importedServiceTemplate : importedServiceTemplates.entrySet()) {
+                if (toscaServiceModel.getServiceTemplates().get(importedServiceTemplate.getKey()) != importedServiceTemplate.getValue()) {
+                    return false;
+                }
+            }
+            return importsSignature == computeImportsSignature();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.tosca.services;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import org.junit.Test;
+import org.onap.sdc.tosca.datatypes.model.NodeTemplate;
+import org.onap.sdc.tosca.datatypes.model.RequirementAssignment;
+import org.onap.sdc.tosca.datatypes.model.ServiceTemplate;
+import org.onap.sdc.tosca.datatypes.model.TopologyTemplate;
+import org.openecomp.core.utilities.file.FileContentHandler;
+import org.openecomp.sdc.tosca.datatypes.ToscaServiceModel;
+
+public class ToscaModelCopierTest {
+
+    private static final UnaryOperator<Object> NO_FALLBACK = object -> {
+        throw new AssertionError("Unexpected fallback copy of " + object.getClass());
+    };
+
+    @Test
+    public void testCopyNodeTemplate() {
+        final NodeTemplate nodeTemplate = createNodeTemplate();
+
+        final NodeTemplate copy = (NodeTemplate) ToscaModelCopier.copy(nodeTemplate, NO_FALLBACK);
+
+        assertNotSame(nodeTemplate, copy);
+        assertEquals(nodeTemplate, copy);
+        assertNotSame(nodeTemplate.getProperties(), copy.getProperties());
+        assertNotSame(nodeTemplate.getProperties().get("list"), copy.getProperties().get("list"));
+        assertSame("immutable values are shared", nodeTemplate.getType(), copy.getType());
+        final RequirementAssignment requirementAssignment = nodeTemplate.getRequirements().get(0).get("link");
+        final RequirementAssignment requirementAssignmentCopy = copy.getRequirements().get(0).get("link");
+        assertNotSame(requirementAssignment, requirementAssignmentCopy);
+        assertArrayEquals(requirementAssignment.getOccurrences(), requirementAssignmentCopy.getOccurrences());
+        assertNotSame(requirementAssignment.getOccurrences(), requirementAssignmentCopy.getOccurrences());
+    }
+
+    @Test
+    public void testSharedReferencesAreKept() {
+        final List<Object> sharedList = new ArrayList<>(List.of("a", "b"));
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("first", sharedList);
+        properties.put("second", sharedList);
+
+        @SuppressWarnings("unchecked") final Map<String, Object> copy = (Map<String, Object>) ToscaModelCopier.copy(properties, NO_FALLBACK);
+
+        assertNotSame(sharedList, copy.get("first"));
+        assertSame(copy.get("first"), copy.get("second"));
+    }
+
+    @Test
+    public void testCopyServiceModel() {
+        final ServiceTemplate serviceTemplate = new ServiceTemplate();
+        serviceTemplate.setTopology_template(new TopologyTemplate());
+        serviceTemplate.getTopology_template().setNode_templates(new HashMap<>(Map.of("node", createNodeTemplate())));
+        final FileContentHandler artifactFiles = new FileContentHandler();
+        artifactFiles.addFile("artifact", new byte[]{1, 2});
+        final ToscaServiceModel serviceModel = new ToscaServiceModel(artifactFiles, new HashMap<>(Map.of("main", serviceTemplate)), "main");
+
+        final ToscaServiceModel copy = ToscaServiceModel.getClonedServiceModel(serviceModel);
+
+        final ServiceTemplate serviceTemplateCopy = copy.getServiceTemplates().get("main");
+        assertNotSame(serviceTemplate, serviceTemplateCopy);
+        assertNotSame(serviceTemplate.getTopology_template(), serviceTemplateCopy.getTopology_template());
+        assertEquals(serviceTemplate.getTopology_template().getNode_templates(), serviceTemplateCopy.getTopology_template().getNode_templates());
+        assertNotSame(artifactFiles, copy.getArtifactFiles());
+        assertArrayEquals(new byte[]{1, 2}, copy.getArtifactFiles().getFileContent("artifact"));
+        assertEquals("main", copy.getEntryDefinitionServiceTemplate());
+    }
+
+    private NodeTemplate createNodeTemplate() {
+        final NodeTemplate nodeTemplate = new NodeTemplate();
+        nodeTemplate.setType("org.openecomp.resource.vfc.nodes.heat.nova.Server");
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("name", "server");
+        properties.put("list", new ArrayList<>(List.of(1, Map.of("get_input", "index"))));
+        nodeTemplate.setProperties(properties);
+        final RequirementAssignment requirementAssignment = new RequirementAssignment();
+        requirementAssignment.setNode("port");
+        requirementAssignment.setOccurrences(new Object[]{1, "UNBOUNDED"});
+        final List<Map<String, RequirementAssignment>> requirements = new ArrayList<>();
+        requirements.add(new HashMap<>(Map.of("link", requirementAssignment)));
+        nodeTemplate.setRequirements(requirements);
+        return nodeTemplate;
+    }
+}
@@ -70,6 +70,7 @@ import org.openecomp.sdc.tosca.datatypes.ToscaElementTypes;
 import org.openecomp.sdc.tosca.datatypes.ToscaFlatData;
 import org.openecomp.sdc.tosca.datatypes.ToscaNodeType;
 import org.openecomp.sdc.tosca.datatypes.ToscaServiceModel;
+import org.openecomp.sdc.tosca.services.DataModelUtil;
 import org.openecomp.sdc.tosca.services.ToscaAnalyzerService;
 import org.openecomp.sdc.tosca.services.ToscaConstants;
 
@@ -999,6 +1000,68 @@ public class ToscaAnalyzerServiceImplTest {
                 .isTypeOf(capabilityDefinition, CAPABILITY_TYPE_B, serviceTemplate, toscaServiceModelMock));
     }
 
+    @Test
+    public void shouldSeeNodeTypeReplacedInImportedServiceTemplateAfterFirstLookup() {
+        String typeToMatch = ToscaNodeType.CINDER_VOLUME;
+        when(nodeTemplateMock.getType()).thenReturn(typeToMatch);
+        List<Map<String, Import>> imports = new ArrayList<>();
+        Import anImport = new Import();
+        anImport.setFile("mainImport");
+        imports.add(Collections.singletonMap("bla bla", anImport));
+        ServiceTemplate mainSt = new ServiceTemplate();
+        mainSt.setImports(imports);
+        Map<String, NodeType> stNodeTypes = new HashMap<>();
+        addNodeType(stNodeTypes, typeToMatch, createNodeType(ToscaNodeType.NATIVE_COMPUTE));
+        ServiceTemplate importedSt = new ServiceTemplate();
+        importedSt.setNode_types(stNodeTypes);
+        Map<String, ServiceTemplate> serviceTemplates = new HashMap<>();
+        serviceTemplates.put("testMainServiceTemplate", mainSt);
+        serviceTemplates.put("mainImport", importedSt);
+        ToscaServiceModel serviceModel = new ToscaServiceModel(null, serviceTemplates, "testMainServiceTemplate");
+
+        assertFalse(toscaAnalyzerService.isTypeOf(nodeTemplateMock, ToscaNodeType.NATIVE_BLOCK_STORAGE, mainSt, serviceModel));
+        addNodeType(stNodeTypes, typeToMatch, createNodeType(ToscaNodeType.NATIVE_BLOCK_STORAGE));
+        assertTrue(toscaAnalyzerService.isTypeOf(nodeTemplateMock, ToscaNodeType.NATIVE_BLOCK_STORAGE, mainSt, serviceModel));
+    }
+
+    @Test
+    public void shouldSeeDerivedFromChangedInPlaceAfterFirstLookup() {
+        String typeToMatch = ToscaNodeType.CINDER_VOLUME;
+        when(nodeTemplateMock.getType()).thenReturn(typeToMatch);
+        Map<String, NodeType> stNodeTypes = new HashMap<>();
+        NodeType nodeType = createNodeType(ToscaNodeType.NATIVE_ROOT);
+        addNodeType(stNodeTypes, typeToMatch, nodeType);
+        ServiceTemplate serviceTemplate = new ServiceTemplate();
+        serviceTemplate.setNode_types(stNodeTypes);
+        ToscaServiceModel serviceModel = new ToscaServiceModel(null, Collections.singletonMap("testServiceTemplate", serviceTemplate),
+            "testServiceTemplate");
+
+        assertFalse(toscaAnalyzerService.isTypeOf(nodeTemplateMock, ToscaNodeType.NATIVE_BLOCK_STORAGE, serviceTemplate, serviceModel));
+        nodeType.setDerived_from(ToscaNodeType.NATIVE_BLOCK_STORAGE);
+        assertTrue(toscaAnalyzerService.isTypeOf(nodeTemplateMock, ToscaNodeType.NATIVE_BLOCK_STORAGE, serviceTemplate, serviceModel));
+    }
+
+    @Test
+    public void shouldSeeCapabilitiesChangedInPlaceInFlatEntityAfterFirstLookup() {
+        Map<String, NodeType> stNodeTypes = new HashMap<>();
+        NodeType nodeType = createNodeType(null);
+        addNodeType(stNodeTypes, ToscaNodeType.CINDER_VOLUME, nodeType);
+        ServiceTemplate serviceTemplate = new ServiceTemplate();
+        serviceTemplate.setNode_types(stNodeTypes);
+        ToscaServiceModel serviceModel = new ToscaServiceModel(null, Collections.singletonMap("testServiceTemplate", serviceTemplate),
+            "testServiceTemplate");
+
+        NodeType flatEntity = (NodeType) toscaAnalyzerService.getFlatEntity(ToscaElementTypes.NODE_TYPE, ToscaNodeType.CINDER_VOLUME,
+            serviceTemplate, serviceModel).getFlatEntity();
+        assertTrue(flatEntity.getCapabilities() == null || flatEntity.getCapabilities().isEmpty());
+        CapabilityDefinition capabilityDefinition = new CapabilityDefinition();
+        capabilityDefinition.setType(CAPABILITY_TYPE_A);
+        DataModelUtil.setNodeTypeCapabilitiesDef(nodeType, Collections.singletonMap("attachment", capabilityDefinition));
+        flatEntity = (NodeType) toscaAnalyzerService.getFlatEntity(ToscaElementTypes.NODE_TYPE, ToscaNodeType.CINDER_VOLUME, serviceTemplate,
+            serviceModel).getFlatEntity();
+        assertEquals(CAPABILITY_TYPE_A, flatEntity.getCapabilities().get("attachment").getType());
+    }
+
     @Test
     public void testGetNodeTemplatesByTypeNodeTemplateIsEmpty() {
         ServiceTemplate serviceTemplate = new ServiceTemplate();